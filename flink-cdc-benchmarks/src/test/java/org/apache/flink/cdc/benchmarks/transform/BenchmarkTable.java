@@ -0,0 +1,138 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.benchmarks.transform;
+
+import org.apache.flink.cdc.common.data.DecimalData;
+import org.apache.flink.cdc.common.data.GenericArrayData;
+import org.apache.flink.cdc.common.data.GenericMapData;
+import org.apache.flink.cdc.common.data.TimestampData;
+import org.apache.flink.cdc.common.data.binary.BinaryStringData;
+import org.apache.flink.cdc.common.schema.Schema;
+import org.apache.flink.cdc.common.types.DataType;
+import org.apache.flink.cdc.common.types.DataTypes;
+import org.apache.flink.cdc.common.types.RowType;
+import org.apache.flink.cdc.runtime.typeutils.BinaryRecordDataGenerator;
+
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Shapes of tables whose change events are transformed in benchmarks. All of them have the columns
+ * {@code id}, {@code name}, {@code age} and {@code score}, which are referenced by transform rules.
+ */
+public enum BenchmarkTable {
+
+    /** A table with a few primitive columns. */
+    NARROW(0, false),
+
+    /** A table with 64 columns. */
+    WIDE(60, false),
+
+    /** A table with array, map and row columns. */
+    NESTED(0, true);
+
+    private static final RowType ADDRESS_TYPE =
+            DataTypes.ROW(
+                    DataTypes.FIELD("city", DataTypes.STRING()),
+                    DataTypes.FIELD("zip", DataTypes.INT()));
+
+    private final int numExtraColumns;
+    private final boolean nested;
+
+    BenchmarkTable(int numExtraColumns, boolean nested) {
+        this.numExtraColumns = numExtraColumns;
+        this.nested = nested;
+    }
+
+    public Schema getSchema() {
+        Schema.Builder builder =
+                Schema.newBuilder()
+                        .physicalColumn("id", DataTypes.BIGINT().notNull())
+                        .physicalColumn("name", DataTypes.STRING())
+                        .physicalColumn("age", DataTypes.INT())
+                        .physicalColumn("score", DataTypes.DOUBLE());
+        for (int i = 0; i < numExtraColumns; i++) {
+            builder.physicalColumn("col" + i, extraColumnType(i));
+        }
+        if (nested) {
+            builder.physicalColumn("tags", DataTypes.ARRAY(DataTypes.STRING()))
+                    .physicalColumn(
+                            "attributes", DataTypes.MAP(DataTypes.STRING(), DataTypes.INT()))
+                    .physicalColumn("address", ADDRESS_TYPE);
+        }
+        return builder.physicalColumn("updated_at", DataTypes.TIMESTAMP(3))
+                .primaryKey("id")
+                .build();
+    }
+
+    /** Generates the fields of a row, which are different for different sequence numbers. */
+    public Object[] generateFields(long sequence) {
+        Object[] fields = new Object[5 + numExtraColumns + (nested ? 3 : 0)];
+        int pos = 0;
+        fields[pos++] = sequence;
+        fields[pos++] = BinaryStringData.fromString("user-" + sequence);
+        fields[pos++] = (int) (sequence % 80);
+        fields[pos++] = (sequence % 100) + 0.5;
+        for (int i = 0; i < numExtraColumns; i++) {
+            switch (i % 3) {
+                case 0:
+                    fields[pos++] = BinaryStringData.fromString("value-" + sequence + "-" + i);
+                    break;
+                case 1:
+                    fields[pos++] = sequence * i;
+                    break;
+                default:
+                    fields[pos++] =
+                            DecimalData.fromBigDecimal(BigDecimal.valueOf(sequence, 2), 10, 2);
+            }
+        }
+        if (nested) {
+            fields[pos++] =
+                    new GenericArrayData(
+                            new Object[] {
+                                BinaryStringData.fromString("tag-" + sequence % 5),
+                                BinaryStringData.fromString("tag-" + sequence % 7)
+                            });
+            Map<Object, Object> attributes = new HashMap<>();
+            attributes.put(BinaryStringData.fromString("level"), (int) (sequence % 10));
+            attributes.put(BinaryStringData.fromString("visits"), (int) sequence);
+            fields[pos++] = new GenericMapData(attributes);
+            fields[pos++] =
+                    new BinaryRecordDataGenerator(ADDRESS_TYPE)
+                            .generate(
+                                    new Object[] {
+                                        BinaryStringData.fromString("city-" + sequence % 20),
+                                        (int) (sequence % 100000)
+                                    });
+        }
+        fields[pos] = TimestampData.fromMillis(1700000000000L + sequence);
+        return fields;
+    }
+
+    private static DataType extraColumnType(int index) {
+        switch (index % 3) {
+            case 0:
+                return DataTypes.STRING();
+            case 1:
+                return DataTypes.BIGINT();
+            default:
+                return DataTypes.DECIMAL(10, 2);
+        }
+    }
+}
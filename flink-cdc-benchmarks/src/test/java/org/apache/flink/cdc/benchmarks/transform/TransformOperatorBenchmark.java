@@ -0,0 +1,102 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.benchmarks.transform;
+
+import org.apache.flink.cdc.common.event.Event;
+import org.apache.flink.cdc.common.event.TableId;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for the throughput of transform operators, in rows per second, for each {@link
+ * BenchmarkTable} and {@link TransformWorkload}. The allocation rate is reported by the GC profiler
+ * as {@code gc.alloc.rate.norm}, in bytes per row.
+ *
+ * <p>Run it with {@code mvn test-compile -pl flink-cdc-benchmarks -am} and the {@link #main}
+ * method, or select scenarios with JMH command line options, e.g. {@code -p shape=WIDE}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 10, time = 2, timeUnit = TimeUnit.SECONDS)
+@Fork(2)
+public class TransformOperatorBenchmark {
+
+    private static final int ROWS_PER_INVOCATION = 1000;
+
+    private static final TableId TABLE_ID = TableId.tableId("benchmark", "orders");
+
+    @Param({"NARROW", "WIDE", "NESTED"})
+    public BenchmarkTable shape;
+
+    @Param({"PROJECTION", "FILTER", "UDF", "SCHEMA_CHANGE"})
+    public TransformWorkload workload;
+
+    private TransformPipeline pipeline;
+    private List<Event> events;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        pipeline = new TransformPipeline(TABLE_ID, shape, workload);
+        events = workload.generateEvents(TABLE_ID, shape, ROWS_PER_INVOCATION);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        pipeline.close();
+    }
+
+    /** Transforms a stream of change events, each operation of which is a row. */
+    @Benchmark
+    @OperationsPerInvocation(ROWS_PER_INVOCATION)
+    public void transform(Blackhole blackhole) throws Exception {
+        pipeline.process(events, blackhole::consume);
+    }
+
+    public static void main(String[] args) throws Exception {
+        Options options =
+                new OptionsBuilder()
+                        .include(TransformOperatorBenchmark.class.getSimpleName())
+                        .addProfiler(GCProfiler.class)
+                        .detectJvmArgs()
+                        .build();
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.benchmarks.transform;
+
+import org.apache.flink.cdc.common.event.CreateTableEvent;
+import org.apache.flink.cdc.common.event.Event;
+import org.apache.flink.cdc.common.event.TableId;
+import org.apache.flink.cdc.runtime.operators.transform.PostTransformOperator;
+import org.apache.flink.cdc.runtime.operators.transform.PreTransformOperator;
+import org.apache.flink.cdc.runtime.testutils.operators.RegularEventOperatorTestHarness;
+import org.apache.flink.streaming.runtime.streamrecord.StreamRecord;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * A {@link PreTransformOperator} chained with a {@link PostTransformOperator} like in a pipeline,
+ * both of which are driven by test harnesses.
+ */
+public class TransformPipeline implements AutoCloseable {
+
+    private final PreTransformOperator preTransformOperator;
+    private final PostTransformOperator postTransformOperator;
+    private final RegularEventOperatorTestHarness<PreTransformOperator, Event>
+            preTransformOperatorHarness;
+    private final RegularEventOperatorTestHarness<PostTransformOperator, Event>
+            postTransformOperatorHarness;
+
+    public TransformPipeline(TableId tableId, BenchmarkTable table, TransformWorkload workload)
+            throws Exception {
+        preTransformOperator =
+                PreTransformOperator.newBuilder()
+                        .addTransform(
+                                tableId.identifier(),
+                                workload.getProjection(),
+                                workload.getFilter())
+                        .addUdfFunctions(workload.getUdfFunctions())
+                        .build();
+        preTransformOperatorHarness = RegularEventOperatorTestHarness.with(preTransformOperator, 1);
+        preTransformOperatorHarness.open();
+
+        postTransformOperator =
+                PostTransformOperator.newBuilder()
+                        .addTransform(
+                                tableId.identifier(),
+                                workload.getProjection(),
+                                workload.getFilter())
+                        .addUdfFunctions(workload.getUdfFunctions())
+                        .build();
+        postTransformOperatorHarness =
+                RegularEventOperatorTestHarness.with(postTransformOperator, 1);
+        postTransformOperatorHarness.open();
+
+        process(new CreateTableEvent(tableId, table.getSchema()), event -> {});
+    }
+
+    /** Transforms given events, passing transformed events to given consumer. */
+    public void process(List<Event> events, Consumer<Event> consumer) throws Exception {
+        for (Event event : events) {
+            process(event, consumer);
+        }
+    }
+
+    private void process(Event event, Consumer<Event> consumer) throws Exception {
+        preTransformOperator.processElement(new StreamRecord<>(event));
+        StreamRecord<Event> preTransformed;
+        while ((preTransformed = preTransformOperatorHarness.getOutputRecords().poll()) != null) {
+            postTransformOperator.processElement(preTransformed);
+            StreamRecord<Event> postTransformed;
+            while ((postTransformed = postTransformOperatorHarness.getOutputRecords().poll())
+                    != null) {
+                consumer.accept(postTransformed.getValue());
+            }
+        }
+    }
+
+    @Override
+    public void close() throws Exception {
+        preTransformOperatorHarness.close();
+        postTransformOperatorHarness.close();
+    }
+}
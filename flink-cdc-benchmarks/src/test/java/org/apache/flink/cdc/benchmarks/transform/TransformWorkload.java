@@ -0,0 +1,185 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.benchmarks.transform;
+
+import org.apache.flink.api.java.tuple.Tuple3;
+import org.apache.flink.cdc.common.data.binary.BinaryStringData;
+import org.apache.flink.cdc.common.event.AddColumnEvent;
+import org.apache.flink.cdc.common.event.DataChangeEvent;
+import org.apache.flink.cdc.common.event.DropColumnEvent;
+import org.apache.flink.cdc.common.event.Event;
+import org.apache.flink.cdc.common.event.TableId;
+import org.apache.flink.cdc.common.schema.Column;
+import org.apache.flink.cdc.common.schema.Schema;
+import org.apache.flink.cdc.common.types.DataType;
+import org.apache.flink.cdc.common.types.DataTypes;
+import org.apache.flink.cdc.common.types.RowType;
+import org.apache.flink.cdc.common.udf.UserDefinedFunction;
+import org.apache.flink.cdc.common.utils.SchemaUtils;
+import org.apache.flink.cdc.runtime.typeutils.BinaryRecordDataGenerator;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/** Transform rules and change event streams of transform benchmarks. */
+public enum TransformWorkload {
+
+    /** Computes columns with built-in functions, without filtering. */
+    PROJECTION(
+            "*, UPPER(name) AS upper_name, CONCAT(name, '@', CAST(age AS VARCHAR)) AS label, "
+                    + "age + 1 AS next_age, score * 2 AS double_score",
+            null),
+
+    /** Filters about half of the rows with several predicates, without computing columns. */
+    FILTER(
+            null,
+            "age >= 20 AND (score > 30.0 OR id % 3 = 0) AND CHAR_LENGTH(name) > 5 "
+                    + "AND name NOT LIKE 'user-9%'"),
+
+    /** Computes columns and filters rows with user-defined functions. */
+    UDF("*, format_user(name, age) AS formatted, add_one(age) AS next_age", "add_one(age) > 10"),
+
+    /** Computes columns and filters rows, interleaving adding and dropping a column. */
+    SCHEMA_CHANGE("*, UPPER(name) AS upper_name, age + 1 AS next_age", "age > 10");
+
+    /** Rows between schema change events of {@link #SCHEMA_CHANGE}. */
+    private static final int ROWS_PER_SCHEMA_CHANGE = 100;
+
+    private static final String EXTRA_COLUMN = "extra";
+
+    private final String projection;
+    private final String filter;
+
+    TransformWorkload(String projection, String filter) {
+        this.projection = projection;
+        this.filter = filter;
+    }
+
+    public String getProjection() {
+        return projection;
+    }
+
+    public String getFilter() {
+        return filter;
+    }
+
+    public List<Tuple3<String, String, Map<String, String>>> getUdfFunctions() {
+        if (this != UDF) {
+            return Collections.emptyList();
+        }
+        return Arrays.asList(
+                Tuple3.of("format_user", FormatUserFunction.class.getName(), new HashMap<>()),
+                Tuple3.of("add_one", AddOneFunction.class.getName(), new HashMap<>()));
+    }
+
+    /**
+     * Generates given number of data change events of given table, with 3 inserts per update.
+     * Schema change events of {@link #SCHEMA_CHANGE} are interleaved, and the schema of the table
+     * is restored at the end of the events, so the events could be processed repeatedly.
+     */
+    public List<Event> generateEvents(TableId tableId, BenchmarkTable table, int numRecords) {
+        Schema schema = table.getSchema();
+        BinaryRecordDataGenerator generator =
+                new BinaryRecordDataGenerator((RowType) schema.toRowDataType());
+
+        Schema extendedSchema = null;
+        BinaryRecordDataGenerator extendedGenerator = null;
+        if (this == SCHEMA_CHANGE) {
+            AddColumnEvent addColumnEvent = addExtraColumn(tableId);
+            extendedSchema = SchemaUtils.applySchemaChangeEvent(schema, addColumnEvent);
+            extendedGenerator =
+                    new BinaryRecordDataGenerator((RowType) extendedSchema.toRowDataType());
+        }
+
+        List<Event> events = new ArrayList<>();
+        boolean extended = false;
+        for (int i = 0; i < numRecords; i++) {
+            if (this == SCHEMA_CHANGE && i % ROWS_PER_SCHEMA_CHANGE == 0) {
+                events.add(extended ? dropExtraColumn(tableId) : addExtraColumn(tableId));
+                extended = !extended;
+            }
+            BinaryRecordDataGenerator rowGenerator = extended ? extendedGenerator : generator;
+            Object[] after = fields(table, i, extended);
+            if (i % 4 == 3) {
+                events.add(
+                        DataChangeEvent.updateEvent(
+                                tableId,
+                                rowGenerator.generate(fields(table, i - 1, extended)),
+                                rowGenerator.generate(after)));
+            } else {
+                events.add(DataChangeEvent.insertEvent(tableId, rowGenerator.generate(after)));
+            }
+        }
+        if (extended) {
+            events.add(dropExtraColumn(tableId));
+        }
+        return events;
+    }
+
+    private static Object[] fields(BenchmarkTable table, long sequence, boolean extended) {
+        Object[] fields = table.generateFields(sequence);
+        if (!extended) {
+            return fields;
+        }
+        Object[] extendedFields = Arrays.copyOf(fields, fields.length + 1);
+        extendedFields[fields.length] = BinaryStringData.fromString("extra-" + sequence);
+        return extendedFields;
+    }
+
+    private static AddColumnEvent addExtraColumn(TableId tableId) {
+        return new AddColumnEvent(
+                tableId,
+                Collections.singletonList(
+                        new AddColumnEvent.ColumnWithPosition(
+                                Column.physicalColumn(EXTRA_COLUMN, DataTypes.STRING()))));
+    }
+
+    private static DropColumnEvent dropExtraColumn(TableId tableId) {
+        return new DropColumnEvent(tableId, Collections.singletonList(EXTRA_COLUMN));
+    }
+
+    /** A UDF formatting a user. */
+    public static class FormatUserFunction implements UserDefinedFunction {
+
+        public String eval(String name, Integer age) {
+            return name + " (" + age + ")";
+        }
+
+        @Override
+        public DataType getReturnType() {
+            return DataTypes.STRING();
+        }
+    }
+
+    /** A UDF adding one to an integer. */
+    public static class AddOneFunction implements UserDefinedFunction {
+
+        public Integer eval(Integer value) {
+            return value == null ? null : value + 1;
+        }
+
+        @Override
+        public DataType getReturnType() {
+            return DataTypes.INT();
+        }
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.benchmarks.transform;
+
+import org.apache.flink.cdc.common.event.DataChangeEvent;
+import org.apache.flink.cdc.common.event.Event;
+import org.apache.flink.cdc.common.event.SchemaChangeEvent;
+import org.apache.flink.cdc.common.event.TableId;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/** Tests that workloads of {@link TransformOperatorBenchmark} could be processed repeatedly. */
+class TransformWorkloadTest {
+
+    private static final TableId TABLE_ID = TableId.tableId("benchmark", "orders");
+
+    @ParameterizedTest
+    @EnumSource(TransformWorkload.class)
+    void testProcessWorkload(TransformWorkload workload) throws Exception {
+        for (BenchmarkTable table : BenchmarkTable.values()) {
+            List<Event> events = workload.generateEvents(TABLE_ID, table, 250);
+            try (TransformPipeline pipeline = new TransformPipeline(TABLE_ID, table, workload)) {
+                for (int i = 0; i < 2; i++) {
+                    List<Event> transformed = new ArrayList<>();
+                    pipeline.process(events, transformed::add);
+
+                    long numRows =
+                            transformed.stream().filter(e -> e instanceof DataChangeEvent).count();
+                    assertThat(numRows).isPositive().isLessThanOrEqualTo(250);
+                    if (workload.getFilter() == null) {
+                        assertThat(numRows).isEqualTo(250);
+                    }
+                    assertThat(transformed.stream().filter(e -> e instanceof SchemaChangeEvent))
+                            .hasSize(workload == TransformWorkload.SCHEMA_CHANGE ? 4 : 0);
+                }
+            }
+        }
+    }
+}
@@ -43,6 +43,7 @@ import org.apache.flink.shaded.jackson2.com.fasterxml.jackson.dataformat.yaml.YA
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
@@ -92,6 +93,8 @@ public class YamlPipelineDefinitionParser implements PipelineDefinitionParser {
     private static final String UDF_KEY = "user-defined-function";
     private static final String UDF_FUNCTION_NAME_KEY = "name";
     private static final String UDF_CLASSPATH_KEY = "classpath";
+    private static final String UDF_CACHE_MAX_SIZE_KEY = "cache.max-size";
+    private static final String UDF_CACHE_TTL_KEY = "cache.ttl";
 
     // Model related keys
     private static final String MODEL_NAME_KEY = "model-name";
@@ -295,7 +298,7 @@ public class YamlPipelineDefinitionParser implements PipelineDefinitionParser {
                 "UDF",
                 udfNode,
                 Arrays.asList(UDF_FUNCTION_NAME_KEY, UDF_CLASSPATH_KEY),
-                Collections.emptyList());
+                Arrays.asList(UDF_CACHE_MAX_SIZE_KEY, UDF_CACHE_TTL_KEY));
 
         String functionName =
                 checkNotNull(
@@ -310,7 +313,13 @@ public class YamlPipelineDefinitionParser implements PipelineDefinitionParser {
                                 UDF_CLASSPATH_KEY)
                         .asText();
 
-        return new UdfDef(functionName, classpath);
+        Map<String, String> parameters = new HashMap<>();
+        for (String key : Arrays.asList(UDF_CACHE_MAX_SIZE_KEY, UDF_CACHE_TTL_KEY)) {
+            Optional.ofNullable(udfNode.get(key))
+                    .ifPresent(node -> parameters.put(key, node.asText()));
+        }
+
+        return new UdfDef(functionName, classpath, parameters);
     }
 
     private TransformDef toTransformDef(JsonNode transformNode) {
@@ -0,0 +1,79 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.common.encoder;
+
+import org.apache.flink.cdc.common.annotation.PublicEvolving;
+import org.apache.flink.cdc.common.data.RecordData;
+import org.apache.flink.cdc.common.schema.Schema;
+import org.apache.flink.cdc.common.types.DataType;
+import org.apache.flink.cdc.common.utils.Preconditions;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * A {@link RowEncoder} that writes a record as one CSV line. Columns are written in schema order,
+ * separated by {@link TextFormatOptions#getColumnSeparator()}, and nulls are written as {@link
+ * TextFormatOptions#getNullLiteral()}.
+ */
+@PublicEvolving
+public final class CsvRowEncoder implements RowEncoder {
+
+    private final Schema schema;
+    private final FieldEncoder[] fieldEncoders;
+    private final byte[] separator;
+    private final byte[] nullLiteral;
+    private final byte[] rowDelimiter;
+
+    CsvRowEncoder(Schema schema, TextFormatOptions options, String rowDelimiter) {
+        this.schema = schema;
+        List<DataType> types = schema.getColumnDataTypes();
+        this.fieldEncoders = new FieldEncoder[types.size()];
+        for (int i = 0; i < types.size(); i++) {
+            fieldEncoders[i] = FieldEncoders.createCsvEncoder(types.get(i), options);
+        }
+        this.separator = options.getColumnSeparator().getBytes(StandardCharsets.UTF_8);
+        this.nullLiteral = options.getNullLiteral().getBytes(StandardCharsets.UTF_8);
+        this.rowDelimiter = rowDelimiter.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public void encode(RecordData record, GrowableByteBuffer out) {
+        Preconditions.checkArgument(
+                record.getArity() == fieldEncoders.length,
+                "Expected a record with %s fields, but got %s.",
+                fieldEncoders.length,
+                record.getArity());
+        for (int i = 0; i < fieldEncoders.length; i++) {
+            if (i > 0) {
+                out.write(separator);
+            }
+            if (record.isNullAt(i)) {
+                out.write(nullLiteral);
+            } else {
+                fieldEncoders[i].encode(record, i, out);
+            }
+        }
+        out.write(rowDelimiter);
+    }
+
+    @Override
+    public Schema getSchema() {
+        return schema;
+    }
+}
@@ -0,0 +1,37 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.common.encoder;
+
+import org.apache.flink.cdc.common.annotation.PublicEvolving;
+import org.apache.flink.cdc.common.data.RecordData;
+
+/**
+ * Writes the value of a single, non-null field of a {@link RecordData} into a {@link
+ * GrowableByteBuffer}. Field encoders are created once per column type by {@link FieldEncoders}, so
+ * that the per-record path does not need to dispatch on the data type.
+ */
+@PublicEvolving
+@FunctionalInterface
+public interface FieldEncoder {
+
+    /**
+     * Encodes the field at the given position. The caller is responsible for checking {@link
+     * RecordData#isNullAt(int)} beforehand.
+     */
+    void encode(RecordData record, int pos, GrowableByteBuffer out);
+}
@@ -0,0 +1,479 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.common.encoder;
+
+import org.apache.flink.cdc.common.annotation.PublicEvolving;
+import org.apache.flink.cdc.common.data.ArrayData;
+import org.apache.flink.cdc.common.data.LocalZonedTimestampData;
+import org.apache.flink.cdc.common.data.MapData;
+import org.apache.flink.cdc.common.data.TimestampData;
+import org.apache.flink.cdc.common.data.ZonedTimestampData;
+import org.apache.flink.cdc.common.types.ArrayType;
+import org.apache.flink.cdc.common.types.DataType;
+import org.apache.flink.cdc.common.types.DataTypeRoot;
+import org.apache.flink.cdc.common.types.MapType;
+import org.apache.flink.cdc.common.types.RowType;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.zone.ZoneRules;
+
+import static org.apache.flink.cdc.common.types.DataTypeChecks.getFieldCount;
+import static org.apache.flink.cdc.common.types.DataTypeChecks.getPrecision;
+import static org.apache.flink.cdc.common.types.DataTypeChecks.getScale;
+
+/** Factory of {@link FieldEncoder}s, resolving all type dependent decisions up front. */
+@PublicEvolving
+public final class FieldEncoders {
+
+    private FieldEncoders() {}
+
+    /** Creates an encoder that writes a field as a JSON value. */
+    public static FieldEncoder createJsonEncoder(DataType type, TextFormatOptions options) {
+        final ZoneRules zoneRules = options.getZoneId().getRules();
+        final ZoneRules localZoneRules = options.getLocalZonedTimestampZoneId().getRules();
+        // ordered by type root definition
+        switch (type.getTypeRoot()) {
+            case CHAR:
+            case VARCHAR:
+                return (record, pos, out) ->
+                        TextWriters.writeJsonString(record.getString(pos), out);
+            case BOOLEAN:
+                return (record, pos, out) -> TextWriters.writeBoolean(record.getBoolean(pos), out);
+            case BINARY:
+            case VARBINARY:
+                return (record, pos, out) -> {
+                    out.write((byte) '"');
+                    TextWriters.writeBase64(record.getBinary(pos), out);
+                    out.write((byte) '"');
+                };
+            case DECIMAL:
+                final int decimalPrecision = getPrecision(type);
+                final int decimalScale = getScale(type);
+                if (options.isDecimalAsString()) {
+                    return (record, pos, out) -> {
+                        out.write((byte) '"');
+                        TextWriters.writeDecimal(
+                                record.getDecimal(pos, decimalPrecision, decimalScale), out);
+                        out.write((byte) '"');
+                    };
+                }
+                return (record, pos, out) ->
+                        TextWriters.writeDecimal(
+                                record.getDecimal(pos, decimalPrecision, decimalScale), out);
+            case TINYINT:
+                return (record, pos, out) -> out.writeInt(record.getByte(pos));
+            case SMALLINT:
+                return (record, pos, out) -> out.writeInt(record.getShort(pos));
+            case INTEGER:
+                return (record, pos, out) -> out.writeInt(record.getInt(pos));
+            case BIGINT:
+                return (record, pos, out) -> out.writeLong(record.getLong(pos));
+            case FLOAT:
+                return (record, pos, out) -> TextWriters.writeJsonFloat(record.getFloat(pos), out);
+            case DOUBLE:
+                return (record, pos, out) ->
+                        TextWriters.writeJsonDouble(record.getDouble(pos), out);
+            case DATE:
+                return quoted(
+                        (record, pos, out) ->
+                                TextWriters.writeDate(record.getDate(pos).toEpochDay(), out));
+            case TIME_WITHOUT_TIME_ZONE:
+                return quoted(
+                        (record, pos, out) ->
+                                TextWriters.writeTime(
+                                        record.getTime(pos).toMillisOfDay() * 1_000_000L,
+                                        options.getTimestampFractionDigits(),
+                                        out));
+            case TIMESTAMP_WITHOUT_TIME_ZONE:
+                final int timestampPrecision = getPrecision(type);
+                return quoted(
+                        (record, pos, out) ->
+                                writeTimestamp(
+                                        record.getTimestamp(pos, timestampPrecision),
+                                        options,
+                                        out));
+            case TIMESTAMP_WITH_TIME_ZONE:
+                final int zonedPrecision = getPrecision(type);
+                return quoted(
+                        (record, pos, out) ->
+                                writeZonedTimestamp(
+                                        record.getZonedTimestamp(pos, zonedPrecision),
+                                        zoneRules,
+                                        options,
+                                        out));
+            case TIMESTAMP_WITH_LOCAL_TIME_ZONE:
+                final int localZonedPrecision = getPrecision(type);
+                return quoted(
+                        (record, pos, out) ->
+                                writeLocalZonedTimestamp(
+                                        record.getLocalZonedTimestampData(pos, localZonedPrecision),
+                                        localZoneRules,
+                                        options,
+                                        out));
+            case ARRAY:
+                final ArrayWriter arrayWriter = createJsonArrayWriter(type, options);
+                return (record, pos, out) -> arrayWriter.write(record.getArray(pos), out);
+            case MAP:
+                final MapWriter mapWriter = createJsonMapWriter(type, options);
+                return nestedAsString(
+                        (record, pos, out) -> mapWriter.write(record.getMap(pos), out), options);
+            case ROW:
+                final int rowFieldCount = getFieldCount(type);
+                final JsonObjectEncoder rowEncoder = JsonObjectEncoder.of((RowType) type, options);
+                return nestedAsString(
+                        (record, pos, out) ->
+                                rowEncoder.encode(record.getRow(pos, rowFieldCount), null, out),
+                        options);
+            case VARIANT:
+                return (record, pos, out) -> out.writeUtf8(record.getVariant(pos).toJson());
+            default:
+                throw new UnsupportedOperationException("Unsupported type: " + type);
+        }
+    }
+
+    /**
+     * Creates an encoder that writes a field as a CSV value. Strings are quoted only when needed,
+     * nested types are written as their JSON text.
+     */
+    public static FieldEncoder createCsvEncoder(DataType type, TextFormatOptions options) {
+        final byte[] separator = options.getColumnSeparator().getBytes(StandardCharsets.UTF_8);
+        final ZoneRules zoneRules = options.getZoneId().getRules();
+        final ZoneRules localZoneRules = options.getLocalZonedTimestampZoneId().getRules();
+        switch (type.getTypeRoot()) {
+            case DATE:
+                return (record, pos, out) ->
+                        TextWriters.writeDate(record.getDate(pos).toEpochDay(), out);
+            case TIME_WITHOUT_TIME_ZONE:
+                return (record, pos, out) ->
+                        TextWriters.writeTime(
+                                record.getTime(pos).toMillisOfDay() * 1_000_000L,
+                                options.getTimestampFractionDigits(),
+                                out);
+            case TIMESTAMP_WITHOUT_TIME_ZONE:
+                final int timestampPrecision = getPrecision(type);
+                return (record, pos, out) ->
+                        writeTimestamp(record.getTimestamp(pos, timestampPrecision), options, out);
+            case TIMESTAMP_WITH_TIME_ZONE:
+                final int zonedPrecision = getPrecision(type);
+                return (record, pos, out) ->
+                        writeZonedTimestamp(
+                                record.getZonedTimestamp(pos, zonedPrecision),
+                                zoneRules,
+                                options,
+                                out);
+            case TIMESTAMP_WITH_LOCAL_TIME_ZONE:
+                final int localZonedPrecision = getPrecision(type);
+                return (record, pos, out) ->
+                        writeLocalZonedTimestamp(
+                                record.getLocalZonedTimestampData(pos, localZonedPrecision),
+                                localZoneRules,
+                                options,
+                                out);
+            case BINARY:
+            case VARBINARY:
+                return (record, pos, out) -> TextWriters.writeBase64(record.getBinary(pos), out);
+            case DECIMAL:
+                final int decimalPrecision = getPrecision(type);
+                final int decimalScale = getScale(type);
+                return (record, pos, out) ->
+                        TextWriters.writeDecimal(
+                                record.getDecimal(pos, decimalPrecision, decimalScale), out);
+            case BOOLEAN:
+            case TINYINT:
+            case SMALLINT:
+            case INTEGER:
+            case BIGINT:
+            case FLOAT:
+            case DOUBLE:
+                // the JSON representation of these types never needs quoting
+                return createJsonEncoder(type, options);
+            case CHAR:
+            case VARCHAR:
+                {
+                    final GrowableByteBuffer scratch = new GrowableByteBuffer();
+                    return (record, pos, out) -> {
+                        scratch.reset();
+                        TextWriters.writeRaw(record.getString(pos), scratch);
+                        TextWriters.writeCsvField(
+                                scratch.getBuffer(), 0, scratch.size(), separator, out);
+                    };
+                }
+            default:
+                {
+                    final FieldEncoder jsonEncoder = createJsonEncoder(type, options);
+                    final GrowableByteBuffer scratch = new GrowableByteBuffer();
+                    return (record, pos, out) -> {
+                        scratch.reset();
+                        jsonEncoder.encode(record, pos, scratch);
+                        TextWriters.writeCsvField(
+                                scratch.getBuffer(), 0, scratch.size(), separator, out);
+                    };
+                }
+        }
+    }
+
+    // ------------------------------------------------------------------------------------------
+    // Nested types
+    // ------------------------------------------------------------------------------------------
+
+    /** Writes a non-null {@link ArrayData} as a JSON array. */
+    @FunctionalInterface
+    private interface ArrayWriter {
+        void write(ArrayData array, GrowableByteBuffer out);
+    }
+
+    /** Writes a non-null {@link MapData} as a JSON object. */
+    @FunctionalInterface
+    private interface MapWriter {
+        void write(MapData map, GrowableByteBuffer out);
+    }
+
+    /** Writes a non-null element at the given position of an array. */
+    @FunctionalInterface
+    private interface ElementEncoder {
+        void encode(ArrayData array, int pos, GrowableByteBuffer out);
+    }
+
+    private static ArrayWriter createJsonArrayWriter(DataType type, TextFormatOptions options) {
+        final ElementEncoder elementEncoder =
+                createJsonElementEncoder(((ArrayType) type).getElementType(), options);
+        return (array, out) -> {
+            out.write((byte) '[');
+            for (int i = 0; i < array.size(); i++) {
+                if (i > 0) {
+                    out.write((byte) ',');
+                }
+                if (array.isNullAt(i)) {
+                    out.write(TextWriters.NULL);
+                } else {
+                    elementEncoder.encode(array, i, out);
+                }
+            }
+            out.write((byte) ']');
+        };
+    }
+
+    private static MapWriter createJsonMapWriter(DataType type, TextFormatOptions options) {
+        final MapType mapType = (MapType) type;
+        final boolean stringKeys =
+                mapType.getKeyType().getTypeRoot() == DataTypeRoot.CHAR
+                        || mapType.getKeyType().getTypeRoot() == DataTypeRoot.VARCHAR;
+        final ElementEncoder keyEncoder = createJsonElementEncoder(mapType.getKeyType(), options);
+        final ElementEncoder valueEncoder =
+                createJsonElementEncoder(mapType.getValueType(), options);
+        final GrowableByteBuffer keyScratch = new GrowableByteBuffer();
+        return (map, out) -> {
+            ArrayData keys = map.keyArray();
+            ArrayData values = map.valueArray();
+            out.write((byte) '{');
+            for (int i = 0; i < map.size(); i++) {
+                if (i > 0) {
+                    out.write((byte) ',');
+                }
+                if (stringKeys) {
+                    keyEncoder.encode(keys, i, out);
+                } else {
+                    // JSON object keys must be strings, quote the rendered key if needed
+                    keyScratch.reset();
+                    if (keys.isNullAt(i)) {
+                        keyScratch.write(TextWriters.NULL);
+                    } else {
+                        keyEncoder.encode(keys, i, keyScratch);
+                    }
+                    if (keyScratch.getBuffer()[0] == '"') {
+                        out.write(keyScratch.getBuffer(), 0, keyScratch.size());
+                    } else {
+                        TextWriters.writeJsonString(
+                                keyScratch.getBuffer(), 0, keyScratch.size(), out);
+                    }
+                }
+                out.write((byte) ':');
+                if (values.isNullAt(i)) {
+                    out.write(TextWriters.NULL);
+                } else {
+                    valueEncoder.encode(values, i, out);
+                }
+            }
+            out.write((byte) '}');
+        };
+    }
+
+    private static ElementEncoder createJsonElementEncoder(
+            DataType type, TextFormatOptions options) {
+        final ZoneRules zoneRules = options.getZoneId().getRules();
+        final ZoneRules localZoneRules = options.getLocalZonedTimestampZoneId().getRules();
+        switch (type.getTypeRoot()) {
+            case CHAR:
+            case VARCHAR:
+                return (array, pos, out) -> TextWriters.writeJsonString(array.getString(pos), out);
+            case BOOLEAN:
+                return (array, pos, out) -> TextWriters.writeBoolean(array.getBoolean(pos), out);
+            case BINARY:
+            case VARBINARY:
+                return (array, pos, out) -> {
+                    out.write((byte) '"');
+                    TextWriters.writeBase64(array.getBinary(pos), out);
+                    out.write((byte) '"');
+                };
+            case DECIMAL:
+                final int decimalPrecision = getPrecision(type);
+                final int decimalScale = getScale(type);
+                final boolean decimalAsString = options.isDecimalAsString();
+                return (array, pos, out) -> {
+                    if (decimalAsString) {
+                        out.write((byte) '"');
+                    }
+                    TextWriters.writeDecimal(
+                            array.getDecimal(pos, decimalPrecision, decimalScale), out);
+                    if (decimalAsString) {
+                        out.write((byte) '"');
+                    }
+                };
+            case TINYINT:
+                return (array, pos, out) -> out.writeInt(array.getByte(pos));
+            case SMALLINT:
+                return (array, pos, out) -> out.writeInt(array.getShort(pos));
+            case INTEGER:
+                return (array, pos, out) -> out.writeInt(array.getInt(pos));
+            case BIGINT:
+                return (array, pos, out) -> out.writeLong(array.getLong(pos));
+            case FLOAT:
+                return (array, pos, out) -> TextWriters.writeJsonFloat(array.getFloat(pos), out);
+            case DOUBLE:
+                return (array, pos, out) -> TextWriters.writeJsonDouble(array.getDouble(pos), out);
+            case DATE:
+                // dates are stored as epoch days in arrays
+                return (array, pos, out) -> {
+                    out.write((byte) '"');
+                    TextWriters.writeDate(array.getInt(pos), out);
+                    out.write((byte) '"');
+                };
+            case TIME_WITHOUT_TIME_ZONE:
+                // times are stored as milliseconds of day in arrays
+                return (array, pos, out) -> {
+                    out.write((byte) '"');
+                    TextWriters.writeTime(
+                            array.getInt(pos) * 1_000_000L,
+                            options.getTimestampFractionDigits(),
+                            out);
+                    out.write((byte) '"');
+                };
+            case TIMESTAMP_WITHOUT_TIME_ZONE:
+                final int timestampPrecision = getPrecision(type);
+                return (array, pos, out) -> {
+                    out.write((byte) '"');
+                    writeTimestamp(array.getTimestamp(pos, timestampPrecision), options, out);
+                    out.write((byte) '"');
+                };
+            case TIMESTAMP_WITH_TIME_ZONE:
+                final int zonedPrecision = getPrecision(type);
+                return (array, pos, out) -> {
+                    out.write((byte) '"');
+                    writeZonedTimestamp(
+                            array.getZonedTimestamp(pos, zonedPrecision), zoneRules, options, out);
+                    out.write((byte) '"');
+                };
+            case TIMESTAMP_WITH_LOCAL_TIME_ZONE:
+                final int localZonedPrecision = getPrecision(type);
+                return (array, pos, out) -> {
+                    out.write((byte) '"');
+                    writeLocalZonedTimestamp(
+                            array.getLocalZonedTimestamp(pos, localZonedPrecision),
+                            localZoneRules,
+                            options,
+                            out);
+                    out.write((byte) '"');
+                };
+            case ARRAY:
+                final ArrayWriter arrayWriter = createJsonArrayWriter(type, options);
+                return (array, pos, out) -> arrayWriter.write(array.getArray(pos), out);
+            case MAP:
+                final MapWriter mapWriter = createJsonMapWriter(type, options);
+                return (array, pos, out) -> mapWriter.write(array.getMap(pos), out);
+            case ROW:
+                final int rowFieldCount = getFieldCount(type);
+                final JsonObjectEncoder rowEncoder = JsonObjectEncoder.of((RowType) type, options);
+                return (array, pos, out) ->
+                        rowEncoder.encode(array.getRecord(pos, rowFieldCount), null, out);
+            default:
+                throw new UnsupportedOperationException("Unsupported element type: " + type);
+        }
+    }
+
+    // ------------------------------------------------------------------------------------------
+    // Helpers
+    // ------------------------------------------------------------------------------------------
+
+    private static FieldEncoder quoted(FieldEncoder encoder) {
+        return (record, pos, out) -> {
+            out.write((byte) '"');
+            encoder.encode(record, pos, out);
+            out.write((byte) '"');
+        };
+    }
+
+    /**
+     * Some sinks store nested ROW and MAP values as a JSON text column. Renders the nested value
+     * into a scratch buffer and writes it out as an escaped JSON string in that case.
+     */
+    private static FieldEncoder nestedAsString(FieldEncoder encoder, TextFormatOptions options) {
+        if (!options.isNestedAsString()) {
+            return encoder;
+        }
+        final GrowableByteBuffer scratch = new GrowableByteBuffer();
+        return (record, pos, out) -> {
+            scratch.reset();
+            encoder.encode(record, pos, scratch);
+            TextWriters.writeJsonString(scratch.getBuffer(), 0, scratch.size(), out);
+        };
+    }
+
+    private static void writeTimestamp(
+            TimestampData value, TextFormatOptions options, GrowableByteBuffer out) {
+        TextWriters.writeTimestamp(
+                value.getMillisecond(), value.getNanoOfMillisecond(), options, out);
+    }
+
+    private static void writeLocalZonedTimestamp(
+            LocalZonedTimestampData value,
+            ZoneRules zoneRules,
+            TextFormatOptions options,
+            GrowableByteBuffer out) {
+        long epochMillisecond = value.getEpochMillisecond();
+        TextWriters.writeTimestamp(
+                epochMillisecond + TextWriters.offsetMillis(zoneRules, epochMillisecond),
+                value.getEpochNanoOfMillisecond(),
+                options,
+                out);
+    }
+
+    private static void writeZonedTimestamp(
+            ZonedTimestampData value,
+            ZoneRules zoneRules,
+            TextFormatOptions options,
+            GrowableByteBuffer out) {
+        Instant instant = value.toInstant();
+        long epochMillisecond = instant.toEpochMilli();
+        TextWriters.writeTimestamp(
+                epochMillisecond + TextWriters.offsetMillis(zoneRules, epochMillisecond),
+                value.getNanoOfMillisecond(),
+                options,
+                out);
+    }
+}
@@ -0,0 +1,237 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.common.encoder;
+
+import org.apache.flink.cdc.common.annotation.PublicEvolving;
+import org.apache.flink.cdc.common.data.binary.BinarySegmentUtils;
+import org.apache.flink.core.memory.MemorySegment;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * A growable byte buffer that row encoders write into. It is meant to be reused across records:
+ * call {@link #reset()} before encoding the next record instead of creating a new buffer, so that
+ * the backing array is only reallocated when a larger record shows up.
+ */
+@PublicEvolving
+public final class GrowableByteBuffer {
+
+    private static final int DEFAULT_INITIAL_CAPACITY = 256;
+
+    /** Maximum array size the JVM is able to allocate. */
+    private static final int MAX_ARRAY_SIZE = Integer.MAX_VALUE - 8;
+
+    private static final byte[] MIN_LONG_BYTES =
+            Long.toString(Long.MIN_VALUE).getBytes(StandardCharsets.US_ASCII);
+
+    private byte[] buffer;
+    private int size;
+
+    public GrowableByteBuffer() {
+        this(DEFAULT_INITIAL_CAPACITY);
+    }
+
+    public GrowableByteBuffer(int initialCapacity) {
+        this.buffer = new byte[Math.max(initialCapacity, 16)];
+        this.size = 0;
+    }
+
+    /** Returns the number of bytes written since the last {@link #reset()}. */
+    public int size() {
+        return size;
+    }
+
+    /** Discards the written bytes but keeps the backing array for reuse. */
+    public void reset() {
+        size = 0;
+    }
+
+    /**
+     * Returns the backing array. Only the first {@link #size()} bytes are valid, and the array is
+     * overwritten by subsequent writes.
+     */
+    public byte[] getBuffer() {
+        return buffer;
+    }
+
+    /** Returns a copy of the written bytes. */
+    public byte[] toByteArray() {
+        return Arrays.copyOf(buffer, size);
+    }
+
+    /** Decodes the written bytes as an UTF-8 string. */
+    @Override
+    public String toString() {
+        return new String(buffer, 0, size, StandardCharsets.UTF_8);
+    }
+
+    public void write(byte b) {
+        ensureCapacity(size + 1);
+        buffer[size++] = b;
+    }
+
+    public void write(byte[] bytes) {
+        write(bytes, 0, bytes.length);
+    }
+
+    public void write(byte[] bytes, int offset, int length) {
+        ensureCapacity(size + length);
+        System.arraycopy(bytes, offset, buffer, size, length);
+        size += length;
+    }
+
+    /** Copies bytes out of (possibly multiple) memory segments. */
+    public void write(MemorySegment[] segments, int offset, int length) {
+        ensureCapacity(size + length);
+        BinarySegmentUtils.copyToBytes(segments, offset, buffer, size, length);
+        size += length;
+    }
+
+    /** Copies bytes out of a single memory segment. */
+    public void write(MemorySegment segment, int offset, int length) {
+        ensureCapacity(size + length);
+        segment.get(offset, buffer, size, length);
+        size += length;
+    }
+
+    /** Writes a string that is known to only contain ASCII characters. */
+    public void writeAscii(String str) {
+        int length = str.length();
+        ensureCapacity(size + length);
+        for (int i = 0; i < length; i++) {
+            buffer[size++] = (byte) str.charAt(i);
+        }
+    }
+
+    /** Writes a string encoded as UTF-8 without allocating an intermediate byte array. */
+    public void writeUtf8(String str) {
+        int length = str.length();
+        // worst case of three bytes per char, surrogate pairs need 4 bytes for 2 chars
+        ensureCapacity(size + length * 3);
+        for (int i = 0; i < length; i++) {
+            char c = str.charAt(i);
+            if (c < 0x80) {
+                buffer[size++] = (byte) c;
+            } else if (c < 0x800) {
+                buffer[size++] = (byte) (0xC0 | (c >> 6));
+                buffer[size++] = (byte) (0x80 | (c & 0x3F));
+            } else if (Character.isHighSurrogate(c)
+                    && i + 1 < length
+                    && Character.isLowSurrogate(str.charAt(i + 1))) {
+                int codePoint = Character.toCodePoint(c, str.charAt(++i));
+                buffer[size++] = (byte) (0xF0 | (codePoint >> 18));
+                buffer[size++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+                buffer[size++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+                buffer[size++] = (byte) (0x80 | (codePoint & 0x3F));
+            } else if (Character.isSurrogate(c)) {
+                // unpaired surrogate, same replacement as String#getBytes
+                buffer[size++] = (byte) '?';
+            } else {
+                buffer[size++] = (byte) (0xE0 | (c >> 12));
+                buffer[size++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+                buffer[size++] = (byte) (0x80 | (c & 0x3F));
+            }
+        }
+    }
+
+    /** Writes the decimal representation of an int. */
+    public void writeInt(int value) {
+        if (value == Integer.MIN_VALUE) {
+            writeLong(value);
+            return;
+        }
+        ensureCapacity(size + 11);
+        if (value < 0) {
+            buffer[size++] = '-';
+            value = -value;
+        }
+        int digits = digitCount(value);
+        int pos = size + digits;
+        do {
+            buffer[--pos] = (byte) ('0' + value % 10);
+            value /= 10;
+        } while (value != 0);
+        size += digits;
+    }
+
+    /** Writes the decimal representation of a long. */
+    public void writeLong(long value) {
+        if (value == Long.MIN_VALUE) {
+            write(MIN_LONG_BYTES);
+            return;
+        }
+        ensureCapacity(size + 20);
+        if (value < 0) {
+            buffer[size++] = '-';
+            value = -value;
+        }
+        int digits = digitCount(value);
+        int pos = size + digits;
+        do {
+            buffer[--pos] = (byte) ('0' + value % 10);
+            value /= 10;
+        } while (value != 0);
+        size += digits;
+    }
+
+    /**
+     * Writes a non-negative number left-padded with zeros to the given width, e.g. {@code 7} with
+     * width 2 is written as {@code 07}. Digits beyond the width are not truncated.
+     */
+    public void writePadded(long value, int width) {
+        int digits = digitCount(value);
+        ensureCapacity(size + Math.max(digits, width));
+        for (int i = digits; i < width; i++) {
+            buffer[size++] = '0';
+        }
+        int pos = size + digits;
+        do {
+            buffer[--pos] = (byte) ('0' + value % 10);
+            value /= 10;
+        } while (value != 0);
+        size += digits;
+    }
+
+    /** Makes sure the buffer can hold at least {@code minCapacity} bytes. */
+    public void ensureCapacity(int minCapacity) {
+        if (minCapacity - buffer.length > 0) {
+            grow(minCapacity);
+        }
+    }
+
+    private void grow(int minCapacity) {
+        if (minCapacity < 0 || minCapacity > MAX_ARRAY_SIZE) {
+            throw new OutOfMemoryError("Required buffer size " + minCapacity + " is too large.");
+        }
+        int newCapacity = buffer.length << 1;
+        if (newCapacity - minCapacity < 0 || newCapacity > MAX_ARRAY_SIZE) {
+            newCapacity = minCapacity;
+        }
+        buffer = Arrays.copyOf(buffer, newCapacity);
+    }
+
+    private static int digitCount(long value) {
+        int digits = 1;
+        while (value >= 10) {
+            value /= 10;
+            digits++;
+        }
+        return digits;
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.common.encoder;
+
+import org.apache.flink.cdc.common.data.RecordData;
+import org.apache.flink.cdc.common.types.DataField;
+import org.apache.flink.cdc.common.types.DataType;
+import org.apache.flink.cdc.common.types.RowType;
+import org.apache.flink.cdc.common.utils.Preconditions;
+
+import javax.annotation.Nullable;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/** Writes the fields of a {@link RecordData} as a JSON object with pre-escaped member names. */
+final class JsonObjectEncoder {
+
+    private final byte[][] memberPrefixes;
+    private final FieldEncoder[] fieldEncoders;
+    private final boolean writeNullFields;
+
+    private JsonObjectEncoder(List<String> names, List<DataType> types, TextFormatOptions options) {
+        Preconditions.checkArgument(names.size() == types.size());
+        this.memberPrefixes = new byte[names.size()][];
+        this.fieldEncoders = new FieldEncoder[names.size()];
+        for (int i = 0; i < names.size(); i++) {
+            memberPrefixes[i] = memberPrefix(names.get(i));
+            fieldEncoders[i] = FieldEncoders.createJsonEncoder(types.get(i), options);
+        }
+        this.writeNullFields = options.isWriteNullFields();
+    }
+
+    static JsonObjectEncoder of(
+            List<String> names, List<DataType> types, TextFormatOptions options) {
+        return new JsonObjectEncoder(names, types, options);
+    }
+
+    static JsonObjectEncoder of(RowType rowType, TextFormatOptions options) {
+        List<DataField> fields = rowType.getFields();
+        return new JsonObjectEncoder(
+                fields.stream().map(DataField::getName).collect(Collectors.toList()),
+                fields.stream().map(DataField::getType).collect(Collectors.toList()),
+                options);
+    }
+
+    int getFieldCount() {
+        return fieldEncoders.length;
+    }
+
+    /**
+     * Writes the record as a JSON object.
+     *
+     * @param trailingMembers already encoded members, see {@link JsonRowEncoder#member}, that are
+     *     appended after the record fields.
+     */
+    void encode(RecordData record, @Nullable byte[] trailingMembers, GrowableByteBuffer out) {
+        Preconditions.checkArgument(
+                record.getArity() == fieldEncoders.length,
+                "Expected a record with %s fields, but got %s.",
+                fieldEncoders.length,
+                record.getArity());
+        out.write((byte) '{');
+        boolean first = true;
+        for (int i = 0; i < fieldEncoders.length; i++) {
+            boolean isNull = record.isNullAt(i);
+            if (isNull && !writeNullFields) {
+                continue;
+            }
+            if (!first) {
+                out.write((byte) ',');
+            }
+            first = false;
+            out.write(memberPrefixes[i]);
+            if (isNull) {
+                out.write(TextWriters.NULL);
+            } else {
+                fieldEncoders[i].encode(record, i, out);
+            }
+        }
+        if (trailingMembers != null) {
+            if (!first) {
+                out.write((byte) ',');
+            }
+            out.write(trailingMembers);
+        }
+        out.write((byte) '}');
+    }
+
+    /** Returns the pre-escaped {@code "name":} prefix of a JSON object member. */
+    static byte[] memberPrefix(String name) {
+        GrowableByteBuffer buffer = new GrowableByteBuffer(name.length() + 8);
+        TextWriters.writeJsonString(name, buffer);
+        buffer.write((byte) ':');
+        return buffer.toByteArray();
+    }
+}
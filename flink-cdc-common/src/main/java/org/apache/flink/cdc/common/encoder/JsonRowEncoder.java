@@ -0,0 +1,80 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.common.encoder;
+
+import org.apache.flink.cdc.common.annotation.PublicEvolving;
+import org.apache.flink.cdc.common.data.RecordData;
+import org.apache.flink.cdc.common.schema.Schema;
+
+import javax.annotation.Nullable;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * A {@link RowEncoder} that writes a record as a JSON object, optionally terminated by a line break
+ * to build newline delimited JSON (NDJSON) bodies.
+ */
+@PublicEvolving
+public final class JsonRowEncoder implements RowEncoder {
+
+    private final Schema schema;
+    private final JsonObjectEncoder objectEncoder;
+    private final boolean lineDelimited;
+
+    JsonRowEncoder(Schema schema, TextFormatOptions options, boolean lineDelimited) {
+        this.schema = schema;
+        this.objectEncoder =
+                JsonObjectEncoder.of(schema.getColumnNames(), schema.getColumnDataTypes(), options);
+        this.lineDelimited = lineDelimited;
+    }
+
+    @Override
+    public void encode(RecordData record, GrowableByteBuffer out) {
+        encode(record, null, out);
+    }
+
+    /**
+     * Encodes the record and appends extra members that are not part of the schema, such as the
+     * {@code __op} flag of StarRocks. Extra members are built once with {@link #member}.
+     */
+    public void encode(
+            RecordData record, @Nullable byte[] trailingMembers, GrowableByteBuffer out) {
+        objectEncoder.encode(record, trailingMembers, out);
+        if (lineDelimited) {
+            out.write((byte) '\n');
+        }
+    }
+
+    @Override
+    public Schema getSchema() {
+        return schema;
+    }
+
+    /**
+     * Pre-encodes a JSON object member.
+     *
+     * @param name the unescaped member name
+     * @param rawJsonValue the value, already in JSON syntax, e.g. {@code 1} or {@code "abc"}
+     */
+    public static byte[] member(String name, String rawJsonValue) {
+        GrowableByteBuffer buffer = new GrowableByteBuffer();
+        buffer.write(JsonObjectEncoder.memberPrefix(name));
+        buffer.write(rawJsonValue.getBytes(StandardCharsets.UTF_8));
+        return buffer.toByteArray();
+    }
+}
@@ -0,0 +1,39 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.common.encoder;
+
+import org.apache.flink.cdc.common.annotation.PublicEvolving;
+import org.apache.flink.cdc.common.data.RecordData;
+import org.apache.flink.cdc.common.schema.Schema;
+
+/**
+ * Encodes a whole {@link RecordData} of a known {@link Schema} as text. A row encoder is compiled
+ * from the schema once (see {@link RowEncoders}) and must be recreated when the schema changes,
+ * which {@link RowEncoderRegistry} takes care of.
+ *
+ * <p>Row encoders may keep scratch state and are therefore not thread-safe.
+ */
+@PublicEvolving
+public interface RowEncoder {
+
+    /** Appends the encoded record to the buffer. */
+    void encode(RecordData record, GrowableByteBuffer out);
+
+    /** The schema this encoder was compiled for. */
+    Schema getSchema();
+}
@@ -0,0 +1,81 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.common.encoder;
+
+import org.apache.flink.cdc.common.annotation.PublicEvolving;
+import org.apache.flink.cdc.common.event.CreateTableEvent;
+import org.apache.flink.cdc.common.event.DropTableEvent;
+import org.apache.flink.cdc.common.event.SchemaChangeEvent;
+import org.apache.flink.cdc.common.event.TableId;
+import org.apache.flink.cdc.common.schema.Schema;
+import org.apache.flink.cdc.common.utils.SchemaUtils;
+
+import javax.annotation.Nullable;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Keeps one {@link RowEncoder} per table and regenerates it whenever a {@link SchemaChangeEvent}
+ * changes the schema of that table, so sinks don't need to track schemas themselves.
+ *
+ * @param <E> the type of the encoders
+ */
+@PublicEvolving
+public class RowEncoderRegistry<E extends RowEncoder> {
+
+    private final Function<Schema, E> encoderFactory;
+    private final Map<TableId, E> encoders = new HashMap<>();
+
+    public RowEncoderRegistry(Function<Schema, E> encoderFactory) {
+        this.encoderFactory = encoderFactory;
+    }
+
+    /** Applies the schema change to the table and recompiles its encoder. */
+    public void applySchemaChangeEvent(SchemaChangeEvent event) {
+        TableId tableId = event.tableId();
+        if (event instanceof CreateTableEvent) {
+            encoders.put(tableId, encoderFactory.apply(((CreateTableEvent) event).getSchema()));
+        } else if (event instanceof DropTableEvent) {
+            encoders.remove(tableId);
+        } else {
+            E encoder = encoders.get(tableId);
+            if (encoder == null) {
+                throw new IllegalStateException("Schema of " + tableId + " does not exist.");
+            }
+            Schema newSchema = SchemaUtils.applySchemaChangeEvent(encoder.getSchema(), event);
+            if (!newSchema.equals(encoder.getSchema())) {
+                encoders.put(tableId, encoderFactory.apply(newSchema));
+            }
+        }
+    }
+
+    /** Returns the encoder of the table, or null if no schema is known for it yet. */
+    @Nullable
+    public E get(TableId tableId) {
+        return encoders.get(tableId);
+    }
+
+    /** Returns the current schema of the table, or null if it is unknown. */
+    @Nullable
+    public Schema getSchema(TableId tableId) {
+        E encoder = encoders.get(tableId);
+        return encoder == null ? null : encoder.getSchema();
+    }
+}
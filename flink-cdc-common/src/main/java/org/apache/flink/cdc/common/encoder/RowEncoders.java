@@ -0,0 +1,46 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.common.encoder;
+
+import org.apache.flink.cdc.common.annotation.PublicEvolving;
+import org.apache.flink.cdc.common.schema.Schema;
+
+/**
+ * Compiles a {@link Schema} into a {@link RowEncoder}. All type dispatching, name escaping and
+ * option lookups happen here, the returned encoders only index into pre-built arrays per record.
+ */
+@PublicEvolving
+public final class RowEncoders {
+
+    private RowEncoders() {}
+
+    /** Creates an encoder writing each record as a single JSON object. */
+    public static JsonRowEncoder json(Schema schema, TextFormatOptions options) {
+        return new JsonRowEncoder(schema, options, false);
+    }
+
+    /** Creates an encoder writing each record as a JSON object followed by a line break. */
+    public static JsonRowEncoder ndjson(Schema schema, TextFormatOptions options) {
+        return new JsonRowEncoder(schema, options, true);
+    }
+
+    /** Creates an encoder writing each record as a CSV line terminated by the row delimiter. */
+    public static CsvRowEncoder csv(Schema schema, TextFormatOptions options, String rowDelimiter) {
+        return new CsvRowEncoder(schema, options, rowDelimiter);
+    }
+}
@@ -0,0 +1,270 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.common.encoder;
+
+import org.apache.flink.cdc.common.annotation.PublicEvolving;
+import org.apache.flink.cdc.common.utils.Preconditions;
+
+import java.io.Serializable;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Objects;
+
+/**
+ * Options that control how a {@link RowEncoder} renders values as text. Sinks differ in the exact
+ * textual representation they expect for temporal and decimal values, so these are configurable
+ * instead of hard-coded into the encoders.
+ */
+@PublicEvolving
+public final class TextFormatOptions implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    /** The local time zone used to render {@code TIMESTAMP_LTZ} and {@code TIMESTAMP_TZ}. */
+    private final ZoneId zoneId;
+
+    /**
+     * The time zone used to render {@code TIMESTAMP_LTZ}, which is {@link #zoneId} unless a sink
+     * has to keep rendering these values in another zone for compatibility.
+     */
+    private final ZoneId localZonedTimestampZoneId;
+
+    /** Separator between the date and the time part of timestamps, e.g. ' ' or 'T'. */
+    private final char dateTimeSeparator;
+
+    /** Number of fractional second digits written for timestamps, 0 means none. */
+    private final int timestampFractionDigits;
+
+    /** Whether decimals should be written as JSON strings instead of JSON numbers. */
+    private final boolean decimalAsString;
+
+    /** Whether nested ROW and MAP values are written as a JSON string instead of an object. */
+    private final boolean nestedAsString;
+
+    /** Whether JSON object members with a null value are written or omitted. */
+    private final boolean writeNullFields;
+
+    /** Column separator used by the CSV encoder. */
+    private final String columnSeparator;
+
+    /** Literal written for null values by the CSV encoder. */
+    private final String nullLiteral;
+
+    private TextFormatOptions(
+            ZoneId zoneId,
+            ZoneId localZonedTimestampZoneId,
+            char dateTimeSeparator,
+            int timestampFractionDigits,
+            boolean decimalAsString,
+            boolean nestedAsString,
+            boolean writeNullFields,
+            String columnSeparator,
+            String nullLiteral) {
+        this.zoneId = zoneId;
+        this.localZonedTimestampZoneId = localZonedTimestampZoneId;
+        this.dateTimeSeparator = dateTimeSeparator;
+        this.timestampFractionDigits = timestampFractionDigits;
+        this.decimalAsString = decimalAsString;
+        this.nestedAsString = nestedAsString;
+        this.writeNullFields = writeNullFields;
+        this.columnSeparator = columnSeparator;
+        this.nullLiteral = nullLiteral;
+    }
+
+    public ZoneId getZoneId() {
+        return zoneId;
+    }
+
+    public ZoneId getLocalZonedTimestampZoneId() {
+        return localZonedTimestampZoneId;
+    }
+
+    public char getDateTimeSeparator() {
+        return dateTimeSeparator;
+    }
+
+    public int getTimestampFractionDigits() {
+        return timestampFractionDigits;
+    }
+
+    public boolean isDecimalAsString() {
+        return decimalAsString;
+    }
+
+    public boolean isNestedAsString() {
+        return nestedAsString;
+    }
+
+    public boolean isWriteNullFields() {
+        return writeNullFields;
+    }
+
+    public String getColumnSeparator() {
+        return columnSeparator;
+    }
+
+    public String getNullLiteral() {
+        return nullLiteral;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof TextFormatOptions)) {
+            return false;
+        }
+        TextFormatOptions that = (TextFormatOptions) o;
+        return dateTimeSeparator == that.dateTimeSeparator
+                && timestampFractionDigits == that.timestampFractionDigits
+                && decimalAsString == that.decimalAsString
+                && nestedAsString == that.nestedAsString
+                && writeNullFields == that.writeNullFields
+                && Objects.equals(zoneId, that.zoneId)
+                && Objects.equals(localZonedTimestampZoneId, that.localZonedTimestampZoneId)
+                && Objects.equals(columnSeparator, that.columnSeparator)
+                && Objects.equals(nullLiteral, that.nullLiteral);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(
+                zoneId,
+                localZonedTimestampZoneId,
+                dateTimeSeparator,
+                timestampFractionDigits,
+                decimalAsString,
+                nestedAsString,
+                writeNullFields,
+                columnSeparator,
+                nullLiteral);
+    }
+
+    @Override
+    public String toString() {
+        return "TextFormatOptions{"
+                + "zoneId="
+                + zoneId
+                + ", localZonedTimestampZoneId="
+                + localZonedTimestampZoneId
+                + ", dateTimeSeparator='"
+                + dateTimeSeparator
+                + "', timestampFractionDigits="
+                + timestampFractionDigits
+                + ", decimalAsString="
+                + decimalAsString
+                + ", nestedAsString="
+                + nestedAsString
+                + ", writeNullFields="
+                + writeNullFields
+                + ", columnSeparator='"
+                + columnSeparator
+                + "', nullLiteral='"
+                + nullLiteral
+                + "'}";
+    }
+
+    /** Creates a new {@link Builder} with the default options. */
+    public static Builder newBuilder() {
+        return new Builder();
+    }
+
+    // -----------------------------------------------------------------------------------
+
+    /** Builder for {@link TextFormatOptions}. */
+    @PublicEvolving
+    public static final class Builder {
+
+        private ZoneId zoneId = ZoneOffset.UTC;
+        private ZoneId localZonedTimestampZoneId;
+        private char dateTimeSeparator = ' ';
+        private int timestampFractionDigits = 6;
+        private boolean decimalAsString = false;
+        private boolean nestedAsString = false;
+        private boolean writeNullFields = true;
+        private String columnSeparator = ",";
+        private String nullLiteral = "\\N";
+
+        public Builder zoneId(ZoneId zoneId) {
+            this.zoneId = Preconditions.checkNotNull(zoneId);
+            return this;
+        }
+
+        /** Renders {@code TIMESTAMP_LTZ} in the given zone instead of {@link #zoneId(ZoneId)}. */
+        public Builder localZonedTimestampZoneId(ZoneId localZonedTimestampZoneId) {
+            this.localZonedTimestampZoneId = Preconditions.checkNotNull(localZonedTimestampZoneId);
+            return this;
+        }
+
+        public Builder dateTimeSeparator(char dateTimeSeparator) {
+            this.dateTimeSeparator = dateTimeSeparator;
+            return this;
+        }
+
+        public Builder timestampFractionDigits(int timestampFractionDigits) {
+            Preconditions.checkArgument(
+                    timestampFractionDigits >= 0 && timestampFractionDigits <= 9,
+                    "Timestamp fraction digits must be between 0 and 9, but was %s.",
+                    timestampFractionDigits);
+            this.timestampFractionDigits = timestampFractionDigits;
+            return this;
+        }
+
+        public Builder decimalAsString(boolean decimalAsString) {
+            this.decimalAsString = decimalAsString;
+            return this;
+        }
+
+        public Builder nestedAsString(boolean nestedAsString) {
+            this.nestedAsString = nestedAsString;
+            return this;
+        }
+
+        public Builder writeNullFields(boolean writeNullFields) {
+            this.writeNullFields = writeNullFields;
+            return this;
+        }
+
+        public Builder columnSeparator(String columnSeparator) {
+            Preconditions.checkArgument(
+                    columnSeparator != null && !columnSeparator.isEmpty(),
+                    "Column separator must not be empty.");
+            this.columnSeparator = columnSeparator;
+            return this;
+        }
+
+        public Builder nullLiteral(String nullLiteral) {
+            this.nullLiteral = Preconditions.checkNotNull(nullLiteral);
+            return this;
+        }
+
+        public TextFormatOptions build() {
+            return new TextFormatOptions(
+                    zoneId,
+                    localZonedTimestampZoneId == null ? zoneId : localZonedTimestampZoneId,
+                    dateTimeSeparator,
+                    timestampFractionDigits,
+                    decimalAsString,
+                    nestedAsString,
+                    writeNullFields,
+                    columnSeparator,
+                    nullLiteral);
+        }
+    }
+}
@@ -0,0 +1,396 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.common.encoder;
+
+import org.apache.flink.cdc.common.data.DecimalData;
+import org.apache.flink.cdc.common.data.StringData;
+import org.apache.flink.cdc.common.data.binary.BinaryStringData;
+import org.apache.flink.core.memory.MemorySegment;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.zone.ZoneRules;
+
+/**
+ * Low level helpers that render values straight into a {@link GrowableByteBuffer}. None of the
+ * methods allocate for the common cases, which is the whole point of the encoders in this package.
+ */
+final class TextWriters {
+
+    private static final long MILLIS_PER_DAY = 86_400_000L;
+
+    private static final byte[] HEX = "0123456789abcdef".getBytes(StandardCharsets.US_ASCII);
+
+    private static final byte[] BASE64 =
+            "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789+/"
+                    .getBytes(StandardCharsets.US_ASCII);
+
+    private static final byte[] TRUE = "true".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] FALSE = "false".getBytes(StandardCharsets.US_ASCII);
+    static final byte[] NULL = "null".getBytes(StandardCharsets.US_ASCII);
+
+    private static final long[] POWERS_OF_TEN = new long[19];
+
+    static {
+        POWERS_OF_TEN[0] = 1L;
+        for (int i = 1; i < POWERS_OF_TEN.length; i++) {
+            POWERS_OF_TEN[i] = POWERS_OF_TEN[i - 1] * 10;
+        }
+    }
+
+    private TextWriters() {}
+
+    // ------------------------------------------------------------------------------------------
+    // Strings
+    // ------------------------------------------------------------------------------------------
+
+    /** Writes a JSON string literal, including the surrounding quotes. */
+    static void writeJsonString(StringData value, GrowableByteBuffer out) {
+        if (value instanceof BinaryStringData) {
+            BinaryStringData str = (BinaryStringData) value;
+            MemorySegment[] segments = str.getSegments();
+            int offset = str.getOffset();
+            int length = str.getSizeInBytes();
+            out.write((byte) '"');
+            if (segments.length == 1) {
+                writeJsonEscaped(segments[0], offset, length, out);
+            } else {
+                // rare case of a string spanning several segments, copy it out first
+                byte[] bytes = str.toBytes();
+                writeJsonEscaped(bytes, 0, bytes.length, out);
+            }
+            out.write((byte) '"');
+        } else {
+            writeJsonString(value.toString(), out);
+        }
+    }
+
+    /** Writes a JSON string literal, including the surrounding quotes. */
+    static void writeJsonString(String value, GrowableByteBuffer out) {
+        out.write((byte) '"');
+        int start = 0;
+        int length = value.length();
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            if (c < 0x20 || c == '"' || c == '\\') {
+                if (i > start) {
+                    out.writeUtf8(value.substring(start, i));
+                }
+                writeJsonEscape((byte) c, out);
+                start = i + 1;
+            }
+        }
+        if (start == 0) {
+            out.writeUtf8(value);
+        } else if (start < length) {
+            out.writeUtf8(value.substring(start));
+        }
+        out.write((byte) '"');
+    }
+
+    /** Writes UTF-8 bytes as a JSON string literal, including the surrounding quotes. */
+    static void writeJsonString(byte[] utf8, int offset, int length, GrowableByteBuffer out) {
+        out.write((byte) '"');
+        writeJsonEscaped(utf8, offset, length, out);
+        out.write((byte) '"');
+    }
+
+    private static void writeJsonEscaped(
+            MemorySegment segment, int offset, int length, GrowableByteBuffer out) {
+        int start = offset;
+        int end = offset + length;
+        for (int i = offset; i < end; i++) {
+            byte b = segment.get(i);
+            if (needsJsonEscape(b)) {
+                if (i > start) {
+                    out.write(segment, start, i - start);
+                }
+                writeJsonEscape(b, out);
+                start = i + 1;
+            }
+        }
+        if (end > start) {
+            out.write(segment, start, end - start);
+        }
+    }
+
+    private static void writeJsonEscaped(
+            byte[] bytes, int offset, int length, GrowableByteBuffer out) {
+        int start = offset;
+        int end = offset + length;
+        for (int i = offset; i < end; i++) {
+            byte b = bytes[i];
+            if (needsJsonEscape(b)) {
+                if (i > start) {
+                    out.write(bytes, start, i - start);
+                }
+                writeJsonEscape(b, out);
+                start = i + 1;
+            }
+        }
+        if (end > start) {
+            out.write(bytes, start, end - start);
+        }
+    }
+
+    private static boolean needsJsonEscape(byte b) {
+        // multi-byte UTF-8 sequences are negative and never need escaping
+        return b >= 0 && (b < 0x20 || b == '"' || b == '\\');
+    }
+
+    private static void writeJsonEscape(byte b, GrowableByteBuffer out) {
+        out.write((byte) '\\');
+        switch (b) {
+            case '"':
+            case '\\':
+                out.write(b);
+                break;
+            case '\n':
+                out.write((byte) 'n');
+                break;
+            case '\r':
+                out.write((byte) 'r');
+                break;
+            case '\t':
+                out.write((byte) 't');
+                break;
+            case '\b':
+                out.write((byte) 'b');
+                break;
+            case '\f':
+                out.write((byte) 'f');
+                break;
+            default:
+                out.write((byte) 'u');
+                out.write((byte) '0');
+                out.write((byte) '0');
+                out.write(HEX[(b >> 4) & 0xF]);
+                out.write(HEX[b & 0xF]);
+        }
+    }
+
+    /** Writes the raw UTF-8 bytes of a string without any quoting. */
+    static void writeRaw(StringData value, GrowableByteBuffer out) {
+        if (value instanceof BinaryStringData) {
+            BinaryStringData str = (BinaryStringData) value;
+            out.write(str.getSegments(), str.getOffset(), str.getSizeInBytes());
+        } else {
+            out.writeUtf8(value.toString());
+        }
+    }
+
+    /**
+     * Writes a CSV field. The value is enclosed in double quotes, with embedded quotes doubled, if
+     * it contains the column separator, a quote or a line break.
+     */
+    static void writeCsvField(
+            byte[] utf8, int offset, int length, byte[] separator, GrowableByteBuffer out) {
+        if (!needsCsvQuoting(utf8, offset, length, separator)) {
+            out.write(utf8, offset, length);
+            return;
+        }
+        out.write((byte) '"');
+        int start = offset;
+        int end = offset + length;
+        for (int i = offset; i < end; i++) {
+            if (utf8[i] == '"') {
+                out.write(utf8, start, i - start + 1);
+                out.write((byte) '"');
+                start = i + 1;
+            }
+        }
+        out.write(utf8, start, end - start);
+        out.write((byte) '"');
+    }
+
+    private static boolean needsCsvQuoting(byte[] utf8, int offset, int length, byte[] separator) {
+        int end = offset + length;
+        for (int i = offset; i < end; i++) {
+            byte b = utf8[i];
+            if (b == '"' || b == '\n' || b == '\r') {
+                return true;
+            }
+            if (b == separator[0] && regionMatches(utf8, i, end, separator)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean regionMatches(byte[] bytes, int from, int end, byte[] pattern) {
+        if (end - from < pattern.length) {
+            return false;
+        }
+        for (int i = 1; i < pattern.length; i++) {
+            if (bytes[from + i] != pattern[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // ------------------------------------------------------------------------------------------
+    // Numbers and binaries
+    // ------------------------------------------------------------------------------------------
+
+    static void writeBoolean(boolean value, GrowableByteBuffer out) {
+        out.write(value ? TRUE : FALSE);
+    }
+
+    /** Writes a float as a JSON number, non-finite values are written as {@code null}. */
+    static void writeJsonFloat(float value, GrowableByteBuffer out) {
+        if (Float.isFinite(value)) {
+            out.writeAscii(Float.toString(value));
+        } else {
+            out.write(NULL);
+        }
+    }
+
+    /** Writes a double as a JSON number, non-finite values are written as {@code null}. */
+    static void writeJsonDouble(double value, GrowableByteBuffer out) {
+        if (Double.isFinite(value)) {
+            out.writeAscii(Double.toString(value));
+        } else {
+            out.write(NULL);
+        }
+    }
+
+    /**
+     * Writes a decimal in plain notation. Compact decimals are rendered from their unscaled long
+     * value without creating a {@link java.math.BigDecimal}.
+     */
+    static void writeDecimal(DecimalData value, GrowableByteBuffer out) {
+        if (!DecimalData.isCompact(value.precision())) {
+            out.writeAscii(value.toBigDecimal().toPlainString());
+            return;
+        }
+        long unscaled = value.toUnscaledLong();
+        int scale = value.scale();
+        if (scale <= 0) {
+            out.writeLong(unscaled);
+            return;
+        }
+        if (unscaled < 0) {
+            out.write((byte) '-');
+            unscaled = -unscaled;
+        }
+        long divisor = POWERS_OF_TEN[scale];
+        out.writeLong(unscaled / divisor);
+        out.write((byte) '.');
+        out.writePadded(unscaled % divisor, scale);
+    }
+
+    /** Writes the standard, padded Base64 encoding of the given bytes. */
+    static void writeBase64(byte[] bytes, GrowableByteBuffer out) {
+        int length = bytes.length;
+        out.ensureCapacity(out.size() + ((length + 2) / 3) * 4);
+        int i = 0;
+        for (; i + 2 < length; i += 3) {
+            int bits = (bytes[i] & 0xFF) << 16 | (bytes[i + 1] & 0xFF) << 8 | (bytes[i + 2] & 0xFF);
+            out.write(BASE64[(bits >>> 18) & 0x3F]);
+            out.write(BASE64[(bits >>> 12) & 0x3F]);
+            out.write(BASE64[(bits >>> 6) & 0x3F]);
+            out.write(BASE64[bits & 0x3F]);
+        }
+        int remaining = length - i;
+        if (remaining == 1) {
+            int bits = (bytes[i] & 0xFF) << 16;
+            out.write(BASE64[(bits >>> 18) & 0x3F]);
+            out.write(BASE64[(bits >>> 12) & 0x3F]);
+            out.write((byte) '=');
+            out.write((byte) '=');
+        } else if (remaining == 2) {
+            int bits = (bytes[i] & 0xFF) << 16 | (bytes[i + 1] & 0xFF) << 8;
+            out.write(BASE64[(bits >>> 18) & 0x3F]);
+            out.write(BASE64[(bits >>> 12) & 0x3F]);
+            out.write(BASE64[(bits >>> 6) & 0x3F]);
+            out.write((byte) '=');
+        }
+    }
+
+    // ------------------------------------------------------------------------------------------
+    // Temporal values
+    // ------------------------------------------------------------------------------------------
+
+    /** Writes a date as {@code yyyy-MM-dd}. */
+    static void writeDate(int epochDay, GrowableByteBuffer out) {
+        // civil-from-days, see http://howardhinnant.github.io/date_algorithms.html
+        long z = epochDay + 719468L;
+        long era = (z >= 0 ? z : z - 146096) / 146097;
+        long doe = z - era * 146097;
+        long yoe = (doe - doe / 1460 + doe / 36524 - doe / 146096) / 365;
+        long doy = doe - (365 * yoe + yoe / 4 - yoe / 100);
+        long mp = (5 * doy + 2) / 153;
+        long day = doy - (153 * mp + 2) / 5 + 1;
+        long month = mp < 10 ? mp + 3 : mp - 9;
+        long year = yoe + era * 400 + (month <= 2 ? 1 : 0);
+        if (year < 0 || year > 9999) {
+            // out of the four digits range, let the JDK decide on the sign and padding
+            out.writeAscii(LocalDate.ofEpochDay(epochDay).toString());
+            return;
+        }
+        out.writePadded(year, 4);
+        out.write((byte) '-');
+        out.writePadded(month, 2);
+        out.write((byte) '-');
+        out.writePadded(day, 2);
+    }
+
+    /** Writes a time of day as {@code HH:mm:ss} followed by the configured fraction digits. */
+    static void writeTime(long nanoOfDay, int fractionDigits, GrowableByteBuffer out) {
+        long secondOfDay = nanoOfDay / 1_000_000_000L;
+        out.writePadded(secondOfDay / 3600, 2);
+        out.write((byte) ':');
+        out.writePadded((secondOfDay / 60) % 60, 2);
+        out.write((byte) ':');
+        out.writePadded(secondOfDay % 60, 2);
+        if (fractionDigits > 0) {
+            long nanoOfSecond = nanoOfDay % 1_000_000_000L;
+            out.write((byte) '.');
+            out.writePadded(nanoOfSecond / POWERS_OF_TEN[9 - fractionDigits], fractionDigits);
+        }
+    }
+
+    /** Writes a timestamp given as milliseconds since epoch plus nanoseconds of millisecond. */
+    static void writeTimestamp(
+            long millisecond,
+            int nanoOfMillisecond,
+            TextFormatOptions options,
+            GrowableByteBuffer out) {
+        long epochDay = Math.floorDiv(millisecond, MILLIS_PER_DAY);
+        long millisOfDay = Math.floorMod(millisecond, MILLIS_PER_DAY);
+        writeDate((int) epochDay, out);
+        out.write((byte) options.getDateTimeSeparator());
+        writeTime(
+                millisOfDay * 1_000_000L + nanoOfMillisecond,
+                options.getTimestampFractionDigits(),
+                out);
+    }
+
+    /**
+     * Returns the offset of the given zone rules at the given instant, in milliseconds. Fixed
+     * offset zones are resolved without allocating an {@link Instant}.
+     */
+    static long offsetMillis(ZoneRules rules, long epochMillisecond) {
+        if (rules.isFixedOffset()) {
+            return rules.getOffset(Instant.EPOCH).getTotalSeconds() * 1000L;
+        }
+        return rules.getOffset(Instant.ofEpochMilli(epochMillisecond)).getTotalSeconds() * 1000L;
+    }
+}
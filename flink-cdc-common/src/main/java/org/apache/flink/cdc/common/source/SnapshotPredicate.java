@@ -0,0 +1,130 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.common.source;
+
+import org.apache.flink.cdc.common.annotation.PublicEvolving;
+
+import javax.annotation.Nullable;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.util.Objects;
+
+/**
+ * A simple predicate comparing a physical column with a literal, which could be evaluated by the
+ * external system while reading snapshot data.
+ *
+ * <p>The literal is either a {@link String}, a {@link BigDecimal}, or null for {@link
+ * Operator#IS_NULL} and {@link Operator#IS_NOT_NULL}.
+ */
+@PublicEvolving
+public final class SnapshotPredicate implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    /** Supported comparison operators. */
+    public enum Operator {
+        EQUALS("="),
+        NOT_EQUALS("<>"),
+        LESS_THAN("<"),
+        LESS_THAN_OR_EQUAL("<="),
+        GREATER_THAN(">"),
+        GREATER_THAN_OR_EQUAL(">="),
+        IS_NULL("IS NULL"),
+        IS_NOT_NULL("IS NOT NULL");
+
+        private final String symbol;
+
+        Operator(String symbol) {
+            this.symbol = symbol;
+        }
+
+        public String getSymbol() {
+            return symbol;
+        }
+
+        public boolean isUnary() {
+            return this == IS_NULL || this == IS_NOT_NULL;
+        }
+    }
+
+    private final String columnName;
+    private final Operator operator;
+    @Nullable private final Object literal;
+
+    private SnapshotPredicate(String columnName, Operator operator, @Nullable Object literal) {
+        this.columnName = columnName;
+        this.operator = operator;
+        this.literal = literal;
+    }
+
+    public static SnapshotPredicate of(String columnName, Operator operator, String literal) {
+        return new SnapshotPredicate(columnName, operator, literal);
+    }
+
+    public static SnapshotPredicate of(String columnName, Operator operator, BigDecimal literal) {
+        return new SnapshotPredicate(columnName, operator, literal);
+    }
+
+    public static SnapshotPredicate isNull(String columnName) {
+        return new SnapshotPredicate(columnName, Operator.IS_NULL, null);
+    }
+
+    public static SnapshotPredicate isNotNull(String columnName) {
+        return new SnapshotPredicate(columnName, Operator.IS_NOT_NULL, null);
+    }
+
+    public String getColumnName() {
+        return columnName;
+    }
+
+    public Operator getOperator() {
+        return operator;
+    }
+
+    @Nullable
+    public Object getLiteral() {
+        return literal;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        SnapshotPredicate that = (SnapshotPredicate) o;
+        return Objects.equals(columnName, that.columnName)
+                && operator == that.operator
+                && Objects.equals(literal, that.literal);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(columnName, operator, literal);
+    }
+
+    @Override
+    public String toString() {
+        return operator.isUnary()
+                ? columnName + " " + operator.getSymbol()
+                : columnName + " " + operator.getSymbol() + " " + literal;
+    }
+}
@@ -0,0 +1,160 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.common.source;
+
+import org.apache.flink.cdc.common.annotation.PublicEvolving;
+import org.apache.flink.cdc.common.event.TableId;
+import org.apache.flink.cdc.common.schema.Selectors;
+
+import javax.annotation.Nullable;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Columns and rows required by a transform rule, which could be pushed down to the snapshot queries
+ * of tables matching {@link #getTableInclusions()}.
+ *
+ * <p>A table may be matched by several rules. A row is required if it is required by any of them,
+ * and a column is required if it is required by any of them. Tables not matched by any rule are
+ * read as is.
+ */
+@PublicEvolving
+public final class SnapshotPushDown implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private final String tableInclusions;
+    @Nullable private final Set<String> requiredColumns;
+    private final List<SnapshotPredicate> predicates;
+
+    private transient Selectors selectors;
+
+    /**
+     * @param tableInclusions table pattern of the transform rule
+     * @param requiredColumns columns referenced by the rule, or null if all columns are required
+     * @param predicates predicates the rule's filter implies, all of which should hold for a row to
+     *     be required
+     */
+    public SnapshotPushDown(
+            String tableInclusions,
+            @Nullable Set<String> requiredColumns,
+            List<SnapshotPredicate> predicates) {
+        this.tableInclusions = tableInclusions;
+        this.requiredColumns = requiredColumns;
+        this.predicates = predicates;
+    }
+
+    public String getTableInclusions() {
+        return tableInclusions;
+    }
+
+    @Nullable
+    public Set<String> getRequiredColumns() {
+        return requiredColumns;
+    }
+
+    public List<SnapshotPredicate> getPredicates() {
+        return predicates;
+    }
+
+    public boolean isMatch(TableId tableId) {
+        if (selectors == null) {
+            selectors = new Selectors.SelectorsBuilder().includeTables(tableInclusions).build();
+        }
+        return selectors.isMatch(tableId);
+    }
+
+    /**
+     * Returns the columns of given table required by any matching push-down, or empty if all
+     * columns are required.
+     */
+    public static Optional<Set<String>> resolveRequiredColumns(
+            List<SnapshotPushDown> pushDowns, TableId tableId) {
+        Set<String> requiredColumns = new HashSet<>();
+        boolean matched = false;
+        for (SnapshotPushDown pushDown : pushDowns) {
+            if (!pushDown.isMatch(tableId)) {
+                continue;
+            }
+            if (pushDown.getRequiredColumns() == null) {
+                return Optional.empty();
+            }
+            requiredColumns.addAll(pushDown.getRequiredColumns());
+            matched = true;
+        }
+        return matched ? Optional.of(requiredColumns) : Optional.empty();
+    }
+
+    /**
+     * Returns the predicates of given table in disjunctive normal form, i.e. a row is required if
+     * all predicates of any returned list hold. Returns an empty list if all rows are required.
+     */
+    public static List<List<SnapshotPredicate>> resolvePredicates(
+            List<SnapshotPushDown> pushDowns, TableId tableId) {
+        List<List<SnapshotPredicate>> disjunction = new ArrayList<>();
+        for (SnapshotPushDown pushDown : pushDowns) {
+            if (!pushDown.isMatch(tableId)) {
+                continue;
+            }
+            if (pushDown.getPredicates().isEmpty()) {
+                return Collections.emptyList();
+            }
+            disjunction.add(pushDown.getPredicates());
+        }
+        return disjunction;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        SnapshotPushDown that = (SnapshotPushDown) o;
+        return Objects.equals(tableInclusions, that.tableInclusions)
+                && Objects.equals(requiredColumns, that.requiredColumns)
+                && Objects.equals(predicates, that.predicates);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(tableInclusions, requiredColumns, predicates);
+    }
+
+    @Override
+    public String toString() {
+        return "SnapshotPushDown{"
+                + "tableInclusions='"
+                + tableInclusions
+                + '\''
+                + ", requiredColumns="
+                + requiredColumns
+                + ", predicates="
+                + predicates
+                + '}';
+    }
+}
@@ -0,0 +1,40 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.common.source;
+
+import org.apache.flink.cdc.common.annotation.PublicEvolving;
+
+import java.util.List;
+
+/**
+ * Enables a {@link DataSource} to read only the columns and rows required by transform rules during
+ * the snapshot phase.
+ *
+ * <p>Pushing down is an optimization only, the transform rules are still applied to the emitted
+ * events. A source may ignore columns or predicates it could not handle, but it must not drop any
+ * row satisfying the predicates. Columns that are not required could be emitted as null.
+ */
+@PublicEvolving
+public interface SupportsSnapshotPushDown {
+
+    /**
+     * Provides the push-downs of all transform rules. It's called before {@link
+     * DataSource#getEventSourceProvider()}.
+     */
+    void applySnapshotPushDown(List<SnapshotPushDown> pushDowns);
+}
@@ -0,0 +1,256 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.common.udf;
+
+import org.apache.flink.cdc.common.annotation.PublicEvolving;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Evaluation of {@link AsyncUserDefinedFunction}s for a micro-batch of rows, which are evaluated
+ * twice: calls of asynchronous functions are collected in the first pass, then dispatched in
+ * batches concurrently, and calls in the second pass take their results.
+ *
+ * <p>Calls that are not collected in the first pass, e.g. those taking results of other
+ * asynchronous calls as arguments, are evaluated synchronously in the second pass.
+ */
+@PublicEvolving
+public final class AsyncEvaluation {
+
+    private static final ThreadLocal<AsyncEvaluation> CURRENT = new ThreadLocal<>();
+
+    private final Map<AsyncUserDefinedFunction<?>, Map<Arguments, CompletableFuture<Object>>>
+            calls = new IdentityHashMap<>();
+
+    private boolean collecting;
+
+    private long numCollectedCalls;
+
+    /**
+     * Evaluates a call of given function. Returns null while collecting calls, the result of the
+     * call if it has been dispatched, or evaluates the call synchronously otherwise.
+     *
+     * @param function the function being called
+     * @param evaluation evaluates the call synchronously
+     * @param arguments arguments of the call, which are passed to {@link
+     *     AsyncUserDefinedFunction#evalBatch}
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> T evaluate(
+            AsyncUserDefinedFunction<T> function, Supplier<T> evaluation, Object... arguments) {
+        AsyncEvaluation current = CURRENT.get();
+        if (current == null) {
+            return evaluation.get();
+        }
+        Map<Arguments, CompletableFuture<Object>> functionCalls =
+                current.calls.computeIfAbsent(function, f -> new LinkedHashMap<>());
+        Arguments key = new Arguments(arguments);
+        if (current.collecting) {
+            current.numCollectedCalls++;
+            functionCalls.computeIfAbsent(key, k -> new CompletableFuture<>());
+            return null;
+        }
+        CompletableFuture<Object> result = functionCalls.get(key);
+        if (result == null || !result.isDone()) {
+            return evaluation.get();
+        }
+        try {
+            return (T) result.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new RuntimeException(
+                    "Failed to evaluate " + function.getClass().getName(), e.getCause());
+        }
+    }
+
+    /** Returns whether calls are being collected, whose results should not be kept. */
+    public static boolean isCollecting() {
+        AsyncEvaluation current = CURRENT.get();
+        return current != null && current.collecting;
+    }
+
+    /** Runs given action, collecting calls of asynchronous functions instead of evaluating them. */
+    public void collect(Runnable action) {
+        run(action, true);
+    }
+
+    /** Runs given action, in which calls of asynchronous functions take dispatched results. */
+    public void apply(Runnable action) {
+        run(action, false);
+    }
+
+    /** Returns whether any call has been collected. */
+    public boolean hasCalls() {
+        return calls.values().stream().anyMatch(functionCalls -> !functionCalls.isEmpty());
+    }
+
+    /**
+     * Returns the number of calls that have been collected, including duplicated ones. Rows that
+     * make no call while collecting do not depend on results of asynchronous calls.
+     */
+    public long getNumCollectedCalls() {
+        return numCollectedCalls;
+    }
+
+    /**
+     * Dispatches collected calls in batches and waits until all of them are finished, or fail after
+     * the timeout of their function. Failures are not thrown here, but by the calls taking their
+     * results.
+     */
+    public void dispatch() throws InterruptedException {
+        List<CompletableFuture<?>> batches = new ArrayList<>();
+        for (Map.Entry<AsyncUserDefinedFunction<?>, Map<Arguments, CompletableFuture<Object>>>
+                entry : calls.entrySet()) {
+            AsyncUserDefinedFunction<?> function = entry.getKey();
+            List<Map.Entry<Arguments, CompletableFuture<Object>>> pending = new ArrayList<>();
+            for (Map.Entry<Arguments, CompletableFuture<Object>> call :
+                    entry.getValue().entrySet()) {
+                if (!call.getValue().isDone()) {
+                    pending.add(call);
+                }
+            }
+            int batchSize = Math.max(1, function.getMaxBatchSize());
+            Semaphore inFlightBatches =
+                    new Semaphore(Math.max(1, function.getMaxInFlightBatches()));
+            long deadline = System.nanoTime() + toNanos(function.getTimeout());
+            for (int start = 0; start < pending.size(); start += batchSize) {
+                List<Map.Entry<Arguments, CompletableFuture<Object>>> batch =
+                        pending.subList(start, Math.min(start + batchSize, pending.size()));
+                // Batches in flight fail after the deadline, so acquiring doesn't block forever.
+                inFlightBatches.acquire();
+                batches.add(
+                        dispatchBatch(function, batch, deadline)
+                                .whenComplete((r, e) -> inFlightBatches.release()));
+            }
+        }
+        try {
+            CompletableFuture.allOf(batches.toArray(new CompletableFuture[0])).join();
+        } catch (CompletionException ignored) {
+            // failures are thrown by the calls taking their results
+        }
+    }
+
+    private static CompletableFuture<?> dispatchBatch(
+            AsyncUserDefinedFunction<?> function,
+            List<Map.Entry<Arguments, CompletableFuture<Object>>> batch,
+            long deadline) {
+        List<Object[]> arguments = new ArrayList<>(batch.size());
+        for (Map.Entry<Arguments, CompletableFuture<Object>> call : batch) {
+            arguments.add(call.getKey().values);
+        }
+        CompletableFuture<? extends List<?>> results;
+        try {
+            results = function.evalBatch(arguments);
+        } catch (RuntimeException e) {
+            results = CompletableFuture.failedFuture(e);
+        }
+        return results.copy()
+                .orTimeout(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS)
+                .whenComplete(
+                        (values, error) -> {
+                            if (error instanceof CompletionException && error.getCause() != null) {
+                                error = error.getCause();
+                            }
+                            if (error instanceof TimeoutException) {
+                                error =
+                                        new TimeoutException(
+                                                String.format(
+                                                        "%s didn't finish a batch of %d calls within %s.",
+                                                        function.getClass().getName(),
+                                                        batch.size(),
+                                                        function.getTimeout()));
+                            }
+                            if (error == null
+                                    && (values == null || values.size() != batch.size())) {
+                                error =
+                                        new IllegalStateException(
+                                                String.format(
+                                                        "%s returned %s results for a batch of %d calls.",
+                                                        function.getClass().getName(),
+                                                        values == null ? "no" : values.size(),
+                                                        batch.size()));
+                            }
+                            for (int i = 0; i < batch.size(); i++) {
+                                if (error == null) {
+                                    batch.get(i).getValue().complete(values.get(i));
+                                } else {
+                                    batch.get(i).getValue().completeExceptionally(error);
+                                }
+                            }
+                        });
+    }
+
+    private static long toNanos(Duration duration) {
+        try {
+            return duration.toNanos();
+        } catch (ArithmeticException e) {
+            return Long.MAX_VALUE / 2;
+        }
+    }
+
+    private void run(Runnable action, boolean collecting) {
+        AsyncEvaluation previous = CURRENT.get();
+        boolean previousCollecting = this.collecting;
+        CURRENT.set(this);
+        this.collecting = collecting;
+        try {
+            action.run();
+        } finally {
+            this.collecting = previousCollecting;
+            if (previous == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(previous);
+            }
+        }
+    }
+
+    /** Arguments of a call, compared by their values. */
+    private static final class Arguments {
+
+        private final Object[] values;
+
+        private Arguments(Object[] values) {
+            this.values = values;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Arguments && Arrays.deepEquals(values, ((Arguments) o).values);
+        }
+
+        @Override
+        public int hashCode() {
+            return Arrays.deepHashCode(values);
+        }
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.common.udf;
+
+import org.apache.flink.cdc.common.annotation.PublicEvolving;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * A {@link UserDefinedFunction} whose calls are expensive but could be evaluated asynchronously in
+ * batches, like invoking a remote model.
+ *
+ * <p>The transform operator collects rows into micro-batches of up to {@link #getMaxBatchSize()}
+ * times {@link #getMaxInFlightBatches()} rows, bounded by {@link #getMaxBatchDelay()}, and
+ * dispatches calls of each micro-batch with {@link #evalBatch} in batches of up to {@link
+ * #getMaxBatchSize()} calls, keeping at most {@link #getMaxInFlightBatches()} batches in flight.
+ * Calls not finished within {@link #getTimeout()} fail. Results are emitted in the order of rows.
+ * The {@code eval} methods of the function should delegate to {@link AsyncEvaluation#evaluate} to
+ * take the results of dispatched calls.
+ *
+ * @param <T> type of the results
+ */
+@PublicEvolving
+public interface AsyncUserDefinedFunction<T> extends UserDefinedFunction {
+
+    /**
+     * Evaluates a batch of calls asynchronously. Each element holds the arguments of one call,
+     * which are the same as those passed to {@link AsyncEvaluation#evaluate}, and results should be
+     * in the same order.
+     */
+    CompletableFuture<List<T>> evalBatch(List<Object[]> arguments);
+
+    /** The maximum number of calls in a batch. */
+    default int getMaxBatchSize() {
+        return 16;
+    }
+
+    /** The maximum time that a row waits for its micro-batch to be dispatched. */
+    default Duration getMaxBatchDelay() {
+        return Duration.ofMillis(100);
+    }
+
+    /** The maximum number of batches evaluated concurrently. */
+    default int getMaxInFlightBatches() {
+        return 4;
+    }
+
+    /** The maximum time to wait for the calls of a micro-batch, after which they fail. */
+    default Duration getTimeout() {
+        return Duration.ofMinutes(3);
+    }
+}
@@ -44,6 +44,15 @@ public interface UserDefinedFunction {
         open();
     }
 
+    /**
+     * Whether the UDF always returns the same result for the same arguments and has no side
+     * effects. Results of deterministic UDFs could be cached by setting the {@code cache.max-size}
+     * option of the UDF.
+     */
+    default boolean isDeterministic() {
+        return false;
+    }
+
     /** This will be invoked before a UDF got destroyed. */
     default void close() throws Exception {}
 }
@@ -0,0 +1,208 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.common.encoder;
+
+import org.apache.flink.cdc.common.data.DateData;
+import org.apache.flink.cdc.common.data.DecimalData;
+import org.apache.flink.cdc.common.data.GenericArrayData;
+import org.apache.flink.cdc.common.data.GenericMapData;
+import org.apache.flink.cdc.common.data.GenericRecordData;
+import org.apache.flink.cdc.common.data.LocalZonedTimestampData;
+import org.apache.flink.cdc.common.data.TimestampData;
+import org.apache.flink.cdc.common.data.binary.BinaryStringData;
+import org.apache.flink.cdc.common.event.AddColumnEvent;
+import org.apache.flink.cdc.common.event.CreateTableEvent;
+import org.apache.flink.cdc.common.event.TableId;
+import org.apache.flink.cdc.common.schema.Column;
+import org.apache.flink.cdc.common.schema.Schema;
+import org.apache.flink.cdc.common.types.DataTypes;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/** Tests for {@link RowEncoders}. */
+class RowEncodersTest {
+
+    private static final Schema SCHEMA =
+            Schema.newBuilder()
+                    .physicalColumn("id", DataTypes.BIGINT().notNull())
+                    .physicalColumn("name", DataTypes.STRING())
+                    .physicalColumn("price", DataTypes.DECIMAL(10, 2))
+                    .physicalColumn("flag", DataTypes.BOOLEAN())
+                    .physicalColumn("dt", DataTypes.DATE())
+                    .physicalColumn("ts", DataTypes.TIMESTAMP(3))
+                    .physicalColumn("ltz", DataTypes.TIMESTAMP_LTZ(3))
+                    .primaryKey("id")
+                    .build();
+
+    private static final GenericRecordData RECORD =
+            GenericRecordData.of(
+                    1L,
+                    BinaryStringData.fromString("a \"quoted\",\nline"),
+                    DecimalData.fromBigDecimal(new BigDecimal("-0.05"), 10, 2),
+                    true,
+                    DateData.fromLocalDate(LocalDate.of(2024, 2, 29)),
+                    TimestampData.fromLocalDateTime(
+                            LocalDateTime.of(1969, 12, 31, 23, 59, 59, 1_000_000)),
+                    LocalZonedTimestampData.fromInstant(Instant.parse("2024-01-01T00:00:00Z")));
+
+    @Test
+    void testJson() {
+        JsonRowEncoder encoder =
+                RowEncoders.json(
+                        SCHEMA,
+                        TextFormatOptions.newBuilder()
+                                .zoneId(ZoneId.of("Asia/Shanghai"))
+                                .timestampFractionDigits(3)
+                                .build());
+        GrowableByteBuffer buffer = new GrowableByteBuffer(16);
+        encoder.encode(RECORD, JsonRowEncoder.member("__op", "0"), buffer);
+        assertThat(buffer.toString())
+                .isEqualTo(
+                        "{\"id\":1,\"name\":\"a \\\"quoted\\\",\\nline\",\"price\":-0.05,"
+                                + "\"flag\":true,\"dt\":\"2024-02-29\","
+                                + "\"ts\":\"1969-12-31 23:59:59.001\","
+                                + "\"ltz\":\"2024-01-01 08:00:00.000\",\"__op\":0}");
+    }
+
+    @Test
+    void testLocalZonedTimestampZoneOverride() {
+        TextFormatOptions options =
+                TextFormatOptions.newBuilder()
+                        .zoneId(ZoneId.of("Asia/Shanghai"))
+                        .localZonedTimestampZoneId(ZoneId.of("UTC"))
+                        .timestampFractionDigits(0)
+                        .build();
+        GrowableByteBuffer buffer = new GrowableByteBuffer();
+        RowEncoders.csv(SCHEMA, options, "").encode(RECORD, buffer);
+        assertThat(buffer.toString()).endsWith(",2024-01-01 00:00:00");
+    }
+
+    @Test
+    void testJsonNulls() {
+        GenericRecordData record = GenericRecordData.of(2L, null, null, null, null, null, null);
+        GrowableByteBuffer buffer = new GrowableByteBuffer();
+        RowEncoders.ndjson(SCHEMA, TextFormatOptions.newBuilder().build()).encode(record, buffer);
+        RowEncoders.json(SCHEMA, TextFormatOptions.newBuilder().writeNullFields(false).build())
+                .encode(record, buffer);
+        assertThat(buffer.toString())
+                .isEqualTo(
+                        "{\"id\":2,\"name\":null,\"price\":null,\"flag\":null,\"dt\":null,"
+                                + "\"ts\":null,\"ltz\":null}\n{\"id\":2}");
+    }
+
+    @Test
+    void testNestedTypes() {
+        Schema schema =
+                Schema.newBuilder()
+                        .physicalColumn("arr", DataTypes.ARRAY(DataTypes.INT()))
+                        .physicalColumn("map", DataTypes.MAP(DataTypes.INT(), DataTypes.STRING()))
+                        .physicalColumn(
+                                "row",
+                                DataTypes.ROW(
+                                        DataTypes.FIELD("f0", DataTypes.STRING()),
+                                        DataTypes.FIELD("f1", DataTypes.BYTES())))
+                        .build();
+        Map<Object, Object> map = new HashMap<>();
+        map.put(1, BinaryStringData.fromString("one"));
+        GenericRecordData record =
+                GenericRecordData.of(
+                        new GenericArrayData(new Integer[] {1, null, 3}),
+                        new GenericMapData(map),
+                        GenericRecordData.of(
+                                BinaryStringData.fromString("x"), new byte[] {1, 2, 3, 4}));
+
+        GrowableByteBuffer buffer = new GrowableByteBuffer();
+        RowEncoders.json(schema, TextFormatOptions.newBuilder().build()).encode(record, buffer);
+        assertThat(buffer.toString())
+                .isEqualTo(
+                        "{\"arr\":[1,null,3],\"map\":{\"1\":\"one\"},"
+                                + "\"row\":{\"f0\":\"x\",\"f1\":\"AQIDBA==\"}}");
+
+        buffer.reset();
+        RowEncoders.json(schema, TextFormatOptions.newBuilder().nestedAsString(true).build())
+                .encode(record, buffer);
+        assertThat(buffer.toString())
+                .isEqualTo(
+                        "{\"arr\":[1,null,3],\"map\":\"{\\\"1\\\":\\\"one\\\"}\","
+                                + "\"row\":\"{\\\"f0\\\":\\\"x\\\",\\\"f1\\\":\\\"AQIDBA==\\\"}\"}");
+    }
+
+    @Test
+    void testCsv() {
+        CsvRowEncoder encoder =
+                RowEncoders.csv(
+                        SCHEMA,
+                        TextFormatOptions.newBuilder().timestampFractionDigits(0).build(),
+                        "\n");
+        GrowableByteBuffer buffer = new GrowableByteBuffer();
+        encoder.encode(RECORD, buffer);
+        encoder.encode(GenericRecordData.of(2L, null, null, null, null, null, null), buffer);
+        assertThat(buffer.toString())
+                .isEqualTo(
+                        "1,\"a \"\"quoted\"\",\nline\",-0.05,true,2024-02-29,"
+                                + "1969-12-31 23:59:59,2024-01-01 00:00:00\n"
+                                + "2,\\N,\\N,\\N,\\N,\\N,\\N\n");
+    }
+
+    @Test
+    void testRegistryRegeneratesEncoderOnSchemaChange() {
+        TableId tableId = TableId.tableId("db", "tbl");
+        RowEncoderRegistry<JsonRowEncoder> registry =
+                new RowEncoderRegistry<>(
+                        schema -> RowEncoders.json(schema, TextFormatOptions.newBuilder().build()));
+        registry.applySchemaChangeEvent(
+                new CreateTableEvent(
+                        tableId,
+                        Schema.newBuilder().physicalColumn("id", DataTypes.INT()).build()));
+        JsonRowEncoder before = registry.get(tableId);
+        registry.applySchemaChangeEvent(
+                new AddColumnEvent(
+                        tableId,
+                        Collections.singletonList(
+                                new AddColumnEvent.ColumnWithPosition(
+                                        Column.physicalColumn("name", DataTypes.STRING())))));
+        JsonRowEncoder after = registry.get(tableId);
+
+        assertThat(after).isNotSameAs(before);
+        GrowableByteBuffer buffer = new GrowableByteBuffer();
+        after.encode(GenericRecordData.of(1, BinaryStringData.fromString("n")), buffer);
+        assertThat(buffer.toString()).isEqualTo("{\"id\":1,\"name\":\"n\"}");
+    }
+
+    @Test
+    void testBufferGrowsAndNumbers() {
+        GrowableByteBuffer buffer = new GrowableByteBuffer(1);
+        buffer.writeLong(Long.MIN_VALUE);
+        buffer.write((byte) ' ');
+        buffer.writeInt(Integer.MIN_VALUE);
+        buffer.write((byte) ' ');
+        buffer.writeUtf8("é中😀");
+        assertThat(buffer.toString()).isEqualTo(Long.MIN_VALUE + " " + Integer.MIN_VALUE + " é中😀");
+    }
+}
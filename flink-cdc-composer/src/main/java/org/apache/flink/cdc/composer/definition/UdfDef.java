@@ -17,6 +17,8 @@
 
 package org.apache.flink.cdc.composer.definition;
 
+import java.util.Collections;
+import java.util.Map;
 import java.util.Objects;
 
 /**
@@ -27,15 +29,22 @@ import java.util.Objects;
  * <ul>
  *   <li>name: Static method name of user-defined functions.
  *   <li>classpath: Fully-qualified class path of package containing given function.
+ *   <li>parameters: Options of the function, like those of its result cache.
  * </ul>
  */
 public class UdfDef {
     private final String name;
     private final String classpath;
+    private final Map<String, String> parameters;
 
     public UdfDef(String name, String classpath) {
+        this(name, classpath, Collections.emptyMap());
+    }
+
+    public UdfDef(String name, String classpath, Map<String, String> parameters) {
         this.name = name;
         this.classpath = classpath;
+        this.parameters = parameters;
     }
 
     public String getName() {
@@ -46,6 +55,10 @@ public class UdfDef {
         return classpath;
     }
 
+    public Map<String, String> getParameters() {
+        return parameters;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) {
@@ -56,16 +69,27 @@ public class UdfDef {
         }
 
         UdfDef udfDef = (UdfDef) o;
-        return Objects.equals(name, udfDef.name) && Objects.equals(classpath, udfDef.classpath);
+        return Objects.equals(name, udfDef.name)
+                && Objects.equals(classpath, udfDef.classpath)
+                && Objects.equals(parameters, udfDef.parameters);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(name, classpath);
+        return Objects.hash(name, classpath, parameters);
     }
 
     @Override
     public String toString() {
-        return "UdfDef{" + "name='" + name + '\'' + ", classpath='" + classpath + '\'' + '}';
+        return "UdfDef{"
+                + "name='"
+                + name
+                + '\''
+                + ", classpath='"
+                + classpath
+                + '\''
+                + ", parameters="
+                + parameters
+                + '}';
     }
 }
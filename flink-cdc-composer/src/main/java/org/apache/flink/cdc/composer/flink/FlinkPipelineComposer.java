@@ -26,6 +26,7 @@ import org.apache.flink.cdc.common.pipeline.RuntimeExecutionMode;
 import org.apache.flink.cdc.common.pipeline.SchemaChangeBehavior;
 import org.apache.flink.cdc.common.sink.DataSink;
 import org.apache.flink.cdc.common.source.DataSource;
+import org.apache.flink.cdc.common.source.SupportsSnapshotPushDown;
 import org.apache.flink.cdc.composer.PipelineComposer;
 import org.apache.flink.cdc.composer.PipelineExecution;
 import org.apache.flink.cdc.composer.definition.PipelineDef;
@@ -171,6 +172,14 @@ public class FlinkPipelineComposer implements PipelineComposer {
 
         boolean isParallelMetadataSource = dataSource.isParallelMetadataSource();
 
+        if (dataSource instanceof SupportsSnapshotPushDown) {
+            ((SupportsSnapshotPushDown) dataSource)
+                    .applySnapshotPushDown(
+                            transformTranslator.generateSnapshotPushDowns(
+                                    pipelineDef.getTransforms(),
+                                    dataSource.supportedMetadataColumns()));
+        }
+
         // O ---> Source
         DataStream<Event> stream =
                 sourceTranslator.translate(
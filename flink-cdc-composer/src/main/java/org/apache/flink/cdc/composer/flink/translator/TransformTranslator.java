@@ -19,7 +19,9 @@ package org.apache.flink.cdc.composer.flink.translator;
 
 import org.apache.flink.api.java.tuple.Tuple3;
 import org.apache.flink.cdc.common.event.Event;
+import org.apache.flink.cdc.common.source.SnapshotPushDown;
 import org.apache.flink.cdc.common.source.SupportedMetadataColumn;
+import org.apache.flink.cdc.common.source.SupportsSnapshotPushDown;
 import org.apache.flink.cdc.composer.definition.ModelDef;
 import org.apache.flink.cdc.composer.definition.TransformDef;
 import org.apache.flink.cdc.composer.definition.UdfDef;
@@ -27,6 +29,7 @@ import org.apache.flink.cdc.runtime.operators.transform.PostTransformOperator;
 import org.apache.flink.cdc.runtime.operators.transform.PostTransformOperatorBuilder;
 import org.apache.flink.cdc.runtime.operators.transform.PreTransformOperator;
 import org.apache.flink.cdc.runtime.operators.transform.PreTransformOperatorBuilder;
+import org.apache.flink.cdc.runtime.parser.TransformParser;
 import org.apache.flink.cdc.runtime.typeutils.EventTypeInfo;
 import org.apache.flink.streaming.api.datastream.DataStream;
 
@@ -90,6 +93,23 @@ public class TransformTranslator {
         return preTransformFunctionBuilder.build();
     }
 
+    /**
+     * Generates the {@link SnapshotPushDown}s of given transforms for sources implementing {@link
+     * SupportsSnapshotPushDown}.
+     */
+    public List<SnapshotPushDown> generateSnapshotPushDowns(
+            List<TransformDef> transforms, SupportedMetadataColumn[] supportedMetadataColumns) {
+        return transforms.stream()
+                .map(
+                        transform ->
+                                TransformParser.generateSnapshotPushDown(
+                                        transform.getSourceTable(),
+                                        transform.getProjection(),
+                                        transform.getFilter(),
+                                        supportedMetadataColumns))
+                .collect(Collectors.toList());
+    }
+
     public DataStream<Event> translatePostTransform(
             DataStream<Event> input,
             List<TransformDef> transforms,
@@ -133,6 +153,6 @@ public class TransformTranslator {
     }
 
     private Tuple3<String, String, Map<String, String>> udfDefToUDFTuple(UdfDef udf) {
-        return Tuple3.of(udf.getName(), udf.getClasspath(), new HashMap<>());
+        return Tuple3.of(udf.getName(), udf.getClasspath(), new HashMap<>(udf.getParameters()));
     }
 }
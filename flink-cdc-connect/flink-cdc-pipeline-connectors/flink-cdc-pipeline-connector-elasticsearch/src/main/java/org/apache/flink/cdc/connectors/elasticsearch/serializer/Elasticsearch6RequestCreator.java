@@ -20,11 +20,16 @@ package org.apache.flink.cdc.connectors.elasticsearch.serializer;
 import org.apache.flink.elasticsearch6.shaded.org.elasticsearch.action.delete.DeleteRequest;
 import org.apache.flink.elasticsearch6.shaded.org.elasticsearch.action.index.IndexRequest;
 import org.apache.flink.elasticsearch6.shaded.org.elasticsearch.client.Requests;
+import org.apache.flink.elasticsearch6.shaded.org.elasticsearch.common.xcontent.XContentType;
 
 import co.elastic.clients.elasticsearch.core.bulk.DeleteOperation;
 import co.elastic.clients.elasticsearch.core.bulk.IndexOperation;
+import co.elastic.clients.util.BinaryData;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.Map;
 
 /**
@@ -44,6 +49,15 @@ public class Elasticsearch6RequestCreator {
      * @return IndexRequest object.
      */
     public static IndexRequest createIndexRequest(IndexOperation<?> operation) {
+        if (operation.document() instanceof BinaryData) {
+            // The document is already encoded as JSON, pass it through as is
+            return Requests.indexRequest()
+                    .index(operation.index())
+                    .type("_doc")
+                    .id(operation.id())
+                    .source(toBytes((BinaryData) operation.document()), XContentType.JSON);
+        }
+
         // Convert the document to Map<String, Object>
         Map<String, Object> documentMap =
                 objectMapper.convertValue(operation.document(), Map.class);
@@ -56,6 +70,16 @@ public class Elasticsearch6RequestCreator {
                 .source(documentMap);
     }
 
+    private static byte[] toBytes(BinaryData data) {
+        try {
+            ByteArrayOutputStream out = new ByteArrayOutputStream((int) data.size());
+            data.writeTo(out);
+            return out.toByteArray();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
     /**
      * Creates an Elasticsearch 6 DeleteRequest.
      *
@@ -20,29 +20,30 @@ package org.apache.flink.cdc.connectors.elasticsearch.serializer;
 import org.apache.flink.api.connector.sink2.Sink;
 import org.apache.flink.api.connector.sink2.SinkWriter;
 import org.apache.flink.cdc.common.data.RecordData;
-import org.apache.flink.cdc.common.event.AddColumnEvent;
+import org.apache.flink.cdc.common.encoder.GrowableByteBuffer;
+import org.apache.flink.cdc.common.encoder.JsonRowEncoder;
+import org.apache.flink.cdc.common.encoder.RowEncoderRegistry;
+import org.apache.flink.cdc.common.encoder.RowEncoders;
+import org.apache.flink.cdc.common.encoder.TextFormatOptions;
 import org.apache.flink.cdc.common.event.CreateTableEvent;
 import org.apache.flink.cdc.common.event.DataChangeEvent;
-import org.apache.flink.cdc.common.event.DropColumnEvent;
 import org.apache.flink.cdc.common.event.Event;
 import org.apache.flink.cdc.common.event.OperationType;
-import org.apache.flink.cdc.common.event.RenameColumnEvent;
 import org.apache.flink.cdc.common.event.SchemaChangeEvent;
 import org.apache.flink.cdc.common.event.TableId;
 import org.apache.flink.cdc.common.schema.Column;
 import org.apache.flink.cdc.common.schema.Schema;
 import org.apache.flink.cdc.common.utils.Preconditions;
-import org.apache.flink.cdc.common.utils.SchemaUtils;
 import org.apache.flink.connector.base.sink.writer.ElementConverter;
 
 import co.elastic.clients.elasticsearch.core.bulk.BulkOperationVariant;
 import co.elastic.clients.elasticsearch.core.bulk.DeleteOperation;
 import co.elastic.clients.elasticsearch.core.bulk.IndexOperation;
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import co.elastic.clients.util.BinaryData;
+import co.elastic.clients.util.ContentType;
 
-import java.io.IOException;
 import java.time.ZoneId;
+import java.time.ZoneOffset;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -57,8 +58,6 @@ import static org.apache.flink.cdc.connectors.elasticsearch.sink.ElasticsearchDa
 
 /** A serializer for Event to BulkOperationVariant. */
 public class ElasticsearchEventSerializer implements ElementConverter<Event, BulkOperationVariant> {
-    private final ObjectMapper objectMapper = new ObjectMapper();
-    private final Map<TableId, Schema> schemaMaps = new HashMap<>();
     private final ConcurrentHashMap<TableId, List<ElasticsearchRowConverter.SerializationConverter>>
             converterCache = new ConcurrentHashMap<>();
 
@@ -76,6 +75,12 @@ public class ElasticsearchEventSerializer implements ElementConverter<Event, Bul
     private final Map<TableId, String> shardingKey;
     private final String shardingSeparator;
 
+    /** Encoders that write the documents as JSON directly from the records, created lazily. */
+    private transient RowEncoderRegistry<JsonRowEncoder> encoders;
+
+    /** Reusable buffer the documents are encoded into. */
+    private transient GrowableByteBuffer buffer;
+
     public ElasticsearchEventSerializer(ZoneId zoneId) {
         this(zoneId, Collections.emptyMap(), SHARDING_SUFFIX_SEPARATOR.defaultValue());
     }
@@ -89,62 +94,35 @@ public class ElasticsearchEventSerializer implements ElementConverter<Event, Bul
 
     @Override
     public BulkOperationVariant apply(Event event, SinkWriter.Context context) {
-        try {
-            if (event instanceof DataChangeEvent) {
-                return createBulkOperationVariant((DataChangeEvent) event);
-            } else if (event instanceof SchemaChangeEvent) {
-                IndexOperation<Map<String, Object>> indexOperation =
-                        applySchemaChangeEvent((SchemaChangeEvent) event);
-                if (indexOperation != null) {
-                    return indexOperation;
-                }
-            }
-        } catch (IOException e) {
-            throw new RuntimeException("Failed to serialize event", e);
+        if (event instanceof DataChangeEvent) {
+            return createBulkOperationVariant((DataChangeEvent) event);
+        } else if (event instanceof SchemaChangeEvent) {
+            applySchemaChangeEvent((SchemaChangeEvent) event);
         }
         return null;
     }
 
-    private IndexOperation<Map<String, Object>> applySchemaChangeEvent(
-            SchemaChangeEvent schemaChangeEvent) throws IOException {
+    private void applySchemaChangeEvent(SchemaChangeEvent schemaChangeEvent) {
         TableId tableId = schemaChangeEvent.tableId();
-        if (schemaChangeEvent instanceof CreateTableEvent) {
-            Schema schema = ((CreateTableEvent) schemaChangeEvent).getSchema();
-            schemaMaps.put(tableId, schema);
-            // Cache new converters
-            getOrCreateConverters(tableId, schema);
-        } else if (schemaChangeEvent instanceof AddColumnEvent
-                || schemaChangeEvent instanceof DropColumnEvent
-                || schemaChangeEvent instanceof RenameColumnEvent) {
-            if (!schemaMaps.containsKey(tableId)) {
-                throw new RuntimeException("Schema of " + tableId + " does not exist.");
-            }
-            Schema updatedSchema =
-                    SchemaUtils.applySchemaChangeEvent(schemaMaps.get(tableId), schemaChangeEvent);
-            schemaMaps.put(tableId, updatedSchema);
+        if (!(schemaChangeEvent instanceof CreateTableEvent)
+                && getEncoders().getSchema(tableId) == null) {
+            throw new RuntimeException("Schema of " + tableId + " does not exist.");
+        }
+        getEncoders().applySchemaChangeEvent(schemaChangeEvent);
+        Schema updatedSchema = getEncoders().getSchema(tableId);
+        if (updatedSchema != null) {
             // Update cached converters
             getOrCreateConverters(tableId, updatedSchema);
         } else {
-            if (!schemaMaps.containsKey(tableId)) {
-                throw new RuntimeException("Schema of " + tableId + " does not exist.");
-            }
-            Schema updatedSchema =
-                    SchemaUtils.applySchemaChangeEvent(schemaMaps.get(tableId), schemaChangeEvent);
-            schemaMaps.put(tableId, updatedSchema);
-            // Update cached converters
-            getOrCreateConverters(tableId, updatedSchema);
+            converterCache.remove(tableId);
         }
-        return null;
     }
 
-    private BulkOperationVariant createBulkOperationVariant(DataChangeEvent event)
-            throws JsonProcessingException {
+    private BulkOperationVariant createBulkOperationVariant(DataChangeEvent event) {
         TableId tableId = event.tableId();
-        Schema schema = schemaMaps.get(tableId);
-        Preconditions.checkNotNull(schema, event.tableId() + " does not exist.");
-        // Ensure converters are cached
-        getOrCreateConverters(tableId, schema);
-        Map<String, Object> valueMap;
+        JsonRowEncoder encoder = getEncoders().get(tableId);
+        Preconditions.checkNotNull(encoder, event.tableId() + " does not exist.");
+        Schema schema = encoder.getSchema();
         OperationType op = event.op();
         Object[] uniqueId =
                 generateUniqueId(
@@ -156,11 +134,16 @@ public class ElasticsearchEventSerializer implements ElementConverter<Event, Bul
             case INSERT:
             case REPLACE:
             case UPDATE:
-                valueMap = serializeRecord(tableId, event.after(), schema, pipelineZoneId);
-                return new IndexOperation.Builder<>()
-                        .index(tableSharding(tableId, schema, valueMap))
+                RecordData after = event.after();
+                Preconditions.checkState(
+                        schema.getColumnCount() == after.getArity(),
+                        "Column size does not match the data size.");
+                buffer.reset();
+                encoder.encode(after, buffer);
+                return new IndexOperation.Builder<BinaryData>()
+                        .index(tableSharding(tableId, schema, after))
                         .id(id)
-                        .document(valueMap)
+                        .document(BinaryData.of(buffer.toByteArray(), ContentType.APPLICATION_JSON))
                         .build();
             case DELETE:
                 return new DeleteOperation.Builder().index(tableId.toString()).id(id).build();
@@ -169,13 +152,50 @@ public class ElasticsearchEventSerializer implements ElementConverter<Event, Bul
         }
     }
 
+    private RowEncoderRegistry<JsonRowEncoder> getEncoders() {
+        if (encoders == null) {
+            // Keep the textual representation of ElasticsearchRowConverter, so that documents
+            // still match the mappings of existing indices. It has always written TIMESTAMP_LTZ
+            // values as their UTC wall-clock time, regardless of the pipeline time zone.
+            TextFormatOptions options =
+                    TextFormatOptions.newBuilder()
+                            .zoneId(pipelineZoneId)
+                            .localZonedTimestampZoneId(ZoneOffset.UTC)
+                            .timestampFractionDigits(6)
+                            .decimalAsString(true)
+                            .nestedAsString(true)
+                            .build();
+            encoders = new RowEncoderRegistry<>(schema -> RowEncoders.json(schema, options));
+            buffer = new GrowableByteBuffer();
+        }
+        return encoders;
+    }
+
+    private String tableSharding(TableId tableId, Schema schema, RecordData recordData) {
+        String column = shardingColumn(tableId, schema);
+        int index = column == null ? -1 : schema.getColumnNames().indexOf(column);
+        Object value =
+                index < 0
+                        ? null
+                        : converterCache.get(tableId).get(index).serialize(index, recordData);
+        return shardedIndex(tableId, value);
+    }
+
     public String tableSharding(TableId tableId, Schema schema, Map<String, Object> valueMap) {
-        Object value = null;
+        String column = shardingColumn(tableId, schema);
+        return shardedIndex(tableId, column == null ? null : valueMap.get(column));
+    }
+
+    private String shardingColumn(TableId tableId, Schema schema) {
         if (shardingKey.containsKey(tableId)) {
-            value = valueMap.get(shardingKey.get(tableId));
+            return shardingKey.get(tableId);
         } else if (!schema.partitionKeys().isEmpty()) {
-            value = valueMap.get(schema.partitionKeys().get(0));
+            return schema.partitionKeys().get(0);
         }
+        return null;
+    }
+
+    private String shardedIndex(TableId tableId, Object value) {
         return value != null ? tableId.toString() + shardingSeparator + value : tableId.toString();
     }
 
@@ -19,6 +19,7 @@ package org.apache.flink.cdc.connectors.elasticsearch.sink;
 
 import org.apache.flink.api.connector.sink2.SinkWriter;
 import org.apache.flink.cdc.common.data.DateData;
+import org.apache.flink.cdc.common.data.LocalZonedTimestampData;
 import org.apache.flink.cdc.common.data.ZonedTimestampData;
 import org.apache.flink.cdc.common.data.binary.BinaryStringData;
 import org.apache.flink.cdc.common.event.CreateTableEvent;
@@ -29,10 +30,20 @@ import org.apache.flink.cdc.common.types.DataType;
 import org.apache.flink.cdc.common.types.DataTypes;
 import org.apache.flink.cdc.common.types.RowType;
 import org.apache.flink.cdc.connectors.elasticsearch.serializer.ElasticsearchEventSerializer;
+import org.apache.flink.cdc.connectors.elasticsearch.v2.Operation;
+import org.apache.flink.cdc.connectors.elasticsearch.v2.OperationSerializer;
 import org.apache.flink.cdc.runtime.typeutils.BinaryRecordDataGenerator;
 
+import co.elastic.clients.elasticsearch.core.bulk.BulkOperationVariant;
+import co.elastic.clients.elasticsearch.core.bulk.IndexOperation;
+import co.elastic.clients.util.BinaryData;
 import org.junit.jupiter.api.Test;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
@@ -105,6 +116,93 @@ public class ElasticsearchEventSerializerTest {
         assertThat(serializer.apply(createTableEvent, new MockContext())).isNull();
     }
 
+    @Test
+    void testDocumentIsEncodedAsJson() throws Exception {
+        Schema tableSchema =
+                Schema.newBuilder()
+                        .physicalColumn("id", DataTypes.INT().notNull())
+                        .physicalColumn("name", DataTypes.VARCHAR(255))
+                        .physicalColumn("dt", DataTypes.DATE())
+                        .primaryKey("id")
+                        .build();
+        BinaryRecordDataGenerator generator =
+                new BinaryRecordDataGenerator(
+                        RowType.of(
+                                new DataType[] {
+                                    DataTypes.INT().notNull(),
+                                    DataTypes.VARCHAR(255),
+                                    DataTypes.DATE()
+                                }));
+        ElasticsearchEventSerializer serializer =
+                new ElasticsearchEventSerializer(ZoneId.of("UTC"));
+        serializer.apply(new CreateTableEvent(tableId, tableSchema), new MockContext());
+        BulkOperationVariant operation =
+                serializer.apply(
+                        DataChangeEvent.insertEvent(
+                                tableId,
+                                generator.generate(
+                                        new Object[] {
+                                            1,
+                                            BinaryStringData.fromString("a\"b"),
+                                            DateData.fromLocalDate(LocalDate.of(2025, 1, 1))
+                                        })),
+                        new MockContext());
+
+        // the operation must survive a round trip through the sink writer state
+        OperationSerializer operationSerializer = new OperationSerializer();
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        operationSerializer.serialize(new Operation(operation), new DataOutputStream(bytes));
+        Operation restored =
+                operationSerializer.deserialize(
+                        bytes.size(),
+                        new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())));
+
+        IndexOperation<?> indexOperation = (IndexOperation<?>) restored.getBulkOperationVariant();
+        assertThat(indexOperation.id()).isEqualTo("1");
+        ByteArrayOutputStream document = new ByteArrayOutputStream();
+        ((BinaryData) indexOperation.document()).writeTo(document);
+        assertThat(document.toString("UTF-8"))
+                .isEqualTo("{\"id\":1,\"name\":\"a\\\"b\",\"dt\":\"2025-01-01\"}");
+    }
+
+    @Test
+    void testLocalZonedTimestampIgnoresPipelineTimeZone() throws Exception {
+        Schema tableSchema =
+                Schema.newBuilder()
+                        .physicalColumn("id", DataTypes.INT().notNull())
+                        .physicalColumn("ts", DataTypes.TIMESTAMP_LTZ(3))
+                        .primaryKey("id")
+                        .build();
+        BinaryRecordDataGenerator generator =
+                new BinaryRecordDataGenerator(
+                        RowType.of(
+                                new DataType[] {
+                                    DataTypes.INT().notNull(), DataTypes.TIMESTAMP_LTZ(3)
+                                }));
+        // documents of existing indices were written with the UTC wall-clock time
+        ElasticsearchEventSerializer serializer =
+                new ElasticsearchEventSerializer(ZoneId.of("Asia/Shanghai"));
+        serializer.apply(new CreateTableEvent(tableId, tableSchema), new MockContext());
+        IndexOperation<?> operation =
+                (IndexOperation<?>)
+                        serializer.apply(
+                                DataChangeEvent.insertEvent(
+                                        tableId,
+                                        generator.generate(
+                                                new Object[] {
+                                                    1,
+                                                    LocalZonedTimestampData.fromInstant(
+                                                            Instant.parse(
+                                                                    "2023-11-11T11:11:11.123Z"))
+                                                })),
+                                new MockContext());
+
+        ByteArrayOutputStream document = new ByteArrayOutputStream();
+        ((BinaryData) operation.document()).writeTo(document);
+        assertThat(document.toString("UTF-8"))
+                .isEqualTo("{\"id\":1,\"ts\":\"2023-11-11 11:11:11.123000\"}");
+    }
+
     private String getShardingString(Map<TableId, String> shardingKey, String shardingSeparator) {
         RowType rowType =
                 RowType.of(
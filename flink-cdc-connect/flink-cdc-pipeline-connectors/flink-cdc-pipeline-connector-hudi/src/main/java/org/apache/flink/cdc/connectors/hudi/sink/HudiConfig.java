@@ -86,4 +86,17 @@ public class HudiConfig {
 
     public static final ConfigOption<Integer> WRITE_TASKS =
             intOption(FlinkOptions.WRITE_TASKS.key(), 4, FlinkOptions.WRITE_TASKS.description());
+
+    // Multi-table Write Options
+    public static final ConfigOption<Integer> WRITE_MULTI_TABLE_MAX_SIZE =
+            ConfigOptions.key("write.multi-table.max.size")
+                    .intType()
+                    .defaultValue(0)
+                    .withDescription(
+                            "Maximum memory in MB shared by the write buffers of all tables in a write task. "
+                                    + "When it is exceeded, the tables with the largest buffers are flushed first, "
+                                    + "all buckets of a table at once as for flush events. "
+                                    + "Defaults to 0, which disables the shared budget, so only the per-table "
+                                    + FlinkOptions.WRITE_TASK_MAX_SIZE.key()
+                                    + " applies.");
 }
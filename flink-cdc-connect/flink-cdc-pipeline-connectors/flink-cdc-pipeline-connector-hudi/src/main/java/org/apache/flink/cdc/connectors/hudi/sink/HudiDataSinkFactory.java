@@ -89,6 +89,7 @@ public class HudiDataSinkFactory implements DataSinkFactory {
         Set<ConfigOption<?>> options = new HashSet<>();
         options.add(HudiConfig.TABLE_TYPE);
         options.add(HudiConfig.INDEX_TYPE);
+        options.add(HudiConfig.WRITE_MULTI_TABLE_MAX_SIZE);
         return options;
     }
 }
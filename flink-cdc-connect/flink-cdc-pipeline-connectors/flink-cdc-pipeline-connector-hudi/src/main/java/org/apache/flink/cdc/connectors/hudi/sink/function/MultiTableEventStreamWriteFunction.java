@@ -22,6 +22,8 @@ import org.apache.flink.api.common.state.ListStateDescriptor;
 import org.apache.flink.api.common.typeutils.TypeSerializer;
 import org.apache.flink.api.java.tuple.Tuple2;
 import org.apache.flink.api.java.typeutils.runtime.TupleSerializer;
+import org.apache.flink.cdc.common.data.RecordData;
+import org.apache.flink.cdc.common.data.binary.BinaryRecordData;
 import org.apache.flink.cdc.common.event.CreateTableEvent;
 import org.apache.flink.cdc.common.event.DataChangeEvent;
 import org.apache.flink.cdc.common.event.Event;
@@ -31,6 +33,7 @@ import org.apache.flink.cdc.common.event.TableId;
 import org.apache.flink.cdc.common.schema.Schema;
 import org.apache.flink.cdc.common.utils.Preconditions;
 import org.apache.flink.cdc.common.utils.SchemaUtils;
+import org.apache.flink.cdc.connectors.hudi.sink.HudiConfig;
 import org.apache.flink.cdc.connectors.hudi.sink.event.EnhancedWriteMetadataEvent;
 import org.apache.flink.cdc.connectors.hudi.sink.event.HudiRecordEventSerializer;
 import org.apache.flink.cdc.connectors.hudi.sink.event.TableAwareCorrespondent;
@@ -40,6 +43,8 @@ import org.apache.flink.cdc.runtime.operators.sink.SchemaEvolutionClient;
 import org.apache.flink.cdc.runtime.serializer.TableIdSerializer;
 import org.apache.flink.cdc.runtime.serializer.schema.SchemaSerializer;
 import org.apache.flink.configuration.Configuration;
+import org.apache.flink.metrics.Gauge;
+import org.apache.flink.metrics.MetricGroup;
 import org.apache.flink.runtime.operators.coordination.OperatorEvent;
 import org.apache.flink.runtime.operators.coordination.OperatorEventGateway;
 import org.apache.flink.runtime.state.FunctionInitializationContext;
@@ -53,6 +58,7 @@ import org.apache.flink.util.OutputTag;
 
 import org.apache.hudi.client.model.HoodieFlinkInternalRow;
 import org.apache.hudi.configuration.FlinkOptions;
+import org.apache.hudi.index.bucket.BucketIdentifier;
 import org.apache.hudi.sink.common.AbstractStreamWriteFunction;
 import org.apache.hudi.sink.event.WriteMetadataEvent;
 import org.slf4j.Logger;
@@ -60,8 +66,10 @@ import org.slf4j.LoggerFactory;
 
 import java.time.ZoneId;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 /**
  * Multi-table wrapper function that routes events to table-specific
@@ -75,6 +83,16 @@ public class MultiTableEventStreamWriteFunction extends AbstractStreamWriteFunct
     private static final Logger LOG =
             LoggerFactory.getLogger(MultiTableEventStreamWriteFunction.class);
 
+    /** Buffers are flushed until this fraction of the shared budget is left in use. */
+    private static final double BUFFER_FLUSH_RATIO = 0.8;
+
+    /** Estimated bytes buffered per record besides its row, e.g. record key and partition path. */
+    private static final long RECORD_OVERHEAD_BYTES = 64;
+
+    public static final String TOTAL_BUFFERED_BYTES = "totalBufferedBytes";
+
+    public static final String BUFFERED_BYTES = "bufferedBytes";
+
     /** Table-specific write functions created dynamically when new tables are encountered. */
     private transient Map<TableId, ExtendedBucketStreamWriteFunction> tableFunctions;
 
@@ -98,6 +116,12 @@ public class MultiTableEventStreamWriteFunction extends AbstractStreamWriteFunct
     /** Store the function initialization context for table functions. */
     private transient FunctionInitializationContext functionInitializationContext;
 
+    /** Write buffer budget shared by all table functions, null if disabled. */
+    private transient WriteBufferBudget bufferBudget;
+
+    /** Tables whose buffer metrics have been registered. */
+    private transient Set<TableId> tablesWithMetrics;
+
     public MultiTableEventStreamWriteFunction(Configuration config) {
         super(config);
     }
@@ -162,6 +186,19 @@ public class MultiTableEventStreamWriteFunction extends AbstractStreamWriteFunct
             this.schemaMaps = new HashMap<>();
         }
         this.tableConfigurations = new HashMap<>();
+        int maxBufferSizeMb =
+                config.getInteger(
+                        HudiConfig.WRITE_MULTI_TABLE_MAX_SIZE.key(),
+                        HudiConfig.WRITE_MULTI_TABLE_MAX_SIZE.defaultValue());
+        if (maxBufferSizeMb > 0) {
+            this.bufferBudget =
+                    new WriteBufferBudget(maxBufferSizeMb * 1024L * 1024L, BUFFER_FLUSH_RATIO);
+            this.tablesWithMetrics = new HashSet<>();
+            getRuntimeContext()
+                    .getMetricGroup()
+                    .gauge(TOTAL_BUFFERED_BYTES, (Gauge<Long>) bufferBudget::getTotalBytes);
+            LOG.info("Shared write buffer budget of {} MB enabled", maxBufferSizeMb);
+        }
         // Initialize record serializer (must be done in open() since it's transient)
         this.recordSerializer = new HudiRecordEventSerializer(ZoneId.systemDefault());
 
@@ -304,6 +341,9 @@ public class MultiTableEventStreamWriteFunction extends AbstractStreamWriteFunct
 
                 // Remove the old function - a new one will be created with the new schema
                 tableFunctions.remove(tableId);
+                if (bufferBudget != null) {
+                    bufferBudget.release(tableId);
+                }
                 LOG.info(
                         "Removed old table function for table: {}. New function will be created with updated schema on next data event.",
                         tableId);
@@ -362,6 +402,14 @@ public class MultiTableEventStreamWriteFunction extends AbstractStreamWriteFunct
 
             tableFunction.processElement(hoodieFlinkInternalRow, adaptedContext, out);
 
+            if (bufferBudget != null) {
+                bufferBudget.add(
+                        tableId, bucketOf(hoodieFlinkInternalRow), estimateBufferedBytes(event));
+                if (bufferBudget.isExceeded()) {
+                    flushLargestBuffers();
+                }
+            }
+
             LOG.debug("Successfully processed change event for table: {}", tableId);
 
         } catch (Exception e) {
@@ -428,6 +476,62 @@ public class MultiTableEventStreamWriteFunction extends AbstractStreamWriteFunct
         }
     }
 
+    /**
+     * Flushes the tables with the largest buffers once the shared budget is exceeded, so that the
+     * sum of the per-table buffers stays bounded no matter how many tables this task writes. The
+     * write functions only expose the flush of all their buckets, so a table is flushed as a whole
+     * like for flush events.
+     */
+    private void flushLargestBuffers() {
+        for (TableId tableId : bufferBudget.tablesToFlush()) {
+            ExtendedBucketStreamWriteFunction tableFunction = tableFunctions.get(tableId);
+            if (tableFunction != null) {
+                LOG.debug(
+                        "Shared write buffer budget exceeded, flushing {} bytes of table {}",
+                        bufferBudget.getBufferedBytes(tableId),
+                        tableId);
+                tableFunction.flushRemaining(false);
+            }
+            bufferBudget.release(tableId);
+        }
+    }
+
+    /**
+     * Returns the bucket the write function of the table buffered the row in. The bucket write
+     * function has already located the row in the file group of its bucket, so the bucket is taken
+     * from the file id instead of hashing the record key again.
+     */
+    private static String bucketOf(HoodieFlinkInternalRow row) {
+        return WriteBufferBudget.bucketOf(
+                row.getPartitionPath(), BucketIdentifier.bucketIdFromFileId(row.getFileId()));
+    }
+
+    private static long estimateBufferedBytes(DataChangeEvent event) {
+        RecordData record = event.after() != null ? event.after() : event.before();
+        if (record instanceof BinaryRecordData) {
+            return ((BinaryRecordData) record).getSizeInBytes() + RECORD_OVERHEAD_BYTES;
+        }
+        return record.getArity() * 8L + RECORD_OVERHEAD_BYTES;
+    }
+
+    private void registerBufferMetrics(TableId tableId) {
+        if (bufferBudget == null || !tablesWithMetrics.add(tableId)) {
+            return;
+        }
+        MetricGroup tableMetricGroup =
+                getRuntimeContext()
+                        .getMetricGroup()
+                        .addGroup(
+                                "namespace",
+                                tableId.getNamespace() == null ? "" : tableId.getNamespace())
+                        .addGroup(
+                                "schema",
+                                tableId.getSchemaName() == null ? "" : tableId.getSchemaName())
+                        .addGroup("table", tableId.getTableName());
+        tableMetricGroup.gauge(
+                BUFFERED_BYTES, (Gauge<Long>) () -> bufferBudget.getBufferedBytes(tableId));
+    }
+
     private ExtendedBucketStreamWriteFunction getOrCreateTableFunction(TableId tableId) {
         ExtendedBucketStreamWriteFunction existingFunction = tableFunctions.get(tableId);
         if (existingFunction != null) {
@@ -438,6 +542,7 @@ public class MultiTableEventStreamWriteFunction extends AbstractStreamWriteFunct
         try {
             ExtendedBucketStreamWriteFunction tableFunction = createTableFunction(tableId);
             tableFunctions.put(tableId, tableFunction);
+            registerBufferMetrics(tableId);
             LOG.info("Successfully created and cached table function for: {}", tableId);
             return tableFunction;
         } catch (Exception e) {
@@ -488,7 +593,8 @@ public class MultiTableEventStreamWriteFunction extends AbstractStreamWriteFunct
         // with the table path
         String tablePath = tableConfig.getString(FlinkOptions.PATH);
         tableFunction.setOperatorEventGateway(
-                new InterceptingGateway(this.getOperatorEventGateway(), tablePath));
+                new InterceptingGateway(
+                        this.getOperatorEventGateway(), tableId, tablePath, bufferBudget));
 
         try {
             tableFunction.initializeState(functionInitializationContext);
@@ -636,20 +742,32 @@ public class MultiTableEventStreamWriteFunction extends AbstractStreamWriteFunct
     /**
      * A proxy {@link OperatorEventGateway} that intercepts {@link WriteMetadataEvent}s from child
      * functions. It wraps them in an {@link EnhancedWriteMetadataEvent} to add the table path,
-     * which is essential for the multi-table coordinator to route the event correctly.
+     * which is essential for the multi-table coordinator to route the event correctly. The buckets
+     * flushed by the event are released from the shared write buffer budget, if any.
      */
     private static class InterceptingGateway implements OperatorEventGateway {
         private final OperatorEventGateway delegate;
+        private final TableId tableId;
         private final String tablePath;
+        private final WriteBufferBudget bufferBudget;
 
-        InterceptingGateway(OperatorEventGateway delegate, String tablePath) {
+        InterceptingGateway(
+                OperatorEventGateway delegate,
+                TableId tableId,
+                String tablePath,
+                WriteBufferBudget bufferBudget) {
             this.delegate = delegate;
+            this.tableId = tableId;
             this.tablePath = tablePath;
+            this.bufferBudget = bufferBudget;
         }
 
         @Override
         public void sendEventToCoordinator(OperatorEvent event) {
             if (event instanceof WriteMetadataEvent) {
+                if (bufferBudget != null) {
+                    bufferBudget.release(tableId, (WriteMetadataEvent) event);
+                }
                 // Wrap the original event with the table path so the coordinator knows
                 // which table this metadata belongs to.
                 EnhancedWriteMetadataEvent enhancedEvent =
@@ -0,0 +1,151 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.connectors.hudi.sink.function;
+
+import org.apache.flink.cdc.common.event.TableId;
+
+import org.apache.hudi.client.WriteStatus;
+import org.apache.hudi.index.bucket.BucketIdentifier;
+import org.apache.hudi.sink.event.WriteMetadataEvent;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Tracks the bytes buffered by the per-table write functions of a {@link
+ * MultiTableEventStreamWriteFunction} against a budget shared by all tables.
+ *
+ * <p>The write functions of Hudi only bound their own buffers, so with many tables per subtask the
+ * sum of them can exceed the heap. Once the shared budget is exceeded, the tables with the largest
+ * buffers are selected for flushing until the buffered bytes drop to {@code flushRatio} of the
+ * budget, which leaves active tables with large buffers (and files) while keeping the total
+ * bounded.
+ *
+ * <p>The bytes are tracked per bucket of a table, and released by the {@link WriteMetadataEvent}s
+ * the write functions send for every flush. This keeps the budget in sync with the buffers when a
+ * write function flushes a bucket on its own, e.g. once the bucket exceeds the batch size.
+ */
+public class WriteBufferBudget {
+
+    private final long maxBytes;
+
+    private final long targetBytes;
+
+    // read by metric reporters, so it must be thread safe.
+    private final Map<TableId, Map<String, Long>> bufferedBytes = new ConcurrentHashMap<>();
+
+    private volatile long totalBytes;
+
+    public WriteBufferBudget(long maxBytes, double flushRatio) {
+        this.maxBytes = maxBytes;
+        this.targetBytes = (long) (maxBytes * flushRatio);
+    }
+
+    /** Returns the key of the bucket of given number in a partition. */
+    public static String bucketOf(String partitionPath, int bucketNumber) {
+        return partitionPath + "/" + bucketNumber;
+    }
+
+    /** Records that the given number of bytes has been buffered for the bucket of the table. */
+    public void add(TableId tableId, String bucket, long bytes) {
+        bufferedBytes
+                .computeIfAbsent(tableId, id -> new ConcurrentHashMap<>())
+                .merge(bucket, bytes, Long::sum);
+        totalBytes += bytes;
+    }
+
+    /**
+     * Records the buffers flushed by the write function of the table. The last batch of a
+     * checkpoint flushes all buckets of the table, other events only flush the buckets they carry
+     * write statuses of. A flush that wrote no files doesn't name its bucket, so all buckets of the
+     * table are released rather than keeping bytes that are no longer buffered.
+     */
+    public void release(TableId tableId, WriteMetadataEvent event) {
+        if (event.isLastBatch() || event.getWriteStatuses().isEmpty()) {
+            release(tableId);
+            return;
+        }
+        Map<String, Long> buckets = bufferedBytes.get(tableId);
+        if (buckets == null) {
+            return;
+        }
+        for (WriteStatus status : event.getWriteStatuses()) {
+            String bucket =
+                    bucketOf(
+                            status.getPartitionPath(),
+                            BucketIdentifier.bucketIdFromFileId(status.getFileId()));
+            Long bytes = buckets.remove(bucket);
+            if (bytes != null) {
+                totalBytes -= bytes;
+            }
+        }
+    }
+
+    /** Records that all buffers of the table have been flushed or dropped. */
+    public void release(TableId tableId) {
+        Map<String, Long> buckets = bufferedBytes.remove(tableId);
+        if (buckets != null) {
+            for (long bytes : buckets.values()) {
+                totalBytes -= bytes;
+            }
+        }
+    }
+
+    public boolean isExceeded() {
+        return maxBytes > 0 && totalBytes > maxBytes;
+    }
+
+    /**
+     * Returns the tables to flush to bring the buffered bytes back under the target, largest buffer
+     * first.
+     */
+    public List<TableId> tablesToFlush() {
+        List<Map.Entry<TableId, Long>> entries = new ArrayList<>();
+        for (TableId tableId : bufferedBytes.keySet()) {
+            entries.add(Map.entry(tableId, getBufferedBytes(tableId)));
+        }
+        entries.sort(Map.Entry.<TableId, Long>comparingByValue().reversed());
+        List<TableId> tables = new ArrayList<>();
+        long remaining = totalBytes;
+        for (Map.Entry<TableId, Long> entry : entries) {
+            if (remaining <= targetBytes) {
+                break;
+            }
+            tables.add(entry.getKey());
+            remaining -= entry.getValue();
+        }
+        return tables;
+    }
+
+    public long getBufferedBytes(TableId tableId) {
+        Map<String, Long> buckets = bufferedBytes.get(tableId);
+        long bytes = 0;
+        if (buckets != null) {
+            for (long bucketBytes : buckets.values()) {
+                bytes += bucketBytes;
+            }
+        }
+        return bytes;
+    }
+
+    public long getTotalBytes() {
+        return totalBytes;
+    }
+}
@@ -0,0 +1,147 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.connectors.hudi.sink.function;
+
+import org.apache.flink.cdc.common.event.TableId;
+
+import org.apache.hudi.client.WriteStatus;
+import org.apache.hudi.index.bucket.BucketIdentifier;
+import org.apache.hudi.sink.event.WriteMetadataEvent;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/** Tests for {@link WriteBufferBudget}. */
+class WriteBufferBudgetTest {
+
+    private static final TableId TABLE_1 = TableId.tableId("db", "t1");
+    private static final TableId TABLE_2 = TableId.tableId("db", "t2");
+    private static final TableId TABLE_3 = TableId.tableId("db", "t3");
+
+    private static final String PARTITION = "dt=2024-01-01";
+
+    @Test
+    void testFlushLargestBuffersFirst() {
+        WriteBufferBudget budget = new WriteBufferBudget(100, 0.5);
+        budget.add(TABLE_1, bucket(0), 20);
+        budget.add(TABLE_2, bucket(0), 50);
+        budget.add(TABLE_3, bucket(0), 30);
+        assertThat(budget.isExceeded()).isFalse();
+
+        budget.add(TABLE_1, bucket(1), 15);
+        assertThat(budget.isExceeded()).isTrue();
+        assertThat(budget.getTotalBytes()).isEqualTo(115);
+        assertThat(budget.getBufferedBytes(TABLE_1)).isEqualTo(35);
+        // 115 - 50 = 65 is still above the target of 50, so the next largest is flushed too.
+        assertThat(budget.tablesToFlush()).containsExactly(TABLE_2, TABLE_1);
+
+        budget.release(TABLE_2);
+        budget.release(TABLE_1);
+        assertThat(budget.isExceeded()).isFalse();
+        assertThat(budget.getBufferedBytes(TABLE_1)).isZero();
+        assertThat(budget.getBufferedBytes(TABLE_3)).isEqualTo(30);
+        assertThat(budget.getTotalBytes()).isEqualTo(30);
+    }
+
+    @Test
+    void testReleaseFlushedBuckets() {
+        WriteBufferBudget budget = new WriteBufferBudget(100, 0.5);
+        budget.add(TABLE_1, bucket(0), 10);
+        budget.add(TABLE_1, bucket(0), 20);
+        budget.add(TABLE_1, bucket(1), 40);
+        budget.add(TABLE_1, WriteBufferBudget.bucketOf("dt=2024-01-02", 0), 5);
+        budget.add(TABLE_2, bucket(0), 25);
+
+        // the write function flushes bucket 0 of the partition once it exceeds the batch size
+        budget.release(TABLE_1, flushEvent(false, 0));
+        assertThat(budget.getBufferedBytes(TABLE_1)).isEqualTo(45);
+        assertThat(budget.getBufferedBytes(TABLE_2)).isEqualTo(25);
+        assertThat(budget.getTotalBytes()).isEqualTo(70);
+
+        // flushing a bucket again does not release more than was buffered
+        budget.release(TABLE_1, flushEvent(false, 0));
+        assertThat(budget.getTotalBytes()).isEqualTo(70);
+
+        budget.release(TABLE_1, flushEvent(false, 1));
+        assertThat(budget.getBufferedBytes(TABLE_1)).isEqualTo(5);
+        assertThat(budget.getTotalBytes()).isEqualTo(30);
+    }
+
+    @Test
+    void testReleaseAllBucketsOnLastBatch() {
+        WriteBufferBudget budget = new WriteBufferBudget(100, 0.5);
+        budget.add(TABLE_1, bucket(0), 10);
+        budget.add(TABLE_1, bucket(1), 20);
+        budget.add(TABLE_2, bucket(0), 25);
+
+        // the last batch of a checkpoint flushes all buckets, even the ones without new files
+        budget.release(TABLE_1, flushEvent(true));
+        assertThat(budget.getBufferedBytes(TABLE_1)).isZero();
+        assertThat(budget.getTotalBytes()).isEqualTo(25);
+        assertThat(budget.tablesToFlush()).isEmpty();
+
+        // events of tables that have buffered nothing are ignored
+        budget.release(TABLE_3, flushEvent(false, 0));
+        budget.release(TABLE_3, flushEvent(true));
+        assertThat(budget.getTotalBytes()).isEqualTo(25);
+    }
+
+    @Test
+    void testReleaseTableOnFlushWithoutWriteStatus() {
+        WriteBufferBudget budget = new WriteBufferBudget(100, 0.5);
+        budget.add(TABLE_1, bucket(0), 10);
+        budget.add(TABLE_1, bucket(1), 20);
+        budget.add(TABLE_2, bucket(0), 25);
+
+        // a flushed bucket that wrote no files is unknown, its bytes must not stay counted
+        budget.release(TABLE_1, flushEvent(false));
+        assertThat(budget.getBufferedBytes(TABLE_1)).isZero();
+        assertThat(budget.getTotalBytes()).isEqualTo(25);
+    }
+
+    @Test
+    void testDisabledBudget() {
+        WriteBufferBudget disabled = new WriteBufferBudget(0, 0.8);
+        disabled.add(TABLE_1, bucket(0), Long.MAX_VALUE / 2);
+        assertThat(disabled.isExceeded()).isFalse();
+    }
+
+    private static String bucket(int bucketNumber) {
+        return WriteBufferBudget.bucketOf(PARTITION, bucketNumber);
+    }
+
+    private static WriteMetadataEvent flushEvent(boolean lastBatch, int... bucketNumbers) {
+        List<WriteStatus> statuses = new ArrayList<>();
+        for (int bucketNumber : bucketNumbers) {
+            WriteStatus status = new WriteStatus(false, 0.0);
+            status.setPartitionPath(PARTITION);
+            status.setFileId(BucketIdentifier.newBucketFileIdPrefix(bucketNumber) + "-0");
+            statuses.add(status);
+        }
+        return WriteMetadataEvent.builder()
+                .taskID(0)
+                .instantTime("001")
+                .writeStatus(statuses)
+                .lastBatch(lastBatch)
+                .endInput(false)
+                .build();
+    }
+}
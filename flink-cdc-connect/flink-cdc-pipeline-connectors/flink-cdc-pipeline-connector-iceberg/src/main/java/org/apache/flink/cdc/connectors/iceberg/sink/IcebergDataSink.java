@@ -23,6 +23,7 @@ import org.apache.flink.cdc.common.sink.EventSinkProvider;
 import org.apache.flink.cdc.common.sink.FlinkSinkProvider;
 import org.apache.flink.cdc.common.sink.MetadataApplier;
 import org.apache.flink.cdc.connectors.iceberg.sink.v2.IcebergSink;
+import org.apache.flink.cdc.connectors.iceberg.sink.v2.KeyIndexOptions;
 import org.apache.flink.cdc.connectors.iceberg.sink.v2.compaction.CompactionOptions;
 
 import java.io.Serializable;
@@ -49,6 +50,27 @@ public class IcebergDataSink implements DataSink, Serializable {
 
     public final String jobIdPrefix;
 
+    public final KeyIndexOptions keyIndexOptions;
+
+    public IcebergDataSink(
+            Map<String, String> catalogOptions,
+            Map<String, String> tableOptions,
+            Map<TableId, List<String>> partitionMaps,
+            ZoneId zoneId,
+            String schemaOperatorUid,
+            CompactionOptions compactionOptions,
+            String jobIdPrefix) {
+        this(
+                catalogOptions,
+                tableOptions,
+                partitionMaps,
+                zoneId,
+                schemaOperatorUid,
+                compactionOptions,
+                KeyIndexOptions.builder().build(),
+                jobIdPrefix);
+    }
+
     public IcebergDataSink(
             Map<String, String> catalogOptions,
             Map<String, String> tableOptions,
@@ -56,6 +78,7 @@ public class IcebergDataSink implements DataSink, Serializable {
             ZoneId zoneId,
             String schemaOperatorUid,
             CompactionOptions compactionOptions,
+            KeyIndexOptions keyIndexOptions,
             String jobIdPrefix) {
         this.catalogOptions = catalogOptions;
         this.tableOptions = tableOptions;
@@ -63,6 +86,7 @@ public class IcebergDataSink implements DataSink, Serializable {
         this.zoneId = zoneId;
         this.schemaOperatorUid = schemaOperatorUid;
         this.compactionOptions = compactionOptions;
+        this.keyIndexOptions = keyIndexOptions;
         this.jobIdPrefix = jobIdPrefix;
     }
 
@@ -70,7 +94,12 @@ public class IcebergDataSink implements DataSink, Serializable {
     public EventSinkProvider getEventSinkProvider() {
         IcebergSink icebergEventSink =
                 new IcebergSink(
-                        catalogOptions, tableOptions, zoneId, compactionOptions, jobIdPrefix);
+                        catalogOptions,
+                        tableOptions,
+                        zoneId,
+                        compactionOptions,
+                        keyIndexOptions,
+                        jobIdPrefix);
         return FlinkSinkProvider.of(icebergEventSink);
     }
 
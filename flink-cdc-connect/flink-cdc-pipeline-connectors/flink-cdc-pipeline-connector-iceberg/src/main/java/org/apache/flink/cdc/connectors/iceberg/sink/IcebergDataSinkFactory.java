@@ -25,6 +25,7 @@ import org.apache.flink.cdc.common.factories.FactoryHelper;
 import org.apache.flink.cdc.common.pipeline.PipelineOptions;
 import org.apache.flink.cdc.common.sink.DataSink;
 import org.apache.flink.cdc.connectors.iceberg.sink.utils.OptionUtils;
+import org.apache.flink.cdc.connectors.iceberg.sink.v2.KeyIndexOptions;
 import org.apache.flink.cdc.connectors.iceberg.sink.v2.compaction.CompactionOptions;
 
 import org.apache.flink.shaded.guava31.com.google.common.collect.ImmutableMap;
@@ -116,6 +117,7 @@ public class IcebergDataSinkFactory implements DataSinkFactory {
                 zoneId,
                 schemaOperatorUid,
                 compactionOptions,
+                getKeyIndexOptions(context.getFactoryConfiguration()),
                 jobIdPrefix);
     }
 
@@ -128,6 +130,13 @@ public class IcebergDataSinkFactory implements DataSinkFactory {
                 .build();
     }
 
+    private KeyIndexOptions getKeyIndexOptions(Configuration configuration) {
+        return KeyIndexOptions.builder()
+                .enabled(configuration.get(IcebergDataSinkOptions.SINK_KEY_INDEX_ENABLED))
+                .maxRows(configuration.get(IcebergDataSinkOptions.SINK_KEY_INDEX_MAX_ROWS))
+                .build();
+    }
+
     @Override
     public String identifier() {
         return IDENTIFIER;
@@ -147,6 +156,8 @@ public class IcebergDataSinkFactory implements DataSinkFactory {
         options.add(IcebergDataSinkOptions.SINK_COMPACTION_ENABLED);
         options.add(IcebergDataSinkOptions.SINK_COMPACTION_COMMIT_INTERVAL);
         options.add(IcebergDataSinkOptions.SINK_COMPACTION_PARALLELISM);
+        options.add(IcebergDataSinkOptions.SINK_KEY_INDEX_ENABLED);
+        options.add(IcebergDataSinkOptions.SINK_KEY_INDEX_MAX_ROWS);
         options.add(IcebergDataSinkOptions.JOB_ID_PREFIX);
         return options;
     }
@@ -79,6 +79,26 @@ public class IcebergDataSinkOptions {
                     .withDescription(
                             "The parallelism for file compaction, default value is -1, which means that compaction parallelism is equal to sink writer parallelism.");
 
+    @Experimental
+    public static final ConfigOption<Boolean> SINK_KEY_INDEX_ENABLED =
+            key("sink.key-index.enabled")
+                    .booleanType()
+                    .defaultValue(false)
+                    .withDescription(
+                            "Keep the writer of each table open until checkpoint instead of closing it on every flush."
+                                    + " The writer indexes the keys it has written, so updates and deletes of rows written in the same"
+                                    + " checkpoint become position deletes, and equality deletes are only written for keys from earlier checkpoints.");
+
+    @Experimental
+    public static final ConfigOption<Long> SINK_KEY_INDEX_MAX_ROWS =
+            key("sink.key-index.max-rows")
+                    .longType()
+                    .defaultValue(1_000_000L)
+                    .withDescription(
+                            "The maximum number of rows written by the writer of a table before it is closed early to bound"
+                                    + " the memory of its key index, only usable when sink.key-index.enabled is true."
+                                    + " Files of each closed writer are committed as a separate snapshot in order.");
+
     @Experimental
     public static final ConfigOption<String> JOB_ID_PREFIX =
             key("job.id.prefix")
@@ -46,6 +46,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.TreeMap;
 
 import static java.util.stream.Collectors.toList;
 import static org.apache.flink.runtime.checkpoint.CheckpointIDCounter.INITIAL_CHECKPOINT_ID;
@@ -61,6 +62,15 @@ public class IcebergCommitter implements Committer<WriteResultWrapper> {
 
     public static final String TABLE_GROUP_KEY = "table";
 
+    /**
+     * Snapshot summary of the checkpoint whose writes are being committed, if only a part of them
+     * have been committed.
+     */
+    static final String COMMITTING_CHECKPOINT_ID = "flink-cdc.committing-checkpoint-id";
+
+    /** Snapshot summary of the last committed write index of {@link #COMMITTING_CHECKPOINT_ID}. */
+    static final String COMMITTED_WRITE_INDEX = "flink-cdc.committed-write-index";
+
     private final Catalog catalog;
 
     private final SinkCommitterMetricGroup metricGroup;
@@ -96,27 +106,37 @@ public class IcebergCommitter implements Committer<WriteResultWrapper> {
         String newFlinkJobId = writeResultWrappers.get(0).getJobId();
         String operatorId = writeResultWrappers.get(0).getOperatorId();
 
-        Map<TableId, List<WriteResult>> tableMap = new HashMap<>();
+        // Writes of a table are grouped by their write index, and each group is committed as a
+        // snapshot in order. Otherwise, files of all writes would share a sequence number, and
+        // equality deletes of a later write would not apply to data files of an earlier one.
+        Map<TableId, TreeMap<Integer, List<WriteResult>>> tableMap = new HashMap<>();
         for (WriteResultWrapper writeResultWrapper : writeResultWrappers) {
-            List<WriteResult> writeResult =
-                    tableMap.getOrDefault(writeResultWrapper.getTableId(), new ArrayList<>());
-            writeResult.add(writeResultWrapper.getWriteResult());
-            tableMap.put(writeResultWrapper.getTableId(), writeResult);
+            tableMap.computeIfAbsent(writeResultWrapper.getTableId(), k -> new TreeMap<>())
+                    .computeIfAbsent(writeResultWrapper.getWriteIndex(), k -> new ArrayList<>())
+                    .add(writeResultWrapper.getWriteResult());
             LOGGER.info(writeResultWrapper.buildDescription());
         }
-        for (Map.Entry<TableId, List<WriteResult>> entry : tableMap.entrySet()) {
+        for (Map.Entry<TableId, TreeMap<Integer, List<WriteResult>>> entry : tableMap.entrySet()) {
             TableId tableId = entry.getKey();
 
             Table table =
                     catalog.loadTable(
                             TableIdentifier.of(tableId.getSchemaName(), tableId.getTableName()));
 
+            int lastCommittedWriteIndex = -1;
             Snapshot snapshot = table.currentSnapshot();
             if (snapshot != null) {
                 Iterable<Snapshot> ancestors =
                         SnapshotUtil.ancestorsOf(snapshot.snapshotId(), table::snapshot);
+                Snapshot lastCommittedSnapshot =
+                        getLastCommittedSnapshot(ancestors, newFlinkJobId, operatorId);
                 long lastCheckpointId =
-                        getMaxCommittedCheckpointId(ancestors, newFlinkJobId, operatorId);
+                        lastCommittedSnapshot == null
+                                ? INITIAL_CHECKPOINT_ID - 1
+                                : Long.parseLong(
+                                        lastCommittedSnapshot
+                                                .summary()
+                                                .get(SinkUtil.MAX_COMMITTED_CHECKPOINT_ID));
                 if (lastCheckpointId == checkpointId) {
                     LOGGER.warn(
                             "Checkpoint id {} has been committed to table {}, skipping",
@@ -124,60 +144,99 @@ public class IcebergCommitter implements Committer<WriteResultWrapper> {
                             tableId.identifier());
                     continue;
                 }
+                if (lastCommittedSnapshot != null
+                        && Long.toString(checkpointId)
+                                .equals(
+                                        lastCommittedSnapshot
+                                                .summary()
+                                                .get(COMMITTING_CHECKPOINT_ID))) {
+                    lastCommittedWriteIndex =
+                            Integer.parseInt(
+                                    lastCommittedSnapshot.summary().get(COMMITTED_WRITE_INDEX));
+                }
             }
 
             Optional<TableMetric> tableMetric = getTableMetric(tableId);
             tableMetric.ifPresent(TableMetric::increaseCommitTimes);
 
-            List<WriteResult> results = entry.getValue();
-            List<DataFile> dataFiles =
-                    results.stream()
-                            .filter(payload -> payload.dataFiles() != null)
-                            .flatMap(payload -> Arrays.stream(payload.dataFiles()))
-                            .filter(dataFile -> dataFile.recordCount() > 0)
-                            .collect(toList());
-            List<DeleteFile> deleteFiles =
-                    results.stream()
-                            .filter(payload -> payload.deleteFiles() != null)
-                            .flatMap(payload -> Arrays.stream(payload.deleteFiles()))
-                            .filter(deleteFile -> deleteFile.recordCount() > 0)
-                            .collect(toList());
-            if (dataFiles.isEmpty() && deleteFiles.isEmpty()) {
+            Map<Integer, List<WriteResult>> pendingResults =
+                    entry.getValue().tailMap(lastCommittedWriteIndex, false);
+            if (lastCommittedWriteIndex >= 0) {
+                LOGGER.warn(
+                        "Writes of checkpoint id {} up to index {} have been committed to table {}, skipping them",
+                        checkpointId,
+                        lastCommittedWriteIndex,
+                        tableId.identifier());
+            }
+            List<Map.Entry<Integer, List<WriteResult>>> nonEmptyResults = new ArrayList<>();
+            for (Map.Entry<Integer, List<WriteResult>> results : pendingResults.entrySet()) {
+                if (!getDataFiles(results.getValue()).isEmpty()
+                        || !getDeleteFiles(results.getValue()).isEmpty()) {
+                    nonEmptyResults.add(results);
+                }
+            }
+            if (nonEmptyResults.isEmpty()) {
                 LOGGER.info(String.format("Nothing to commit to table %s, skipping", table.name()));
-            } else {
+            }
+            for (int i = 0; i < nonEmptyResults.size(); i++) {
+                int writeIndex = nonEmptyResults.get(i).getKey();
+                List<WriteResult> results = nonEmptyResults.get(i).getValue();
+                boolean lastWrites = i == nonEmptyResults.size() - 1;
+                List<DataFile> dataFiles = getDataFiles(results);
+                List<DeleteFile> deleteFiles = getDeleteFiles(results);
+                SnapshotUpdate<?> operation;
                 if (deleteFiles.isEmpty()) {
                     AppendFiles append = table.newAppend();
                     dataFiles.forEach(append::appendFile);
-                    commitOperation(append, newFlinkJobId, operatorId, checkpointId);
+                    operation = append;
                 } else {
                     RowDelta delta = table.newRowDelta();
                     dataFiles.forEach(delta::addRows);
                     deleteFiles.forEach(delta::addDeletes);
-                    commitOperation(delta, newFlinkJobId, operatorId, checkpointId);
+                    operation = delta;
+                }
+                if (lastWrites) {
+                    commitOperation(operation, newFlinkJobId, operatorId, checkpointId);
+                } else {
+                    // The checkpoint is committed with its last writes.
+                    operation.set(COMMITTING_CHECKPOINT_ID, Long.toString(checkpointId));
+                    operation.set(COMMITTED_WRITE_INDEX, Integer.toString(writeIndex));
+                    commitOperation(operation, newFlinkJobId, operatorId, checkpointId - 1);
                 }
             }
         }
     }
 
-    private static long getMaxCommittedCheckpointId(
-            Iterable<Snapshot> ancestors, String flinkJobId, String operatorId) {
-        long lastCommittedCheckpointId = INITIAL_CHECKPOINT_ID - 1;
+    private static List<DataFile> getDataFiles(List<WriteResult> results) {
+        return results.stream()
+                .filter(payload -> payload.dataFiles() != null)
+                .flatMap(payload -> Arrays.stream(payload.dataFiles()))
+                .filter(dataFile -> dataFile.recordCount() > 0)
+                .collect(toList());
+    }
+
+    private static List<DeleteFile> getDeleteFiles(List<WriteResult> results) {
+        return results.stream()
+                .filter(payload -> payload.deleteFiles() != null)
+                .flatMap(payload -> Arrays.stream(payload.deleteFiles()))
+                .filter(deleteFile -> deleteFile.recordCount() > 0)
+                .collect(toList());
+    }
 
+    /** Returns the last snapshot committed by given job and operator, or null if it's absent. */
+    private static Snapshot getLastCommittedSnapshot(
+            Iterable<Snapshot> ancestors, String flinkJobId, String operatorId) {
         for (Snapshot ancestor : ancestors) {
             Map<String, String> summary = ancestor.summary();
             String snapshotFlinkJobId = summary.get(SinkUtil.FLINK_JOB_ID);
             String snapshotOperatorId = summary.get(SinkUtil.OPERATOR_ID);
             if (flinkJobId.equals(snapshotFlinkJobId)
-                    && (snapshotOperatorId == null || snapshotOperatorId.equals(operatorId))) {
-                String value = summary.get(SinkUtil.MAX_COMMITTED_CHECKPOINT_ID);
-                if (value != null) {
-                    lastCommittedCheckpointId = Long.parseLong(value);
-                    break;
-                }
+                    && (snapshotOperatorId == null || snapshotOperatorId.equals(operatorId))
+                    && summary.get(SinkUtil.MAX_COMMITTED_CHECKPOINT_ID) != null) {
+                return ancestor;
             }
         }
-
-        return lastCommittedCheckpointId;
+        return null;
     }
 
     private static void commitOperation(
@@ -63,6 +63,8 @@ public class IcebergSink
 
     private final CompactionOptions compactionOptions;
 
+    private final KeyIndexOptions keyIndexOptions;
+
     private String jobId;
 
     private String operatorId;
@@ -73,10 +75,27 @@ public class IcebergSink
             ZoneId zoneId,
             CompactionOptions compactionOptions,
             String jobIdPrefix) {
+        this(
+                catalogOptions,
+                tableOptions,
+                zoneId,
+                compactionOptions,
+                KeyIndexOptions.builder().build(),
+                jobIdPrefix);
+    }
+
+    public IcebergSink(
+            Map<String, String> catalogOptions,
+            Map<String, String> tableOptions,
+            ZoneId zoneId,
+            CompactionOptions compactionOptions,
+            KeyIndexOptions keyIndexOptions,
+            String jobIdPrefix) {
         this.catalogOptions = catalogOptions;
         this.tableOptions = tableOptions;
         this.zoneId = zoneId;
         this.compactionOptions = compactionOptions;
+        this.keyIndexOptions = keyIndexOptions;
         this.jobId = jobIdPrefix + UUID.randomUUID();
         this.operatorId = UUID.randomUUID().toString();
     }
@@ -115,7 +134,8 @@ public class IcebergSink
                 zoneId,
                 lastCheckpointId,
                 jobId,
-                operatorId);
+                operatorId,
+                keyIndexOptions);
     }
 
     @Override
@@ -130,7 +150,8 @@ public class IcebergSink
                 zoneId,
                 lastCheckpointId,
                 jobId,
-                operatorId);
+                operatorId,
+                keyIndexOptions);
     }
 
     @Override
@@ -153,7 +174,8 @@ public class IcebergSink
                 zoneId,
                 lastCheckpointId,
                 jobId,
-                operatorId);
+                operatorId,
+                keyIndexOptions);
     }
 
     @Override
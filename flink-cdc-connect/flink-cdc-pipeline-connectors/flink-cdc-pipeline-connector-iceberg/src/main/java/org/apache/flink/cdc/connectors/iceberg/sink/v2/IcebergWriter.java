@@ -85,6 +85,15 @@ public class IcebergWriter
 
     private final String operatorId;
 
+    private final KeyIndexOptions keyIndexOptions;
+
+    // number of rows written by the open writer of each table, only tracked with the key index.
+    private final Map<TableId, Long> writtenRows;
+
+    // number of writers of each table completed in current checkpoint, only tracked with the key
+    // index.
+    private final Map<TableId, Integer> completedWriters;
+
     public IcebergWriter(
             Map<String, String> catalogOptions,
             int taskId,
@@ -93,6 +102,26 @@ public class IcebergWriter
             long lastCheckpointId,
             String jobId,
             String operatorId) {
+        this(
+                catalogOptions,
+                taskId,
+                attemptId,
+                zoneId,
+                lastCheckpointId,
+                jobId,
+                operatorId,
+                KeyIndexOptions.builder().build());
+    }
+
+    public IcebergWriter(
+            Map<String, String> catalogOptions,
+            int taskId,
+            int attemptId,
+            ZoneId zoneId,
+            long lastCheckpointId,
+            String jobId,
+            String operatorId,
+            KeyIndexOptions keyIndexOptions) {
         catalog =
                 CatalogUtil.buildIcebergCatalog(
                         this.getClass().getSimpleName(), catalogOptions, new Configuration());
@@ -106,6 +135,9 @@ public class IcebergWriter
         this.lastCheckpointId = lastCheckpointId;
         this.jobId = jobId;
         this.operatorId = operatorId;
+        this.keyIndexOptions = keyIndexOptions;
+        this.writtenRows = new HashMap<>();
+        this.completedWriters = new HashMap<>();
         LOGGER.info(
                 "IcebergWriter created, taskId: {}, attemptId: {}, lastCheckpointId: {}, jobId: {}, operatorId: {}",
                 taskId,
@@ -126,6 +158,7 @@ public class IcebergWriter
         list.addAll(temporaryWriteResult);
         list.addAll(getWriteResult());
         temporaryWriteResult.clear();
+        completedWriters.clear();
         lastCheckpointId++;
         return list;
     }
@@ -160,9 +193,24 @@ public class IcebergWriter
                     RowDataUtils.convertDataChangeEventToRowData(
                             dataChangeEvent, tableSchemaWrapper.getFieldGetters());
             writer.write(rowData);
+            if (keyIndexOptions.isEnabled()
+                    && keyIndexOptions.getMaxRows() > 0
+                    && writtenRows.merge(tableId, 1L, Long::sum) >= keyIndexOptions.getMaxRows()) {
+                // bound the memory of the key index, later updates of the keys written so far
+                // fall back to equality deletes, which are committed after the rows they delete.
+                temporaryWriteResult.add(completeWriter(tableId));
+            }
         } else {
             SchemaChangeEvent schemaChangeEvent = (SchemaChangeEvent) event;
             TableId tableId = schemaChangeEvent.tableId();
+            if (keyIndexOptions.isEnabled()) {
+                // the writers are not completed in flush, so the writer of this table still uses
+                // the previous schema.
+                if (writerMap.containsKey(tableId)) {
+                    temporaryWriteResult.add(completeWriter(tableId));
+                }
+                writerFactoryMap.remove(tableId);
+            }
             TableSchemaWrapper tableSchemaWrapper = schemaMap.get(tableId);
 
             Schema newSchema =
@@ -177,28 +225,51 @@ public class IcebergWriter
     @Override
     public void flush(boolean flush) throws IOException {
         // Notice: flush method may be called many times during one checkpoint.
-        temporaryWriteResult.addAll(getWriteResult());
+        if (!keyIndexOptions.isEnabled()) {
+            temporaryWriteResult.addAll(getWriteResult());
+        }
+        // Otherwise keep the writers and their key index open, they are completed in
+        // prepareCommit, or when the schema of their table changes.
     }
 
     private List<WriteResultWrapper> getWriteResult() throws IOException {
         long currentCheckpointId = lastCheckpointId + 1;
         List<WriteResultWrapper> writeResults = new ArrayList<>();
         for (Map.Entry<TableId, TaskWriter<RowData>> entry : writerMap.entrySet()) {
-            WriteResultWrapper writeResultWrapper =
-                    new WriteResultWrapper(
-                            entry.getValue().complete(),
-                            entry.getKey(),
-                            currentCheckpointId,
-                            jobId,
-                            operatorId);
-            writeResults.add(writeResultWrapper);
-            LOGGER.info(writeResultWrapper.buildDescription());
+            writeResults.add(completeWriter(entry.getKey(), entry.getValue(), currentCheckpointId));
         }
         writerMap.clear();
         writerFactoryMap.clear();
+        writtenRows.clear();
         return writeResults;
     }
 
+    private WriteResultWrapper completeWriter(TableId tableId) throws IOException {
+        writtenRows.remove(tableId);
+        return completeWriter(tableId, writerMap.remove(tableId), lastCheckpointId + 1);
+    }
+
+    private WriteResultWrapper completeWriter(
+            TableId tableId, TaskWriter<RowData> writer, long currentCheckpointId)
+            throws IOException {
+        // Without the key index, updates are always written as equality deletes, and all writes of
+        // a checkpoint are merged into a single snapshot as before.
+        int writeIndex =
+                keyIndexOptions.isEnabled()
+                        ? completedWriters.merge(tableId, 1, Integer::sum) - 1
+                        : 0;
+        WriteResultWrapper writeResultWrapper =
+                new WriteResultWrapper(
+                        writer.complete(),
+                        tableId,
+                        currentCheckpointId,
+                        jobId,
+                        operatorId,
+                        writeIndex);
+        LOGGER.info(writeResultWrapper.buildDescription());
+        return writeResultWrapper;
+    }
+
     @Override
     public void writeWatermark(Watermark watermark) {}
 
@@ -0,0 +1,77 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.connectors.iceberg.sink.v2;
+
+import java.io.Serializable;
+
+/**
+ * Options of the key index kept by the writer of each upsert table until checkpoint.
+ *
+ * <p>The delta writer of Iceberg remembers the file and position of every key it has written. When
+ * the writer is kept open for the whole checkpoint, updates and deletes of those keys are written
+ * as position deletes, and equality deletes are only written for keys from earlier checkpoints.
+ */
+public class KeyIndexOptions implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+    private boolean enabled = false;
+    private long maxRows = 1_000_000L;
+
+    // Private constructor to enforce the use of the Builder
+    private KeyIndexOptions() {}
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public long getMaxRows() {
+        return maxRows;
+    }
+
+    public void setMaxRows(long maxRows) {
+        this.maxRows = maxRows;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /** Builder for {@link KeyIndexOptions}. */
+    public static class Builder {
+
+        private final KeyIndexOptions keyIndexOptions = new KeyIndexOptions();
+
+        public Builder enabled(boolean enabled) {
+            keyIndexOptions.setEnabled(enabled);
+            return this;
+        }
+
+        public Builder maxRows(long maxRows) {
+            keyIndexOptions.setMaxRows(maxRows);
+            return this;
+        }
+
+        public KeyIndexOptions build() {
+            return keyIndexOptions;
+        }
+    }
+}
@@ -40,17 +40,32 @@ public class WriteResultWrapper implements Serializable {
 
     private final String operatorId;
 
+    // Order of the writes of the table in the checkpoint, writes of different indexes are
+    // committed in order so that later deletes apply to data files of earlier writes.
+    private final int writeIndex;
+
     public WriteResultWrapper(
             WriteResult writeResult,
             TableId tableId,
             long checkpointId,
             String jobId,
             String operatorId) {
+        this(writeResult, tableId, checkpointId, jobId, operatorId, 0);
+    }
+
+    public WriteResultWrapper(
+            WriteResult writeResult,
+            TableId tableId,
+            long checkpointId,
+            String jobId,
+            String operatorId,
+            int writeIndex) {
         this.writeResult = writeResult;
         this.tableId = tableId;
         this.checkpointId = checkpointId;
         this.jobId = jobId;
         this.operatorId = operatorId;
+        this.writeIndex = writeIndex;
     }
 
     public WriteResult getWriteResult() {
@@ -73,6 +88,10 @@ public class WriteResultWrapper implements Serializable {
         return operatorId;
     }
 
+    public int getWriteIndex() {
+        return writeIndex;
+    }
+
     /** Build a simple description for the write result. */
     public String buildDescription() {
         long addCount = 0;
@@ -95,6 +114,8 @@ public class WriteResultWrapper implements Serializable {
                 + jobId
                 + ", OperatorId: "
                 + operatorId
+                + ", WriteIndex: "
+                + writeIndex
                 + ", AddCount: "
                 + addCount
                 + ", DeleteCount: "
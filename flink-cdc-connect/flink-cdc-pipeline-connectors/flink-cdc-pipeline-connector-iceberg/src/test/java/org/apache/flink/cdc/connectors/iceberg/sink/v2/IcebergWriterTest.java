@@ -42,6 +42,8 @@ import org.apache.flink.streaming.runtime.operators.sink.committables.CommitRequ
 
 import org.apache.hadoop.conf.Configuration;
 import org.apache.iceberg.CatalogUtil;
+import org.apache.iceberg.DeleteFile;
+import org.apache.iceberg.FileContent;
 import org.apache.iceberg.FileScanTask;
 import org.apache.iceberg.Table;
 import org.apache.iceberg.catalog.Catalog;
@@ -552,6 +554,208 @@ public class IcebergWriterTest {
         Assertions.assertThat(result).containsExactlyInAnyOrder("1, char1", "2, char2");
     }
 
+    @Test
+    public void testKeyIndexTurnsUpdatesIntoPositionDeletes() throws Exception {
+        Map<String, String> catalogOptions = new HashMap<>();
+        String warehouse =
+                new File(temporaryFolder.toFile(), UUID.randomUUID().toString()).toString();
+        catalogOptions.put("type", "hadoop");
+        catalogOptions.put("warehouse", warehouse);
+        catalogOptions.put("cache-enabled", "false");
+        Catalog catalog =
+                CatalogUtil.buildIcebergCatalog(
+                        "cdc-iceberg-catalog", catalogOptions, new Configuration());
+        IcebergWriter icebergWriter =
+                new IcebergWriter(
+                        catalogOptions,
+                        1,
+                        1,
+                        ZoneId.systemDefault(),
+                        0,
+                        UUID.randomUUID().toString(),
+                        UUID.randomUUID().toString(),
+                        KeyIndexOptions.builder().enabled(true).build());
+        IcebergMetadataApplier icebergMetadataApplier = new IcebergMetadataApplier(catalogOptions);
+        TableId tableId = TableId.parse("test.iceberg_key_index_table");
+        CreateTableEvent createTableEvent =
+                new CreateTableEvent(
+                        tableId,
+                        Schema.newBuilder()
+                                .physicalColumn("id", DataTypes.BIGINT().notNull())
+                                .physicalColumn("name", DataTypes.VARCHAR(100))
+                                .primaryKey("id")
+                                .build());
+        icebergMetadataApplier.applySchemaChange(createTableEvent);
+        icebergWriter.write(createTableEvent, null);
+        BinaryRecordDataGenerator dataGenerator =
+                new BinaryRecordDataGenerator(
+                        createTableEvent.getSchema().getColumnDataTypes().toArray(new DataType[0]));
+        BinaryRecordData before =
+                dataGenerator.generate(new Object[] {1L, BinaryStringData.fromString("char1")});
+        BinaryRecordData after =
+                dataGenerator.generate(new Object[] {1L, BinaryStringData.fromString("char2")});
+        icebergWriter.write(DataChangeEvent.insertEvent(tableId, before), null);
+        // a flush in the middle of the checkpoint, e.g. for a schema change of another table.
+        icebergWriter.flush(false);
+        icebergWriter.write(DataChangeEvent.updateEvent(tableId, before, after), null);
+        Collection<WriteResultWrapper> writeResults = icebergWriter.prepareCommit();
+
+        // the key written in this checkpoint is deleted by position.
+        Map<FileContent, Long> deletedRecords = new HashMap<>();
+        for (WriteResultWrapper writeResult : writeResults) {
+            for (DeleteFile deleteFile : writeResult.getWriteResult().deleteFiles()) {
+                deletedRecords.merge(deleteFile.content(), deleteFile.recordCount(), Long::sum);
+            }
+        }
+        Assertions.assertThat(deletedRecords.get(FileContent.POSITION_DELETES)).isEqualTo(1L);
+        Assertions.assertThat(deletedRecords.get(FileContent.EQUALITY_DELETES)).isEqualTo(1L);
+
+        IcebergCommitter icebergCommitter = new IcebergCommitter(catalogOptions);
+        icebergCommitter.commit(
+                writeResults.stream().map(MockCommitRequestImpl::new).collect(Collectors.toList()));
+        Assertions.assertThat(fetchTableContent(catalog, tableId, null))
+                .containsExactly("1, char2");
+    }
+
+    @Test
+    public void testUpdateKeyAcrossKeyIndexCut() throws Exception {
+        Map<String, String> catalogOptions = new HashMap<>();
+        String warehouse =
+                new File(temporaryFolder.toFile(), UUID.randomUUID().toString()).toString();
+        catalogOptions.put("type", "hadoop");
+        catalogOptions.put("warehouse", warehouse);
+        catalogOptions.put("cache-enabled", "false");
+        Catalog catalog =
+                CatalogUtil.buildIcebergCatalog(
+                        "cdc-iceberg-catalog", catalogOptions, new Configuration());
+        IcebergWriter icebergWriter =
+                new IcebergWriter(
+                        catalogOptions,
+                        1,
+                        1,
+                        ZoneId.systemDefault(),
+                        0,
+                        UUID.randomUUID().toString(),
+                        UUID.randomUUID().toString(),
+                        KeyIndexOptions.builder().enabled(true).maxRows(2).build());
+        IcebergMetadataApplier icebergMetadataApplier = new IcebergMetadataApplier(catalogOptions);
+        TableId tableId = TableId.parse("test.iceberg_key_index_cut_table");
+        CreateTableEvent createTableEvent =
+                new CreateTableEvent(
+                        tableId,
+                        Schema.newBuilder()
+                                .physicalColumn("id", DataTypes.BIGINT().notNull())
+                                .physicalColumn("name", DataTypes.VARCHAR(100))
+                                .primaryKey("id")
+                                .build());
+        icebergMetadataApplier.applySchemaChange(createTableEvent);
+        icebergWriter.write(createTableEvent, null);
+        BinaryRecordDataGenerator dataGenerator =
+                new BinaryRecordDataGenerator(
+                        createTableEvent.getSchema().getColumnDataTypes().toArray(new DataType[0]));
+        BinaryRecordData before =
+                dataGenerator.generate(new Object[] {1L, BinaryStringData.fromString("char1")});
+        BinaryRecordData after =
+                dataGenerator.generate(new Object[] {1L, BinaryStringData.fromString("char2")});
+        icebergWriter.write(DataChangeEvent.insertEvent(tableId, before), null);
+        // the writer is completed after the second row, the update of the first key is written by
+        // a new writer with an equality delete.
+        icebergWriter.write(
+                DataChangeEvent.insertEvent(
+                        tableId,
+                        dataGenerator.generate(
+                                new Object[] {2L, BinaryStringData.fromString("char3")})),
+                null);
+        icebergWriter.write(DataChangeEvent.updateEvent(tableId, before, after), null);
+        Collection<WriteResultWrapper> writeResults = icebergWriter.prepareCommit();
+        Assertions.assertThat(writeResults)
+                .extracting(WriteResultWrapper::getWriteIndex)
+                .containsExactly(0, 1);
+
+        // the writes are committed in order, so that the equality delete applies to the first
+        // data file.
+        IcebergCommitter icebergCommitter = new IcebergCommitter(catalogOptions);
+        List<Committer.CommitRequest<WriteResultWrapper>> commitRequests =
+                writeResults.stream().map(MockCommitRequestImpl::new).collect(Collectors.toList());
+        icebergCommitter.commit(commitRequests);
+        Table table = catalog.loadTable(TableIdentifier.of("test", "iceberg_key_index_cut_table"));
+        Assertions.assertThat(table.snapshots()).hasSize(2);
+        Assertions.assertThat(fetchTableContent(catalog, tableId, null))
+                .containsExactlyInAnyOrder("1, char2", "2, char3");
+
+        // committing the checkpoint again makes no change.
+        icebergCommitter.commit(commitRequests);
+        table.refresh();
+        Assertions.assertThat(table.snapshots()).hasSize(2);
+        Assertions.assertThat(fetchTableContent(catalog, tableId, null))
+                .containsExactlyInAnyOrder("1, char2", "2, char3");
+    }
+
+    @Test
+    public void testFlushesWithoutKeyIndexAreCommittedTogether() throws Exception {
+        Map<String, String> catalogOptions = new HashMap<>();
+        String warehouse =
+                new File(temporaryFolder.toFile(), UUID.randomUUID().toString()).toString();
+        catalogOptions.put("type", "hadoop");
+        catalogOptions.put("warehouse", warehouse);
+        catalogOptions.put("cache-enabled", "false");
+        Catalog catalog =
+                CatalogUtil.buildIcebergCatalog(
+                        "cdc-iceberg-catalog", catalogOptions, new Configuration());
+        IcebergWriter icebergWriter =
+                new IcebergWriter(
+                        catalogOptions,
+                        1,
+                        1,
+                        ZoneId.systemDefault(),
+                        0,
+                        UUID.randomUUID().toString(),
+                        UUID.randomUUID().toString(),
+                        KeyIndexOptions.builder().enabled(false).build());
+        IcebergMetadataApplier icebergMetadataApplier = new IcebergMetadataApplier(catalogOptions);
+        TableId tableId = TableId.parse("test.iceberg_flush_table");
+        CreateTableEvent createTableEvent =
+                new CreateTableEvent(
+                        tableId,
+                        Schema.newBuilder()
+                                .physicalColumn("id", DataTypes.BIGINT().notNull())
+                                .physicalColumn("name", DataTypes.VARCHAR(100))
+                                .primaryKey("id")
+                                .build());
+        icebergMetadataApplier.applySchemaChange(createTableEvent);
+        icebergWriter.write(createTableEvent, null);
+        BinaryRecordDataGenerator dataGenerator =
+                new BinaryRecordDataGenerator(
+                        createTableEvent.getSchema().getColumnDataTypes().toArray(new DataType[0]));
+        icebergWriter.write(
+                DataChangeEvent.insertEvent(
+                        tableId,
+                        dataGenerator.generate(
+                                new Object[] {1L, BinaryStringData.fromString("char1")})),
+                null);
+        // flush may be called several times in a checkpoint
+        icebergWriter.flush(false);
+        icebergWriter.write(
+                DataChangeEvent.insertEvent(
+                        tableId,
+                        dataGenerator.generate(
+                                new Object[] {2L, BinaryStringData.fromString("char2")})),
+                null);
+        icebergWriter.flush(false);
+        Collection<WriteResultWrapper> writeResults = icebergWriter.prepareCommit();
+        Assertions.assertThat(writeResults)
+                .extracting(WriteResultWrapper::getWriteIndex)
+                .containsExactly(0, 0);
+
+        IcebergCommitter icebergCommitter = new IcebergCommitter(catalogOptions);
+        icebergCommitter.commit(
+                writeResults.stream().map(MockCommitRequestImpl::new).collect(Collectors.toList()));
+        Table table = catalog.loadTable(TableIdentifier.of("test", "iceberg_flush_table"));
+        Assertions.assertThat(table.snapshots()).hasSize(1);
+        Assertions.assertThat(fetchTableContent(catalog, tableId, null))
+                .containsExactlyInAnyOrder("1, char1", "2, char2");
+    }
+
     /** Mock CommitRequestImpl. */
     public static class MockCommitRequestImpl<CommT> extends CommitRequestImpl<CommT> {
 
@@ -24,7 +24,9 @@ import org.apache.flink.cdc.common.source.DataSource;
 import org.apache.flink.cdc.common.source.EventSourceProvider;
 import org.apache.flink.cdc.common.source.FlinkSourceProvider;
 import org.apache.flink.cdc.common.source.MetadataAccessor;
+import org.apache.flink.cdc.common.source.SnapshotPushDown;
 import org.apache.flink.cdc.common.source.SupportedMetadataColumn;
+import org.apache.flink.cdc.common.source.SupportsSnapshotPushDown;
 import org.apache.flink.cdc.connectors.mysql.source.config.MySqlSourceConfig;
 import org.apache.flink.cdc.connectors.mysql.source.config.MySqlSourceConfigFactory;
 import org.apache.flink.cdc.connectors.mysql.source.reader.MySqlPipelineRecordEmitter;
@@ -39,7 +41,7 @@ import java.util.List;
 
 /** A {@link DataSource} for mysql cdc connector. */
 @Internal
-public class MySqlDataSource implements DataSource {
+public class MySqlDataSource implements DataSource, SupportsSnapshotPushDown {
 
     private final MySqlSourceConfigFactory configFactory;
     private final MySqlSourceConfig sourceConfig;
@@ -87,6 +89,11 @@ public class MySqlDataSource implements DataSource {
         return FlinkSourceProvider.of(source);
     }
 
+    @Override
+    public void applySnapshotPushDown(List<SnapshotPushDown> pushDowns) {
+        configFactory.snapshotPushDowns(pushDowns);
+    }
+
     @Override
     public MetadataAccessor getMetadataAccessor() {
         return new MySqlMetadataAccessor(sourceConfig);
@@ -330,4 +330,12 @@ public class MySqlDataSourceOptions {
                     .defaultValue(false)
                     .withDescription(
                             "Whether to skip backfill in snapshot reading phase. If backfill is skipped, changes on captured tables during snapshot phase will be consumed later in change log reading phase instead of being merged into the snapshot.WARNING: Skipping backfill might lead to data inconsistency because some change log events happened within the snapshot phase might be replayed (only at-least-once semantic is promised). For example updating an already updated value in snapshot, or deleting an already deleted entry in snapshot. These replayed change log events should be handled specially.");
+
+    @Experimental
+    public static final ConfigOption<Integer> SCAN_INCREMENTAL_SNAPSHOT_PREFETCH_SPLITS =
+            ConfigOptions.key("scan.incremental.snapshot.prefetch-splits")
+                    .intType()
+                    .defaultValue(0)
+                    .withDescription(
+                            "The number of snapshot splits a source reader requests ahead of the split it is reading, so that the query of the next split starts once the current split is read instead of after a round-trip to the enumerator. Prefetched splits are part of the reader state. Defaults to 0, which requests the next split after the current one is finished.");
 }
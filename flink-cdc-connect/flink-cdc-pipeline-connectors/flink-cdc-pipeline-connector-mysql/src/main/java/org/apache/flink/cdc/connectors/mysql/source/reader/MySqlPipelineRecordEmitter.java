@@ -31,6 +31,7 @@ import org.apache.flink.cdc.connectors.mysql.source.split.MySqlSplit;
 import org.apache.flink.cdc.connectors.mysql.source.split.MySqlSplitState;
 import org.apache.flink.cdc.connectors.mysql.source.utils.StatementUtils;
 import org.apache.flink.cdc.connectors.mysql.table.StartupOptions;
+import org.apache.flink.cdc.connectors.mysql.utils.MySqlSchemaLoader;
 import org.apache.flink.cdc.connectors.mysql.utils.MySqlTypeUtils;
 import org.apache.flink.cdc.debezium.DebeziumDeserializationSchema;
 import org.apache.flink.cdc.debezium.event.DebeziumEventDeserializationSchema;
@@ -71,6 +72,9 @@ public class MySqlPipelineRecordEmitter extends MySqlRecordEmitter<Event> {
 
     private static final Logger LOG = LoggerFactory.getLogger(MySqlPipelineRecordEmitter.class);
 
+    /** Number of connections to load schemas of captured tables in bulk. */
+    private static final int SCHEMA_LOADING_PARALLELISM = 4;
+
     private final MySqlSourceConfig sourceConfig;
     private MySqlAntlrDdlParser mySqlAntlrDdlParser;
 
@@ -135,12 +139,24 @@ public class MySqlPipelineRecordEmitter extends MySqlRecordEmitter<Event> {
         } else if (isLowWatermarkEvent(element) && splitState.isSnapshotSplitState()) {
             // In Snapshot phase of INITIAL startup mode, we lazily send CreateTableEvent to
             // downstream to avoid checkpoint timeout.
-            TableId tableId = splitState.asSnapshotSplitState().toMySqlSplit().getTableId();
+            MySqlSnapshotSplit split =
+                    splitState.asSnapshotSplitState().toMySqlSplit().asSnapshotSplit();
+            TableId tableId = split.getTableId();
             if (!alreadySendCreateTableTables.contains(tableId)) {
-                try (JdbcConnection jdbc = openJdbcConnection(sourceConfig)) {
-                    sendCreateTableEvent(jdbc, tableId, output);
-                    alreadySendCreateTableTables.add(tableId);
+                TableChanges.TableChange tableChange = split.getTableSchemas().get(tableId);
+                if (tableChange != null) {
+                    // The schema discovered by the enumerator is kept in the checkpointed split,
+                    // so there is no need to query it again.
+                    output.collect(
+                            new CreateTableEvent(
+                                    toCdcTableId(tableId),
+                                    buildSchemaFromTable(tableChange.getTable())));
+                } else {
+                    try (JdbcConnection jdbc = openJdbcConnection(sourceConfig)) {
+                        sendCreateTableEvent(jdbc, tableId, output);
+                    }
                 }
+                alreadySendCreateTableTables.add(tableId);
             }
         } else {
             boolean isDataChangeRecord = isDataChangeRecord(element);
@@ -292,20 +308,24 @@ public class MySqlPipelineRecordEmitter extends MySqlRecordEmitter<Event> {
 
     private synchronized MySqlAntlrDdlParser getParser() {
         if (mySqlAntlrDdlParser == null) {
-            boolean includeComments =
-                    sourceConfig
-                            .getDbzConfiguration()
-                            .getBoolean(
-                                    RelationalDatabaseConnectorConfig.INCLUDE_SCHEMA_COMMENTS
-                                            .name(),
-                                    false);
             mySqlAntlrDdlParser =
                     new MySqlAntlrDdlParser(
-                            true, false, includeComments, null, Tables.TableFilter.includeAll());
+                            true,
+                            false,
+                            isIncludeComments(),
+                            null,
+                            Tables.TableFilter.includeAll());
         }
         return mySqlAntlrDdlParser;
     }
 
+    private boolean isIncludeComments() {
+        return sourceConfig
+                .getDbzConfiguration()
+                .getBoolean(
+                        RelationalDatabaseConnectorConfig.INCLUDE_SCHEMA_COMMENTS.name(), false);
+    }
+
     private Map<TableId, CreateTableEvent> generateCreateTableEvent(
             MySqlSourceConfig sourceConfig) {
         try (JdbcConnection jdbc = openJdbcConnection(sourceConfig)) {
@@ -313,8 +333,14 @@ public class MySqlPipelineRecordEmitter extends MySqlRecordEmitter<Event> {
             List<TableId> capturedTableIds =
                     listTables(
                             jdbc, sourceConfig.getDatabaseFilter(), sourceConfig.getTableFilter());
+            Map<TableId, Table> tables =
+                    new MySqlSchemaLoader(
+                                    sourceConfig, SCHEMA_LOADING_PARALLELISM, isIncludeComments())
+                            .load(capturedTableIds);
             for (TableId tableId : capturedTableIds) {
-                Schema schema = getSchema(jdbc, tableId);
+                Table table = tables.get(tableId);
+                Schema schema =
+                        table != null ? buildSchemaFromTable(table) : getSchema(jdbc, tableId);
                 createTableEventCache.put(
                         tableId,
                         new CreateTableEvent(
@@ -0,0 +1,323 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.connectors.mysql.utils;
+
+import org.apache.flink.cdc.common.annotation.VisibleForTesting;
+import org.apache.flink.cdc.connectors.mysql.source.config.MySqlSourceConfig;
+import org.apache.flink.util.FlinkRuntimeException;
+
+import org.apache.flink.shaded.guava31.com.google.common.util.concurrent.ThreadFactoryBuilder;
+
+import io.debezium.jdbc.JdbcConnection;
+import io.debezium.relational.Column;
+import io.debezium.relational.ColumnEditor;
+import io.debezium.relational.Table;
+import io.debezium.relational.TableEditor;
+import io.debezium.relational.TableId;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.Nullable;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.apache.flink.cdc.connectors.mysql.debezium.DebeziumUtils.openJdbcConnection;
+
+/**
+ * Loads the schemas of MySQL tables in bulk from {@code information_schema}, instead of running
+ * {@code SHOW CREATE TABLE} and parsing the DDL of each table. Databases are distributed over a
+ * small pool of threads, each of which holds its own connection.
+ *
+ * <p>Tables whose metadata could not be converted are absent from the result, and callers should
+ * fall back to parsing their DDL.
+ */
+public class MySqlSchemaLoader {
+
+    private static final Logger LOG = LoggerFactory.getLogger(MySqlSchemaLoader.class);
+
+    private static final String COLUMNS_QUERY =
+            "SELECT TABLE_NAME, COLUMN_NAME, DATA_TYPE, COLUMN_TYPE, IS_NULLABLE, COLUMN_DEFAULT,"
+                    + " EXTRA, COLUMN_COMMENT FROM information_schema.COLUMNS WHERE TABLE_SCHEMA = ?"
+                    + " ORDER BY TABLE_NAME, ORDINAL_POSITION";
+    private static final String PRIMARY_KEYS_QUERY =
+            "SELECT TABLE_NAME, COLUMN_NAME FROM information_schema.STATISTICS"
+                    + " WHERE TABLE_SCHEMA = ? AND INDEX_NAME = 'PRIMARY'"
+                    + " ORDER BY TABLE_NAME, SEQ_IN_INDEX";
+    private static final String TABLE_COMMENTS_QUERY =
+            "SELECT TABLE_NAME, TABLE_COMMENT FROM information_schema.TABLES WHERE TABLE_SCHEMA = ?";
+
+    /**
+     * The default value of temporal columns defaulting to the current time, same as the DDL parser.
+     */
+    private static final String EPOCH_DEFAULT_VALUE = "1970-01-01 00:00:00";
+
+    private final MySqlSourceConfig sourceConfig;
+    private final int parallelism;
+    private final boolean includeComments;
+
+    public MySqlSchemaLoader(
+            MySqlSourceConfig sourceConfig, int parallelism, boolean includeComments) {
+        this.sourceConfig = sourceConfig;
+        this.parallelism = parallelism;
+        this.includeComments = includeComments;
+    }
+
+    /** Loads the schemas of given tables. */
+    public Map<TableId, Table> load(Collection<TableId> tableIds) {
+        Map<String, Set<String>> tablesByDatabase = new LinkedHashMap<>();
+        for (TableId tableId : tableIds) {
+            tablesByDatabase
+                    .computeIfAbsent(tableId.catalog(), database -> new TreeSet<>())
+                    .add(tableId.table());
+        }
+        if (tablesByDatabase.isEmpty()) {
+            return new HashMap<>();
+        }
+
+        int threads = Math.max(1, Math.min(parallelism, tablesByDatabase.size()));
+        List<List<String>> databaseGroups = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            databaseGroups.add(new ArrayList<>());
+        }
+        int index = 0;
+        for (String database : tablesByDatabase.keySet()) {
+            databaseGroups.get(index++ % threads).add(database);
+        }
+
+        long start = System.currentTimeMillis();
+        ExecutorService executor =
+                Executors.newFixedThreadPool(
+                        threads,
+                        new ThreadFactoryBuilder().setNameFormat("mysql-schema-loader-%d").build());
+        try {
+            List<Future<Map<TableId, Table>>> futures = new ArrayList<>();
+            for (List<String> databases : databaseGroups) {
+                futures.add(
+                        executor.submit(
+                                () -> {
+                                    Map<TableId, Table> tables = new HashMap<>();
+                                    try (JdbcConnection jdbc = openJdbcConnection(sourceConfig)) {
+                                        for (String database : databases) {
+                                            tables.putAll(
+                                                    loadDatabase(
+                                                            jdbc,
+                                                            database,
+                                                            tablesByDatabase.get(database)));
+                                        }
+                                    }
+                                    return tables;
+                                }));
+            }
+            Map<TableId, Table> tables = new HashMap<>();
+            for (Future<Map<TableId, Table>> future : futures) {
+                tables.putAll(future.get());
+            }
+            LOG.info(
+                    "Loaded schemas of {} tables in {} databases in {} ms.",
+                    tables.size(),
+                    tablesByDatabase.size(),
+                    System.currentTimeMillis() - start);
+            return tables;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new FlinkRuntimeException("Interrupted while loading table schemas.", e);
+        } catch (ExecutionException e) {
+            throw new FlinkRuntimeException("Failed to load table schemas.", e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private Map<TableId, Table> loadDatabase(
+            JdbcConnection jdbc, String database, Set<String> tableNames) throws SQLException {
+        Map<String, TableEditor> editors = new HashMap<>();
+        Map<String, List<String>> primaryKeys = new HashMap<>();
+        Set<String> failedTables = new TreeSet<>();
+
+        jdbc.prepareQuery(
+                COLUMNS_QUERY,
+                statement -> statement.setString(1, database),
+                rs -> {
+                    while (rs.next()) {
+                        String tableName = rs.getString(1);
+                        if (!tableNames.contains(tableName) || failedTables.contains(tableName)) {
+                            continue;
+                        }
+                        TableEditor editor =
+                                editors.computeIfAbsent(
+                                        tableName,
+                                        name ->
+                                                Table.editor()
+                                                        .tableId(
+                                                                new TableId(database, null, name)));
+                        try {
+                            editor.addColumn(
+                                    toColumn(
+                                            rs.getString(2),
+                                            rs.getString(3),
+                                            rs.getString(4),
+                                            "YES".equalsIgnoreCase(rs.getString(5)),
+                                            rs.getString(6),
+                                            rs.getString(7),
+                                            includeComments ? rs.getString(8) : null,
+                                            editor.columns().size() + 1));
+                        } catch (RuntimeException e) {
+                            LOG.warn(
+                                    "Failed to load the schema of table {}.{} from"
+                                            + " information_schema, will parse its DDL instead.",
+                                    database,
+                                    tableName,
+                                    e);
+                            failedTables.add(tableName);
+                        }
+                    }
+                });
+        jdbc.prepareQuery(
+                PRIMARY_KEYS_QUERY,
+                statement -> statement.setString(1, database),
+                rs -> {
+                    while (rs.next()) {
+                        primaryKeys
+                                .computeIfAbsent(rs.getString(1), name -> new ArrayList<>())
+                                .add(rs.getString(2));
+                    }
+                });
+        if (includeComments) {
+            jdbc.prepareQuery(
+                    TABLE_COMMENTS_QUERY,
+                    statement -> statement.setString(1, database),
+                    rs -> {
+                        while (rs.next()) {
+                            TableEditor editor = editors.get(rs.getString(1));
+                            if (editor != null) {
+                                editor.setComment(emptyToNull(rs.getString(2)));
+                            }
+                        }
+                    });
+        }
+
+        Map<TableId, Table> tables = new HashMap<>();
+        for (Map.Entry<String, TableEditor> entry : editors.entrySet()) {
+            if (failedTables.contains(entry.getKey())) {
+                continue;
+            }
+            TableEditor editor = entry.getValue();
+            List<String> primaryKey = primaryKeys.get(entry.getKey());
+            if (primaryKey != null) {
+                editor.setPrimaryKeyNames(primaryKey);
+            }
+            Table table = editor.create();
+            tables.put(table.id(), table);
+        }
+        return tables;
+    }
+
+    /**
+     * Creates a column from its metadata in {@code information_schema.COLUMNS}, in the same way as
+     * parsing it from the DDL of the table.
+     */
+    @VisibleForTesting
+    static Column toColumn(
+            String name,
+            String dataType,
+            String columnType,
+            boolean nullable,
+            @Nullable String defaultValue,
+            @Nullable String extra,
+            @Nullable String comment,
+            int position) {
+        String lowerCaseColumnType = columnType.toLowerCase(Locale.ROOT);
+        StringBuilder typeName = new StringBuilder(dataType.toUpperCase(Locale.ROOT));
+        if (lowerCaseColumnType.contains(" unsigned")) {
+            typeName.append(" UNSIGNED");
+        }
+        if (lowerCaseColumnType.contains(" zerofill")) {
+            typeName.append(" ZEROFILL");
+        }
+
+        ColumnEditor editor =
+                Column.editor()
+                        .name(name)
+                        .type(typeName.toString(), columnType)
+                        .position(position)
+                        .optional(nullable)
+                        .comment(emptyToNull(comment));
+
+        // length and scale are only declared by numeric arguments, e.g. DECIMAL(10,2), while
+        // arguments of ENUM and SET are their values
+        int open = columnType.indexOf('(');
+        int close = columnType.indexOf(')', open + 1);
+        if (open > 0 && close > open) {
+            String[] arguments = columnType.substring(open + 1, close).split(",");
+            if (isNumber(arguments[0])) {
+                editor.length(Integer.parseInt(arguments[0].trim()));
+                if (arguments.length > 1 && isNumber(arguments[1])) {
+                    editor.scale(Integer.parseInt(arguments[1].trim()));
+                }
+            }
+        }
+
+        if (defaultValue != null) {
+            String upperCaseDefaultValue = defaultValue.toUpperCase(Locale.ROOT);
+            if (upperCaseDefaultValue.startsWith("CURRENT_TIMESTAMP")
+                    || upperCaseDefaultValue.startsWith("NOW(")) {
+                editor.defaultValueExpression(EPOCH_DEFAULT_VALUE);
+            } else if (extra != null
+                    && extra.toUpperCase(Locale.ROOT).contains("DEFAULT_GENERATED")) {
+                // expressions other than the current time are not evaluated by the DDL parser
+                // either
+            } else if (upperCaseDefaultValue.startsWith("B'") && defaultValue.endsWith("'")) {
+                editor.defaultValueExpression(defaultValue.substring(2, defaultValue.length() - 1));
+            } else {
+                editor.defaultValueExpression(defaultValue);
+            }
+        }
+        return editor.create();
+    }
+
+    private static boolean isNumber(String argument) {
+        String trimmed = argument.trim();
+        if (trimmed.isEmpty()) {
+            return false;
+        }
+        for (int i = 0; i < trimmed.length(); i++) {
+            if (!Character.isDigit(trimmed.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Nullable
+    private static String emptyToNull(@Nullable String value) {
+        return value == null || value.isEmpty() ? null : value;
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.connectors.mysql.utils;
+
+import org.apache.flink.cdc.common.types.CharType;
+import org.apache.flink.cdc.common.types.DataType;
+import org.apache.flink.cdc.common.types.DataTypes;
+
+import io.debezium.relational.Column;
+import org.assertj.core.api.Assertions;
+import org.assertj.core.api.ObjectAssert;
+import org.junit.jupiter.api.Test;
+
+/** Tests for {@link MySqlSchemaLoader}. */
+class MySqlSchemaLoaderTest {
+
+    @Test
+    void testConvertColumnTypes() {
+        assertType("tinyint", "tinyint(1)", true).isEqualTo(DataTypes.BOOLEAN());
+        assertType("tinyint", "tinyint(1)", false).isEqualTo(DataTypes.TINYINT());
+        assertType("tinyint", "tinyint(3) unsigned", true).isEqualTo(DataTypes.SMALLINT());
+        assertType("int", "int", true).isEqualTo(DataTypes.INT());
+        assertType("int", "int(10) unsigned zerofill", true).isEqualTo(DataTypes.BIGINT());
+        assertType("bigint", "bigint(20) unsigned", true).isEqualTo(DataTypes.DECIMAL(20, 0));
+        assertType("float", "float", true).isEqualTo(DataTypes.FLOAT());
+        assertType("float", "float(7,4)", true).isEqualTo(DataTypes.DOUBLE());
+        assertType("decimal", "decimal(10,2)", true).isEqualTo(DataTypes.DECIMAL(10, 2));
+        assertType("varchar", "varchar(255)", true).isEqualTo(DataTypes.VARCHAR(255));
+        assertType("char", "char(0)", true).isEqualTo(CharType.ofEmptyLiteral());
+        assertType("datetime", "datetime", true).isEqualTo(DataTypes.TIMESTAMP(0));
+        assertType("timestamp", "timestamp(3)", true).isEqualTo(DataTypes.TIMESTAMP_LTZ(3));
+        assertType("bit", "bit(16)", true).isEqualTo(DataTypes.BINARY(2));
+        assertType("enum", "enum('10','20')", true).isEqualTo(DataTypes.STRING());
+        assertType("set", "set('a','b')", true).isEqualTo(DataTypes.ARRAY(DataTypes.STRING()));
+    }
+
+    @Test
+    void testConvertColumnAttributes() {
+        Column column =
+                MySqlSchemaLoader.toColumn("id", "int", "int(11)", false, "0", "", "the id", 1);
+        Assertions.assertThat(column.name()).isEqualTo("id");
+        Assertions.assertThat(column.position()).isEqualTo(1);
+        Assertions.assertThat(column.isOptional()).isFalse();
+        Assertions.assertThat(column.length()).isEqualTo(11);
+        Assertions.assertThat(column.defaultValueExpression()).hasValue("0");
+        Assertions.assertThat(column.comment()).isEqualTo("the id");
+
+        // same default values as the DDL parser
+        Assertions.assertThat(
+                        MySqlSchemaLoader.toColumn(
+                                        "ts",
+                                        "timestamp",
+                                        "timestamp(3)",
+                                        true,
+                                        "CURRENT_TIMESTAMP(3)",
+                                        "DEFAULT_GENERATED on update CURRENT_TIMESTAMP(3)",
+                                        "",
+                                        2)
+                                .defaultValueExpression())
+                .hasValue("1970-01-01 00:00:00");
+        Assertions.assertThat(
+                        MySqlSchemaLoader.toColumn(
+                                        "flags", "bit", "bit(3)", true, "b'101'", "", null, 3)
+                                .defaultValueExpression())
+                .hasValue("101");
+        Assertions.assertThat(
+                        MySqlSchemaLoader.toColumn(
+                                        "uuid",
+                                        "varchar",
+                                        "varchar(36)",
+                                        true,
+                                        "uuid()",
+                                        "DEFAULT_GENERATED",
+                                        null,
+                                        4)
+                                .defaultValueExpression())
+                .isEmpty();
+    }
+
+    private static ObjectAssert<DataType> assertType(
+            String dataType, String columnType, boolean tinyInt1isBit) {
+        return Assertions.assertThat(
+                MySqlTypeUtils.fromDbzColumn(
+                        MySqlSchemaLoader.toColumn(
+                                "c", dataType, columnType, true, null, "", null, 1),
+                        tinyInt1isBit));
+    }
+}
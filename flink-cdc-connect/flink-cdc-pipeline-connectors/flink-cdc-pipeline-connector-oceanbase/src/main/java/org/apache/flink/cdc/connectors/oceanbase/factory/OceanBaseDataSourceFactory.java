@@ -0,0 +1,119 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.connectors.oceanbase.factory;
+
+import org.apache.flink.cdc.common.annotation.Internal;
+import org.apache.flink.cdc.common.configuration.ConfigOption;
+import org.apache.flink.cdc.common.configuration.Configuration;
+import org.apache.flink.cdc.common.factories.DataSourceFactory;
+import org.apache.flink.cdc.common.factories.FactoryHelper;
+import org.apache.flink.cdc.common.source.DataSource;
+import org.apache.flink.cdc.connectors.oceanbase.source.OceanBaseDataSource;
+import org.apache.flink.cdc.connectors.oceanbase.source.config.OceanBaseSourceConfig;
+import org.apache.flink.cdc.connectors.oceanbase.utils.OptionUtils;
+
+import java.time.ZoneId;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.apache.flink.cdc.connectors.oceanbase.source.OceanBaseDataSourceOptions.BINLOG_HOSTNAME;
+import static org.apache.flink.cdc.connectors.oceanbase.source.OceanBaseDataSourceOptions.BINLOG_PORT;
+import static org.apache.flink.cdc.connectors.oceanbase.source.OceanBaseDataSourceOptions.CLUSTER_NAME;
+import static org.apache.flink.cdc.connectors.oceanbase.source.OceanBaseDataSourceOptions.CONNECT_TIMEOUT;
+import static org.apache.flink.cdc.connectors.oceanbase.source.OceanBaseDataSourceOptions.HOSTNAME;
+import static org.apache.flink.cdc.connectors.oceanbase.source.OceanBaseDataSourceOptions.PASSWORD;
+import static org.apache.flink.cdc.connectors.oceanbase.source.OceanBaseDataSourceOptions.PORT;
+import static org.apache.flink.cdc.connectors.oceanbase.source.OceanBaseDataSourceOptions.SERVER_ID;
+import static org.apache.flink.cdc.connectors.oceanbase.source.OceanBaseDataSourceOptions.SERVER_TIME_ZONE;
+import static org.apache.flink.cdc.connectors.oceanbase.source.OceanBaseDataSourceOptions.TABLES;
+import static org.apache.flink.cdc.connectors.oceanbase.source.OceanBaseDataSourceOptions.TENANTS;
+import static org.apache.flink.cdc.connectors.oceanbase.source.OceanBaseDataSourceOptions.USERNAME;
+import static org.apache.flink.util.Preconditions.checkArgument;
+
+/** A {@link DataSourceFactory} to create {@link OceanBaseDataSource}. */
+@Internal
+public class OceanBaseDataSourceFactory implements DataSourceFactory {
+
+    private static final String IDENTIFIER = "oceanbase";
+
+    @Override
+    public DataSource createDataSource(Context context) {
+        FactoryHelper.createFactoryHelper(this, context).validate();
+
+        Configuration config = context.getFactoryConfiguration();
+        OptionUtils.printOptions(IDENTIFIER, config.toMap());
+
+        List<String> tenants =
+                Arrays.stream(config.get(TENANTS).split(","))
+                        .map(String::trim)
+                        .filter(tenant -> !tenant.isEmpty())
+                        .collect(Collectors.toList());
+        checkArgument(!tenants.isEmpty(), "The option '%s' is empty.", TENANTS.key());
+
+        String hostname = config.get(HOSTNAME);
+        String binlogHostname = config.getOptional(BINLOG_HOSTNAME).orElse(hostname);
+        String serverTimeZone =
+                config.getOptional(SERVER_TIME_ZONE).orElse(ZoneId.systemDefault().getId());
+        return new OceanBaseDataSource(
+                new OceanBaseSourceConfig(
+                        hostname,
+                        config.get(PORT),
+                        config.get(USERNAME),
+                        config.get(PASSWORD),
+                        tenants,
+                        config.get(CLUSTER_NAME),
+                        config.get(TABLES),
+                        binlogHostname,
+                        config.get(BINLOG_PORT),
+                        config.get(SERVER_ID),
+                        serverTimeZone,
+                        config.get(CONNECT_TIMEOUT)));
+    }
+
+    @Override
+    public String identifier() {
+        return IDENTIFIER;
+    }
+
+    @Override
+    public Set<ConfigOption<?>> requiredOptions() {
+        Set<ConfigOption<?>> options = new HashSet<>();
+        options.add(HOSTNAME);
+        options.add(USERNAME);
+        options.add(PASSWORD);
+        options.add(TENANTS);
+        options.add(TABLES);
+        return options;
+    }
+
+    @Override
+    public Set<ConfigOption<?>> optionalOptions() {
+        Set<ConfigOption<?>> options = new HashSet<>();
+        options.add(PORT);
+        options.add(CLUSTER_NAME);
+        options.add(BINLOG_HOSTNAME);
+        options.add(BINLOG_PORT);
+        options.add(SERVER_ID);
+        options.add(SERVER_TIME_ZONE);
+        options.add(CONNECT_TIMEOUT);
+        return options;
+    }
+}
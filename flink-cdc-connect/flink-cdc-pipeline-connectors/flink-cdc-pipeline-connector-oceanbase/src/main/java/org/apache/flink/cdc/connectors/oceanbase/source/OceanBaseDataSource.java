@@ -0,0 +1,70 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.connectors.oceanbase.source;
+
+import org.apache.flink.cdc.common.annotation.Internal;
+import org.apache.flink.cdc.common.source.DataSource;
+import org.apache.flink.cdc.common.source.EventSourceProvider;
+import org.apache.flink.cdc.common.source.FlinkSourceProvider;
+import org.apache.flink.cdc.common.source.MetadataAccessor;
+import org.apache.flink.cdc.connectors.oceanbase.source.config.OceanBaseSourceConfig;
+import org.apache.flink.cdc.connectors.oceanbase.source.log.BinlogServiceLogStreamFactory;
+import org.apache.flink.cdc.connectors.oceanbase.source.split.CapturedTable;
+import org.apache.flink.cdc.connectors.oceanbase.source.split.LogStreamSplit;
+import org.apache.flink.cdc.connectors.oceanbase.source.split.LogStreamSplitPlanner;
+import org.apache.flink.cdc.connectors.oceanbase.source.utils.OceanBaseSchemaUtils;
+
+import java.util.List;
+
+/**
+ * A {@link DataSource} for OceanBase MySQL mode tenants, which streams the changes of the captured
+ * tables from the latest log position, there is no snapshot phase. The splits are planned on the
+ * client, one for each tenant.
+ */
+@Internal
+public class OceanBaseDataSource implements DataSource {
+
+    private final OceanBaseSourceConfig sourceConfig;
+
+    public OceanBaseDataSource(OceanBaseSourceConfig sourceConfig) {
+        this.sourceConfig = sourceConfig;
+    }
+
+    @Override
+    public EventSourceProvider getEventSourceProvider() {
+        List<CapturedTable> tables = OceanBaseSchemaUtils.discoverCapturedTables(sourceConfig);
+        if (tables.isEmpty()) {
+            throw new IllegalArgumentException(
+                    String.format(
+                            "Cannot find any table by the option 'tables' = %s",
+                            sourceConfig.getTables()));
+        }
+        List<LogStreamSplit> splits = LogStreamSplitPlanner.planSplits(tables);
+        return FlinkSourceProvider.of(
+                new OceanBaseLogSource(splits, new BinlogServiceLogStreamFactory(sourceConfig)));
+    }
+
+    @Override
+    public MetadataAccessor getMetadataAccessor() {
+        return new OceanBaseMetadataAccessor(sourceConfig);
+    }
+
+    public OceanBaseSourceConfig getSourceConfig() {
+        return sourceConfig;
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.connectors.oceanbase.source;
+
+import org.apache.flink.cdc.common.annotation.PublicEvolving;
+import org.apache.flink.cdc.common.configuration.ConfigOption;
+import org.apache.flink.cdc.common.configuration.ConfigOptions;
+
+import java.time.Duration;
+
+/** Configurations for {@link OceanBaseDataSource}. */
+@PublicEvolving
+public class OceanBaseDataSourceOptions {
+
+    public static final ConfigOption<String> HOSTNAME =
+            ConfigOptions.key("hostname")
+                    .stringType()
+                    .noDefaultValue()
+                    .withDescription("IP address or hostname of the OceanBase server or proxy.");
+
+    public static final ConfigOption<Integer> PORT =
+            ConfigOptions.key("port")
+                    .intType()
+                    .defaultValue(2881)
+                    .withDescription("Integer port number of the OceanBase server or proxy.");
+
+    public static final ConfigOption<String> USERNAME =
+            ConfigOptions.key("username")
+                    .stringType()
+                    .noDefaultValue()
+                    .withDescription(
+                            "Name of the user to use when connecting to OceanBase, without the "
+                                    + "tenant and cluster names, e.g. 'root'.");
+
+    public static final ConfigOption<String> PASSWORD =
+            ConfigOptions.key("password")
+                    .stringType()
+                    .noDefaultValue()
+                    .withDescription("Password to use when connecting to OceanBase.");
+
+    public static final ConfigOption<String> TENANTS =
+            ConfigOptions.key("tenants")
+                    .stringType()
+                    .noDefaultValue()
+                    .withDescription(
+                            "Comma separated names of the MySQL mode tenants to capture. "
+                                    + "The logs of every tenant are read in parallel.");
+
+    public static final ConfigOption<String> CLUSTER_NAME =
+            ConfigOptions.key("cluster-name")
+                    .stringType()
+                    .noDefaultValue()
+                    .withDescription(
+                            "Name of the OceanBase cluster, which is appended to the user names "
+                                    + "if the connections go through OceanBase proxies.");
+
+    public static final ConfigOption<String> TABLES =
+            ConfigOptions.key("tables")
+                    .stringType()
+                    .noDefaultValue()
+                    .withDescription(
+                            "Table names of the OceanBase tables to capture in the form of "
+                                    + "'tenant.database.table'. Regular expressions are supported, "
+                                    + "the dot (.) is treated as the delimiter, "
+                                    + "eg. tenant_a.db0.\\.*, tenant_[a-b].app_db.order_\\.*");
+
+    public static final ConfigOption<String> BINLOG_HOSTNAME =
+            ConfigOptions.key("binlog.hostname")
+                    .stringType()
+                    .noDefaultValue()
+                    .withDescription(
+                            "IP address or hostname of the OceanBase binlog service, "
+                                    + "the 'hostname' is used if not set.");
+
+    public static final ConfigOption<Integer> BINLOG_PORT =
+            ConfigOptions.key("binlog.port")
+                    .intType()
+                    .defaultValue(2983)
+                    .withDescription("Integer port number of the OceanBase binlog service.");
+
+    public static final ConfigOption<Long> SERVER_ID =
+            ConfigOptions.key("server-id")
+                    .longType()
+                    .defaultValue(5400L)
+                    .withDescription(
+                            "The first server id of the log stream clients, the log stream "
+                                    + "of each tenant uses the next one.");
+
+    public static final ConfigOption<String> SERVER_TIME_ZONE =
+            ConfigOptions.key("server-time-zone")
+                    .stringType()
+                    .noDefaultValue()
+                    .withDescription(
+                            "The session time zone in database server. If not set, then "
+                                    + "ZoneId.systemDefault() is used to determine the server time zone.");
+
+    public static final ConfigOption<Duration> CONNECT_TIMEOUT =
+            ConfigOptions.key("connect.timeout")
+                    .durationType()
+                    .defaultValue(Duration.ofSeconds(30))
+                    .withDescription(
+                            "The maximum time that the connector should wait after trying to "
+                                    + "connect to OceanBase before timing out.");
+}
@@ -0,0 +1,87 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.connectors.oceanbase.source;
+
+import org.apache.flink.api.connector.source.Boundedness;
+import org.apache.flink.api.connector.source.Source;
+import org.apache.flink.api.connector.source.SourceReader;
+import org.apache.flink.api.connector.source.SourceReaderContext;
+import org.apache.flink.api.connector.source.SplitEnumerator;
+import org.apache.flink.api.connector.source.SplitEnumeratorContext;
+import org.apache.flink.cdc.common.annotation.Internal;
+import org.apache.flink.cdc.common.event.Event;
+import org.apache.flink.cdc.connectors.oceanbase.source.enumerator.LogStreamSplitEnumerator;
+import org.apache.flink.cdc.connectors.oceanbase.source.enumerator.PendingSplitsSerializer;
+import org.apache.flink.cdc.connectors.oceanbase.source.log.OceanBaseLogStreamFactory;
+import org.apache.flink.cdc.connectors.oceanbase.source.reader.OceanBaseLogSourceReader;
+import org.apache.flink.cdc.connectors.oceanbase.source.split.LogStreamSplit;
+import org.apache.flink.cdc.connectors.oceanbase.source.split.LogStreamSplitSerializer;
+import org.apache.flink.core.io.SimpleVersionedSerializer;
+
+import java.util.List;
+
+/**
+ * The Flink {@link Source} of the OceanBase data source. The logs of the captured tenants are read
+ * in parallel, each by a {@link LogStreamSplit} of its own.
+ */
+@Internal
+public class OceanBaseLogSource implements Source<Event, LogStreamSplit, List<LogStreamSplit>> {
+
+    private static final long serialVersionUID = 1L;
+
+    private final List<LogStreamSplit> splits;
+    private final OceanBaseLogStreamFactory logStreamFactory;
+
+    public OceanBaseLogSource(
+            List<LogStreamSplit> splits, OceanBaseLogStreamFactory logStreamFactory) {
+        this.splits = splits;
+        this.logStreamFactory = logStreamFactory;
+    }
+
+    @Override
+    public Boundedness getBoundedness() {
+        return Boundedness.CONTINUOUS_UNBOUNDED;
+    }
+
+    @Override
+    public SplitEnumerator<LogStreamSplit, List<LogStreamSplit>> createEnumerator(
+            SplitEnumeratorContext<LogStreamSplit> enumContext) {
+        return new LogStreamSplitEnumerator(enumContext, splits);
+    }
+
+    @Override
+    public SplitEnumerator<LogStreamSplit, List<LogStreamSplit>> restoreEnumerator(
+            SplitEnumeratorContext<LogStreamSplit> enumContext, List<LogStreamSplit> checkpoint) {
+        return new LogStreamSplitEnumerator(enumContext, checkpoint);
+    }
+
+    @Override
+    public SimpleVersionedSerializer<LogStreamSplit> getSplitSerializer() {
+        return LogStreamSplitSerializer.INSTANCE;
+    }
+
+    @Override
+    public SimpleVersionedSerializer<List<LogStreamSplit>> getEnumeratorCheckpointSerializer() {
+        return new PendingSplitsSerializer();
+    }
+
+    @Override
+    public SourceReader<Event, LogStreamSplit> createReader(SourceReaderContext readerContext) {
+        return new OceanBaseLogSourceReader(logStreamFactory, readerContext);
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.connectors.oceanbase.source;
+
+import org.apache.flink.cdc.common.annotation.Internal;
+import org.apache.flink.cdc.common.event.TableId;
+import org.apache.flink.cdc.common.schema.Schema;
+import org.apache.flink.cdc.common.source.MetadataAccessor;
+import org.apache.flink.cdc.connectors.oceanbase.source.config.OceanBaseSourceConfig;
+import org.apache.flink.cdc.connectors.oceanbase.source.utils.OceanBaseSchemaUtils;
+
+import javax.annotation.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * {@link MetadataAccessor} for {@link OceanBaseDataSource}. The namespaces are the captured
+ * tenants, and the schemas are the databases of the tenants.
+ */
+@Internal
+public class OceanBaseMetadataAccessor implements MetadataAccessor {
+
+    private final OceanBaseSourceConfig sourceConfig;
+
+    public OceanBaseMetadataAccessor(OceanBaseSourceConfig sourceConfig) {
+        this.sourceConfig = sourceConfig;
+    }
+
+    @Override
+    public List<String> listNamespaces() {
+        return Collections.unmodifiableList(sourceConfig.getTenants());
+    }
+
+    /**
+     * List the databases of a tenant.
+     *
+     * @param namespace The tenant to list databases from. If null, list databases from all tenants.
+     * @return The list of database
+     */
+    @Override
+    public List<String> listSchemas(@Nullable String namespace) {
+        List<String> databases = new ArrayList<>();
+        for (String tenant : tenantsOf(namespace)) {
+            databases.addAll(OceanBaseSchemaUtils.listDatabases(sourceConfig, tenant));
+        }
+        return databases;
+    }
+
+    /**
+     * List the tables of a tenant.
+     *
+     * @param namespace The tenant to list tables from. If null, list tables from all tenants.
+     * @param schemaName The database to list tables from. If null, list tables from all databases.
+     * @return The list of {@link TableId}s.
+     */
+    @Override
+    public List<TableId> listTables(@Nullable String namespace, @Nullable String schemaName) {
+        List<TableId> tableIds = new ArrayList<>();
+        for (String tenant : tenantsOf(namespace)) {
+            tableIds.addAll(OceanBaseSchemaUtils.listTables(sourceConfig, tenant, schemaName));
+        }
+        return tableIds;
+    }
+
+    @Override
+    public Schema getTableSchema(TableId tableId) {
+        return OceanBaseSchemaUtils.getTableSchema(sourceConfig, tableId);
+    }
+
+    private List<String> tenantsOf(@Nullable String namespace) {
+        return namespace == null ? sourceConfig.getTenants() : Collections.singletonList(namespace);
+    }
+}
@@ -0,0 +1,127 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.connectors.oceanbase.source.config;
+
+import org.apache.flink.cdc.common.annotation.Internal;
+
+import javax.annotation.Nullable;
+
+import java.io.Serializable;
+import java.time.Duration;
+import java.time.ZoneId;
+import java.util.List;
+
+/** The configuration of the OceanBase data source. */
+@Internal
+public class OceanBaseSourceConfig implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private final String hostname;
+    private final int port;
+    private final String username;
+    private final String password;
+    private final List<String> tenants;
+    @Nullable private final String clusterName;
+    private final String tables;
+    private final String binlogHostname;
+    private final int binlogPort;
+    private final long serverId;
+    private final String serverTimeZone;
+    private final Duration connectTimeout;
+
+    public OceanBaseSourceConfig(
+            String hostname,
+            int port,
+            String username,
+            String password,
+            List<String> tenants,
+            @Nullable String clusterName,
+            String tables,
+            String binlogHostname,
+            int binlogPort,
+            long serverId,
+            String serverTimeZone,
+            Duration connectTimeout) {
+        this.hostname = hostname;
+        this.port = port;
+        this.username = username;
+        this.password = password;
+        this.tenants = tenants;
+        this.clusterName = clusterName;
+        this.tables = tables;
+        this.binlogHostname = binlogHostname;
+        this.binlogPort = binlogPort;
+        this.serverId = serverId;
+        this.serverTimeZone = serverTimeZone;
+        this.connectTimeout = connectTimeout;
+    }
+
+    public String getHostname() {
+        return hostname;
+    }
+
+    public int getPort() {
+        return port;
+    }
+
+    public String getPassword() {
+        return password;
+    }
+
+    public List<String> getTenants() {
+        return tenants;
+    }
+
+    public String getTables() {
+        return tables;
+    }
+
+    public String getBinlogHostname() {
+        return binlogHostname;
+    }
+
+    public int getBinlogPort() {
+        return binlogPort;
+    }
+
+    public long getServerId() {
+        return serverId;
+    }
+
+    public ZoneId getServerTimeZone() {
+        return ZoneId.of(serverTimeZone);
+    }
+
+    public Duration getConnectTimeout() {
+        return connectTimeout;
+    }
+
+    /** Returns the user name to log into given tenant, like {@code root@tenant#cluster}. */
+    public String getUsername(String tenant) {
+        return username + "@" + tenant + (clusterName == null ? "" : "#" + clusterName);
+    }
+
+    /** Returns the JDBC URL to read the metadata of the tenants. */
+    public String getJdbcUrl() {
+        return String.format(
+                "jdbc:mysql://%s:%d/?useInformationSchema=true&nullCatalogMeansCurrent=false"
+                        + "&connectTimeout=%d",
+                hostname, port, connectTimeout.toMillis());
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.connectors.oceanbase.source.enumerator;
+
+import org.apache.flink.api.connector.source.SplitEnumerator;
+import org.apache.flink.api.connector.source.SplitEnumeratorContext;
+import org.apache.flink.cdc.common.annotation.Internal;
+import org.apache.flink.cdc.connectors.oceanbase.source.split.LogStreamSplit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * A {@link SplitEnumerator} which assigns every {@link LogStreamSplit} to a fixed reader, so the
+ * log streams are spread over the readers evenly. The splits never finish, a split only returns to
+ * the enumerator when its reader fails.
+ */
+@Internal
+public class LogStreamSplitEnumerator
+        implements SplitEnumerator<LogStreamSplit, List<LogStreamSplit>> {
+
+    private static final Logger LOG = LoggerFactory.getLogger(LogStreamSplitEnumerator.class);
+
+    private final SplitEnumeratorContext<LogStreamSplit> context;
+    private final List<LogStreamSplit> pendingSplits;
+
+    public LogStreamSplitEnumerator(
+            SplitEnumeratorContext<LogStreamSplit> context, Collection<LogStreamSplit> splits) {
+        this.context = context;
+        this.pendingSplits = new ArrayList<>(splits);
+    }
+
+    @Override
+    public void start() {
+        // splits are assigned when the readers are registered
+    }
+
+    @Override
+    public void handleSplitRequest(int subtaskId, @Nullable String requesterHostname) {
+        // splits are pushed to the readers
+    }
+
+    @Override
+    public void addSplitsBack(List<LogStreamSplit> splits, int subtaskId) {
+        LOG.info("Log stream splits {} are added back from subtask {}", splits, subtaskId);
+        pendingSplits.addAll(splits);
+        if (context.registeredReaders().containsKey(subtaskId)) {
+            assignPendingSplits(subtaskId);
+        }
+    }
+
+    @Override
+    public void addReader(int subtaskId) {
+        assignPendingSplits(subtaskId);
+    }
+
+    private void assignPendingSplits(int subtaskId) {
+        int parallelism = context.currentParallelism();
+        Iterator<LogStreamSplit> iterator = pendingSplits.iterator();
+        while (iterator.hasNext()) {
+            LogStreamSplit split = iterator.next();
+            if (split.getIndex() % parallelism == subtaskId) {
+                LOG.info("Assign log stream split {} to subtask {}", split, subtaskId);
+                context.assignSplit(split, subtaskId);
+                iterator.remove();
+            }
+        }
+    }
+
+    @Override
+    public List<LogStreamSplit> snapshotState(long checkpointId) {
+        return new ArrayList<>(pendingSplits);
+    }
+
+    @Override
+    public void close() {}
+}
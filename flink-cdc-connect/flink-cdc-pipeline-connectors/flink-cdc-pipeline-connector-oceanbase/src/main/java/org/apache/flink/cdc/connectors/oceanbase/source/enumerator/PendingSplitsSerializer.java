@@ -0,0 +1,73 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.connectors.oceanbase.source.enumerator;
+
+import org.apache.flink.cdc.common.annotation.Internal;
+import org.apache.flink.cdc.connectors.oceanbase.source.split.LogStreamSplit;
+import org.apache.flink.cdc.connectors.oceanbase.source.split.LogStreamSplitSerializer;
+import org.apache.flink.core.io.SimpleVersionedSerializer;
+import org.apache.flink.core.memory.DataInputDeserializer;
+import org.apache.flink.core.memory.DataOutputSerializer;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/** A serializer for the pending splits of {@link LogStreamSplitEnumerator}. */
+@Internal
+public class PendingSplitsSerializer implements SimpleVersionedSerializer<List<LogStreamSplit>> {
+
+    private static final int VERSION = 1;
+
+    private final LogStreamSplitSerializer splitSerializer = LogStreamSplitSerializer.INSTANCE;
+
+    @Override
+    public int getVersion() {
+        return VERSION;
+    }
+
+    @Override
+    public byte[] serialize(List<LogStreamSplit> splits) throws IOException {
+        DataOutputSerializer out = new DataOutputSerializer(256);
+        out.writeInt(splitSerializer.getVersion());
+        out.writeInt(splits.size());
+        for (LogStreamSplit split : splits) {
+            byte[] serializedSplit = splitSerializer.serialize(split);
+            out.writeInt(serializedSplit.length);
+            out.write(serializedSplit);
+        }
+        return out.getCopyOfBuffer();
+    }
+
+    @Override
+    public List<LogStreamSplit> deserialize(int version, byte[] serialized) throws IOException {
+        if (version != VERSION) {
+            throw new IOException("Unknown version: " + version);
+        }
+        DataInputDeserializer in = new DataInputDeserializer(serialized);
+        int splitVersion = in.readInt();
+        int size = in.readInt();
+        List<LogStreamSplit> splits = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            byte[] serializedSplit = new byte[in.readInt()];
+            in.readFully(serializedSplit);
+            splits.add(splitSerializer.deserialize(splitVersion, serializedSplit));
+        }
+        return splits;
+    }
+}
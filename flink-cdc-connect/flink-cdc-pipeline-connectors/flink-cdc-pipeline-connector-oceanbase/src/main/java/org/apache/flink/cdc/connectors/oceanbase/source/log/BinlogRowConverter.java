@@ -0,0 +1,295 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.connectors.oceanbase.source.log;
+
+import org.apache.flink.cdc.common.annotation.Internal;
+import org.apache.flink.cdc.common.data.DateData;
+import org.apache.flink.cdc.common.data.DecimalData;
+import org.apache.flink.cdc.common.data.LocalZonedTimestampData;
+import org.apache.flink.cdc.common.data.TimeData;
+import org.apache.flink.cdc.common.data.TimestampData;
+import org.apache.flink.cdc.common.data.binary.BinaryStringData;
+import org.apache.flink.cdc.common.types.BinaryType;
+import org.apache.flink.cdc.common.types.DataType;
+import org.apache.flink.cdc.common.types.DecimalType;
+import org.apache.flink.cdc.connectors.oceanbase.source.split.CapturedTable;
+
+import com.github.shyiko.mysql.binlog.event.deserialization.json.JsonBinary;
+
+import javax.annotation.Nullable;
+
+import java.io.IOException;
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * Converts the rows of binlog events to the internal data structures of a captured table.
+ *
+ * <p>The rows are expected to be deserialized with {@code DATE_AND_TIME_AS_LONG_MICRO} and {@code
+ * CHAR_AND_BINARY_AS_BYTE_ARRAY}, so temporal values are microseconds and character values are the
+ * raw bytes, which are decoded with the character sets of their columns. Unsigned integers are read
+ * as signed values of the same width by the binlog deserializer, and are widened to the types of
+ * {@code OceanBaseSchemaUtils#toDataType}.
+ */
+@Internal
+public class BinlogRowConverter {
+
+    private static final long MICROS_PER_DAY = 86_400_000_000L;
+
+    /** Java charsets of the character sets of OceanBase in MySQL mode. */
+    private static final Map<String, Charset> CHARSETS = new HashMap<>();
+
+    static {
+        CHARSETS.put("utf8", StandardCharsets.UTF_8);
+        CHARSETS.put("utf8mb3", StandardCharsets.UTF_8);
+        CHARSETS.put("utf8mb4", StandardCharsets.UTF_8);
+        CHARSETS.put("ascii", StandardCharsets.US_ASCII);
+        // latin1 of MySQL is cp1252 rather than ISO-8859-1
+        CHARSETS.put("latin1", Charset.forName("windows-1252"));
+        CHARSETS.put("gbk", Charset.forName("GBK"));
+        CHARSETS.put("gb2312", Charset.forName("GB2312"));
+        CHARSETS.put("gb18030", Charset.forName("GB18030"));
+        CHARSETS.put("big5", Charset.forName("Big5"));
+        CHARSETS.put("utf16", StandardCharsets.UTF_16);
+        CHARSETS.put("utf16le", StandardCharsets.UTF_16LE);
+        CHARSETS.put("utf32", Charset.forName("UTF-32"));
+    }
+
+    private final CapturedTable table;
+    private final FieldConverter[] converters;
+
+    public BinlogRowConverter(CapturedTable table) {
+        this.table = table;
+        List<DataType> dataTypes = table.getSchema().getColumnDataTypes();
+        List<String> columnTypes = table.getColumnTypes();
+        List<String> columnCharsets = table.getColumnCharsets();
+        this.converters = new FieldConverter[dataTypes.size()];
+        for (int i = 0; i < converters.length; i++) {
+            Charset charset =
+                    toCharset(
+                            table,
+                            table.getSchema().getColumnNames().get(i),
+                            columnCharsets == null ? null : columnCharsets.get(i));
+            converters[i] = createConverter(columnTypes.get(i), dataTypes.get(i), charset);
+        }
+    }
+
+    public Object[] convert(Serializable[] row) {
+        if (row.length != converters.length) {
+            throw new IllegalStateException(
+                    String.format(
+                            "The row of table %s has %d columns, but %d columns are expected."
+                                    + " Schema changes are not supported by the OceanBase source.",
+                            table.getTableId(), row.length, converters.length));
+        }
+        Object[] fields = new Object[row.length];
+        for (int i = 0; i < row.length; i++) {
+            fields[i] = row[i] == null ? null : converters[i].convert(row[i]);
+        }
+        return fields;
+    }
+
+    private static Charset toCharset(
+            CapturedTable table, String columnName, @Nullable String charsetName) {
+        if (charsetName == null) {
+            return StandardCharsets.UTF_8;
+        }
+        Charset charset = CHARSETS.get(charsetName.toLowerCase(Locale.ROOT));
+        if (charset == null) {
+            throw new UnsupportedOperationException(
+                    String.format(
+                            "Unsupported character set '%s' of column %s of table %s, the supported"
+                                    + " character sets are %s.",
+                            charsetName,
+                            columnName,
+                            table.getTableId(),
+                            new TreeSet<>(CHARSETS.keySet())));
+        }
+        return charset;
+    }
+
+    private static FieldConverter createConverter(
+            String columnType, DataType dataType, Charset charset) {
+        String type = columnType.toLowerCase(Locale.ROOT);
+        boolean unsigned = type.contains("unsigned");
+        if (type.startsWith("tinyint")) {
+            return unsigned
+                    ? value -> (short) (((Number) value).intValue() & 0xFF)
+                    : value -> ((Number) value).byteValue();
+        } else if (type.startsWith("smallint")) {
+            return unsigned
+                    ? value -> ((Number) value).intValue() & 0xFFFF
+                    : value -> ((Number) value).shortValue();
+        } else if (type.startsWith("mediumint")) {
+            return unsigned
+                    ? value -> ((Number) value).intValue() & 0xFFFFFF
+                    : value -> ((Number) value).intValue();
+        } else if (type.startsWith("int")) {
+            return unsigned
+                    ? value -> ((Number) value).longValue() & 0xFFFFFFFFL
+                    : value -> ((Number) value).intValue();
+        } else if (type.startsWith("bigint")) {
+            return unsigned
+                    ? value ->
+                            DecimalData.fromBigDecimal(
+                                    new BigDecimal(
+                                            Long.toUnsignedString(((Number) value).longValue())),
+                                    20,
+                                    0)
+                    : value -> ((Number) value).longValue();
+        } else if (type.startsWith("year")) {
+            return value -> ((Number) value).intValue();
+        } else if (type.startsWith("float")) {
+            return value -> ((Number) value).floatValue();
+        } else if (type.startsWith("double") || type.startsWith("real")) {
+            return value -> ((Number) value).doubleValue();
+        } else if (type.startsWith("decimal") || type.startsWith("numeric")) {
+            if (!(dataType instanceof DecimalType)) {
+                return value -> BinaryStringData.fromString(((BigDecimal) value).toPlainString());
+            }
+            int precision = ((DecimalType) dataType).getPrecision();
+            int scale = ((DecimalType) dataType).getScale();
+            return value -> DecimalData.fromBigDecimal((BigDecimal) value, precision, scale);
+        } else if (type.startsWith("datetime")) {
+            return value -> {
+                long micros = ((Number) value).longValue();
+                return TimestampData.fromMillis(
+                        Math.floorDiv(micros, 1000), (int) Math.floorMod(micros, 1000) * 1000);
+            };
+        } else if (type.startsWith("timestamp")) {
+            return value -> {
+                long micros = ((Number) value).longValue();
+                return LocalZonedTimestampData.fromEpochMillis(
+                        Math.floorDiv(micros, 1000), (int) Math.floorMod(micros, 1000) * 1000);
+            };
+        } else if (type.startsWith("date")) {
+            return value ->
+                    DateData.fromEpochDay(
+                            (int) Math.floorDiv(((Number) value).longValue(), MICROS_PER_DAY));
+        } else if (type.startsWith("time")) {
+            return value -> TimeData.fromMicroOfDay(((Number) value).longValue());
+        } else if (type.startsWith("bit")) {
+            if ("bit(1)".equals(type)) {
+                return value -> ((BitSet) value).get(0);
+            }
+            int length = ((BinaryType) dataType).getLength();
+            return value -> toBigEndianBytes((BitSet) value, length);
+        } else if (type.startsWith("enum")) {
+            List<String> options = parseOptions(columnType);
+            return value -> {
+                int index = ((Number) value).intValue();
+                // the index of the empty string which stands for invalid values is 0
+                return BinaryStringData.fromString(index == 0 ? "" : options.get(index - 1));
+            };
+        } else if (type.startsWith("set")) {
+            List<String> options = parseOptions(columnType);
+            return value -> {
+                long bits = ((Number) value).longValue();
+                List<String> members = new ArrayList<>();
+                for (int i = 0; i < options.size(); i++) {
+                    if ((bits & (1L << i)) != 0) {
+                        members.add(options.get(i));
+                    }
+                }
+                return BinaryStringData.fromString(String.join(",", members));
+            };
+        } else if (type.startsWith("json")) {
+            return value -> {
+                try {
+                    return BinaryStringData.fromString(JsonBinary.parseAsString((byte[]) value));
+                } catch (IOException e) {
+                    throw new IllegalStateException("Failed to parse binary JSON value.", e);
+                }
+            };
+        } else if (type.startsWith("binary")) {
+            int length = ((BinaryType) dataType).getLength();
+            // trailing zeros of fixed length binary values are not written to binlog
+            return value ->
+                    Arrays.copyOf((byte[]) value, Math.max(length, ((byte[]) value).length));
+        } else if (type.startsWith("varbinary") || type.contains("blob")) {
+            return value -> value;
+        } else if (type.startsWith("char") || type.startsWith("varchar") || type.contains("text")) {
+            if (StandardCharsets.UTF_8.equals(charset)) {
+                return value ->
+                        value instanceof byte[]
+                                ? BinaryStringData.fromBytes((byte[]) value)
+                                : BinaryStringData.fromString(value.toString());
+            }
+            return value ->
+                    BinaryStringData.fromString(
+                            value instanceof byte[]
+                                    ? new String((byte[]) value, charset)
+                                    : value.toString());
+        }
+        throw new UnsupportedOperationException(
+                String.format("Unsupported OceanBase column type '%s'.", columnType));
+    }
+
+    /** Returns the bytes of a bit value in big-endian order, which is the order of MySQL. */
+    private static byte[] toBigEndianBytes(BitSet bits, int length) {
+        byte[] littleEndian = bits.toByteArray();
+        byte[] bytes = new byte[length];
+        for (int i = 0; i < littleEndian.length && i < length; i++) {
+            bytes[length - 1 - i] = littleEndian[i];
+        }
+        return bytes;
+    }
+
+    /** Parses the options of enum and set column types like {@code enum('a','b')}. */
+    static List<String> parseOptions(String columnType) {
+        List<String> options = new ArrayList<>();
+        int start = columnType.indexOf('(');
+        int end = columnType.lastIndexOf(')');
+        StringBuilder option = null;
+        for (int i = start + 1; i < end; i++) {
+            char c = columnType.charAt(i);
+            if (option == null) {
+                if (c == '\'') {
+                    option = new StringBuilder();
+                }
+            } else if (c == '\'') {
+                if (i + 1 < end && columnType.charAt(i + 1) == '\'') {
+                    option.append(c);
+                    i++;
+                } else {
+                    options.add(option.toString());
+                    option = null;
+                }
+            } else {
+                option.append(c);
+            }
+        }
+        return options;
+    }
+
+    /** Converts a non-null field of binlog rows. */
+    @FunctionalInterface
+    private interface FieldConverter {
+        Object convert(Object value);
+    }
+}
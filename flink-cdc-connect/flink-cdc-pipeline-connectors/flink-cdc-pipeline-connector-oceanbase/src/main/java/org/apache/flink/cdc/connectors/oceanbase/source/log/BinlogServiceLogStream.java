@@ -0,0 +1,348 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.connectors.oceanbase.source.log;
+
+import org.apache.flink.cdc.common.annotation.Internal;
+import org.apache.flink.cdc.common.annotation.VisibleForTesting;
+import org.apache.flink.cdc.common.event.TableId;
+import org.apache.flink.cdc.connectors.oceanbase.source.config.OceanBaseSourceConfig;
+import org.apache.flink.cdc.connectors.oceanbase.source.split.CapturedTable;
+import org.apache.flink.cdc.connectors.oceanbase.source.split.LogStreamSplit;
+
+import com.github.shyiko.mysql.binlog.BinaryLogClient;
+import com.github.shyiko.mysql.binlog.event.DeleteRowsEventData;
+import com.github.shyiko.mysql.binlog.event.Event;
+import com.github.shyiko.mysql.binlog.event.EventHeaderV4;
+import com.github.shyiko.mysql.binlog.event.EventType;
+import com.github.shyiko.mysql.binlog.event.QueryEventData;
+import com.github.shyiko.mysql.binlog.event.RotateEventData;
+import com.github.shyiko.mysql.binlog.event.TableMapEventData;
+import com.github.shyiko.mysql.binlog.event.UpdateRowsEventData;
+import com.github.shyiko.mysql.binlog.event.WriteRowsEventData;
+import com.github.shyiko.mysql.binlog.event.deserialization.EventDeserializer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.Nullable;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * The {@link OceanBaseLogStream} which reads the binlog service of a tenant. The binlog service
+ * serves the whole log of a tenant, so each tenant is read by a single split with a binlog
+ * connection of its own, and only the changes of the captured tables are converted.
+ *
+ * <p>Schema changes are not supported. A statement which alters, renames, truncates or drops a
+ * captured table fails the stream instead of being skipped, because the rows after it no longer
+ * match the captured schema.
+ *
+ * <p>Events are handed over from the thread of the binlog client through a bounded queue, so a slow
+ * reader blocks the connection instead of buffering the whole log in memory.
+ */
+@Internal
+public class BinlogServiceLogStream implements OceanBaseLogStream {
+
+    private static final Logger LOG = LoggerFactory.getLogger(BinlogServiceLogStream.class);
+
+    private static final int QUEUE_CAPACITY = 8192;
+
+    private static final String LEADING_COMMENTS = "^\\s*(/\\*.*?\\*/\\s*)*";
+
+    private static final String IDENTIFIER = "(`[^`]+`|[\\w$]+)";
+
+    /** The beginning of a statement changing tables, which is followed by their names. */
+    private static final Pattern TABLE_DDL =
+            Pattern.compile(
+                    LEADING_COMMENTS
+                            + "(ALTER\\s+((ONLINE|OFFLINE|IGNORE)\\s+)*TABLE"
+                            + "|DROP\\s+(TEMPORARY\\s+)?TABLES?(\\s+IF\\s+EXISTS)?"
+                            + "|RENAME\\s+TABLES?"
+                            + "|TRUNCATE(\\s+TABLE)?)\\s",
+                    Pattern.CASE_INSENSITIVE | Pattern.DOTALL);
+
+    private static final Pattern DROP_DATABASE =
+            Pattern.compile(
+                    LEADING_COMMENTS
+                            + "DROP\\s+(DATABASE|SCHEMA)(\\s+IF\\s+EXISTS)?\\s+"
+                            + IDENTIFIER,
+                    Pattern.CASE_INSENSITIVE | Pattern.DOTALL);
+
+    /**
+     * A table name in a list of tables, which may be qualified by the name of its database and
+     * followed by a comma or the {@code TO} of {@code RENAME TABLE}.
+     */
+    private static final Pattern TABLE_NAME =
+            Pattern.compile(
+                    "\\G\\s*" + IDENTIFIER + "(\\s*\\.\\s*" + IDENTIFIER + ")?\\s*(,|TO\\b)?",
+                    Pattern.CASE_INSENSITIVE);
+
+    private final OceanBaseSourceConfig config;
+    private final LogStreamSplit split;
+    private final BlockingQueue<OceanBaseLogRecord> queue;
+    private final Map<Long, TableId> tableIdsByNumber = new HashMap<>();
+    private final Map<TableId, BinlogRowConverter> converters = new HashMap<>();
+
+    /** The captured tables by their lower case names in the form of 'database.table'. */
+    private final Map<String, TableId> capturedTableNames = new HashMap<>();
+
+    private BinaryLogClient client;
+    private String filename;
+    private volatile Throwable failure;
+
+    public BinlogServiceLogStream(OceanBaseSourceConfig config, LogStreamSplit split) {
+        this.config = config;
+        this.split = split;
+        this.queue = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+        for (Map.Entry<TableId, CapturedTable> entry : split.getTables().entrySet()) {
+            TableId tableId = entry.getKey();
+            converters.put(tableId, new BinlogRowConverter(entry.getValue()));
+            capturedTableNames.put(
+                    qualifiedName(tableId.getSchemaName(), tableId.getTableName()), tableId);
+        }
+    }
+
+    @Override
+    public void start() throws Exception {
+        client =
+                new BinaryLogClient(
+                        config.getBinlogHostname(),
+                        config.getBinlogPort(),
+                        config.getUsername(split.getTenant()),
+                        config.getPassword());
+        // the split of every tenant is a replica of its own, so they must not share the server id
+        client.setServerId(config.getServerId() + split.getIndex());
+        if (split.getStartingPosition() != null) {
+            client.setBinlogFilename(split.getStartingPosition().getFilename());
+            client.setBinlogPosition(split.getStartingPosition().getPosition());
+        }
+        EventDeserializer deserializer = new EventDeserializer();
+        deserializer.setCompatibilityMode(
+                EventDeserializer.CompatibilityMode.DATE_AND_TIME_AS_LONG_MICRO,
+                EventDeserializer.CompatibilityMode.CHAR_AND_BINARY_AS_BYTE_ARRAY);
+        client.setEventDeserializer(deserializer);
+        client.registerEventListener(this::handleEvent);
+        client.registerLifecycleListener(
+                new BinaryLogClient.AbstractLifecycleListener() {
+                    @Override
+                    public void onCommunicationFailure(BinaryLogClient client, Exception ex) {
+                        failure = ex;
+                    }
+
+                    @Override
+                    public void onEventDeserializationFailure(
+                            BinaryLogClient client, Exception ex) {
+                        failure = ex;
+                    }
+                });
+        LOG.info(
+                "Start reading binlog of split {} from {}.",
+                split.splitId(),
+                split.getStartingPosition() == null ? "latest" : split.getStartingPosition());
+        client.connect(config.getConnectTimeout().toMillis());
+    }
+
+    @Nullable
+    @Override
+    public OceanBaseLogRecord poll(long timeoutMillis) throws Exception {
+        if (failure != null) {
+            throw new IllegalStateException(
+                    "Failed to read binlog of split " + split.splitId(), failure);
+        }
+        return timeoutMillis <= 0 ? queue.poll() : queue.poll(timeoutMillis, TimeUnit.MILLISECONDS);
+    }
+
+    private void handleEvent(Event event) {
+        if (failure != null) {
+            // the stream can not continue after a failure, the reader fails with it
+            return;
+        }
+        try {
+            List<OceanBaseLogRecord> records = new ArrayList<>();
+            collectRecords(event, records);
+            for (OceanBaseLogRecord record : records) {
+                queue.put(record);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Throwable t) {
+            failure = t;
+        }
+    }
+
+    @VisibleForTesting
+    void collectRecords(Event event, List<OceanBaseLogRecord> records) {
+        EventType eventType = event.getHeader().getEventType();
+        long timestamp = event.getHeader().getTimestamp();
+        if (eventType == EventType.ROTATE) {
+            filename = ((RotateEventData) event.getData()).getBinlogFilename();
+        } else if (eventType == EventType.TABLE_MAP) {
+            TableMapEventData data = event.getData();
+            tableIdsByNumber.put(
+                    data.getTableId(),
+                    TableId.tableId(split.getTenant(), data.getDatabase(), data.getTable()));
+        } else if (EventType.isWrite(eventType)) {
+            WriteRowsEventData data = event.getData();
+            TableId tableId = tableIdsByNumber.get(data.getTableId());
+            BinlogRowConverter converter = converters.get(tableId);
+            if (converter != null) {
+                for (Serializable[] row : data.getRows()) {
+                    records.add(
+                            OceanBaseLogRecord.insert(tableId, converter.convert(row), timestamp));
+                }
+            }
+        } else if (EventType.isUpdate(eventType)) {
+            UpdateRowsEventData data = event.getData();
+            TableId tableId = tableIdsByNumber.get(data.getTableId());
+            BinlogRowConverter converter = converters.get(tableId);
+            if (converter != null) {
+                for (Map.Entry<Serializable[], Serializable[]> row : data.getRows()) {
+                    records.add(
+                            OceanBaseLogRecord.update(
+                                    tableId,
+                                    converter.convert(row.getKey()),
+                                    converter.convert(row.getValue()),
+                                    timestamp));
+                }
+            }
+        } else if (EventType.isDelete(eventType)) {
+            DeleteRowsEventData data = event.getData();
+            TableId tableId = tableIdsByNumber.get(data.getTableId());
+            BinlogRowConverter converter = converters.get(tableId);
+            if (converter != null) {
+                for (Serializable[] row : data.getRows()) {
+                    records.add(
+                            OceanBaseLogRecord.delete(tableId, converter.convert(row), timestamp));
+                }
+            }
+        } else if (eventType == EventType.XID) {
+            records.add(commit(event, timestamp));
+        } else if (eventType == EventType.QUERY) {
+            QueryEventData data = event.getData();
+            String sql = data.getSql();
+            if ("COMMIT".equalsIgnoreCase(sql)) {
+                records.add(commit(event, timestamp));
+            } else if (!"BEGIN".equalsIgnoreCase(sql)) {
+                checkCapturedTablesUnchanged(event, data.getDatabase(), sql);
+            }
+        }
+    }
+
+    private void checkCapturedTablesUnchanged(Event event, String database, String sql) {
+        TableId changedTable = findChangedTable(database, sql);
+        if (changedTable == null) {
+            LOG.debug("Skip the statement which does not change any captured table: {}", sql);
+            return;
+        }
+        long position = ((EventHeaderV4) event.getHeader()).getPosition();
+        throw new IllegalStateException(
+                String.format(
+                        "The statement '%s' at %s changes the captured table %s, but schema "
+                                + "changes are not supported by the OceanBase source. The changes "
+                                + "after it can not be read with the captured schema, please "
+                                + "restart the job without restoring from the checkpoint or "
+                                + "savepoint, which reads the log from the latest position and "
+                                + "skips the changes in between, or exclude the table from the "
+                                + "option 'tables'.",
+                        sql, new OceanBaseLogPosition(filename, position), changedTable));
+    }
+
+    /**
+     * Returns a captured table which is altered, renamed, truncated or dropped by given statement,
+     * or null if the statement does not change any captured table. Only the names of the changed
+     * tables are looked up, that is the table of {@code ALTER TABLE} and {@code TRUNCATE}, the
+     * tables of {@code DROP TABLE}, both sides of {@code RENAME TABLE} and the database of {@code
+     * DROP DATABASE}. Unqualified table names are resolved against the default database of the
+     * statement.
+     */
+    @Nullable
+    @VisibleForTesting
+    TableId findChangedTable(@Nullable String database, String sql) {
+        Matcher dropDatabase = DROP_DATABASE.matcher(sql);
+        if (dropDatabase.lookingAt()) {
+            String droppedDatabase = unquote(dropDatabase.group(4));
+            for (TableId tableId : capturedTableNames.values()) {
+                if (tableId.getSchemaName().equalsIgnoreCase(droppedDatabase)) {
+                    return tableId;
+                }
+            }
+            return null;
+        }
+        Matcher tableDdl = TABLE_DDL.matcher(sql);
+        if (!tableDdl.lookingAt()) {
+            return null;
+        }
+        Matcher tableName = TABLE_NAME.matcher(sql);
+        tableName.region(tableDdl.end(), sql.length());
+        while (tableName.find()) {
+            TableId tableId;
+            if (tableName.group(3) != null) {
+                tableId =
+                        capturedTableNames.get(
+                                qualifiedName(
+                                        unquote(tableName.group(1)), unquote(tableName.group(3))));
+            } else if (database != null && !database.isEmpty()) {
+                tableId =
+                        capturedTableNames.get(
+                                qualifiedName(database, unquote(tableName.group(1))));
+            } else {
+                tableId = null;
+            }
+            if (tableId != null) {
+                return tableId;
+            }
+            if (tableName.group(4) == null) {
+                // the list of tables ends
+                break;
+            }
+        }
+        return null;
+    }
+
+    private static String unquote(String identifier) {
+        return identifier.startsWith("`")
+                ? identifier.substring(1, identifier.length() - 1)
+                : identifier;
+    }
+
+    private static String qualifiedName(String database, String table) {
+        return (database + "." + table).toLowerCase(Locale.ROOT);
+    }
+
+    private OceanBaseLogRecord commit(Event event, long timestamp) {
+        long nextPosition = ((EventHeaderV4) event.getHeader()).getNextPosition();
+        return OceanBaseLogRecord.commit(
+                new OceanBaseLogPosition(filename, nextPosition), timestamp);
+    }
+
+    @Override
+    public void close() throws Exception {
+        if (client != null) {
+            client.disconnect();
+        }
+    }
+}
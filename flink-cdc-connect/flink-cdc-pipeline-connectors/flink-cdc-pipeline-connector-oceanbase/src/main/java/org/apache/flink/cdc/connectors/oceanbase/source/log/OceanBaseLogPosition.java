@@ -0,0 +1,68 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.connectors.oceanbase.source.log;
+
+import org.apache.flink.cdc.common.annotation.Internal;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+/** A position in the log of a tenant, from where a log stream can be restarted. */
+@Internal
+public class OceanBaseLogPosition implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private final String filename;
+    private final long position;
+
+    public OceanBaseLogPosition(String filename, long position) {
+        this.filename = filename;
+        this.position = position;
+    }
+
+    public String getFilename() {
+        return filename;
+    }
+
+    public long getPosition() {
+        return position;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof OceanBaseLogPosition)) {
+            return false;
+        }
+        OceanBaseLogPosition that = (OceanBaseLogPosition) o;
+        return position == that.position && Objects.equals(filename, that.filename);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(filename, position);
+    }
+
+    @Override
+    public String toString() {
+        return filename + ":" + position;
+    }
+}
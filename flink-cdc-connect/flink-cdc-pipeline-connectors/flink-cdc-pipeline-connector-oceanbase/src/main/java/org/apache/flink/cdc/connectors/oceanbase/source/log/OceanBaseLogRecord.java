@@ -0,0 +1,108 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.connectors.oceanbase.source.log;
+
+import org.apache.flink.cdc.common.annotation.Internal;
+import org.apache.flink.cdc.common.event.TableId;
+
+import javax.annotation.Nullable;
+
+/**
+ * A record read from the log of a tenant. The fields of row changes are in the internal data
+ * structures of Flink CDC, in the order of the columns of the captured table.
+ */
+@Internal
+public class OceanBaseLogRecord {
+
+    /** The kind of {@link OceanBaseLogRecord}. */
+    public enum Kind {
+        INSERT,
+        UPDATE,
+        DELETE,
+        /** The end of a transaction, the stream can be restarted from its position. */
+        COMMIT
+    }
+
+    private final Kind kind;
+    @Nullable private final TableId tableId;
+    @Nullable private final Object[] before;
+    @Nullable private final Object[] after;
+    @Nullable private final OceanBaseLogPosition position;
+    private final long timestamp;
+
+    private OceanBaseLogRecord(
+            Kind kind,
+            @Nullable TableId tableId,
+            @Nullable Object[] before,
+            @Nullable Object[] after,
+            @Nullable OceanBaseLogPosition position,
+            long timestamp) {
+        this.kind = kind;
+        this.tableId = tableId;
+        this.before = before;
+        this.after = after;
+        this.position = position;
+        this.timestamp = timestamp;
+    }
+
+    public static OceanBaseLogRecord insert(TableId tableId, Object[] after, long timestamp) {
+        return new OceanBaseLogRecord(Kind.INSERT, tableId, null, after, null, timestamp);
+    }
+
+    public static OceanBaseLogRecord update(
+            TableId tableId, Object[] before, Object[] after, long timestamp) {
+        return new OceanBaseLogRecord(Kind.UPDATE, tableId, before, after, null, timestamp);
+    }
+
+    public static OceanBaseLogRecord delete(TableId tableId, Object[] before, long timestamp) {
+        return new OceanBaseLogRecord(Kind.DELETE, tableId, before, null, null, timestamp);
+    }
+
+    public static OceanBaseLogRecord commit(OceanBaseLogPosition position, long timestamp) {
+        return new OceanBaseLogRecord(Kind.COMMIT, null, null, null, position, timestamp);
+    }
+
+    public Kind getKind() {
+        return kind;
+    }
+
+    @Nullable
+    public TableId getTableId() {
+        return tableId;
+    }
+
+    @Nullable
+    public Object[] getBefore() {
+        return before;
+    }
+
+    @Nullable
+    public Object[] getAfter() {
+        return after;
+    }
+
+    @Nullable
+    public OceanBaseLogPosition getPosition() {
+        return position;
+    }
+
+    /** The time in milliseconds when the change was made in the database. */
+    public long getTimestamp() {
+        return timestamp;
+    }
+}
@@ -0,0 +1,43 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.connectors.oceanbase.source.log;
+
+import org.apache.flink.cdc.common.annotation.Internal;
+
+import javax.annotation.Nullable;
+
+/**
+ * A stream of the changes of a {@link
+ * org.apache.flink.cdc.connectors.oceanbase.source.split.LogStreamSplit}, which only returns the
+ * records of the tables of the split, in the order they are committed.
+ */
+@Internal
+public interface OceanBaseLogStream extends AutoCloseable {
+
+    /** Connects to the log and starts reading records in the background. */
+    void start() throws Exception;
+
+    /**
+     * Returns the next record, waiting up to given time if none is available.
+     *
+     * @return the next record, or null if no record is available before the timeout.
+     * @throws Exception if reading the log failed.
+     */
+    @Nullable
+    OceanBaseLogRecord poll(long timeoutMillis) throws Exception;
+}
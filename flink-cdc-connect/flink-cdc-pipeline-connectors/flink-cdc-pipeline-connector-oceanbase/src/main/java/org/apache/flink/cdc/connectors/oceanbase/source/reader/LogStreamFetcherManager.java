@@ -0,0 +1,59 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.connectors.oceanbase.source.reader;
+
+import org.apache.flink.cdc.common.annotation.Internal;
+import org.apache.flink.cdc.connectors.oceanbase.source.log.OceanBaseLogRecord;
+import org.apache.flink.cdc.connectors.oceanbase.source.split.LogStreamSplit;
+import org.apache.flink.configuration.Configuration;
+import org.apache.flink.connector.base.source.reader.fetcher.SplitFetcher;
+import org.apache.flink.connector.base.source.reader.fetcher.SplitFetcherManager;
+import org.apache.flink.connector.base.source.reader.splitreader.SplitReader;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * A {@link SplitFetcherManager} which reads every {@link LogStreamSplit} in a fetcher thread of its
+ * own, so the log streams assigned to a reader are read in parallel.
+ */
+@Internal
+public class LogStreamFetcherManager
+        extends SplitFetcherManager<OceanBaseLogRecord, LogStreamSplit> {
+
+    public LogStreamFetcherManager(
+            Supplier<SplitReader<OceanBaseLogRecord, LogStreamSplit>> splitReaderSupplier,
+            Configuration configuration) {
+        super(splitReaderSupplier, configuration);
+    }
+
+    @Override
+    public void addSplits(List<LogStreamSplit> splitsToAdd) {
+        for (LogStreamSplit split : splitsToAdd) {
+            SplitFetcher<OceanBaseLogRecord, LogStreamSplit> fetcher = createSplitFetcher();
+            fetcher.addSplits(Collections.singletonList(split));
+            startFetcher(fetcher);
+        }
+    }
+
+    @Override
+    public void removeSplits(List<LogStreamSplit> splitsToRemove) {
+        throw new UnsupportedOperationException("Log stream splits are never removed.");
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.connectors.oceanbase.source.reader;
+
+import org.apache.flink.cdc.common.annotation.Internal;
+import org.apache.flink.cdc.connectors.oceanbase.source.log.OceanBaseLogRecord;
+import org.apache.flink.cdc.connectors.oceanbase.source.log.OceanBaseLogStream;
+import org.apache.flink.cdc.connectors.oceanbase.source.log.OceanBaseLogStreamFactory;
+import org.apache.flink.cdc.connectors.oceanbase.source.split.LogStreamSplit;
+import org.apache.flink.connector.base.source.reader.RecordsBySplits;
+import org.apache.flink.connector.base.source.reader.RecordsWithSplitIds;
+import org.apache.flink.connector.base.source.reader.splitreader.SplitReader;
+import org.apache.flink.connector.base.source.reader.splitreader.SplitsAddition;
+import org.apache.flink.connector.base.source.reader.splitreader.SplitsChange;
+import org.apache.flink.util.Preconditions;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.Nullable;
+
+import java.io.IOException;
+
+/**
+ * A {@link SplitReader} which reads the {@link OceanBaseLogStream} of a single {@link
+ * LogStreamSplit}. Every split has a reader and a fetcher thread of its own, see {@link
+ * LogStreamFetcherManager}.
+ */
+@Internal
+public class LogStreamSplitReader implements SplitReader<OceanBaseLogRecord, LogStreamSplit> {
+
+    private static final Logger LOG = LoggerFactory.getLogger(LogStreamSplitReader.class);
+
+    private static final long POLL_TIMEOUT_MILLIS = 100L;
+    private static final int MAX_BATCH_SIZE = 1024;
+
+    private final OceanBaseLogStreamFactory logStreamFactory;
+
+    @Nullable private String splitId;
+    @Nullable private OceanBaseLogStream logStream;
+
+    public LogStreamSplitReader(OceanBaseLogStreamFactory logStreamFactory) {
+        this.logStreamFactory = logStreamFactory;
+    }
+
+    @Override
+    public RecordsWithSplitIds<OceanBaseLogRecord> fetch() throws IOException {
+        RecordsBySplits.Builder<OceanBaseLogRecord> builder = new RecordsBySplits.Builder<>();
+        if (logStream == null) {
+            return builder.build();
+        }
+        try {
+            OceanBaseLogRecord record = logStream.poll(POLL_TIMEOUT_MILLIS);
+            for (int i = 0; record != null && i < MAX_BATCH_SIZE; i++) {
+                builder.add(splitId, record);
+                record = i + 1 < MAX_BATCH_SIZE ? logStream.poll(0L) : null;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while reading log stream split " + splitId, e);
+        } catch (Exception e) {
+            throw new IOException("Failed to read log stream split " + splitId, e);
+        }
+        return builder.build();
+    }
+
+    @Override
+    public void handleSplitsChanges(SplitsChange<LogStreamSplit> splitsChanges) {
+        if (!(splitsChanges instanceof SplitsAddition)) {
+            throw new UnsupportedOperationException(
+                    String.format(
+                            "The SplitChange type of %s is not supported.",
+                            splitsChanges.getClass()));
+        }
+        Preconditions.checkState(
+                logStream == null && splitsChanges.splits().size() == 1,
+                "A log stream split reader only reads a single split.");
+        LogStreamSplit split = splitsChanges.splits().get(0);
+        LOG.info("Start reading log stream split {}", split);
+        this.splitId = split.splitId();
+        this.logStream = logStreamFactory.create(split);
+        try {
+            logStream.start();
+        } catch (Exception e) {
+            throw new IllegalStateException("Failed to start log stream split " + splitId, e);
+        }
+    }
+
+    @Override
+    public void wakeUp() {
+        // fetch() never blocks longer than POLL_TIMEOUT_MILLIS
+    }
+
+    @Override
+    public void close() throws Exception {
+        if (logStream != null) {
+            logStream.close();
+            logStream = null;
+        }
+    }
+}
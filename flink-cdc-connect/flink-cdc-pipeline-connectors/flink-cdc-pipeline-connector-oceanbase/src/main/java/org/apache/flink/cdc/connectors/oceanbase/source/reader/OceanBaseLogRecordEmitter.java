@@ -0,0 +1,107 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.connectors.oceanbase.source.reader;
+
+import org.apache.flink.api.connector.source.SourceOutput;
+import org.apache.flink.cdc.common.annotation.Internal;
+import org.apache.flink.cdc.common.data.RecordData;
+import org.apache.flink.cdc.common.event.CreateTableEvent;
+import org.apache.flink.cdc.common.event.DataChangeEvent;
+import org.apache.flink.cdc.common.event.Event;
+import org.apache.flink.cdc.common.event.TableId;
+import org.apache.flink.cdc.common.schema.Schema;
+import org.apache.flink.cdc.common.types.DataType;
+import org.apache.flink.cdc.connectors.oceanbase.source.log.OceanBaseLogRecord;
+import org.apache.flink.cdc.connectors.oceanbase.source.split.CapturedTable;
+import org.apache.flink.cdc.connectors.oceanbase.source.split.LogStreamSplitState;
+import org.apache.flink.cdc.runtime.typeutils.BinaryRecordDataGenerator;
+import org.apache.flink.connector.base.source.reader.RecordEmitter;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The {@link RecordEmitter} which converts {@link OceanBaseLogRecord}s to {@link Event}s. The
+ * schema of a table is emitted before its first change, and the position of a split only moves at
+ * the end of transactions.
+ */
+@Internal
+public class OceanBaseLogRecordEmitter
+        implements RecordEmitter<OceanBaseLogRecord, Event, LogStreamSplitState> {
+
+    private static final String OP_TS = "op_ts";
+
+    private final Map<TableId, BinaryRecordDataGenerator> generators = new HashMap<>();
+
+    @Override
+    public void emitRecord(
+            OceanBaseLogRecord record, SourceOutput<Event> output, LogStreamSplitState splitState) {
+        if (record.getKind() == OceanBaseLogRecord.Kind.COMMIT) {
+            splitState.setPosition(record.getPosition());
+            return;
+        }
+
+        TableId tableId = record.getTableId();
+        CapturedTable table = splitState.getSplit().getTables().get(tableId);
+        if (table == null) {
+            throw new IllegalStateException(
+                    String.format(
+                            "Table %s is not captured by split %s.",
+                            tableId, splitState.getSplit().splitId()));
+        }
+        if (splitState.announceTable(tableId)) {
+            output.collect(new CreateTableEvent(tableId, table.getSchema()));
+        }
+
+        BinaryRecordDataGenerator generator =
+                generators.computeIfAbsent(tableId, id -> createGenerator(table.getSchema()));
+        Map<String, String> meta =
+                Collections.singletonMap(OP_TS, String.valueOf(record.getTimestamp()));
+        switch (record.getKind()) {
+            case INSERT:
+                output.collect(
+                        DataChangeEvent.insertEvent(
+                                tableId, toRecordData(generator, record.getAfter()), meta));
+                break;
+            case UPDATE:
+                output.collect(
+                        DataChangeEvent.updateEvent(
+                                tableId,
+                                toRecordData(generator, record.getBefore()),
+                                toRecordData(generator, record.getAfter()),
+                                meta));
+                break;
+            case DELETE:
+                output.collect(
+                        DataChangeEvent.deleteEvent(
+                                tableId, toRecordData(generator, record.getBefore()), meta));
+                break;
+            default:
+                throw new IllegalStateException("Unknown record kind " + record.getKind());
+        }
+    }
+
+    private static BinaryRecordDataGenerator createGenerator(Schema schema) {
+        return new BinaryRecordDataGenerator(schema.getColumnDataTypes().toArray(new DataType[0]));
+    }
+
+    private static RecordData toRecordData(BinaryRecordDataGenerator generator, Object[] fields) {
+        return generator.generate(fields);
+    }
+}
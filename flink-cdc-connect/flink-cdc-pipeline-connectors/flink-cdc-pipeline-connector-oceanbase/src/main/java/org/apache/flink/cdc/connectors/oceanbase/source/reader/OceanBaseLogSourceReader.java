@@ -0,0 +1,65 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.connectors.oceanbase.source.reader;
+
+import org.apache.flink.api.connector.source.SourceReaderContext;
+import org.apache.flink.cdc.common.annotation.Internal;
+import org.apache.flink.cdc.common.event.Event;
+import org.apache.flink.cdc.connectors.oceanbase.source.log.OceanBaseLogRecord;
+import org.apache.flink.cdc.connectors.oceanbase.source.log.OceanBaseLogStreamFactory;
+import org.apache.flink.cdc.connectors.oceanbase.source.split.LogStreamSplit;
+import org.apache.flink.cdc.connectors.oceanbase.source.split.LogStreamSplitState;
+import org.apache.flink.connector.base.source.reader.SourceReaderBase;
+
+import java.util.Map;
+
+/**
+ * The source reader of the OceanBase data source, which reads each assigned {@link LogStreamSplit}
+ * in parallel.
+ */
+@Internal
+public class OceanBaseLogSourceReader
+        extends SourceReaderBase<OceanBaseLogRecord, Event, LogStreamSplit, LogStreamSplitState> {
+
+    public OceanBaseLogSourceReader(
+            OceanBaseLogStreamFactory logStreamFactory, SourceReaderContext context) {
+        super(
+                new LogStreamFetcherManager(
+                        () -> new LogStreamSplitReader(logStreamFactory),
+                        context.getConfiguration()),
+                new OceanBaseLogRecordEmitter(),
+                context.getConfiguration(),
+                context);
+    }
+
+    @Override
+    protected void onSplitFinished(Map<String, LogStreamSplitState> finishedSplitIds) {
+        throw new IllegalStateException(
+                "Log stream splits never finish, but " + finishedSplitIds.keySet() + " finished.");
+    }
+
+    @Override
+    protected LogStreamSplitState initializedState(LogStreamSplit split) {
+        return new LogStreamSplitState(split);
+    }
+
+    @Override
+    protected LogStreamSplit toSplitType(String splitId, LogStreamSplitState splitState) {
+        return splitState.toLogStreamSplit();
+    }
+}
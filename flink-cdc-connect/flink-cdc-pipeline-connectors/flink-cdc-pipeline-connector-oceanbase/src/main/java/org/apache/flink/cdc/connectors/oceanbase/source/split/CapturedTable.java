@@ -0,0 +1,100 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.connectors.oceanbase.source.split;
+
+import org.apache.flink.cdc.common.annotation.Internal;
+import org.apache.flink.cdc.common.event.TableId;
+import org.apache.flink.cdc.common.schema.Schema;
+
+import javax.annotation.Nullable;
+
+import java.io.Serializable;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * A table captured by a {@link LogStreamSplit}, with the database types of its columns, like {@code
+ * int(10) unsigned}, and the character sets of its character columns, like {@code gbk}, which are
+ * required to decode the values of the log.
+ */
+@Internal
+public class CapturedTable implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private final TableId tableId;
+    private final Schema schema;
+    private final List<String> columnTypes;
+    @Nullable private final List<String> columnCharsets;
+
+    public CapturedTable(TableId tableId, Schema schema, List<String> columnTypes) {
+        this(tableId, schema, columnTypes, null);
+    }
+
+    public CapturedTable(
+            TableId tableId,
+            Schema schema,
+            List<String> columnTypes,
+            @Nullable List<String> columnCharsets) {
+        this.tableId = tableId;
+        this.schema = schema;
+        this.columnTypes = columnTypes;
+        this.columnCharsets = columnCharsets;
+    }
+
+    public TableId getTableId() {
+        return tableId;
+    }
+
+    public Schema getSchema() {
+        return schema;
+    }
+
+    public List<String> getColumnTypes() {
+        return columnTypes;
+    }
+
+    /**
+     * Returns the character sets of columns, which are null for columns without a character set, or
+     * null if they're unknown, in which case character values are read as UTF-8.
+     */
+    @Nullable
+    public List<String> getColumnCharsets() {
+        return columnCharsets;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof CapturedTable)) {
+            return false;
+        }
+        CapturedTable that = (CapturedTable) o;
+        return Objects.equals(tableId, that.tableId)
+                && Objects.equals(schema, that.schema)
+                && Objects.equals(columnTypes, that.columnTypes)
+                && Objects.equals(columnCharsets, that.columnCharsets);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(tableId, schema, columnTypes, columnCharsets);
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.connectors.oceanbase.source.split;
+
+import org.apache.flink.api.connector.source.SourceSplit;
+import org.apache.flink.cdc.common.annotation.Internal;
+import org.apache.flink.cdc.common.event.TableId;
+import org.apache.flink.cdc.connectors.oceanbase.source.log.OceanBaseLogPosition;
+
+import javax.annotation.Nullable;
+
+import java.io.Serializable;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * A split which reads the changes of the captured tables of a tenant from the log of the tenant, so
+ * they are emitted in the order they are committed.
+ */
+@Internal
+public class LogStreamSplit implements SourceSplit, Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private final String tenant;
+
+    /** The index of the split among all splits of the source. */
+    private final int index;
+
+    private final Map<TableId, CapturedTable> tables;
+
+    /** The position to start from, or null to start from the latest position. */
+    @Nullable private final OceanBaseLogPosition startingPosition;
+
+    public LogStreamSplit(
+            String tenant,
+            int index,
+            Map<TableId, CapturedTable> tables,
+            @Nullable OceanBaseLogPosition startingPosition) {
+        this.tenant = tenant;
+        this.index = index;
+        this.tables = tables;
+        this.startingPosition = startingPosition;
+    }
+
+    @Override
+    public String splitId() {
+        return tenant;
+    }
+
+    public String getTenant() {
+        return tenant;
+    }
+
+    public int getIndex() {
+        return index;
+    }
+
+    public Map<TableId, CapturedTable> getTables() {
+        return tables;
+    }
+
+    @Nullable
+    public OceanBaseLogPosition getStartingPosition() {
+        return startingPosition;
+    }
+
+    public LogStreamSplit withStartingPosition(@Nullable OceanBaseLogPosition position) {
+        return new LogStreamSplit(tenant, index, tables, position);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof LogStreamSplit)) {
+            return false;
+        }
+        LogStreamSplit that = (LogStreamSplit) o;
+        return index == that.index
+                && Objects.equals(tenant, that.tenant)
+                && Objects.equals(tables, that.tables)
+                && Objects.equals(startingPosition, that.startingPosition);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(tenant, index, tables, startingPosition);
+    }
+
+    @Override
+    public String toString() {
+        return "LogStreamSplit{"
+                + "splitId="
+                + splitId()
+                + ", tables="
+                + tables.keySet()
+                + ", startingPosition="
+                + startingPosition
+                + '}';
+    }
+}
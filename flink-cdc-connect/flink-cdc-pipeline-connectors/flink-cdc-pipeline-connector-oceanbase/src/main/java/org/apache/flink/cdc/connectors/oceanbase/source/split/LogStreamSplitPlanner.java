@@ -0,0 +1,57 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.connectors.oceanbase.source.split;
+
+import org.apache.flink.cdc.common.annotation.Internal;
+import org.apache.flink.cdc.common.event.TableId;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Plans the {@link LogStreamSplit}s of the captured tables, one for each tenant. The binlog service
+ * only serves the whole log of a tenant, so the tables of a tenant are read by a single split
+ * instead of being divided among several streams which would each read and decode the whole log.
+ */
+@Internal
+public class LogStreamSplitPlanner {
+
+    private LogStreamSplitPlanner() {}
+
+    public static List<LogStreamSplit> planSplits(List<CapturedTable> tables) {
+        Map<String, Map<TableId, CapturedTable>> tablesByTenant = new TreeMap<>();
+        List<CapturedTable> sortedTables = new ArrayList<>(tables);
+        sortedTables.sort(Comparator.comparing(table -> table.getTableId().toString()));
+        for (CapturedTable table : sortedTables) {
+            TableId tableId = table.getTableId();
+            tablesByTenant
+                    .computeIfAbsent(tableId.getNamespace(), tenant -> new LinkedHashMap<>())
+                    .put(tableId, table);
+        }
+
+        List<LogStreamSplit> splits = new ArrayList<>();
+        tablesByTenant.forEach(
+                (tenant, tenantTables) ->
+                        splits.add(new LogStreamSplit(tenant, splits.size(), tenantTables, null)));
+        return splits;
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.connectors.oceanbase.source.split;
+
+import org.apache.flink.cdc.common.annotation.Internal;
+import org.apache.flink.core.io.SimpleVersionedSerializer;
+import org.apache.flink.util.InstantiationUtil;
+
+import java.io.IOException;
+
+/** A serializer for {@link LogStreamSplit}. */
+@Internal
+public class LogStreamSplitSerializer implements SimpleVersionedSerializer<LogStreamSplit> {
+
+    public static final LogStreamSplitSerializer INSTANCE = new LogStreamSplitSerializer();
+
+    /** Version 1 is the splits of the table groups of tenants, which are no longer planned. */
+    private static final int VERSION = 2;
+
+    @Override
+    public int getVersion() {
+        return VERSION;
+    }
+
+    @Override
+    public byte[] serialize(LogStreamSplit split) throws IOException {
+        return InstantiationUtil.serializeObject(split);
+    }
+
+    @Override
+    public LogStreamSplit deserialize(int version, byte[] serialized) throws IOException {
+        if (version == 1) {
+            throw new IOException(
+                    "Cannot restore the log stream splits of table groups, every tenant is read "
+                            + "by a single split now. Please restart the job without restoring "
+                            + "from the checkpoint or savepoint.");
+        }
+        if (version != VERSION) {
+            throw new IOException("Unknown version: " + version);
+        }
+        try {
+            return InstantiationUtil.deserializeObject(
+                    serialized, LogStreamSplit.class.getClassLoader());
+        } catch (ClassNotFoundException e) {
+            throw new IOException("Failed to deserialize LogStreamSplit.", e);
+        }
+    }
+}
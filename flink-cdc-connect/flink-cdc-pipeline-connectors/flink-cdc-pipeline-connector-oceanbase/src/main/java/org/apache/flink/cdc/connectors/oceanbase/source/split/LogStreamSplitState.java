@@ -0,0 +1,67 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.connectors.oceanbase.source.split;
+
+import org.apache.flink.cdc.common.annotation.Internal;
+import org.apache.flink.cdc.common.event.TableId;
+import org.apache.flink.cdc.connectors.oceanbase.source.log.OceanBaseLogPosition;
+
+import javax.annotation.Nullable;
+
+import java.util.HashSet;
+import java.util.Set;
+
+/** The mutable state of a {@link LogStreamSplit}. */
+@Internal
+public class LogStreamSplitState {
+
+    private final LogStreamSplit split;
+
+    /** The position after the last committed transaction which has been emitted. */
+    @Nullable private OceanBaseLogPosition position;
+
+    /** The tables whose schemas have been emitted. */
+    private final Set<TableId> announcedTables = new HashSet<>();
+
+    public LogStreamSplitState(LogStreamSplit split) {
+        this.split = split;
+        this.position = split.getStartingPosition();
+    }
+
+    public LogStreamSplit getSplit() {
+        return split;
+    }
+
+    @Nullable
+    public OceanBaseLogPosition getPosition() {
+        return position;
+    }
+
+    public void setPosition(OceanBaseLogPosition position) {
+        this.position = position;
+    }
+
+    /** Returns true if the schema of given table has not been emitted yet and marks it emitted. */
+    public boolean announceTable(TableId tableId) {
+        return announcedTables.add(tableId);
+    }
+
+    public LogStreamSplit toLogStreamSplit() {
+        return split.withStartingPosition(position);
+    }
+}
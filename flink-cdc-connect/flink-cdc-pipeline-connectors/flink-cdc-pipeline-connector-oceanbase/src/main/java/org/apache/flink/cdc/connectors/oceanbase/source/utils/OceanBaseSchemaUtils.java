@@ -0,0 +1,273 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.connectors.oceanbase.source.utils;
+
+import org.apache.flink.cdc.common.annotation.Internal;
+import org.apache.flink.cdc.common.event.TableId;
+import org.apache.flink.cdc.common.schema.Schema;
+import org.apache.flink.cdc.common.schema.Selectors;
+import org.apache.flink.cdc.common.types.DataType;
+import org.apache.flink.cdc.common.types.DataTypes;
+import org.apache.flink.cdc.connectors.oceanbase.source.config.OceanBaseSourceConfig;
+import org.apache.flink.cdc.connectors.oceanbase.source.split.CapturedTable;
+
+import javax.annotation.Nullable;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/** Utilities to read the metadata of the tables of OceanBase MySQL mode tenants. */
+@Internal
+public class OceanBaseSchemaUtils {
+
+    private static final Set<String> SYSTEM_DATABASES =
+            new HashSet<>(
+                    Arrays.asList(
+                            "information_schema",
+                            "mysql",
+                            "oceanbase",
+                            "performance_schema",
+                            "sys",
+                            "lbacsys",
+                            "oraauditor",
+                            "__public"));
+
+    private static final String LIST_DATABASES =
+            "SELECT SCHEMA_NAME FROM information_schema.SCHEMATA";
+
+    private static final String LIST_TABLES =
+            "SELECT TABLE_SCHEMA, TABLE_NAME FROM information_schema.TABLES"
+                    + " WHERE TABLE_TYPE = 'BASE TABLE'";
+
+    private static final String LIST_COLUMNS =
+            "SELECT COLUMN_NAME, DATA_TYPE, COLUMN_TYPE, IS_NULLABLE, NUMERIC_PRECISION,"
+                    + " NUMERIC_SCALE, DATETIME_PRECISION, CHARACTER_MAXIMUM_LENGTH,"
+                    + " CHARACTER_SET_NAME, COLUMN_COMMENT"
+                    + " FROM information_schema.COLUMNS WHERE TABLE_SCHEMA = ? AND TABLE_NAME = ?"
+                    + " ORDER BY ORDINAL_POSITION";
+
+    private static final String LIST_PRIMARY_KEYS =
+            "SELECT COLUMN_NAME FROM information_schema.KEY_COLUMN_USAGE"
+                    + " WHERE TABLE_SCHEMA = ? AND TABLE_NAME = ? AND CONSTRAINT_NAME = 'PRIMARY'"
+                    + " ORDER BY ORDINAL_POSITION";
+
+    private OceanBaseSchemaUtils() {}
+
+    public static Connection openConnection(OceanBaseSourceConfig config, String tenant)
+            throws SQLException {
+        return DriverManager.getConnection(
+                config.getJdbcUrl(), config.getUsername(tenant), config.getPassword());
+    }
+
+    /** Lists the user databases of given tenant. */
+    public static List<String> listDatabases(OceanBaseSourceConfig config, String tenant) {
+        try (Connection connection = openConnection(config, tenant);
+                PreparedStatement statement = connection.prepareStatement(LIST_DATABASES);
+                ResultSet rs = statement.executeQuery()) {
+            List<String> databases = new ArrayList<>();
+            while (rs.next()) {
+                String database = rs.getString(1);
+                if (!SYSTEM_DATABASES.contains(database.toLowerCase(Locale.ROOT))) {
+                    databases.add(database);
+                }
+            }
+            return databases;
+        } catch (SQLException e) {
+            throw new RuntimeException("Failed to list databases of tenant " + tenant, e);
+        }
+    }
+
+    /** Lists the tables of given tenant, or the tables of a database if it is not null. */
+    public static List<TableId> listTables(
+            OceanBaseSourceConfig config, String tenant, @Nullable String database) {
+        String sql = database == null ? LIST_TABLES : LIST_TABLES + " AND TABLE_SCHEMA = ?";
+        try (Connection connection = openConnection(config, tenant);
+                PreparedStatement statement = connection.prepareStatement(sql)) {
+            if (database != null) {
+                statement.setString(1, database);
+            }
+            List<TableId> tableIds = new ArrayList<>();
+            try (ResultSet rs = statement.executeQuery()) {
+                while (rs.next()) {
+                    String schemaName = rs.getString(1);
+                    if (!SYSTEM_DATABASES.contains(schemaName.toLowerCase(Locale.ROOT))) {
+                        tableIds.add(TableId.tableId(tenant, schemaName, rs.getString(2)));
+                    }
+                }
+            }
+            return tableIds;
+        } catch (SQLException e) {
+            throw new RuntimeException("Failed to list tables of tenant " + tenant, e);
+        }
+    }
+
+    /** Reads the tables of all tenants which match the table option. */
+    public static List<CapturedTable> discoverCapturedTables(OceanBaseSourceConfig config) {
+        Selectors selectors =
+                new Selectors.SelectorsBuilder().includeTables(config.getTables()).build();
+        List<CapturedTable> tables = new ArrayList<>();
+        for (String tenant : config.getTenants()) {
+            try (Connection connection = openConnection(config, tenant)) {
+                for (TableId tableId : listTables(config, tenant, null)) {
+                    if (selectors.isMatch(tableId)) {
+                        tables.add(readCapturedTable(connection, tableId));
+                    }
+                }
+            } catch (SQLException e) {
+                throw new RuntimeException("Failed to read tables of tenant " + tenant, e);
+            }
+        }
+        return tables;
+    }
+
+    public static Schema getTableSchema(OceanBaseSourceConfig config, TableId tableId) {
+        try (Connection connection = openConnection(config, tableId.getNamespace())) {
+            return readCapturedTable(connection, tableId).getSchema();
+        } catch (SQLException e) {
+            throw new RuntimeException("Failed to read schema of table " + tableId, e);
+        }
+    }
+
+    private static CapturedTable readCapturedTable(Connection connection, TableId tableId)
+            throws SQLException {
+        Schema.Builder builder = Schema.newBuilder();
+        List<String> columnTypes = new ArrayList<>();
+        List<String> columnCharsets = new ArrayList<>();
+        try (PreparedStatement statement = connection.prepareStatement(LIST_COLUMNS)) {
+            statement.setString(1, tableId.getSchemaName());
+            statement.setString(2, tableId.getTableName());
+            try (ResultSet rs = statement.executeQuery()) {
+                while (rs.next()) {
+                    String columnType = rs.getString("COLUMN_TYPE");
+                    DataType dataType =
+                            toDataType(
+                                    rs.getString("DATA_TYPE"),
+                                    columnType,
+                                    rs.getInt("NUMERIC_PRECISION"),
+                                    rs.getInt("NUMERIC_SCALE"),
+                                    rs.getInt("DATETIME_PRECISION"),
+                                    rs.getLong("CHARACTER_MAXIMUM_LENGTH"));
+                    if ("NO".equalsIgnoreCase(rs.getString("IS_NULLABLE"))) {
+                        dataType = dataType.notNull();
+                    }
+                    builder.physicalColumn(
+                            rs.getString("COLUMN_NAME"), dataType, rs.getString("COLUMN_COMMENT"));
+                    columnTypes.add(columnType);
+                    columnCharsets.add(rs.getString("CHARACTER_SET_NAME"));
+                }
+            }
+        }
+        if (columnTypes.isEmpty()) {
+            throw new IllegalArgumentException("Table " + tableId + " does not exist.");
+        }
+
+        List<String> primaryKeys = new ArrayList<>();
+        try (PreparedStatement statement = connection.prepareStatement(LIST_PRIMARY_KEYS)) {
+            statement.setString(1, tableId.getSchemaName());
+            statement.setString(2, tableId.getTableName());
+            try (ResultSet rs = statement.executeQuery()) {
+                while (rs.next()) {
+                    primaryKeys.add(rs.getString(1));
+                }
+            }
+        }
+        builder.primaryKey(primaryKeys);
+        return new CapturedTable(tableId, builder.build(), columnTypes, columnCharsets);
+    }
+
+    /**
+     * Returns the Flink CDC type of a column. Unsigned integers are widened to the next type which
+     * holds all their values, like the MySQL data source does.
+     */
+    public static DataType toDataType(
+            String dataType,
+            String columnType,
+            int precision,
+            int scale,
+            int datetimePrecision,
+            long length) {
+        boolean unsigned = columnType.toLowerCase(Locale.ROOT).contains("unsigned");
+        switch (dataType.toLowerCase(Locale.ROOT)) {
+            case "bit":
+                return "bit(1)".equalsIgnoreCase(columnType)
+                        ? DataTypes.BOOLEAN()
+                        : DataTypes.BINARY((precision + 7) / 8);
+            case "tinyint":
+                return unsigned ? DataTypes.SMALLINT() : DataTypes.TINYINT();
+            case "smallint":
+                return unsigned ? DataTypes.INT() : DataTypes.SMALLINT();
+            case "mediumint":
+            case "year":
+                return DataTypes.INT();
+            case "int":
+            case "integer":
+                return unsigned ? DataTypes.BIGINT() : DataTypes.INT();
+            case "bigint":
+                return unsigned ? DataTypes.DECIMAL(20, 0) : DataTypes.BIGINT();
+            case "float":
+                return DataTypes.FLOAT();
+            case "double":
+            case "real":
+                return DataTypes.DOUBLE();
+            case "decimal":
+            case "numeric":
+                return precision <= 38 ? DataTypes.DECIMAL(precision, scale) : DataTypes.STRING();
+            case "date":
+                return DataTypes.DATE();
+            case "time":
+                return DataTypes.TIME(datetimePrecision);
+            case "datetime":
+                return DataTypes.TIMESTAMP(datetimePrecision);
+            case "timestamp":
+                return DataTypes.TIMESTAMP_LTZ(datetimePrecision);
+            case "char":
+                return DataTypes.CHAR((int) length);
+            case "varchar":
+                return DataTypes.VARCHAR((int) length);
+            case "tinytext":
+            case "text":
+            case "mediumtext":
+            case "longtext":
+            case "json":
+            case "enum":
+            case "set":
+                return DataTypes.STRING();
+            case "binary":
+                return DataTypes.BINARY((int) length);
+            case "varbinary":
+                return DataTypes.VARBINARY((int) length);
+            case "tinyblob":
+            case "blob":
+            case "mediumblob":
+            case "longblob":
+                return DataTypes.BYTES();
+            default:
+                throw new UnsupportedOperationException(
+                        String.format("Unsupported OceanBase column type '%s'.", columnType));
+        }
+    }
+}
@@ -0,0 +1,224 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.connectors.oceanbase.source.log;
+
+import org.apache.flink.cdc.common.data.DateData;
+import org.apache.flink.cdc.common.data.DecimalData;
+import org.apache.flink.cdc.common.data.LocalZonedTimestampData;
+import org.apache.flink.cdc.common.data.TimeData;
+import org.apache.flink.cdc.common.data.TimestampData;
+import org.apache.flink.cdc.common.data.binary.BinaryStringData;
+import org.apache.flink.cdc.common.event.TableId;
+import org.apache.flink.cdc.common.schema.Schema;
+import org.apache.flink.cdc.connectors.oceanbase.source.split.CapturedTable;
+import org.apache.flink.cdc.connectors.oceanbase.source.utils.OceanBaseSchemaUtils;
+
+import org.junit.jupiter.api.Test;
+
+import javax.annotation.Nullable;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/** Tests for {@link BinlogRowConverter}. */
+class BinlogRowConverterTest {
+
+    @Test
+    void testConvertUnsignedIntegers() {
+        BinlogRowConverter converter =
+                converter(
+                        column("tinyint", "tinyint(3) unsigned", 3, 0, 0, 0),
+                        column("smallint", "smallint(5) unsigned", 5, 0, 0, 0),
+                        column("int", "int(10) unsigned", 10, 0, 0, 0),
+                        column("bigint", "bigint(20) unsigned", 20, 0, 0, 0),
+                        column("bigint", "bigint(20)", 19, 0, 0, 0));
+
+        Object[] fields = converter.convert(new Serializable[] {-1, -1, -1, -1L, -1L});
+
+        assertThat(fields)
+                .containsExactly(
+                        (short) 255,
+                        65535,
+                        4294967295L,
+                        DecimalData.fromBigDecimal(new BigDecimal("18446744073709551615"), 20, 0),
+                        -1L);
+    }
+
+    @Test
+    void testConvertTemporalValues() {
+        BinlogRowConverter converter =
+                converter(
+                        column("date", "date", 0, 0, 0, 0),
+                        column("time", "time(3)", 0, 0, 3, 0),
+                        column("datetime", "datetime(6)", 0, 0, 6, 0),
+                        column("timestamp", "timestamp(3)", 0, 0, 3, 0));
+        LocalDateTime dateTime = LocalDateTime.of(2024, 2, 29, 12, 30, 15, 123456000);
+        long dateTimeMicros = dateTime.toEpochSecond(ZoneOffset.UTC) * 1_000_000 + 123456;
+        Instant instant = Instant.parse("1969-12-31T23:59:59.500Z");
+
+        Object[] fields =
+                converter.convert(
+                        new Serializable[] {
+                            LocalDate.of(1960, 1, 1).toEpochDay() * 86_400_000_000L,
+                            LocalTime.of(10, 20, 30, 400_000_000).toNanoOfDay() / 1000,
+                            dateTimeMicros,
+                            -500_000L
+                        });
+
+        assertThat(fields)
+                .containsExactly(
+                        DateData.fromLocalDate(LocalDate.of(1960, 1, 1)),
+                        TimeData.fromLocalTime(LocalTime.of(10, 20, 30, 400_000_000)),
+                        TimestampData.fromLocalDateTime(dateTime),
+                        LocalZonedTimestampData.fromInstant(instant));
+    }
+
+    @Test
+    void testConvertStringValues() {
+        BinlogRowConverter converter =
+                converter(
+                        column("varchar", "varchar(16)", 0, 0, 0, 16),
+                        column("enum", "enum('a','it''s','c')", 0, 0, 0, 4),
+                        column("set", "set('x','y','z')", 0, 0, 0, 5),
+                        column("bit", "bit(1)", 1, 0, 0, 0),
+                        column("bit", "bit(12)", 12, 0, 0, 0),
+                        column("binary", "binary(4)", 0, 0, 0, 4),
+                        column("decimal", "decimal(65,2)", 65, 2, 0, 0));
+        BitSet bits = new BitSet();
+        bits.set(0);
+        bits.set(9);
+
+        Object[] fields =
+                converter.convert(
+                        new Serializable[] {
+                            "中文".getBytes(StandardCharsets.UTF_8),
+                            2,
+                            5L,
+                            bits,
+                            bits,
+                            new byte[] {1, 2},
+                            new BigDecimal("1234.50")
+                        });
+
+        assertThat(fields[0]).isEqualTo(BinaryStringData.fromString("中文"));
+        assertThat(fields[1]).isEqualTo(BinaryStringData.fromString("it's"));
+        assertThat(fields[2]).isEqualTo(BinaryStringData.fromString("x,z"));
+        assertThat(fields[3]).isEqualTo(true);
+        assertThat((byte[]) fields[4]).containsExactly(0x02, 0x01);
+        assertThat((byte[]) fields[5]).containsExactly(1, 2, 0, 0);
+        assertThat(fields[6]).isEqualTo(BinaryStringData.fromString("1234.50"));
+    }
+
+    @Test
+    void testConvertValuesOfCharsets() {
+        BinlogRowConverter converter =
+                converter(
+                        Arrays.asList("gbk", "latin1", "utf8mb4", null),
+                        column("varchar", "varchar(16)", 0, 0, 0, 16),
+                        column("char", "char(4)", 0, 0, 0, 4),
+                        column("text", "text", 0, 0, 0, 65535),
+                        column("int", "int(11)", 10, 0, 0, 0));
+
+        Object[] fields =
+                converter.convert(
+                        new Serializable[] {
+                            "中文".getBytes(Charset.forName("GBK")),
+                            "café".getBytes(Charset.forName("windows-1252")),
+                            "中文".getBytes(StandardCharsets.UTF_8),
+                            1
+                        });
+
+        assertThat(fields)
+                .containsExactly(
+                        BinaryStringData.fromString("中文"),
+                        BinaryStringData.fromString("café"),
+                        BinaryStringData.fromString("中文"),
+                        1);
+        assertThatThrownBy(
+                        () ->
+                                converter(
+                                        Collections.singletonList("ujis"),
+                                        column("varchar", "varchar(16)", 0, 0, 0, 16)))
+                .isInstanceOf(UnsupportedOperationException.class)
+                .hasMessageContaining("Unsupported character set 'ujis' of column c0");
+    }
+
+    @Test
+    void testConvertRowOfChangedTable() {
+        BinlogRowConverter converter = converter(column("int", "int(11)", 10, 0, 0, 0));
+
+        assertThat(converter.convert(new Serializable[] {null})).containsExactly((Object) null);
+        assertThatThrownBy(() -> converter.convert(new Serializable[] {1, 2}))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("Schema changes are not supported");
+    }
+
+    private static Object[] column(
+            String dataType,
+            String columnType,
+            int precision,
+            int scale,
+            int datetimePrecision,
+            long length) {
+        return new Object[] {dataType, columnType, precision, scale, datetimePrecision, length};
+    }
+
+    private static BinlogRowConverter converter(Object[]... columns) {
+        return converter(null, columns);
+    }
+
+    private static BinlogRowConverter converter(
+            @Nullable List<String> columnCharsets, Object[]... columns) {
+        Schema.Builder builder = Schema.newBuilder();
+        List<String> columnTypes = new ArrayList<>();
+        for (int i = 0; i < columns.length; i++) {
+            Object[] column = columns[i];
+            builder.physicalColumn(
+                    "c" + i,
+                    OceanBaseSchemaUtils.toDataType(
+                            (String) column[0],
+                            (String) column[1],
+                            (int) column[2],
+                            (int) column[3],
+                            (int) column[4],
+                            (long) column[5]));
+            columnTypes.add((String) column[1]);
+        }
+        return new BinlogRowConverter(
+                new CapturedTable(
+                        TableId.tableId("t1", "db", "table"),
+                        builder.build(),
+                        columnTypes,
+                        columnCharsets));
+    }
+}
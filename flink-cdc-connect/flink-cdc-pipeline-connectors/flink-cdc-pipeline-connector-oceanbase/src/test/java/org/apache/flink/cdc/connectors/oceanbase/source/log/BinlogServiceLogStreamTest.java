@@ -0,0 +1,197 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.connectors.oceanbase.source.log;
+
+import org.apache.flink.cdc.common.event.TableId;
+import org.apache.flink.cdc.common.schema.Schema;
+import org.apache.flink.cdc.common.types.DataTypes;
+import org.apache.flink.cdc.connectors.oceanbase.source.config.OceanBaseSourceConfig;
+import org.apache.flink.cdc.connectors.oceanbase.source.split.CapturedTable;
+import org.apache.flink.cdc.connectors.oceanbase.source.split.LogStreamSplit;
+import org.apache.flink.cdc.connectors.oceanbase.source.split.LogStreamSplitPlanner;
+
+import com.github.shyiko.mysql.binlog.event.Event;
+import com.github.shyiko.mysql.binlog.event.EventData;
+import com.github.shyiko.mysql.binlog.event.EventHeaderV4;
+import com.github.shyiko.mysql.binlog.event.EventType;
+import com.github.shyiko.mysql.binlog.event.QueryEventData;
+import com.github.shyiko.mysql.binlog.event.RotateEventData;
+import com.github.shyiko.mysql.binlog.event.TableMapEventData;
+import com.github.shyiko.mysql.binlog.event.WriteRowsEventData;
+import org.junit.jupiter.api.Test;
+
+import java.io.Serializable;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/** Tests for {@link BinlogServiceLogStream}. */
+class BinlogServiceLogStreamTest {
+
+    private static final TableId ORDERS = TableId.tableId("t1", "app", "orders");
+    private static final TableId ITEMS = TableId.tableId("t1", "app", "items");
+
+    @Test
+    void testReadChangesOfCapturedTables() {
+        BinlogServiceLogStream stream = createStream();
+        List<OceanBaseLogRecord> records = new ArrayList<>();
+        stream.collectRecords(rotate("mysql-bin.000001"), records);
+        stream.collectRecords(query("app", "BEGIN", 100L), records);
+        stream.collectRecords(tableMap(1L, "app", "orders"), records);
+        stream.collectRecords(write(1L, 1, "a"), records);
+        stream.collectRecords(tableMap(2L, "app", "other"), records);
+        stream.collectRecords(write(2L, 2, "b"), records);
+        stream.collectRecords(query("app", "COMMIT", 200L), records);
+
+        assertThat(records).hasSize(2);
+        assertThat(records.get(0).getKind()).isEqualTo(OceanBaseLogRecord.Kind.INSERT);
+        assertThat(records.get(0).getTableId()).isEqualTo(ORDERS);
+        assertThat(records.get(1).getKind()).isEqualTo(OceanBaseLogRecord.Kind.COMMIT);
+        assertThat(records.get(1).getPosition())
+                .isEqualTo(new OceanBaseLogPosition("mysql-bin.000001", 200L));
+    }
+
+    @Test
+    void testFailOnSchemaChangeOfCapturedTable() {
+        BinlogServiceLogStream stream = createStream();
+        List<OceanBaseLogRecord> records = new ArrayList<>();
+        stream.collectRecords(rotate("mysql-bin.000002"), records);
+        // statements which do not change any captured table are skipped
+        stream.collectRecords(query("app", "ALTER TABLE other ADD COLUMN c INT", 100L), records);
+        stream.collectRecords(query("app", "CREATE TABLE orders_copy LIKE orders", 200L), records);
+        assertThat(records).isEmpty();
+
+        assertThatThrownBy(
+                        () ->
+                                stream.collectRecords(
+                                        query("app", "ALTER TABLE orders ADD COLUMN c INT", 300L),
+                                        records))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("ALTER TABLE orders ADD COLUMN c INT")
+                .hasMessageContaining(ORDERS.toString())
+                .hasMessageContaining("mysql-bin.000002")
+                .hasMessageContaining("schema changes are not supported");
+    }
+
+    @Test
+    void testFindChangedTable() {
+        BinlogServiceLogStream stream = createStream();
+        assertThat(stream.findChangedTable("app", "ALTER TABLE `orders` DROP COLUMN name"))
+                .isEqualTo(ORDERS);
+        assertThat(stream.findChangedTable(null, "alter table `app`.`Items` add c int"))
+                .isEqualTo(ITEMS);
+        assertThat(stream.findChangedTable("other", "TRUNCATE app . orders")).isEqualTo(ORDERS);
+        assertThat(stream.findChangedTable("other", "RENAME TABLE a TO b, app.items TO c"))
+                .isEqualTo(ITEMS);
+        assertThat(stream.findChangedTable(null, "/* comment */ DROP DATABASE IF EXISTS app"))
+                .isEqualTo(ORDERS);
+        assertThat(stream.findChangedTable("app", "DROP TABLE IF EXISTS a, `items` RESTRICT"))
+                .isEqualTo(ITEMS);
+        assertThat(stream.findChangedTable("app", "RENAME TABLE a TO orders")).isEqualTo(ORDERS);
+
+        // the tables of other databases, other statements and literals do not count
+        assertThat(stream.findChangedTable("other", "ALTER TABLE orders ADD c INT")).isNull();
+        assertThat(stream.findChangedTable("app", "ALTER TABLE other.orders ADD c INT")).isNull();
+        assertThat(stream.findChangedTable("app", "ALTER TABLE orders_2 ADD c INT")).isNull();
+        assertThat(stream.findChangedTable("app", "ALTER TABLE a COMMENT 'orders'")).isNull();
+        assertThat(stream.findChangedTable("app", "INSERT INTO orders VALUES (1)")).isNull();
+        assertThat(stream.findChangedTable("app", "DROP DATABASE other")).isNull();
+
+        // only the names of changed tables count, not other identifiers of the statement
+        assertThat(stream.findChangedTable("app", "ALTER TABLE other ADD COLUMN orders INT"))
+                .isNull();
+        assertThat(stream.findChangedTable("app", "ALTER TABLE a RENAME COLUMN b TO orders"))
+                .isNull();
+        assertThat(stream.findChangedTable("app", "DROP INDEX orders ON other")).isNull();
+        assertThat(stream.findChangedTable("app", "DROP TABLE other CASCADE")).isNull();
+        assertThat(stream.findChangedTable("app", "ALTER USER orders IDENTIFIED BY 'x'")).isNull();
+    }
+
+    private static BinlogServiceLogStream createStream() {
+        OceanBaseSourceConfig config =
+                new OceanBaseSourceConfig(
+                        "localhost",
+                        2881,
+                        "root",
+                        "",
+                        Collections.singletonList("t1"),
+                        null,
+                        "t1.app.\\.*",
+                        "localhost",
+                        2983,
+                        5400L,
+                        "UTC",
+                        Duration.ofSeconds(30));
+        LogStreamSplit split =
+                LogStreamSplitPlanner.planSplits(Arrays.asList(table(ORDERS), table(ITEMS))).get(0);
+        return new BinlogServiceLogStream(config, split);
+    }
+
+    private static CapturedTable table(TableId tableId) {
+        Schema schema =
+                Schema.newBuilder()
+                        .physicalColumn("id", DataTypes.INT().notNull())
+                        .physicalColumn("name", DataTypes.VARCHAR(32))
+                        .primaryKey("id")
+                        .build();
+        return new CapturedTable(tableId, schema, Arrays.asList("int(11)", "varchar(32)"));
+    }
+
+    private static Event rotate(String filename) {
+        RotateEventData data = new RotateEventData();
+        data.setBinlogFilename(filename);
+        data.setBinlogPosition(4L);
+        return event(EventType.ROTATE, 0L, data);
+    }
+
+    private static Event query(String database, String sql, long nextPosition) {
+        QueryEventData data = new QueryEventData();
+        data.setDatabase(database);
+        data.setSql(sql);
+        return event(EventType.QUERY, nextPosition, data);
+    }
+
+    private static Event tableMap(long tableNumber, String database, String table) {
+        TableMapEventData data = new TableMapEventData();
+        data.setTableId(tableNumber);
+        data.setDatabase(database);
+        data.setTable(table);
+        return event(EventType.TABLE_MAP, 0L, data);
+    }
+
+    private static Event write(long tableNumber, int id, String name) {
+        WriteRowsEventData data = new WriteRowsEventData();
+        data.setTableId(tableNumber);
+        data.setRows(Collections.singletonList(new Serializable[] {id, name.getBytes()}));
+        return event(EventType.EXT_WRITE_ROWS, 0L, data);
+    }
+
+    private static Event event(EventType eventType, long nextPosition, EventData data) {
+        EventHeaderV4 header = new EventHeaderV4();
+        header.setEventType(eventType);
+        header.setTimestamp(1L);
+        header.setNextPosition(nextPosition);
+        header.setEventLength(nextPosition == 0L ? 0L : 50L);
+        return new Event(header, data);
+    }
+}
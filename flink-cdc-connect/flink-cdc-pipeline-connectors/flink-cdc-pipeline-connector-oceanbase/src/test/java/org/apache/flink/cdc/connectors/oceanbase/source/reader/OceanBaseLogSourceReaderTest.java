@@ -0,0 +1,152 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.connectors.oceanbase.source.reader;
+
+import org.apache.flink.cdc.common.data.binary.BinaryStringData;
+import org.apache.flink.cdc.common.event.CreateTableEvent;
+import org.apache.flink.cdc.common.event.DataChangeEvent;
+import org.apache.flink.cdc.common.event.Event;
+import org.apache.flink.cdc.common.event.TableId;
+import org.apache.flink.cdc.common.schema.Schema;
+import org.apache.flink.cdc.common.types.DataTypes;
+import org.apache.flink.cdc.connectors.oceanbase.source.log.OceanBaseLogPosition;
+import org.apache.flink.cdc.connectors.oceanbase.source.log.OceanBaseLogRecord;
+import org.apache.flink.cdc.connectors.oceanbase.source.log.OceanBaseLogStream;
+import org.apache.flink.cdc.connectors.oceanbase.source.log.OceanBaseLogStreamFactory;
+import org.apache.flink.cdc.connectors.oceanbase.source.split.CapturedTable;
+import org.apache.flink.cdc.connectors.oceanbase.source.split.LogStreamSplit;
+import org.apache.flink.cdc.connectors.oceanbase.source.split.LogStreamSplitPlanner;
+import org.apache.flink.connector.testutils.source.reader.TestingReaderContext;
+import org.apache.flink.connector.testutils.source.reader.TestingReaderOutput;
+import org.apache.flink.core.io.InputStatus;
+
+import org.junit.jupiter.api.Test;
+
+import javax.annotation.Nullable;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/** Tests for {@link OceanBaseLogSourceReader}. */
+class OceanBaseLogSourceReaderTest {
+
+    private static final TableId TABLE_ID = TableId.tableId("t1", "db", "orders");
+
+    private static final Schema SCHEMA =
+            Schema.newBuilder()
+                    .physicalColumn("id", DataTypes.INT().notNull())
+                    .physicalColumn("name", DataTypes.STRING())
+                    .primaryKey("id")
+                    .build();
+
+    @Test
+    void testReadLogStreamSplit() throws Exception {
+        LogStreamSplit split =
+                LogStreamSplitPlanner.planSplits(
+                                Collections.singletonList(
+                                        new CapturedTable(
+                                                TABLE_ID,
+                                                SCHEMA,
+                                                Arrays.asList("int(11)", "varchar(16)"))))
+                        .get(0);
+        OceanBaseLogPosition committed = new OceanBaseLogPosition("mysql-bin.000001", 300L);
+        RecordedLogStreamFactory.RECORDS.put(
+                split.splitId(),
+                Arrays.asList(
+                        OceanBaseLogRecord.insert(TABLE_ID, row(1, "a"), 1L),
+                        OceanBaseLogRecord.commit(committed, 1L),
+                        OceanBaseLogRecord.update(TABLE_ID, row(1, "a"), row(1, "b"), 2L),
+                        OceanBaseLogRecord.delete(TABLE_ID, row(1, "b"), 2L)));
+
+        try (OceanBaseLogSourceReader reader =
+                new OceanBaseLogSourceReader(
+                        new RecordedLogStreamFactory(), new TestingReaderContext())) {
+            reader.start();
+            reader.addSplits(Collections.singletonList(split));
+
+            TestingReaderOutput<Event> output = new TestingReaderOutput<>();
+            pollUntil(reader, output, 4);
+
+            List<Event> events = output.getEmittedRecords();
+            assertThat(events.get(0)).isEqualTo(new CreateTableEvent(TABLE_ID, SCHEMA));
+            assertThat(events.subList(1, 4))
+                    .extracting(event -> ((DataChangeEvent) event).op().name())
+                    .containsExactly("INSERT", "UPDATE", "DELETE");
+            assertThat(((DataChangeEvent) events.get(2)).after().getString(1))
+                    .isEqualTo(BinaryStringData.fromString("b"));
+
+            // the uncommitted changes of the last transaction are read again after failover
+            List<LogStreamSplit> snapshot = reader.snapshotState(1L);
+            assertThat(snapshot).containsExactly(split.withStartingPosition(committed));
+        }
+    }
+
+    private static void pollUntil(
+            OceanBaseLogSourceReader reader, TestingReaderOutput<Event> output, int expectedEvents)
+            throws Exception {
+        long deadline = System.currentTimeMillis() + 30_000L;
+        while (output.getEmittedRecords().size() < expectedEvents) {
+            InputStatus status = reader.pollNext(output);
+            if (status == InputStatus.NOTHING_AVAILABLE) {
+                reader.isAvailable().get();
+            }
+            assertThat(System.currentTimeMillis()).isLessThan(deadline);
+        }
+    }
+
+    private static Object[] row(int id, String name) {
+        return new Object[] {id, BinaryStringData.fromString(name)};
+    }
+
+    /** Replays the recorded records of each split and then stays idle. */
+    private static class RecordedLogStreamFactory implements OceanBaseLogStreamFactory {
+
+        private static final Map<String, List<OceanBaseLogRecord>> RECORDS = new HashMap<>();
+
+        @Override
+        public OceanBaseLogStream create(LogStreamSplit split) {
+            Queue<OceanBaseLogRecord> records =
+                    new ArrayDeque<>(RECORDS.getOrDefault(split.splitId(), new ArrayList<>()));
+            return new OceanBaseLogStream() {
+                @Override
+                public void start() {}
+
+                @Nullable
+                @Override
+                public OceanBaseLogRecord poll(long timeoutMillis) throws Exception {
+                    OceanBaseLogRecord record = records.poll();
+                    if (record == null && timeoutMillis > 0) {
+                        Thread.sleep(timeoutMillis);
+                    }
+                    return record;
+                }
+
+                @Override
+                public void close() {}
+            };
+        }
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.connectors.oceanbase.source.split;
+
+import org.apache.flink.cdc.common.event.TableId;
+import org.apache.flink.cdc.common.schema.Schema;
+import org.apache.flink.cdc.common.types.DataTypes;
+import org.apache.flink.cdc.connectors.oceanbase.source.log.OceanBaseLogPosition;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/** Tests for {@link LogStreamSplitPlanner} and {@link LogStreamSplitSerializer}. */
+class LogStreamSplitPlannerTest {
+
+    @Test
+    void testPlanSplitsOfTenants() {
+        List<CapturedTable> tables = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            tables.add(table("t1", "db", "table" + i));
+        }
+        tables.add(table("t2", "db", "orders"));
+
+        List<LogStreamSplit> splits = LogStreamSplitPlanner.planSplits(tables);
+
+        // every tenant is read by exactly one split, which reads all of its tables
+        assertThat(splits).extracting(LogStreamSplit::getTenant).containsExactly("t1", "t2");
+        assertThat(splits).extracting(LogStreamSplit::splitId).containsExactly("t1", "t2");
+        assertThat(splits).extracting(LogStreamSplit::getIndex).containsExactly(0, 1);
+        Set<TableId> planned = new HashSet<>();
+        for (LogStreamSplit split : splits) {
+            for (TableId tableId : split.getTables().keySet()) {
+                assertThat(tableId.getNamespace()).isEqualTo(split.getTenant());
+                assertThat(planned.add(tableId)).isTrue();
+            }
+        }
+        assertThat(planned).hasSize(21);
+    }
+
+    @Test
+    void testPlanSplitsIsStable() {
+        List<CapturedTable> tables = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            tables.add(table("t" + (i % 3), "db", "table" + i));
+        }
+        List<LogStreamSplit> splits = LogStreamSplitPlanner.planSplits(tables);
+        Collections.reverse(tables);
+        assertThat(LogStreamSplitPlanner.planSplits(tables)).isEqualTo(splits);
+    }
+
+    @Test
+    void testSerializeSplit() throws Exception {
+        LogStreamSplit split =
+                LogStreamSplitPlanner.planSplits(
+                                Collections.singletonList(table("t1", "db", "orders")))
+                        .get(0)
+                        .withStartingPosition(new OceanBaseLogPosition("mysql-bin.000003", 1024L));
+
+        LogStreamSplitSerializer serializer = LogStreamSplitSerializer.INSTANCE;
+        LogStreamSplit deserialized =
+                serializer.deserialize(serializer.getVersion(), serializer.serialize(split));
+        assertThat(deserialized).isEqualTo(split);
+        assertThat(deserialized.getStartingPosition())
+                .isEqualTo(new OceanBaseLogPosition("mysql-bin.000003", 1024L));
+
+        // the splits of table groups can not be restored
+        assertThatThrownBy(() -> serializer.deserialize(1, serializer.serialize(split)))
+                .isInstanceOf(IOException.class)
+                .hasMessageContaining("every tenant is read by a single split");
+    }
+
+    private static CapturedTable table(String tenant, String database, String table) {
+        Schema schema =
+                Schema.newBuilder()
+                        .physicalColumn("id", DataTypes.INT().notNull())
+                        .physicalColumn("name", DataTypes.VARCHAR(32))
+                        .primaryKey("id")
+                        .build();
+        return new CapturedTable(
+                TableId.tableId(tenant, database, table),
+                schema,
+                Arrays.asList("int(11)", "varchar(32)"));
+    }
+}
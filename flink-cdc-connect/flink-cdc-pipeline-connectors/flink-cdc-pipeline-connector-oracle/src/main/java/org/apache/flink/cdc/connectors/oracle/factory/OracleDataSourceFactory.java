@@ -117,6 +117,12 @@ public class OracleDataSourceFactory implements DataSourceFactory {
                 config.get(OracleDataSourceOptions.SCAN_INCREMENTAL_CLOSE_IDLE_READER_ENABLED);
         boolean skipSnapshotBackfill =
                 config.get(OracleDataSourceOptions.SCAN_INCREMENTAL_SNAPSHOT_BACKFILL_SKIP);
+        int streamPhaseMetricsSampleInterval =
+                config.get(
+                        OracleDataSourceOptions
+                                .SCAN_INCREMENTAL_STREAM_PHASE_METRICS_SAMPLE_INTERVAL);
+        int snapshotPrefetchSplits =
+                config.get(OracleDataSourceOptions.SCAN_INCREMENTAL_SNAPSHOT_PREFETCH_SPLITS);
         OracleSourceConfigFactory configFactory = new OracleSourceConfigFactory();
         configFactory.url(url);
         configFactory.hostname(hostname);
@@ -136,6 +142,8 @@ public class OracleDataSourceFactory implements DataSourceFactory {
         configFactory.distributionFactorLower(distributionFactorLower);
         configFactory.closeIdleReaders(closeIdleReaders);
         configFactory.skipSnapshotBackfill(skipSnapshotBackfill);
+        configFactory.streamPhaseMetricsSampleInterval(streamPhaseMetricsSampleInterval);
+        configFactory.snapshotPrefetchSplits(snapshotPrefetchSplits);
         configFactory.includeSchemaChanges(true);
         configFactory.serverTimeZone(serverTimeZone);
 
@@ -201,6 +209,8 @@ public class OracleDataSourceFactory implements DataSourceFactory {
         options.add(OracleDataSourceOptions.CONNECT_MAX_RETRIES);
         options.add(OracleDataSourceOptions.SCAN_INCREMENTAL_CLOSE_IDLE_READER_ENABLED);
         options.add(OracleDataSourceOptions.SCAN_INCREMENTAL_SNAPSHOT_BACKFILL_SKIP);
+        options.add(OracleDataSourceOptions.SCAN_INCREMENTAL_STREAM_PHASE_METRICS_SAMPLE_INTERVAL);
+        options.add(OracleDataSourceOptions.SCAN_INCREMENTAL_SNAPSHOT_PREFETCH_SPLITS);
         options.add(OracleDataSourceOptions.LOG_MINING_STRATEGY);
         options.add(OracleDataSourceOptions.DATABASE_CONNECTION_ADAPTER);
         options.add(OracleDataSourceOptions.SCAN_STARTUP_MODE);
@@ -23,6 +23,8 @@ import org.apache.flink.cdc.common.source.DataSource;
 import org.apache.flink.cdc.common.source.EventSourceProvider;
 import org.apache.flink.cdc.common.source.FlinkSourceProvider;
 import org.apache.flink.cdc.common.source.MetadataAccessor;
+import org.apache.flink.cdc.common.source.SnapshotPushDown;
+import org.apache.flink.cdc.common.source.SupportsSnapshotPushDown;
 import org.apache.flink.cdc.connectors.oracle.source.config.OracleSourceConfig;
 import org.apache.flink.cdc.connectors.oracle.source.config.OracleSourceConfigFactory;
 import org.apache.flink.cdc.connectors.oracle.source.meta.offset.RedoLogOffsetFactory;
@@ -43,7 +45,8 @@ import java.util.stream.Stream;
  * A {@link DynamicTableSource} that describes how to create a Oracle redo log from a logical
  * description.
  */
-public class OracleDataSource implements DataSource, SupportsReadingMetadata {
+public class OracleDataSource
+        implements DataSource, SupportsReadingMetadata, SupportsSnapshotPushDown {
 
     private final OracleSourceConfig sourceConfig;
     private final OracleSourceConfigFactory configFactory;
@@ -80,6 +83,11 @@ public class OracleDataSource implements DataSource, SupportsReadingMetadata {
         return FlinkSourceProvider.of(oracleChangeEventSource);
     }
 
+    @Override
+    public void applySnapshotPushDown(List<SnapshotPushDown> pushDowns) {
+        configFactory.snapshotPushDowns(pushDowns);
+    }
+
     @Override
     public MetadataAccessor getMetadataAccessor() {
         return new OracleMetadataAccessor(sourceConfig);
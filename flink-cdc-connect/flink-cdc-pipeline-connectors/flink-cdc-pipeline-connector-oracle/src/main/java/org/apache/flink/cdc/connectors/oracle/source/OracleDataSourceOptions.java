@@ -199,6 +199,23 @@ public class OracleDataSourceOptions {
                     .withDescription(
                             "Whether to skip backfill in snapshot reading phase. If backfill is skipped, changes on captured tables during snapshot phase will be consumed later in incremental reading phase instead of being merged into the snapshot.WARNING: Skipping backfill might lead to data inconsistency because some binlog events happened within the snapshot phase might be replayed (only at-least-once semantic is promised). For example updating an already updated value in snapshot, or deleting an already deleted entry in snapshot. These replayed binlog events should be handled specially.");
 
+    @Experimental
+    public static final ConfigOption<Integer>
+            SCAN_INCREMENTAL_STREAM_PHASE_METRICS_SAMPLE_INTERVAL =
+                    ConfigOptions.key("scan.incremental.stream-phase-metrics.sample-interval")
+                            .intType()
+                            .defaultValue(0)
+                            .withDescription(
+                                    "Time one of every N emitted records for the stream phase metrics of the source readers, which tell whether a lagging reader spends its time waiting for the log, converting records, or emitting them downstream. Defaults to 0, which disables these metrics.");
+
+    @Experimental
+    public static final ConfigOption<Integer> SCAN_INCREMENTAL_SNAPSHOT_PREFETCH_SPLITS =
+            ConfigOptions.key("scan.incremental.snapshot.prefetch-splits")
+                    .intType()
+                    .defaultValue(0)
+                    .withDescription(
+                            "The number of snapshot splits a source reader requests ahead of the split it is reading, so that the query of the next split starts once the current split is read instead of after a round-trip to the enumerator. Prefetched splits are part of the reader state. Defaults to 0, which requests the next split after the current one is finished.");
+
     @Experimental
     public static final ConfigOption<String> METADATA_LIST =
             ConfigOptions.key("metadata.list")
@@ -27,6 +27,7 @@ import org.apache.flink.cdc.common.sink.FlinkSinkProvider;
 import org.apache.flink.cdc.common.sink.MetadataApplier;
 import org.apache.flink.cdc.connectors.paimon.sink.v2.PaimonEventSink;
 import org.apache.flink.cdc.connectors.paimon.sink.v2.PaimonRecordSerializer;
+import org.apache.flink.cdc.connectors.paimon.sink.v2.PaimonWriter;
 
 import org.apache.paimon.options.Options;
 
@@ -54,6 +55,10 @@ public class PaimonDataSink implements DataSink, Serializable {
 
     public final String schemaOperatorUid;
 
+    private final int idleCheckpointsBeforeClose;
+
+    private final int prepareCommitThreads;
+
     public PaimonDataSink(
             Options options,
             Map<String, String> tableOptions,
@@ -62,6 +67,28 @@ public class PaimonDataSink implements DataSink, Serializable {
             PaimonRecordSerializer<Event> serializer,
             ZoneId zoneId,
             String schemaOperatorUid) {
+        this(
+                options,
+                tableOptions,
+                commitUser,
+                partitionMaps,
+                serializer,
+                zoneId,
+                schemaOperatorUid,
+                PaimonWriter.DEFAULT_IDLE_CHECKPOINTS_BEFORE_CLOSE,
+                PaimonWriter.DEFAULT_PREPARE_COMMIT_THREADS);
+    }
+
+    public PaimonDataSink(
+            Options options,
+            Map<String, String> tableOptions,
+            String commitUser,
+            Map<TableId, List<String>> partitionMaps,
+            PaimonRecordSerializer<Event> serializer,
+            ZoneId zoneId,
+            String schemaOperatorUid,
+            int idleCheckpointsBeforeClose,
+            int prepareCommitThreads) {
         this.options = options;
         this.tableOptions = tableOptions;
         this.commitUser = commitUser;
@@ -69,12 +96,21 @@ public class PaimonDataSink implements DataSink, Serializable {
         this.serializer = serializer;
         this.zoneId = zoneId;
         this.schemaOperatorUid = schemaOperatorUid;
+        this.idleCheckpointsBeforeClose = idleCheckpointsBeforeClose;
+        this.prepareCommitThreads = prepareCommitThreads;
     }
 
     @Override
     public EventSinkProvider getEventSinkProvider() {
         return FlinkSinkProvider.of(
-                new PaimonEventSink(options, commitUser, serializer, schemaOperatorUid, zoneId));
+                new PaimonEventSink(
+                        options,
+                        commitUser,
+                        serializer,
+                        schemaOperatorUid,
+                        zoneId,
+                        idleCheckpointsBeforeClose,
+                        prepareCommitThreads));
     }
 
     @Override
@@ -107,7 +107,11 @@ public class PaimonDataSinkFactory implements DataSinkFactory {
                 partitionMaps,
                 serializer,
                 zoneId,
-                schemaOperatorUid);
+                schemaOperatorUid,
+                context.getFactoryConfiguration()
+                        .get(PaimonDataSinkOptions.SINK_WRITER_IDLE_CHECKPOINTS),
+                context.getFactoryConfiguration()
+                        .get(PaimonDataSinkOptions.SINK_PREPARE_COMMIT_THREADS));
     }
 
     @Override
@@ -129,6 +133,8 @@ public class PaimonDataSinkFactory implements DataSinkFactory {
         options.add(PaimonDataSinkOptions.URI);
         options.add(PaimonDataSinkOptions.COMMIT_USER);
         options.add(PaimonDataSinkOptions.PARTITION_KEY);
+        options.add(PaimonDataSinkOptions.SINK_WRITER_IDLE_CHECKPOINTS);
+        options.add(PaimonDataSinkOptions.SINK_PREPARE_COMMIT_THREADS);
         return options;
     }
 }
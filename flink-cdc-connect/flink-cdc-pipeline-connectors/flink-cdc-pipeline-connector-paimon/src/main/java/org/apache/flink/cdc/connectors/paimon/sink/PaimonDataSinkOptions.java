@@ -18,6 +18,7 @@
 package org.apache.flink.cdc.connectors.paimon.sink;
 
 import org.apache.flink.cdc.common.configuration.ConfigOption;
+import org.apache.flink.cdc.connectors.paimon.sink.v2.PaimonWriter;
 
 import org.apache.paimon.options.CatalogOptions;
 
@@ -65,4 +66,21 @@ public class PaimonDataSinkOptions {
                             "Partition keys for each partitioned table, allow setting multiple primary keys for multiTables. "
                                     + "Tables are separated by ';', and partition keys are separated by ','. "
                                     + "For example, we can set partition.key of two tables by 'testdb.table1:id1,id2;testdb.table2:name'.");
+
+    public static final ConfigOption<Integer> SINK_WRITER_IDLE_CHECKPOINTS =
+            key("sink.writer.idle-checkpoints")
+                    .intType()
+                    .defaultValue(PaimonWriter.DEFAULT_IDLE_CHECKPOINTS_BEFORE_CLOSE)
+                    .withDescription(
+                            "The writer of a table is closed to release its memory after this number of "
+                                    + "consecutive checkpoints without records, and recreated when records of "
+                                    + "the table come in again. Non-positive values keep writers open until the job ends.");
+
+    public static final ConfigOption<Integer> SINK_PREPARE_COMMIT_THREADS =
+            key("sink.prepare-commit.threads")
+                    .intType()
+                    .defaultValue(PaimonWriter.DEFAULT_PREPARE_COMMIT_THREADS)
+                    .withDescription(
+                            "Number of threads used by each writer to flush the tables that received records "
+                                    + "when a checkpoint is triggered.");
 }
@@ -0,0 +1,124 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.connectors.paimon.sink.v2;
+
+import org.apache.flink.cdc.common.data.binary.BinaryRecordData;
+import org.apache.flink.cdc.common.data.binary.BinarySegmentUtils;
+import org.apache.flink.cdc.common.schema.Column;
+import org.apache.flink.cdc.common.schema.Schema;
+import org.apache.flink.cdc.common.types.DataType;
+import org.apache.flink.cdc.common.types.DataTypeChecks;
+
+import org.apache.paimon.data.BinaryRow;
+import org.apache.paimon.data.Timestamp;
+import org.apache.paimon.memory.MemorySegment;
+import org.apache.paimon.types.RowKind;
+
+import javax.annotation.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Converts a {@link BinaryRecordData} into a Paimon {@link BinaryRow} by copying its bytes.
+ *
+ * <p>Both formats share the same layout: an 8 bits header followed by the null bit set, one 8 bytes
+ * slot per field and a variable length part addressed by offsets relative to the start of the row.
+ * So the bytes of a record can be copied as a whole, only the header byte has to be set to the
+ * {@link RowKind} and compact timestamps have to be patched, as CDC always stores them in the
+ * variable length part while Paimon keeps their milliseconds in the fixed length slot.
+ *
+ * <p>Types that are encoded differently, like {@code TIMESTAMP_TZ} and {@code VARIANT}, are not
+ * supported. Use {@link #create(Schema)} to check whether a schema can be converted.
+ */
+public class BinaryRowConverter {
+
+    private final int arity;
+
+    /** Positions of timestamps whose milliseconds must be moved into the fixed length slot. */
+    private final int[] compactTimestampPositions;
+
+    private BinaryRowConverter(int arity, int[] compactTimestampPositions) {
+        this.arity = arity;
+        this.compactTimestampPositions = compactTimestampPositions;
+    }
+
+    /**
+     * Creates a converter for the schema, or returns null if the schema contains a column whose
+     * binary representation differs between CDC and Paimon.
+     */
+    @Nullable
+    public static BinaryRowConverter create(Schema schema) {
+        List<Column> columns = schema.getColumns();
+        List<Integer> compactTimestampPositions = new ArrayList<>();
+        for (int i = 0; i < columns.size(); i++) {
+            DataType type = columns.get(i).getType();
+            switch (type.getTypeRoot()) {
+                case CHAR:
+                case VARCHAR:
+                case BOOLEAN:
+                case BINARY:
+                case VARBINARY:
+                case DECIMAL:
+                case TINYINT:
+                case SMALLINT:
+                case INTEGER:
+                case BIGINT:
+                case FLOAT:
+                case DOUBLE:
+                case DATE:
+                case TIME_WITHOUT_TIME_ZONE:
+                case ARRAY:
+                case MAP:
+                case ROW:
+                    break;
+                case TIMESTAMP_WITHOUT_TIME_ZONE:
+                case TIMESTAMP_WITH_LOCAL_TIME_ZONE:
+                    if (Timestamp.isCompact(DataTypeChecks.getPrecision(type))) {
+                        compactTimestampPositions.add(i);
+                    }
+                    break;
+                default:
+                    return null;
+            }
+        }
+        return new BinaryRowConverter(
+                columns.size(),
+                compactTimestampPositions.stream().mapToInt(Integer::intValue).toArray());
+    }
+
+    /** Converts the record into a {@link BinaryRow} of the given {@link RowKind}. */
+    public BinaryRow convert(BinaryRecordData recordData, RowKind rowKind) {
+        int sizeInBytes = recordData.getSizeInBytes();
+        MemorySegment segment =
+                MemorySegment.wrap(
+                        BinarySegmentUtils.copyToBytes(
+                                recordData.getSegments(), recordData.getOffset(), sizeInBytes));
+
+        BinaryRow row = new BinaryRow(arity);
+        row.pointTo(segment, 0, sizeInBytes);
+        row.setRowKind(rowKind);
+        for (int pos : compactTimestampPositions) {
+            if (!row.isNullAt(pos)) {
+                long offsetAndNanoOfMilli = row.getLong(pos);
+                row.setLong(pos, segment.getLong((int) (offsetAndNanoOfMilli >> 32)));
+            }
+        }
+        return row;
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.connectors.paimon.sink.v2;
+
+import org.apache.flink.util.function.SupplierWithException;
+
+import org.apache.paimon.catalog.Identifier;
+import org.apache.paimon.memory.MemoryOwner;
+import org.apache.paimon.memory.MemoryPoolFactory;
+import org.apache.paimon.memory.MemorySegmentPool;
+
+import javax.annotation.Nullable;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.StreamSupport;
+
+/**
+ * A {@link MemoryPoolFactory} shared by the writes of all tables in a {@link PaimonWriter}.
+ *
+ * <p>The write buffer is arbitrated across tables: when a table runs out of pages, the memory owner
+ * that occupies the most memory, usually the buffer of another table, is flushed to release its
+ * pages. So active tables get most of the budget while idle tables hold (almost) nothing.
+ *
+ * <p>{@link MemoryPoolFactory#addOwners} keeps every registered owner forever, which leaks the
+ * writes that were closed or replaced. Here owners are tracked per table instead, so replacing the
+ * write of a table drops its previous owners and {@link #unregister} releases the owners of a
+ * closed write.
+ */
+public class MultiTableMemoryPoolFactory extends MemoryPoolFactory {
+
+    private final Map<Identifier, Iterable<MemoryOwner>> tableOwners = new ConcurrentHashMap<>();
+
+    /** The table whose write is being created, owners added in the meantime belong to it. */
+    @Nullable private Identifier registeringTable;
+
+    public MultiTableMemoryPoolFactory(MemorySegmentPool innerPool) {
+        super(innerPool);
+        super.addOwners(this::allOwners);
+    }
+
+    /**
+     * Runs the given action, which creates or replaces the write of the table, and binds the memory
+     * owners it registers to the table.
+     */
+    public <T, E extends Exception> T registerOwners(
+            Identifier tableId, SupplierWithException<T, E> action) throws E {
+        registeringTable = tableId;
+        try {
+            return action.get();
+        } finally {
+            registeringTable = null;
+        }
+    }
+
+    /** Releases the memory owners of the table, e.g. after its write has been closed. */
+    public void unregister(Identifier tableId) {
+        tableOwners.remove(tableId);
+    }
+
+    @Override
+    public MemoryPoolFactory addOwners(Iterable<MemoryOwner> newOwners) {
+        if (registeringTable == null) {
+            throw new IllegalStateException(
+                    "Memory owners must be added through registerOwners(tableId, action).");
+        }
+        tableOwners.put(registeringTable, newOwners);
+        return this;
+    }
+
+    private Iterator<MemoryOwner> allOwners() {
+        return tableOwners.values().stream()
+                .flatMap(owners -> StreamSupport.stream(owners.spliterator(), false))
+                .iterator();
+    }
+}
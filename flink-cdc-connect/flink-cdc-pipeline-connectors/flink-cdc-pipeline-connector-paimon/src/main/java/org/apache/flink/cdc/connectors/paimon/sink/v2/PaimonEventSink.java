@@ -47,7 +47,30 @@ public class PaimonEventSink extends PaimonSink<Event> implements WithPreWriteTo
             PaimonRecordSerializer<Event> serializer,
             String schemaOperatorUid,
             ZoneId zoneId) {
-        super(catalogOptions, commitUser, serializer);
+        this(
+                catalogOptions,
+                commitUser,
+                serializer,
+                schemaOperatorUid,
+                zoneId,
+                PaimonWriter.DEFAULT_IDLE_CHECKPOINTS_BEFORE_CLOSE,
+                PaimonWriter.DEFAULT_PREPARE_COMMIT_THREADS);
+    }
+
+    public PaimonEventSink(
+            Options catalogOptions,
+            String commitUser,
+            PaimonRecordSerializer<Event> serializer,
+            String schemaOperatorUid,
+            ZoneId zoneId,
+            int idleCheckpointsBeforeClose,
+            int prepareCommitThreads) {
+        super(
+                catalogOptions,
+                commitUser,
+                serializer,
+                idleCheckpointsBeforeClose,
+                prepareCommitThreads);
         this.schemaOperatorUid = schemaOperatorUid;
         this.zoneId = zoneId;
     }
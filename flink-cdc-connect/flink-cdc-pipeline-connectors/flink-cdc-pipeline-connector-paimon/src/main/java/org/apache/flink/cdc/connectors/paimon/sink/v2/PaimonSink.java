@@ -57,16 +57,36 @@ public class PaimonSink<InputT>
 
     private final PaimonRecordSerializer<InputT> serializer;
 
+    private final int idleCheckpointsBeforeClose;
+
+    private final int prepareCommitThreads;
+
     public PaimonSink(Options catalogOptions, PaimonRecordSerializer<InputT> serializer) {
         this(catalogOptions, DEFAULT_COMMIT_USER, serializer);
     }
 
     public PaimonSink(
             Options catalogOptions, String commitUser, PaimonRecordSerializer<InputT> serializer) {
+        this(
+                catalogOptions,
+                commitUser,
+                serializer,
+                PaimonWriter.DEFAULT_IDLE_CHECKPOINTS_BEFORE_CLOSE,
+                PaimonWriter.DEFAULT_PREPARE_COMMIT_THREADS);
+    }
+
+    public PaimonSink(
+            Options catalogOptions,
+            String commitUser,
+            PaimonRecordSerializer<InputT> serializer,
+            int idleCheckpointsBeforeClose,
+            int prepareCommitThreads) {
         this.catalogOptions = catalogOptions;
         // generate a random commit user to avoid conflict.
         this.commitUser = commitUser + UUID.randomUUID();
         this.serializer = serializer;
+        this.idleCheckpointsBeforeClose = idleCheckpointsBeforeClose;
+        this.prepareCommitThreads = prepareCommitThreads;
     }
 
     @Override
@@ -75,7 +95,13 @@ public class PaimonSink<InputT>
                 context.getRestoredCheckpointId()
                         .orElse(CheckpointIDCounter.INITIAL_CHECKPOINT_ID - 1);
         return new PaimonWriter<>(
-                catalogOptions, context.metricGroup(), commitUser, serializer, lastCheckpointId);
+                catalogOptions,
+                context.metricGroup(),
+                commitUser,
+                serializer,
+                lastCheckpointId,
+                idleCheckpointsBeforeClose,
+                prepareCommitThreads);
     }
 
     @Override
@@ -91,7 +117,9 @@ public class PaimonSink<InputT>
                 context.metricGroup(),
                 storedCommitUser,
                 serializer,
-                lastCheckpointId);
+                lastCheckpointId,
+                idleCheckpointsBeforeClose,
+                prepareCommitThreads);
     }
 
     @Override
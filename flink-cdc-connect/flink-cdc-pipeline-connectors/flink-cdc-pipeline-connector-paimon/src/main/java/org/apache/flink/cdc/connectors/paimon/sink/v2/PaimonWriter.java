@@ -29,12 +29,13 @@ import org.apache.flink.streaming.api.operators.StreamOperator;
 import org.apache.paimon.CoreOptions;
 import org.apache.paimon.catalog.Catalog;
 import org.apache.paimon.catalog.Identifier;
-import org.apache.paimon.data.GenericRow;
+import org.apache.paimon.data.InternalRow;
 import org.apache.paimon.flink.FlinkCatalogFactory;
+import org.apache.paimon.flink.sink.Committable;
 import org.apache.paimon.flink.sink.MultiTableCommittable;
 import org.apache.paimon.flink.sink.StoreSinkWrite;
 import org.apache.paimon.memory.HeapMemorySegmentPool;
-import org.apache.paimon.memory.MemoryPoolFactory;
+import org.apache.paimon.operation.FileStoreWrite;
 import org.apache.paimon.options.Options;
 import org.apache.paimon.table.FileStoreTable;
 import org.apache.paimon.utils.ExecutorThreadFactory;
@@ -42,14 +43,20 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
-import java.util.stream.Collectors;
+import java.util.concurrent.Future;
 
 /** A {@link Sink} to write {@link DataChangeEvent} to Paimon storage. */
 public class PaimonWriter<InputT>
@@ -58,6 +65,10 @@ public class PaimonWriter<InputT>
 
     private static final Logger LOG = LoggerFactory.getLogger(PaimonWriter.class);
 
+    public static final int DEFAULT_IDLE_CHECKPOINTS_BEFORE_CLOSE = 10;
+
+    public static final int DEFAULT_PREPARE_COMMIT_THREADS = 4;
+
     // use `static` because Catalog is unSerializable.
     private static Catalog catalog;
     private final IOManager ioManager;
@@ -66,13 +77,23 @@ public class PaimonWriter<InputT>
     private final String commitUser;
     // all table write should share one write buffer so that writers can preempt memory
     // from those of other tables
-    private MemoryPoolFactory memoryPoolFactory;
+    private MultiTableMemoryPoolFactory memoryPoolFactory;
 
     // deserializer that converts Input into PaimonEvent.
     private final PaimonRecordSerializer<InputT> serializer;
     private final Map<Identifier, FileStoreTable> tables;
     private final Map<Identifier, StoreSinkWrite> writes;
     private final ExecutorService compactExecutor;
+    private final ExecutorService prepareCommitExecutor;
+
+    // tables that received records since the last prepareCommit.
+    private final Set<Identifier> writtenTables;
+    // number of consecutive checkpoints without records for each open write.
+    private final Map<Identifier, Integer> idleCheckpoints;
+    // writes idle for this number of checkpoints are closed, non-positive to keep them open.
+    private final int idleCheckpointsBeforeClose;
+    // states of bucket writers that were not committed yet when their write was closed.
+    private final Map<Identifier, List<? extends FileStoreWrite.State<?>>> closedWriteStates;
     private final MetricGroup metricGroup;
 
     /** A workaround variable trace the checkpointId in {@link StreamOperator#snapshotState}. */
@@ -86,6 +107,24 @@ public class PaimonWriter<InputT>
             String commitUser,
             PaimonRecordSerializer<InputT> serializer,
             long lastCheckpointId) {
+        this(
+                catalogOptions,
+                metricGroup,
+                commitUser,
+                serializer,
+                lastCheckpointId,
+                DEFAULT_IDLE_CHECKPOINTS_BEFORE_CLOSE,
+                DEFAULT_PREPARE_COMMIT_THREADS);
+    }
+
+    public PaimonWriter(
+            Options catalogOptions,
+            MetricGroup metricGroup,
+            String commitUser,
+            PaimonRecordSerializer<InputT> serializer,
+            long lastCheckpointId,
+            int idleCheckpointsBeforeClose,
+            int prepareCommitThreads) {
         catalog = FlinkCatalogFactory.createPaimonCatalog(catalogOptions);
         this.metricGroup = metricGroup;
         this.commitUser = commitUser;
@@ -96,6 +135,15 @@ public class PaimonWriter<InputT>
                 Executors.newSingleThreadScheduledExecutor(
                         new ExecutorThreadFactory(
                                 Thread.currentThread().getName() + "-CdcMultiWrite-Compaction"));
+        this.prepareCommitExecutor =
+                Executors.newFixedThreadPool(
+                        Math.max(1, prepareCommitThreads),
+                        new ExecutorThreadFactory(
+                                Thread.currentThread().getName() + "-CdcMultiWrite-PrepareCommit"));
+        this.writtenTables = new HashSet<>();
+        this.idleCheckpoints = new HashMap<>();
+        this.idleCheckpointsBeforeClose = idleCheckpointsBeforeClose;
+        this.closedWriteStates = new HashMap<>();
         this.serializer = serializer;
         this.lastCheckpointId = lastCheckpointId;
         this.stateCache = new PaimonWriterState(commitUser);
@@ -106,36 +154,95 @@ public class PaimonWriter<InputT>
     }
 
     @Override
-    public Collection<MultiTableCommittable> prepareCommit() {
+    public Collection<MultiTableCommittable> prepareCommit()
+            throws IOException, InterruptedException {
         long startTime = System.currentTimeMillis();
-        List<MultiTableCommittable> committables =
-                writes.entrySet().parallelStream()
-                        .flatMap(
-                                entry -> {
-                                    try {
-                                        // here we set it to lastCheckpointId+1 to
-                                        // avoid prepareCommit the same checkpointId with the first
-                                        // round.
-                                        return entry
-                                                .getValue()
-                                                .prepareCommit(false, lastCheckpointId + 1)
-                                                .stream()
-                                                .map(
-                                                        committable ->
-                                                                MultiTableCommittable
-                                                                        .fromCommittable(
-                                                                                entry.getKey(),
-                                                                                committable));
-                                    } catch (IOException e) {
-                                        throw new RuntimeException(e);
-                                    }
-                                })
-                        .collect(Collectors.toList());
+        // here we set it to lastCheckpointId+1 to avoid prepareCommit the same checkpointId with
+        // the first round.
+        long checkpointId = lastCheckpointId + 1;
+        List<Future<List<MultiTableCommittable>>> futures = new ArrayList<>();
+        for (Map.Entry<Identifier, StoreSinkWrite> entry : writes.entrySet()) {
+            Identifier tableId = entry.getKey();
+            if (writtenTables.contains(tableId)) {
+                idleCheckpoints.put(tableId, 0);
+                futures.add(
+                        prepareCommitExecutor.submit(
+                                prepareCommit(tableId, entry.getValue(), false, checkpointId)));
+            } else if (idleCheckpoints.merge(tableId, 1, Integer::sum) == 1) {
+                // no records since the last checkpoint, wait for the compaction triggered by
+                // previous records once, after that there is nothing to commit until new records
+                // come in.
+                futures.add(
+                        prepareCommitExecutor.submit(
+                                prepareCommit(tableId, entry.getValue(), true, checkpointId)));
+            }
+        }
+        writtenTables.clear();
+
+        List<MultiTableCommittable> committables = new ArrayList<>();
+        try {
+            for (Future<List<MultiTableCommittable>> future : futures) {
+                committables.addAll(future.get());
+            }
+        } catch (ExecutionException e) {
+            throw new IOException(e.getCause());
+        }
         lastCheckpointId++;
-        LOG.debug("Spend {} ms to prepareCommit", System.currentTimeMillis() - startTime);
+        closeIdleWrites();
+        LOG.debug(
+                "Spend {} ms to prepareCommit {} of {} tables",
+                System.currentTimeMillis() - startTime,
+                futures.size(),
+                writes.size());
         return committables;
     }
 
+    private static Callable<List<MultiTableCommittable>> prepareCommit(
+            Identifier tableId, StoreSinkWrite write, boolean waitCompaction, long checkpointId) {
+        return () -> {
+            List<MultiTableCommittable> committables = new ArrayList<>();
+            for (Committable committable : write.prepareCommit(waitCompaction, checkpointId)) {
+                committables.add(MultiTableCommittable.fromCommittable(tableId, committable));
+            }
+            return committables;
+        };
+    }
+
+    /**
+     * Closes the writes that have not received records for {@link #idleCheckpointsBeforeClose}
+     * checkpoints to release their buffers, compaction managers and file metadata. Uncommitted
+     * states of their bucket writers are kept and restored when the table receives records again.
+     */
+    private void closeIdleWrites() throws IOException {
+        if (idleCheckpointsBeforeClose <= 0) {
+            return;
+        }
+        Iterator<Map.Entry<Identifier, StoreSinkWrite>> iterator = writes.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<Identifier, StoreSinkWrite> entry = iterator.next();
+            Identifier tableId = entry.getKey();
+            if (idleCheckpoints.get(tableId) < idleCheckpointsBeforeClose) {
+                continue;
+            }
+            try {
+                List<? extends FileStoreWrite.State<?>> states =
+                        ((StoreSinkWriteImpl) entry.getValue()).checkpointAndClose();
+                if (!states.isEmpty()) {
+                    closedWriteStates.put(tableId, states);
+                }
+            } catch (Exception e) {
+                throw new IOException(e);
+            }
+            iterator.remove();
+            idleCheckpoints.remove(tableId);
+            memoryPoolFactory.unregister(tableId);
+            LOG.info(
+                    "Closed write of table {} after {} checkpoints without records.",
+                    tableId,
+                    idleCheckpointsBeforeClose);
+        }
+    }
+
     @Override
     public void write(InputT event, Context context) throws IOException {
         PaimonEvent paimonEvent = serializer.serialize(event);
@@ -146,59 +253,73 @@ public class PaimonWriter<InputT>
             tables.remove(tableId);
             try {
                 if (writes.containsKey(tableId)) {
-                    writes.get(tableId).replace(getTable(tableId));
+                    memoryPoolFactory.registerOwners(
+                            tableId,
+                            () -> {
+                                writes.get(tableId).replace(getTable(tableId));
+                                return null;
+                            });
                 }
             } catch (Exception e) {
                 throw new RuntimeException(e);
             }
         }
-        if (paimonEvent.getGenericRows() != null) {
-            FileStoreTable table;
-            table = getTable(tableId);
-            if (memoryPoolFactory == null) {
-                memoryPoolFactory =
-                        new MemoryPoolFactory(
-                                // currently, the options of all tables are the same in CDC
-                                new HeapMemorySegmentPool(
-                                        table.coreOptions().writeBufferSize(),
-                                        table.coreOptions().pageSize()));
-            }
-            StoreSinkWrite write =
-                    writes.computeIfAbsent(
-                            tableId,
-                            id -> {
-                                boolean waitCompaction =
-                                        Boolean.parseBoolean(
-                                                table.options()
-                                                        .getOrDefault(
-                                                                CoreOptions.DELETION_VECTORS_ENABLED
-                                                                        .key(),
-                                                                CoreOptions.DELETION_VECTORS_ENABLED
-                                                                        .defaultValue()
-                                                                        .toString()));
-                                StoreSinkWriteImpl storeSinkWrite =
-                                        new StoreSinkWriteImpl(
-                                                table,
-                                                commitUser,
-                                                ioManager,
-                                                false,
-                                                waitCompaction,
-                                                true,
-                                                memoryPoolFactory,
-                                                metricGroup);
-                                storeSinkWrite.withCompactExecutor(compactExecutor);
-                                return storeSinkWrite;
-                            });
+        if (paimonEvent.getRows() != null) {
             try {
-                for (GenericRow genericRow : paimonEvent.getGenericRows()) {
-                    write.write(genericRow, paimonEvent.getBucket());
+                StoreSinkWrite write = writes.get(tableId);
+                if (write == null) {
+                    write = createWrite(tableId);
+                    writes.put(tableId, write);
+                }
+                for (InternalRow row : paimonEvent.getRows()) {
+                    write.write(row, paimonEvent.getBucket());
                 }
             } catch (Exception e) {
                 throw new IOException(e);
             }
+            writtenTables.add(tableId);
         }
     }
 
+    private StoreSinkWrite createWrite(Identifier tableId) throws Exception {
+        FileStoreTable table = getTable(tableId);
+        if (memoryPoolFactory == null) {
+            memoryPoolFactory =
+                    new MultiTableMemoryPoolFactory(
+                            // currently, the options of all tables are the same in CDC
+                            new HeapMemorySegmentPool(
+                                    table.coreOptions().writeBufferSize(),
+                                    table.coreOptions().pageSize()));
+        }
+        boolean waitCompaction =
+                Boolean.parseBoolean(
+                        table.options()
+                                .getOrDefault(
+                                        CoreOptions.DELETION_VECTORS_ENABLED.key(),
+                                        CoreOptions.DELETION_VECTORS_ENABLED
+                                                .defaultValue()
+                                                .toString()));
+        StoreSinkWriteImpl storeSinkWrite =
+                memoryPoolFactory.registerOwners(
+                        tableId,
+                        () ->
+                                new StoreSinkWriteImpl(
+                                        table,
+                                        commitUser,
+                                        ioManager,
+                                        false,
+                                        waitCompaction,
+                                        true,
+                                        memoryPoolFactory,
+                                        metricGroup));
+        storeSinkWrite.withCompactExecutor(compactExecutor);
+        List<? extends FileStoreWrite.State<?>> states = closedWriteStates.remove(tableId);
+        if (states != null) {
+            storeSinkWrite.restore(states);
+        }
+        return storeSinkWrite;
+    }
+
     private FileStoreTable getTable(Identifier tableId) {
         return tables.computeIfAbsent(
                 tableId,
@@ -224,6 +345,9 @@ public class PaimonWriter<InputT>
         if (compactExecutor != null) {
             compactExecutor.shutdownNow();
         }
+        if (prepareCommitExecutor != null) {
+            prepareCommitExecutor.shutdownNow();
+        }
         if (ioManager != null) {
             ioManager.close();
         }
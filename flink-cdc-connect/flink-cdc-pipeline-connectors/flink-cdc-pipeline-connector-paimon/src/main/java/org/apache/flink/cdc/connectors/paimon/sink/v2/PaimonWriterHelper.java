@@ -279,6 +279,75 @@ public class PaimonWriterHelper {
         return fullGenericRows;
     }
 
+    /**
+     * create full {@link InternalRow}s from a {@link DataChangeEvent} for {@link PaimonWriter}.
+     *
+     * <p>Records are copied into {@link BinaryRow}s directly if the schema allows it, otherwise
+     * they are converted field by field into {@link GenericRow}s.
+     */
+    public static List<InternalRow> convertEventToFullRows(
+            DataChangeEvent dataChangeEvent, TableSchemaInfo schemaInfo) {
+        BinaryRowConverter converter = schemaInfo.getBinaryRowConverter();
+        List<InternalRow> fullRows = new ArrayList<>(2);
+        switch (dataChangeEvent.op()) {
+            case INSERT:
+                {
+                    fullRows.add(
+                            convertRecordData(
+                                    dataChangeEvent.after(),
+                                    schemaInfo,
+                                    converter,
+                                    RowKind.INSERT));
+                    break;
+                }
+            case UPDATE:
+            case REPLACE:
+                {
+                    if (schemaInfo.hasPrimaryKey()) {
+                        fullRows.add(
+                                convertRecordData(
+                                        dataChangeEvent.before(),
+                                        schemaInfo,
+                                        converter,
+                                        RowKind.UPDATE_BEFORE));
+                    }
+                    fullRows.add(
+                            convertRecordData(
+                                    dataChangeEvent.after(),
+                                    schemaInfo,
+                                    converter,
+                                    RowKind.UPDATE_AFTER));
+                    break;
+                }
+            case DELETE:
+                {
+                    if (schemaInfo.hasPrimaryKey()) {
+                        fullRows.add(
+                                convertRecordData(
+                                        dataChangeEvent.before(),
+                                        schemaInfo,
+                                        converter,
+                                        RowKind.DELETE));
+                    }
+                    break;
+                }
+            default:
+                throw new IllegalArgumentException("don't support type of " + dataChangeEvent.op());
+        }
+        return fullRows;
+    }
+
+    private static InternalRow convertRecordData(
+            RecordData recordData,
+            TableSchemaInfo schemaInfo,
+            BinaryRowConverter converter,
+            RowKind rowKind) {
+        if (converter != null && recordData instanceof BinaryRecordData) {
+            return converter.convert((BinaryRecordData) recordData, rowKind);
+        }
+        return convertRecordDataToGenericRow(recordData, schemaInfo.getFieldGetters(), rowKind);
+    }
+
     /**
      * Deduce {@link Schema} for a {@link Table}.
      *
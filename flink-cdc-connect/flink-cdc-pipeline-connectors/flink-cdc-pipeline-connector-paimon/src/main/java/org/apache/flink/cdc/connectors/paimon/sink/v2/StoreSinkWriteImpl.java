@@ -220,6 +220,22 @@ public class StoreSinkWriteImpl implements StoreSinkWrite {
         paimonIOManager.close();
     }
 
+    /**
+     * Closes the write and returns the states of its bucket writers, which can be passed to {@link
+     * #restore} of a new write of the same table.
+     */
+    public List<? extends FileStoreWrite.State<?>> checkpointAndClose() throws Exception {
+        List<? extends FileStoreWrite.State<?>> states = write.checkpoint();
+        close();
+        return states;
+    }
+
+    /** Restores the bucket writers from the states returned by {@link #checkpointAndClose}. */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public void restore(List<? extends FileStoreWrite.State<?>> states) {
+        write.restore((List) states);
+    }
+
     @Override
     public void replace(FileStoreTable newTable) throws Exception {
         if (commitUser == null) {
@@ -20,21 +20,29 @@ package org.apache.flink.cdc.connectors.paimon.sink.v2;
 import org.apache.flink.cdc.common.data.RecordData;
 import org.apache.flink.cdc.common.schema.Schema;
 
+import javax.annotation.Nullable;
+
 import java.time.ZoneId;
 import java.util.List;
 
-/** Keep a list of {@link RecordData.FieldGetter} for a specific {@link Schema}. */
+/**
+ * Keep a list of {@link RecordData.FieldGetter} and a {@link BinaryRowConverter} for a specific
+ * {@link Schema}.
+ */
 public class TableSchemaInfo {
 
     private final Schema schema;
 
     private final List<RecordData.FieldGetter> fieldGetters;
 
+    @Nullable private final BinaryRowConverter binaryRowConverter;
+
     private final boolean hasPrimaryKey;
 
     public TableSchemaInfo(Schema schema, ZoneId zoneId) {
         this.schema = schema;
         this.fieldGetters = PaimonWriterHelper.createFieldGetters(schema, zoneId);
+        this.binaryRowConverter = BinaryRowConverter.create(schema);
         this.hasPrimaryKey = !schema.primaryKeys().isEmpty();
     }
 
@@ -46,6 +54,12 @@ public class TableSchemaInfo {
         return fieldGetters;
     }
 
+    /** Returns null if the records of this schema can't be copied into a Paimon BinaryRow. */
+    @Nullable
+    public BinaryRowConverter getBinaryRowConverter() {
+        return binaryRowConverter;
+    }
+
     public boolean hasPrimaryKey() {
         return hasPrimaryKey;
     }
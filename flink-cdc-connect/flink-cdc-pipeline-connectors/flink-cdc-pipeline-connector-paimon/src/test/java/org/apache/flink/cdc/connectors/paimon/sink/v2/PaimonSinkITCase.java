@@ -91,6 +91,7 @@ import org.junit.jupiter.api.io.TempDir;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 import org.junit.jupiter.params.provider.EnumSource;
+import org.junit.jupiter.params.provider.ValueSource;
 import org.mockito.Mockito;
 
 import java.io.File;
@@ -759,6 +760,57 @@ public class PaimonSinkITCase {
                 .containsExactlyInAnyOrder(Row.ofKind(RowKind.INSERT, "1", "1"));
     }
 
+    @ParameterizedTest
+    @ValueSource(booleans = {true, false})
+    public void testSinkReopensIdleWriter(boolean enableDeleteVector) throws Exception {
+        initialize("filesystem");
+        PaimonSink<Event> paimonSink =
+                new PaimonSink<>(
+                        catalogOptions,
+                        PaimonSink.DEFAULT_COMMIT_USER,
+                        new PaimonRecordEventSerializer(ZoneId.systemDefault()),
+                        1,
+                        2);
+        PaimonWriter<Event> writer = paimonSink.createWriter(new MockInitContext());
+        Committer<MultiTableCommittable> committer = paimonSink.createCommitter();
+        List<Event> testEvents = createTestEvents(enableDeleteVector);
+        Schema schema =
+                Schema.newBuilder()
+                        .physicalColumn("col1", STRING())
+                        .physicalColumn("col2", STRING())
+                        .primaryKey("col1")
+                        .option("bucket", "1")
+                        .build();
+        CreateTableEvent createTableEvent = new CreateTableEvent(table2, schema);
+        testEvents.add(createTableEvent);
+        new PaimonMetadataApplier(catalogOptions).applySchemaChange(createTableEvent);
+        writeAndCommit(writer, committer, testEvents.toArray(new Event[0]));
+
+        // table1 has no records in this checkpoint, so its writer is closed.
+        writeAndCommit(
+                writer,
+                committer,
+                generateInsert(
+                        table2, Arrays.asList(Tuple2.of(STRING(), "1"), Tuple2.of(STRING(), "1"))));
+
+        // the writer of table1 is opened again and merges with the committed files.
+        writeAndCommit(
+                writer,
+                committer,
+                generateInsert(
+                        table1, Arrays.asList(Tuple2.of(STRING(), "1"), Tuple2.of(STRING(), "x"))),
+                generateInsert(
+                        table1, Arrays.asList(Tuple2.of(STRING(), "3"), Tuple2.of(STRING(), "3"))));
+
+        Assertions.assertThat(fetchResults(table1))
+                .containsExactlyInAnyOrder(
+                        Row.ofKind(RowKind.INSERT, "1", "x"),
+                        Row.ofKind(RowKind.INSERT, "2", "2"),
+                        Row.ofKind(RowKind.INSERT, "3", "3"));
+        Assertions.assertThat(fetchResults(table2))
+                .containsExactlyInAnyOrder(Row.ofKind(RowKind.INSERT, "1", "1"));
+    }
+
     private static void commit(
             PaimonWriter<Event> writer, Committer<MultiTableCommittable> committer)
             throws IOException, InterruptedException {
@@ -35,15 +35,18 @@ import org.apache.flink.cdc.common.types.DataTypes;
 import org.apache.flink.cdc.common.types.RowType;
 import org.apache.flink.cdc.common.types.variant.BinaryVariantInternalBuilder;
 import org.apache.flink.cdc.connectors.paimon.sink.PaimonMetadataApplier;
+import org.apache.flink.cdc.connectors.paimon.sink.utils.TypeUtils;
 import org.apache.flink.cdc.runtime.serializer.data.MapDataSerializer;
 import org.apache.flink.cdc.runtime.typeutils.BinaryRecordDataGenerator;
 
 import org.apache.paimon.catalog.Catalog;
 import org.apache.paimon.catalog.Identifier;
+import org.apache.paimon.data.BinaryRow;
 import org.apache.paimon.data.BinaryString;
 import org.apache.paimon.data.Decimal;
 import org.apache.paimon.data.GenericRow;
 import org.apache.paimon.data.InternalMap;
+import org.apache.paimon.data.InternalRow;
 import org.apache.paimon.data.NestedRow;
 import org.apache.paimon.data.Timestamp;
 import org.apache.paimon.data.variant.GenericVariant;
@@ -164,6 +167,110 @@ class PaimonWriterHelperTest {
                                 GenericVariant.fromJson("{\"a\":1,\"b\":\"hello\",\"c\":3.1}")));
     }
 
+    @Test
+    void testConvertEventToFullRowsCopiesBinaryRecordData() {
+        RowType rowType =
+                RowType.of(
+                        DataTypes.BOOLEAN(),
+                        DataTypes.BINARY(3),
+                        DataTypes.BYTES(),
+                        DataTypes.TINYINT(),
+                        DataTypes.SMALLINT(),
+                        DataTypes.INT(),
+                        DataTypes.BIGINT(),
+                        DataTypes.FLOAT(),
+                        DataTypes.DOUBLE(),
+                        DataTypes.DECIMAL(6, 3),
+                        DataTypes.DECIMAL(38, 10),
+                        DataTypes.CHAR(5),
+                        DataTypes.STRING(),
+                        DataTypes.DATE(),
+                        DataTypes.TIME(),
+                        DataTypes.TIMESTAMP(),
+                        DataTypes.TIMESTAMP(3),
+                        DataTypes.TIMESTAMP_LTZ(),
+                        DataTypes.TIMESTAMP_LTZ(3),
+                        DataTypes.STRING());
+        Object[] testData =
+                new Object[] {
+                    true,
+                    new byte[] {1, 2},
+                    new byte[] {5, 6, 7, 8, 9, 10, 11, 12, 13},
+                    (byte) 1,
+                    (short) 2,
+                    3,
+                    4L,
+                    5.1f,
+                    6.2,
+                    DecimalData.fromBigDecimal(new BigDecimal("7.123"), 6, 3),
+                    DecimalData.fromBigDecimal(new BigDecimal("12345678901234.5678901234"), 38, 10),
+                    BinaryStringData.fromString("test1"),
+                    BinaryStringData.fromString("a string longer than seven bytes"),
+                    DateData.fromEpochDay(100),
+                    TimeData.fromNanoOfDay(200_000_000L),
+                    TimestampData.fromTimestamp(
+                            java.sql.Timestamp.valueOf("2023-01-01 00:00:00.123456")),
+                    TimestampData.fromTimestamp(
+                            java.sql.Timestamp.valueOf("2023-01-01 00:00:00.123")),
+                    LocalZonedTimestampData.fromInstant(
+                            Instant.parse("2023-01-01T00:00:00.123456Z")),
+                    LocalZonedTimestampData.fromInstant(Instant.parse("2023-01-01T00:00:00.123Z")),
+                    null
+                };
+        BinaryRecordData recordData = new BinaryRecordDataGenerator(rowType).generate(testData);
+        Schema schema = Schema.newBuilder().fromRowDataType(rowType).primaryKey("f5").build();
+        TableSchemaInfo schemaInfo = new TableSchemaInfo(schema, ZoneId.of("UTC+8"));
+        Assertions.assertThat(schemaInfo.getBinaryRowConverter()).isNotNull();
+
+        List<InternalRow> rows =
+                PaimonWriterHelper.convertEventToFullRows(
+                        DataChangeEvent.updateEvent(
+                                TableId.parse("database.table"), recordData, recordData),
+                        schemaInfo);
+        GenericRow expected =
+                PaimonWriterHelper.convertEventToGenericRow(
+                        DataChangeEvent.insertEvent(TableId.parse("database.table"), recordData),
+                        schemaInfo.getFieldGetters());
+
+        Assertions.assertThat(rows).hasSize(2);
+        Assertions.assertThat(rows.get(0).getRowKind()).isEqualTo(RowKind.UPDATE_BEFORE);
+        Assertions.assertThat(rows.get(1).getRowKind()).isEqualTo(RowKind.UPDATE_AFTER);
+        for (InternalRow row : rows) {
+            Assertions.assertThat(row).isInstanceOf(BinaryRow.class);
+            for (int i = 0; i < rowType.getFieldCount(); i++) {
+                InternalRow.FieldGetter fieldGetter =
+                        InternalRow.createFieldGetter(
+                                TypeUtils.toPaimonDataType(rowType.getTypeAt(i)), i);
+                Assertions.assertThat(fieldGetter.getFieldOrNull(row))
+                        .as("field %s", i)
+                        .isEqualTo(fieldGetter.getFieldOrNull(expected));
+            }
+        }
+    }
+
+    @Test
+    void testConvertEventToFullRowsFallsBackForVariant() throws IOException {
+        RowType rowType = RowType.of(DataTypes.INT(), DataTypes.VARIANT());
+        BinaryRecordData recordData =
+                new BinaryRecordDataGenerator(rowType)
+                        .generate(
+                                new Object[] {
+                                    1, BinaryVariantInternalBuilder.parseJson("{\"a\":1}", false)
+                                });
+        TableSchemaInfo schemaInfo =
+                new TableSchemaInfo(
+                        Schema.newBuilder().fromRowDataType(rowType).build(), ZoneId.of("UTC"));
+        Assertions.assertThat(schemaInfo.getBinaryRowConverter()).isNull();
+
+        List<InternalRow> rows =
+                PaimonWriterHelper.convertEventToFullRows(
+                        DataChangeEvent.insertEvent(TableId.parse("database.table"), recordData),
+                        schemaInfo);
+        Assertions.assertThat(rows)
+                .containsExactly(
+                        GenericRow.ofKind(RowKind.INSERT, 1, GenericVariant.fromJson("{\"a\":1}")));
+    }
+
     @Test
     void testConvertEventToGenericRowOfDataChangeTypes() {
         Schema schema =
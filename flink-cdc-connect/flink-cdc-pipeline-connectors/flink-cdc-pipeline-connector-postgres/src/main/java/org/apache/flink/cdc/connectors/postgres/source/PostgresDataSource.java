@@ -24,6 +24,8 @@ import org.apache.flink.cdc.common.source.DataSource;
 import org.apache.flink.cdc.common.source.EventSourceProvider;
 import org.apache.flink.cdc.common.source.FlinkSourceProvider;
 import org.apache.flink.cdc.common.source.MetadataAccessor;
+import org.apache.flink.cdc.common.source.SnapshotPushDown;
+import org.apache.flink.cdc.common.source.SupportsSnapshotPushDown;
 import org.apache.flink.cdc.connectors.base.config.SourceConfig;
 import org.apache.flink.cdc.connectors.base.source.jdbc.JdbcIncrementalSource;
 import org.apache.flink.cdc.connectors.base.source.meta.split.SourceRecords;
@@ -44,7 +46,7 @@ import java.util.List;
 
 /** A {@link DataSource} for Postgres cdc connector. */
 @Internal
-public class PostgresDataSource implements DataSource {
+public class PostgresDataSource implements DataSource, SupportsSnapshotPushDown {
 
     private final PostgresSourceConfigFactory configFactory;
     private final PostgresSourceConfig postgresSourceConfig;
@@ -88,6 +90,11 @@ public class PostgresDataSource implements DataSource {
         return FlinkSourceProvider.of(source);
     }
 
+    @Override
+    public void applySnapshotPushDown(List<SnapshotPushDown> pushDowns) {
+        configFactory.setSnapshotPushDowns(pushDowns);
+    }
+
     @Override
     public MetadataAccessor getMetadataAccessor() {
         return new PostgresMetadataAccessor(postgresSourceConfig);
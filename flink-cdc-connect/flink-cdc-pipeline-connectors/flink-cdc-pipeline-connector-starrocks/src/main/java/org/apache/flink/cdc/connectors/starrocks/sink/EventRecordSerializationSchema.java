@@ -19,42 +19,41 @@ package org.apache.flink.cdc.connectors.starrocks.sink;
 
 import org.apache.flink.api.common.serialization.SerializationSchema;
 import org.apache.flink.cdc.common.data.RecordData;
-import org.apache.flink.cdc.common.event.CreateTableEvent;
+import org.apache.flink.cdc.common.encoder.GrowableByteBuffer;
+import org.apache.flink.cdc.common.encoder.JsonRowEncoder;
+import org.apache.flink.cdc.common.encoder.RowEncoderRegistry;
+import org.apache.flink.cdc.common.encoder.RowEncoders;
+import org.apache.flink.cdc.common.encoder.TextFormatOptions;
 import org.apache.flink.cdc.common.event.DataChangeEvent;
 import org.apache.flink.cdc.common.event.Event;
 import org.apache.flink.cdc.common.event.SchemaChangeEvent;
-import org.apache.flink.cdc.common.event.TableId;
-import org.apache.flink.cdc.common.schema.Column;
-import org.apache.flink.cdc.common.schema.Schema;
 import org.apache.flink.cdc.common.utils.Preconditions;
-import org.apache.flink.cdc.common.utils.SchemaUtils;
 
 import com.starrocks.connector.flink.table.data.DefaultStarRocksRowData;
 import com.starrocks.connector.flink.table.data.StarRocksRowData;
 import com.starrocks.connector.flink.table.sink.v2.RecordSerializationSchema;
 import com.starrocks.connector.flink.table.sink.v2.StarRocksSinkContext;
-import com.starrocks.connector.flink.tools.JsonWrapper;
 
 import java.time.ZoneId;
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
 
 /** Serializer for the input {@link Event}. It will serialize a row to a json string. */
 public class EventRecordSerializationSchema implements RecordSerializationSchema<Event> {
 
     private static final long serialVersionUID = 1L;
 
+    private static final byte[] UPSERT_OP = JsonRowEncoder.member("__op", "0");
+    private static final byte[] DELETE_OP = JsonRowEncoder.member("__op", "1");
+
     /**
      * The local time zone used when converting from <code>TIMESTAMP WITH LOCAL TIME ZONE</code>.
      */
     private final ZoneId zoneId;
 
-    /** keep the relationship of TableId and table information. */
-    private transient Map<TableId, TableInfo> tableInfoMap;
+    /** keep the relationship of TableId and the json encoder compiled from its schema. */
+    private transient RowEncoderRegistry<JsonRowEncoder> encoders;
 
     private transient DefaultStarRocksRowData reusableRowData;
-    private transient JsonWrapper jsonWrapper;
+    private transient GrowableByteBuffer reusableBuffer;
 
     public EventRecordSerializationSchema(ZoneId zoneId) {
         this.zoneId = zoneId;
@@ -63,15 +62,29 @@ public class EventRecordSerializationSchema implements RecordSerializationSchema
     @Override
     public void open(
             SerializationSchema.InitializationContext context, StarRocksSinkContext sinkContext) {
-        this.tableInfoMap = new HashMap<>();
+        // null fields are omitted and datetime values are written without fraction, which is
+        // what the previous map based serialization with fastjson produced
+        TextFormatOptions options =
+                TextFormatOptions.newBuilder()
+                        .zoneId(zoneId)
+                        .timestampFractionDigits(0)
+                        .writeNullFields(false)
+                        .build();
+        this.encoders =
+                new RowEncoderRegistry<>(
+                        schema -> {
+                            schema.getColumnDataTypes()
+                                    .forEach(StarRocksUtils::checkSupportedFieldType);
+                            return RowEncoders.json(schema, options);
+                        });
         this.reusableRowData = new DefaultStarRocksRowData();
-        this.jsonWrapper = new JsonWrapper();
+        this.reusableBuffer = new GrowableByteBuffer();
     }
 
     @Override
     public StarRocksRowData serialize(Event record) {
         if (record instanceof SchemaChangeEvent) {
-            applySchemaChangeEvent((SchemaChangeEvent) record);
+            encoders.applySchemaChangeEvent((SchemaChangeEvent) record);
             return null;
         } else if (record instanceof DataChangeEvent) {
             return applyDataChangeEvent((DataChangeEvent) record);
@@ -80,32 +93,9 @@ public class EventRecordSerializationSchema implements RecordSerializationSchema
         }
     }
 
-    private void applySchemaChangeEvent(SchemaChangeEvent event) {
-        TableId tableId = event.tableId();
-        Schema newSchema;
-        if (event instanceof CreateTableEvent) {
-            newSchema = ((CreateTableEvent) event).getSchema();
-        } else {
-            TableInfo tableInfo = tableInfoMap.get(tableId);
-            if (tableInfo == null) {
-                throw new RuntimeException("schema of " + tableId + " is not existed.");
-            }
-            newSchema = SchemaUtils.applySchemaChangeEvent(tableInfo.schema, event);
-        }
-        TableInfo tableInfo = new TableInfo();
-        tableInfo.schema = newSchema;
-        tableInfo.fieldGetters = new RecordData.FieldGetter[newSchema.getColumnCount()];
-        for (int i = 0; i < newSchema.getColumnCount(); i++) {
-            tableInfo.fieldGetters[i] =
-                    StarRocksUtils.createFieldGetter(
-                            newSchema.getColumns().get(i).getType(), i, zoneId);
-        }
-        tableInfoMap.put(tableId, tableInfo);
-    }
-
     private StarRocksRowData applyDataChangeEvent(DataChangeEvent event) {
-        TableInfo tableInfo = tableInfoMap.get(event.tableId());
-        Preconditions.checkNotNull(tableInfo, event.tableId() + " is not existed");
+        JsonRowEncoder encoder = encoders.get(event.tableId());
+        Preconditions.checkNotNull(encoder, event.tableId() + " is not existed");
         reusableRowData.setDatabase(event.tableId().getSchemaName());
         reusableRowData.setTable(event.tableId().getTableName());
         String value;
@@ -113,10 +103,10 @@ public class EventRecordSerializationSchema implements RecordSerializationSchema
             case INSERT:
             case UPDATE:
             case REPLACE:
-                value = serializeRecord(tableInfo, event.after(), false);
+                value = serializeRecord(encoder, event.after(), false);
                 break;
             case DELETE:
-                value = serializeRecord(tableInfo, event.before(), true);
+                value = serializeRecord(encoder, event.before(), true);
                 break;
             default:
                 throw new UnsupportedOperationException(
@@ -126,23 +116,12 @@ public class EventRecordSerializationSchema implements RecordSerializationSchema
         return reusableRowData;
     }
 
-    private String serializeRecord(TableInfo tableInfo, RecordData record, boolean isDelete) {
-        List<Column> columns = tableInfo.schema.getColumns();
-        Preconditions.checkArgument(columns.size() == record.getArity());
-        Map<String, Object> rowMap = new HashMap<>(record.getArity() + 1);
-        for (int i = 0; i < record.getArity(); i++) {
-            rowMap.put(columns.get(i).getName(), tableInfo.fieldGetters[i].getFieldOrNull(record));
-        }
-        rowMap.put("__op", isDelete ? 1 : 0);
-        return jsonWrapper.toJSONString(rowMap);
+    private String serializeRecord(JsonRowEncoder encoder, RecordData record, boolean isDelete) {
+        reusableBuffer.reset();
+        encoder.encode(record, isDelete ? DELETE_OP : UPSERT_OP, reusableBuffer);
+        return reusableBuffer.toString();
     }
 
     @Override
     public void close() {}
-
-    /** Table information. */
-    private static class TableInfo {
-        Schema schema;
-        RecordData.FieldGetter[] fieldGetters;
-    }
 }
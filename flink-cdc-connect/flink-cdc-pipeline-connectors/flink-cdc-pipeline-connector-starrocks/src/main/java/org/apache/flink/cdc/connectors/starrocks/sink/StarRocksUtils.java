@@ -17,7 +17,6 @@
 
 package org.apache.flink.cdc.connectors.starrocks.sink;
 
-import org.apache.flink.cdc.common.data.RecordData;
 import org.apache.flink.cdc.common.event.TableId;
 import org.apache.flink.cdc.common.schema.Column;
 import org.apache.flink.cdc.common.schema.Schema;
@@ -40,15 +39,9 @@ import org.apache.flink.cdc.common.types.VarCharType;
 import com.starrocks.connector.flink.catalog.StarRocksColumn;
 import com.starrocks.connector.flink.catalog.StarRocksTable;
 
-import java.time.ZoneId;
-import java.time.ZonedDateTime;
-import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.List;
 
-import static org.apache.flink.cdc.common.types.DataTypeChecks.getPrecision;
-import static org.apache.flink.cdc.common.types.DataTypeChecks.getScale;
-
 /** Utilities for conversion from source table to StarRocks table. */
 public class StarRocksUtils {
 
@@ -124,96 +117,34 @@ public class StarRocksUtils {
         toStarRocksDataType(cdcColumn.getType(), isPrimaryKeys, builder);
     }
 
-    /** Format DATE type data. */
-    private static final DateTimeFormatter DATE_FORMATTER =
-            DateTimeFormatter.ofPattern("yyyy-MM-dd");
-
-    /** Format timestamp-related type data. */
-    private static final DateTimeFormatter DATETIME_FORMATTER =
-            DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
-
     /**
-     * Creates an accessor for getting elements in an internal RecordData structure at the given
-     * position.
+     * Checks that values of the given type can be written to StarRocks by {@link
+     * EventRecordSerializationSchema}.
      *
-     * @param fieldType the element type of the RecordData
-     * @param fieldPos the element position of the RecordData
-     * @param zoneId the time zone used when converting from <code>TIMESTAMP WITH LOCAL TIME ZONE
-     *     </code>
+     * @param fieldType the type of a column of the source table
+     * @throws UnsupportedOperationException if the type can't be written
      */
-    public static RecordData.FieldGetter createFieldGetter(
-            DataType fieldType, int fieldPos, ZoneId zoneId) {
-        final RecordData.FieldGetter fieldGetter;
+    public static void checkSupportedFieldType(DataType fieldType) {
         // ordered by type root definition
         switch (fieldType.getTypeRoot()) {
+            case CHAR:
+            case VARCHAR:
             case BOOLEAN:
-                fieldGetter = record -> record.getBoolean(fieldPos);
-                break;
+            case DECIMAL:
             case TINYINT:
-                fieldGetter = record -> record.getByte(fieldPos);
-                break;
             case SMALLINT:
-                fieldGetter = record -> record.getShort(fieldPos);
-                break;
             case INTEGER:
-                fieldGetter = record -> record.getInt(fieldPos);
-                break;
             case BIGINT:
-                fieldGetter = record -> record.getLong(fieldPos);
-                break;
             case FLOAT:
-                fieldGetter = record -> record.getFloat(fieldPos);
-                break;
             case DOUBLE:
-                fieldGetter = record -> record.getDouble(fieldPos);
-                break;
-            case DECIMAL:
-                final int decimalPrecision = getPrecision(fieldType);
-                final int decimalScale = getScale(fieldType);
-                fieldGetter =
-                        record ->
-                                record.getDecimal(fieldPos, decimalPrecision, decimalScale)
-                                        .toBigDecimal();
-                break;
-            case CHAR:
-            case VARCHAR:
-                fieldGetter = record -> record.getString(fieldPos).toString();
-                break;
             case DATE:
-                fieldGetter =
-                        record -> record.getDate(fieldPos).toLocalDate().format(DATE_FORMATTER);
-                break;
             case TIMESTAMP_WITHOUT_TIME_ZONE:
-                fieldGetter =
-                        record ->
-                                record.getTimestamp(fieldPos, getPrecision(fieldType))
-                                        .toLocalDateTime()
-                                        .format(DATETIME_FORMATTER);
-                break;
             case TIMESTAMP_WITH_LOCAL_TIME_ZONE:
-                fieldGetter =
-                        record ->
-                                ZonedDateTime.ofInstant(
-                                                record.getLocalZonedTimestampData(
-                                                                fieldPos, getPrecision(fieldType))
-                                                        .toInstant(),
-                                                zoneId)
-                                        .toLocalDateTime()
-                                        .format(DATETIME_FORMATTER);
-                break;
+                return;
             default:
                 throw new UnsupportedOperationException(
                         "Don't support data type " + fieldType.getTypeRoot());
         }
-        if (!fieldType.isNullable()) {
-            return fieldGetter;
-        }
-        return row -> {
-            if (row.isNullAt(fieldPos)) {
-                return null;
-            }
-            return fieldGetter.getFieldOrNull(row);
-        };
     }
 
     // ------------------------------------------------------------------------------------------
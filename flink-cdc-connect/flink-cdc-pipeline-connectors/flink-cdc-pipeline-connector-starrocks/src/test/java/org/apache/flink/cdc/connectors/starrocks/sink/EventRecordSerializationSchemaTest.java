@@ -39,6 +39,7 @@ import org.apache.flink.cdc.common.schema.Column;
 import org.apache.flink.cdc.common.schema.Schema;
 import org.apache.flink.cdc.common.types.BooleanType;
 import org.apache.flink.cdc.common.types.DataType;
+import org.apache.flink.cdc.common.types.DataTypes;
 import org.apache.flink.cdc.common.types.DateType;
 import org.apache.flink.cdc.common.types.DecimalType;
 import org.apache.flink.cdc.common.types.FloatType;
@@ -260,6 +261,70 @@ class EventRecordSerializationSchemaTest {
                 Objects.requireNonNull(serializer.serialize(insertEvent3)));
     }
 
+    @Test
+    void testSerializeFieldValues() {
+        TableId table = TableId.parse("test.tbl3");
+        Schema schema =
+                Schema.newBuilder()
+                        .physicalColumn("id", new IntType(false))
+                        .physicalColumn("flag", new BooleanType())
+                        .physicalColumn("name", new VarCharType(100))
+                        .physicalColumn("dt", new DateType())
+                        .physicalColumn("ts", new TimestampType(3))
+                        .physicalColumn("ltz", new LocalZonedTimestampType(6))
+                        .physicalColumn("price", new DecimalType(10, 2))
+                        .physicalColumn("note", new VarCharType(100))
+                        .primaryKey("id")
+                        .build();
+        Assertions.assertThat(serializer.serialize(new CreateTableEvent(table, schema))).isNull();
+
+        BinaryRecordDataGenerator generator =
+                new BinaryRecordDataGenerator(schema.getColumnDataTypes().toArray(new DataType[0]));
+        StarRocksRowData rowData =
+                serializer.serialize(
+                        DataChangeEvent.insertEvent(
+                                table,
+                                generator.generate(
+                                        new Object[] {
+                                            42,
+                                            true,
+                                            BinaryStringData.fromString("say \"hi\"\n"),
+                                            DateData.fromLocalDate(LocalDate.of(2024, 1, 15)),
+                                            TimestampData.fromLocalDateTime(
+                                                    LocalDateTime.of(2024, 1, 15, 10, 30, 0, 123)),
+                                            LocalZonedTimestampData.fromInstant(
+                                                    LocalDateTime.of(2024, 1, 15, 10, 30, 0)
+                                                            .toInstant(ZoneOffset.UTC)),
+                                            DecimalData.fromBigDecimal(
+                                                    new BigDecimal("12.30"), 10, 2),
+                                            null
+                                        })));
+
+        // the row is written in column order, datetime values have no fraction, LTZ values are
+        // rendered in the sink time zone and null members are omitted
+        Assertions.assertThat(Objects.requireNonNull(rowData).getRow())
+                .isEqualTo(
+                        "{\"id\":42,\"flag\":true,\"name\":\"say \\\"hi\\\"\\n\","
+                                + "\"dt\":\"2024-01-15\",\"ts\":\"2024-01-15 10:30:00\","
+                                + "\"ltz\":\"2024-01-15 18:30:00\",\"price\":12.30,\"__op\":0}");
+    }
+
+    @Test
+    void testRejectUnsupportedFieldType() {
+        Schema schema =
+                Schema.newBuilder()
+                        .physicalColumn("id", new IntType(false))
+                        .physicalColumn("payload", DataTypes.BYTES())
+                        .primaryKey("id")
+                        .build();
+        Assertions.assertThatThrownBy(
+                        () ->
+                                serializer.serialize(
+                                        new CreateTableEvent(TableId.parse("test.tbl4"), schema)))
+                .isInstanceOf(UnsupportedOperationException.class)
+                .hasMessageContaining("Don't support data type");
+    }
+
     private void verifySerializeResult(
             TableId expectTable, String expectRow, StarRocksRowData actualRowData)
             throws Exception {
@@ -17,12 +17,6 @@
 
 package org.apache.flink.cdc.connectors.starrocks.sink;
 
-import org.apache.flink.cdc.common.data.DateData;
-import org.apache.flink.cdc.common.data.LocalZonedTimestampData;
-import org.apache.flink.cdc.common.data.RecordData;
-import org.apache.flink.cdc.common.data.TimestampData;
-import org.apache.flink.cdc.common.data.binary.BinaryRecordData;
-import org.apache.flink.cdc.common.data.binary.BinaryStringData;
 import org.apache.flink.cdc.common.event.TableId;
 import org.apache.flink.cdc.common.schema.Schema;
 import org.apache.flink.cdc.common.types.BigIntType;
@@ -39,16 +33,11 @@ import org.apache.flink.cdc.common.types.TimestampType;
 import org.apache.flink.cdc.common.types.TinyIntType;
 import org.apache.flink.cdc.common.types.VarCharType;
 import org.apache.flink.cdc.common.types.ZonedTimestampType;
-import org.apache.flink.cdc.runtime.typeutils.BinaryRecordDataGenerator;
 
 import com.starrocks.connector.flink.catalog.StarRocksColumn;
 import com.starrocks.connector.flink.catalog.StarRocksTable;
 import org.junit.jupiter.api.Test;
 
-import java.time.LocalDate;
-import java.time.LocalDateTime;
-import java.time.ZoneId;
-import java.time.ZoneOffset;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
@@ -317,112 +306,22 @@ class StarRocksUtilsTest {
     }
 
     // --------------------------------------------------------------------------------------------
-    // Tests for createFieldGetter
+    // Tests for checkSupportedFieldType
     // --------------------------------------------------------------------------------------------
 
     @Test
-    void testCreateFieldGetterBoolean() {
-        RecordData.FieldGetter getter =
-                StarRocksUtils.createFieldGetter(new BooleanType(), 0, ZoneId.of("UTC"));
-
-        BinaryRecordDataGenerator generator =
-                new BinaryRecordDataGenerator(new DataType[] {new BooleanType()});
-        BinaryRecordData record = generator.generate(new Object[] {true});
-        assertThat(getter.getFieldOrNull(record)).isEqualTo(true);
+    void testCheckSupportedFieldType() {
+        StarRocksUtils.checkSupportedFieldType(new BooleanType());
+        StarRocksUtils.checkSupportedFieldType(new IntType());
+        StarRocksUtils.checkSupportedFieldType(new VarCharType(100));
+        StarRocksUtils.checkSupportedFieldType(new DateType());
+        StarRocksUtils.checkSupportedFieldType(new TimestampType(3));
+        StarRocksUtils.checkSupportedFieldType(new LocalZonedTimestampType(6));
     }
 
     @Test
-    void testCreateFieldGetterInt() {
-        RecordData.FieldGetter getter =
-                StarRocksUtils.createFieldGetter(new IntType(), 0, ZoneId.of("UTC"));
-
-        BinaryRecordDataGenerator generator =
-                new BinaryRecordDataGenerator(new DataType[] {new IntType()});
-        BinaryRecordData record = generator.generate(new Object[] {42});
-        assertThat(getter.getFieldOrNull(record)).isEqualTo(42);
-    }
-
-    @Test
-    void testCreateFieldGetterVarChar() {
-        RecordData.FieldGetter getter =
-                StarRocksUtils.createFieldGetter(new VarCharType(100), 0, ZoneId.of("UTC"));
-
-        BinaryRecordDataGenerator generator =
-                new BinaryRecordDataGenerator(new DataType[] {new VarCharType(100)});
-        BinaryRecordData record =
-                generator.generate(new Object[] {BinaryStringData.fromString("hello")});
-        assertThat(getter.getFieldOrNull(record)).isEqualTo("hello");
-    }
-
-    @Test
-    void testCreateFieldGetterDate() {
-        // Date field getter should format output as "yyyy-MM-dd"
-        RecordData.FieldGetter getter =
-                StarRocksUtils.createFieldGetter(new DateType(), 0, ZoneId.of("UTC"));
-
-        BinaryRecordDataGenerator generator =
-                new BinaryRecordDataGenerator(new DataType[] {new DateType()});
-        BinaryRecordData record =
-                generator.generate(
-                        new Object[] {DateData.fromLocalDate(LocalDate.of(2024, 1, 15))});
-        assertThat(getter.getFieldOrNull(record)).isEqualTo("2024-01-15");
-    }
-
-    @Test
-    void testCreateFieldGetterTimestamp() {
-        // Timestamp field getter should format output as "yyyy-MM-dd HH:mm:ss"
-        RecordData.FieldGetter getter =
-                StarRocksUtils.createFieldGetter(new TimestampType(3), 0, ZoneId.of("UTC"));
-
-        BinaryRecordDataGenerator generator =
-                new BinaryRecordDataGenerator(new DataType[] {new TimestampType(3)});
-        BinaryRecordData record =
-                generator.generate(
-                        new Object[] {
-                            TimestampData.fromLocalDateTime(
-                                    LocalDateTime.of(2024, 1, 15, 10, 30, 0))
-                        });
-        assertThat(getter.getFieldOrNull(record)).isEqualTo("2024-01-15 10:30:00");
-    }
-
-    @Test
-    void testCreateFieldGetterLocalZonedTimestamp() {
-        // LocalZonedTimestamp field getter should convert to the specified zone
-        ZoneId zoneId = ZoneId.of("Asia/Shanghai");
-        RecordData.FieldGetter getter =
-                StarRocksUtils.createFieldGetter(new LocalZonedTimestampType(6), 0, zoneId);
-
-        BinaryRecordDataGenerator generator =
-                new BinaryRecordDataGenerator(new DataType[] {new LocalZonedTimestampType(6)});
-        BinaryRecordData record =
-                generator.generate(
-                        new Object[] {
-                            LocalZonedTimestampData.fromInstant(
-                                    LocalDateTime.of(2024, 1, 15, 10, 30, 0)
-                                            .toInstant(ZoneOffset.UTC))
-                        });
-        // UTC 10:30 -> Asia/Shanghai 18:30
-        assertThat(getter.getFieldOrNull(record)).isEqualTo("2024-01-15 18:30:00");
-    }
-
-    @Test
-    void testCreateFieldGetterNullable() {
-        // For nullable types, null values should return null
-        RecordData.FieldGetter getter =
-                StarRocksUtils.createFieldGetter(DataTypes.INT(), 0, ZoneId.of("UTC"));
-
-        BinaryRecordDataGenerator generator =
-                new BinaryRecordDataGenerator(new DataType[] {DataTypes.INT()});
-        BinaryRecordData record = generator.generate(new Object[] {null});
-        assertThat(getter.getFieldOrNull(record)).isNull();
-    }
-
-    @Test
-    void testCreateFieldGetterUnsupportedType() {
-        assertThatThrownBy(
-                        () ->
-                                StarRocksUtils.createFieldGetter(
-                                        DataTypes.BYTES(), 0, ZoneId.of("UTC")))
+    void testCheckUnsupportedFieldType() {
+        assertThatThrownBy(() -> StarRocksUtils.checkSupportedFieldType(DataTypes.BYTES()))
                 .isInstanceOf(UnsupportedOperationException.class)
                 .hasMessageContaining("Don't support data type");
     }
@@ -39,6 +39,8 @@ public abstract class BaseSourceConfig implements SourceConfig {
     protected final boolean skipSnapshotBackfill;
     protected final boolean isScanNewlyAddedTableEnabled;
     protected final boolean assignUnboundedChunkFirst;
+    protected final int snapshotPrefetchSplits;
+    protected final int streamPhaseMetricsSampleInterval;
 
     // --------------------------------------------------------------------------------------------
     // Debezium Configurations
@@ -58,7 +60,9 @@ public abstract class BaseSourceConfig implements SourceConfig {
             boolean isScanNewlyAddedTableEnabled,
             Properties dbzProperties,
             Configuration dbzConfiguration,
-            boolean assignUnboundedChunkFirst) {
+            boolean assignUnboundedChunkFirst,
+            int snapshotPrefetchSplits,
+            int streamPhaseMetricsSampleInterval) {
         this.startupOptions = startupOptions;
         this.splitSize = splitSize;
         this.splitMetaGroupSize = splitMetaGroupSize;
@@ -71,6 +75,8 @@ public abstract class BaseSourceConfig implements SourceConfig {
         this.dbzProperties = dbzProperties;
         this.dbzConfiguration = dbzConfiguration;
         this.assignUnboundedChunkFirst = assignUnboundedChunkFirst;
+        this.snapshotPrefetchSplits = snapshotPrefetchSplits;
+        this.streamPhaseMetricsSampleInterval = streamPhaseMetricsSampleInterval;
     }
 
     @Override
@@ -123,4 +129,14 @@ public abstract class BaseSourceConfig implements SourceConfig {
     public boolean isAssignUnboundedChunkFirst() {
         return assignUnboundedChunkFirst;
     }
+
+    @Override
+    public int getSnapshotPrefetchSplits() {
+        return snapshotPrefetchSplits;
+    }
+
+    @Override
+    public int getStreamPhaseMetricsSampleInterval() {
+        return streamPhaseMetricsSampleInterval;
+    }
 }
@@ -74,7 +74,9 @@ public abstract class JdbcSourceConfig extends BaseSourceConfig {
             String chunkKeyColumn,
             boolean skipSnapshotBackfill,
             boolean isScanNewlyAddedTableEnabled,
-            boolean assignUnboundedChunkFirst) {
+            boolean assignUnboundedChunkFirst,
+            int snapshotPrefetchSplits,
+            int streamPhaseMetricsSampleInterval) {
         super(
                 startupOptions,
                 splitSize,
@@ -87,7 +89,9 @@ public abstract class JdbcSourceConfig extends BaseSourceConfig {
                 isScanNewlyAddedTableEnabled,
                 dbzProperties,
                 dbzConfiguration,
-                assignUnboundedChunkFirst);
+                assignUnboundedChunkFirst,
+                snapshotPrefetchSplits,
+                streamPhaseMetricsSampleInterval);
         this.driverClassName = driverClassName;
         this.hostname = hostname;
         this.port = port;
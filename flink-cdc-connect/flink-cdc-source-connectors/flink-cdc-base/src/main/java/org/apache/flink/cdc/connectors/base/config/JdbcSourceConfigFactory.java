@@ -63,6 +63,10 @@ public abstract class JdbcSourceConfigFactory implements Factory<JdbcSourceConfi
     protected boolean assignUnboundedChunkFirst =
             JdbcSourceOptions.SCAN_INCREMENTAL_SNAPSHOT_UNBOUNDED_CHUNK_FIRST_ENABLED
                     .defaultValue();
+    protected int snapshotPrefetchSplits =
+            SourceOptions.SCAN_INCREMENTAL_SNAPSHOT_PREFETCH_SPLITS.defaultValue();
+    protected int streamPhaseMetricsSampleInterval =
+            SourceOptions.SCAN_INCREMENTAL_STREAM_PHASE_METRICS_SAMPLE_INTERVAL.defaultValue();
 
     /** Integer port number of the database server. */
     public JdbcSourceConfigFactory hostname(String hostname) {
@@ -266,6 +270,25 @@ public abstract class JdbcSourceConfigFactory implements Factory<JdbcSourceConfi
         return this;
     }
 
+    /**
+     * The number of snapshot splits a reader requests ahead of the split it reads. Defaults to 0,
+     * which requests the next split after the current one is finished.
+     */
+    public JdbcSourceConfigFactory snapshotPrefetchSplits(int snapshotPrefetchSplits) {
+        this.snapshotPrefetchSplits = snapshotPrefetchSplits;
+        return this;
+    }
+
+    /**
+     * Times one of every N emitted records for the stream phase metrics of the readers. Defaults to
+     * 0, which disables these metrics.
+     */
+    public JdbcSourceConfigFactory streamPhaseMetricsSampleInterval(
+            int streamPhaseMetricsSampleInterval) {
+        this.streamPhaseMetricsSampleInterval = streamPhaseMetricsSampleInterval;
+        return this;
+    }
+
     @Override
     public abstract JdbcSourceConfig create(int subtask);
 }
@@ -42,6 +42,12 @@ public interface SourceConfig extends Serializable {
 
     boolean isAssignUnboundedChunkFirst();
 
+    /** Returns the number of snapshot splits a reader requests ahead of the split it reads. */
+    int getSnapshotPrefetchSplits();
+
+    /** Returns the sample interval of the stream phase metrics, 0 if they are disabled. */
+    int getStreamPhaseMetricsSampleInterval();
+
     /** Factory for the {@code SourceConfig}. */
     @FunctionalInterface
     interface Factory<C extends SourceConfig> extends Serializable {
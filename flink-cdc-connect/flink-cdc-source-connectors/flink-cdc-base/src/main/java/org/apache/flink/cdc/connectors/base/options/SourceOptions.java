@@ -146,6 +146,23 @@ public class SourceOptions {
                             .withDescription(
                                     "Whether to assign the unbounded chunks first during snapshot reading phase. This might help reduce the risk of the TaskManager experiencing an out-of-memory (OOM) error when taking a snapshot of the largest unbounded chunk.");
 
+    @Experimental
+    public static final ConfigOption<Integer> SCAN_INCREMENTAL_SNAPSHOT_PREFETCH_SPLITS =
+            ConfigOptions.key("scan.incremental.snapshot.prefetch-splits")
+                    .intType()
+                    .defaultValue(0)
+                    .withDescription(
+                            "The number of snapshot splits a source reader requests ahead of the split it is reading, so that the query of the next split starts once the current split is read instead of after a round-trip to the enumerator. Prefetched splits are part of the reader state. Defaults to 0, which requests the next split after the current one is finished.");
+
+    @Experimental
+    public static final ConfigOption<Integer>
+            SCAN_INCREMENTAL_STREAM_PHASE_METRICS_SAMPLE_INTERVAL =
+                    ConfigOptions.key("scan.incremental.stream-phase-metrics.sample-interval")
+                            .intType()
+                            .defaultValue(0)
+                            .withDescription(
+                                    "Time one of every N emitted records for the stream phase metrics of the source readers, which tell whether a lagging reader spends its time waiting for the log, converting records, or emitting them downstream. Defaults to 0, which disables these metrics.");
+
     @Experimental
     public static final ConfigOption<Boolean> SCAN_READ_CHANGELOG_AS_APPEND_ONLY_ENABLED =
             ConfigOptions.key("scan.read-changelog-as-append-only.enabled")
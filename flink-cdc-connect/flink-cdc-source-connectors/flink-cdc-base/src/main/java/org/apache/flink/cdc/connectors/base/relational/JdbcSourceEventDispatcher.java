@@ -23,6 +23,7 @@ import org.apache.flink.cdc.connectors.base.source.meta.offset.Offset;
 import org.apache.flink.cdc.connectors.base.source.meta.split.SourceSplitBase;
 import org.apache.flink.cdc.connectors.base.source.meta.wartermark.WatermarkEvent;
 import org.apache.flink.cdc.connectors.base.source.meta.wartermark.WatermarkKind;
+import org.apache.flink.cdc.debezium.internal.AdaptiveHeartbeat;
 
 import io.debezium.config.CommonConnectorConfig;
 import io.debezium.connector.base.ChangeEventQueue;
@@ -32,6 +33,8 @@ import io.debezium.pipeline.EventDispatcher;
 import io.debezium.pipeline.source.snapshot.incremental.IncrementalSnapshotChangeEventSource;
 import io.debezium.pipeline.source.spi.EventMetadataProvider;
 import io.debezium.pipeline.spi.ChangeEventCreator;
+import io.debezium.pipeline.spi.ChangeRecordEmitter;
+import io.debezium.pipeline.spi.OffsetContext;
 import io.debezium.pipeline.spi.Partition;
 import io.debezium.pipeline.spi.SchemaChangeEventEmitter;
 import io.debezium.relational.TableId;
@@ -60,6 +63,7 @@ import java.util.Map;
  *  1. This class shares one {@link ChangeEventQueue} between multiple readers.
  *  2. This class override some methods for dispatching {@link HistoryRecord} directly,
  *     this is useful for downstream to deserialize the {@link HistoryRecord} back.
+ *  3. This class skips heartbeats while data change events flow, see {@link AdaptiveHeartbeat}.
  * </pre>
  */
 public class JdbcSourceEventDispatcher<P extends Partition> extends EventDispatcher<P, TableId>
@@ -79,6 +83,7 @@ public class JdbcSourceEventDispatcher<P extends Partition> extends EventDispatc
     private final Schema schemaChangeValueSchema;
     private final String topic;
     private final SchemaChangeEventHandler schemaChangeEventHandler;
+    private final AdaptiveHeartbeat adaptiveHeartbeat;
 
     public JdbcSourceEventDispatcher(
             CommonConnectorConfig connectorConfig,
@@ -130,12 +135,33 @@ public class JdbcSourceEventDispatcher<P extends Partition> extends EventDispatc
                         .field(HISTORY_RECORD_FIELD, Schema.OPTIONAL_STRING_SCHEMA)
                         .build();
         this.schemaChangeEventHandler = schemaChangeEventHandler;
+        this.adaptiveHeartbeat = new AdaptiveHeartbeat(connectorConfig);
     }
 
     public ChangeEventQueue<DataChangeEvent> getQueue() {
         return queue;
     }
 
+    @Override
+    public boolean dispatchDataChangeEvent(
+            P partition, TableId dataCollectionId, ChangeRecordEmitter<P> changeRecordEmitter)
+            throws InterruptedException {
+        boolean handled =
+                super.dispatchDataChangeEvent(partition, dataCollectionId, changeRecordEmitter);
+        if (handled) {
+            adaptiveHeartbeat.onDataChangeEvent();
+        }
+        return handled;
+    }
+
+    @Override
+    public void dispatchHeartbeatEvent(P partition, OffsetContext offset)
+            throws InterruptedException {
+        if (adaptiveHeartbeat.isIdle()) {
+            super.dispatchHeartbeatEvent(partition, offset);
+        }
+    }
+
     @Override
     public void dispatchSchemaChangeEvent(
             P partition,
@@ -0,0 +1,58 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.connectors.base.relational.changetable;
+
+import java.time.Duration;
+
+/**
+ * A poll interval which adapts to the change rate. It's halved down to the minimum interval when a
+ * poll returns changes, and doubled up to the maximum interval when a poll is idle, so a busy
+ * database is polled frequently and an idle one is not.
+ */
+public class AdaptivePollInterval {
+
+    private final long minIntervalMillis;
+    private final long maxIntervalMillis;
+
+    private long currentIntervalMillis;
+
+    public AdaptivePollInterval(Duration minInterval, Duration maxInterval) {
+        this.minIntervalMillis =
+                Math.max(1, Math.min(minInterval.toMillis(), maxInterval.toMillis()));
+        this.maxIntervalMillis = Math.max(minIntervalMillis, maxInterval.toMillis());
+        this.currentIntervalMillis = maxIntervalMillis;
+    }
+
+    /** Updates the interval after a poll, which returned changes or not. */
+    public void update(boolean hasChanges) {
+        if (hasChanges) {
+            currentIntervalMillis = Math.max(minIntervalMillis, currentIntervalMillis / 2);
+        } else {
+            currentIntervalMillis = Math.min(maxIntervalMillis, currentIntervalMillis * 2);
+        }
+    }
+
+    public Duration getInterval() {
+        return Duration.ofMillis(currentIntervalMillis);
+    }
+
+    /** Sleeps for the current interval. */
+    public void pause() throws InterruptedException {
+        Thread.sleep(currentIntervalMillis);
+    }
+}
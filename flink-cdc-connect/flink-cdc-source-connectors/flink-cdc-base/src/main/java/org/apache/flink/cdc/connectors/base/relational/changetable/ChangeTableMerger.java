@@ -0,0 +1,88 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.connectors.base.relational.changetable;
+
+import io.debezium.pipeline.source.spi.ChangeTableResultSet;
+
+import java.sql.SQLException;
+import java.util.Comparator;
+import java.util.PriorityQueue;
+
+/**
+ * Merges the changes of change tables ordered by (commit LSN, change LSN, operation) with a k-way
+ * merge, which takes O(log k) comparisons to find the change table with the smallest change among k
+ * change tables, instead of scanning all of them.
+ *
+ * @param <P> type of the change tables
+ */
+public class ChangeTableMerger<P extends ChangeTableResultSet<?, ?>> {
+
+    private final PriorityQueue<Head<P>> heads =
+            new PriorityQueue<>(
+                    Comparator.<Head<P>, Comparable<Object>>comparing(head -> head.position)
+                            .thenComparingInt(head -> head.operation)
+                            .thenComparingInt(head -> head.index));
+
+    private Head<P> current;
+
+    /**
+     * Creates a merger of given change tables, each of which should have been moved to its first
+     * change.
+     */
+    public ChangeTableMerger(P[] changeTables) throws SQLException {
+        for (int i = 0; i < changeTables.length; i++) {
+            offer(new Head<>(changeTables[i], i));
+        }
+    }
+
+    /**
+     * Returns the change table with the smallest change, or null if all changes have been merged.
+     * The change table returned last time is merged again with its current change, so it could be
+     * moved forward any number of times before calling this method.
+     */
+    public P next() throws SQLException {
+        if (current != null) {
+            offer(current);
+        }
+        current = heads.poll();
+        return current == null ? null : current.changeTable;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void offer(Head<P> head) throws SQLException {
+        if (head.changeTable.isCompleted()) {
+            return;
+        }
+        head.position = (Comparable<Object>) head.changeTable.getChangePosition();
+        head.operation = head.changeTable.getOperation();
+        heads.offer(head);
+    }
+
+    /** A change table and its current change. */
+    private static final class Head<P> {
+        private final P changeTable;
+        private final int index;
+        private Comparable<Object> position;
+        private int operation;
+
+        private Head(P changeTable, int index) {
+            this.changeTable = changeTable;
+            this.index = index;
+        }
+    }
+}
@@ -0,0 +1,210 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.connectors.base.relational.changetable;
+
+import org.apache.flink.shaded.guava31.com.google.common.util.concurrent.ThreadFactoryBuilder;
+
+import io.debezium.jdbc.JdbcConnection;
+import io.debezium.jdbc.JdbcConnection.BlockingMultiResultSetConsumer;
+import io.debezium.relational.ChangeTable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * Queries change tables concurrently over a bounded pool of connections, instead of querying all of
+ * them with one connection.
+ *
+ * <p>Change tables are distributed to the connections, each of which queries its change tables in a
+ * separate thread. Once all queries have returned their result sets, result sets are passed to the
+ * consumer in the order of the change tables, so they could be merged like those returned by one
+ * connection. Result sets are kept open until the consumer returns.
+ *
+ * @param <C> type of the connections
+ * @param <T> type of the change tables
+ */
+public class ConcurrentChangeTableQuery<C extends JdbcConnection, T extends ChangeTable>
+        implements AutoCloseable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ConcurrentChangeTableQuery.class);
+
+    /** Queries changes of given change tables with given connection. */
+    @FunctionalInterface
+    public interface ChangeTableQuery<C, T> {
+        void query(C connection, T[] changeTables, BlockingMultiResultSetConsumer consumer)
+                throws SQLException, InterruptedException;
+    }
+
+    private final int parallelism;
+    private final Supplier<C> connectionFactory;
+    private final List<C> connections = new ArrayList<>();
+    private final ExecutorService executor;
+
+    public ConcurrentChangeTableQuery(int parallelism, Supplier<C> connectionFactory) {
+        this.parallelism = parallelism;
+        this.connectionFactory = connectionFactory;
+        this.executor =
+                Executors.newFixedThreadPool(
+                        parallelism,
+                        new ThreadFactoryBuilder()
+                                .setNameFormat("change-table-query-%d")
+                                .setDaemon(true)
+                                .build());
+    }
+
+    /**
+     * Queries given change tables with given query on each connection, and passes their result sets
+     * to given consumer.
+     */
+    public void query(
+            T[] changeTables,
+            ChangeTableQuery<C, T> changeTableQuery,
+            BlockingMultiResultSetConsumer consumer)
+            throws SQLException, InterruptedException {
+        final int numQueries = Math.min(parallelism, changeTables.length);
+        if (numQueries == 0) {
+            consumer.accept(new ResultSet[0]);
+            return;
+        }
+
+        final ResultSet[] resultSets = new ResultSet[changeTables.length];
+        final CountDownLatch queried = new CountDownLatch(numQueries);
+        final CountDownLatch consumed = new CountDownLatch(1);
+        final AtomicReference<Throwable> failure = new AtomicReference<>();
+        final List<Future<?>> futures = new ArrayList<>(numQueries);
+        for (int i = 0; i < numQueries; i++) {
+            final C connection = getConnection(i);
+            final int[] indexes = assignChangeTables(i, numQueries, changeTables.length);
+            final T[] assignedChangeTables = Arrays.copyOf(changeTables, indexes.length);
+            for (int j = 0; j < indexes.length; j++) {
+                assignedChangeTables[j] = changeTables[indexes[j]];
+            }
+            futures.add(
+                    executor.submit(
+                            () -> {
+                                final AtomicBoolean published = new AtomicBoolean(false);
+                                try {
+                                    changeTableQuery.query(
+                                            connection,
+                                            assignedChangeTables,
+                                            assignedResultSets -> {
+                                                for (int j = 0; j < indexes.length; j++) {
+                                                    resultSets[indexes[j]] = assignedResultSets[j];
+                                                }
+                                                published.set(true);
+                                                queried.countDown();
+                                                // keep result sets open until they are consumed
+                                                consumed.await();
+                                            });
+                                    // Terminate the transaction otherwise CDC could not be
+                                    // disabled for tables
+                                    connection.rollback();
+                                } catch (Throwable t) {
+                                    failure.compareAndSet(null, t);
+                                    if (!published.get()) {
+                                        queried.countDown();
+                                    }
+                                }
+                                return null;
+                            }));
+        }
+
+        try {
+            queried.await();
+            if (failure.get() == null) {
+                consumer.accept(resultSets);
+            }
+        } catch (InterruptedException e) {
+            futures.forEach(future -> future.cancel(true));
+            throw e;
+        } finally {
+            consumed.countDown();
+            awaitTermination(futures);
+        }
+        rethrow(failure.get());
+    }
+
+    /** Assigns change tables to queries in turn, so that each query has a similar number. */
+    private static int[] assignChangeTables(int query, int numQueries, int numChangeTables) {
+        final int[] indexes = new int[(numChangeTables - query + numQueries - 1) / numQueries];
+        for (int j = 0; j < indexes.length; j++) {
+            indexes[j] = query + j * numQueries;
+        }
+        return indexes;
+    }
+
+    private C getConnection(int index) {
+        while (connections.size() <= index) {
+            connections.add(connectionFactory.get());
+        }
+        return connections.get(index);
+    }
+
+    private static void awaitTermination(List<Future<?>> futures) throws InterruptedException {
+        for (Future<?> future : futures) {
+            try {
+                future.get();
+            } catch (ExecutionException | CancellationException e) {
+                // failures are recorded by the queries
+            }
+        }
+    }
+
+    private static void rethrow(Throwable failure) throws SQLException, InterruptedException {
+        if (failure == null) {
+            return;
+        }
+        if (failure instanceof SQLException) {
+            throw (SQLException) failure;
+        } else if (failure instanceof InterruptedException) {
+            throw (InterruptedException) failure;
+        } else if (failure instanceof RuntimeException) {
+            throw (RuntimeException) failure;
+        } else if (failure instanceof Error) {
+            throw (Error) failure;
+        }
+        throw new SQLException("Failed to query change tables", failure);
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+        for (C connection : connections) {
+            try {
+                connection.close();
+            } catch (SQLException e) {
+                LOG.warn("Failed to close connection for querying change tables", e);
+            }
+        }
+        connections.clear();
+    }
+}
@@ -119,10 +119,14 @@ public class IncrementalSource<T, C extends SourceConfig>
                 new FutureCompletingBlockingQueue<>();
 
         final SourceReaderMetrics sourceReaderMetrics =
-                new SourceReaderMetrics(readerContext.metricGroup());
+                new SourceReaderMetrics(
+                        readerContext.metricGroup(),
+                        sourceConfig.getStreamPhaseMetricsSampleInterval());
 
         IncrementalSourceReaderContext incrementalSourceReaderContext =
                 new IncrementalSourceReaderContext(readerContext);
+        incrementalSourceReaderContext.setStreamPhaseMetrics(
+                sourceReaderMetrics.getStreamPhaseMetrics());
         Supplier<IncrementalSourceSplitReader<C>> splitReaderSupplier =
                 () ->
                         new IncrementalSourceSplitReader<>(
@@ -17,6 +17,7 @@
 
 package org.apache.flink.cdc.connectors.base.source.metrics;
 
+import org.apache.flink.cdc.connectors.base.config.SourceConfig;
 import org.apache.flink.cdc.connectors.base.source.reader.IncrementalSourceReader;
 import org.apache.flink.metrics.Counter;
 import org.apache.flink.metrics.Gauge;
@@ -32,6 +33,8 @@ import org.apache.kafka.connect.source.SourceRecord;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import javax.annotation.Nullable;
+
 import java.util.HashMap;
 import java.util.Map;
 
@@ -70,6 +73,9 @@ public class SourceReaderMetrics {
 
     private final Map<TableId, TableMetrics> tableMetricsMap = new HashMap<>();
 
+    /** The sampled metrics of the stream phase, null if they are disabled. */
+    @Nullable private final StreamPhaseMetrics streamPhaseMetrics;
+
     /**
      * currentFetchEventTimeLag = FetchTime - messageTimestamp, where the FetchTime is the time the
      * record fetched into the source operator.
@@ -83,7 +89,16 @@ public class SourceReaderMetrics {
     private volatile long lastReceivedEventTime = UNDEFINED;
 
     public SourceReaderMetrics(SourceReaderMetricGroup metricGroup) {
+        this(metricGroup, 0);
+    }
+
+    /**
+     * Creates the metrics of a reader, the stream phase metrics are only created if the given
+     * sample interval is positive, see {@link SourceConfig#getStreamPhaseMetricsSampleInterval()}.
+     */
+    public SourceReaderMetrics(SourceReaderMetricGroup metricGroup, int streamPhaseSampleInterval) {
         this.metricGroup = metricGroup;
+        this.streamPhaseMetrics = StreamPhaseMetrics.create(metricGroup, streamPhaseSampleInterval);
         this.numRecordsInErrorsCounter = metricGroup.getNumRecordsInErrorsCounter();
 
         metricGroup.gauge(
@@ -97,6 +112,11 @@ public class SourceReaderMetrics {
         schemaChangeCounter = metricGroup.counter(NUM_DDL_RECORDS);
     }
 
+    @Nullable
+    public StreamPhaseMetrics getStreamPhaseMetrics() {
+        return streamPhaseMetrics;
+    }
+
     public long getFetchDelay() {
         return fetchDelay;
     }
@@ -158,10 +178,30 @@ public class SourceReaderMetrics {
                 });
     }
 
+    /** Updates the event time of the table of a sampled record, see {@link StreamPhaseMetrics}. */
+    public void updateTableEventTime(SourceRecord record, Long eventTimestamp) {
+        if (streamPhaseMetrics == null || eventTimestamp == null || eventTimestamp <= 0L) {
+            return;
+        }
+        catchAndWarnLogAllExceptions(
+                () -> {
+                    TableId tableId = getTableId(record);
+                    if (tableId != null) {
+                        getTableMetrics(tableId).updateLastEventTime(eventTimestamp);
+                    }
+                });
+    }
+
     private TableMetrics getTableMetrics(TableId tableId) {
         return tableMetricsMap.computeIfAbsent(
                 tableId,
-                id -> new TableMetrics(id.catalog(), id.schema(), id.table(), metricGroup));
+                id ->
+                        new TableMetrics(
+                                id.catalog(),
+                                id.schema(),
+                                id.table(),
+                                metricGroup,
+                                streamPhaseMetrics != null));
     }
 
     // ------------------------------- Helper functions -----------------------------
@@ -176,10 +216,14 @@ public class SourceReaderMetrics {
     }
 
     private long getCurrentEventTimeLag() {
-        if (lastReceivedEventTime == UNDEFINED) {
+        return getEventTimeLag(lastReceivedEventTime);
+    }
+
+    private static long getEventTimeLag(long eventTime) {
+        if (eventTime == UNDEFINED) {
             return UNDEFINED;
         }
-        return SystemClock.getInstance().absoluteTimeMillis() - lastReceivedEventTime;
+        return SystemClock.getInstance().absoluteTimeMillis() - eventTime;
     }
 
     // ----------------------------------- Helper classes --------------------------------
@@ -203,8 +247,15 @@ public class SourceReaderMetrics {
         private final Counter deleteCounter;
         private final Counter schemaChangeCounter;
 
+        // Stream phase, only updated by sampled records
+        private volatile long lastEventTime = UNDEFINED;
+
         public TableMetrics(
-                String databaseName, String schemaName, String tableName, MetricGroup parentGroup) {
+                String databaseName,
+                String schemaName,
+                String tableName,
+                MetricGroup parentGroup,
+                boolean streamPhaseMetricsEnabled) {
             databaseName = processNull(databaseName);
             schemaName = processNull(schemaName);
             tableName = processNull(tableName);
@@ -219,6 +270,14 @@ public class SourceReaderMetrics {
             updateCounter = metricGroup.counter(NUM_UPDATE_DML_RECORDS);
             deleteCounter = metricGroup.counter(NUM_DELETE_DML_RECORDS);
             schemaChangeCounter = metricGroup.counter(NUM_DDL_RECORDS);
+            if (streamPhaseMetricsEnabled) {
+                metricGroup.gauge(
+                        CURRENT_EVENT_TIME_LAG, (Gauge<Long>) () -> getEventTimeLag(lastEventTime));
+            }
+        }
+
+        public void updateLastEventTime(long eventTime) {
+            this.lastEventTime = eventTime;
         }
 
         private String processNull(String name) {
@@ -0,0 +1,129 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.connectors.base.source.metrics;
+
+import org.apache.flink.cdc.connectors.base.options.SourceOptions;
+import org.apache.flink.metrics.Gauge;
+import org.apache.flink.metrics.Histogram;
+import org.apache.flink.metrics.MetricGroup;
+import org.apache.flink.runtime.metrics.DescriptiveStatisticsHistogram;
+
+import io.debezium.connector.base.ChangeEventQueueMetrics;
+
+import javax.annotation.Nullable;
+
+/**
+ * Sampled metrics of the stream phase, which tell whether a lagging reader spends its time waiting
+ * for the log, converting records, or emitting them downstream.
+ *
+ * <p>These metrics are only created if {@link
+ * SourceOptions#SCAN_INCREMENTAL_STREAM_PHASE_METRICS_SAMPLE_INTERVAL} is positive. Queue gauges
+ * and batch sizes are updated once per fetched batch, the timing histograms and table lags are only
+ * updated for one of every N emitted records.
+ */
+public class StreamPhaseMetrics {
+
+    // Metric names
+    public static final String CHANGE_EVENT_QUEUE_SIZE = "changeEventQueueSize";
+    public static final String CHANGE_EVENT_QUEUE_CAPACITY = "changeEventQueueCapacity";
+    public static final String CHANGE_EVENT_QUEUE_SIZE_IN_BYTES = "changeEventQueueSizeInBytes";
+    public static final String FETCH_BATCH_SIZE = "fetchBatchSize";
+    public static final String QUEUE_POLL_TIME_NANOS = "queuePollTimeNanos";
+    public static final String CONVERT_TIME_NANOS = "convertTimeNanos";
+    public static final String EMIT_TIME_NANOS = "emitTimeNanos";
+
+    private static final int HISTOGRAM_WINDOW_SIZE = 1024;
+
+    private final int sampleInterval;
+    private final Histogram fetchBatchSize;
+    private final Histogram queuePollTimeNanos;
+    private final Histogram convertTimeNanos;
+    private final Histogram emitTimeNanos;
+
+    /** The queue of the running stream split, which is replaced when a new split is read. */
+    @Nullable private volatile ChangeEventQueueMetrics queue;
+
+    /** The number of records to emit before the next sampled one, only used by the emitter. */
+    private int recordsUntilSample;
+
+    public StreamPhaseMetrics(MetricGroup metricGroup, int sampleInterval) {
+        this.sampleInterval = sampleInterval;
+        this.recordsUntilSample = sampleInterval;
+        metricGroup.gauge(CHANGE_EVENT_QUEUE_SIZE, (Gauge<Integer>) this::getQueueSize);
+        metricGroup.gauge(CHANGE_EVENT_QUEUE_CAPACITY, (Gauge<Integer>) this::getQueueCapacity);
+        metricGroup.gauge(
+                CHANGE_EVENT_QUEUE_SIZE_IN_BYTES, (Gauge<Long>) this::getQueueSizeInBytes);
+        this.fetchBatchSize = metricGroup.histogram(FETCH_BATCH_SIZE, newHistogram());
+        this.queuePollTimeNanos = metricGroup.histogram(QUEUE_POLL_TIME_NANOS, newHistogram());
+        this.convertTimeNanos = metricGroup.histogram(CONVERT_TIME_NANOS, newHistogram());
+        this.emitTimeNanos = metricGroup.histogram(EMIT_TIME_NANOS, newHistogram());
+    }
+
+    /** Returns the metrics if they are enabled by given sample interval, or null otherwise. */
+    @Nullable
+    public static StreamPhaseMetrics create(MetricGroup metricGroup, int sampleInterval) {
+        return sampleInterval > 0 ? new StreamPhaseMetrics(metricGroup, sampleInterval) : null;
+    }
+
+    public void setChangeEventQueue(@Nullable ChangeEventQueueMetrics queue) {
+        this.queue = queue;
+    }
+
+    /** Records a batch polled from the change event queue by the fetcher. */
+    public void recordFetchBatch(int batchSize, long pollTimeNanos) {
+        fetchBatchSize.update(batchSize);
+        queuePollTimeNanos.update(pollTimeNanos);
+    }
+
+    /** Returns true if the next emitted record should be timed. */
+    public boolean shouldSample() {
+        if (--recordsUntilSample > 0) {
+            return false;
+        }
+        recordsUntilSample = sampleInterval;
+        return true;
+    }
+
+    /**
+     * Records the time to deserialize a record, which includes the time its converted records are
+     * emitted to the downstream.
+     */
+    public void recordDeserializeTime(long totalTimeNanos, long emitTimeNanos) {
+        this.convertTimeNanos.update(totalTimeNanos - emitTimeNanos);
+        this.emitTimeNanos.update(emitTimeNanos);
+    }
+
+    private int getQueueSize() {
+        ChangeEventQueueMetrics current = queue;
+        return current == null ? 0 : current.totalCapacity() - current.remainingCapacity();
+    }
+
+    private int getQueueCapacity() {
+        ChangeEventQueueMetrics current = queue;
+        return current == null ? 0 : current.totalCapacity();
+    }
+
+    private long getQueueSizeInBytes() {
+        ChangeEventQueueMetrics current = queue;
+        return current == null ? 0L : current.currentQueueSizeInBytes();
+    }
+
+    private static Histogram newHistogram() {
+        return new DescriptiveStatisticsHistogram(HISTOGRAM_WINDOW_SIZE);
+    }
+}
@@ -109,6 +109,9 @@ public class IncrementalSourceReader<T, C extends SourceConfig>
 
     private final IncrementalSourceReaderContext incrementalSourceReaderContext;
 
+    /** The number of snapshot splits to hold ahead of the split being read. */
+    private final int snapshotPrefetchSplits;
+
     public IncrementalSourceReader(
             FutureCompletingBlockingQueue<RecordsWithSplitIds<SourceRecords>> elementQueue,
             Supplier<IncrementalSourceSplitReader<C>> splitReaderSupplier,
@@ -132,6 +135,7 @@ public class IncrementalSourceReader<T, C extends SourceConfig>
         this.dialect = dialect;
         this.incrementalSourceReaderContext = incrementalSourceReaderContext;
         this.suspendedStreamSplit = null;
+        this.snapshotPrefetchSplits = sourceConfig.getSnapshotPrefetchSplits();
     }
 
     @Override
@@ -322,6 +326,7 @@ public class IncrementalSourceReader<T, C extends SourceConfig>
         // add all un-finished splits (including binlog split) to SourceReaderBase
         if (!unfinishedSplits.isEmpty()) {
             super.addSplits(unfinishedSplits);
+            requestPrefetchSplitIfNeeded();
         } else if (suspendedStreamSplit != null
                 || getNumberOfCurrentlyAssignedSplits()
                         <= 1) { // only request new snapshot split if the stream split is suspended
@@ -329,6 +334,21 @@ public class IncrementalSourceReader<T, C extends SourceConfig>
         }
     }
 
+    /**
+     * Requests one more snapshot split if the reader holds no more than {@link
+     * SourceConfig#getSnapshotPrefetchSplits()} splits, the split reader reads the received splits
+     * one after another. As every finished split requests its successor, the reader holds about the
+     * split being read plus the prefetched splits. The prefetched splits are part of the reader
+     * state, so they are restored or added back to the enumerator on failover.
+     */
+    private void requestPrefetchSplitIfNeeded() {
+        if (snapshotPrefetchSplits > 0
+                && !incrementalSourceReaderContext.isHasAssignedStreamSplit()
+                && getNumberOfCurrentlyAssignedSplits() <= snapshotPrefetchSplits) {
+            context.sendSplitRequest();
+        }
+    }
+
     private StreamSplit discoverTableSchemasForStreamSplit(
             StreamSplit split, boolean checkNewlyAddedTableSchema) {
         final String splitId = split.splitId();
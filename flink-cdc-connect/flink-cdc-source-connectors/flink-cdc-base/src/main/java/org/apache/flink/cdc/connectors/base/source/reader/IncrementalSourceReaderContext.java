@@ -18,6 +18,9 @@
 package org.apache.flink.cdc.connectors.base.source.reader;
 
 import org.apache.flink.api.connector.source.SourceReaderContext;
+import org.apache.flink.cdc.connectors.base.source.metrics.StreamPhaseMetrics;
+
+import javax.annotation.Nullable;
 
 /**
  * A wrapper class that wraps {@link SourceReaderContext} for sharing message between {@link
@@ -29,6 +32,8 @@ public class IncrementalSourceReaderContext {
 
     private volatile boolean hasAssignedStreamSplit;
 
+    @Nullable private volatile StreamPhaseMetrics streamPhaseMetrics;
+
     public IncrementalSourceReaderContext(SourceReaderContext sourceReaderContext) {
         this.sourceReaderContext = sourceReaderContext;
         this.isStreamSplitReaderSuspended = false;
@@ -58,4 +63,13 @@ public class IncrementalSourceReaderContext {
     public void setHasAssignedStreamSplit(boolean hasAssignedStreamSplit) {
         this.hasAssignedStreamSplit = hasAssignedStreamSplit;
     }
+
+    @Nullable
+    public StreamPhaseMetrics getStreamPhaseMetrics() {
+        return streamPhaseMetrics;
+    }
+
+    public void setStreamPhaseMetrics(@Nullable StreamPhaseMetrics streamPhaseMetrics) {
+        this.streamPhaseMetrics = streamPhaseMetrics;
+    }
 }
@@ -24,6 +24,7 @@ import org.apache.flink.cdc.connectors.base.source.meta.split.SourceRecords;
 import org.apache.flink.cdc.connectors.base.source.meta.split.SourceSplitBase;
 import org.apache.flink.cdc.connectors.base.source.meta.split.SourceSplitState;
 import org.apache.flink.cdc.connectors.base.source.metrics.SourceReaderMetrics;
+import org.apache.flink.cdc.connectors.base.source.metrics.StreamPhaseMetrics;
 import org.apache.flink.cdc.debezium.DebeziumDeserializationSchema;
 import org.apache.flink.cdc.debezium.history.FlinkJsonTableChangeSerializer;
 import org.apache.flink.connector.base.source.reader.RecordEmitter;
@@ -32,6 +33,7 @@ import org.apache.flink.util.Collector;
 import io.debezium.document.Array;
 import io.debezium.relational.history.HistoryRecord;
 import io.debezium.relational.history.TableChanges;
+import org.apache.kafka.connect.data.Struct;
 import org.apache.kafka.connect.source.SourceRecord;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -59,6 +61,7 @@ public class IncrementalSourceRecordEmitter<T>
         implements RecordEmitter<SourceRecords, T, SourceSplitState> {
 
     private static final Logger LOG = LoggerFactory.getLogger(IncrementalSourceRecordEmitter.class);
+    private static final String HEARTBEAT_TIMESTAMP_FIELD = "ts_ms";
     private static final FlinkJsonTableChangeSerializer TABLE_CHANGE_SERIALIZER =
             new FlinkJsonTableChangeSerializer();
 
@@ -68,6 +71,15 @@ public class IncrementalSourceRecordEmitter<T>
     protected final OutputCollector<T> outputCollector;
     protected final OffsetFactory offsetFactory;
 
+    /** Whether data change records were emitted since the last heartbeat of the stream split. */
+    private boolean activeSinceLastHeartbeat = true;
+
+    /** Whether the stream split output is marked idle. */
+    private boolean idle;
+
+    /** Whether the records being emitted belong to a stream split. */
+    private boolean emittingStreamSplit;
+
     public IncrementalSourceRecordEmitter(
             DebeziumDeserializationSchema<T> debeziumDeserializationSchema,
             SourceReaderMetrics sourceReaderMetrics,
@@ -85,6 +97,7 @@ public class IncrementalSourceRecordEmitter<T>
             SourceRecords sourceRecords, SourceOutput<T> output, SourceSplitState splitState)
             throws Exception {
         final Iterator<SourceRecord> elementIterator = sourceRecords.iterator();
+        emittingStreamSplit = splitState.isStreamSplitState();
         while (elementIterator.hasNext()) {
             processElement(elementIterator.next(), output, splitState);
         }
@@ -116,10 +129,13 @@ public class IncrementalSourceRecordEmitter<T>
             LOG.trace("Process DataChangeRecord: {}; splitState = {}", element, splitState);
             updateStreamSplitState(splitState, element);
             reportMetrics(element);
+            markActive(element, splitState, output);
             emitElement(element, output);
         } else if (isHeartbeatEvent(element)) {
             LOG.trace("Process Heartbeat: {}; splitState = {}", element, splitState);
             updateStreamSplitState(splitState, element);
+            markIdleIfNoRecords(splitState, output);
+            sourceReaderMetrics.updateLastReceivedEventTime(getHeartbeatTimestamp(element));
         } else {
             // unknown element
             LOG.info(
@@ -135,6 +151,40 @@ public class IncrementalSourceRecordEmitter<T>
         }
     }
 
+    private void markActive(
+            SourceRecord element, SourceSplitState splitState, SourceOutput<T> output) {
+        if (splitState.isStreamSplitState()) {
+            sourceReaderMetrics.updateLastReceivedEventTime(getMessageTimestamp(element));
+            activeSinceLastHeartbeat = true;
+            if (idle) {
+                idle = false;
+                output.markActive();
+            }
+        }
+    }
+
+    /**
+     * Marks the stream split output idle if no data change record was emitted between the last two
+     * heartbeats, so that downstream watermarks are not held back by idle tables.
+     */
+    private void markIdleIfNoRecords(SourceSplitState splitState, SourceOutput<T> output) {
+        if (splitState.isStreamSplitState()) {
+            if (!activeSinceLastHeartbeat && !idle) {
+                idle = true;
+                output.markIdle();
+            }
+            activeSinceLastHeartbeat = false;
+        }
+    }
+
+    private Long getHeartbeatTimestamp(SourceRecord heartbeat) {
+        Struct value = (Struct) heartbeat.value();
+        if (value == null || value.schema().field(HEARTBEAT_TIMESTAMP_FIELD) == null) {
+            return null;
+        }
+        return value.getInt64(HEARTBEAT_TIMESTAMP_FIELD);
+    }
+
     private Offset getWatermark(SourceRecord watermarkEvent) {
         return getOffsetPosition(watermarkEvent.sourceOffset());
     }
@@ -158,7 +208,34 @@ public class IncrementalSourceRecordEmitter<T>
 
         outputCollector.output = output;
         outputCollector.currentMessageTimestamp = getMessageTimestamp(element);
-        debeziumDeserializationSchema.deserialize(element, outputCollector);
+        deserializeElement(element);
+    }
+
+    /**
+     * Deserializes a record to the {@link #outputCollector}. Sampled records of the stream split
+     * are timed for the {@link StreamPhaseMetrics}, the time to emit the converted records is
+     * measured separately.
+     */
+    protected void deserializeElement(SourceRecord element) throws Exception {
+        StreamPhaseMetrics streamPhaseMetrics = sourceReaderMetrics.getStreamPhaseMetrics();
+        if (!emittingStreamSplit
+                || streamPhaseMetrics == null
+                || !streamPhaseMetrics.shouldSample()) {
+            debeziumDeserializationSchema.deserialize(element, outputCollector);
+            return;
+        }
+
+        sourceReaderMetrics.updateTableEventTime(element, outputCollector.currentMessageTimestamp);
+        outputCollector.emitTimeNanos = 0L;
+        outputCollector.timed = true;
+        long start = System.nanoTime();
+        try {
+            debeziumDeserializationSchema.deserialize(element, outputCollector);
+        } finally {
+            outputCollector.timed = false;
+        }
+        streamPhaseMetrics.recordDeserializeTime(
+                System.nanoTime() - start, outputCollector.emitTimeNanos);
     }
 
     /**
@@ -190,8 +267,23 @@ public class IncrementalSourceRecordEmitter<T>
         public SourceOutput<T> output;
         public Long currentMessageTimestamp;
 
+        /** Whether the current record is sampled, and the time spent to emit its records. */
+        public boolean timed;
+
+        public long emitTimeNanos;
+
         @Override
         public void collect(T record) {
+            if (timed) {
+                long start = System.nanoTime();
+                collectRecord(record);
+                emitTimeNanos += System.nanoTime() - start;
+            } else {
+                collectRecord(record);
+            }
+        }
+
+        private void collectRecord(T record) {
             if (currentMessageTimestamp != null && currentMessageTimestamp > 0) {
                 // Only binlog event contains a valid timestamp. We use the output with timestamp to
                 // report the event time and let the source operator to report
@@ -270,6 +270,7 @@ public class IncrementalSourceSplitReader<C extends SourceConfig>
             reusedStreamFetcher =
                     new IncrementalSourceStreamFetcher(
                             dataSourceDialect.createFetchTaskContext(sourceConfig), subtaskId);
+            reusedStreamFetcher.setStreamPhaseMetrics(context.getStreamPhaseMetrics());
         }
         return reusedStreamFetcher;
     }
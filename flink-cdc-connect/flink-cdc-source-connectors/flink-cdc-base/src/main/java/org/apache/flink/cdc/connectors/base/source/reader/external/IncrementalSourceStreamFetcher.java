@@ -22,6 +22,7 @@ import org.apache.flink.cdc.connectors.base.source.meta.split.FinishedSnapshotSp
 import org.apache.flink.cdc.connectors.base.source.meta.split.SourceRecords;
 import org.apache.flink.cdc.connectors.base.source.meta.split.SourceSplitBase;
 import org.apache.flink.cdc.connectors.base.source.meta.split.StreamSplit;
+import org.apache.flink.cdc.connectors.base.source.metrics.StreamPhaseMetrics;
 import org.apache.flink.cdc.connectors.base.utils.SplitKeyUtils;
 import org.apache.flink.util.FlinkRuntimeException;
 
@@ -70,6 +71,8 @@ public class IncrementalSourceStreamFetcher implements Fetcher<SourceRecords, So
     private final boolean isBackfillSkipped;
     private final boolean supportsSplitKeyOptimization;
 
+    @Nullable private StreamPhaseMetrics streamPhaseMetrics;
+
     private static final long READER_CLOSE_TIMEOUT_SECONDS = 30L;
 
     public IncrementalSourceStreamFetcher(FetchTask.Context taskContext, int subTaskId) {
@@ -90,6 +93,9 @@ public class IncrementalSourceStreamFetcher implements Fetcher<SourceRecords, So
         configureFilter();
         taskContext.configure(currentStreamSplit);
         this.queue = taskContext.getQueue();
+        if (streamPhaseMetrics != null) {
+            streamPhaseMetrics.setChangeEventQueue(queue);
+        }
         executorService.submit(
                 () -> {
                     try {
@@ -117,7 +123,11 @@ public class IncrementalSourceStreamFetcher implements Fetcher<SourceRecords, So
         final List<SourceRecord> sourceRecords = new ArrayList<>();
         // what happens if currentTaskRunning
         if (currentTaskRunning) {
+            long pollStart = streamPhaseMetrics == null ? 0L : System.nanoTime();
             List<DataChangeEvent> batch = queue.poll();
+            if (streamPhaseMetrics != null) {
+                streamPhaseMetrics.recordFetchBatch(batch.size(), System.nanoTime() - pollStart);
+            }
             for (DataChangeEvent event : batch) {
                 if (isEndWatermarkEvent(event.getRecord())) {
                     LOG.info("Read split {} end watermark event", currentStreamSplit);
@@ -141,6 +151,11 @@ public class IncrementalSourceStreamFetcher implements Fetcher<SourceRecords, So
         }
     }
 
+    /** Sets the metrics which the queue and the polled batches of stream splits are reported to. */
+    public void setStreamPhaseMetrics(@Nullable StreamPhaseMetrics streamPhaseMetrics) {
+        this.streamPhaseMetrics = streamPhaseMetrics;
+    }
+
     private void checkReadException() {
         if (readException != null) {
             throw new FlinkRuntimeException(
@@ -156,6 +171,9 @@ public class IncrementalSourceStreamFetcher implements Fetcher<SourceRecords, So
         try {
             // gracefully stop streamFetchTask, e.g. during shutdown
             stopReadTask();
+            if (streamPhaseMetrics != null) {
+                streamPhaseMetrics.setChangeEventQueue(null);
+            }
             if (executorService != null) {
                 executorService.shutdown();
                 if (!executorService.awaitTermination(
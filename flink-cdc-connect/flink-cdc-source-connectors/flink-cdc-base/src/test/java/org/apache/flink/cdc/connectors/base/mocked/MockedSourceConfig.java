@@ -86,7 +86,9 @@ public class MockedSourceConfig extends JdbcSourceConfig {
                 null,
                 true,
                 isScanNewlyAddedTableEnabled,
-                false);
+                false,
+                0,
+                0);
     }
 
     @Override
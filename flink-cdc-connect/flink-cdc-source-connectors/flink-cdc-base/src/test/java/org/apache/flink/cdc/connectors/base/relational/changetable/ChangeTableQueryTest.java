@@ -0,0 +1,200 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.connectors.base.relational.changetable;
+
+import io.debezium.jdbc.JdbcConnection;
+import io.debezium.pipeline.source.spi.ChangeTableResultSet;
+import io.debezium.relational.ChangeTable;
+import io.debezium.relational.TableId;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Tests for {@link ChangeTableMerger}, {@link ConcurrentChangeTableQuery} and {@link
+ * AdaptivePollInterval}.
+ */
+class ChangeTableQueryTest {
+
+    @Test
+    void testMergeChangeTables() throws SQLException {
+        TestChangeTablePointer[] changeTables =
+                new TestChangeTablePointer[] {
+                    pointer("t1", new long[][] {{1, 2}, {3, 1}, {5, 3}, {5, 4}}),
+                    pointer("t2", new long[][] {}),
+                    pointer("t3", new long[][] {{2, 1}, {3, 2}, {4, 1}})
+                };
+        for (TestChangeTablePointer changeTable : changeTables) {
+            changeTable.next();
+        }
+
+        List<String> merged = new ArrayList<>();
+        ChangeTableMerger<TestChangeTablePointer> merger = new ChangeTableMerger<>(changeTables);
+        TestChangeTablePointer changeTable;
+        while ((changeTable = merger.next()) != null) {
+            String change =
+                    changeTable.getChangeTable().getCaptureInstance()
+                            + "@"
+                            + changeTable.getChangePosition();
+            if (changeTable.getOperation() == 3) {
+                // update before and after are merged together
+                changeTable.next();
+                change += "+" + changeTable.getOperation();
+            }
+            merged.add(change);
+            changeTable.next();
+        }
+        Assertions.assertThat(merged)
+                .containsExactly("t1@1", "t3@2", "t1@3", "t3@3", "t3@4", "t1@5+4");
+    }
+
+    @Test
+    void testQueryChangeTablesConcurrently() throws Exception {
+        ChangeTable[] changeTables = new ChangeTable[5];
+        for (int i = 0; i < changeTables.length; i++) {
+            changeTables[i] = changeTable("t" + i);
+        }
+        List<JdbcConnection> connections = new ArrayList<>();
+        ConcurrentHashMap<String, JdbcConnection> queriedBy = new ConcurrentHashMap<>();
+        ConcurrentChangeTableQuery.ChangeTableQuery<JdbcConnection, ChangeTable> changeTableQuery =
+                (connection, tables, consumer) -> {
+                    ResultSet[] resultSets = new ResultSet[tables.length];
+                    for (int i = 0; i < tables.length; i++) {
+                        queriedBy.put(tables[i].getCaptureInstance(), connection);
+                        resultSets[i] = Mockito.mock(ResultSet.class);
+                        Mockito.when(resultSets[i].getCursorName())
+                                .thenReturn(tables[i].getCaptureInstance());
+                    }
+                    consumer.accept(resultSets);
+                };
+        try (ConcurrentChangeTableQuery<JdbcConnection, ChangeTable> query =
+                new ConcurrentChangeTableQuery<>(
+                        2,
+                        () -> {
+                            JdbcConnection connection = Mockito.mock(JdbcConnection.class);
+                            connections.add(connection);
+                            return connection;
+                        })) {
+            for (int round = 0; round < 2; round++) {
+                List<String> consumed = new ArrayList<>();
+                query.query(
+                        changeTables,
+                        changeTableQuery,
+                        resultSets -> {
+                            for (ResultSet resultSet : resultSets) {
+                                consumed.add(resultSet.getCursorName());
+                            }
+                        });
+                Assertions.assertThat(consumed).containsExactly("t0", "t1", "t2", "t3", "t4");
+            }
+        }
+
+        // connections are reused across queries and closed at last
+        Assertions.assertThat(connections).hasSize(2);
+        Assertions.assertThat(queriedBy.get("t0")).isSameAs(queriedBy.get("t2"));
+        Assertions.assertThat(queriedBy.get("t1")).isNotSameAs(queriedBy.get("t0"));
+        for (JdbcConnection connection : connections) {
+            Mockito.verify(connection, Mockito.times(2)).rollback();
+            Mockito.verify(connection).close();
+        }
+    }
+
+    @Test
+    void testQueryFailure() {
+        AtomicInteger consumed = new AtomicInteger();
+        try (ConcurrentChangeTableQuery<JdbcConnection, ChangeTable> query =
+                new ConcurrentChangeTableQuery<>(2, () -> Mockito.mock(JdbcConnection.class))) {
+            Assertions.assertThatThrownBy(
+                            () ->
+                                    query.query(
+                                            new ChangeTable[] {
+                                                changeTable("t0"), changeTable("t1")
+                                            },
+                                            (connection, tables, consumer) -> {
+                                                if (tables[0].getCaptureInstance().equals("t1")) {
+                                                    throw new SQLException("Invalid object name");
+                                                }
+                                                consumer.accept(new ResultSet[tables.length]);
+                                            },
+                                            resultSets -> consumed.incrementAndGet()))
+                    .isInstanceOf(SQLException.class)
+                    .hasMessage("Invalid object name");
+        }
+        Assertions.assertThat(consumed).hasValue(0);
+    }
+
+    @Test
+    void testAdaptivePollInterval() {
+        AdaptivePollInterval interval =
+                new AdaptivePollInterval(Duration.ofMillis(100), Duration.ofMillis(1000));
+        Assertions.assertThat(interval.getInterval()).isEqualTo(Duration.ofMillis(1000));
+        interval.update(true);
+        interval.update(true);
+        Assertions.assertThat(interval.getInterval()).isEqualTo(Duration.ofMillis(250));
+        interval.update(true);
+        interval.update(true);
+        Assertions.assertThat(interval.getInterval()).isEqualTo(Duration.ofMillis(100));
+        interval.update(false);
+        Assertions.assertThat(interval.getInterval()).isEqualTo(Duration.ofMillis(200));
+        for (int i = 0; i < 10; i++) {
+            interval.update(false);
+        }
+        Assertions.assertThat(interval.getInterval()).isEqualTo(Duration.ofMillis(1000));
+    }
+
+    private static ChangeTable changeTable(String name) {
+        return new ChangeTable(
+                name, new TableId("db", "dbo", name), new TableId("db", "cdc", name + "_CT"), 1);
+    }
+
+    /** Creates a change table whose rows are (position, operation). */
+    private static TestChangeTablePointer pointer(String name, long[][] rows) throws SQLException {
+        AtomicInteger cursor = new AtomicInteger(-1);
+        ResultSet resultSet = Mockito.mock(ResultSet.class);
+        Mockito.when(resultSet.next()).thenAnswer(i -> cursor.incrementAndGet() < rows.length);
+        Mockito.when(resultSet.getLong(1)).thenAnswer(i -> rows[cursor.get()][0]);
+        Mockito.when(resultSet.getInt(2)).thenAnswer(i -> (int) rows[cursor.get()][1]);
+        return new TestChangeTablePointer(changeTable(name), resultSet);
+    }
+
+    /** A change table pointer for tests. */
+    private static class TestChangeTablePointer extends ChangeTableResultSet<ChangeTable, Long> {
+
+        TestChangeTablePointer(ChangeTable changeTable, ResultSet resultSet) {
+            super(changeTable, resultSet, 2);
+        }
+
+        @Override
+        protected int getOperation(ResultSet resultSet) throws SQLException {
+            return resultSet.getInt(2);
+        }
+
+        @Override
+        protected Long getNextChangePosition(ResultSet resultSet) throws SQLException {
+            return isCompleted() ? null : resultSet.getLong(1);
+        }
+    }
+}
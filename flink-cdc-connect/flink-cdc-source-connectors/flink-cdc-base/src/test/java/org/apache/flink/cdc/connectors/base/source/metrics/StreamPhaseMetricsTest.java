@@ -0,0 +1,162 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.connectors.base.source.metrics;
+
+import org.apache.flink.metrics.Gauge;
+import org.apache.flink.metrics.Histogram;
+import org.apache.flink.metrics.testutils.MetricListener;
+import org.apache.flink.runtime.metrics.groups.InternalSourceReaderMetricGroup;
+
+import io.debezium.connector.base.ChangeEventQueue;
+import io.debezium.util.LoggingContext;
+import org.apache.kafka.connect.data.Schema;
+import org.apache.kafka.connect.data.SchemaBuilder;
+import org.apache.kafka.connect.data.Struct;
+import org.apache.kafka.connect.source.SourceRecord;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/** Tests for {@link StreamPhaseMetrics}. */
+class StreamPhaseMetricsTest {
+
+    private MetricListener metricListener;
+
+    @BeforeEach
+    void setUp() {
+        metricListener = new MetricListener();
+    }
+
+    @Test
+    void testDisabledByDefault() {
+        SourceReaderMetrics metrics =
+                new SourceReaderMetrics(
+                        InternalSourceReaderMetricGroup.mock(metricListener.getMetricGroup()));
+
+        assertThat(metrics.getStreamPhaseMetrics()).isNull();
+        assertThat(metricListener.getGauge(StreamPhaseMetrics.CHANGE_EVENT_QUEUE_SIZE)).isEmpty();
+        assertThat(metricListener.getHistogram(StreamPhaseMetrics.CONVERT_TIME_NANOS)).isEmpty();
+    }
+
+    @Test
+    void testSampleEveryNthRecord() {
+        StreamPhaseMetrics metrics = new StreamPhaseMetrics(metricListener.getMetricGroup(), 3);
+
+        int sampled = 0;
+        for (int i = 0; i < 9; i++) {
+            if (metrics.shouldSample()) {
+                sampled++;
+                metrics.recordDeserializeTime(100L, 40L);
+            }
+        }
+
+        assertThat(sampled).isEqualTo(3);
+        assertHistogram(StreamPhaseMetrics.CONVERT_TIME_NANOS, 3L, 60L);
+        assertHistogram(StreamPhaseMetrics.EMIT_TIME_NANOS, 3L, 40L);
+    }
+
+    @Test
+    void testReportChangeEventQueue() throws Exception {
+        StreamPhaseMetrics metrics = new StreamPhaseMetrics(metricListener.getMetricGroup(), 1);
+        assertGauge(StreamPhaseMetrics.CHANGE_EVENT_QUEUE_SIZE, 0);
+
+        ChangeEventQueue<String> queue =
+                new ChangeEventQueue.Builder<String>()
+                        .pollInterval(Duration.ofMillis(10))
+                        .maxBatchSize(2)
+                        .maxQueueSize(8)
+                        .loggingContextSupplier(
+                                () -> LoggingContext.forConnector("test", "test", "test"))
+                        .build();
+        metrics.setChangeEventQueue(queue);
+        queue.enqueue("a");
+        queue.enqueue("b");
+        queue.enqueue("c");
+
+        assertGauge(StreamPhaseMetrics.CHANGE_EVENT_QUEUE_SIZE, 3);
+        assertGauge(StreamPhaseMetrics.CHANGE_EVENT_QUEUE_CAPACITY, 8);
+
+        metrics.recordFetchBatch(queue.poll().size(), 10L);
+        assertGauge(StreamPhaseMetrics.CHANGE_EVENT_QUEUE_SIZE, 1);
+        assertHistogram(StreamPhaseMetrics.FETCH_BATCH_SIZE, 1L, 2L);
+
+        metrics.setChangeEventQueue(null);
+        assertGauge(StreamPhaseMetrics.CHANGE_EVENT_QUEUE_SIZE, 0);
+    }
+
+    @Test
+    void testReportTableEventTimeLag() {
+        SourceReaderMetrics metrics =
+                new SourceReaderMetrics(
+                        InternalSourceReaderMetricGroup.mock(metricListener.getMetricGroup()), 1);
+        long eventTime = System.currentTimeMillis() - 60_000L;
+
+        metrics.updateTableEventTime(dataChangeRecord("inventory", "products"), eventTime);
+
+        Optional<Gauge<Long>> lag =
+                metricListener.getGauge(
+                        SourceReaderMetrics.NAMESPACE_GROUP_KEY,
+                        "inventory",
+                        SourceReaderMetrics.SCHEMA_GROUP_KEY,
+                        "",
+                        SourceReaderMetrics.TABLE_GROUP_KEY,
+                        "products",
+                        SourceReaderMetrics.CURRENT_EVENT_TIME_LAG);
+        assertThat(lag).isPresent();
+        assertThat(lag.get().getValue()).isGreaterThanOrEqualTo(60_000L);
+    }
+
+    private void assertGauge(String name, int expected) {
+        Optional<Gauge<Integer>> gauge = metricListener.getGauge(name);
+        assertThat(gauge).map(Gauge::getValue).hasValue(expected);
+    }
+
+    private void assertHistogram(String name, long expectedCount, long expectedMax) {
+        Optional<Histogram> histogram = metricListener.getHistogram(name);
+        assertThat(histogram).isPresent();
+        assertThat(histogram.get().getCount()).isEqualTo(expectedCount);
+        assertThat(histogram.get().getStatistics().getMax()).isEqualTo(expectedMax);
+    }
+
+    private static SourceRecord dataChangeRecord(String database, String table) {
+        Schema sourceSchema =
+                SchemaBuilder.struct()
+                        .field("db", Schema.STRING_SCHEMA)
+                        .field("table", Schema.STRING_SCHEMA)
+                        .build();
+        Schema valueSchema = SchemaBuilder.struct().field("source", sourceSchema).build();
+        Struct value =
+                new Struct(valueSchema)
+                        .put(
+                                "source",
+                                new Struct(sourceSchema).put("db", database).put("table", table));
+        return new SourceRecord(
+                Collections.emptyMap(),
+                Collections.emptyMap(),
+                "topic",
+                null,
+                null,
+                valueSchema,
+                value);
+    }
+}
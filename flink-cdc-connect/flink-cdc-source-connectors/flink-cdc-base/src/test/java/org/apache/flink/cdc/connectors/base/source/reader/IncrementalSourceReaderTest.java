@@ -0,0 +1,162 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.connectors.base.source.reader;
+
+import org.apache.flink.cdc.connectors.base.config.SourceConfig;
+import org.apache.flink.cdc.connectors.base.dialect.DataSourceDialect;
+import org.apache.flink.cdc.connectors.base.source.meta.split.ChangeEventRecords;
+import org.apache.flink.cdc.connectors.base.source.meta.split.SnapshotSplit;
+import org.apache.flink.cdc.connectors.base.source.meta.split.SnapshotSplitState;
+import org.apache.flink.cdc.connectors.base.source.meta.split.SourceSplitBase;
+import org.apache.flink.cdc.connectors.base.source.meta.split.SourceSplitSerializer;
+import org.apache.flink.cdc.connectors.base.source.meta.split.SourceSplitState;
+import org.apache.flink.configuration.Configuration;
+import org.apache.flink.connector.base.source.reader.synchronization.FutureCompletingBlockingQueue;
+import org.apache.flink.connector.testutils.source.reader.TestingReaderContext;
+import org.apache.flink.table.types.logical.BigIntType;
+import org.apache.flink.table.types.logical.RowType;
+
+import io.debezium.relational.TableId;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/** Tests for the snapshot split prefetch of {@link IncrementalSourceReader}. */
+class IncrementalSourceReaderTest {
+
+    private static final TableId TABLE_ID = new TableId("db", null, "table");
+
+    @Test
+    void testRequestNextSplitAfterFinishedWithoutPrefetch() throws Exception {
+        TestingReaderContext readerContext = new TestingReaderContext();
+        IncrementalSourceReader<Object, SourceConfig> reader = createReader(readerContext, 0);
+        try {
+            reader.start();
+            assertThat(readerContext.getNumSplitRequests()).isEqualTo(1);
+
+            reader.addSplits(Collections.singletonList(split(0)));
+            assertThat(readerContext.getNumSplitRequests()).isEqualTo(1);
+
+            reader.onSplitFinished(finished(split(0)));
+            assertThat(readerContext.getNumSplitRequests()).isEqualTo(2);
+        } finally {
+            reader.close();
+        }
+    }
+
+    @Test
+    void testPrefetchSnapshotSplits() throws Exception {
+        TestingReaderContext readerContext = new TestingReaderContext();
+        IncrementalSourceReader<Object, SourceConfig> reader = createReader(readerContext, 2);
+        try {
+            reader.start();
+            assertThat(readerContext.getNumSplitRequests()).isEqualTo(1);
+
+            // requests more splits until the reader holds the prefetched splits
+            reader.addSplits(Collections.singletonList(split(0)));
+            assertThat(readerContext.getNumSplitRequests()).isEqualTo(2);
+            reader.addSplits(Collections.singletonList(split(1)));
+            assertThat(readerContext.getNumSplitRequests()).isEqualTo(3);
+            reader.addSplits(Collections.singletonList(split(2)));
+            assertThat(readerContext.getNumSplitRequests()).isEqualTo(3);
+
+            // a finished split requests its successor
+            reader.onSplitFinished(finished(split(0)));
+            assertThat(readerContext.getNumSplitRequests()).isEqualTo(4);
+            reader.addSplits(Collections.singletonList(split(3)));
+            assertThat(readerContext.getNumSplitRequests()).isEqualTo(4);
+
+            // the prefetched splits are kept in the reader state for failover
+            assertThat(reader.snapshotState(1L))
+                    .extracting(SourceSplitBase::splitId)
+                    .containsExactlyInAnyOrder(
+                            split(0).splitId(),
+                            split(1).splitId(),
+                            split(2).splitId(),
+                            split(3).splitId());
+        } finally {
+            reader.close();
+        }
+    }
+
+    @Test
+    void testRestorePrefetchedSplits() throws Exception {
+        TestingReaderContext readerContext = new TestingReaderContext();
+        IncrementalSourceReader<Object, SourceConfig> reader = createReader(readerContext, 2);
+        try {
+            reader.addSplits(Arrays.asList(split(0), split(1), split(2)));
+            reader.start();
+            assertThat(readerContext.getNumSplitRequests()).isZero();
+        } finally {
+            reader.close();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static IncrementalSourceReader<Object, SourceConfig> createReader(
+            TestingReaderContext readerContext, int prefetchSplits) throws Exception {
+        DataSourceDialect<SourceConfig> dialect = mock(DataSourceDialect.class);
+        when(dialect.isIncludeDataCollection(any(), any())).thenReturn(true);
+        IncrementalSourceSplitReader<SourceConfig> splitReader =
+                mock(IncrementalSourceSplitReader.class);
+        when(splitReader.fetch())
+                .thenAnswer(
+                        invocation -> {
+                            Thread.sleep(10);
+                            return new ChangeEventRecords(
+                                    null, Collections.emptyIterator(), Collections.emptySet());
+                        });
+
+        SourceConfig sourceConfig = mock(SourceConfig.class);
+        when(sourceConfig.getSnapshotPrefetchSplits()).thenReturn(prefetchSplits);
+        return new IncrementalSourceReader<>(
+                new FutureCompletingBlockingQueue<>(),
+                () -> splitReader,
+                mock(IncrementalSourceRecordEmitter.class),
+                new Configuration(),
+                new IncrementalSourceReaderContext(readerContext),
+                sourceConfig,
+                mock(SourceSplitSerializer.class),
+                dialect);
+    }
+
+    private static SnapshotSplit split(int chunkId) {
+        return new SnapshotSplit(
+                TABLE_ID,
+                chunkId,
+                RowType.of(new BigIntType()),
+                new Object[] {chunkId * 100L},
+                new Object[] {(chunkId + 1) * 100L},
+                null,
+                new HashMap<>());
+    }
+
+    private static Map<String, SourceSplitState> finished(SnapshotSplit split) {
+        Map<String, SourceSplitState> finishedSplits = new HashMap<>();
+        finishedSplits.put(split.splitId(), new SnapshotSplitState(split));
+        return finishedSplits;
+    }
+}
@@ -0,0 +1,302 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.connectors.base.source.reader;
+
+import org.apache.flink.api.common.typeinfo.TypeInformation;
+import org.apache.flink.cdc.connectors.base.source.meta.offset.Offset;
+import org.apache.flink.cdc.connectors.base.source.meta.offset.OffsetFactory;
+import org.apache.flink.cdc.connectors.base.source.meta.split.SnapshotSplit;
+import org.apache.flink.cdc.connectors.base.source.meta.split.SnapshotSplitState;
+import org.apache.flink.cdc.connectors.base.source.meta.split.SourceRecords;
+import org.apache.flink.cdc.connectors.base.source.meta.split.StreamSplit;
+import org.apache.flink.cdc.connectors.base.source.meta.split.StreamSplitState;
+import org.apache.flink.cdc.connectors.base.source.metrics.SourceReaderMetrics;
+import org.apache.flink.cdc.connectors.base.source.metrics.StreamPhaseMetrics;
+import org.apache.flink.cdc.connectors.base.utils.SourceRecordUtils;
+import org.apache.flink.cdc.debezium.DebeziumDeserializationSchema;
+import org.apache.flink.connector.testutils.source.reader.TestingReaderOutput;
+import org.apache.flink.metrics.Histogram;
+import org.apache.flink.metrics.testutils.MetricListener;
+import org.apache.flink.runtime.metrics.groups.InternalSourceReaderMetricGroup;
+import org.apache.flink.table.types.logical.RowType;
+import org.apache.flink.util.Collector;
+
+import io.debezium.data.Envelope;
+import io.debezium.relational.TableId;
+import org.apache.kafka.connect.data.Schema;
+import org.apache.kafka.connect.data.SchemaBuilder;
+import org.apache.kafka.connect.data.Struct;
+import org.apache.kafka.connect.source.SourceRecord;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/** Tests for {@link IncrementalSourceRecordEmitter}. */
+class IncrementalSourceRecordEmitterTest {
+
+    private static final String POSITION_KEY = "lsn";
+
+    private static final Schema SOURCE_SCHEMA =
+            SchemaBuilder.struct()
+                    .field("db", Schema.STRING_SCHEMA)
+                    .field("table", Schema.STRING_SCHEMA)
+                    .field(Envelope.FieldName.TIMESTAMP, Schema.INT64_SCHEMA)
+                    .build();
+
+    private static final Schema DATA_CHANGE_SCHEMA =
+            SchemaBuilder.struct()
+                    .field(Envelope.FieldName.OPERATION, Schema.STRING_SCHEMA)
+                    .field(Envelope.FieldName.SOURCE, SOURCE_SCHEMA)
+                    .build();
+
+    private static final Schema HEARTBEAT_SCHEMA =
+            SchemaBuilder.struct()
+                    .name(SourceRecordUtils.SCHEMA_HEARTBEAT_EVENT_KEY_NAME)
+                    .field(Envelope.FieldName.TIMESTAMP, Schema.INT64_SCHEMA)
+                    .build();
+
+    @Test
+    void testMarkIdleBetweenHeartbeatsWithoutRecords() throws Exception {
+        IncrementalSourceRecordEmitter<String> recordEmitter = createRecordEmitter();
+        StreamSplitState splitState = createStreamSplitState();
+        IdlenessRecordingOutput output = new IdlenessRecordingOutput();
+
+        // records were emitted before the first heartbeat
+        emit(recordEmitter, heartbeat(100L), output, splitState);
+        assertThat(output.idleness).isEmpty();
+
+        // no records between the first and the second heartbeat
+        emit(recordEmitter, heartbeat(200L), output, splitState);
+        assertThat(output.idleness).containsExactly("idle");
+        assertThat(splitState.getStartingOffset()).isEqualTo(new PositionOffset(200L));
+
+        // further heartbeats keep the output idle without marking it again
+        emit(recordEmitter, heartbeat(300L), output, splitState);
+        assertThat(output.idleness).containsExactly("idle");
+
+        emit(recordEmitter, dataChange(301L), output, splitState);
+        assertThat(output.idleness).containsExactly("idle", "active");
+        assertThat(output.getEmittedRecords()).containsExactly("c");
+        assertThat(splitState.getStartingOffset()).isEqualTo(new PositionOffset(301L));
+    }
+
+    @Test
+    void testRecordsBetweenHeartbeatsKeepOutputActive() throws Exception {
+        IncrementalSourceRecordEmitter<String> recordEmitter = createRecordEmitter();
+        StreamSplitState splitState = createStreamSplitState();
+        IdlenessRecordingOutput output = new IdlenessRecordingOutput();
+
+        for (long position = 100L; position < 400L; position += 100L) {
+            emit(recordEmitter, heartbeat(position), output, splitState);
+            emit(recordEmitter, dataChange(position + 1), output, splitState);
+        }
+        emit(recordEmitter, heartbeat(400L), output, splitState);
+
+        assertThat(output.idleness).isEmpty();
+        assertThat(output.getEmittedRecords()).hasSize(3);
+        assertThat(splitState.getStartingOffset()).isEqualTo(new PositionOffset(400L));
+    }
+
+    @Test
+    void testSampleOnlyStreamSplitRecords() throws Exception {
+        MetricListener metricListener = new MetricListener();
+        IncrementalSourceRecordEmitter<String> recordEmitter =
+                createRecordEmitter(
+                        new SourceReaderMetrics(
+                                InternalSourceReaderMetricGroup.mock(
+                                        metricListener.getMetricGroup()),
+                                1));
+        IdlenessRecordingOutput output = new IdlenessRecordingOutput();
+
+        recordEmitter.emitRecord(
+                SourceRecords.fromSingleRecord(dataChange(1L)),
+                output,
+                new SnapshotSplitState(
+                        new SnapshotSplit(
+                                new TableId("db", null, "table"),
+                                0,
+                                RowType.of(),
+                                null,
+                                null,
+                                null,
+                                Collections.emptyMap())));
+        Optional<Histogram> convertTime =
+                metricListener.getHistogram(StreamPhaseMetrics.CONVERT_TIME_NANOS);
+        assertThat(convertTime).isPresent();
+        assertThat(convertTime.get().getCount()).isZero();
+
+        emit(recordEmitter, dataChange(2L), output, createStreamSplitState());
+        assertThat(convertTime.get().getCount()).isEqualTo(1L);
+        assertThat(output.getEmittedRecords()).containsExactly("c", "c");
+    }
+
+    private static void emit(
+            IncrementalSourceRecordEmitter<String> recordEmitter,
+            SourceRecord record,
+            IdlenessRecordingOutput output,
+            StreamSplitState splitState)
+            throws Exception {
+        recordEmitter.emitRecord(SourceRecords.fromSingleRecord(record), output, splitState);
+    }
+
+    private static IncrementalSourceRecordEmitter<String> createRecordEmitter() {
+        return createRecordEmitter(
+                new SourceReaderMetrics(
+                        InternalSourceReaderMetricGroup.mock(
+                                new MetricListener().getMetricGroup())));
+    }
+
+    private static IncrementalSourceRecordEmitter<String> createRecordEmitter(
+            SourceReaderMetrics sourceReaderMetrics) {
+        return new IncrementalSourceRecordEmitter<>(
+                new DebeziumDeserializationSchema<String>() {
+                    @Override
+                    public void deserialize(SourceRecord record, Collector<String> out) {
+                        out.collect(((Struct) record.value()).getString("op"));
+                    }
+
+                    @Override
+                    public TypeInformation<String> getProducedType() {
+                        return TypeInformation.of(String.class);
+                    }
+                },
+                sourceReaderMetrics,
+                false,
+                new PositionOffsetFactory());
+    }
+
+    private static StreamSplitState createStreamSplitState() {
+        return new StreamSplitState(
+                new StreamSplit(
+                        "stream-split",
+                        new PositionOffset(0L),
+                        new PositionOffset(Long.MAX_VALUE),
+                        new ArrayList<>(),
+                        Collections.emptyMap(),
+                        0));
+    }
+
+    private static SourceRecord heartbeat(long position) {
+        Struct value =
+                new Struct(HEARTBEAT_SCHEMA)
+                        .put(Envelope.FieldName.TIMESTAMP, System.currentTimeMillis());
+        return new SourceRecord(
+                Collections.singletonMap("server", "test"),
+                Collections.singletonMap(POSITION_KEY, position),
+                "__debezium-heartbeat.test",
+                null,
+                null,
+                HEARTBEAT_SCHEMA,
+                value);
+    }
+
+    private static SourceRecord dataChange(long position) {
+        Struct source =
+                new Struct(SOURCE_SCHEMA)
+                        .put("db", "db")
+                        .put("table", "table")
+                        .put(Envelope.FieldName.TIMESTAMP, System.currentTimeMillis());
+        Struct value =
+                new Struct(DATA_CHANGE_SCHEMA)
+                        .put(Envelope.FieldName.OPERATION, "c")
+                        .put(Envelope.FieldName.SOURCE, source);
+        return new SourceRecord(
+                Collections.singletonMap("server", "test"),
+                Collections.singletonMap(POSITION_KEY, position),
+                "test.db.table",
+                null,
+                null,
+                DATA_CHANGE_SCHEMA,
+                value);
+    }
+
+    /** A {@link TestingReaderOutput} recording whether it was marked idle or active. */
+    private static class IdlenessRecordingOutput extends TestingReaderOutput<String> {
+
+        private final List<String> idleness = new ArrayList<>();
+
+        @Override
+        public void markIdle() {
+            idleness.add("idle");
+        }
+
+        @Override
+        public void markActive() {
+            idleness.add("active");
+        }
+    }
+
+    /** An {@link Offset} of a single position. */
+    private static class PositionOffset extends Offset {
+
+        private static final long serialVersionUID = 1L;
+
+        PositionOffset(long position) {
+            this.offset = Collections.singletonMap(POSITION_KEY, String.valueOf(position));
+        }
+
+        private long getPosition() {
+            return Long.parseLong(offset.get(POSITION_KEY));
+        }
+
+        @Override
+        public int compareTo(Offset o) {
+            return Long.compare(getPosition(), ((PositionOffset) o).getPosition());
+        }
+    }
+
+    /** An {@link OffsetFactory} of {@link PositionOffset}s. */
+    private static class PositionOffsetFactory extends OffsetFactory {
+
+        @Override
+        public Offset newOffset(Map<String, String> offset) {
+            return new PositionOffset(Long.parseLong(offset.get(POSITION_KEY)));
+        }
+
+        @Override
+        public Offset newOffset(String filename, Long position) {
+            return new PositionOffset(position);
+        }
+
+        @Override
+        public Offset newOffset(Long position) {
+            return new PositionOffset(position);
+        }
+
+        @Override
+        public Offset createTimestampOffset(long timestampMillis) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Offset createInitialOffset() {
+            return new PositionOffset(0L);
+        }
+
+        @Override
+        public Offset createNoStoppingOffset() {
+            return new PositionOffset(Long.MAX_VALUE);
+        }
+    }
+}
@@ -6,6 +6,14 @@
 
 package io.debezium.connector.db2;
 
+import org.apache.flink.cdc.connectors.base.relational.changetable.AdaptivePollInterval;
+import org.apache.flink.cdc.connectors.base.relational.changetable.ChangeTableMerger;
+import org.apache.flink.cdc.connectors.base.relational.changetable.ConcurrentChangeTableQuery;
+import org.apache.flink.cdc.connectors.db2.source.utils.Db2ConnectionUtils;
+
+import io.debezium.DebeziumException;
+import io.debezium.config.Field;
+import io.debezium.jdbc.JdbcConnection.BlockingMultiResultSetConsumer;
 import io.debezium.pipeline.ErrorHandler;
 import io.debezium.pipeline.EventDispatcher;
 import io.debezium.pipeline.source.spi.ChangeTableResultSet;
@@ -15,6 +23,7 @@ import io.debezium.schema.DatabaseSchema;
 import io.debezium.schema.SchemaChangeEvent.SchemaChangeEventType;
 import io.debezium.util.Clock;
 import io.debezium.util.Metronome;
+import org.apache.kafka.common.config.ConfigDef;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -35,7 +44,8 @@ import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 /**
- * Copied from Debezium project(1.9.8.final)
+ * Copied from Debezium project(1.9.8.final) to add {@link #FETCH_PARALLELISM} and {@link
+ * #POLL_INTERVAL_MIN_MS}, which query change tables concurrently and adapt the poll interval.
  *
  * <p>A {@link StreamingChangeEventSource} based on DB2 change data capture functionality. A main
  * loop polls database DDL change and change data tables and turns them into change events.
@@ -71,6 +81,35 @@ public class Db2StreamingChangeEventSource
     private static final Logger LOGGER =
             LoggerFactory.getLogger(Db2StreamingChangeEventSource.class);
 
+    /**
+     * The number of connections to query change tables concurrently with, whose results are merged
+     * by LSN. Change tables are queried with the data connection only by default.
+     */
+    public static final Field FETCH_PARALLELISM =
+            Field.create("streaming.fetch.parallelism")
+                    .withDisplayName("Streaming fetch parallelism")
+                    .withType(ConfigDef.Type.INT)
+                    .withWidth(ConfigDef.Width.SHORT)
+                    .withImportance(ConfigDef.Importance.LOW)
+                    .withDefault(1)
+                    .withDescription(
+                            "The number of connections to query change tables concurrently with. "
+                                    + "Change tables are queried with one connection by default.");
+
+    /**
+     * The minimum poll interval. If set, the poll interval is halved down to it after polls
+     * returning changes, and doubled up to {@code poll.interval.ms} after idle polls.
+     */
+    public static final Field POLL_INTERVAL_MIN_MS =
+            Field.create("poll.interval.min.ms")
+                    .withDisplayName("Minimum poll interval (ms)")
+                    .withType(ConfigDef.Type.LONG)
+                    .withWidth(ConfigDef.Width.SHORT)
+                    .withImportance(ConfigDef.Importance.LOW)
+                    .withDescription(
+                            "The minimum time to wait for new change events to appear. If set, "
+                                    + "the poll interval adapts between it and poll.interval.ms.");
+
     /** Connection used for reading CDC tables. */
     private final Db2Connection dataConnection;
 
@@ -86,6 +125,9 @@ public class Db2StreamingChangeEventSource
     private final Db2DatabaseSchema schema;
     private final Duration pollInterval;
     private final Db2ConnectorConfig connectorConfig;
+    private final int fetchParallelism;
+    private final Duration minPollInterval;
+    private ConcurrentChangeTableQuery<Db2Connection, Db2ChangeTable> concurrentChangeTableQuery;
 
     public Db2StreamingChangeEventSource(
             Db2ConnectorConfig connectorConfig,
@@ -103,6 +145,10 @@ public class Db2StreamingChangeEventSource
         this.clock = clock;
         this.schema = schema;
         this.pollInterval = connectorConfig.getPollInterval();
+        this.fetchParallelism = connectorConfig.getConfig().getInteger(FETCH_PARALLELISM);
+        final Long minPollIntervalMs = connectorConfig.getConfig().getLong(POLL_INTERVAL_MIN_MS);
+        this.minPollInterval =
+                minPollIntervalMs == null ? null : Duration.ofMillis(minPollIntervalMs);
     }
 
     @Override
@@ -117,6 +163,10 @@ public class Db2StreamingChangeEventSource
         }
 
         final Metronome metronome = Metronome.sleeper(pollInterval, clock);
+        final AdaptivePollInterval adaptivePollInterval =
+                minPollInterval == null
+                        ? null
+                        : new AdaptivePollInterval(minPollInterval, pollInterval);
         final Queue<Db2ChangeTable> schemaChangeCheckpoints =
                 new PriorityQueue<>((x, y) -> x.getStopLsn().compareTo(y.getStopLsn()));
         try {
@@ -150,7 +200,12 @@ public class Db2StreamingChangeEventSource
                 if (currentMaxLsn.equals(lastProcessedPosition.getCommitLsn())
                         && shouldIncreaseFromLsn) {
                     LOGGER.debug("No change in the database");
-                    metronome.pause();
+                    if (adaptivePollInterval != null) {
+                        adaptivePollInterval.update(false);
+                        adaptivePollInterval.pause();
+                    } else {
+                        metronome.pause();
+                    }
                     continue;
                 }
 
@@ -176,7 +231,7 @@ public class Db2StreamingChangeEventSource
                     }
                 }
                 try {
-                    dataConnection.getChangesForTables(
+                    getChangesForTables(
                             tablesSlot.get(),
                             fromLsn,
                             currentMaxLsn,
@@ -192,19 +247,11 @@ public class Db2StreamingChangeEventSource
                                             new ChangeTablePointer(tables[i], resultSets[i]);
                                     changeTables[i].next();
                                 }
+                                final ChangeTableMerger<ChangeTablePointer> merger =
+                                        new ChangeTableMerger<>(changeTables);
 
                                 for (; ; ) {
-                                    ChangeTablePointer tableWithSmallestLsn = null;
-                                    for (ChangeTablePointer changeTable : changeTables) {
-                                        if (changeTable.isCompleted()) {
-                                            continue;
-                                        }
-                                        if (tableWithSmallestLsn == null
-                                                || changeTable.compareTo(tableWithSmallestLsn)
-                                                        < 0) {
-                                            tableWithSmallestLsn = changeTable;
-                                        }
-                                    }
+                                    final ChangeTablePointer tableWithSmallestLsn = merger.next();
                                     if (tableWithSmallestLsn == null) {
                                         // No more LSNs available
                                         break;
@@ -347,13 +394,58 @@ public class Db2StreamingChangeEventSource
                     dataConnection.rollback();
                     // Determine whether to continue streaming in db2 cdc snapshot phase
                     afterHandleLsn(partition, currentMaxLsn);
+                    if (adaptivePollInterval != null) {
+                        adaptivePollInterval.update(true);
+                    }
                 } catch (SQLException e) {
                     tablesSlot.set(processErrorFromChangeTableQuery(e, tablesSlot.get()));
                 }
             }
         } catch (Exception e) {
             errorHandler.setProducerThrowable(e);
+        } finally {
+            if (concurrentChangeTableQuery != null) {
+                concurrentChangeTableQuery.close();
+                concurrentChangeTableQuery = null;
+            }
+        }
+    }
+
+    /**
+     * Queries changes of given change tables with the data connection, or concurrently over a pool
+     * of connections if {@link #FETCH_PARALLELISM} is greater than one.
+     */
+    private void getChangesForTables(
+            Db2ChangeTable[] changeTables,
+            Lsn fromLsn,
+            Lsn toLsn,
+            BlockingMultiResultSetConsumer consumer)
+            throws SQLException, InterruptedException {
+        if (fetchParallelism <= 1 || changeTables.length <= 1) {
+            dataConnection.getChangesForTables(changeTables, fromLsn, toLsn, consumer);
+            return;
+        }
+        if (concurrentChangeTableQuery == null) {
+            LOGGER.info(
+                    "Querying change tables concurrently with {} connections", fetchParallelism);
+            concurrentChangeTableQuery =
+                    new ConcurrentChangeTableQuery<>(fetchParallelism, this::createFetchConnection);
+        }
+        concurrentChangeTableQuery.query(
+                changeTables,
+                (connection, tables, resultSetConsumer) ->
+                        connection.getChangesForTables(tables, fromLsn, toLsn, resultSetConsumer),
+                consumer);
+    }
+
+    private Db2Connection createFetchConnection() {
+        final Db2Connection connection = Db2ConnectionUtils.createDb2Connection(connectorConfig);
+        try {
+            connection.setAutoCommit(false);
+        } catch (SQLException e) {
+            throw new DebeziumException("Failed to create connection to query change tables", e);
         }
+        return connection;
     }
 
     private void migrateTable(
@@ -241,6 +241,25 @@ public class Db2SourceBuilder<T> {
         return this;
     }
 
+    /**
+     * The number of snapshot splits a source reader requests ahead of the split it reads, so that
+     * the next snapshot query starts without waiting for the enumerator. Defaults to 0.
+     */
+    public Db2SourceBuilder<T> snapshotPrefetchSplits(int snapshotPrefetchSplits) {
+        this.configFactory.snapshotPrefetchSplits(snapshotPrefetchSplits);
+        return this;
+    }
+
+    /**
+     * Times one of every N records emitted by a source reader for the stream phase metrics, which
+     * tell where a lagging reader spends its time. Defaults to 0, which disables these metrics.
+     */
+    public Db2SourceBuilder<T> streamPhaseMetricsSampleInterval(
+            int streamPhaseMetricsSampleInterval) {
+        this.configFactory.streamPhaseMetricsSampleInterval(streamPhaseMetricsSampleInterval);
+        return this;
+    }
+
     /**
      * Build the {@link Db2IncrementalSource}.
      *
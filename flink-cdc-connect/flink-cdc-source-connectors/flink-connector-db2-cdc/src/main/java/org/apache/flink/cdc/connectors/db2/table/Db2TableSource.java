@@ -79,6 +79,8 @@ public class Db2TableSource implements ScanTableSource, SupportsReadingMetadata
     private final boolean closeIdleReaders;
     private final boolean skipSnapshotBackfill;
     private final boolean assignUnboundedChunkFirst;
+    private final int streamPhaseMetricsSampleInterval;
+    private final int snapshotPrefetchSplits;
 
     /** Metadata that is appended at the end of a physical source row. */
     protected List<String> metadataKeys;
@@ -106,7 +108,9 @@ public class Db2TableSource implements ScanTableSource, SupportsReadingMetadata
             @Nullable String chunkKeyColumn,
             boolean closeIdleReaders,
             boolean skipSnapshotBackfill,
-            boolean assignUnboundedChunkFirst) {
+            boolean assignUnboundedChunkFirst,
+            int streamPhaseMetricsSampleInterval,
+            int snapshotPrefetchSplits) {
         this.physicalSchema = physicalSchema;
         this.port = port;
         this.hostname = hostname;
@@ -132,6 +136,8 @@ public class Db2TableSource implements ScanTableSource, SupportsReadingMetadata
         this.closeIdleReaders = closeIdleReaders;
         this.skipSnapshotBackfill = skipSnapshotBackfill;
         this.assignUnboundedChunkFirst = assignUnboundedChunkFirst;
+        this.streamPhaseMetricsSampleInterval = streamPhaseMetricsSampleInterval;
+        this.snapshotPrefetchSplits = snapshotPrefetchSplits;
     }
 
     @Override
@@ -178,6 +184,8 @@ public class Db2TableSource implements ScanTableSource, SupportsReadingMetadata
                             .chunkKeyColumn(chunkKeyColumn)
                             .closeIdleReaders(closeIdleReaders)
                             .skipSnapshotBackfill(skipSnapshotBackfill)
+                            .snapshotPrefetchSplits(snapshotPrefetchSplits)
+                            .streamPhaseMetricsSampleInterval(streamPhaseMetricsSampleInterval)
                             .assignUnboundedChunkFirst(assignUnboundedChunkFirst)
                             .build();
             return SourceProvider.of(db2ChangeEventSource);
@@ -240,7 +248,9 @@ public class Db2TableSource implements ScanTableSource, SupportsReadingMetadata
                         chunkKeyColumn,
                         closeIdleReaders,
                         skipSnapshotBackfill,
-                        assignUnboundedChunkFirst);
+                        assignUnboundedChunkFirst,
+                        streamPhaseMetricsSampleInterval,
+                        snapshotPrefetchSplits);
         source.metadataKeys = metadataKeys;
         source.producedDataType = producedDataType;
         return source;
@@ -277,7 +287,10 @@ public class Db2TableSource implements ScanTableSource, SupportsReadingMetadata
                 && Objects.equals(chunkKeyColumn, that.chunkKeyColumn)
                 && Objects.equals(closeIdleReaders, that.closeIdleReaders)
                 && Objects.equals(skipSnapshotBackfill, that.skipSnapshotBackfill)
-                && Objects.equals(assignUnboundedChunkFirst, that.assignUnboundedChunkFirst);
+                && Objects.equals(assignUnboundedChunkFirst, that.assignUnboundedChunkFirst)
+                && Objects.equals(
+                        streamPhaseMetricsSampleInterval, that.streamPhaseMetricsSampleInterval)
+                && Objects.equals(snapshotPrefetchSplits, that.snapshotPrefetchSplits);
     }
 
     @Override
@@ -305,7 +318,9 @@ public class Db2TableSource implements ScanTableSource, SupportsReadingMetadata
                 chunkKeyColumn,
                 closeIdleReaders,
                 skipSnapshotBackfill,
-                assignUnboundedChunkFirst);
+                assignUnboundedChunkFirst,
+                streamPhaseMetricsSampleInterval,
+                snapshotPrefetchSplits);
     }
 
     @Override
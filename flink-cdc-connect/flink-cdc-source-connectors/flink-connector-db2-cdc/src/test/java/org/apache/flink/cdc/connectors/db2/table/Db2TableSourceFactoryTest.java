@@ -44,6 +44,8 @@ import java.util.HashMap;
 import java.util.Map;
 import java.util.Properties;
 
+import static org.apache.flink.cdc.connectors.base.options.SourceOptions.SCAN_INCREMENTAL_SNAPSHOT_PREFETCH_SPLITS;
+import static org.apache.flink.cdc.connectors.base.options.SourceOptions.SCAN_INCREMENTAL_STREAM_PHASE_METRICS_SAMPLE_INTERVAL;
 import static org.apache.flink.cdc.debezium.utils.ResolvedSchemaUtils.getPhysicalSchema;
 import static org.apache.flink.table.api.TableSchema.fromResolvedSchema;
 
@@ -117,7 +119,9 @@ class Db2TableSourceFactoryTest {
                         false,
                         JdbcSourceOptions.SCAN_INCREMENTAL_SNAPSHOT_BACKFILL_SKIP.defaultValue(),
                         JdbcSourceOptions.SCAN_INCREMENTAL_SNAPSHOT_UNBOUNDED_CHUNK_FIRST_ENABLED
-                                .defaultValue());
+                                .defaultValue(),
+                        SCAN_INCREMENTAL_STREAM_PHASE_METRICS_SAMPLE_INTERVAL.defaultValue(),
+                        SCAN_INCREMENTAL_SNAPSHOT_PREFETCH_SPLITS.defaultValue());
         Assertions.assertThat(actualSource).isEqualTo(expectedSource);
     }
 
@@ -158,7 +162,9 @@ class Db2TableSourceFactoryTest {
                         null,
                         false,
                         JdbcSourceOptions.SCAN_INCREMENTAL_SNAPSHOT_BACKFILL_SKIP.defaultValue(),
-                        true);
+                        true,
+                        SCAN_INCREMENTAL_STREAM_PHASE_METRICS_SAMPLE_INTERVAL.defaultValue(),
+                        SCAN_INCREMENTAL_SNAPSHOT_PREFETCH_SPLITS.defaultValue());
         Assertions.assertThat(actualSource).isEqualTo(expectedSource);
     }
 
@@ -233,7 +239,9 @@ class Db2TableSourceFactoryTest {
                         false,
                         JdbcSourceOptions.SCAN_INCREMENTAL_SNAPSHOT_BACKFILL_SKIP.defaultValue(),
                         JdbcSourceOptions.SCAN_INCREMENTAL_SNAPSHOT_UNBOUNDED_CHUNK_FIRST_ENABLED
-                                .defaultValue());
+                                .defaultValue(),
+                        SCAN_INCREMENTAL_STREAM_PHASE_METRICS_SAMPLE_INTERVAL.defaultValue(),
+                        SCAN_INCREMENTAL_SNAPSHOT_PREFETCH_SPLITS.defaultValue());
         expectedSource.producedDataType = SCHEMA_WITH_METADATA.toSourceRowDataType();
         expectedSource.metadataKeys =
                 Arrays.asList("op_ts", "database_name", "table_name", "schema_name");
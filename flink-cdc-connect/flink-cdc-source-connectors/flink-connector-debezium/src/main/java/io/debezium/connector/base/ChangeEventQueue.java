@@ -0,0 +1,391 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.debezium.connector.base;
+
+import org.apache.flink.cdc.debezium.utils.RecordSizeEstimator;
+
+import io.debezium.annotation.ThreadSafe;
+import io.debezium.config.ConfigurationDefaults;
+import io.debezium.time.Temporals;
+import io.debezium.util.Clock;
+import io.debezium.util.LoggingContext;
+import io.debezium.util.LoggingContext.PreviousContext;
+import io.debezium.util.Threads;
+import io.debezium.util.Threads.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Copied from Debezium project(1.9.8.Final) to estimate the sizes of the queued records cheaply and
+ * bound the polled batches by bytes.
+ *
+ * <p>Line 88-94, 118: keep the batch size in bytes and the average size of the enqueued records.
+ *
+ * <p>Line 246-254: estimate the size of a record by {@link RecordSizeEstimator} instead of the
+ * reflective {@code ObjectSizeCalculator}, which walks the whole object graph of every record.
+ *
+ * <p>Line 258, 285-299: bound the records of a batch by half of {@code maxQueueSizeInBytes}, the
+ * number of records of a batch adapts to the average record size.
+ *
+ * <p>Line 322-343: stop draining records once the batch reaches its size in bytes.
+ *
+ * <p>Line 375-390: add methods to return the average record size and the current batch size.
+ *
+ * <p>A queue which serves as handover point between producer threads (e.g. MySQL's binlog reader
+ * thread) and the Kafka Connect polling loop.
+ *
+ * <p>The queue is configurable in different aspects, e.g. its maximum size and the time to sleep
+ * (block) between two subsequent poll calls. See the {@link Builder} for the different options. The
+ * queue applies back-pressure semantics, i.e. if it holds the maximum number of elements,
+ * subsequent calls to {@link #enqueue(Object)} will block until elements have been removed from the
+ * queue.
+ *
+ * <p>If an exception occurs on the producer side, the producer should make that exception known by
+ * calling {@link #producerException(RuntimeException)} before stopping its operation. Upon the next
+ * call to {@link #poll()}, that exception will be raised, causing Kafka Connect to stop the
+ * connector and mark it as {@code FAILED}.
+ *
+ * @param <T> the type of events in this queue. Usually {@link
+ *     org.apache.kafka.connect.source.SourceRecord} is used, but in cases where additional metadata
+ *     must be passed from producers to the consumer, a custom type wrapping source records may be
+ *     used.
+ */
+@ThreadSafe
+public class ChangeEventQueue<T> implements ChangeEventQueueMetrics {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ChangeEventQueue.class);
+
+    /** The weight of a new record in the average record size. */
+    private static final int AVERAGE_RECORD_SIZE_WEIGHT = 16;
+
+    private final Duration pollInterval;
+    private final int maxBatchSize;
+    private final int maxQueueSize;
+    private final long maxQueueSizeInBytes;
+    private final long maxBatchSizeInBytes;
+
+    private final Queue<T> queue;
+    private final Supplier<PreviousContext> loggingContextSupplier;
+    private final Queue<Long> sizeInBytesQueue;
+    private long currentQueueSizeInBytes = 0;
+    private long averageRecordSizeInBytes = 0;
+
+    // Sometimes it is necessary to update the record before it is delivered depending on the
+    // content of the following record. In that cases the easiest solution is to provide a single
+    // cell buffer that will allow the modification of it during the event processing
+    private boolean buffering;
+    private T bufferedEvent;
+
+    private volatile RuntimeException producerException;
+
+    private ChangeEventQueue(
+            Duration pollInterval,
+            int maxQueueSize,
+            int maxBatchSize,
+            Supplier<LoggingContext.PreviousContext> loggingContextSupplier,
+            long maxQueueSizeInBytes,
+            boolean buffering) {
+        this.pollInterval = pollInterval;
+        this.maxBatchSize = maxBatchSize;
+        this.maxQueueSize = maxQueueSize;
+        this.queue = new ArrayDeque<>(maxQueueSize);
+        this.loggingContextSupplier = loggingContextSupplier;
+        this.sizeInBytesQueue = new ArrayDeque<>(maxQueueSize);
+        this.maxQueueSizeInBytes = maxQueueSizeInBytes;
+        this.maxBatchSizeInBytes = maxQueueSizeInBytes / 2;
+        this.buffering = buffering;
+    }
+
+    /** The builder of {@link ChangeEventQueue}. */
+    public static class Builder<T> {
+
+        private Duration pollInterval;
+        private int maxQueueSize;
+        private int maxBatchSize;
+        private Supplier<LoggingContext.PreviousContext> loggingContextSupplier;
+        private long maxQueueSizeInBytes;
+        private boolean buffering;
+
+        public Builder<T> pollInterval(Duration pollInterval) {
+            this.pollInterval = pollInterval;
+            return this;
+        }
+
+        public Builder<T> maxQueueSize(int maxQueueSize) {
+            this.maxQueueSize = maxQueueSize;
+            return this;
+        }
+
+        public Builder<T> maxBatchSize(int maxBatchSize) {
+            this.maxBatchSize = maxBatchSize;
+            return this;
+        }
+
+        public Builder<T> loggingContextSupplier(
+                Supplier<LoggingContext.PreviousContext> loggingContextSupplier) {
+            this.loggingContextSupplier = loggingContextSupplier;
+            return this;
+        }
+
+        public Builder<T> maxQueueSizeInBytes(long maxQueueSizeInBytes) {
+            this.maxQueueSizeInBytes = maxQueueSizeInBytes;
+            return this;
+        }
+
+        public Builder<T> buffering() {
+            this.buffering = true;
+            return this;
+        }
+
+        public ChangeEventQueue<T> build() {
+            return new ChangeEventQueue<T>(
+                    pollInterval,
+                    maxQueueSize,
+                    maxBatchSize,
+                    loggingContextSupplier,
+                    maxQueueSizeInBytes,
+                    buffering);
+        }
+    }
+
+    /**
+     * Enqueues a record so that it can be obtained via {@link #poll()}. This method will block if
+     * the queue is full.
+     *
+     * @param record the record to be enqueued
+     * @throws InterruptedException if this thread has been interrupted
+     */
+    public void enqueue(T record) throws InterruptedException {
+        if (record == null) {
+            return;
+        }
+
+        // The calling thread has been interrupted, let's abort
+        if (Thread.interrupted()) {
+            throw new InterruptedException();
+        }
+
+        if (buffering) {
+            final T newEvent = record;
+            record = bufferedEvent;
+            bufferedEvent = newEvent;
+            if (record == null) {
+                // Can happen only for the first coming event
+                return;
+            }
+        }
+
+        doEnqueue(record);
+    }
+
+    /**
+     * Applies a function to the event and the buffer and adds it to the queue. Buffer is emptied.
+     *
+     * @param recordModifier
+     * @throws InterruptedException
+     */
+    public void flushBuffer(Function<T, T> recordModifier) throws InterruptedException {
+        assert buffering : "Unsupported for queues with disabled buffering";
+        if (bufferedEvent != null) {
+            doEnqueue(recordModifier.apply(bufferedEvent));
+            bufferedEvent = null;
+        }
+    }
+
+    /**
+     * Disable buffering for the queue. Buffering is enabled by default; the queue will not buffer
+     * events after calling this method.
+     */
+    public void disableBuffering() {
+        assert bufferedEvent == null : "Buffer must be flushed";
+        buffering = false;
+    }
+
+    protected void doEnqueue(T record) throws InterruptedException {
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug("Enqueuing source record '{}'", record);
+        }
+
+        synchronized (this) {
+            while (queue.size() >= maxQueueSize
+                    || (maxQueueSizeInBytes > 0
+                            && currentQueueSizeInBytes >= maxQueueSizeInBytes)) {
+                // notify poll() to drain queue
+                this.notifyAll();
+                // queue size or queue sizeInBytes threshold reached, so wait a bit
+                this.wait(pollInterval.toMillis());
+            }
+
+            queue.add(record);
+            // If we pass a positiveLong max.queue.size.in.bytes to enable handling queue size in
+            // bytes feature
+            if (maxQueueSizeInBytes > 0) {
+                long messageSize = RecordSizeEstimator.estimate(record);
+                sizeInBytesQueue.add(messageSize);
+                currentQueueSizeInBytes += messageSize;
+                averageRecordSizeInBytes =
+                        averageRecordSizeInBytes == 0
+                                ? messageSize
+                                : averageRecordSizeInBytes
+                                        + (messageSize - averageRecordSizeInBytes)
+                                                / AVERAGE_RECORD_SIZE_WEIGHT;
+            }
+
+            // batch size or queue sizeInBytes threshold reached
+            if (queue.size() >= currentMaxBatchSize()
+                    || (maxQueueSizeInBytes > 0
+                            && currentQueueSizeInBytes >= maxQueueSizeInBytes)) {
+                // notify poll() to start draining queue and do not wait
+                this.notifyAll();
+            }
+        }
+    }
+
+    /**
+     * Returns the next batch of elements from this queue. May be empty in case no elements have
+     * arrived in the maximum waiting time.
+     *
+     * @throws InterruptedException if this thread has been interrupted while waiting for more
+     *     elements to arrive
+     */
+    public List<T> poll() throws InterruptedException {
+        final LoggingContext.PreviousContext previousContext = loggingContextSupplier.get();
+
+        try {
+            LOGGER.debug("polling records...");
+            final Timer timeout =
+                    Threads.timer(
+                            Clock.SYSTEM,
+                            Temporals.min(
+                                    pollInterval, ConfigurationDefaults.RETURN_CONTROL_INTERVAL));
+            synchronized (this) {
+                final int batchSize = currentMaxBatchSize();
+                final List<T> records = new ArrayList<>(Math.min(batchSize, queue.size()));
+                long batchSizeInBytes = 0;
+                while (true) {
+                    batchSizeInBytes +=
+                            drainRecords(
+                                    records,
+                                    batchSize - records.size(),
+                                    maxBatchSizeInBytes - batchSizeInBytes);
+                    if (records.size() >= batchSize
+                            || (maxQueueSizeInBytes > 0
+                                    && (batchSizeInBytes >= maxBatchSizeInBytes
+                                            || currentQueueSizeInBytes >= maxQueueSizeInBytes))
+                            || timeout.expired()) {
+                        break;
+                    }
+                    throwProducerExceptionIfPresent();
+
+                    LOGGER.debug("no records available yet, sleeping a bit...");
+                    long remainingTimeoutMills = timeout.remaining().toMillis();
+                    if (remainingTimeoutMills > 0) {
+                        // notify producers to enqueue more records
+                        this.notify();
+                        // no records available yet, wait a bit
+                        this.wait(remainingTimeoutMills);
+                    }
+                    LOGGER.debug("checking for more records...");
+                }
+                // notify producers to enqueue more records
+                this.notify();
+                return records;
+            }
+        } finally {
+            previousContext.restore();
+        }
+    }
+
+    /**
+     * Drains at most {@code maxRecords} records of at most {@code maxSizeInBytes} bytes to the
+     * given records, at least one record is drained if the given records are empty. Returns the
+     * size in bytes of the drained records.
+     */
+    private long drainRecords(List<T> records, int maxRecords, long maxSizeInBytes) {
+        int count = Math.min(queue.size(), maxRecords);
+        long drainedSizeInBytes = 0;
+        for (int i = 0; i < count; i++) {
+            if (maxQueueSizeInBytes > 0) {
+                long messageSize = sizeInBytesQueue.peek();
+                if (!records.isEmpty() && drainedSizeInBytes + messageSize > maxSizeInBytes) {
+                    break;
+                }
+                sizeInBytesQueue.poll();
+                currentQueueSizeInBytes -= messageSize;
+                drainedSizeInBytes += messageSize;
+            }
+            records.add(queue.poll());
+        }
+        return drainedSizeInBytes;
+    }
+
+    public void producerException(final RuntimeException producerException) {
+        this.producerException = producerException;
+    }
+
+    private void throwProducerExceptionIfPresent() {
+        if (producerException != null) {
+            throw producerException;
+        }
+    }
+
+    @Override
+    public int totalCapacity() {
+        return maxQueueSize;
+    }
+
+    @Override
+    public int remainingCapacity() {
+        return maxQueueSize - queue.size();
+    }
+
+    @Override
+    public long maxQueueSizeInBytes() {
+        return maxQueueSizeInBytes;
+    }
+
+    @Override
+    public long currentQueueSizeInBytes() {
+        return currentQueueSizeInBytes;
+    }
+
+    /** Returns the average size in bytes of the recently enqueued records. */
+    public synchronized long averageRecordSizeInBytes() {
+        return averageRecordSizeInBytes;
+    }
+
+    /**
+     * Returns the maximum number of records of the next batch, which is limited by half of {@code
+     * maxQueueSizeInBytes} divided by the average record size when the queue is bounded by bytes.
+     */
+    public synchronized int currentMaxBatchSize() {
+        if (maxQueueSizeInBytes <= 0 || averageRecordSizeInBytes <= 0) {
+            return maxBatchSize;
+        }
+        return (int)
+                Math.max(1, Math.min(maxBatchSize, maxBatchSizeInBytes / averageRecordSizeInBytes));
+    }
+}
@@ -19,6 +19,7 @@ package org.apache.flink.cdc.debezium;
 
 import org.apache.flink.api.common.typeinfo.BasicTypeInfo;
 import org.apache.flink.api.common.typeinfo.TypeInformation;
+import org.apache.flink.cdc.debezium.internal.JsonStructWriter;
 import org.apache.flink.util.Collector;
 
 import org.apache.kafka.connect.json.JsonConverter;
@@ -33,6 +34,10 @@ import java.util.Map;
 /**
  * A JSON format implementation of {@link DebeziumDeserializationSchema} which deserializes the
  * received {@link SourceRecord} to JSON String.
+ *
+ * <p>Records with value schemas are written by a {@link JsonStructWriter} unless custom
+ * configurations it doesn't support are given, which produces the same output as {@link
+ * JsonConverter} without converting records to Jackson trees first.
  */
 public class JsonDebeziumDeserializationSchema implements DebeziumDeserializationSchema<String> {
 
@@ -40,6 +45,9 @@ public class JsonDebeziumDeserializationSchema implements DebeziumDeserializatio
 
     private transient JsonConverter jsonConverter;
 
+    /** Writer of records with value schemas, or null if the configurations are not supported. */
+    private transient JsonStructWriter jsonStructWriter;
+
     /**
      * Configuration whether to enable {@link JsonConverterConfig#SCHEMAS_ENABLE_CONFIG} to include
      * schema in messages.
@@ -68,6 +76,10 @@ public class JsonDebeziumDeserializationSchema implements DebeziumDeserializatio
         if (jsonConverter == null) {
             initializeJsonConverter();
         }
+        if (jsonStructWriter != null && record.valueSchema() != null) {
+            out.collect(jsonStructWriter.writeAsString(record.valueSchema(), record.value()));
+            return;
+        }
         byte[] bytes =
                 jsonConverter.fromConnectData(record.topic(), record.valueSchema(), record.value());
         out.collect(new String(bytes));
@@ -83,6 +95,9 @@ public class JsonDebeziumDeserializationSchema implements DebeziumDeserializatio
             configs.putAll(customConverterConfigs);
         }
         jsonConverter.configure(configs);
+        if (JsonStructWriter.isSupported(configs)) {
+            jsonStructWriter = new JsonStructWriter(jsonConverter, configs);
+        }
     }
 
     @Override
@@ -0,0 +1,71 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.debezium.internal;
+
+import io.debezium.config.CommonConnectorConfig;
+import io.debezium.config.Field;
+import io.debezium.util.Clock;
+import org.apache.kafka.common.config.ConfigDef;
+
+/**
+ * Decides whether heartbeats of a stream reader should be dispatched. Heartbeats are only needed to
+ * advance offsets and event time while no data flows, so they're skipped until no data change event
+ * has been dispatched for the idle timeout.
+ */
+public class AdaptiveHeartbeat {
+
+    public static final Field HEARTBEAT_IDLE_TIMEOUT =
+            Field.create("heartbeat.idle.timeout.ms")
+                    .withDisplayName("Heartbeat idle timeout in milliseconds")
+                    .withType(ConfigDef.Type.LONG)
+                    .withWidth(ConfigDef.Width.MEDIUM)
+                    .withImportance(ConfigDef.Importance.LOW)
+                    .withDefault(0L)
+                    .withValidation(Field::isNonNegativeLong)
+                    .withDescription(
+                            "The time without data change events after which heartbeats are "
+                                    + "dispatched. Heartbeats are always dispatched if it's 0.");
+
+    private final long idleTimeoutMillis;
+    private final Clock clock;
+
+    private long lastDataChangeEventMillis;
+
+    public AdaptiveHeartbeat(CommonConnectorConfig connectorConfig) {
+        this(connectorConfig.getConfig().getLong(HEARTBEAT_IDLE_TIMEOUT), Clock.system());
+    }
+
+    AdaptiveHeartbeat(long idleTimeoutMillis, Clock clock) {
+        this.idleTimeoutMillis = idleTimeoutMillis;
+        this.clock = clock;
+        this.lastDataChangeEventMillis = clock.currentTimeInMillis();
+    }
+
+    /** Records that a data change event has been dispatched. */
+    public void onDataChangeEvent() {
+        if (idleTimeoutMillis > 0) {
+            lastDataChangeEventMillis = clock.currentTimeInMillis();
+        }
+    }
+
+    /** Returns whether no data change event has been dispatched for the idle timeout. */
+    public boolean isIdle() {
+        return idleTimeoutMillis <= 0
+                || clock.currentTimeInMillis() - lastDataChangeEventMillis >= idleTimeoutMillis;
+    }
+}
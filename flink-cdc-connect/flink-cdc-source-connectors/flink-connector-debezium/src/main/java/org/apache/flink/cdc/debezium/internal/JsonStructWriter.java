@@ -0,0 +1,354 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.debezium.internal;
+
+import org.apache.flink.annotation.Internal;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.kafka.connect.data.Date;
+import org.apache.kafka.connect.data.Decimal;
+import org.apache.kafka.connect.data.Field;
+import org.apache.kafka.connect.data.Schema;
+import org.apache.kafka.connect.data.Struct;
+import org.apache.kafka.connect.data.Time;
+import org.apache.kafka.connect.data.Timestamp;
+import org.apache.kafka.connect.errors.DataException;
+import org.apache.kafka.connect.json.DecimalFormat;
+import org.apache.kafka.connect.json.JsonConverter;
+import org.apache.kafka.connect.json.JsonConverterConfig;
+import org.apache.kafka.connect.storage.ConverterConfig;
+
+import javax.annotation.Nullable;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Writes Kafka Connect data as JSON without building the intermediate Jackson tree of {@link
+ * JsonConverter}, whose output it's identical to. Writers of values are built once per schema, and
+ * JSON schemas of envelopes are serialized once per schema.
+ */
+@Internal
+public class JsonStructWriter {
+
+    /** Configurations of {@link JsonConverter} that are taken into account. */
+    private static final Set<String> SUPPORTED_CONFIGS =
+            new HashSet<>(
+                    Arrays.asList(
+                            ConverterConfig.TYPE_CONFIG,
+                            JsonConverterConfig.SCHEMAS_ENABLE_CONFIG,
+                            JsonConverterConfig.SCHEMAS_CACHE_SIZE_CONFIG,
+                            JsonConverterConfig.DECIMAL_FORMAT_CONFIG));
+
+    private static final SerializedString SCHEMA_FIELD = new SerializedString("schema");
+    private static final SerializedString PAYLOAD_FIELD = new SerializedString("payload");
+
+    private final JsonConverter jsonConverter;
+    private final boolean schemasEnabled;
+    private final DecimalFormat decimalFormat;
+    private final int schemaCacheSize;
+
+    private final JsonFactory jsonFactory = new JsonFactory();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final OutputBuffer outputBuffer = new OutputBuffer();
+    private final Map<Schema, ValueWriter> valueWriters = new IdentityHashMap<>();
+    private final Map<Schema, SerializedString> jsonSchemas = new IdentityHashMap<>();
+
+    /**
+     * @param jsonConverter the converter configured with given configurations, which provides JSON
+     *     schemas of envelopes
+     * @param configs configurations of the converter
+     */
+    public JsonStructWriter(JsonConverter jsonConverter, Map<String, ?> configs) {
+        JsonConverterConfig config = new JsonConverterConfig(configs);
+        this.jsonConverter = jsonConverter;
+        this.schemasEnabled = config.schemasEnabled();
+        this.decimalFormat = config.decimalFormat();
+        this.schemaCacheSize = config.schemaCacheSize();
+    }
+
+    /** Returns whether output of a {@link JsonConverter} with given configurations is supported. */
+    public static boolean isSupported(Map<String, ?> configs) {
+        return SUPPORTED_CONFIGS.containsAll(configs.keySet());
+    }
+
+    /**
+     * Returns the JSON of given value decoded with the default charset, which is identical to the
+     * output of {@link JsonConverter#fromConnectData} decoded with the default charset.
+     */
+    public String writeAsString(Schema schema, @Nullable Object value) throws IOException {
+        outputBuffer.reset();
+        try (JsonGenerator generator = jsonFactory.createGenerator(outputBuffer)) {
+            if (schemasEnabled) {
+                generator.writeStartObject();
+                generator.writeFieldName(SCHEMA_FIELD);
+                generator.writeRawValue(getJsonSchema(schema));
+                generator.writeFieldName(PAYLOAD_FIELD);
+                getValueWriter(schema).write(generator, value);
+                generator.writeEndObject();
+            } else {
+                getValueWriter(schema).write(generator, value);
+            }
+        }
+        return outputBuffer.decode();
+    }
+
+    private SerializedString getJsonSchema(Schema schema) throws IOException {
+        SerializedString jsonSchema = jsonSchemas.get(schema);
+        if (jsonSchema == null) {
+            byte[] bytes = objectMapper.writeValueAsBytes(jsonConverter.asJsonSchema(schema));
+            jsonSchema = new SerializedString(new String(bytes, StandardCharsets.UTF_8));
+            if (jsonSchemas.size() >= schemaCacheSize) {
+                jsonSchemas.clear();
+            }
+            jsonSchemas.put(schema, jsonSchema);
+        }
+        return jsonSchema;
+    }
+
+    private ValueWriter getValueWriter(Schema schema) {
+        ValueWriter valueWriter = valueWriters.get(schema);
+        if (valueWriter == null) {
+            valueWriter = createValueWriter(schema);
+            if (valueWriters.size() >= schemaCacheSize) {
+                valueWriters.clear();
+            }
+            valueWriters.put(schema, valueWriter);
+        }
+        return valueWriter;
+    }
+
+    // --------------------------------------------------------------------------------------------
+    // Value writers, which follow JsonConverter#convertToJson
+    // --------------------------------------------------------------------------------------------
+
+    /** Writes a value of a schema. */
+    @FunctionalInterface
+    private interface ValueWriter {
+        void write(JsonGenerator generator, @Nullable Object value) throws IOException;
+    }
+
+    private ValueWriter createValueWriter(Schema schema) {
+        ValueWriter nonNullWriter = createNonNullValueWriter(schema);
+        Object defaultValue = schema.defaultValue();
+        boolean optional = schema.isOptional();
+        return (generator, value) -> {
+            if (value != null) {
+                nonNullWriter.write(generator, value);
+            } else if (defaultValue != null) {
+                nonNullWriter.write(generator, defaultValue);
+            } else if (optional) {
+                generator.writeNull();
+            } else {
+                throw new DataException(
+                        "Conversion error: null value for field that is required and has no default value");
+            }
+        };
+    }
+
+    private ValueWriter createNonNullValueWriter(Schema schema) {
+        ValueWriter logicalWriter = createLogicalValueWriter(schema);
+        if (logicalWriter != null) {
+            return logicalWriter;
+        }
+        ValueWriter writer = createPhysicalValueWriter(schema);
+        return (generator, value) -> {
+            try {
+                writer.write(generator, value);
+            } catch (ClassCastException e) {
+                throw new DataException(
+                        "Invalid type for " + schema.type() + ": " + value.getClass());
+            }
+        };
+    }
+
+    @Nullable
+    private ValueWriter createLogicalValueWriter(Schema schema) {
+        if (schema.name() == null) {
+            return null;
+        }
+        switch (schema.name()) {
+            case Decimal.LOGICAL_NAME:
+                return (generator, value) -> {
+                    if (!(value instanceof BigDecimal)) {
+                        throw new DataException(
+                                "Invalid type for Decimal, expected BigDecimal but was "
+                                        + value.getClass());
+                    }
+                    if (decimalFormat == DecimalFormat.NUMERIC) {
+                        generator.writeNumber((BigDecimal) value);
+                    } else {
+                        generator.writeBinary(Decimal.fromLogical(schema, (BigDecimal) value));
+                    }
+                };
+            case Date.LOGICAL_NAME:
+                return (generator, value) -> {
+                    if (!(value instanceof java.util.Date)) {
+                        throw new DataException(
+                                "Invalid type for Date, expected Date but was " + value.getClass());
+                    }
+                    generator.writeNumber(Date.fromLogical(schema, (java.util.Date) value));
+                };
+            case Time.LOGICAL_NAME:
+                return (generator, value) -> {
+                    if (!(value instanceof java.util.Date)) {
+                        throw new DataException(
+                                "Invalid type for Time, expected Date but was " + value.getClass());
+                    }
+                    generator.writeNumber(Time.fromLogical(schema, (java.util.Date) value));
+                };
+            case Timestamp.LOGICAL_NAME:
+                return (generator, value) -> {
+                    if (!(value instanceof java.util.Date)) {
+                        throw new DataException(
+                                "Invalid type for Timestamp, expected Date but was "
+                                        + value.getClass());
+                    }
+                    generator.writeNumber(Timestamp.fromLogical(schema, (java.util.Date) value));
+                };
+            default:
+                return null;
+        }
+    }
+
+    private ValueWriter createPhysicalValueWriter(Schema schema) {
+        switch (schema.type()) {
+            case INT8:
+                return (generator, value) -> generator.writeNumber((int) (Byte) value);
+            case INT16:
+                return (generator, value) -> generator.writeNumber((Short) value);
+            case INT32:
+                return (generator, value) -> generator.writeNumber((Integer) value);
+            case INT64:
+                return (generator, value) -> generator.writeNumber((Long) value);
+            case FLOAT32:
+                return (generator, value) -> generator.writeNumber((Float) value);
+            case FLOAT64:
+                return (generator, value) -> generator.writeNumber((Double) value);
+            case BOOLEAN:
+                return (generator, value) -> generator.writeBoolean((Boolean) value);
+            case STRING:
+                return (generator, value) -> generator.writeString(value.toString());
+            case BYTES:
+                return (generator, value) -> {
+                    if (value instanceof byte[]) {
+                        generator.writeBinary((byte[]) value);
+                    } else if (value instanceof ByteBuffer) {
+                        generator.writeBinary(((ByteBuffer) value).array());
+                    } else {
+                        throw new DataException("Invalid type for bytes type: " + value.getClass());
+                    }
+                };
+            case ARRAY:
+                return createArrayWriter(schema);
+            case MAP:
+                return createMapWriter(schema);
+            case STRUCT:
+                return createStructWriter(schema);
+            default:
+                return (generator, value) -> {
+                    throw new DataException("Couldn't convert " + value + " to JSON.");
+                };
+        }
+    }
+
+    private ValueWriter createArrayWriter(Schema schema) {
+        ValueWriter elementWriter = createValueWriter(schema.valueSchema());
+        return (generator, value) -> {
+            generator.writeStartArray();
+            for (Object element : (Collection<?>) value) {
+                elementWriter.write(generator, element);
+            }
+            generator.writeEndArray();
+        };
+    }
+
+    private ValueWriter createMapWriter(Schema schema) {
+        ValueWriter keyWriter = createValueWriter(schema.keySchema());
+        ValueWriter valueWriter = createValueWriter(schema.valueSchema());
+        if (schema.keySchema().type() == Schema.Type.STRING) {
+            Object defaultKey = schema.keySchema().defaultValue();
+            return (generator, value) -> {
+                generator.writeStartObject();
+                for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                    Object key = entry.getKey() != null ? entry.getKey() : defaultKey;
+                    generator.writeFieldName(String.valueOf(key));
+                    valueWriter.write(generator, entry.getValue());
+                }
+                generator.writeEndObject();
+            };
+        }
+        return (generator, value) -> {
+            generator.writeStartArray();
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                generator.writeStartArray();
+                keyWriter.write(generator, entry.getKey());
+                valueWriter.write(generator, entry.getValue());
+                generator.writeEndArray();
+            }
+            generator.writeEndArray();
+        };
+    }
+
+    private ValueWriter createStructWriter(Schema schema) {
+        List<Field> fields = schema.fields();
+        SerializedString[] fieldNames = new SerializedString[fields.size()];
+        ValueWriter[] fieldWriters = new ValueWriter[fields.size()];
+        for (int i = 0; i < fields.size(); i++) {
+            fieldNames[i] = new SerializedString(fields.get(i).name());
+            fieldWriters[i] = createValueWriter(fields.get(i).schema());
+        }
+        return (generator, value) -> {
+            Struct struct = (Struct) value;
+            if (struct.schema() != schema && !struct.schema().equals(schema)) {
+                throw new DataException("Mismatching schema.");
+            }
+            generator.writeStartObject();
+            for (int i = 0; i < fieldWriters.length; i++) {
+                generator.writeFieldName(fieldNames[i]);
+                fieldWriters[i].write(generator, struct.get(fields.get(i)));
+            }
+            generator.writeEndObject();
+        };
+    }
+
+    /** A reusable output buffer. */
+    private static final class OutputBuffer extends ByteArrayOutputStream {
+
+        private OutputBuffer() {
+            super(1024);
+        }
+
+        private String decode() {
+            return new String(buf, 0, count);
+        }
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.debezium.utils;
+
+import io.debezium.pipeline.DataChangeEvent;
+import org.apache.kafka.connect.data.Field;
+import org.apache.kafka.connect.data.Struct;
+import org.apache.kafka.connect.source.SourceRecord;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * Estimates the heap sizes of the records in the change event queues.
+ *
+ * <p>The estimation walks the values of {@link Struct}s, {@link SourceRecord}s and {@link
+ * DataChangeEvent}s without reflection, and approximates the sizes of the values by their types,
+ * e.g. the length of byte arrays and strings. Schemas are shared by the records of a table, so they
+ * are not counted.
+ */
+public class RecordSizeEstimator {
+
+    private static final int OBJECT_HEADER = 16;
+    private static final int ARRAY_HEADER = 16;
+    private static final int REFERENCE = 8;
+
+    private static final int STRING_SIZE = OBJECT_HEADER + 8 + ARRAY_HEADER;
+    private static final int BOXED_SIZE = OBJECT_HEADER + 8;
+    private static final int SOURCE_RECORD_SIZE = OBJECT_HEADER + 10 * REFERENCE;
+    private static final int STRUCT_SIZE = OBJECT_HEADER + 2 * REFERENCE + ARRAY_HEADER;
+    private static final int MAP_ENTRY_SIZE = OBJECT_HEADER + 4 * REFERENCE;
+
+    private RecordSizeEstimator() {}
+
+    /** Returns the estimated size in bytes of the given record. */
+    public static long estimate(Object record) {
+        if (record == null) {
+            return 0;
+        } else if (record instanceof DataChangeEvent) {
+            return OBJECT_HEADER + REFERENCE + estimate(((DataChangeEvent) record).getRecord());
+        } else if (record instanceof SourceRecord) {
+            SourceRecord sourceRecord = (SourceRecord) record;
+            return SOURCE_RECORD_SIZE
+                    + estimate(sourceRecord.sourcePartition())
+                    + estimate(sourceRecord.sourceOffset())
+                    + estimate(sourceRecord.topic())
+                    + estimate(sourceRecord.key())
+                    + estimate(sourceRecord.value());
+        } else if (record instanceof Struct) {
+            Struct struct = (Struct) record;
+            long size = STRUCT_SIZE;
+            for (Field field : struct.schema().fields()) {
+                size += REFERENCE + estimate(struct.get(field));
+            }
+            return size;
+        } else if (record instanceof String) {
+            // compact strings of non-latin characters take two bytes per character
+            return STRING_SIZE + 2L * ((String) record).length();
+        } else if (record instanceof byte[]) {
+            return ARRAY_HEADER + ((byte[]) record).length;
+        } else if (record instanceof ByteBuffer) {
+            return OBJECT_HEADER + 5 * REFERENCE + ((ByteBuffer) record).capacity();
+        } else if (record instanceof BigDecimal) {
+            BigDecimal decimal = (BigDecimal) record;
+            return OBJECT_HEADER + 3 * REFERENCE + estimate(decimal.unscaledValue());
+        } else if (record instanceof BigInteger) {
+            return OBJECT_HEADER
+                    + 3 * REFERENCE
+                    + ARRAY_HEADER
+                    + ((BigInteger) record).bitLength() / 8;
+        } else if (record instanceof Map) {
+            long size = OBJECT_HEADER + 4 * REFERENCE + ARRAY_HEADER;
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) record).entrySet()) {
+                size += REFERENCE + MAP_ENTRY_SIZE;
+                size += estimate(entry.getKey()) + estimate(entry.getValue());
+            }
+            return size;
+        } else if (record instanceof Collection) {
+            long size = OBJECT_HEADER + 2 * REFERENCE + ARRAY_HEADER;
+            for (Object element : (Collection<?>) record) {
+                size += REFERENCE + estimate(element);
+            }
+            return size;
+        } else {
+            // numbers, booleans, temporals and other values of fixed sizes
+            return BOXED_SIZE;
+        }
+    }
+}
@@ -0,0 +1,219 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.debezium.utils;
+
+import org.apache.flink.cdc.common.source.SnapshotPredicate;
+import org.apache.flink.cdc.common.source.SnapshotPushDown;
+
+import io.debezium.relational.Column;
+import io.debezium.relational.Table;
+
+import java.math.BigDecimal;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Utilities to translate {@link SnapshotPushDown}s to the projection and condition of snapshot
+ * queries.
+ *
+ * <p>Predicates are only translated if the database evaluates them at least as permissively as
+ * transform filters do. For example, transform filters compare numbers of different classes as
+ * doubles and strings with {@link String#equals}, so inequality of strings, which is affected by
+ * collations, is never pushed down.
+ */
+public class SnapshotPushDownUtils {
+
+    /** Integral literals beyond this magnitude may not be compared as doubles precisely. */
+    private static final BigDecimal MAX_EXACT_DOUBLE_INTEGER = BigDecimal.valueOf(1L << 53);
+
+    /** Matches tables with identifiers of one, two or three parts. */
+    private static final String ALL_TABLES = "\\.*,\\.*.\\.*,\\.*.\\.*.\\.*";
+
+    private SnapshotPushDownUtils() {}
+
+    /**
+     * Returns the push-down of the physical columns projected by a SQL table source. It applies to
+     * all tables captured by the source, as they share the physical schema of the source table.
+     */
+    public static SnapshotPushDown projectionPushDown(Collection<String> projectedColumns) {
+        return tableSourcePushDown(projectedColumns, Collections.emptyList());
+    }
+
+    /**
+     * Returns the push-down of the physical columns projected by a SQL table source, and of the
+     * predicates that rows required by its filters satisfy.
+     */
+    public static SnapshotPushDown tableSourcePushDown(
+            Collection<String> projectedColumns, List<SnapshotPredicate> predicates) {
+        return new SnapshotPushDown(
+                ALL_TABLES, new LinkedHashSet<>(projectedColumns), new ArrayList<>(predicates));
+    }
+
+    /**
+     * Returns the select list of given table, in which columns that are not required are replaced
+     * by NULL to keep the layout of rows. Key columns and non-nullable columns are always selected.
+     * Returns empty if all columns are required.
+     */
+    public static Optional<List<String>> buildProjection(
+            Table table,
+            Optional<Set<String>> requiredColumns,
+            Collection<String> keyColumns,
+            Function<String, String> quote) {
+        if (!requiredColumns.isPresent()) {
+            return Optional.empty();
+        }
+        List<String> projection = new ArrayList<>();
+        boolean pruned = false;
+        for (Column column : table.columns()) {
+            String quotedName = quote.apply(column.name());
+            if (requiredColumns.get().contains(column.name())
+                    || keyColumns.contains(column.name())
+                    || table.primaryKeyColumnNames().contains(column.name())
+                    || !column.isOptional()) {
+                projection.add(quotedName);
+            } else {
+                projection.add("NULL AS " + quotedName);
+                pruned = true;
+            }
+        }
+        return pruned ? Optional.of(projection) : Optional.empty();
+    }
+
+    /**
+     * Returns the condition that rows required by given predicates in disjunctive normal form
+     * satisfy. Predicates that could not be translated are treated as always true. Returns empty if
+     * all rows are required.
+     */
+    public static Optional<String> buildCondition(
+            Table table,
+            List<List<SnapshotPredicate>> disjunction,
+            Function<String, String> quote) {
+        if (disjunction.isEmpty()) {
+            return Optional.empty();
+        }
+        List<String> disjuncts = new ArrayList<>();
+        for (List<SnapshotPredicate> conjunction : disjunction) {
+            List<String> conjuncts = new ArrayList<>();
+            for (SnapshotPredicate predicate : conjunction) {
+                translate(table, predicate, quote).ifPresent(conjuncts::add);
+            }
+            if (conjuncts.isEmpty()) {
+                return Optional.empty();
+            }
+            disjuncts.add(String.join(" AND ", conjuncts));
+        }
+        if (disjuncts.size() == 1) {
+            return Optional.of(disjuncts.get(0));
+        }
+        StringBuilder condition = new StringBuilder();
+        for (String disjunct : disjuncts) {
+            if (condition.length() > 0) {
+                condition.append(" OR ");
+            }
+            condition.append("(").append(disjunct).append(")");
+        }
+        return Optional.of(condition.toString());
+    }
+
+    private static Optional<String> translate(
+            Table table, SnapshotPredicate predicate, Function<String, String> quote) {
+        Column column = table.columnWithName(predicate.getColumnName());
+        if (column == null) {
+            return Optional.empty();
+        }
+        String quotedName = quote.apply(column.name());
+        SnapshotPredicate.Operator operator = predicate.getOperator();
+        if (operator.isUnary()) {
+            return Optional.of(quotedName + " " + operator.getSymbol());
+        }
+
+        Object literal = predicate.getLiteral();
+        if (literal instanceof BigDecimal && isNumeric(column)) {
+            BigDecimal number = (BigDecimal) literal;
+            switch (operator) {
+                case EQUALS:
+                case LESS_THAN:
+                case GREATER_THAN:
+                    break;
+                case LESS_THAN_OR_EQUAL:
+                case GREATER_THAN_OR_EQUAL:
+                    if (!isIntegral(column)
+                            || number.stripTrailingZeros().scale() > 0
+                            || number.abs().compareTo(MAX_EXACT_DOUBLE_INTEGER) >= 0) {
+                        return Optional.empty();
+                    }
+                    break;
+                default:
+                    return Optional.empty();
+            }
+            return Optional.of(
+                    quotedName + " " + operator.getSymbol() + " " + number.toPlainString());
+        } else if (literal instanceof String
+                && isCharacter(column)
+                && operator == SnapshotPredicate.Operator.EQUALS
+                && ((String) literal).indexOf('\\') < 0) {
+            return Optional.of(
+                    quotedName
+                            + " "
+                            + operator.getSymbol()
+                            + " '"
+                            + ((String) literal).replace("'", "''")
+                            + "'");
+        }
+        return Optional.empty();
+    }
+
+    private static boolean isIntegral(Column column) {
+        switch (column.jdbcType()) {
+            case Types.TINYINT:
+            case Types.SMALLINT:
+            case Types.INTEGER:
+            case Types.BIGINT:
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    private static boolean isNumeric(Column column) {
+        return isIntegral(column)
+                || column.jdbcType() == Types.DECIMAL
+                || column.jdbcType() == Types.NUMERIC;
+    }
+
+    private static boolean isCharacter(Column column) {
+        switch (column.jdbcType()) {
+            case Types.CHAR:
+            case Types.VARCHAR:
+            case Types.LONGVARCHAR:
+            case Types.NCHAR:
+            case Types.NVARCHAR:
+            case Types.LONGNVARCHAR:
+                return true;
+            default:
+                return false;
+        }
+    }
+}
@@ -0,0 +1,132 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.debezium.connector.base;
+
+import org.apache.flink.cdc.debezium.utils.RecordSizeEstimator;
+
+import io.debezium.util.LoggingContext;
+import org.apache.kafka.connect.data.Schema;
+import org.apache.kafka.connect.data.SchemaBuilder;
+import org.apache.kafka.connect.data.Struct;
+import org.apache.kafka.connect.source.SourceRecord;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/** Tests for {@link ChangeEventQueue} bounded by bytes. */
+class ChangeEventQueueTest {
+
+    private static final Schema ROW_SCHEMA =
+            SchemaBuilder.struct()
+                    .field("id", Schema.INT64_SCHEMA)
+                    .field("name", Schema.OPTIONAL_STRING_SCHEMA)
+                    .field("payload", Schema.OPTIONAL_BYTES_SCHEMA)
+                    .build();
+
+    @Test
+    void testEstimateRecordSize() {
+        long small = RecordSizeEstimator.estimate(record(1, 0));
+        long large = RecordSizeEstimator.estimate(record(1, 2 * 1024 * 1024));
+
+        assertThat(small).isPositive().isLessThan(1024);
+        assertThat(large - small).isEqualTo(2 * 1024 * 1024);
+        assertThat(RecordSizeEstimator.estimate(null)).isZero();
+    }
+
+    @Test
+    void testBatchesBoundedByBytes() throws InterruptedException {
+        long recordSize = RecordSizeEstimator.estimate(record(1, 1024 * 1024));
+        ChangeEventQueue<SourceRecord> queue = createQueue(100, 10 * recordSize);
+
+        for (int i = 0; i < 9; i++) {
+            queue.enqueue(record(i, 1024 * 1024));
+        }
+        assertThat(queue.currentQueueSizeInBytes()).isEqualTo(9 * recordSize);
+        assertThat(queue.averageRecordSizeInBytes()).isEqualTo(recordSize);
+        assertThat(queue.currentMaxBatchSize()).isEqualTo(5);
+
+        // a batch takes at most half of the bytes of the queue
+        List<SourceRecord> batch = queue.poll();
+        assertThat(batch).hasSize(5);
+        assertThat(queue.currentQueueSizeInBytes()).isEqualTo(4 * recordSize);
+
+        batch = queue.poll();
+        assertThat(batch).hasSize(4);
+        assertThat(queue.currentQueueSizeInBytes()).isZero();
+    }
+
+    @Test
+    void testBatchSizeAdaptsToAverageRecordSize() throws InterruptedException {
+        long largeRecordSize = RecordSizeEstimator.estimate(record(1, 1024 * 1024));
+        ChangeEventQueue<SourceRecord> queue = createQueue(100, 10 * largeRecordSize);
+
+        queue.enqueue(record(0, 0));
+        assertThat(queue.currentMaxBatchSize()).isEqualTo(100);
+        assertThat(queue.poll()).hasSize(1);
+
+        queue.enqueue(record(1, 1024 * 1024));
+        assertThat(queue.currentMaxBatchSize()).isLessThan(100);
+        assertThat(queue.poll()).hasSize(1);
+
+        // a record larger than a batch is still polled
+        queue.enqueue(record(2, 8 * 1024 * 1024));
+        assertThat(queue.poll()).hasSize(1);
+        assertThat(queue.currentQueueSizeInBytes()).isZero();
+    }
+
+    @Test
+    void testQueueNotBoundedByBytes() throws InterruptedException {
+        ChangeEventQueue<SourceRecord> queue = createQueue(100, 0);
+
+        for (int i = 0; i < 10; i++) {
+            queue.enqueue(record(i, 1024 * 1024));
+        }
+        assertThat(queue.currentQueueSizeInBytes()).isZero();
+        assertThat(queue.currentMaxBatchSize()).isEqualTo(100);
+        assertThat(queue.poll()).hasSize(10);
+    }
+
+    private static ChangeEventQueue<SourceRecord> createQueue(
+            int maxBatchSize, long maxQueueSizeInBytes) {
+        return new ChangeEventQueue.Builder<SourceRecord>()
+                .pollInterval(Duration.ofMillis(50))
+                .maxBatchSize(maxBatchSize)
+                .maxQueueSize(1000)
+                .maxQueueSizeInBytes(maxQueueSizeInBytes)
+                .loggingContextSupplier(() -> LoggingContext.forConnector("test", "test", "test"))
+                .build();
+    }
+
+    private static SourceRecord record(long id, int payloadSize) {
+        Struct value =
+                new Struct(ROW_SCHEMA)
+                        .put("id", id)
+                        .put("name", "name")
+                        .put("payload", new byte[payloadSize]);
+        return new SourceRecord(
+                Collections.singletonMap("server", "test"),
+                Collections.singletonMap("pos", 0L),
+                "test.table",
+                ROW_SCHEMA,
+                value);
+    }
+}
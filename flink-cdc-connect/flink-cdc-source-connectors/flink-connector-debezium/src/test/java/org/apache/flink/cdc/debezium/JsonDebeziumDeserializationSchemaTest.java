@@ -0,0 +1,221 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.debezium;
+
+import org.apache.flink.util.Collector;
+
+import org.apache.kafka.connect.data.Date;
+import org.apache.kafka.connect.data.Decimal;
+import org.apache.kafka.connect.data.Schema;
+import org.apache.kafka.connect.data.SchemaBuilder;
+import org.apache.kafka.connect.data.Struct;
+import org.apache.kafka.connect.data.Time;
+import org.apache.kafka.connect.data.Timestamp;
+import org.apache.kafka.connect.json.JsonConverter;
+import org.apache.kafka.connect.json.JsonConverterConfig;
+import org.apache.kafka.connect.source.SourceRecord;
+import org.apache.kafka.connect.storage.ConverterConfig;
+import org.apache.kafka.connect.storage.ConverterType;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/** Unit test for {@link JsonDebeziumDeserializationSchema}. */
+class JsonDebeziumDeserializationSchemaTest {
+
+    private static final Schema ADDRESS_SCHEMA =
+            SchemaBuilder.struct()
+                    .name("address")
+                    .optional()
+                    .field("city", Schema.STRING_SCHEMA)
+                    .field("zip", Schema.OPTIONAL_INT32_SCHEMA)
+                    .build();
+
+    private static final Schema ROW_SCHEMA =
+            SchemaBuilder.struct()
+                    .name("dbserver1.inventory.products.Value")
+                    .optional()
+                    .field("tiny", Schema.INT8_SCHEMA)
+                    .field("small", Schema.OPTIONAL_INT16_SCHEMA)
+                    .field("id", Schema.INT32_SCHEMA)
+                    .field("big", Schema.INT64_SCHEMA)
+                    .field("real", Schema.FLOAT32_SCHEMA)
+                    .field("double", Schema.OPTIONAL_FLOAT64_SCHEMA)
+                    .field("flag", Schema.BOOLEAN_SCHEMA)
+                    .field("name", Schema.OPTIONAL_STRING_SCHEMA)
+                    .field("description", SchemaBuilder.string().defaultValue("none").build())
+                    .field("payload", Schema.OPTIONAL_BYTES_SCHEMA)
+                    .field("buffer", Schema.OPTIONAL_BYTES_SCHEMA)
+                    .field("price", Decimal.builder(2).optional().build())
+                    .field("date", Date.builder().optional().build())
+                    .field("time", Time.builder().optional().build())
+                    .field("timestamp", Timestamp.builder().optional().build())
+                    .field("tags", SchemaBuilder.array(Schema.OPTIONAL_STRING_SCHEMA).build())
+                    .field(
+                            "attributes",
+                            SchemaBuilder.map(Schema.STRING_SCHEMA, Schema.INT32_SCHEMA).build())
+                    .field(
+                            "ranks",
+                            SchemaBuilder.map(Schema.INT32_SCHEMA, Schema.OPTIONAL_STRING_SCHEMA)
+                                    .optional()
+                                    .build())
+                    .field("address", ADDRESS_SCHEMA)
+                    .field("escaped \"name\"\n", Schema.OPTIONAL_STRING_SCHEMA)
+                    .build();
+
+    private static final Schema ENVELOPE_SCHEMA =
+            SchemaBuilder.struct()
+                    .name("dbserver1.inventory.products.Envelope")
+                    .field("before", ROW_SCHEMA)
+                    .field("after", ROW_SCHEMA)
+                    .field("op", Schema.STRING_SCHEMA)
+                    .field("ts_ms", Schema.OPTIONAL_INT64_SCHEMA)
+                    .build();
+
+    @ParameterizedTest
+    @ValueSource(booleans = {true, false})
+    void testOutputIdenticalToJsonConverter(boolean includeSchema) throws Exception {
+        assertIdenticalToJsonConverter(includeSchema, Collections.emptyMap());
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {true, false})
+    void testOutputIdenticalToJsonConverterWithNumericDecimals(boolean includeSchema)
+            throws Exception {
+        assertIdenticalToJsonConverter(
+                includeSchema,
+                Collections.singletonMap(JsonConverterConfig.DECIMAL_FORMAT_CONFIG, "NUMERIC"));
+    }
+
+    private void assertIdenticalToJsonConverter(
+            boolean includeSchema, Map<String, Object> customConverterConfigs) throws Exception {
+        List<SourceRecord> records =
+                Arrays.asList(
+                        createRecord(createEnvelope(null, createRow(1), "c")),
+                        createRecord(createEnvelope(createRow(1), createRow(2), "u")),
+                        createRecord(createEnvelope(createRow(2), null, "d")),
+                        new SourceRecord(
+                                Collections.emptyMap(),
+                                Collections.emptyMap(),
+                                "dbserver1",
+                                Schema.STRING_SCHEMA,
+                                "CREATE TABLE products (id INT)"));
+
+        JsonDebeziumDeserializationSchema deserializer =
+                new JsonDebeziumDeserializationSchema(
+                        includeSchema, new HashMap<>(customConverterConfigs));
+        ListCollector actual = new ListCollector();
+        for (SourceRecord record : records) {
+            deserializer.deserialize(record, actual);
+        }
+
+        JsonConverter jsonConverter = new JsonConverter();
+        Map<String, Object> configs = new HashMap<>(customConverterConfigs);
+        configs.put(ConverterConfig.TYPE_CONFIG, ConverterType.VALUE.getName());
+        configs.put(JsonConverterConfig.SCHEMAS_ENABLE_CONFIG, includeSchema);
+        jsonConverter.configure(configs);
+        List<String> expected = new ArrayList<>();
+        for (SourceRecord record : records) {
+            byte[] bytes =
+                    jsonConverter.fromConnectData(
+                            record.topic(), record.valueSchema(), record.value());
+            expected.add(new String(bytes));
+        }
+
+        assertThat(actual.list).containsExactlyElementsOf(expected);
+    }
+
+    private static SourceRecord createRecord(Struct value) {
+        return new SourceRecord(
+                Collections.emptyMap(),
+                Collections.emptyMap(),
+                "dbserver1.inventory.products",
+                ENVELOPE_SCHEMA,
+                value);
+    }
+
+    private static Struct createEnvelope(Struct before, Struct after, String op) {
+        return new Struct(ENVELOPE_SCHEMA)
+                .put("before", before)
+                .put("after", after)
+                .put("op", op)
+                .put("ts_ms", 1589362330904L);
+    }
+
+    private static Struct createRow(int id) {
+        Map<String, Integer> attributes = new LinkedHashMap<>();
+        attributes.put("weight", 3);
+        attributes.put("wheels", id);
+        Map<Integer, String> ranks = new LinkedHashMap<>();
+        ranks.put(1, "first");
+        ranks.put(2, null);
+        Struct row =
+                new Struct(ROW_SCHEMA)
+                        .put("tiny", (byte) -1)
+                        .put("id", id)
+                        .put("big", Long.MAX_VALUE)
+                        .put("real", 0.1f)
+                        .put("flag", id % 2 == 0)
+                        .put("payload", new byte[] {1, 2, 3, (byte) 0xff})
+                        .put("buffer", ByteBuffer.wrap(new byte[] {4, 5}))
+                        .put("price", new BigDecimal("-12.30"))
+                        .put("date", new java.util.Date(86400000L * 18000))
+                        .put("time", new java.util.Date(3723000L))
+                        .put("timestamp", new java.util.Date(1589362330904L))
+                        .put("tags", Arrays.asList("scooter", null, "über ☃ 😀"))
+                        .put("attributes", attributes)
+                        .put("ranks", ranks)
+                        .put(
+                                "address",
+                                new Struct(ADDRESS_SCHEMA)
+                                        .put("city", "Hangzhou\t\"West\"")
+                                        .put("zip", null))
+                        .put("escaped \"name\"\n", "\u0000\u001f");
+        if (id % 2 == 0) {
+            row.put("small", (short) 12345)
+                    .put("double", 1e-300)
+                    .put("name", "car battery")
+                    .put("description", "12V car battery");
+        }
+        return row;
+    }
+
+    private static class ListCollector implements Collector<String> {
+
+        private final List<String> list = new ArrayList<>();
+
+        @Override
+        public void collect(String record) {
+            list.add(record);
+        }
+
+        @Override
+        public void close() {}
+    }
+}
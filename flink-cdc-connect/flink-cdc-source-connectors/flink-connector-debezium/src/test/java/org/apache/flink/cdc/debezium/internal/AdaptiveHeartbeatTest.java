@@ -0,0 +1,53 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.debezium.internal;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/** Unit test for {@link AdaptiveHeartbeat}. */
+class AdaptiveHeartbeatTest {
+
+    @Test
+    void testHeartbeatsSkippedWhileDataFlows() {
+        AtomicLong now = new AtomicLong(1000L);
+        AdaptiveHeartbeat heartbeat = new AdaptiveHeartbeat(500L, now::get);
+        assertThat(heartbeat.isIdle()).isFalse();
+
+        now.addAndGet(500L);
+        assertThat(heartbeat.isIdle()).isTrue();
+
+        heartbeat.onDataChangeEvent();
+        now.addAndGet(499L);
+        assertThat(heartbeat.isIdle()).isFalse();
+
+        now.addAndGet(1L);
+        assertThat(heartbeat.isIdle()).isTrue();
+    }
+
+    @Test
+    void testHeartbeatsAlwaysDispatchedWithoutIdleTimeout() {
+        AtomicLong now = new AtomicLong(1000L);
+        AdaptiveHeartbeat heartbeat = new AdaptiveHeartbeat(0L, now::get);
+        heartbeat.onDataChangeEvent();
+        assertThat(heartbeat.isIdle()).isTrue();
+    }
+}
@@ -19,12 +19,14 @@ package org.apache.flink.cdc.connectors.mongodb.source;
 
 import org.apache.flink.cdc.common.annotation.Experimental;
 import org.apache.flink.cdc.common.annotation.PublicEvolving;
+import org.apache.flink.cdc.common.source.SnapshotPushDown;
 import org.apache.flink.cdc.connectors.base.options.StartupOptions;
 import org.apache.flink.cdc.connectors.base.source.enumerator.IncrementalSourceEnumerator;
 import org.apache.flink.cdc.connectors.mongodb.source.config.MongoDBSourceConfigFactory;
 import org.apache.flink.cdc.debezium.DebeziumDeserializationSchema;
 
 import java.util.Arrays;
+import java.util.List;
 import java.util.stream.Stream;
 
 import static org.apache.flink.util.Preconditions.checkArgument;
@@ -145,6 +147,17 @@ public class MongoDBSourceBuilder<T> {
         return this;
     }
 
+    /**
+     * poll.max.queue.size.in.bytes
+     *
+     * <p>Maximum size in bytes of the change stream documents buffered internally in the connector,
+     * a single batch takes at most half of it. Default: 0, which means no limit.
+     */
+    public MongoDBSourceBuilder<T> pollMaxQueueSizeInBytes(long pollMaxQueueSizeInBytes) {
+        this.configFactory.pollMaxQueueSizeInBytes(pollMaxQueueSizeInBytes);
+        return this;
+    }
+
     /**
      * scan.startup.mode
      *
@@ -277,6 +290,35 @@ public class MongoDBSourceBuilder<T> {
         return this;
     }
 
+    /**
+     * The number of snapshot splits the readers of the {@link MongoDBSource} request ahead of the
+     * split they read, so that the next snapshot query starts without waiting for the enumerator.
+     */
+    public MongoDBSourceBuilder<T> snapshotPrefetchSplits(int snapshotPrefetchSplits) {
+        this.configFactory.snapshotPrefetchSplits(snapshotPrefetchSplits);
+        return this;
+    }
+
+    /**
+     * Times one of every N records emitted by the readers of the {@link MongoDBSource} for the
+     * stream phase metrics. Defaults to 0, which disables these metrics.
+     */
+    public MongoDBSourceBuilder<T> streamPhaseMetricsSampleInterval(
+            int streamPhaseMetricsSampleInterval) {
+        this.configFactory.streamPhaseMetricsSampleInterval(streamPhaseMetricsSampleInterval);
+        return this;
+    }
+
+    /**
+     * The fields and documents required by the downstream, which are pushed down to the snapshot
+     * queries and the change stream as projections and filters. All fields and documents are read
+     * by default.
+     */
+    public MongoDBSourceBuilder<T> snapshotPushDowns(List<SnapshotPushDown> snapshotPushDowns) {
+        this.configFactory.snapshotPushDowns(snapshotPushDowns);
+        return this;
+    }
+
     /**
      * Build the {@link MongoDBSource}.
      *
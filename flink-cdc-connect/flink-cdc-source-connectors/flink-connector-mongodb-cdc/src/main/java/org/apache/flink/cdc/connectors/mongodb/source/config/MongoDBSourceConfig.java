@@ -17,6 +17,7 @@
 
 package org.apache.flink.cdc.connectors.mongodb.source.config;
 
+import org.apache.flink.cdc.common.source.SnapshotPushDown;
 import org.apache.flink.cdc.connectors.base.config.SourceConfig;
 import org.apache.flink.cdc.connectors.base.options.StartupOptions;
 import org.apache.flink.cdc.connectors.mongodb.source.MongoDBSource;
@@ -44,6 +45,7 @@ public class MongoDBSourceConfig implements SourceConfig {
     private final int batchSize;
     private final int pollAwaitTimeMillis;
     private final int pollMaxBatchSize;
+    private final long pollMaxQueueSizeInBytes;
     private final boolean updateLookup;
     private final StartupOptions startupOptions;
     private final int heartbeatIntervalMillis;
@@ -56,6 +58,9 @@ public class MongoDBSourceConfig implements SourceConfig {
     private final boolean skipSnapshotBackfill;
     private final boolean isScanNewlyAddedTableEnabled;
     private final boolean assignUnboundedChunkFirst;
+    private final int snapshotPrefetchSplits;
+    private final int streamPhaseMetricsSampleInterval;
+    private final List<SnapshotPushDown> snapshotPushDowns;
 
     MongoDBSourceConfig(
             String scheme,
@@ -68,6 +73,7 @@ public class MongoDBSourceConfig implements SourceConfig {
             int batchSize,
             int pollAwaitTimeMillis,
             int pollMaxBatchSize,
+            long pollMaxQueueSizeInBytes,
             boolean updateLookup,
             StartupOptions startupOptions,
             int heartbeatIntervalMillis,
@@ -79,7 +85,10 @@ public class MongoDBSourceConfig implements SourceConfig {
             boolean disableCursorTimeout,
             boolean skipSnapshotBackfill,
             boolean isScanNewlyAddedTableEnabled,
-            boolean assignUnboundedChunkFirst) {
+            boolean assignUnboundedChunkFirst,
+            int snapshotPrefetchSplits,
+            int streamPhaseMetricsSampleInterval,
+            List<SnapshotPushDown> snapshotPushDowns) {
         this.scheme = checkNotNull(scheme);
         this.hosts = checkNotNull(hosts);
         this.username = username;
@@ -91,6 +100,7 @@ public class MongoDBSourceConfig implements SourceConfig {
         this.batchSize = batchSize;
         this.pollAwaitTimeMillis = pollAwaitTimeMillis;
         this.pollMaxBatchSize = pollMaxBatchSize;
+        this.pollMaxQueueSizeInBytes = pollMaxQueueSizeInBytes;
         this.updateLookup = updateLookup;
         this.startupOptions = startupOptions;
         this.heartbeatIntervalMillis = heartbeatIntervalMillis;
@@ -103,6 +113,9 @@ public class MongoDBSourceConfig implements SourceConfig {
         this.skipSnapshotBackfill = skipSnapshotBackfill;
         this.isScanNewlyAddedTableEnabled = isScanNewlyAddedTableEnabled;
         this.assignUnboundedChunkFirst = assignUnboundedChunkFirst;
+        this.snapshotPrefetchSplits = snapshotPrefetchSplits;
+        this.streamPhaseMetricsSampleInterval = streamPhaseMetricsSampleInterval;
+        this.snapshotPushDowns = snapshotPushDowns;
     }
 
     public String getScheme() {
@@ -149,6 +162,10 @@ public class MongoDBSourceConfig implements SourceConfig {
         return pollMaxBatchSize;
     }
 
+    public long getPollMaxQueueSizeInBytes() {
+        return pollMaxQueueSizeInBytes;
+    }
+
     public int getHeartbeatIntervalMillis() {
         return heartbeatIntervalMillis;
     }
@@ -207,6 +224,20 @@ public class MongoDBSourceConfig implements SourceConfig {
         return assignUnboundedChunkFirst;
     }
 
+    @Override
+    public int getSnapshotPrefetchSplits() {
+        return snapshotPrefetchSplits;
+    }
+
+    @Override
+    public int getStreamPhaseMetricsSampleInterval() {
+        return streamPhaseMetricsSampleInterval;
+    }
+
+    public List<SnapshotPushDown> getSnapshotPushDowns() {
+        return snapshotPushDowns;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) {
@@ -219,6 +250,7 @@ public class MongoDBSourceConfig implements SourceConfig {
         return batchSize == that.batchSize
                 && pollAwaitTimeMillis == that.pollAwaitTimeMillis
                 && pollMaxBatchSize == that.pollMaxBatchSize
+                && pollMaxQueueSizeInBytes == that.pollMaxQueueSizeInBytes
                 && updateLookup == that.updateLookup
                 && startupOptions == that.startupOptions
                 && heartbeatIntervalMillis == that.heartbeatIntervalMillis
@@ -226,6 +258,8 @@ public class MongoDBSourceConfig implements SourceConfig {
                 && splitSizeMB == that.splitSizeMB
                 && samplesPerChunk == that.samplesPerChunk
                 && closeIdleReaders == that.closeIdleReaders
+                && snapshotPrefetchSplits == that.snapshotPrefetchSplits
+                && streamPhaseMetricsSampleInterval == that.streamPhaseMetricsSampleInterval
                 && Objects.equals(scheme, that.scheme)
                 && Objects.equals(hosts, that.hosts)
                 && Objects.equals(username, that.username)
@@ -234,7 +268,8 @@ public class MongoDBSourceConfig implements SourceConfig {
                 && Objects.equals(collectionList, that.collectionList)
                 && Objects.equals(connectionString, that.connectionString)
                 && Objects.equals(skipSnapshotBackfill, that.skipSnapshotBackfill)
-                && Objects.equals(isScanNewlyAddedTableEnabled, that.isScanNewlyAddedTableEnabled);
+                && Objects.equals(isScanNewlyAddedTableEnabled, that.isScanNewlyAddedTableEnabled)
+                && Objects.equals(snapshotPushDowns, that.snapshotPushDowns);
     }
 
     @Override
@@ -250,6 +285,7 @@ public class MongoDBSourceConfig implements SourceConfig {
                 batchSize,
                 pollAwaitTimeMillis,
                 pollMaxBatchSize,
+                pollMaxQueueSizeInBytes,
                 updateLookup,
                 startupOptions,
                 heartbeatIntervalMillis,
@@ -258,6 +294,9 @@ public class MongoDBSourceConfig implements SourceConfig {
                 samplesPerChunk,
                 closeIdleReaders,
                 skipSnapshotBackfill,
-                isScanNewlyAddedTableEnabled);
+                isScanNewlyAddedTableEnabled,
+                snapshotPrefetchSplits,
+                streamPhaseMetricsSampleInterval,
+                snapshotPushDowns);
     }
 }
@@ -18,13 +18,17 @@
 package org.apache.flink.cdc.connectors.mongodb.source.config;
 
 import org.apache.flink.cdc.common.annotation.Internal;
+import org.apache.flink.cdc.common.source.SnapshotPushDown;
 import org.apache.flink.cdc.connectors.base.config.SourceConfig.Factory;
 import org.apache.flink.cdc.connectors.base.options.StartupOptions;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 
 import static org.apache.flink.cdc.connectors.base.options.SourceOptions.CHUNK_META_GROUP_SIZE;
+import static org.apache.flink.cdc.connectors.base.options.SourceOptions.SCAN_INCREMENTAL_SNAPSHOT_PREFETCH_SPLITS;
+import static org.apache.flink.cdc.connectors.base.options.SourceOptions.SCAN_INCREMENTAL_STREAM_PHASE_METRICS_SAMPLE_INTERVAL;
 import static org.apache.flink.cdc.connectors.base.utils.EnvironmentUtils.checkSupportCheckpointsAfterTasksFinished;
 import static org.apache.flink.cdc.connectors.mongodb.internal.MongoDBEnvelope.MONGODB_SCHEME;
 import static org.apache.flink.cdc.connectors.mongodb.internal.MongoDBEnvelope.MONGODB_SRV_SCHEME;
@@ -48,6 +52,8 @@ public class MongoDBSourceConfigFactory implements Factory<MongoDBSourceConfig>
     private Integer pollAwaitTimeMillis =
             MongoDBSourceOptions.POLL_AWAIT_TIME_MILLIS.defaultValue();
     private Integer pollMaxBatchSize = MongoDBSourceOptions.POLL_MAX_BATCH_SIZE.defaultValue();
+    private Long pollMaxQueueSizeInBytes =
+            MongoDBSourceOptions.POLL_MAX_QUEUE_SIZE_IN_BYTES.defaultValue();
     private boolean updateLookup = true;
     private StartupOptions startupOptions = StartupOptions.initial();
     private Integer heartbeatIntervalMillis =
@@ -60,9 +66,13 @@ public class MongoDBSourceConfigFactory implements Factory<MongoDBSourceConfig>
     private boolean closeIdleReaders = false;
     private boolean enableFullDocPrePostImage = false;
     private boolean disableCursorTimeout = true;
+    private List<SnapshotPushDown> snapshotPushDowns = new ArrayList<>();
     protected boolean skipSnapshotBackfill = false;
     protected boolean scanNewlyAddedTableEnabled = false;
     protected boolean assignUnboundedChunkFirst = false;
+    protected int snapshotPrefetchSplits = SCAN_INCREMENTAL_SNAPSHOT_PREFETCH_SPLITS.defaultValue();
+    protected int streamPhaseMetricsSampleInterval =
+            SCAN_INCREMENTAL_STREAM_PHASE_METRICS_SAMPLE_INTERVAL.defaultValue();
 
     /** The protocol connected to MongoDB. For example mongodb or mongodb+srv. */
     public MongoDBSourceConfigFactory scheme(String scheme) {
@@ -154,6 +164,18 @@ public class MongoDBSourceConfigFactory implements Factory<MongoDBSourceConfig>
         return this;
     }
 
+    /**
+     * poll.max.queue.size.in.bytes
+     *
+     * <p>Maximum size in bytes of the change stream documents buffered internally in the connector,
+     * a single batch takes at most half of it. Default: 0, which means no limit.
+     */
+    public MongoDBSourceConfigFactory pollMaxQueueSizeInBytes(long pollMaxQueueSizeInBytes) {
+        checkArgument(pollMaxQueueSizeInBytes >= 0);
+        this.pollMaxQueueSizeInBytes = pollMaxQueueSizeInBytes;
+        return this;
+    }
+
     /**
      * scan.startup.mode
      *
@@ -280,6 +302,36 @@ public class MongoDBSourceConfigFactory implements Factory<MongoDBSourceConfig>
         return this;
     }
 
+    /**
+     * The number of snapshot splits a reader requests ahead of the split it reads. Defaults to 0,
+     * which requests the next split after the current one is finished.
+     */
+    public MongoDBSourceConfigFactory snapshotPrefetchSplits(int snapshotPrefetchSplits) {
+        checkArgument(snapshotPrefetchSplits >= 0);
+        this.snapshotPrefetchSplits = snapshotPrefetchSplits;
+        return this;
+    }
+
+    /**
+     * Times one of every N emitted records for the stream phase metrics of the readers. Defaults to
+     * 0, which disables these metrics.
+     */
+    public MongoDBSourceConfigFactory streamPhaseMetricsSampleInterval(
+            int streamPhaseMetricsSampleInterval) {
+        checkArgument(streamPhaseMetricsSampleInterval >= 0);
+        this.streamPhaseMetricsSampleInterval = streamPhaseMetricsSampleInterval;
+        return this;
+    }
+
+    /**
+     * The fields and documents required while reading snapshot splits, which are pushed down to the
+     * snapshot queries and the change stream. All fields and documents are read by default.
+     */
+    public MongoDBSourceConfigFactory snapshotPushDowns(List<SnapshotPushDown> snapshotPushDowns) {
+        this.snapshotPushDowns = snapshotPushDowns;
+        return this;
+    }
+
     /** Creates a new {@link MongoDBSourceConfig} for the given subtask {@code subtaskId}. */
     @Override
     public MongoDBSourceConfig create(int subtaskId) {
@@ -295,6 +347,7 @@ public class MongoDBSourceConfigFactory implements Factory<MongoDBSourceConfig>
                 batchSize,
                 pollAwaitTimeMillis,
                 pollMaxBatchSize,
+                pollMaxQueueSizeInBytes,
                 updateLookup,
                 startupOptions,
                 heartbeatIntervalMillis,
@@ -306,6 +359,9 @@ public class MongoDBSourceConfigFactory implements Factory<MongoDBSourceConfig>
                 disableCursorTimeout,
                 skipSnapshotBackfill,
                 scanNewlyAddedTableEnabled,
-                assignUnboundedChunkFirst);
+                assignUnboundedChunkFirst,
+                snapshotPrefetchSplits,
+                streamPhaseMetricsSampleInterval,
+                snapshotPushDowns);
     }
 }
@@ -124,6 +124,17 @@ public class MongoDBSourceOptions {
                                     + "This setting can be used to limit the amount of data buffered internally in the connector. "
                                     + "Defaults to 1024.");
 
+    public static final ConfigOption<Long> POLL_MAX_QUEUE_SIZE_IN_BYTES =
+            ConfigOptions.key("poll.max.queue.size.in.bytes")
+                    .longType()
+                    .defaultValue(0L)
+                    .withDescription(
+                            "Maximum size in bytes of the change stream documents buffered "
+                                    + "internally in the connector, which also bounds the size of a single batch "
+                                    + "when polling for new data to half of it. "
+                                    + "The size of documents is estimated from their fields. "
+                                    + "Defaults to 0, which means no limit.");
+
     public static final ConfigOption<Integer> POLL_AWAIT_TIME_MILLIS =
             ConfigOptions.key("poll.await.time.ms")
                     .intType()
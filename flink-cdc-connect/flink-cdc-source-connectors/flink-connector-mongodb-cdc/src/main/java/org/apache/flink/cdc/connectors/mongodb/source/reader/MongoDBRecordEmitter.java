@@ -107,7 +107,7 @@ public final class MongoDBRecordEmitter<T> extends IncrementalSourceRecordEmitte
         outputCollector.output = output;
         // use mongo timestamp as the current message timestamp
         outputCollector.currentMessageTimestamp = MongoRecordUtils.getMessageTimestamp(element);
-        debeziumDeserializationSchema.deserialize(element, outputCollector);
+        deserializeElement(element);
     }
 
     @Override
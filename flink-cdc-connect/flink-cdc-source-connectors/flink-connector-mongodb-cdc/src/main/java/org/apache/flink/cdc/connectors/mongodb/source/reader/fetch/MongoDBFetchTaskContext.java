@@ -77,6 +77,7 @@ public class MongoDBFetchTaskContext implements FetchTask.Context {
                         .pollInterval(Duration.ofMillis(sourceConfig.getPollAwaitTimeMillis()))
                         .maxBatchSize(sourceConfig.getPollMaxBatchSize())
                         .maxQueueSize(queueSize)
+                        .maxQueueSizeInBytes(sourceConfig.getPollMaxQueueSizeInBytes())
                         .loggingContextSupplier(
                                 () ->
                                         LoggingContext.forConnector(
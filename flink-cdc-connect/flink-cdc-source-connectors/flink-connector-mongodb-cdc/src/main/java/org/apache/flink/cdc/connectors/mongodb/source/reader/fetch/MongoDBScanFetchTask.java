@@ -25,11 +25,13 @@ import org.apache.flink.cdc.connectors.base.source.meta.wartermark.WatermarkEven
 import org.apache.flink.cdc.connectors.base.source.meta.wartermark.WatermarkKind;
 import org.apache.flink.cdc.connectors.base.source.reader.external.AbstractScanFetchTask;
 import org.apache.flink.cdc.connectors.mongodb.source.config.MongoDBSourceConfig;
+import org.apache.flink.cdc.connectors.mongodb.source.utils.MongoPushDownUtils;
 import org.apache.flink.cdc.connectors.mongodb.source.utils.MongoRecordUtils;
 
 import com.mongodb.client.MongoClient;
 import com.mongodb.client.MongoCollection;
 import com.mongodb.client.MongoCursor;
+import com.mongodb.client.model.Filters;
 import com.mongodb.client.model.changestream.OperationType;
 import io.debezium.connector.base.ChangeEventQueue;
 import io.debezium.pipeline.DataChangeEvent;
@@ -39,6 +41,7 @@ import org.bson.BsonDocument;
 import org.bson.BsonInt64;
 import org.bson.BsonString;
 import org.bson.RawBsonDocument;
+import org.bson.conversions.Bson;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -78,11 +81,21 @@ public class MongoDBScanFetchTask extends AbstractScanFetchTask {
             MongoCollection<RawBsonDocument> collection =
                     collectionFor(mongoClient, collectionId, RawBsonDocument.class);
 
+            Bson filter =
+                    MongoPushDownUtils.buildFilter(
+                                    sourceConfig.getSnapshotPushDowns(), collectionId)
+                            .orElse(Filters.empty());
+            Bson projection =
+                    MongoPushDownUtils.buildProjection(
+                                    sourceConfig.getSnapshotPushDowns(), collectionId)
+                            .orElse(null);
+
             // Using min and max operation to perform a specific index scan
             // See: https://www.mongodb.com/docs/manual/reference/method/cursor.min/
             cursor =
                     collection
-                            .find()
+                            .find(filter)
+                            .projection(projection)
                             .min((BsonDocument) snapshotSplit.getSplitStart()[1])
                             .max((BsonDocument) snapshotSplit.getSplitEnd()[1])
                             .hint((BsonDocument) snapshotSplit.getSplitStart()[0])
@@ -0,0 +1,281 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.connectors.mongodb.source.utils;
+
+import org.apache.flink.cdc.common.source.SnapshotPredicate;
+import org.apache.flink.cdc.common.source.SnapshotPushDown;
+
+import com.mongodb.client.model.changestream.OperationType;
+import io.debezium.relational.TableId;
+import org.bson.BsonArray;
+import org.bson.BsonDecimal128;
+import org.bson.BsonDocument;
+import org.bson.BsonInt64;
+import org.bson.BsonString;
+import org.bson.BsonType;
+import org.bson.BsonValue;
+import org.bson.conversions.Bson;
+import org.bson.types.Decimal128;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static com.mongodb.client.model.Aggregates.match;
+import static com.mongodb.client.model.Aggregates.project;
+import static com.mongodb.client.model.Filters.and;
+import static com.mongodb.client.model.Filters.eq;
+import static com.mongodb.client.model.Filters.gt;
+import static com.mongodb.client.model.Filters.gte;
+import static com.mongodb.client.model.Filters.lt;
+import static com.mongodb.client.model.Filters.lte;
+import static com.mongodb.client.model.Filters.ne;
+import static com.mongodb.client.model.Filters.or;
+import static com.mongodb.client.model.Filters.type;
+import static com.mongodb.client.model.Projections.include;
+import static java.util.Arrays.asList;
+import static org.apache.flink.cdc.connectors.mongodb.internal.MongoDBEnvelope.CLUSTER_TIME_FIELD;
+import static org.apache.flink.cdc.connectors.mongodb.internal.MongoDBEnvelope.DOCUMENT_KEY_FIELD;
+import static org.apache.flink.cdc.connectors.mongodb.internal.MongoDBEnvelope.FULL_DOCUMENT_BEFORE_CHANGE_FIELD;
+import static org.apache.flink.cdc.connectors.mongodb.internal.MongoDBEnvelope.FULL_DOCUMENT_FIELD;
+import static org.apache.flink.cdc.connectors.mongodb.internal.MongoDBEnvelope.ID_FIELD;
+import static org.apache.flink.cdc.connectors.mongodb.internal.MongoDBEnvelope.NAMESPACE_FIELD;
+import static org.apache.flink.cdc.connectors.mongodb.internal.MongoDBEnvelope.OPERATION_TYPE_FIELD;
+import static org.apache.flink.cdc.connectors.mongodb.internal.MongoDBEnvelope.TIMESTAMP_KEY_FIELD;
+
+/**
+ * Utilities to translate {@link SnapshotPushDown}s to the projections and filters of snapshot
+ * queries and change streams.
+ *
+ * <p>Filters are only translated if MongoDB evaluates them at least as permissively as the
+ * downstream does. MongoDB compares values in their BSON types, while fields are converted to the
+ * types of columns before being compared downstream, so documents whose field has a different BSON
+ * type than the literal are always kept.
+ */
+public class MongoPushDownUtils {
+
+    /** BSON types of integral numbers, which are converted to integral columns exactly. */
+    private static final BsonArray INTEGRAL_TYPES =
+            new BsonArray(asList(new BsonString("int"), new BsonString("long")));
+
+    private static final BsonArray STRING_TYPES = new BsonArray(asList(new BsonString("string")));
+
+    /** Fields of change stream events read by the source, besides those of full documents. */
+    private static final List<String> CHANGE_EVENT_FIELDS =
+            asList(
+                    OPERATION_TYPE_FIELD,
+                    NAMESPACE_FIELD,
+                    "to",
+                    DOCUMENT_KEY_FIELD,
+                    CLUSTER_TIME_FIELD,
+                    TIMESTAMP_KEY_FIELD,
+                    "txnNumber",
+                    "lsid");
+
+    private MongoPushDownUtils() {}
+
+    /**
+     * Returns the projection of snapshot queries of given collection, or empty if all fields are
+     * required. The {@code _id} field is always returned.
+     */
+    public static Optional<Bson> buildProjection(
+            List<SnapshotPushDown> pushDowns, TableId collectionId) {
+        return resolveRequiredFields(pushDowns, collectionId)
+                .map(
+                        fields -> {
+                            // an empty inclusion would return all fields
+                            Set<String> projected = new LinkedHashSet<>();
+                            projected.add(ID_FIELD);
+                            projected.addAll(fields);
+                            return include(new ArrayList<>(projected));
+                        });
+    }
+
+    /**
+     * Returns the filter of snapshot queries of given collection, or empty if all documents are
+     * required.
+     */
+    public static Optional<Bson> buildFilter(
+            List<SnapshotPushDown> pushDowns, TableId collectionId) {
+        return buildFilter(
+                SnapshotPushDown.resolvePredicates(pushDowns, toPushDownTableId(collectionId)), "");
+    }
+
+    /**
+     * Returns the stages appended to the change stream pipeline of given collection.
+     *
+     * <p>Only insert events are filtered, because dropping an update or a replacement of a document
+     * that no longer matches the filter would leave its previous version downstream. Projected
+     * events keep their {@code _id} field, which is the resume token, and all other fields read by
+     * the source.
+     */
+    public static List<Bson> buildChangeStreamStages(
+            List<SnapshotPushDown> pushDowns, TableId collectionId) {
+        List<Bson> stages = new ArrayList<>();
+        buildFilter(
+                        SnapshotPushDown.resolvePredicates(
+                                pushDowns, toPushDownTableId(collectionId)),
+                        FULL_DOCUMENT_FIELD + ".")
+                .ifPresent(
+                        filter ->
+                                stages.add(
+                                        match(
+                                                or(
+                                                        ne(
+                                                                OPERATION_TYPE_FIELD,
+                                                                OperationType.INSERT.getValue()),
+                                                        filter))));
+        resolveRequiredFields(pushDowns, collectionId)
+                .ifPresent(
+                        fields -> {
+                            List<String> projected = new ArrayList<>(CHANGE_EVENT_FIELDS);
+                            addDocumentFields(projected, FULL_DOCUMENT_FIELD, fields);
+                            addDocumentFields(projected, FULL_DOCUMENT_BEFORE_CHANGE_FIELD, fields);
+                            stages.add(project(include(projected)));
+                        });
+        return stages;
+    }
+
+    private static void addDocumentFields(
+            List<String> projected, String documentField, Collection<String> fields) {
+        projected.add(documentField + "." + ID_FIELD);
+        for (String field : fields) {
+            if (!ID_FIELD.equals(field)) {
+                projected.add(documentField + "." + field);
+            }
+        }
+    }
+
+    private static Optional<Set<String>> resolveRequiredFields(
+            List<SnapshotPushDown> pushDowns, TableId collectionId) {
+        Optional<Set<String>> requiredFields =
+                SnapshotPushDown.resolveRequiredColumns(pushDowns, toPushDownTableId(collectionId));
+        if (requiredFields.isPresent()
+                && requiredFields.get().stream().allMatch(MongoPushDownUtils::isTopLevelField)) {
+            return requiredFields;
+        }
+        return Optional.empty();
+    }
+
+    private static Optional<Bson> buildFilter(
+            List<List<SnapshotPredicate>> disjunction, String fieldPrefix) {
+        if (disjunction.isEmpty()) {
+            return Optional.empty();
+        }
+        List<Bson> disjuncts = new ArrayList<>();
+        for (List<SnapshotPredicate> conjunction : disjunction) {
+            List<Bson> conjuncts = new ArrayList<>();
+            for (SnapshotPredicate predicate : conjunction) {
+                translate(predicate, fieldPrefix).ifPresent(conjuncts::add);
+            }
+            if (conjuncts.isEmpty()) {
+                return Optional.empty();
+            }
+            disjuncts.add(conjuncts.size() == 1 ? conjuncts.get(0) : and(conjuncts));
+        }
+        return Optional.of(disjuncts.size() == 1 ? disjuncts.get(0) : or(disjuncts));
+    }
+
+    private static Optional<Bson> translate(SnapshotPredicate predicate, String fieldPrefix) {
+        if (!isTopLevelField(predicate.getColumnName())) {
+            return Optional.empty();
+        }
+        String field = fieldPrefix + predicate.getColumnName();
+        SnapshotPredicate.Operator operator = predicate.getOperator();
+        if (operator == SnapshotPredicate.Operator.IS_NULL) {
+            // matches null, undefined and missing fields
+            return Optional.of(or(eq(field, null), type(field, BsonType.UNDEFINED)));
+        } else if (operator == SnapshotPredicate.Operator.IS_NOT_NULL) {
+            return Optional.of(ne(field, null));
+        }
+
+        Object literal = predicate.getLiteral();
+        BsonValue value;
+        BsonArray types;
+        if (literal instanceof BigDecimal) {
+            Optional<BsonValue> number = toBsonNumber((BigDecimal) literal);
+            if (!number.isPresent()) {
+                return Optional.empty();
+            }
+            value = number.get();
+            types = INTEGRAL_TYPES;
+        } else if (literal instanceof String
+                && (operator == SnapshotPredicate.Operator.EQUALS
+                        || operator == SnapshotPredicate.Operator.NOT_EQUALS)) {
+            value = new BsonString((String) literal);
+            types = STRING_TYPES;
+        } else {
+            return Optional.empty();
+        }
+
+        Bson comparison;
+        switch (operator) {
+            case EQUALS:
+                comparison = eq(field, value);
+                break;
+            case NOT_EQUALS:
+                comparison = ne(field, value);
+                break;
+            case LESS_THAN:
+                comparison = lt(field, value);
+                break;
+            case LESS_THAN_OR_EQUAL:
+                comparison = lte(field, value);
+                break;
+            case GREATER_THAN:
+                comparison = gt(field, value);
+                break;
+            case GREATER_THAN_OR_EQUAL:
+                comparison = gte(field, value);
+                break;
+            default:
+                return Optional.empty();
+        }
+        BsonDocument otherTypes =
+                new BsonDocument(field, new BsonDocument("$not", new BsonDocument("$type", types)));
+        return Optional.of(or(comparison, otherTypes));
+    }
+
+    private static Optional<BsonValue> toBsonNumber(BigDecimal number) {
+        try {
+            BigDecimal stripped = number.stripTrailingZeros();
+            if (stripped.scale() <= 0) {
+                return Optional.of(new BsonInt64(stripped.longValueExact()));
+            }
+            return Optional.of(new BsonDecimal128(new Decimal128(number)));
+        } catch (ArithmeticException | NumberFormatException e) {
+            // beyond the range of BSON numbers
+            return Optional.empty();
+        }
+    }
+
+    /** Fields with dots or dollar signs would be interpreted as paths or operators. */
+    private static boolean isTopLevelField(String field) {
+        return !field.isEmpty() && field.indexOf('.') < 0 && !field.startsWith("$");
+    }
+
+    private static org.apache.flink.cdc.common.event.TableId toPushDownTableId(
+            TableId collectionId) {
+        return org.apache.flink.cdc.common.event.TableId.tableId(
+                collectionId.catalog(), collectionId.table());
+    }
+}
@@ -46,6 +46,7 @@ import org.slf4j.LoggerFactory;
 import javax.annotation.Nullable;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Locale;
@@ -181,6 +182,17 @@ public class MongoUtils {
 
     public static ChangeStreamIterable<Document> getChangeStreamIterable(
             MongoDBSourceConfig sourceConfig, ChangeStreamDescriptor descriptor) {
+        List<Bson> pushDownStages = Collections.emptyList();
+        if (StringUtils.isNotEmpty(descriptor.getDatabase())
+                && StringUtils.isNotEmpty(descriptor.getCollection())) {
+            // Push-downs are resolved per collection, so they're only applied to the change
+            // stream of a single collection
+            pushDownStages =
+                    MongoPushDownUtils.buildChangeStreamStages(
+                            sourceConfig.getSnapshotPushDowns(),
+                            new TableId(
+                                    descriptor.getDatabase(), null, descriptor.getCollection()));
+        }
         return getChangeStreamIterable(
                 clientFor(sourceConfig),
                 descriptor.getDatabase(),
@@ -189,7 +201,8 @@ public class MongoUtils {
                 descriptor.getNamespaceRegex(),
                 sourceConfig.getBatchSize(),
                 sourceConfig.isUpdateLookup(),
-                sourceConfig.isFullDocPrePostImageEnabled());
+                sourceConfig.isFullDocPrePostImageEnabled(),
+                pushDownStages);
     }
 
     public static ChangeStreamIterable<Document> getChangeStreamIterable(
@@ -218,12 +231,40 @@ public class MongoUtils {
             int batchSize,
             boolean updateLookup,
             boolean fullDocPrePostImage) {
+        return getChangeStreamIterable(
+                mongoClient,
+                database,
+                collection,
+                databaseRegex,
+                namespaceRegex,
+                batchSize,
+                updateLookup,
+                fullDocPrePostImage,
+                Collections.emptyList());
+    }
+
+    /**
+     * Returns the change stream of given namespaces, whose pipeline ends with given stages.
+     *
+     * @param pushDownStages stages that filter or project change events, which should keep the
+     *     {@code _id} field of events as their resume token
+     */
+    public static ChangeStreamIterable<Document> getChangeStreamIterable(
+            MongoClient mongoClient,
+            @Nullable String database,
+            @Nullable String collection,
+            @Nullable Pattern databaseRegex,
+            @Nullable Pattern namespaceRegex,
+            int batchSize,
+            boolean updateLookup,
+            boolean fullDocPrePostImage,
+            List<Bson> pushDownStages) {
         ChangeStreamIterable<Document> changeStream;
         if (StringUtils.isNotEmpty(database) && StringUtils.isNotEmpty(collection)) {
             MongoCollection<Document> coll =
                     mongoClient.getDatabase(database).getCollection(collection);
             LOG.info("Preparing change stream for collection {}.{}", database, collection);
-            changeStream = coll.watch();
+            changeStream = coll.watch(pushDownStages);
         } else if (StringUtils.isNotEmpty(database) && namespaceRegex != null) {
             MongoDatabase db = mongoClient.getDatabase(database);
             List<Bson> pipeline = new ArrayList<>();
@@ -231,6 +272,7 @@ public class MongoUtils {
             Bson nsFilter =
                     Filters.regex(CollectionDiscoveryUtils.ADD_NS_FIELD_NAME, namespaceRegex);
             pipeline.add(match(nsFilter));
+            pipeline.addAll(pushDownStages);
             LOG.info(
                     "Preparing change stream for database {} with namespace regex filter {}",
                     database,
@@ -239,7 +281,7 @@ public class MongoUtils {
         } else if (StringUtils.isNotEmpty(database)) {
             MongoDatabase db = mongoClient.getDatabase(database);
             LOG.info("Preparing change stream for database {}", database);
-            changeStream = db.watch();
+            changeStream = db.watch(pushDownStages);
         } else if (namespaceRegex != null) {
             List<Bson> pipeline = new ArrayList<>();
             pipeline.add(CollectionDiscoveryUtils.ADD_NS_FIELD);
@@ -261,10 +303,12 @@ public class MongoUtils {
             }
 
             pipeline.add(match(nsFilter));
+            pipeline.addAll(pushDownStages);
             changeStream = mongoClient.watch(pipeline);
         } else if (databaseRegex != null) {
             List<Bson> pipeline = new ArrayList<>();
             pipeline.add(match(regex("ns.db", databaseRegex)));
+            pipeline.addAll(pushDownStages);
 
             LOG.info(
                     "Preparing change stream for deployment  with database regex filter {}",
@@ -272,7 +316,7 @@ public class MongoUtils {
             changeStream = mongoClient.watch(pipeline);
         } else {
             LOG.info("Preparing change stream for deployment");
-            changeStream = mongoClient.watch();
+            changeStream = mongoClient.watch(pushDownStages);
         }
 
         if (batchSize > 0) {
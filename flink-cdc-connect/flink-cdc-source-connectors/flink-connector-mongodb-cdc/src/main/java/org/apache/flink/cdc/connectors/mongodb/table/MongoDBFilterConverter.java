@@ -0,0 +1,141 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.connectors.mongodb.table;
+
+import org.apache.flink.cdc.common.source.SnapshotPredicate;
+import org.apache.flink.table.expressions.CallExpression;
+import org.apache.flink.table.expressions.FieldReferenceExpression;
+import org.apache.flink.table.expressions.ResolvedExpression;
+import org.apache.flink.table.expressions.ValueLiteralExpression;
+import org.apache.flink.table.functions.BuiltInFunctionDefinitions;
+import org.apache.flink.table.functions.FunctionDefinition;
+import org.apache.flink.table.types.logical.LogicalTypeRoot;
+
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Converts filters of a {@link MongoDBTableSource} to {@link SnapshotPredicate}s, which could be
+ * pushed down to MongoDB.
+ *
+ * <p>Only comparisons of integral and string columns with literals are converted, as other types
+ * are not compared by MongoDB in the same way as they're compared after conversion.
+ */
+class MongoDBFilterConverter {
+
+    private static final Map<FunctionDefinition, SnapshotPredicate.Operator> COMPARISONS =
+            new HashMap<>();
+
+    static {
+        COMPARISONS.put(BuiltInFunctionDefinitions.EQUALS, SnapshotPredicate.Operator.EQUALS);
+        COMPARISONS.put(
+                BuiltInFunctionDefinitions.NOT_EQUALS, SnapshotPredicate.Operator.NOT_EQUALS);
+        COMPARISONS.put(BuiltInFunctionDefinitions.LESS_THAN, SnapshotPredicate.Operator.LESS_THAN);
+        COMPARISONS.put(
+                BuiltInFunctionDefinitions.LESS_THAN_OR_EQUAL,
+                SnapshotPredicate.Operator.LESS_THAN_OR_EQUAL);
+        COMPARISONS.put(
+                BuiltInFunctionDefinitions.GREATER_THAN, SnapshotPredicate.Operator.GREATER_THAN);
+        COMPARISONS.put(
+                BuiltInFunctionDefinitions.GREATER_THAN_OR_EQUAL,
+                SnapshotPredicate.Operator.GREATER_THAN_OR_EQUAL);
+    }
+
+    private MongoDBFilterConverter() {}
+
+    /** Returns the predicate equivalent to given filter, or empty if it could not be converted. */
+    static Optional<SnapshotPredicate> convert(ResolvedExpression filter) {
+        if (!(filter instanceof CallExpression)) {
+            return Optional.empty();
+        }
+        CallExpression call = (CallExpression) filter;
+        FunctionDefinition function = call.getFunctionDefinition();
+        List<ResolvedExpression> args = call.getResolvedChildren();
+
+        if (args.size() == 1 && args.get(0) instanceof FieldReferenceExpression) {
+            String field = ((FieldReferenceExpression) args.get(0)).getName();
+            if (function == BuiltInFunctionDefinitions.IS_NULL) {
+                return Optional.of(SnapshotPredicate.isNull(field));
+            } else if (function == BuiltInFunctionDefinitions.IS_NOT_NULL) {
+                return Optional.of(SnapshotPredicate.isNotNull(field));
+            }
+            return Optional.empty();
+        }
+
+        SnapshotPredicate.Operator operator = COMPARISONS.get(function);
+        if (operator == null || args.size() != 2) {
+            return Optional.empty();
+        }
+        FieldReferenceExpression field;
+        ValueLiteralExpression literal;
+        if (args.get(0) instanceof FieldReferenceExpression
+                && args.get(1) instanceof ValueLiteralExpression) {
+            field = (FieldReferenceExpression) args.get(0);
+            literal = (ValueLiteralExpression) args.get(1);
+        } else if (args.get(0) instanceof ValueLiteralExpression
+                && args.get(1) instanceof FieldReferenceExpression) {
+            field = (FieldReferenceExpression) args.get(1);
+            literal = (ValueLiteralExpression) args.get(0);
+            operator = reverse(operator);
+        } else {
+            return Optional.empty();
+        }
+
+        LogicalTypeRoot typeRoot = field.getOutputDataType().getLogicalType().getTypeRoot();
+        switch (typeRoot) {
+            case INTEGER:
+            case BIGINT:
+                Optional<Number> number = literal.getValueAs(Number.class);
+                if (!number.isPresent()) {
+                    return Optional.empty();
+                }
+                return Optional.of(
+                        SnapshotPredicate.of(
+                                field.getName(),
+                                operator,
+                                new BigDecimal(number.get().toString())));
+            case CHAR:
+            case VARCHAR:
+                Optional<String> string = literal.getValueAs(String.class);
+                if (!string.isPresent()) {
+                    return Optional.empty();
+                }
+                return Optional.of(SnapshotPredicate.of(field.getName(), operator, string.get()));
+            default:
+                return Optional.empty();
+        }
+    }
+
+    private static SnapshotPredicate.Operator reverse(SnapshotPredicate.Operator operator) {
+        switch (operator) {
+            case LESS_THAN:
+                return SnapshotPredicate.Operator.GREATER_THAN;
+            case LESS_THAN_OR_EQUAL:
+                return SnapshotPredicate.Operator.GREATER_THAN_OR_EQUAL;
+            case GREATER_THAN:
+                return SnapshotPredicate.Operator.LESS_THAN;
+            case GREATER_THAN_OR_EQUAL:
+                return SnapshotPredicate.Operator.LESS_THAN_OR_EQUAL;
+            default:
+                return operator;
+        }
+    }
+}
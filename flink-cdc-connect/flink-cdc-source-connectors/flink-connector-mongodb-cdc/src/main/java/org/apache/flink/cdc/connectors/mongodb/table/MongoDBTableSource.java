@@ -18,6 +18,7 @@
 package org.apache.flink.cdc.connectors.mongodb.table;
 
 import org.apache.flink.api.common.typeinfo.TypeInformation;
+import org.apache.flink.cdc.common.source.SnapshotPredicate;
 import org.apache.flink.cdc.connectors.base.options.StartupOptions;
 import org.apache.flink.cdc.connectors.mongodb.source.MongoDBSource;
 import org.apache.flink.cdc.connectors.mongodb.source.MongoDBSourceBuilder;
@@ -25,12 +26,16 @@ import org.apache.flink.cdc.debezium.DebeziumDeserializationSchema;
 import org.apache.flink.cdc.debezium.table.MetadataConverter;
 import org.apache.flink.table.catalog.ResolvedSchema;
 import org.apache.flink.table.connector.ChangelogMode;
+import org.apache.flink.table.connector.Projection;
 import org.apache.flink.table.connector.source.DynamicTableSource;
 import org.apache.flink.table.connector.source.ScanTableSource;
 import org.apache.flink.table.connector.source.SourceFunctionProvider;
 import org.apache.flink.table.connector.source.SourceProvider;
+import org.apache.flink.table.connector.source.abilities.SupportsFilterPushDown;
+import org.apache.flink.table.connector.source.abilities.SupportsProjectionPushDown;
 import org.apache.flink.table.connector.source.abilities.SupportsReadingMetadata;
 import org.apache.flink.table.data.RowData;
+import org.apache.flink.table.expressions.ResolvedExpression;
 import org.apache.flink.table.types.DataType;
 import org.apache.flink.table.types.logical.RowType;
 
@@ -41,6 +46,7 @@ import org.slf4j.LoggerFactory;
 import javax.annotation.Nullable;
 
 import java.time.ZoneId;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
@@ -52,13 +58,18 @@ import java.util.stream.Stream;
 import static com.mongodb.MongoNamespace.checkCollectionNameValidity;
 import static com.mongodb.MongoNamespace.checkDatabaseNameValidity;
 import static org.apache.flink.cdc.connectors.mongodb.source.utils.CollectionDiscoveryUtils.inferIsRegularExpression;
+import static org.apache.flink.cdc.debezium.utils.SnapshotPushDownUtils.tableSourcePushDown;
 import static org.apache.flink.util.Preconditions.checkNotNull;
 
 /**
  * A {@link DynamicTableSource} that describes how to create a MongoDB change stream events source
  * from a logical description.
  */
-public class MongoDBTableSource implements ScanTableSource, SupportsReadingMetadata {
+public class MongoDBTableSource
+        implements ScanTableSource,
+                SupportsReadingMetadata,
+                SupportsProjectionPushDown,
+                SupportsFilterPushDown {
 
     private static final Logger LOG = LoggerFactory.getLogger(MongoDBTableSource.class);
 
@@ -77,6 +88,7 @@ public class MongoDBTableSource implements ScanTableSource, SupportsReadingMetad
     private final Integer batchSize;
     private final Integer pollMaxBatchSize;
     private final Integer pollAwaitTimeMillis;
+    private final Long pollMaxQueueSizeInBytes;
     private final Integer heartbeatIntervalMillis;
     private final ZoneId localTimeZone;
     private final boolean enableParallelRead;
@@ -89,6 +101,8 @@ public class MongoDBTableSource implements ScanTableSource, SupportsReadingMetad
     private final boolean skipSnapshotBackfill;
     private final boolean scanNewlyAddedTableEnabled;
     private final boolean assignUnboundedChunkFirst;
+    private final int streamPhaseMetricsSampleInterval;
+    private final int snapshotPrefetchSplits;
 
     // --------------------------------------------------------------------------------------------
     // Mutable attributes
@@ -97,9 +111,15 @@ public class MongoDBTableSource implements ScanTableSource, SupportsReadingMetad
     /** Data type that describes the final output of the source. */
     protected DataType producedDataType;
 
+    /** Data type that describes the physical columns read by the source. */
+    protected DataType physicalDataType;
+
     /** Metadata that is appended at the end of a physical source row. */
     protected List<String> metadataKeys;
 
+    /** Predicates of filters that are pushed down to MongoDB. */
+    protected List<SnapshotPredicate> predicates;
+
     public MongoDBTableSource(
             ResolvedSchema physicalSchema,
             String scheme,
@@ -116,6 +136,7 @@ public class MongoDBTableSource implements ScanTableSource, SupportsReadingMetad
             @Nullable Integer batchSize,
             @Nullable Integer pollMaxBatchSize,
             @Nullable Integer pollAwaitTimeMillis,
+            @Nullable Long pollMaxQueueSizeInBytes,
             @Nullable Integer heartbeatIntervalMillis,
             ZoneId localTimeZone,
             boolean enableParallelRead,
@@ -127,7 +148,9 @@ public class MongoDBTableSource implements ScanTableSource, SupportsReadingMetad
             boolean noCursorTimeout,
             boolean skipSnapshotBackfill,
             boolean scanNewlyAddedTableEnabled,
-            boolean assignUnboundedChunkFirst) {
+            boolean assignUnboundedChunkFirst,
+            int streamPhaseMetricsSampleInterval,
+            int snapshotPrefetchSplits) {
         this.physicalSchema = physicalSchema;
         this.scheme = checkNotNull(scheme);
         this.hosts = checkNotNull(hosts);
@@ -143,10 +166,13 @@ public class MongoDBTableSource implements ScanTableSource, SupportsReadingMetad
         this.batchSize = batchSize;
         this.pollMaxBatchSize = pollMaxBatchSize;
         this.pollAwaitTimeMillis = pollAwaitTimeMillis;
+        this.pollMaxQueueSizeInBytes = pollMaxQueueSizeInBytes;
         this.heartbeatIntervalMillis = heartbeatIntervalMillis;
         this.localTimeZone = localTimeZone;
+        this.physicalDataType = physicalSchema.toPhysicalRowDataType();
         this.producedDataType = physicalSchema.toPhysicalRowDataType();
         this.metadataKeys = Collections.emptyList();
+        this.predicates = Collections.emptyList();
         this.enableParallelRead = enableParallelRead;
         this.splitMetaGroupSize = splitMetaGroupSize;
         this.splitSizeMB = splitSizeMB;
@@ -157,6 +183,8 @@ public class MongoDBTableSource implements ScanTableSource, SupportsReadingMetad
         this.skipSnapshotBackfill = skipSnapshotBackfill;
         this.scanNewlyAddedTableEnabled = scanNewlyAddedTableEnabled;
         this.assignUnboundedChunkFirst = assignUnboundedChunkFirst;
+        this.streamPhaseMetricsSampleInterval = streamPhaseMetricsSampleInterval;
+        this.snapshotPrefetchSplits = snapshotPrefetchSplits;
     }
 
     @Override
@@ -172,17 +200,16 @@ public class MongoDBTableSource implements ScanTableSource, SupportsReadingMetad
 
     @Override
     public ScanRuntimeProvider getScanRuntimeProvider(ScanContext scanContext) {
-        RowType physicalDataType =
-                (RowType) physicalSchema.toPhysicalRowDataType().getLogicalType();
+        RowType physicalRowType = (RowType) physicalDataType.getLogicalType();
         MetadataConverter[] metadataConverters = getMetadataConverters();
         TypeInformation<RowData> typeInfo = scanContext.createTypeInformation(producedDataType);
 
         DebeziumDeserializationSchema<RowData> deserializer =
                 enableFullDocPrePostImage
                         ? new MongoDBConnectorFullChangelogDeserializationSchema(
-                                physicalDataType, metadataConverters, typeInfo, localTimeZone)
+                                physicalRowType, metadataConverters, typeInfo, localTimeZone)
                         : new MongoDBConnectorDeserializationSchema(
-                                physicalDataType, metadataConverters, typeInfo, localTimeZone);
+                                physicalRowType, metadataConverters, typeInfo, localTimeZone);
 
         String databaseList = null;
         String collectionList = null;
@@ -214,10 +241,16 @@ public class MongoDBTableSource implements ScanTableSource, SupportsReadingMetad
                             .scanFullChangelog(enableFullDocPrePostImage)
                             .startupOptions(startupOptions)
                             .skipSnapshotBackfill(skipSnapshotBackfill)
+                            .snapshotPrefetchSplits(snapshotPrefetchSplits)
+                            .streamPhaseMetricsSampleInterval(streamPhaseMetricsSampleInterval)
                             .scanNewlyAddedTableEnabled(scanNewlyAddedTableEnabled)
                             .deserializer(deserializer)
                             .disableCursorTimeout(noCursorTimeout)
-                            .assignUnboundedChunkFirst(assignUnboundedChunkFirst);
+                            .assignUnboundedChunkFirst(assignUnboundedChunkFirst)
+                            .snapshotPushDowns(
+                                    Collections.singletonList(
+                                            tableSourcePushDown(
+                                                    physicalRowType.getFieldNames(), predicates)));
 
             Optional.ofNullable(databaseList).ifPresent(builder::databaseList);
             Optional.ofNullable(collectionList).ifPresent(builder::collectionList);
@@ -227,6 +260,8 @@ public class MongoDBTableSource implements ScanTableSource, SupportsReadingMetad
             Optional.ofNullable(batchSize).ifPresent(builder::batchSize);
             Optional.ofNullable(pollMaxBatchSize).ifPresent(builder::pollMaxBatchSize);
             Optional.ofNullable(pollAwaitTimeMillis).ifPresent(builder::pollAwaitTimeMillis);
+            Optional.ofNullable(pollMaxQueueSizeInBytes)
+                    .ifPresent(builder::pollMaxQueueSizeInBytes);
             Optional.ofNullable(heartbeatIntervalMillis)
                     .ifPresent(builder::heartbeatIntervalMillis);
             Optional.ofNullable(splitMetaGroupSize).ifPresent(builder::splitMetaGroupSize);
@@ -294,6 +329,35 @@ public class MongoDBTableSource implements ScanTableSource, SupportsReadingMetad
         this.producedDataType = producedDataType;
     }
 
+    @Override
+    public boolean supportsNestedProjection() {
+        return false;
+    }
+
+    @Override
+    public void applyProjection(int[][] projectedFields, DataType producedDataType) {
+        this.physicalDataType = Projection.of(projectedFields).project(physicalDataType);
+        this.producedDataType = producedDataType;
+    }
+
+    @Override
+    public Result applyFilters(List<ResolvedExpression> filters) {
+        List<SnapshotPredicate> predicates = new ArrayList<>();
+        List<ResolvedExpression> acceptedFilters = new ArrayList<>();
+        for (ResolvedExpression filter : filters) {
+            MongoDBFilterConverter.convert(filter)
+                    .ifPresent(
+                            predicate -> {
+                                predicates.add(predicate);
+                                acceptedFilters.add(filter);
+                            });
+        }
+        this.predicates = predicates;
+        // MongoDB keeps documents that may match filters after conversion, and changes of
+        // documents that no longer match them, so all filters are still applied by the planner.
+        return Result.of(acceptedFilters, filters);
+    }
+
     @Override
     public DynamicTableSource copy() {
         MongoDBTableSource source =
@@ -313,6 +377,7 @@ public class MongoDBTableSource implements ScanTableSource, SupportsReadingMetad
                         batchSize,
                         pollMaxBatchSize,
                         pollAwaitTimeMillis,
+                        pollMaxQueueSizeInBytes,
                         heartbeatIntervalMillis,
                         localTimeZone,
                         enableParallelRead,
@@ -324,8 +389,12 @@ public class MongoDBTableSource implements ScanTableSource, SupportsReadingMetad
                         noCursorTimeout,
                         skipSnapshotBackfill,
                         scanNewlyAddedTableEnabled,
-                        assignUnboundedChunkFirst);
+                        assignUnboundedChunkFirst,
+                        streamPhaseMetricsSampleInterval,
+                        snapshotPrefetchSplits);
         source.metadataKeys = metadataKeys;
+        source.physicalDataType = physicalDataType;
+        source.predicates = predicates;
         source.producedDataType = producedDataType;
         return source;
     }
@@ -354,20 +423,26 @@ public class MongoDBTableSource implements ScanTableSource, SupportsReadingMetad
                 && Objects.equals(batchSize, that.batchSize)
                 && Objects.equals(pollMaxBatchSize, that.pollMaxBatchSize)
                 && Objects.equals(pollAwaitTimeMillis, that.pollAwaitTimeMillis)
+                && Objects.equals(pollMaxQueueSizeInBytes, that.pollMaxQueueSizeInBytes)
                 && Objects.equals(heartbeatIntervalMillis, that.heartbeatIntervalMillis)
                 && Objects.equals(localTimeZone, that.localTimeZone)
                 && Objects.equals(enableParallelRead, that.enableParallelRead)
                 && Objects.equals(splitMetaGroupSize, that.splitMetaGroupSize)
                 && Objects.equals(splitSizeMB, that.splitSizeMB)
                 && Objects.equals(samplesPerChunk, that.samplesPerChunk)
+                && Objects.equals(physicalDataType, that.physicalDataType)
                 && Objects.equals(producedDataType, that.producedDataType)
                 && Objects.equals(metadataKeys, that.metadataKeys)
+                && Objects.equals(predicates, that.predicates)
                 && Objects.equals(closeIdlerReaders, that.closeIdlerReaders)
                 && Objects.equals(enableFullDocPrePostImage, that.enableFullDocPrePostImage)
                 && Objects.equals(noCursorTimeout, that.noCursorTimeout)
                 && Objects.equals(skipSnapshotBackfill, that.skipSnapshotBackfill)
                 && Objects.equals(scanNewlyAddedTableEnabled, that.scanNewlyAddedTableEnabled)
-                && Objects.equals(assignUnboundedChunkFirst, that.assignUnboundedChunkFirst);
+                && Objects.equals(assignUnboundedChunkFirst, that.assignUnboundedChunkFirst)
+                && Objects.equals(
+                        streamPhaseMetricsSampleInterval, that.streamPhaseMetricsSampleInterval)
+                && Objects.equals(snapshotPrefetchSplits, that.snapshotPrefetchSplits);
     }
 
     @Override
@@ -388,20 +463,25 @@ public class MongoDBTableSource implements ScanTableSource, SupportsReadingMetad
                 batchSize,
                 pollMaxBatchSize,
                 pollAwaitTimeMillis,
+                pollMaxQueueSizeInBytes,
                 heartbeatIntervalMillis,
                 localTimeZone,
                 enableParallelRead,
                 splitMetaGroupSize,
                 splitSizeMB,
                 samplesPerChunk,
+                physicalDataType,
                 producedDataType,
                 metadataKeys,
+                predicates,
                 closeIdlerReaders,
                 enableFullDocPrePostImage,
                 noCursorTimeout,
                 skipSnapshotBackfill,
                 scanNewlyAddedTableEnabled,
-                assignUnboundedChunkFirst);
+                assignUnboundedChunkFirst,
+                streamPhaseMetricsSampleInterval,
+                snapshotPrefetchSplits);
     }
 
     @Override
@@ -37,7 +37,9 @@ import java.util.Set;
 import static org.apache.flink.cdc.connectors.base.options.SourceOptions.CHUNK_META_GROUP_SIZE;
 import static org.apache.flink.cdc.connectors.base.options.SourceOptions.SCAN_INCREMENTAL_CLOSE_IDLE_READER_ENABLED;
 import static org.apache.flink.cdc.connectors.base.options.SourceOptions.SCAN_INCREMENTAL_SNAPSHOT_BACKFILL_SKIP;
+import static org.apache.flink.cdc.connectors.base.options.SourceOptions.SCAN_INCREMENTAL_SNAPSHOT_PREFETCH_SPLITS;
 import static org.apache.flink.cdc.connectors.base.options.SourceOptions.SCAN_INCREMENTAL_SNAPSHOT_UNBOUNDED_CHUNK_FIRST_ENABLED;
+import static org.apache.flink.cdc.connectors.base.options.SourceOptions.SCAN_INCREMENTAL_STREAM_PHASE_METRICS_SAMPLE_INTERVAL;
 import static org.apache.flink.cdc.connectors.base.options.SourceOptions.SCAN_NEWLY_ADDED_TABLE_ENABLED;
 import static org.apache.flink.cdc.connectors.base.options.SourceOptions.SCAN_STARTUP_MODE;
 import static org.apache.flink.cdc.connectors.base.options.SourceOptions.SCAN_STARTUP_TIMESTAMP_MILLIS;
@@ -54,6 +56,7 @@ import static org.apache.flink.cdc.connectors.mongodb.source.config.MongoDBSourc
 import static org.apache.flink.cdc.connectors.mongodb.source.config.MongoDBSourceOptions.PASSWORD;
 import static org.apache.flink.cdc.connectors.mongodb.source.config.MongoDBSourceOptions.POLL_AWAIT_TIME_MILLIS;
 import static org.apache.flink.cdc.connectors.mongodb.source.config.MongoDBSourceOptions.POLL_MAX_BATCH_SIZE;
+import static org.apache.flink.cdc.connectors.mongodb.source.config.MongoDBSourceOptions.POLL_MAX_QUEUE_SIZE_IN_BYTES;
 import static org.apache.flink.cdc.connectors.mongodb.source.config.MongoDBSourceOptions.SCAN_INCREMENTAL_SNAPSHOT_CHUNK_SAMPLES;
 import static org.apache.flink.cdc.connectors.mongodb.source.config.MongoDBSourceOptions.SCAN_INCREMENTAL_SNAPSHOT_CHUNK_SIZE_MB;
 import static org.apache.flink.cdc.connectors.mongodb.source.config.MongoDBSourceOptions.SCAN_INCREMENTAL_SNAPSHOT_ENABLED;
@@ -92,6 +95,7 @@ public class MongoDBTableSourceFactory implements DynamicTableSourceFactory {
         Integer batchSize = config.get(BATCH_SIZE);
         Integer pollMaxBatchSize = config.get(POLL_MAX_BATCH_SIZE);
         Integer pollAwaitTimeMillis = config.get(POLL_AWAIT_TIME_MILLIS);
+        Long pollMaxQueueSizeInBytes = config.get(POLL_MAX_QUEUE_SIZE_IN_BYTES);
 
         Integer heartbeatIntervalMillis = config.get(HEARTBEAT_INTERVAL_MILLIS);
 
@@ -127,6 +131,9 @@ public class MongoDBTableSourceFactory implements DynamicTableSourceFactory {
 
         boolean enableCloseIdleReaders = config.get(SCAN_INCREMENTAL_CLOSE_IDLE_READER_ENABLED);
         boolean skipSnapshotBackfill = config.get(SCAN_INCREMENTAL_SNAPSHOT_BACKFILL_SKIP);
+        int snapshotPrefetchSplits = config.get(SCAN_INCREMENTAL_SNAPSHOT_PREFETCH_SPLITS);
+        int streamPhaseMetricsSampleInterval =
+                config.get(SCAN_INCREMENTAL_STREAM_PHASE_METRICS_SAMPLE_INTERVAL);
         boolean scanNewlyAddedTableEnabled = config.get(SCAN_NEWLY_ADDED_TABLE_ENABLED);
         boolean assignUnboundedChunkFirst =
                 config.get(SCAN_INCREMENTAL_SNAPSHOT_UNBOUNDED_CHUNK_FIRST_ENABLED);
@@ -162,6 +169,7 @@ public class MongoDBTableSourceFactory implements DynamicTableSourceFactory {
                 batchSize,
                 pollMaxBatchSize,
                 pollAwaitTimeMillis,
+                pollMaxQueueSizeInBytes,
                 heartbeatIntervalMillis,
                 localTimeZone,
                 enableParallelRead,
@@ -173,7 +181,9 @@ public class MongoDBTableSourceFactory implements DynamicTableSourceFactory {
                 noCursorTimeout,
                 skipSnapshotBackfill,
                 scanNewlyAddedTableEnabled,
-                assignUnboundedChunkFirst);
+                assignUnboundedChunkFirst,
+                streamPhaseMetricsSampleInterval,
+                snapshotPrefetchSplits);
     }
 
     private void checkPrimaryKey(UniqueConstraint pk, String message) {
@@ -247,6 +257,7 @@ public class MongoDBTableSourceFactory implements DynamicTableSourceFactory {
         options.add(BATCH_SIZE);
         options.add(POLL_MAX_BATCH_SIZE);
         options.add(POLL_AWAIT_TIME_MILLIS);
+        options.add(POLL_MAX_QUEUE_SIZE_IN_BYTES);
         options.add(HEARTBEAT_INTERVAL_MILLIS);
         options.add(SCAN_INCREMENTAL_SNAPSHOT_ENABLED);
         options.add(SCAN_INCREMENTAL_SNAPSHOT_CHUNK_SIZE_MB);
@@ -256,6 +267,8 @@ public class MongoDBTableSourceFactory implements DynamicTableSourceFactory {
         options.add(FULL_DOCUMENT_PRE_POST_IMAGE);
         options.add(SCAN_NO_CURSOR_TIMEOUT);
         options.add(SCAN_INCREMENTAL_SNAPSHOT_BACKFILL_SKIP);
+        options.add(SCAN_INCREMENTAL_SNAPSHOT_PREFETCH_SPLITS);
+        options.add(SCAN_INCREMENTAL_STREAM_PHASE_METRICS_SAMPLE_INTERVAL);
         options.add(SCAN_NEWLY_ADDED_TABLE_ENABLED);
         options.add(SCAN_INCREMENTAL_SNAPSHOT_UNBOUNDED_CHUNK_FIRST_ENABLED);
         return options;
@@ -0,0 +1,126 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.connectors.mongodb.source.utils;
+
+import org.apache.flink.cdc.common.source.SnapshotPredicate;
+import org.apache.flink.cdc.common.source.SnapshotPushDown;
+
+import com.mongodb.MongoClientSettings;
+import io.debezium.relational.TableId;
+import org.bson.BsonDocument;
+import org.bson.conversions.Bson;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/** Unit test for {@link MongoPushDownUtils}. */
+class MongoPushDownUtilsTest {
+
+    private static final TableId COLLECTION_ID = new TableId("inventory", null, "products");
+
+    private static final List<SnapshotPushDown> PUSH_DOWNS =
+            Collections.singletonList(
+                    new SnapshotPushDown(
+                            "inventory.products",
+                            new LinkedHashSet<>(Arrays.asList("name", "weight")),
+                            Arrays.asList(
+                                    SnapshotPredicate.of(
+                                            "weight",
+                                            SnapshotPredicate.Operator.GREATER_THAN,
+                                            new BigDecimal("18")),
+                                    SnapshotPredicate.of(
+                                            "name", SnapshotPredicate.Operator.EQUALS, "scooter"),
+                                    SnapshotPredicate.of(
+                                            "name",
+                                            SnapshotPredicate.Operator.LESS_THAN,
+                                            "unsupported"))));
+
+    @Test
+    void testBuildSnapshotQuery() {
+        assertThat(
+                        MongoPushDownUtils.buildProjection(PUSH_DOWNS, COLLECTION_ID)
+                                .map(this::toDocument))
+                .hasValue(BsonDocument.parse("{_id: 1, name: 1, weight: 1}"));
+        assertThat(MongoPushDownUtils.buildFilter(PUSH_DOWNS, COLLECTION_ID).map(this::toDocument))
+                .hasValue(
+                        BsonDocument.parse(
+                                "{$and: ["
+                                        + "{$or: [{weight: {$gt: {$numberLong: '18'}}},"
+                                        + " {weight: {$not: {$type: ['int', 'long']}}}]},"
+                                        + "{$or: [{name: 'scooter'},"
+                                        + " {name: {$not: {$type: ['string']}}}]}]}"));
+
+        // collections not matched by push-downs are read as is
+        TableId otherCollectionId = new TableId("inventory", null, "orders");
+        assertThat(MongoPushDownUtils.buildProjection(PUSH_DOWNS, otherCollectionId)).isEmpty();
+        assertThat(MongoPushDownUtils.buildFilter(PUSH_DOWNS, otherCollectionId)).isEmpty();
+    }
+
+    @Test
+    void testBuildChangeStreamStages() {
+        List<BsonDocument> stages =
+                MongoPushDownUtils.buildChangeStreamStages(PUSH_DOWNS, COLLECTION_ID).stream()
+                        .map(this::toDocument)
+                        .collect(Collectors.toList());
+        assertThat(stages)
+                .containsExactly(
+                        BsonDocument.parse(
+                                "{$match: {$or: [{operationType: {$ne: 'insert'}}, {$and: ["
+                                        + "{$or: [{'fullDocument.weight': {$gt: {$numberLong: '18'}}},"
+                                        + " {'fullDocument.weight': {$not: {$type: ['int', 'long']}}}]},"
+                                        + "{$or: [{'fullDocument.name': 'scooter'},"
+                                        + " {'fullDocument.name': {$not: {$type: ['string']}}}]}]}]}}"),
+                        BsonDocument.parse(
+                                "{$project: {operationType: 1, ns: 1, to: 1, documentKey: 1,"
+                                        + " clusterTime: 1, ts_ms: 1, txnNumber: 1, lsid: 1,"
+                                        + " 'fullDocument._id': 1, 'fullDocument.name': 1,"
+                                        + " 'fullDocument.weight': 1,"
+                                        + " 'fullDocumentBeforeChange._id': 1,"
+                                        + " 'fullDocumentBeforeChange.name': 1,"
+                                        + " 'fullDocumentBeforeChange.weight': 1}}"));
+    }
+
+    @Test
+    void testUnsupportedPushDowns() {
+        List<SnapshotPushDown> pushDowns =
+                Collections.singletonList(
+                        new SnapshotPushDown(
+                                "inventory.products",
+                                Collections.singleton("address.city"),
+                                Collections.singletonList(
+                                        SnapshotPredicate.of(
+                                                "weight",
+                                                SnapshotPredicate.Operator.GREATER_THAN_OR_EQUAL,
+                                                new BigDecimal("1e100")))));
+        assertThat(MongoPushDownUtils.buildProjection(pushDowns, COLLECTION_ID)).isEmpty();
+        assertThat(MongoPushDownUtils.buildFilter(pushDowns, COLLECTION_ID)).isEmpty();
+        assertThat(MongoPushDownUtils.buildChangeStreamStages(pushDowns, COLLECTION_ID)).isEmpty();
+    }
+
+    private BsonDocument toDocument(Bson bson) {
+        return bson.toBsonDocument(
+                BsonDocument.class, MongoClientSettings.getDefaultCodecRegistry());
+    }
+}
@@ -17,6 +17,7 @@
 
 package org.apache.flink.cdc.connectors.mongodb.table;
 
+import org.apache.flink.cdc.common.source.SnapshotPredicate;
 import org.apache.flink.cdc.connectors.base.options.StartupOptions;
 import org.apache.flink.cdc.debezium.DebeziumSourceFunction;
 import org.apache.flink.cdc.debezium.utils.ResolvedSchemaUtils;
@@ -32,8 +33,14 @@ import org.apache.flink.table.catalog.UniqueConstraint;
 import org.apache.flink.table.connector.source.DynamicTableSource;
 import org.apache.flink.table.connector.source.ScanTableSource;
 import org.apache.flink.table.connector.source.SourceFunctionProvider;
+import org.apache.flink.table.connector.source.abilities.SupportsFilterPushDown;
 import org.apache.flink.table.data.RowData;
+import org.apache.flink.table.expressions.CallExpression;
+import org.apache.flink.table.expressions.FieldReferenceExpression;
+import org.apache.flink.table.expressions.ResolvedExpression;
+import org.apache.flink.table.expressions.ValueLiteralExpression;
 import org.apache.flink.table.factories.FactoryUtil;
+import org.apache.flink.table.functions.BuiltInFunctionDefinitions;
 import org.apache.flink.table.runtime.connector.source.ScanRuntimeProviderContext;
 
 import org.assertj.core.api.Assertions;
@@ -44,12 +51,15 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import static org.apache.flink.cdc.connectors.base.options.SourceOptions.CHUNK_META_GROUP_SIZE;
 import static org.apache.flink.cdc.connectors.base.options.SourceOptions.SCAN_INCREMENTAL_CLOSE_IDLE_READER_ENABLED;
 import static org.apache.flink.cdc.connectors.base.options.SourceOptions.SCAN_INCREMENTAL_SNAPSHOT_BACKFILL_SKIP;
+import static org.apache.flink.cdc.connectors.base.options.SourceOptions.SCAN_INCREMENTAL_SNAPSHOT_PREFETCH_SPLITS;
 import static org.apache.flink.cdc.connectors.base.options.SourceOptions.SCAN_INCREMENTAL_SNAPSHOT_UNBOUNDED_CHUNK_FIRST_ENABLED;
+import static org.apache.flink.cdc.connectors.base.options.SourceOptions.SCAN_INCREMENTAL_STREAM_PHASE_METRICS_SAMPLE_INTERVAL;
 import static org.apache.flink.cdc.connectors.base.options.SourceOptions.SCAN_NEWLY_ADDED_TABLE_ENABLED;
 import static org.apache.flink.cdc.connectors.mongodb.internal.MongoDBEnvelope.MONGODB_SRV_SCHEME;
 import static org.apache.flink.cdc.connectors.mongodb.source.config.MongoDBSourceOptions.BATCH_SIZE;
@@ -57,6 +67,7 @@ import static org.apache.flink.cdc.connectors.mongodb.source.config.MongoDBSourc
 import static org.apache.flink.cdc.connectors.mongodb.source.config.MongoDBSourceOptions.HEARTBEAT_INTERVAL_MILLIS;
 import static org.apache.flink.cdc.connectors.mongodb.source.config.MongoDBSourceOptions.POLL_AWAIT_TIME_MILLIS;
 import static org.apache.flink.cdc.connectors.mongodb.source.config.MongoDBSourceOptions.POLL_MAX_BATCH_SIZE;
+import static org.apache.flink.cdc.connectors.mongodb.source.config.MongoDBSourceOptions.POLL_MAX_QUEUE_SIZE_IN_BYTES;
 import static org.apache.flink.cdc.connectors.mongodb.source.config.MongoDBSourceOptions.SCAN_INCREMENTAL_SNAPSHOT_CHUNK_SAMPLES;
 import static org.apache.flink.cdc.connectors.mongodb.source.config.MongoDBSourceOptions.SCAN_INCREMENTAL_SNAPSHOT_CHUNK_SIZE_MB;
 import static org.apache.flink.cdc.connectors.mongodb.source.config.MongoDBSourceOptions.SCAN_INCREMENTAL_SNAPSHOT_ENABLED;
@@ -102,6 +113,8 @@ class MongoDBTableFactoryTest {
     private static final int BATCH_SIZE_DEFAULT = BATCH_SIZE.defaultValue();
     private static final int POLL_MAX_BATCH_SIZE_DEFAULT = POLL_MAX_BATCH_SIZE.defaultValue();
     private static final int POLL_AWAIT_TIME_MILLIS_DEFAULT = POLL_AWAIT_TIME_MILLIS.defaultValue();
+    private static final long POLL_MAX_QUEUE_SIZE_IN_BYTES_DEFAULT =
+            POLL_MAX_QUEUE_SIZE_IN_BYTES.defaultValue();
     private static final int HEARTBEAT_INTERVAL_MILLIS_DEFAULT =
             HEARTBEAT_INTERVAL_MILLIS.defaultValue();
     private static final boolean SCAN_INCREMENTAL_SNAPSHOT_ENABLED_DEFAULT =
@@ -148,6 +161,7 @@ class MongoDBTableFactoryTest {
                         BATCH_SIZE_DEFAULT,
                         POLL_MAX_BATCH_SIZE_DEFAULT,
                         POLL_AWAIT_TIME_MILLIS_DEFAULT,
+                        POLL_MAX_QUEUE_SIZE_IN_BYTES_DEFAULT,
                         HEARTBEAT_INTERVAL_MILLIS_DEFAULT,
                         LOCAL_TIME_ZONE,
                         SCAN_INCREMENTAL_SNAPSHOT_ENABLED_DEFAULT,
@@ -159,7 +173,9 @@ class MongoDBTableFactoryTest {
                         SCAN_NO_CURSOR_TIMEOUT_DEFAULT,
                         SCAN_INCREMENTAL_SNAPSHOT_BACKFILL_SKIP_DEFAULT,
                         SCAN_NEWLY_ADDED_TABLE_ENABLED_DEFAULT,
-                        SCAN_INCREMENTAL_SNAPSHOT_UNBOUNDED_CHUNK_FIRST_ENABLED.defaultValue());
+                        SCAN_INCREMENTAL_SNAPSHOT_UNBOUNDED_CHUNK_FIRST_ENABLED.defaultValue(),
+                        SCAN_INCREMENTAL_STREAM_PHASE_METRICS_SAMPLE_INTERVAL.defaultValue(),
+                        SCAN_INCREMENTAL_SNAPSHOT_PREFETCH_SPLITS.defaultValue());
         Assertions.assertThat(actualSource).isEqualTo(expectedSource);
     }
 
@@ -173,6 +189,7 @@ class MongoDBTableFactoryTest {
         options.put("batch.size", "101");
         options.put("poll.max.batch.size", "102");
         options.put("poll.await.time.ms", "103");
+        options.put("poll.max.queue.size.in.bytes", "1048576");
         options.put("heartbeat.interval.ms", "104");
         options.put("scan.incremental.snapshot.enabled", "true");
         options.put("chunk-meta.group.size", "1001");
@@ -204,6 +221,7 @@ class MongoDBTableFactoryTest {
                         101,
                         102,
                         103,
+                        1048576L,
                         104,
                         LOCAL_TIME_ZONE,
                         true,
@@ -215,7 +233,9 @@ class MongoDBTableFactoryTest {
                         false,
                         true,
                         true,
-                        true);
+                        true,
+                        SCAN_INCREMENTAL_STREAM_PHASE_METRICS_SAMPLE_INTERVAL.defaultValue(),
+                        SCAN_INCREMENTAL_SNAPSHOT_PREFETCH_SPLITS.defaultValue());
         Assertions.assertThat(actualSource).isEqualTo(expectedSource);
     }
 
@@ -248,6 +268,7 @@ class MongoDBTableFactoryTest {
                         BATCH_SIZE_DEFAULT,
                         POLL_MAX_BATCH_SIZE_DEFAULT,
                         POLL_AWAIT_TIME_MILLIS_DEFAULT,
+                        POLL_MAX_QUEUE_SIZE_IN_BYTES_DEFAULT,
                         HEARTBEAT_INTERVAL_MILLIS_DEFAULT,
                         LOCAL_TIME_ZONE,
                         SCAN_INCREMENTAL_SNAPSHOT_ENABLED_DEFAULT,
@@ -259,7 +280,9 @@ class MongoDBTableFactoryTest {
                         SCAN_NO_CURSOR_TIMEOUT_DEFAULT,
                         SCAN_INCREMENTAL_SNAPSHOT_BACKFILL_SKIP_DEFAULT,
                         SCAN_NEWLY_ADDED_TABLE_ENABLED_DEFAULT,
-                        SCAN_INCREMENTAL_SNAPSHOT_UNBOUNDED_CHUNK_FIRST_ENABLED.defaultValue());
+                        SCAN_INCREMENTAL_SNAPSHOT_UNBOUNDED_CHUNK_FIRST_ENABLED.defaultValue(),
+                        SCAN_INCREMENTAL_STREAM_PHASE_METRICS_SAMPLE_INTERVAL.defaultValue(),
+                        SCAN_INCREMENTAL_SNAPSHOT_PREFETCH_SPLITS.defaultValue());
 
         expectedSource.producedDataType = SCHEMA_WITH_METADATA.toSourceRowDataType();
         expectedSource.metadataKeys = Arrays.asList("op_ts", "database_name", "row_kind");
@@ -274,6 +297,43 @@ class MongoDBTableFactoryTest {
         assertProducedTypeOfSourceFunction(debeziumSourceFunction, expectedSource.producedDataType);
     }
 
+    @Test
+    void testFilterPushDown() {
+        MongoDBTableSource source = (MongoDBTableSource) createTableSource(SCHEMA, getAllOptions());
+
+        FieldReferenceExpression bbb =
+                new FieldReferenceExpression("bbb", DataTypes.STRING(), 0, 1);
+        FieldReferenceExpression ccc =
+                new FieldReferenceExpression("ccc", DataTypes.DOUBLE(), 0, 2);
+        ResolvedExpression stringEquals =
+                CallExpression.permanent(
+                        BuiltInFunctionDefinitions.EQUALS,
+                        Arrays.asList(new ValueLiteralExpression("scooter"), bbb),
+                        DataTypes.BOOLEAN());
+        ResolvedExpression doubleGreaterThan =
+                CallExpression.permanent(
+                        BuiltInFunctionDefinitions.GREATER_THAN,
+                        Arrays.asList(ccc, new ValueLiteralExpression(1.5d)),
+                        DataTypes.BOOLEAN());
+        ResolvedExpression isNotNull =
+                CallExpression.permanent(
+                        BuiltInFunctionDefinitions.IS_NOT_NULL,
+                        Collections.singletonList(ccc),
+                        DataTypes.BOOLEAN());
+        List<ResolvedExpression> filters =
+                Arrays.asList(stringEquals, doubleGreaterThan, isNotNull);
+
+        SupportsFilterPushDown.Result result = source.applyFilters(filters);
+        Assertions.assertThat(result.getAcceptedFilters()).containsExactly(stringEquals, isNotNull);
+        // filters are still evaluated after conversion
+        Assertions.assertThat(result.getRemainingFilters()).isEqualTo(filters);
+        Assertions.assertThat(source.predicates)
+                .containsExactly(
+                        SnapshotPredicate.of("bbb", SnapshotPredicate.Operator.EQUALS, "scooter"),
+                        SnapshotPredicate.isNotNull("ccc"));
+        Assertions.assertThat(source.copy()).isEqualTo(source);
+    }
+
     @Test
     void testValidation() {
         // validate unsupported option
@@ -359,6 +419,7 @@ class MongoDBTableFactoryTest {
                         BATCH_SIZE_DEFAULT,
                         POLL_MAX_BATCH_SIZE_DEFAULT,
                         POLL_AWAIT_TIME_MILLIS_DEFAULT,
+                        POLL_MAX_QUEUE_SIZE_IN_BYTES_DEFAULT,
                         HEARTBEAT_INTERVAL_MILLIS_DEFAULT,
                         LOCAL_TIME_ZONE,
                         false,
@@ -370,7 +431,9 @@ class MongoDBTableFactoryTest {
                         SCAN_NO_CURSOR_TIMEOUT_DEFAULT,
                         SCAN_INCREMENTAL_SNAPSHOT_BACKFILL_SKIP_DEFAULT,
                         SCAN_NEWLY_ADDED_TABLE_ENABLED_DEFAULT,
-                        SCAN_INCREMENTAL_SNAPSHOT_UNBOUNDED_CHUNK_FIRST_ENABLED.defaultValue());
+                        SCAN_INCREMENTAL_SNAPSHOT_UNBOUNDED_CHUNK_FIRST_ENABLED.defaultValue(),
+                        SCAN_INCREMENTAL_STREAM_PHASE_METRICS_SAMPLE_INTERVAL.defaultValue(),
+                        SCAN_INCREMENTAL_SNAPSHOT_PREFETCH_SPLITS.defaultValue());
         Assertions.assertThat(actualSource).isEqualTo(expectedSource);
     }
 
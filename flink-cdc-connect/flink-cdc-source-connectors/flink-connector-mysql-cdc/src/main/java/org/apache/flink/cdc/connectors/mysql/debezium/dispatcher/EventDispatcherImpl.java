@@ -18,6 +18,7 @@
 package org.apache.flink.cdc.connectors.mysql.debezium.dispatcher;
 
 import org.apache.flink.cdc.connectors.mysql.debezium.task.context.StatefulTaskContext;
+import org.apache.flink.cdc.debezium.internal.AdaptiveHeartbeat;
 
 import io.debezium.config.CommonConnectorConfig;
 import io.debezium.connector.base.ChangeEventQueue;
@@ -28,6 +29,8 @@ import io.debezium.pipeline.EventDispatcher;
 import io.debezium.pipeline.source.snapshot.incremental.IncrementalSnapshotChangeEventSource;
 import io.debezium.pipeline.source.spi.EventMetadataProvider;
 import io.debezium.pipeline.spi.ChangeEventCreator;
+import io.debezium.pipeline.spi.ChangeRecordEmitter;
+import io.debezium.pipeline.spi.OffsetContext;
 import io.debezium.pipeline.spi.SchemaChangeEventEmitter;
 import io.debezium.relational.TableId;
 import io.debezium.relational.history.HistoryRecord;
@@ -65,6 +68,7 @@ import static org.apache.flink.cdc.connectors.mysql.debezium.dispatcher.SignalEv
  *  1. This class shares one {@link ChangeEventQueue} between multiple readers.
  *  2. This class override some methods for dispatching {@link HistoryRecord} directly,
  *     this is useful for downstream to deserialize the {@link HistoryRecord} back.
+ *  3. This class skips heartbeats while data change events flow, see {@link AdaptiveHeartbeat}.
  * </pre>
  */
 public class EventDispatcherImpl<T extends DataCollectionId>
@@ -82,6 +86,7 @@ public class EventDispatcherImpl<T extends DataCollectionId>
     private final TopicSelector<T> topicSelector;
     private final Schema schemaChangeKeySchema;
     private final Schema schemaChangeValueSchema;
+    private final AdaptiveHeartbeat adaptiveHeartbeat;
 
     public EventDispatcherImpl(
             CommonConnectorConfig connectorConfig,
@@ -130,12 +135,35 @@ public class EventDispatcherImpl<T extends DataCollectionId>
                                 connectorConfig.getSourceInfoStructMaker().schema())
                         .field(HISTORY_RECORD_FIELD, Schema.OPTIONAL_STRING_SCHEMA)
                         .build();
+        this.adaptiveHeartbeat = new AdaptiveHeartbeat(connectorConfig);
     }
 
     public ChangeEventQueue<DataChangeEvent> getQueue() {
         return queue;
     }
 
+    @Override
+    public boolean dispatchDataChangeEvent(
+            MySqlPartition partition,
+            T dataCollectionId,
+            ChangeRecordEmitter<MySqlPartition> changeRecordEmitter)
+            throws InterruptedException {
+        boolean handled =
+                super.dispatchDataChangeEvent(partition, dataCollectionId, changeRecordEmitter);
+        if (handled) {
+            adaptiveHeartbeat.onDataChangeEvent();
+        }
+        return handled;
+    }
+
+    @Override
+    public void dispatchHeartbeatEvent(MySqlPartition partition, OffsetContext offset)
+            throws InterruptedException {
+        if (adaptiveHeartbeat.isIdle()) {
+            super.dispatchHeartbeatEvent(partition, offset);
+        }
+    }
+
     @Override
     public void dispatchSchemaChangeEvent(
             MySqlPartition partition,
@@ -17,6 +17,7 @@
 
 package org.apache.flink.cdc.connectors.mysql.debezium.task;
 
+import org.apache.flink.cdc.common.source.SnapshotPushDown;
 import org.apache.flink.cdc.connectors.mysql.debezium.DebeziumUtils;
 import org.apache.flink.cdc.connectors.mysql.debezium.dispatcher.EventDispatcherImpl;
 import org.apache.flink.cdc.connectors.mysql.debezium.dispatcher.SignalEventDispatcher;
@@ -26,6 +27,7 @@ import org.apache.flink.cdc.connectors.mysql.source.offset.BinlogOffset;
 import org.apache.flink.cdc.connectors.mysql.source.split.MySqlSnapshotSplit;
 import org.apache.flink.cdc.connectors.mysql.source.utils.StatementUtils;
 import org.apache.flink.cdc.connectors.mysql.source.utils.hooks.SnapshotPhaseHooks;
+import org.apache.flink.cdc.debezium.utils.SnapshotPushDownUtils;
 
 import io.debezium.DebeziumException;
 import io.debezium.connector.mysql.MySqlConnection;
@@ -61,6 +63,7 @@ import java.sql.SQLException;
 import java.sql.Types;
 import java.time.Duration;
 import java.util.Calendar;
+import java.util.List;
 
 /** Task to read snapshot split of table. */
 public class MySqlSnapshotSplitReadTask
@@ -242,12 +245,28 @@ public class MySqlSnapshotSplitReadTask
         long exportStart = clock.currentTimeInMillis();
         LOG.info("Exporting data from split '{}' of table {}", snapshotSplit.splitId(), table.id());
 
+        List<SnapshotPushDown> pushDowns = sourceConfig.getSnapshotPushDowns();
+        org.apache.flink.cdc.common.event.TableId pushDownTableId =
+                org.apache.flink.cdc.common.event.TableId.tableId(
+                        table.id().catalog(), table.id().table());
         final String selectSql =
                 StatementUtils.buildSplitScanQuery(
                         snapshotSplit.getTableId(),
                         snapshotSplit.getSplitKeyType(),
                         snapshotSplit.getSplitStart() == null,
-                        snapshotSplit.getSplitEnd() == null);
+                        snapshotSplit.getSplitEnd() == null,
+                        SnapshotPushDownUtils.buildProjection(
+                                        table,
+                                        SnapshotPushDown.resolveRequiredColumns(
+                                                pushDowns, pushDownTableId),
+                                        snapshotSplit.getSplitKeyType().getFieldNames(),
+                                        StatementUtils::quote)
+                                .map(columns -> String.join(", ", columns))
+                                .orElse("*"),
+                        SnapshotPushDownUtils.buildCondition(
+                                table,
+                                SnapshotPushDown.resolvePredicates(pushDowns, pushDownTableId),
+                                StatementUtils::quote));
         LOG.info(
                 "For split '{}' of table {} using select statement: '{}'",
                 snapshotSplit.splitId(),
@@ -18,12 +18,14 @@
 package org.apache.flink.cdc.connectors.mysql.source;
 
 import org.apache.flink.cdc.common.annotation.PublicEvolving;
+import org.apache.flink.cdc.common.source.SnapshotPushDown;
 import org.apache.flink.cdc.connectors.mysql.source.config.MySqlSourceConfigFactory;
 import org.apache.flink.cdc.connectors.mysql.table.StartupOptions;
 import org.apache.flink.cdc.debezium.DebeziumDeserializationSchema;
 import org.apache.flink.table.catalog.ObjectPath;
 
 import java.time.Duration;
+import java.util.List;
 import java.util.Properties;
 
 import static org.apache.flink.util.Preconditions.checkNotNull;
@@ -312,6 +314,24 @@ public class MySqlSourceBuilder<T> {
         return this;
     }
 
+    /**
+     * The number of snapshot splits a {@link MySqlSource} reader requests ahead of the split it is
+     * reading. Defaults to 0.
+     */
+    public MySqlSourceBuilder<T> snapshotPrefetchSplits(int snapshotPrefetchSplits) {
+        this.configFactory.snapshotPrefetchSplits(snapshotPrefetchSplits);
+        return this;
+    }
+
+    /**
+     * The columns and rows required while reading snapshot splits, which are pushed down to the
+     * snapshot queries. All columns and rows are read by default.
+     */
+    public MySqlSourceBuilder<T> snapshotPushDowns(List<SnapshotPushDown> snapshotPushDowns) {
+        this.configFactory.snapshotPushDowns(snapshotPushDowns);
+        return this;
+    }
+
     /**
      * Build the {@link MySqlSource}.
      *
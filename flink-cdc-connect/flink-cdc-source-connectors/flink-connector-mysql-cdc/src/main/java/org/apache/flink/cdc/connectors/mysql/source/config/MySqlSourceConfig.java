@@ -17,6 +17,7 @@
 
 package org.apache.flink.cdc.connectors.mysql.source.config;
 
+import org.apache.flink.cdc.common.source.SnapshotPushDown;
 import org.apache.flink.cdc.connectors.mysql.schema.Selectors;
 import org.apache.flink.cdc.connectors.mysql.source.MySqlSource;
 import org.apache.flink.cdc.connectors.mysql.table.StartupOptions;
@@ -72,6 +73,8 @@ public class MySqlSourceConfig implements Serializable {
     private final boolean parseOnLineSchemaChanges;
     public static boolean useLegacyJsonFormat = true;
     private final boolean assignUnboundedChunkFirst;
+    private final int snapshotPrefetchSplits;
+    private final List<SnapshotPushDown> snapshotPushDowns;
 
     // --------------------------------------------------------------------------------------------
     // Debezium Configurations
@@ -112,7 +115,9 @@ public class MySqlSourceConfig implements Serializable {
             boolean parseOnLineSchemaChanges,
             boolean treatTinyInt1AsBoolean,
             boolean useLegacyJsonFormat,
-            boolean assignUnboundedChunkFirst) {
+            boolean assignUnboundedChunkFirst,
+            int snapshotPrefetchSplits,
+            List<SnapshotPushDown> snapshotPushDowns) {
         this.hostname = checkNotNull(hostname);
         this.port = port;
         this.username = checkNotNull(username);
@@ -158,6 +163,8 @@ public class MySqlSourceConfig implements Serializable {
         this.treatTinyInt1AsBoolean = treatTinyInt1AsBoolean;
         this.useLegacyJsonFormat = useLegacyJsonFormat;
         this.assignUnboundedChunkFirst = assignUnboundedChunkFirst;
+        this.snapshotPrefetchSplits = snapshotPrefetchSplits;
+        this.snapshotPushDowns = snapshotPushDowns;
     }
 
     public String getHostname() {
@@ -257,6 +264,14 @@ public class MySqlSourceConfig implements Serializable {
         return assignUnboundedChunkFirst;
     }
 
+    public int getSnapshotPrefetchSplits() {
+        return snapshotPrefetchSplits;
+    }
+
+    public List<SnapshotPushDown> getSnapshotPushDowns() {
+        return snapshotPushDowns;
+    }
+
     public Properties getDbzProperties() {
         return dbzProperties;
     }
@@ -18,6 +18,7 @@
 package org.apache.flink.cdc.connectors.mysql.source.config;
 
 import org.apache.flink.cdc.common.annotation.Internal;
+import org.apache.flink.cdc.common.source.SnapshotPushDown;
 import org.apache.flink.cdc.connectors.mysql.debezium.EmbeddedFlinkDatabaseHistory;
 import org.apache.flink.cdc.connectors.mysql.source.MySqlSource;
 import org.apache.flink.cdc.connectors.mysql.table.StartupOptions;
@@ -28,6 +29,7 @@ import io.debezium.config.CommonConnectorConfig;
 import java.io.Serializable;
 import java.time.Duration;
 import java.time.ZoneId;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
@@ -78,6 +80,9 @@ public class MySqlSourceConfigFactory implements Serializable {
     private boolean treatTinyInt1AsBoolean = true;
     private boolean useLegacyJsonFormat = true;
     private boolean assignUnboundedChunkFirst = false;
+    private int snapshotPrefetchSplits =
+            MySqlSourceOptions.SCAN_INCREMENTAL_SNAPSHOT_PREFETCH_SPLITS.defaultValue();
+    private List<SnapshotPushDown> snapshotPushDowns = new ArrayList<>();
 
     public MySqlSourceConfigFactory hostname(String hostname) {
         this.hostname = hostname;
@@ -341,6 +346,24 @@ public class MySqlSourceConfigFactory implements Serializable {
         return this;
     }
 
+    /**
+     * The number of snapshot splits a source reader requests ahead of the split it is reading.
+     * Defaults to 0, which requests the next split after the current one is finished.
+     */
+    public MySqlSourceConfigFactory snapshotPrefetchSplits(int snapshotPrefetchSplits) {
+        this.snapshotPrefetchSplits = snapshotPrefetchSplits;
+        return this;
+    }
+
+    /**
+     * The columns and rows required by transform rules, which are pushed down to the snapshot
+     * queries. Defaults to empty, i.e. all columns and rows are read.
+     */
+    public MySqlSourceConfigFactory snapshotPushDowns(List<SnapshotPushDown> snapshotPushDowns) {
+        this.snapshotPushDowns = snapshotPushDowns;
+        return this;
+    }
+
     /** Creates a new {@link MySqlSourceConfig} for the given subtask {@code subtaskId}. */
     public MySqlSourceConfig createConfig(int subtaskId) {
         // hard code server name, because we don't need to distinguish it, docs:
@@ -444,6 +467,8 @@ public class MySqlSourceConfigFactory implements Serializable {
                 parseOnLineSchemaChanges,
                 treatTinyInt1AsBoolean,
                 useLegacyJsonFormat,
-                assignUnboundedChunkFirst);
+                assignUnboundedChunkFirst,
+                snapshotPrefetchSplits,
+                snapshotPushDowns);
     }
 }
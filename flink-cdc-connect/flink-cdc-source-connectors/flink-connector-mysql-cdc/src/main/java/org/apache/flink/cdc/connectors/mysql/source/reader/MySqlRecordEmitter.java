@@ -57,6 +57,12 @@ public class MySqlRecordEmitter<T> implements RecordEmitter<SourceRecords, T, My
     private final boolean includeTransactionMetadataEvents;
     private final OutputCollector<T> outputCollector;
 
+    /** Whether data change records were emitted since the last heartbeat of the binlog split. */
+    private boolean activeSinceLastHeartbeat = true;
+
+    /** Whether the binlog split output is marked idle. */
+    private boolean idle;
+
     public MySqlRecordEmitter(
             DebeziumDeserializationSchema<T> debeziumDeserializationSchema,
             MySqlSourceReaderMetrics sourceReaderMetrics,
@@ -105,9 +111,11 @@ public class MySqlRecordEmitter<T> implements RecordEmitter<SourceRecords, T, My
         } else if (RecordUtils.isDataChangeRecord(element)) {
             updateStartingOffsetForSplit(splitState, element);
             reportMetrics(element);
+            markActive(splitState, output);
             emitElement(element, output);
         } else if (RecordUtils.isHeartbeatEvent(element)) {
             updateStartingOffsetForSplit(splitState, element);
+            markIdleIfNoRecords(splitState, output);
             if (includeHeartbeatEvents) {
                 emitElement(element, output);
             }
@@ -129,6 +137,30 @@ public class MySqlRecordEmitter<T> implements RecordEmitter<SourceRecords, T, My
         }
     }
 
+    private void markActive(MySqlSplitState splitState, SourceOutput<T> output) {
+        if (splitState.isBinlogSplitState()) {
+            activeSinceLastHeartbeat = true;
+            if (idle) {
+                idle = false;
+                output.markActive();
+            }
+        }
+    }
+
+    /**
+     * Marks the binlog split output idle if no data change record was emitted between the last two
+     * heartbeats, so that downstream watermarks are not held back by idle tables.
+     */
+    private void markIdleIfNoRecords(MySqlSplitState splitState, SourceOutput<T> output) {
+        if (splitState.isBinlogSplitState()) {
+            if (!activeSinceLastHeartbeat && !idle) {
+                idle = true;
+                output.markIdle();
+            }
+            activeSinceLastHeartbeat = false;
+        }
+    }
+
     private void emitElement(SourceRecord element, SourceOutput<T> output) throws Exception {
         outputCollector.output = output;
         outputCollector.currentMessageTimestamp = RecordUtils.getMessageTimestamp(element);
@@ -85,6 +85,9 @@ public class MySqlSourceReader<T>
     private final MySqlRecordEmitter<T> recordEmitter;
     private final MySqlPartition partition;
 
+    /** The number of snapshot splits to hold ahead of the split being read. */
+    private final int snapshotPrefetchSplits;
+
     public MySqlSourceReader(
             FutureCompletingBlockingQueue<RecordsWithSplitIds<SourceRecords>> elementQueue,
             Supplier<MySqlSplitReader> splitReaderSupplier,
@@ -107,6 +110,7 @@ public class MySqlSourceReader<T>
         this.suspendedBinlogSplit = null;
         this.partition =
                 new MySqlPartition(sourceConfig.getMySqlConnectorConfig().getLogicalName());
+        this.snapshotPrefetchSplits = sourceConfig.getSnapshotPrefetchSplits();
     }
 
     @Override
@@ -302,6 +306,7 @@ public class MySqlSourceReader<T>
         // add all un-finished splits (including binlog split) to SourceReaderBase
         if (!unfinishedSplits.isEmpty()) {
             super.addSplits(unfinishedSplits);
+            requestPrefetchSplitIfNeeded();
         } else if (suspendedBinlogSplit
                         != null // request new snapshot split if the binlog split is suspended
                 || getNumberOfCurrentlyAssignedSplits()
@@ -311,6 +316,21 @@ public class MySqlSourceReader<T>
         }
     }
 
+    /**
+     * Requests one more snapshot split if the reader holds no more than {@link
+     * MySqlSourceConfig#getSnapshotPrefetchSplits()} splits, the split reader reads the received
+     * splits one after another. As every finished split requests its successor, the reader holds
+     * about the split being read plus the prefetched splits. The prefetched splits are part of the
+     * reader state, so they are restored or added back to the enumerator on failover.
+     */
+    private void requestPrefetchSplitIfNeeded() {
+        if (snapshotPrefetchSplits > 0
+                && !mySqlSourceReaderContext.isHasAssignedBinlogSplit()
+                && getNumberOfCurrentlyAssignedSplits() <= snapshotPrefetchSplits) {
+            context.sendSplitRequest();
+        }
+    }
+
     @Override
     public void handleSourceEvents(SourceEvent sourceEvent) {
         if (sourceEvent instanceof FinishedSnapshotSplitsAckEvent) {
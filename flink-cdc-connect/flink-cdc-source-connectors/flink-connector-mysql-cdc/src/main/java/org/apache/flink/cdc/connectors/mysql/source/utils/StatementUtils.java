@@ -132,7 +132,23 @@ public class StatementUtils {
 
     public static String buildSplitScanQuery(
             TableId tableId, RowType pkRowType, boolean isFirstSplit, boolean isLastSplit) {
-        return buildSplitQuery(tableId, pkRowType, isFirstSplit, isLastSplit, -1, true);
+        return buildSplitScanQuery(
+                tableId, pkRowType, isFirstSplit, isLastSplit, "*", Optional.empty());
+    }
+
+    /**
+     * Builds the query of a snapshot split with given projection, and an extra filter that is
+     * combined with the split boundaries, both of which are usually pushed down from transforms.
+     */
+    public static String buildSplitScanQuery(
+            TableId tableId,
+            RowType pkRowType,
+            boolean isFirstSplit,
+            boolean isLastSplit,
+            String projection,
+            Optional<String> filter) {
+        return buildSplitQuery(
+                tableId, pkRowType, isFirstSplit, isLastSplit, -1, true, projection, filter);
     }
 
     private static String buildSplitQuery(
@@ -141,7 +157,9 @@ public class StatementUtils {
             boolean isFirstSplit,
             boolean isLastSplit,
             int limitSize,
-            boolean isScanningData) {
+            boolean isScanningData,
+            String projection,
+            Optional<String> filter) {
         final String condition;
 
         if (isFirstSplit && isLastSplit) {
@@ -173,8 +191,15 @@ public class StatementUtils {
         }
 
         if (isScanningData) {
+            Optional<String> scanCondition =
+                    filter.isPresent()
+                            ? Optional.of(
+                                    condition == null
+                                            ? "(" + filter.get() + ")"
+                                            : condition + " AND (" + filter.get() + ")")
+                            : Optional.ofNullable(condition);
             return buildSelectWithRowLimits(
-                    tableId, limitSize, "*", Optional.ofNullable(condition), Optional.empty());
+                    tableId, limitSize, projection, scanCondition, Optional.empty());
         } else {
             final String orderBy =
                     pkRowType.getFieldNames().stream().collect(Collectors.joining(", "));
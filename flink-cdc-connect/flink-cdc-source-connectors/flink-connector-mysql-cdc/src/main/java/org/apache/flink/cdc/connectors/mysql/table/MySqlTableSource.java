@@ -24,13 +24,16 @@ import org.apache.flink.cdc.debezium.DebeziumDeserializationSchema;
 import org.apache.flink.cdc.debezium.DebeziumSourceFunction;
 import org.apache.flink.cdc.debezium.table.MetadataConverter;
 import org.apache.flink.cdc.debezium.table.RowDataDebeziumDeserializeSchema;
+import org.apache.flink.cdc.debezium.utils.SnapshotPushDownUtils;
 import org.apache.flink.table.catalog.ObjectPath;
 import org.apache.flink.table.catalog.ResolvedSchema;
 import org.apache.flink.table.connector.ChangelogMode;
+import org.apache.flink.table.connector.Projection;
 import org.apache.flink.table.connector.source.DynamicTableSource;
 import org.apache.flink.table.connector.source.ScanTableSource;
 import org.apache.flink.table.connector.source.SourceFunctionProvider;
 import org.apache.flink.table.connector.source.SourceProvider;
+import org.apache.flink.table.connector.source.abilities.SupportsProjectionPushDown;
 import org.apache.flink.table.connector.source.abilities.SupportsReadingMetadata;
 import org.apache.flink.table.data.RowData;
 import org.apache.flink.table.types.DataType;
@@ -63,7 +66,8 @@ import static org.apache.flink.util.Preconditions.checkNotNull;
  * A {@link DynamicTableSource} that describes how to create a MySQL binlog source from a logical
  * description.
  */
-public class MySqlTableSource implements ScanTableSource, SupportsReadingMetadata {
+public class MySqlTableSource
+        implements ScanTableSource, SupportsReadingMetadata, SupportsProjectionPushDown {
     private static final Logger LOG = LoggerFactory.getLogger(MySqlTableSource.class);
     private final Set<String> exceptDbzProperties =
             Stream.of(
@@ -103,11 +107,15 @@ public class MySqlTableSource implements ScanTableSource, SupportsReadingMetadat
     private final boolean assignUnboundedChunkFirst;
 
     private final boolean appendOnly;
+    private final int snapshotPrefetchSplits;
 
     // --------------------------------------------------------------------------------------------
     // Mutable attributes
     // --------------------------------------------------------------------------------------------
 
+    /** Data type that describes the physical columns read by the source. */
+    protected DataType physicalDataType;
+
     /** Data type that describes the final output of the source. */
     protected DataType producedDataType;
 
@@ -144,7 +152,8 @@ public class MySqlTableSource implements ScanTableSource, SupportsReadingMetadat
             boolean parseOnlineSchemaChanges,
             boolean useLegacyJsonFormat,
             boolean assignUnboundedChunkFirst,
-            boolean appendOnly) {
+            boolean appendOnly,
+            int snapshotPrefetchSplits) {
         this.physicalSchema = physicalSchema;
         this.port = port;
         this.hostname = checkNotNull(hostname);
@@ -170,6 +179,7 @@ public class MySqlTableSource implements ScanTableSource, SupportsReadingMetadat
         this.jdbcProperties = jdbcProperties;
         this.parseOnlineSchemaChanges = parseOnlineSchemaChanges;
         // Mutable attributes
+        this.physicalDataType = physicalSchema.toPhysicalRowDataType();
         this.producedDataType = physicalSchema.toPhysicalRowDataType();
         this.metadataKeys = Collections.emptyList();
         this.heartbeatInterval = heartbeatInterval;
@@ -178,6 +188,7 @@ public class MySqlTableSource implements ScanTableSource, SupportsReadingMetadat
         this.useLegacyJsonFormat = useLegacyJsonFormat;
         this.assignUnboundedChunkFirst = assignUnboundedChunkFirst;
         this.appendOnly = appendOnly;
+        this.snapshotPrefetchSplits = snapshotPrefetchSplits;
     }
 
     @Override
@@ -191,15 +202,14 @@ public class MySqlTableSource implements ScanTableSource, SupportsReadingMetadat
 
     @Override
     public ScanRuntimeProvider getScanRuntimeProvider(ScanContext scanContext) {
-        RowType physicalDataType =
-                (RowType) physicalSchema.toPhysicalRowDataType().getLogicalType();
+        RowType physicalRowType = (RowType) physicalDataType.getLogicalType();
         MetadataConverter[] metadataConverters = getMetadataConverters();
         final TypeInformation<RowData> typeInfo =
                 scanContext.createTypeInformation(producedDataType);
 
         DebeziumDeserializationSchema<RowData> deserializer =
                 RowDataDebeziumDeserializeSchema.newBuilder()
-                        .setPhysicalRowType(physicalDataType)
+                        .setPhysicalRowType(physicalRowType)
                         .setMetadataConverters(metadataConverters)
                         .setResultTypeInfo(typeInfo)
                         .setServerTimeZone(serverTimeZone)
@@ -238,9 +248,14 @@ public class MySqlTableSource implements ScanTableSource, SupportsReadingMetadat
                             .heartbeatInterval(heartbeatInterval)
                             .chunkKeyColumn(new ObjectPath(database, tableName), chunkKeyColumn)
                             .skipSnapshotBackfill(skipSnapshotBackFill)
+                            .snapshotPrefetchSplits(snapshotPrefetchSplits)
                             .parseOnLineSchemaChanges(parseOnlineSchemaChanges)
                             .useLegacyJsonFormat(useLegacyJsonFormat)
                             .assignUnboundedChunkFirst(assignUnboundedChunkFirst)
+                            .snapshotPushDowns(
+                                    Collections.singletonList(
+                                            SnapshotPushDownUtils.projectionPushDown(
+                                                    physicalRowType.getFieldNames())))
                             .build();
             return SourceProvider.of(parallelSource);
         } else {
@@ -297,6 +312,17 @@ public class MySqlTableSource implements ScanTableSource, SupportsReadingMetadat
         this.producedDataType = producedDataType;
     }
 
+    @Override
+    public boolean supportsNestedProjection() {
+        return false;
+    }
+
+    @Override
+    public void applyProjection(int[][] projectedFields, DataType producedDataType) {
+        this.physicalDataType = Projection.of(projectedFields).project(physicalDataType);
+        this.producedDataType = producedDataType;
+    }
+
     @Override
     public DynamicTableSource copy() {
         MySqlTableSource source =
@@ -330,8 +356,10 @@ public class MySqlTableSource implements ScanTableSource, SupportsReadingMetadat
                         parseOnlineSchemaChanges,
                         useLegacyJsonFormat,
                         assignUnboundedChunkFirst,
-                        appendOnly);
+                        appendOnly,
+                        snapshotPrefetchSplits);
         source.metadataKeys = metadataKeys;
+        source.physicalDataType = physicalDataType;
         source.producedDataType = producedDataType;
         return source;
     }
@@ -367,6 +395,7 @@ public class MySqlTableSource implements ScanTableSource, SupportsReadingMetadat
                 && Objects.equals(connectMaxRetries, that.connectMaxRetries)
                 && Objects.equals(connectionPoolSize, that.connectionPoolSize)
                 && Objects.equals(startupOptions, that.startupOptions)
+                && Objects.equals(physicalDataType, that.physicalDataType)
                 && Objects.equals(producedDataType, that.producedDataType)
                 && Objects.equals(metadataKeys, that.metadataKeys)
                 && Objects.equals(jdbcProperties, that.jdbcProperties)
@@ -376,7 +405,8 @@ public class MySqlTableSource implements ScanTableSource, SupportsReadingMetadat
                 && parseOnlineSchemaChanges == that.parseOnlineSchemaChanges
                 && useLegacyJsonFormat == that.useLegacyJsonFormat
                 && assignUnboundedChunkFirst == that.assignUnboundedChunkFirst
-                && Objects.equals(appendOnly, that.appendOnly);
+                && Objects.equals(appendOnly, that.appendOnly)
+                && Objects.equals(snapshotPrefetchSplits, that.snapshotPrefetchSplits);
     }
 
     @Override
@@ -402,6 +432,7 @@ public class MySqlTableSource implements ScanTableSource, SupportsReadingMetadat
                 distributionFactorUpper,
                 distributionFactorLower,
                 startupOptions,
+                physicalDataType,
                 producedDataType,
                 metadataKeys,
                 scanNewlyAddedTableEnabled,
@@ -413,7 +444,8 @@ public class MySqlTableSource implements ScanTableSource, SupportsReadingMetadat
                 parseOnlineSchemaChanges,
                 useLegacyJsonFormat,
                 assignUnboundedChunkFirst,
-                appendOnly);
+                appendOnly,
+                snapshotPrefetchSplits);
     }
 
     @Override
@@ -44,8 +44,10 @@ import org.apache.kafka.connect.source.SourceRecord;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicInteger;
 
@@ -337,6 +339,63 @@ class MySqlRecordEmitterTest {
         Assertions.assertThat(readerOutput.getEmittedRecords()).hasSize(1);
     }
 
+    @Test
+    void testMarkIdleBetweenHeartbeatsWithoutRecords() throws Exception {
+        MySqlRecordEmitter<String> recordEmitter =
+                createRecordEmitterWithCounter(new AtomicInteger(0));
+        MySqlBinlogSplitState splitState = createBinlogSplitState();
+        List<String> idleness = new ArrayList<>();
+        TestingReaderOutput<String> readerOutput =
+                new TestingReaderOutput<String>() {
+                    @Override
+                    public void markIdle() {
+                        idleness.add("idle");
+                    }
+
+                    @Override
+                    public void markActive() {
+                        idleness.add("active");
+                    }
+                };
+
+        // records were emitted before the first heartbeat
+        recordEmitter.emitRecord(
+                SourceRecords.fromSingleRecord(createHeartbeatEvent(100L)),
+                readerOutput,
+                splitState);
+        Assertions.assertThat(idleness).isEmpty();
+
+        // no records between the first and the second heartbeat
+        recordEmitter.emitRecord(
+                SourceRecords.fromSingleRecord(createHeartbeatEvent(200L)),
+                readerOutput,
+                splitState);
+        Assertions.assertThat(idleness).containsExactly("idle");
+        Assertions.assertThat(splitState.getStartingOffset())
+                .isEqualByComparingTo(BinlogOffset.ofBinlogFilePosition("mysql-bin.000001", 200L));
+
+        // further heartbeats keep the output idle without marking it again
+        recordEmitter.emitRecord(
+                SourceRecords.fromSingleRecord(createHeartbeatEvent(300L)),
+                readerOutput,
+                splitState);
+        Assertions.assertThat(idleness).containsExactly("idle");
+
+        recordEmitter.emitRecord(
+                SourceRecords.fromSingleRecord(createDataChangeEvent("test.table", 301L)),
+                readerOutput,
+                splitState);
+        Assertions.assertThat(idleness).containsExactly("idle", "active");
+        Assertions.assertThat(readerOutput.getEmittedRecords()).hasSize(1);
+
+        // a record between two heartbeats keeps the output active
+        recordEmitter.emitRecord(
+                SourceRecords.fromSingleRecord(createHeartbeatEvent(400L)),
+                readerOutput,
+                splitState);
+        Assertions.assertThat(idleness).containsExactly("idle", "active");
+    }
+
     private MySqlBinlogSplitState createBinlogSplitState() {
         return new MySqlBinlogSplitState(
                 new MySqlBinlogSplit(
@@ -422,6 +481,28 @@ class MySqlRecordEmitterTest {
                 value);
     }
 
+    private SourceRecord createHeartbeatEvent(long position) {
+        Schema valueSchema =
+                SchemaBuilder.struct()
+                        .name(RecordUtils.SCHEMA_HEARTBEAT_EVENT_KEY_NAME)
+                        .field("ts_ms", Schema.INT64_SCHEMA)
+                        .build();
+        Struct value = new Struct(valueSchema).put("ts_ms", System.currentTimeMillis());
+
+        Map<String, Object> offset = new HashMap<>();
+        offset.put("file", "mysql-bin.000001");
+        offset.put("pos", position);
+
+        return new SourceRecord(
+                Collections.singletonMap("server", "mysql_binlog_source"),
+                offset,
+                "__debezium-heartbeat.mysql_binlog_source",
+                null,
+                null,
+                valueSchema,
+                value);
+    }
+
     private SourceRecord createDataChangeEvent(String topicName, long position) {
         Schema keySchema = SchemaBuilder.struct().field("id", Schema.INT32_SCHEMA).build();
         Schema valueSchema =
@@ -33,6 +33,7 @@ import org.apache.flink.cdc.connectors.mysql.source.metrics.MySqlSourceReaderMet
 import org.apache.flink.cdc.connectors.mysql.source.offset.BinlogOffset;
 import org.apache.flink.cdc.connectors.mysql.source.split.MySqlBinlogSplit;
 import org.apache.flink.cdc.connectors.mysql.source.split.MySqlSnapshotSplit;
+import org.apache.flink.cdc.connectors.mysql.source.split.MySqlSnapshotSplitState;
 import org.apache.flink.cdc.connectors.mysql.source.split.MySqlSplit;
 import org.apache.flink.cdc.connectors.mysql.source.split.MySqlSplitState;
 import org.apache.flink.cdc.connectors.mysql.source.split.SourceRecords;
@@ -44,7 +45,9 @@ import org.apache.flink.cdc.connectors.mysql.testutils.UniqueDatabase;
 import org.apache.flink.cdc.debezium.DebeziumDeserializationSchema;
 import org.apache.flink.cdc.debezium.history.FlinkJsonTableChangeSerializer;
 import org.apache.flink.connector.base.source.reader.RecordEmitter;
+import org.apache.flink.connector.base.source.reader.RecordsBySplits;
 import org.apache.flink.connector.base.source.reader.RecordsWithSplitIds;
+import org.apache.flink.connector.base.source.reader.splitreader.SplitsChange;
 import org.apache.flink.connector.base.source.reader.synchronization.FutureCompletingBlockingQueue;
 import org.apache.flink.connector.testutils.source.reader.TestingReaderContext;
 import org.apache.flink.connector.testutils.source.reader.TestingReaderOutput;
@@ -539,6 +542,79 @@ class MySqlSourceReaderTest extends MySqlSourceTestBase {
         reader.close();
     }
 
+    @Test
+    void testRequestNextSplitAfterFinishedWithoutPrefetch() throws Exception {
+        TestingReaderContext readerContext = new TestingReaderContext();
+        MySqlSourceReader<SourceRecord> reader =
+                createIdleReader(getConfig(new String[] {"customers"}, false, 0), readerContext);
+        try {
+            reader.start();
+            Assertions.assertThat(readerContext.getNumSplitRequests()).isEqualTo(1);
+
+            reader.addSplits(Collections.singletonList(createSnapshotSplit(0)));
+            Assertions.assertThat(readerContext.getNumSplitRequests()).isEqualTo(1);
+
+            reader.onSplitFinished(finishedSplits(createSnapshotSplit(0)));
+            Assertions.assertThat(readerContext.getNumSplitRequests()).isEqualTo(2);
+        } finally {
+            reader.close();
+        }
+    }
+
+    @Test
+    void testPrefetchSnapshotSplits() throws Exception {
+        TestingReaderContext readerContext = new TestingReaderContext();
+        MySqlSourceReader<SourceRecord> reader =
+                createIdleReader(getConfig(new String[] {"customers"}, false, 2), readerContext);
+        try {
+            reader.start();
+            Assertions.assertThat(readerContext.getNumSplitRequests()).isEqualTo(1);
+
+            // requests more splits until the reader holds the prefetched splits
+            reader.addSplits(Collections.singletonList(createSnapshotSplit(0)));
+            Assertions.assertThat(readerContext.getNumSplitRequests()).isEqualTo(2);
+            reader.addSplits(Collections.singletonList(createSnapshotSplit(1)));
+            Assertions.assertThat(readerContext.getNumSplitRequests()).isEqualTo(3);
+            reader.addSplits(Collections.singletonList(createSnapshotSplit(2)));
+            Assertions.assertThat(readerContext.getNumSplitRequests()).isEqualTo(3);
+
+            // a finished split requests its successor
+            reader.onSplitFinished(finishedSplits(createSnapshotSplit(0)));
+            Assertions.assertThat(readerContext.getNumSplitRequests()).isEqualTo(4);
+            reader.addSplits(Collections.singletonList(createSnapshotSplit(3)));
+            Assertions.assertThat(readerContext.getNumSplitRequests()).isEqualTo(4);
+
+            // the prefetched splits are kept in the reader state for failover
+            Assertions.assertThat(reader.snapshotState(1L))
+                    .extracting(MySqlSplit::splitId)
+                    .containsExactlyInAnyOrder(
+                            createSnapshotSplit(0).splitId(),
+                            createSnapshotSplit(1).splitId(),
+                            createSnapshotSplit(2).splitId(),
+                            createSnapshotSplit(3).splitId());
+        } finally {
+            reader.close();
+        }
+    }
+
+    @Test
+    void testRestorePrefetchedSplits() throws Exception {
+        TestingReaderContext readerContext = new TestingReaderContext();
+        MySqlSourceReader<SourceRecord> reader =
+                createIdleReader(getConfig(new String[] {"customers"}, false, 2), readerContext);
+        try {
+            reader.addSplits(
+                    Arrays.asList(
+                            createSnapshotSplit(0),
+                            createSnapshotSplit(1),
+                            createSnapshotSplit(2)));
+            reader.start();
+            Assertions.assertThat(readerContext.getNumSplitRequests()).isZero();
+        } finally {
+            reader.close();
+        }
+    }
+
     private MySqlSourceReader<SourceRecord> createReader(MySqlSourceConfig configuration, int limit)
             throws Exception {
         return createReader(
@@ -587,6 +663,24 @@ class MySqlSourceReaderTest extends MySqlSourceTestBase {
                 configuration);
     }
 
+    private MySqlSourceReader<SourceRecord> createIdleReader(
+            MySqlSourceConfig configuration, TestingReaderContext readerContext) {
+        final MySqlSourceReaderContext mySqlSourceReaderContext =
+                new MySqlSourceReaderContext(readerContext);
+        return new MySqlSourceReader<>(
+                new FutureCompletingBlockingQueue<>(),
+                () -> new IdleSplitReader(configuration, mySqlSourceReaderContext),
+                new MySqlRecordEmitter<>(
+                        new ForwardDeserializeSchema(),
+                        new MySqlSourceReaderMetrics(readerContext.metricGroup()),
+                        configuration.isIncludeSchemaChanges(),
+                        configuration.isIncludeHeartbeatEvents(),
+                        configuration.isIncludeTransactionMetadataEvents()),
+                readerContext.getConfiguration(),
+                mySqlSourceReaderContext,
+                configuration);
+    }
+
     private MySqlSplitReader createSplitReader(
             MySqlSourceConfig configuration,
             MySqlSourceReaderContext readerContext,
@@ -619,6 +713,11 @@ class MySqlSourceReaderTest extends MySqlSourceTestBase {
     }
 
     private MySqlSourceConfig getConfig(String[] captureTables, boolean skipBackFill) {
+        return getConfig(captureTables, skipBackFill, 0);
+    }
+
+    private MySqlSourceConfig getConfig(
+            String[] captureTables, boolean skipBackFill, int snapshotPrefetchSplits) {
         String[] captureTableIds =
                 Arrays.stream(captureTables)
                         .map(tableName -> customerDatabase.getDatabaseName() + "." + tableName)
@@ -637,9 +736,27 @@ class MySqlSourceReaderTest extends MySqlSourceTestBase {
                 .password(customerDatabase.getPassword())
                 .serverTimeZone(ZoneId.of("UTC").toString())
                 .skipSnapshotBackfill(skipBackFill)
+                .snapshotPrefetchSplits(snapshotPrefetchSplits)
                 .createConfig(0);
     }
 
+    private MySqlSnapshotSplit createSnapshotSplit(int chunkId) {
+        return new MySqlSnapshotSplit(
+                TableId.parse(customerDatabase.getDatabaseName() + ".customers"),
+                chunkId,
+                (RowType) DataTypes.ROW(DataTypes.FIELD("id", DataTypes.BIGINT())).getLogicalType(),
+                new Object[] {chunkId * 100L},
+                new Object[] {(chunkId + 1) * 100L},
+                null,
+                new HashMap<>());
+    }
+
+    private static Map<String, MySqlSplitState> finishedSplits(MySqlSnapshotSplit split) {
+        Map<String, MySqlSplitState> finishedSplits = new HashMap<>();
+        finishedSplits.put(split.splitId(), new MySqlSnapshotSplitState(split));
+        return finishedSplits;
+    }
+
     private List<String> consumeSnapshotRecords(
             MySqlSourceReader<SourceRecord> sourceReader, DataType recordType) throws Exception {
         // Poll all the  records of the multiple assigned snapshot split.
@@ -847,6 +964,33 @@ class MySqlSourceReaderTest extends MySqlSourceTestBase {
         }
     }
 
+    /** A {@link MySqlSplitReader} that holds the assigned splits without reading them. */
+    private static class IdleSplitReader extends MySqlSplitReader {
+
+        IdleSplitReader(MySqlSourceConfig sourceConfig, MySqlSourceReaderContext context) {
+            super(sourceConfig, 0, context, SnapshotPhaseHooks.empty());
+        }
+
+        @Override
+        public RecordsWithSplitIds<SourceRecords> fetch() {
+            try {
+                Thread.sleep(10);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return new RecordsBySplits.Builder<SourceRecords>().build();
+        }
+
+        @Override
+        public void handleSplitsChanges(SplitsChange<MySqlSplit> splitsChanges) {}
+
+        @Override
+        public void wakeUp() {}
+
+        @Override
+        public void close() {}
+    }
+
     private String getTableNameRegex(String[] captureCustomerTables) {
         checkState(captureCustomerTables.length > 0);
         if (captureCustomerTables.length == 1) {
@@ -0,0 +1,185 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.connectors.mysql.source.utils;
+
+import org.apache.flink.cdc.common.source.SnapshotPredicate;
+import org.apache.flink.cdc.common.source.SnapshotPushDown;
+import org.apache.flink.cdc.debezium.utils.SnapshotPushDownUtils;
+import org.apache.flink.table.api.DataTypes;
+import org.apache.flink.table.types.logical.RowType;
+
+import io.debezium.relational.Column;
+import io.debezium.relational.Table;
+import io.debezium.relational.TableId;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+
+/** Tests for {@link StatementUtils}. */
+class StatementUtilsTest {
+
+    private static final TableId TABLE_ID = new TableId("test_db", null, "orders");
+
+    private static final RowType SPLIT_KEY_TYPE =
+            (RowType) DataTypes.ROW(DataTypes.FIELD("id", DataTypes.BIGINT())).getLogicalType();
+
+    private static final Table TABLE =
+            Table.editor()
+                    .tableId(TABLE_ID)
+                    .addColumns(
+                            column("id", Types.BIGINT, false),
+                            column("region", Types.VARCHAR, true),
+                            column("amount", Types.DECIMAL, true),
+                            column("note", Types.LONGVARCHAR, true),
+                            column("created", Types.TIMESTAMP, false))
+                    .setPrimaryKeyNames("id")
+                    .create();
+
+    @Test
+    void testBuildSplitScanQuery() {
+        Assertions.assertThat(
+                        StatementUtils.buildSplitScanQuery(TABLE_ID, SPLIT_KEY_TYPE, false, false))
+                .isEqualTo(
+                        "SELECT * FROM `test_db`.`orders` WHERE `id` >= ? AND NOT (`id` = ?) AND `id` <= ?");
+        Assertions.assertThat(
+                        StatementUtils.buildSplitScanQuery(
+                                TABLE_ID,
+                                SPLIT_KEY_TYPE,
+                                true,
+                                true,
+                                "`id`, `region`",
+                                Optional.of("`id` > 1000 OR `region` = 'EU'")))
+                .isEqualTo(
+                        "SELECT `id`, `region` FROM `test_db`.`orders` WHERE (`id` > 1000 OR `region` = 'EU')");
+        Assertions.assertThat(
+                        StatementUtils.buildSplitScanQuery(
+                                TABLE_ID,
+                                SPLIT_KEY_TYPE,
+                                false,
+                                true,
+                                "*",
+                                Optional.of("`id` > 1000")))
+                .isEqualTo("SELECT * FROM `test_db`.`orders` WHERE `id` >= ? AND (`id` > 1000)");
+    }
+
+    @Test
+    void testBuildPushedDownProjection() {
+        List<SnapshotPushDown> pushDowns =
+                Arrays.asList(
+                        new SnapshotPushDown(
+                                "test_db.orders",
+                                new HashSet<>(Collections.singletonList("amount")),
+                                Collections.emptyList()),
+                        new SnapshotPushDown("test_db.customers", null, Collections.emptyList()));
+        Assertions.assertThat(
+                        SnapshotPushDownUtils.buildProjection(
+                                TABLE,
+                                SnapshotPushDown.resolveRequiredColumns(
+                                        pushDowns,
+                                        org.apache.flink.cdc.common.event.TableId.tableId(
+                                                "test_db", "orders")),
+                                SPLIT_KEY_TYPE.getFieldNames(),
+                                StatementUtils::quote))
+                .hasValue(
+                        Arrays.asList(
+                                "`id`",
+                                "NULL AS `region`",
+                                "`amount`",
+                                "NULL AS `note`",
+                                "`created`"));
+        Assertions.assertThat(
+                        SnapshotPushDownUtils.buildProjection(
+                                TABLE,
+                                SnapshotPushDown.resolveRequiredColumns(
+                                        pushDowns,
+                                        org.apache.flink.cdc.common.event.TableId.tableId(
+                                                "test_db", "customers")),
+                                SPLIT_KEY_TYPE.getFieldNames(),
+                                StatementUtils::quote))
+                .isEmpty();
+    }
+
+    @Test
+    void testBuildPushedDownCondition() {
+        Assertions.assertThat(
+                        SnapshotPushDownUtils.buildCondition(
+                                TABLE,
+                                Arrays.asList(
+                                        Arrays.asList(
+                                                SnapshotPredicate.of(
+                                                        "id",
+                                                        SnapshotPredicate.Operator
+                                                                .GREATER_THAN_OR_EQUAL,
+                                                        new BigDecimal(1000)),
+                                                SnapshotPredicate.of(
+                                                        "region",
+                                                        SnapshotPredicate.Operator.EQUALS,
+                                                        "E'U"),
+                                                // inequality of strings depends on collations
+                                                SnapshotPredicate.of(
+                                                        "region",
+                                                        SnapshotPredicate.Operator.NOT_EQUALS,
+                                                        "US"),
+                                                // type mismatched
+                                                SnapshotPredicate.of(
+                                                        "note",
+                                                        SnapshotPredicate.Operator.EQUALS,
+                                                        new BigDecimal(1)),
+                                                // unknown column
+                                                SnapshotPredicate.isNull("op_ts")),
+                                        Arrays.asList(
+                                                SnapshotPredicate.of(
+                                                        "amount",
+                                                        SnapshotPredicate.Operator.LESS_THAN,
+                                                        new BigDecimal("1.5")),
+                                                SnapshotPredicate.of(
+                                                        "amount",
+                                                        SnapshotPredicate.Operator
+                                                                .LESS_THAN_OR_EQUAL,
+                                                        new BigDecimal(1)),
+                                                SnapshotPredicate.isNotNull("note"))),
+                                StatementUtils::quote))
+                .hasValue(
+                        "(`id` >= 1000 AND `region` = 'E''U') OR (`amount` < 1.5 AND `note` IS NOT NULL)");
+
+        // a disjunct without any translatable predicate requires all rows
+        Assertions.assertThat(
+                        SnapshotPushDownUtils.buildCondition(
+                                TABLE,
+                                Arrays.asList(
+                                        Collections.singletonList(SnapshotPredicate.isNull("id")),
+                                        Collections.singletonList(
+                                                SnapshotPredicate.of(
+                                                        "region",
+                                                        SnapshotPredicate.Operator.EQUALS,
+                                                        "a\\b"))),
+                                StatementUtils::quote))
+                .isEmpty();
+    }
+
+    private static Column column(String name, int jdbcType, boolean optional) {
+        return Column.editor().name(name).jdbcType(jdbcType).optional(optional).create();
+    }
+}
@@ -18,6 +18,7 @@
 package org.apache.flink.cdc.connectors.oracle.source;
 
 import org.apache.flink.cdc.common.annotation.Internal;
+import org.apache.flink.cdc.common.source.SnapshotPushDown;
 import org.apache.flink.cdc.connectors.base.options.StartupOptions;
 import org.apache.flink.cdc.connectors.base.source.jdbc.JdbcIncrementalSource;
 import org.apache.flink.cdc.connectors.oracle.source.config.OracleSourceConfigFactory;
@@ -28,6 +29,7 @@ import org.apache.flink.connector.base.source.reader.RecordEmitter;
 import javax.annotation.Nullable;
 
 import java.time.Duration;
+import java.util.List;
 import java.util.Properties;
 
 import static org.apache.flink.util.Preconditions.checkNotNull;
@@ -260,6 +262,34 @@ public class OracleSourceBuilder<T> {
         return this;
     }
 
+    /**
+     * The number of snapshot splits a source reader requests ahead of the split it reads, so that
+     * the next snapshot query starts without waiting for the enumerator. Defaults to 0.
+     */
+    public OracleSourceBuilder<T> snapshotPrefetchSplits(int snapshotPrefetchSplits) {
+        this.configFactory.snapshotPrefetchSplits(snapshotPrefetchSplits);
+        return this;
+    }
+
+    /**
+     * Times one of every N records emitted by a source reader for the stream phase metrics, which
+     * tell where a lagging reader spends its time. Defaults to 0, which disables these metrics.
+     */
+    public OracleSourceBuilder<T> streamPhaseMetricsSampleInterval(
+            int streamPhaseMetricsSampleInterval) {
+        this.configFactory.streamPhaseMetricsSampleInterval(streamPhaseMetricsSampleInterval);
+        return this;
+    }
+
+    /**
+     * The columns and rows required while reading snapshot splits, which are pushed down to the
+     * snapshot queries. All columns and rows are read by default.
+     */
+    public OracleSourceBuilder<T> snapshotPushDowns(List<SnapshotPushDown> snapshotPushDowns) {
+        this.configFactory.snapshotPushDowns(snapshotPushDowns);
+        return this;
+    }
+
     /**
      * Build the {@link OracleIncrementalSource}.
      *
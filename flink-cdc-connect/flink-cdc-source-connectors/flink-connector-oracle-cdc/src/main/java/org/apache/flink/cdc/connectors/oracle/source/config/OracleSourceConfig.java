@@ -17,6 +17,7 @@
 
 package org.apache.flink.cdc.connectors.oracle.source.config;
 
+import org.apache.flink.cdc.common.source.SnapshotPushDown;
 import org.apache.flink.cdc.connectors.base.config.JdbcSourceConfig;
 import org.apache.flink.cdc.connectors.base.options.StartupOptions;
 
@@ -38,6 +39,7 @@ public class OracleSourceConfig extends JdbcSourceConfig {
     private static final long serialVersionUID = 1L;
 
     @Nullable private String url;
+    private final List<SnapshotPushDown> snapshotPushDowns;
 
     public OracleSourceConfig(
             StartupOptions startupOptions,
@@ -65,7 +67,10 @@ public class OracleSourceConfig extends JdbcSourceConfig {
             String chunkKeyColumn,
             boolean skipSnapshotBackfill,
             boolean scanNewlyAddedTableEnabled,
-            boolean assignUnboundedChunkFirst) {
+            boolean assignUnboundedChunkFirst,
+            int snapshotPrefetchSplits,
+            int streamPhaseMetricsSampleInterval,
+            List<SnapshotPushDown> snapshotPushDowns) {
         super(
                 startupOptions,
                 databaseList,
@@ -92,8 +97,11 @@ public class OracleSourceConfig extends JdbcSourceConfig {
                 chunkKeyColumn,
                 skipSnapshotBackfill,
                 scanNewlyAddedTableEnabled,
-                assignUnboundedChunkFirst);
+                assignUnboundedChunkFirst,
+                snapshotPrefetchSplits,
+                streamPhaseMetricsSampleInterval);
         this.url = url;
+        this.snapshotPushDowns = snapshotPushDowns;
     }
 
     @Override
@@ -109,4 +117,8 @@ public class OracleSourceConfig extends JdbcSourceConfig {
     public String getUrl() {
         return url;
     }
+
+    public List<SnapshotPushDown> getSnapshotPushDowns() {
+        return snapshotPushDowns;
+    }
 }
@@ -17,6 +17,7 @@
 
 package org.apache.flink.cdc.connectors.oracle.source.config;
 
+import org.apache.flink.cdc.common.source.SnapshotPushDown;
 import org.apache.flink.cdc.connectors.base.config.JdbcSourceConfigFactory;
 import org.apache.flink.cdc.connectors.base.source.EmbeddedFlinkDatabaseHistory;
 
@@ -25,6 +26,7 @@ import io.debezium.connector.oracle.OracleConnector;
 
 import javax.annotation.Nullable;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Properties;
@@ -42,6 +44,7 @@ public class OracleSourceConfigFactory extends JdbcSourceConfigFactory {
 
     @Nullable private String url;
     private List<String> schemaList;
+    private List<SnapshotPushDown> snapshotPushDowns = new ArrayList<>();
 
     /** Url to use when connecting to the Oracle database server. */
     public JdbcSourceConfigFactory url(@Nullable String url) {
@@ -59,6 +62,12 @@ public class OracleSourceConfigFactory extends JdbcSourceConfigFactory {
         return this;
     }
 
+    /** The columns and rows required by transform rules while reading snapshot splits. */
+    public JdbcSourceConfigFactory snapshotPushDowns(List<SnapshotPushDown> snapshotPushDowns) {
+        this.snapshotPushDowns = snapshotPushDowns;
+        return this;
+    }
+
     /** Creates a new {@link OracleSourceConfig} for the given subtask {@code subtaskId}. */
     public OracleSourceConfig create(int subtaskId) {
         checkSupportCheckpointsAfterTasksFinished(closeIdleReaders);
@@ -135,6 +144,9 @@ public class OracleSourceConfigFactory extends JdbcSourceConfigFactory {
                 chunkKeyColumn,
                 skipSnapshotBackfill,
                 scanNewlyAddedTableEnabled,
-                assignUnboundedChunkFirst);
+                assignUnboundedChunkFirst,
+                snapshotPrefetchSplits,
+                streamPhaseMetricsSampleInterval,
+                snapshotPushDowns);
     }
 }
@@ -17,9 +17,12 @@
 
 package org.apache.flink.cdc.connectors.oracle.source.reader.fetch;
 
+import org.apache.flink.cdc.common.source.SnapshotPushDown;
 import org.apache.flink.cdc.connectors.base.source.meta.split.SnapshotSplit;
 import org.apache.flink.cdc.connectors.base.source.meta.split.StreamSplit;
 import org.apache.flink.cdc.connectors.base.source.reader.external.AbstractScanFetchTask;
+import org.apache.flink.cdc.connectors.oracle.source.utils.OracleUtils;
+import org.apache.flink.cdc.debezium.utils.SnapshotPushDownUtils;
 
 import io.debezium.DebeziumException;
 import io.debezium.config.Configuration;
@@ -51,6 +54,7 @@ import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.time.Duration;
+import java.util.List;
 
 import static org.apache.flink.cdc.connectors.oracle.source.reader.fetch.OracleStreamFetchTask.RedoLogSplitReadTask;
 import static org.apache.flink.cdc.connectors.oracle.source.utils.OracleUtils.buildSplitScanQuery;
@@ -74,7 +78,8 @@ public class OracleScanFetchTask extends AbstractScanFetchTask {
                         sourceFetchContext.getDatabaseSchema(),
                         sourceFetchContext.getConnection(),
                         sourceFetchContext.getEventDispatcher(),
-                        snapshotSplit);
+                        snapshotSplit,
+                        sourceFetchContext.getSourceConfig().getSnapshotPushDowns());
         StoppableChangeEventSourceContext changeEventSourceContext =
                 new StoppableChangeEventSourceContext();
         SnapshotResult<OracleOffsetContext> snapshotResult =
@@ -162,6 +167,7 @@ public class OracleScanFetchTask extends AbstractScanFetchTask {
         private final SnapshotSplit snapshotSplit;
         private final OracleOffsetContext offsetContext;
         private final SnapshotProgressListener<OraclePartition> snapshotProgressListener;
+        private final List<SnapshotPushDown> snapshotPushDowns;
 
         public OracleSnapshotSplitReadTask(
                 OracleConnectorConfig connectorConfig,
@@ -170,7 +176,8 @@ public class OracleScanFetchTask extends AbstractScanFetchTask {
                 OracleDatabaseSchema databaseSchema,
                 OracleConnection jdbcConnection,
                 EventDispatcher<OraclePartition, TableId> eventDispatcher,
-                SnapshotSplit snapshotSplit) {
+                SnapshotSplit snapshotSplit,
+                List<SnapshotPushDown> snapshotPushDowns) {
             super(connectorConfig, snapshotProgressListener);
             this.offsetContext = previousOffset;
             this.connectorConfig = connectorConfig;
@@ -180,6 +187,7 @@ public class OracleScanFetchTask extends AbstractScanFetchTask {
             this.clock = Clock.SYSTEM;
             this.snapshotSplit = snapshotSplit;
             this.snapshotProgressListener = snapshotProgressListener;
+            this.snapshotPushDowns = snapshotPushDowns;
         }
 
         @Override
@@ -263,12 +271,30 @@ public class OracleScanFetchTask extends AbstractScanFetchTask {
                     snapshotSplit.splitId(),
                     table.id());
 
+            org.apache.flink.cdc.common.event.TableId cdcTableId =
+                    org.apache.flink.cdc.common.event.TableId.tableId(
+                            table.id().schema(), table.id().table());
+            String projection =
+                    SnapshotPushDownUtils.buildProjection(
+                                    table,
+                                    SnapshotPushDown.resolveRequiredColumns(
+                                            snapshotPushDowns, cdcTableId),
+                                    snapshotSplit.getSplitKeyType().getFieldNames(),
+                                    OracleUtils::quote)
+                            .map(columns -> String.join(", ", columns))
+                            .orElse("*");
             final String selectSql =
                     buildSplitScanQuery(
                             snapshotSplit.getTableId(),
                             snapshotSplit.getSplitKeyType(),
                             snapshotSplit.getSplitStart() == null,
-                            snapshotSplit.getSplitEnd() == null);
+                            snapshotSplit.getSplitEnd() == null,
+                            projection,
+                            SnapshotPushDownUtils.buildCondition(
+                                    table,
+                                    SnapshotPushDown.resolvePredicates(
+                                            snapshotPushDowns, cdcTableId),
+                                    OracleUtils::quote));
             LOG.info(
                     "For split '{}' of table {} using select statement: '{}'",
                     snapshotSplit.splitId(),
@@ -106,7 +106,23 @@ public class OracleUtils {
 
     public static String buildSplitScanQuery(
             TableId tableId, RowType pkRowType, boolean isFirstSplit, boolean isLastSplit) {
-        return buildSplitQuery(tableId, pkRowType, isFirstSplit, isLastSplit, -1, true);
+        return buildSplitScanQuery(
+                tableId, pkRowType, isFirstSplit, isLastSplit, "*", Optional.empty());
+    }
+
+    /**
+     * Builds the scan query of a split with given select list, only reading rows satisfying given
+     * filter in addition to the split boundaries.
+     */
+    public static String buildSplitScanQuery(
+            TableId tableId,
+            RowType pkRowType,
+            boolean isFirstSplit,
+            boolean isLastSplit,
+            String projection,
+            Optional<String> filter) {
+        return buildSplitQuery(
+                tableId, pkRowType, isFirstSplit, isLastSplit, -1, true, projection, filter);
     }
 
     private static String buildSplitQuery(
@@ -115,8 +131,10 @@ public class OracleUtils {
             boolean isFirstSplit,
             boolean isLastSplit,
             int limitSize,
-            boolean isScanningData) {
-        final String condition;
+            boolean isScanningData,
+            String projection,
+            Optional<String> filter) {
+        String condition;
 
         if (isFirstSplit && isLastSplit) {
             condition = null;
@@ -146,9 +164,20 @@ public class OracleUtils {
             condition = sql.toString();
         }
 
+        if (filter.isPresent()) {
+            condition =
+                    condition == null
+                            ? "(" + filter.get() + ")"
+                            : condition + " AND (" + filter.get() + ")";
+        }
+
         if (isScanningData) {
             return buildSelectWithRowLimits(
-                    tableId, limitSize, "*", Optional.ofNullable(condition), Optional.empty());
+                    tableId,
+                    limitSize,
+                    projection,
+                    Optional.ofNullable(condition),
+                    Optional.empty());
         } else {
             final String orderBy =
                     pkRowType.getFieldNames().stream().collect(Collectors.joining(", "));
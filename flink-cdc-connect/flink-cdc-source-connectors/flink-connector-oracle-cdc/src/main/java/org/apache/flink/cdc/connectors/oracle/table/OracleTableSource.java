@@ -26,12 +26,15 @@ import org.apache.flink.cdc.debezium.DebeziumDeserializationSchema;
 import org.apache.flink.cdc.debezium.DebeziumSourceFunction;
 import org.apache.flink.cdc.debezium.table.MetadataConverter;
 import org.apache.flink.cdc.debezium.table.RowDataDebeziumDeserializeSchema;
+import org.apache.flink.cdc.debezium.utils.SnapshotPushDownUtils;
 import org.apache.flink.table.catalog.ResolvedSchema;
 import org.apache.flink.table.connector.ChangelogMode;
+import org.apache.flink.table.connector.Projection;
 import org.apache.flink.table.connector.source.DynamicTableSource;
 import org.apache.flink.table.connector.source.ScanTableSource;
 import org.apache.flink.table.connector.source.SourceFunctionProvider;
 import org.apache.flink.table.connector.source.SourceProvider;
+import org.apache.flink.table.connector.source.abilities.SupportsProjectionPushDown;
 import org.apache.flink.table.connector.source.abilities.SupportsReadingMetadata;
 import org.apache.flink.table.data.RowData;
 import org.apache.flink.table.types.DataType;
@@ -54,7 +57,8 @@ import static org.apache.flink.util.Preconditions.checkNotNull;
  * A {@link DynamicTableSource} that describes how to create a Oracle redo log from a logical
  * description.
  */
-public class OracleTableSource implements ScanTableSource, SupportsReadingMetadata {
+public class OracleTableSource
+        implements ScanTableSource, SupportsReadingMetadata, SupportsProjectionPushDown {
 
     private final ResolvedSchema physicalSchema;
     @Nullable private final String url;
@@ -81,6 +85,8 @@ public class OracleTableSource implements ScanTableSource, SupportsReadingMetada
     private final boolean skipSnapshotBackfill;
     private final boolean scanNewlyAddedTableEnabled;
     private final boolean assignUnboundedChunkFirst;
+    private final int streamPhaseMetricsSampleInterval;
+    private final int snapshotPrefetchSplits;
 
     // --------------------------------------------------------------------------------------------
     // Mutable attributes
@@ -89,6 +95,9 @@ public class OracleTableSource implements ScanTableSource, SupportsReadingMetada
     /** Data type that describes the final output of the source. */
     protected DataType producedDataType;
 
+    /** Data type that describes the physical columns read by the source. */
+    protected DataType physicalDataType;
+
     /** Metadata that is appended at the end of a physical source row. */
     protected List<String> metadataKeys;
 
@@ -117,7 +126,9 @@ public class OracleTableSource implements ScanTableSource, SupportsReadingMetada
             boolean closeIdleReaders,
             boolean skipSnapshotBackfill,
             boolean scanNewlyAddedTableEnabled,
-            boolean assignUnboundedChunkFirst) {
+            boolean assignUnboundedChunkFirst,
+            int streamPhaseMetricsSampleInterval,
+            int snapshotPrefetchSplits) {
         this.physicalSchema = physicalSchema;
         this.url = url;
         this.port = port;
@@ -129,6 +140,7 @@ public class OracleTableSource implements ScanTableSource, SupportsReadingMetada
         this.password = checkNotNull(password);
         this.dbzProperties = dbzProperties;
         this.startupOptions = startupOptions;
+        this.physicalDataType = physicalSchema.toPhysicalRowDataType();
         this.producedDataType = physicalSchema.toPhysicalRowDataType();
         this.metadataKeys = Collections.emptyList();
         this.enableParallelRead = enableParallelRead;
@@ -145,6 +157,8 @@ public class OracleTableSource implements ScanTableSource, SupportsReadingMetada
         this.skipSnapshotBackfill = skipSnapshotBackfill;
         this.scanNewlyAddedTableEnabled = scanNewlyAddedTableEnabled;
         this.assignUnboundedChunkFirst = assignUnboundedChunkFirst;
+        this.streamPhaseMetricsSampleInterval = streamPhaseMetricsSampleInterval;
+        this.snapshotPrefetchSplits = snapshotPrefetchSplits;
     }
 
     @Override
@@ -154,14 +168,13 @@ public class OracleTableSource implements ScanTableSource, SupportsReadingMetada
 
     @Override
     public ScanRuntimeProvider getScanRuntimeProvider(ScanContext scanContext) {
-        RowType physicalDataType =
-                (RowType) physicalSchema.toPhysicalRowDataType().getLogicalType();
+        RowType physicalRowType = (RowType) physicalDataType.getLogicalType();
         MetadataConverter[] metadataConverters = getMetadataConverters();
         TypeInformation<RowData> typeInfo = scanContext.createTypeInformation(producedDataType);
 
         DebeziumDeserializationSchema<RowData> deserializer =
                 RowDataDebeziumDeserializeSchema.newBuilder()
-                        .setPhysicalRowType(physicalDataType)
+                        .setPhysicalRowType(physicalRowType)
                         .setMetadataConverters(metadataConverters)
                         .setResultTypeInfo(typeInfo)
                         .setUserDefinedConverterFactory(
@@ -192,9 +205,15 @@ public class OracleTableSource implements ScanTableSource, SupportsReadingMetada
                             .distributionFactorLower(distributionFactorLower)
                             .closeIdleReaders(closeIdleReaders)
                             .skipSnapshotBackfill(skipSnapshotBackfill)
+                            .snapshotPrefetchSplits(snapshotPrefetchSplits)
+                            .streamPhaseMetricsSampleInterval(streamPhaseMetricsSampleInterval)
                             .chunkKeyColumn(chunkKeyColumn)
                             .scanNewlyAddedTableEnabled(scanNewlyAddedTableEnabled)
                             .assignUnboundedChunkFirst(assignUnboundedChunkFirst)
+                            .snapshotPushDowns(
+                                    Collections.singletonList(
+                                            SnapshotPushDownUtils.projectionPushDown(
+                                                    physicalRowType.getFieldNames())))
                             .build();
 
             return SourceProvider.of(oracleChangeEventSource);
@@ -234,6 +253,17 @@ public class OracleTableSource implements ScanTableSource, SupportsReadingMetada
                 .toArray(MetadataConverter[]::new);
     }
 
+    @Override
+    public boolean supportsNestedProjection() {
+        return false;
+    }
+
+    @Override
+    public void applyProjection(int[][] projectedFields, DataType producedDataType) {
+        this.physicalDataType = Projection.of(projectedFields).project(physicalDataType);
+        this.producedDataType = producedDataType;
+    }
+
     @Override
     public DynamicTableSource copy() {
         OracleTableSource source =
@@ -262,8 +292,11 @@ public class OracleTableSource implements ScanTableSource, SupportsReadingMetada
                         closeIdleReaders,
                         skipSnapshotBackfill,
                         scanNewlyAddedTableEnabled,
-                        assignUnboundedChunkFirst);
+                        assignUnboundedChunkFirst,
+                        streamPhaseMetricsSampleInterval,
+                        snapshotPrefetchSplits);
         source.metadataKeys = metadataKeys;
+        source.physicalDataType = physicalDataType;
         source.producedDataType = producedDataType;
         return source;
     }
@@ -288,6 +321,7 @@ public class OracleTableSource implements ScanTableSource, SupportsReadingMetada
                 && Objects.equals(schemaName, that.schemaName)
                 && Objects.equals(dbzProperties, that.dbzProperties)
                 && Objects.equals(startupOptions, that.startupOptions)
+                && Objects.equals(physicalDataType, that.physicalDataType)
                 && Objects.equals(producedDataType, that.producedDataType)
                 && Objects.equals(metadataKeys, that.metadataKeys)
                 && Objects.equals(enableParallelRead, that.enableParallelRead)
@@ -303,7 +337,10 @@ public class OracleTableSource implements ScanTableSource, SupportsReadingMetada
                 && Objects.equals(closeIdleReaders, that.closeIdleReaders)
                 && Objects.equals(skipSnapshotBackfill, that.skipSnapshotBackfill)
                 && Objects.equals(scanNewlyAddedTableEnabled, that.scanNewlyAddedTableEnabled)
-                && Objects.equals(assignUnboundedChunkFirst, that.assignUnboundedChunkFirst);
+                && Objects.equals(assignUnboundedChunkFirst, that.assignUnboundedChunkFirst)
+                && Objects.equals(
+                        streamPhaseMetricsSampleInterval, that.streamPhaseMetricsSampleInterval)
+                && Objects.equals(snapshotPrefetchSplits, that.snapshotPrefetchSplits);
     }
 
     @Override
@@ -320,6 +357,7 @@ public class OracleTableSource implements ScanTableSource, SupportsReadingMetada
                 schemaName,
                 dbzProperties,
                 startupOptions,
+                physicalDataType,
                 producedDataType,
                 metadataKeys,
                 enableParallelRead,
@@ -335,7 +373,9 @@ public class OracleTableSource implements ScanTableSource, SupportsReadingMetada
                 closeIdleReaders,
                 skipSnapshotBackfill,
                 scanNewlyAddedTableEnabled,
-                assignUnboundedChunkFirst);
+                assignUnboundedChunkFirst,
+                streamPhaseMetricsSampleInterval,
+                snapshotPrefetchSplits);
     }
 
     @Override
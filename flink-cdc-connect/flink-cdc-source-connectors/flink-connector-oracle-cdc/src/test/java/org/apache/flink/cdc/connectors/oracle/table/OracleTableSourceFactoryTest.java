@@ -45,6 +45,9 @@ import java.util.HashMap;
 import java.util.Map;
 import java.util.Properties;
 
+import static org.apache.flink.cdc.connectors.base.options.SourceOptions.SCAN_INCREMENTAL_SNAPSHOT_PREFETCH_SPLITS;
+import static org.apache.flink.cdc.connectors.base.options.SourceOptions.SCAN_INCREMENTAL_STREAM_PHASE_METRICS_SAMPLE_INTERVAL;
+
 /** Test for {@link OracleTableSource} created by {@link OracleTableSourceFactory}. */
 class OracleTableSourceFactoryTest {
     private static final ResolvedSchema SCHEMA =
@@ -117,7 +120,9 @@ class OracleTableSourceFactoryTest {
                         JdbcSourceOptions.SCAN_INCREMENTAL_SNAPSHOT_BACKFILL_SKIP.defaultValue(),
                         JdbcSourceOptions.SCAN_NEWLY_ADDED_TABLE_ENABLED.defaultValue(),
                         JdbcSourceOptions.SCAN_INCREMENTAL_SNAPSHOT_UNBOUNDED_CHUNK_FIRST_ENABLED
-                                .defaultValue());
+                                .defaultValue(),
+                        SCAN_INCREMENTAL_STREAM_PHASE_METRICS_SAMPLE_INTERVAL.defaultValue(),
+                        SCAN_INCREMENTAL_SNAPSHOT_PREFETCH_SPLITS.defaultValue());
         Assertions.assertThat(actualSource).isEqualTo(expectedSource);
     }
 
@@ -156,7 +161,9 @@ class OracleTableSourceFactoryTest {
                         SourceOptions.SCAN_INCREMENTAL_SNAPSHOT_BACKFILL_SKIP.defaultValue(),
                         SourceOptions.SCAN_NEWLY_ADDED_TABLE_ENABLED.defaultValue(),
                         JdbcSourceOptions.SCAN_INCREMENTAL_SNAPSHOT_UNBOUNDED_CHUNK_FIRST_ENABLED
-                                .defaultValue());
+                                .defaultValue(),
+                        SCAN_INCREMENTAL_STREAM_PHASE_METRICS_SAMPLE_INTERVAL.defaultValue(),
+                        SCAN_INCREMENTAL_SNAPSHOT_PREFETCH_SPLITS.defaultValue());
         Assertions.assertThat(actualSource).isEqualTo(expectedSource);
     }
 
@@ -200,7 +207,9 @@ class OracleTableSourceFactoryTest {
                         SourceOptions.SCAN_INCREMENTAL_SNAPSHOT_BACKFILL_SKIP.defaultValue(),
                         true,
                         JdbcSourceOptions.SCAN_INCREMENTAL_SNAPSHOT_UNBOUNDED_CHUNK_FIRST_ENABLED
-                                .defaultValue());
+                                .defaultValue(),
+                        SCAN_INCREMENTAL_STREAM_PHASE_METRICS_SAMPLE_INTERVAL.defaultValue(),
+                        SCAN_INCREMENTAL_SNAPSHOT_PREFETCH_SPLITS.defaultValue());
         Assertions.assertThat(actualSource).isEqualTo(expectedSource);
     }
 
@@ -272,7 +281,9 @@ class OracleTableSourceFactoryTest {
                         true,
                         true,
                         true,
-                        true);
+                        true,
+                        SCAN_INCREMENTAL_STREAM_PHASE_METRICS_SAMPLE_INTERVAL.defaultValue(),
+                        SCAN_INCREMENTAL_SNAPSHOT_PREFETCH_SPLITS.defaultValue());
         Assertions.assertThat(actualSource).isEqualTo(expectedSource);
     }
 
@@ -312,7 +323,9 @@ class OracleTableSourceFactoryTest {
                         SourceOptions.SCAN_INCREMENTAL_SNAPSHOT_BACKFILL_SKIP.defaultValue(),
                         SourceOptions.SCAN_NEWLY_ADDED_TABLE_ENABLED.defaultValue(),
                         JdbcSourceOptions.SCAN_INCREMENTAL_SNAPSHOT_UNBOUNDED_CHUNK_FIRST_ENABLED
-                                .defaultValue());
+                                .defaultValue(),
+                        SCAN_INCREMENTAL_STREAM_PHASE_METRICS_SAMPLE_INTERVAL.defaultValue(),
+                        SCAN_INCREMENTAL_SNAPSHOT_PREFETCH_SPLITS.defaultValue());
         Assertions.assertThat(actualSource).isEqualTo(expectedSource);
     }
 
@@ -352,7 +365,9 @@ class OracleTableSourceFactoryTest {
                         SourceOptions.SCAN_INCREMENTAL_SNAPSHOT_BACKFILL_SKIP.defaultValue(),
                         SourceOptions.SCAN_NEWLY_ADDED_TABLE_ENABLED.defaultValue(),
                         JdbcSourceOptions.SCAN_INCREMENTAL_SNAPSHOT_UNBOUNDED_CHUNK_FIRST_ENABLED
-                                .defaultValue());
+                                .defaultValue(),
+                        SCAN_INCREMENTAL_STREAM_PHASE_METRICS_SAMPLE_INTERVAL.defaultValue(),
+                        SCAN_INCREMENTAL_SNAPSHOT_PREFETCH_SPLITS.defaultValue());
         Assertions.assertThat(actualSource).isEqualTo(expectedSource);
     }
 
@@ -396,7 +411,9 @@ class OracleTableSourceFactoryTest {
                         SourceOptions.SCAN_INCREMENTAL_SNAPSHOT_BACKFILL_SKIP.defaultValue(),
                         SourceOptions.SCAN_NEWLY_ADDED_TABLE_ENABLED.defaultValue(),
                         JdbcSourceOptions.SCAN_INCREMENTAL_SNAPSHOT_UNBOUNDED_CHUNK_FIRST_ENABLED
-                                .defaultValue());
+                                .defaultValue(),
+                        SCAN_INCREMENTAL_STREAM_PHASE_METRICS_SAMPLE_INTERVAL.defaultValue(),
+                        SCAN_INCREMENTAL_SNAPSHOT_PREFETCH_SPLITS.defaultValue());
         expectedSource.producedDataType = SCHEMA_WITH_METADATA.toSourceRowDataType();
         expectedSource.metadataKeys =
                 Arrays.asList("op_ts", "database_name", "table_name", "schema_name");
@@ -20,6 +20,7 @@ package org.apache.flink.cdc.connectors.postgres.source;
 import org.apache.flink.api.connector.source.SourceReaderContext;
 import org.apache.flink.api.connector.source.SplitEnumeratorContext;
 import org.apache.flink.cdc.common.annotation.Experimental;
+import org.apache.flink.cdc.common.source.SnapshotPushDown;
 import org.apache.flink.cdc.connectors.base.config.JdbcSourceConfig;
 import org.apache.flink.cdc.connectors.base.options.StartupOptions;
 import org.apache.flink.cdc.connectors.base.source.assigner.HybridSplitAssigner;
@@ -293,6 +294,34 @@ public class PostgresSourceBuilder<T> {
         return this;
     }
 
+    /**
+     * The number of snapshot splits a source reader requests ahead of the split it reads, so that
+     * the next snapshot query starts without waiting for the enumerator. Defaults to 0.
+     */
+    public PostgresSourceBuilder<T> snapshotPrefetchSplits(int snapshotPrefetchSplits) {
+        this.configFactory.snapshotPrefetchSplits(snapshotPrefetchSplits);
+        return this;
+    }
+
+    /**
+     * Times one of every N records emitted by a source reader for the stream phase metrics, which
+     * tell where a lagging reader spends its time. Defaults to 0, which disables these metrics.
+     */
+    public PostgresSourceBuilder<T> streamPhaseMetricsSampleInterval(
+            int streamPhaseMetricsSampleInterval) {
+        this.configFactory.streamPhaseMetricsSampleInterval(streamPhaseMetricsSampleInterval);
+        return this;
+    }
+
+    /**
+     * The columns and rows required while reading snapshot splits, which are pushed down to the
+     * snapshot queries. All columns and rows are read by default.
+     */
+    public PostgresSourceBuilder<T> snapshotPushDowns(List<SnapshotPushDown> snapshotPushDowns) {
+        this.configFactory.setSnapshotPushDowns(snapshotPushDowns);
+        return this;
+    }
+
     /** Set the {@code LSN} checkpoints delay number for Postgres to commit the offsets. */
     public PostgresSourceBuilder<T> lsnCommitCheckpointsDelay(int lsnCommitDelay) {
         this.configFactory.setLsnCommitCheckpointsDelay(lsnCommitDelay);
@@ -422,10 +451,14 @@ public class PostgresSourceBuilder<T> {
                     new FutureCompletingBlockingQueue<>();
 
             final SourceReaderMetrics sourceReaderMetrics =
-                    new SourceReaderMetrics(readerContext.metricGroup());
+                    new SourceReaderMetrics(
+                            readerContext.metricGroup(),
+                            sourceConfig.getStreamPhaseMetricsSampleInterval());
 
             IncrementalSourceReaderContext incrementalSourceReaderContext =
                     new IncrementalSourceReaderContext(readerContext);
+            incrementalSourceReaderContext.setStreamPhaseMetrics(
+                    sourceReaderMetrics.getStreamPhaseMetrics());
             Supplier<IncrementalSourceSplitReader<JdbcSourceConfig>> splitReaderSupplier =
                     () ->
                             new IncrementalSourceSplitReader<>(
@@ -17,6 +17,7 @@
 
 package org.apache.flink.cdc.connectors.postgres.source.config;
 
+import org.apache.flink.cdc.common.source.SnapshotPushDown;
 import org.apache.flink.cdc.connectors.base.config.JdbcSourceConfig;
 import org.apache.flink.cdc.connectors.base.options.StartupOptions;
 
@@ -40,6 +41,7 @@ public class PostgresSourceConfig extends JdbcSourceConfig {
     private final int lsnCommitCheckpointsDelay;
     private final boolean includePartitionedTables;
     private final boolean includeDatabaseInTableId;
+    private final List<SnapshotPushDown> snapshotPushDowns;
 
     public PostgresSourceConfig(
             int subtaskId,
@@ -70,8 +72,11 @@ public class PostgresSourceConfig extends JdbcSourceConfig {
             boolean isScanNewlyAddedTableEnabled,
             int lsnCommitCheckpointsDelay,
             boolean assignUnboundedChunkFirst,
+            int snapshotPrefetchSplits,
+            int streamPhaseMetricsSampleInterval,
             boolean includePartitionedTables,
-            boolean includeDatabaseInTableId) {
+            boolean includeDatabaseInTableId,
+            List<SnapshotPushDown> snapshotPushDowns) {
         super(
                 startupOptions,
                 databaseList,
@@ -98,11 +103,14 @@ public class PostgresSourceConfig extends JdbcSourceConfig {
                 chunkKeyColumn,
                 skipSnapshotBackfill,
                 isScanNewlyAddedTableEnabled,
-                assignUnboundedChunkFirst);
+                assignUnboundedChunkFirst,
+                snapshotPrefetchSplits,
+                streamPhaseMetricsSampleInterval);
         this.subtaskId = subtaskId;
         this.lsnCommitCheckpointsDelay = lsnCommitCheckpointsDelay;
         this.includePartitionedTables = includePartitionedTables;
         this.includeDatabaseInTableId = includeDatabaseInTableId;
+        this.snapshotPushDowns = snapshotPushDowns;
     }
 
     /**
@@ -160,4 +168,13 @@ public class PostgresSourceConfig extends JdbcSourceConfig {
     public boolean isIncludeDatabaseInTableId() {
         return includeDatabaseInTableId;
     }
+
+    /**
+     * Returns the columns and rows required by transform rules while reading snapshot splits.
+     *
+     * @return snapshot push-downs
+     */
+    public List<SnapshotPushDown> getSnapshotPushDowns() {
+        return snapshotPushDowns;
+    }
 }
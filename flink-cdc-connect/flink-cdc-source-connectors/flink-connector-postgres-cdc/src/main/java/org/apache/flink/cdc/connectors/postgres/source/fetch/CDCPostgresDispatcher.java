@@ -22,14 +22,18 @@ import org.apache.flink.cdc.connectors.base.source.meta.offset.Offset;
 import org.apache.flink.cdc.connectors.base.source.meta.split.SourceSplitBase;
 import org.apache.flink.cdc.connectors.base.source.meta.wartermark.WatermarkEvent;
 import org.apache.flink.cdc.connectors.base.source.meta.wartermark.WatermarkKind;
+import org.apache.flink.cdc.debezium.internal.AdaptiveHeartbeat;
 
 import io.debezium.connector.base.ChangeEventQueue;
 import io.debezium.connector.postgresql.PostgresConnectorConfig;
 import io.debezium.connector.postgresql.PostgresEventDispatcher;
+import io.debezium.connector.postgresql.PostgresPartition;
 import io.debezium.heartbeat.HeartbeatFactory;
 import io.debezium.pipeline.DataChangeEvent;
 import io.debezium.pipeline.source.spi.EventMetadataProvider;
 import io.debezium.pipeline.spi.ChangeEventCreator;
+import io.debezium.pipeline.spi.ChangeRecordEmitter;
+import io.debezium.pipeline.spi.OffsetContext;
 import io.debezium.relational.TableId;
 import io.debezium.schema.DataCollectionFilters;
 import io.debezium.schema.DatabaseSchema;
@@ -44,6 +48,7 @@ public class CDCPostgresDispatcher extends PostgresEventDispatcher<TableId>
         implements WatermarkDispatcher {
     private final String topic;
     private final ChangeEventQueue<DataChangeEvent> queue;
+    private final AdaptiveHeartbeat adaptiveHeartbeat;
 
     public CDCPostgresDispatcher(
             PostgresConnectorConfig connectorConfig,
@@ -67,6 +72,29 @@ public class CDCPostgresDispatcher extends PostgresEventDispatcher<TableId>
                 schemaNameAdjuster);
         this.topic = topicSelector.getPrimaryTopic();
         this.queue = queue;
+        this.adaptiveHeartbeat = new AdaptiveHeartbeat(connectorConfig);
+    }
+
+    @Override
+    public boolean dispatchDataChangeEvent(
+            PostgresPartition partition,
+            TableId dataCollectionId,
+            ChangeRecordEmitter<PostgresPartition> changeRecordEmitter)
+            throws InterruptedException {
+        boolean handled =
+                super.dispatchDataChangeEvent(partition, dataCollectionId, changeRecordEmitter);
+        if (handled) {
+            adaptiveHeartbeat.onDataChangeEvent();
+        }
+        return handled;
+    }
+
+    @Override
+    public void dispatchHeartbeatEvent(PostgresPartition partition, OffsetContext offset)
+            throws InterruptedException {
+        if (adaptiveHeartbeat.isIdle()) {
+            super.dispatchHeartbeatEvent(partition, offset);
+        }
     }
 
     @Override
@@ -17,6 +17,7 @@
 
 package org.apache.flink.cdc.connectors.postgres.source.fetch;
 
+import org.apache.flink.cdc.common.source.SnapshotPushDown;
 import org.apache.flink.cdc.connectors.base.source.meta.split.SnapshotSplit;
 import org.apache.flink.cdc.connectors.base.source.meta.split.StreamSplit;
 import org.apache.flink.cdc.connectors.base.source.reader.external.AbstractScanFetchTask;
@@ -24,6 +25,7 @@ import org.apache.flink.cdc.connectors.base.source.reader.external.FetchTask;
 import org.apache.flink.cdc.connectors.postgres.source.config.PostgresSourceConfig;
 import org.apache.flink.cdc.connectors.postgres.source.offset.PostgresOffsetUtils;
 import org.apache.flink.cdc.connectors.postgres.source.utils.PostgresQueryUtils;
+import org.apache.flink.cdc.debezium.utils.SnapshotPushDownUtils;
 import org.apache.flink.util.FlinkRuntimeException;
 
 import io.debezium.connector.postgresql.PostgresConnectorConfig;
@@ -53,6 +55,7 @@ import org.slf4j.LoggerFactory;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 import java.util.stream.Collectors;
@@ -95,6 +98,7 @@ public class PostgresScanFetchTask extends AbstractScanFetchTask {
     @Override
     protected void executeDataSnapshot(Context context) throws Exception {
         PostgresSourceFetchTaskContext ctx = (PostgresSourceFetchTaskContext) context;
+        PostgresSourceConfig sourceConfig = (PostgresSourceConfig) ctx.getSourceConfig();
 
         PostgresSnapshotSplitReadTask snapshotSplitReadTask =
                 new PostgresSnapshotSplitReadTask(
@@ -104,7 +108,9 @@ public class PostgresScanFetchTask extends AbstractScanFetchTask {
                         ctx.getOffsetContext(),
                         ctx.getEventDispatcher(),
                         ctx.getSnapshotChangeEventSourceMetrics(),
-                        snapshotSplit);
+                        snapshotSplit,
+                        sourceConfig.getSnapshotPushDowns(),
+                        sourceConfig.isIncludeDatabaseInTableId());
 
         StoppableChangeEventSourceContext changeEventSourceContext =
                 new StoppableChangeEventSourceContext();
@@ -220,6 +226,8 @@ public class PostgresScanFetchTask extends AbstractScanFetchTask {
         private final PostgresOffsetContext offsetContext;
         private final PostgresSchema databaseSchema;
         private final SnapshotProgressListener<PostgresPartition> snapshotProgressListener;
+        private final List<SnapshotPushDown> snapshotPushDowns;
+        private final boolean includeDatabaseInTableId;
         private final Clock clock;
 
         public PostgresSnapshotSplitReadTask(
@@ -230,6 +238,28 @@ public class PostgresScanFetchTask extends AbstractScanFetchTask {
                 PostgresEventDispatcher<TableId> eventDispatcher,
                 SnapshotProgressListener snapshotProgressListener,
                 SnapshotSplit snapshotSplit) {
+            this(
+                    jdbcConnection,
+                    connectorConfig,
+                    databaseSchema,
+                    previousOffset,
+                    eventDispatcher,
+                    snapshotProgressListener,
+                    snapshotSplit,
+                    Collections.emptyList(),
+                    false);
+        }
+
+        public PostgresSnapshotSplitReadTask(
+                PostgresConnection jdbcConnection,
+                PostgresConnectorConfig connectorConfig,
+                PostgresSchema databaseSchema,
+                PostgresOffsetContext previousOffset,
+                PostgresEventDispatcher<TableId> eventDispatcher,
+                SnapshotProgressListener snapshotProgressListener,
+                SnapshotSplit snapshotSplit,
+                List<SnapshotPushDown> snapshotPushDowns,
+                boolean includeDatabaseInTableId) {
             super(connectorConfig, snapshotProgressListener);
             this.jdbcConnection = jdbcConnection;
             this.connectorConfig = connectorConfig;
@@ -238,6 +268,8 @@ public class PostgresScanFetchTask extends AbstractScanFetchTask {
             this.eventDispatcher = eventDispatcher;
             this.snapshotSplit = snapshotSplit;
             this.offsetContext = previousOffset;
+            this.snapshotPushDowns = snapshotPushDowns;
+            this.includeDatabaseInTableId = includeDatabaseInTableId;
             this.clock = Clock.SYSTEM;
         }
 
@@ -287,10 +319,28 @@ public class PostgresScanFetchTask extends AbstractScanFetchTask {
                             .filter(field -> table.columnWithName(field).typeName().equals("uuid"))
                             .collect(Collectors.toList());
 
+            org.apache.flink.cdc.common.event.TableId cdcTableId =
+                    includeDatabaseInTableId
+                            ? org.apache.flink.cdc.common.event.TableId.tableId(
+                                    table.id().catalog(), table.id().schema(), table.id().table())
+                            : org.apache.flink.cdc.common.event.TableId.tableId(
+                                    table.id().schema(), table.id().table());
             List<String> columnNames =
-                    table.columns().stream()
-                            .map(column -> jdbcConnection.quotedColumnIdString(column.name()))
-                            .collect(Collectors.toList());
+                    SnapshotPushDownUtils.buildProjection(
+                                    table,
+                                    SnapshotPushDown.resolveRequiredColumns(
+                                            snapshotPushDowns, cdcTableId),
+                                    snapshotSplit.getSplitKeyType().getFieldNames(),
+                                    jdbcConnection::quotedColumnIdString)
+                            .orElseGet(
+                                    () ->
+                                            table.columns().stream()
+                                                    .map(
+                                                            column ->
+                                                                    jdbcConnection
+                                                                            .quotedColumnIdString(
+                                                                                    column.name()))
+                                                    .collect(Collectors.toList()));
             final String selectSql =
                     PostgresQueryUtils.buildSplitScanQuery(
                             snapshotSplit.getTableId(),
@@ -298,7 +348,12 @@ public class PostgresScanFetchTask extends AbstractScanFetchTask {
                             snapshotSplit.getSplitStart() == null,
                             snapshotSplit.getSplitEnd() == null,
                             columnNames,
-                            uuidFields);
+                            uuidFields,
+                            SnapshotPushDownUtils.buildCondition(
+                                    table,
+                                    SnapshotPushDown.resolvePredicates(
+                                            snapshotPushDowns, cdcTableId),
+                                    jdbcConnection::quotedColumnIdString));
             LOG.debug(
                     "For split '{}' of table {} using select statement: '{}'",
                     snapshotSplit.splitId(),
@@ -165,7 +165,29 @@ public class PostgresQueryUtils {
             boolean isLastSplit,
             List<String> columnNames,
             List<String> uuidFields) {
-        final String condition;
+        return buildSplitScanQuery(
+                tableId,
+                pkRowType,
+                isFirstSplit,
+                isLastSplit,
+                columnNames,
+                uuidFields,
+                Optional.empty());
+    }
+
+    /**
+     * Builds the scan query of a split, only reading rows satisfying given filter in addition to
+     * the split boundaries.
+     */
+    public static String buildSplitScanQuery(
+            TableId tableId,
+            RowType pkRowType,
+            boolean isFirstSplit,
+            boolean isLastSplit,
+            List<String> columnNames,
+            List<String> uuidFields,
+            Optional<String> filter) {
+        String condition;
 
         if (isFirstSplit && isLastSplit) {
             condition = null;
@@ -190,6 +212,12 @@ public class PostgresQueryUtils {
             addPrimaryKeyColumnsToCondition(pkRowType, sql, " <= ", uuidFields);
             condition = sql.toString();
         }
+        if (filter.isPresent()) {
+            condition =
+                    condition == null
+                            ? "(" + filter.get() + ")"
+                            : condition + " AND (" + filter.get() + ")";
+        }
 
         return buildSelectWithRowLimits(
                 tableId,
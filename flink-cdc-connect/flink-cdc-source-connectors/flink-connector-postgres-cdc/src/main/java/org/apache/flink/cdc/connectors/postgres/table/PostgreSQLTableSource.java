@@ -27,12 +27,15 @@ import org.apache.flink.cdc.debezium.DebeziumSourceFunction;
 import org.apache.flink.cdc.debezium.table.DebeziumChangelogMode;
 import org.apache.flink.cdc.debezium.table.MetadataConverter;
 import org.apache.flink.cdc.debezium.table.RowDataDebeziumDeserializeSchema;
+import org.apache.flink.cdc.debezium.utils.SnapshotPushDownUtils;
 import org.apache.flink.table.catalog.ResolvedSchema;
 import org.apache.flink.table.connector.ChangelogMode;
+import org.apache.flink.table.connector.Projection;
 import org.apache.flink.table.connector.source.DynamicTableSource;
 import org.apache.flink.table.connector.source.ScanTableSource;
 import org.apache.flink.table.connector.source.SourceFunctionProvider;
 import org.apache.flink.table.connector.source.SourceProvider;
+import org.apache.flink.table.connector.source.abilities.SupportsProjectionPushDown;
 import org.apache.flink.table.connector.source.abilities.SupportsReadingMetadata;
 import org.apache.flink.table.data.RowData;
 import org.apache.flink.table.types.DataType;
@@ -55,7 +58,8 @@ import static org.apache.flink.util.Preconditions.checkNotNull;
  * A {@link DynamicTableSource} that describes how to create a PostgreSQL source from a logical
  * description.
  */
-public class PostgreSQLTableSource implements ScanTableSource, SupportsReadingMetadata {
+public class PostgreSQLTableSource
+        implements ScanTableSource, SupportsReadingMetadata, SupportsProjectionPushDown {
 
     private final ResolvedSchema physicalSchema;
     private final int port;
@@ -88,6 +92,8 @@ public class PostgreSQLTableSource implements ScanTableSource, SupportsReadingMe
     private final boolean assignUnboundedChunkFirst;
     private final boolean appendOnly;
     private final boolean includePartitionedTables;
+    private final int streamPhaseMetricsSampleInterval;
+    private final int snapshotPrefetchSplits;
 
     // --------------------------------------------------------------------------------------------
     // Mutable attributes
@@ -96,6 +102,9 @@ public class PostgreSQLTableSource implements ScanTableSource, SupportsReadingMe
     /** Data type that describes the final output of the source. */
     protected DataType producedDataType;
 
+    /** Data type that describes the physical columns read by the source. */
+    protected DataType physicalDataType;
+
     /** Metadata that is appended at the end of a physical source row. */
     protected List<String> metadataKeys;
 
@@ -130,7 +139,9 @@ public class PostgreSQLTableSource implements ScanTableSource, SupportsReadingMe
             int lsnCommitCheckpointsDelay,
             boolean assignUnboundedChunkFirst,
             boolean appendOnly,
-            boolean includePartitionedTables) {
+            boolean includePartitionedTables,
+            int streamPhaseMetricsSampleInterval,
+            int snapshotPrefetchSplits) {
         this.physicalSchema = physicalSchema;
         this.port = port;
         this.hostname = checkNotNull(hostname);
@@ -156,6 +167,7 @@ public class PostgreSQLTableSource implements ScanTableSource, SupportsReadingMe
         this.startupOptions = startupOptions;
         this.chunkKeyColumn = chunkKeyColumn;
         // Mutable attributes
+        this.physicalDataType = physicalSchema.toPhysicalRowDataType();
         this.producedDataType = physicalSchema.toPhysicalRowDataType();
         this.metadataKeys = Collections.emptyList();
         this.closeIdleReaders = closeIdleReaders;
@@ -165,6 +177,8 @@ public class PostgreSQLTableSource implements ScanTableSource, SupportsReadingMe
         this.assignUnboundedChunkFirst = assignUnboundedChunkFirst;
         this.appendOnly = appendOnly;
         this.includePartitionedTables = includePartitionedTables;
+        this.streamPhaseMetricsSampleInterval = streamPhaseMetricsSampleInterval;
+        this.snapshotPrefetchSplits = snapshotPrefetchSplits;
     }
 
     @Override
@@ -186,14 +200,13 @@ public class PostgreSQLTableSource implements ScanTableSource, SupportsReadingMe
 
     @Override
     public ScanRuntimeProvider getScanRuntimeProvider(ScanContext scanContext) {
-        RowType physicalDataType =
-                (RowType) physicalSchema.toPhysicalRowDataType().getLogicalType();
+        RowType physicalRowType = (RowType) physicalDataType.getLogicalType();
         MetadataConverter[] metadataConverters = getMetadataConverters();
         TypeInformation<RowData> typeInfo = scanContext.createTypeInformation(producedDataType);
 
         DebeziumDeserializationSchema<RowData> deserializer =
                 RowDataDebeziumDeserializeSchema.newBuilder()
-                        .setPhysicalRowType(physicalDataType)
+                        .setPhysicalRowType(physicalRowType)
                         .setMetadataConverters(metadataConverters)
                         .setResultTypeInfo(typeInfo)
                         .setUserDefinedConverterFactory(
@@ -230,10 +243,16 @@ public class PostgreSQLTableSource implements ScanTableSource, SupportsReadingMe
                             .heartbeatInterval(heartbeatInterval)
                             .closeIdleReaders(closeIdleReaders)
                             .skipSnapshotBackfill(skipSnapshotBackfill)
+                            .snapshotPrefetchSplits(snapshotPrefetchSplits)
+                            .streamPhaseMetricsSampleInterval(streamPhaseMetricsSampleInterval)
                             .scanNewlyAddedTableEnabled(scanNewlyAddedTableEnabled)
                             .lsnCommitCheckpointsDelay(lsnCommitCheckpointsDelay)
                             .assignUnboundedChunkFirst(assignUnboundedChunkFirst)
                             .includePartitionedTables(includePartitionedTables)
+                            .snapshotPushDowns(
+                                    Collections.singletonList(
+                                            SnapshotPushDownUtils.projectionPushDown(
+                                                    physicalRowType.getFieldNames())))
                             .build();
             return SourceProvider.of(parallelSource);
         } else {
@@ -271,6 +290,17 @@ public class PostgreSQLTableSource implements ScanTableSource, SupportsReadingMe
                 .toArray(MetadataConverter[]::new);
     }
 
+    @Override
+    public boolean supportsNestedProjection() {
+        return false;
+    }
+
+    @Override
+    public void applyProjection(int[][] projectedFields, DataType producedDataType) {
+        this.physicalDataType = Projection.of(projectedFields).project(physicalDataType);
+        this.producedDataType = producedDataType;
+    }
+
     @Override
     public DynamicTableSource copy() {
         PostgreSQLTableSource source =
@@ -305,8 +335,11 @@ public class PostgreSQLTableSource implements ScanTableSource, SupportsReadingMe
                         lsnCommitCheckpointsDelay,
                         assignUnboundedChunkFirst,
                         appendOnly,
-                        includePartitionedTables);
+                        includePartitionedTables,
+                        streamPhaseMetricsSampleInterval,
+                        snapshotPrefetchSplits);
         source.metadataKeys = metadataKeys;
+        source.physicalDataType = physicalDataType;
         source.producedDataType = producedDataType;
         return source;
     }
@@ -331,6 +364,7 @@ public class PostgreSQLTableSource implements ScanTableSource, SupportsReadingMe
                 && Objects.equals(pluginName, that.pluginName)
                 && Objects.equals(slotName, that.slotName)
                 && Objects.equals(dbzProperties, that.dbzProperties)
+                && Objects.equals(physicalDataType, that.physicalDataType)
                 && Objects.equals(producedDataType, that.producedDataType)
                 && Objects.equals(metadataKeys, that.metadataKeys)
                 && Objects.equals(changelogMode, that.changelogMode)
@@ -351,7 +385,10 @@ public class PostgreSQLTableSource implements ScanTableSource, SupportsReadingMe
                 && Objects.equals(scanNewlyAddedTableEnabled, that.scanNewlyAddedTableEnabled)
                 && Objects.equals(assignUnboundedChunkFirst, that.assignUnboundedChunkFirst)
                 && Objects.equals(appendOnly, that.appendOnly)
-                && Objects.equals(includePartitionedTables, that.includePartitionedTables);
+                && Objects.equals(includePartitionedTables, that.includePartitionedTables)
+                && Objects.equals(
+                        streamPhaseMetricsSampleInterval, that.streamPhaseMetricsSampleInterval)
+                && Objects.equals(snapshotPrefetchSplits, that.snapshotPrefetchSplits);
     }
 
     @Override
@@ -368,6 +405,7 @@ public class PostgreSQLTableSource implements ScanTableSource, SupportsReadingMe
                 pluginName,
                 slotName,
                 dbzProperties,
+                physicalDataType,
                 producedDataType,
                 metadataKeys,
                 changelogMode,
@@ -388,7 +426,9 @@ public class PostgreSQLTableSource implements ScanTableSource, SupportsReadingMe
                 scanNewlyAddedTableEnabled,
                 assignUnboundedChunkFirst,
                 appendOnly,
-                includePartitionedTables);
+                includePartitionedTables,
+                streamPhaseMetricsSampleInterval,
+                snapshotPrefetchSplits);
     }
 
     @Override
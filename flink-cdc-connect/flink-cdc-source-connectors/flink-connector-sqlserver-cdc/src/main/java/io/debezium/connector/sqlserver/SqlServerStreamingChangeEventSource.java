@@ -6,7 +6,15 @@
 
 package io.debezium.connector.sqlserver;
 
+import org.apache.flink.cdc.connectors.base.relational.changetable.AdaptivePollInterval;
+import org.apache.flink.cdc.connectors.base.relational.changetable.ChangeTableMerger;
+import org.apache.flink.cdc.connectors.base.relational.changetable.ConcurrentChangeTableQuery;
+import org.apache.flink.cdc.connectors.sqlserver.source.utils.SqlServerConnectionUtils;
+
+import io.debezium.DebeziumException;
+import io.debezium.config.Field;
 import io.debezium.connector.sqlserver.SqlServerConnectorConfig.SnapshotMode;
+import io.debezium.jdbc.JdbcConnection.BlockingMultiResultSetConsumer;
 import io.debezium.pipeline.ErrorHandler;
 import io.debezium.pipeline.EventDispatcher;
 import io.debezium.pipeline.source.spi.StreamingChangeEventSource;
@@ -17,6 +25,7 @@ import io.debezium.schema.SchemaChangeEvent.SchemaChangeEventType;
 import io.debezium.util.Clock;
 import io.debezium.util.ElapsedTimeStrategy;
 import io.debezium.util.Metronome;
+import org.apache.kafka.common.config.ConfigDef;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -40,9 +49,10 @@ import java.util.stream.Collectors;
  * Copied from Debezium project(1.9.8.final) to add method {@link
  * SqlServerStreamingChangeEventSource#afterHandleLsn(SqlServerPartition, Lsn)}. Also implemented
  * {@link SqlServerStreamingChangeEventSource#execute(ChangeEventSourceContext, SqlServerPartition,
- * SqlServerOffsetContext)}. A {@link StreamingChangeEventSource} based on SQL Server change data
- * capture functionality. A main loop polls database DDL change and change data tables and turns
- * them into change events.
+ * SqlServerOffsetContext)}, and added {@link #FETCH_PARALLELISM} and {@link #POLL_INTERVAL_MIN_MS}
+ * to query change tables concurrently and to adapt the poll interval. A {@link
+ * StreamingChangeEventSource} based on SQL Server change data capture functionality. A main loop
+ * polls database DDL change and change data tables and turns them into change events.
  *
  * <p>The connector uses CDC functionality of SQL Server that is implemented as as a process that
  * monitors source table and write changes from the table into the change table.
@@ -68,6 +78,35 @@ public class SqlServerStreamingChangeEventSource
     private static final Logger LOGGER =
             LoggerFactory.getLogger(SqlServerStreamingChangeEventSource.class);
 
+    /**
+     * The number of connections to query change tables concurrently with, whose results are merged
+     * by LSN. Change tables are queried with the data connection only by default.
+     */
+    public static final Field FETCH_PARALLELISM =
+            Field.create("streaming.fetch.parallelism")
+                    .withDisplayName("Streaming fetch parallelism")
+                    .withType(ConfigDef.Type.INT)
+                    .withWidth(ConfigDef.Width.SHORT)
+                    .withImportance(ConfigDef.Importance.LOW)
+                    .withDefault(1)
+                    .withDescription(
+                            "The number of connections to query change tables concurrently with. "
+                                    + "Change tables are queried with one connection by default.");
+
+    /**
+     * The minimum poll interval. If set, the poll interval is halved down to it after polls
+     * returning changes, and doubled up to {@code poll.interval.ms} after idle polls.
+     */
+    public static final Field POLL_INTERVAL_MIN_MS =
+            Field.create("poll.interval.min.ms")
+                    .withDisplayName("Minimum poll interval (ms)")
+                    .withType(ConfigDef.Type.LONG)
+                    .withWidth(ConfigDef.Width.SHORT)
+                    .withImportance(ConfigDef.Importance.LOW)
+                    .withDescription(
+                            "The minimum time to wait for new change events to appear. If set, "
+                                    + "the poll interval adapts between it and poll.interval.ms.");
+
     private static final Duration DEFAULT_INTERVAL_BETWEEN_COMMITS = Duration.ofMinutes(1);
     private static final int INTERVAL_BETWEEN_COMMITS_BASED_ON_POLL_FACTOR = 3;
 
@@ -94,6 +133,11 @@ public class SqlServerStreamingChangeEventSource
     private final Map<SqlServerPartition, SqlServerStreamingExecutionContext>
             streamingExecutionContexts;
 
+    private final int fetchParallelism;
+    private final Duration minPollInterval;
+    private ConcurrentChangeTableQuery<SqlServerConnection, SqlServerChangeTable>
+            concurrentChangeTableQuery;
+
     public SqlServerStreamingChangeEventSource(
             SqlServerConnectorConfig connectorConfig,
             SqlServerConnection dataConnection,
@@ -122,6 +166,10 @@ public class SqlServerStreamingChangeEventSource
                                 : intervalBetweenCommitsBasedOnPoll.toMillis());
         this.pauseBetweenCommits.hasElapsed();
         this.streamingExecutionContexts = new HashMap<>();
+        this.fetchParallelism = connectorConfig.getConfig().getInteger(FETCH_PARALLELISM);
+        final Long minPollIntervalMs = connectorConfig.getConfig().getLong(POLL_INTERVAL_MIN_MS);
+        this.minPollInterval =
+                minPollIntervalMs == null ? null : Duration.ofMillis(minPollIntervalMs);
     }
 
     @Override
@@ -131,14 +179,30 @@ public class SqlServerStreamingChangeEventSource
             SqlServerOffsetContext offsetContext)
             throws InterruptedException {
         final Metronome metronome = Metronome.sleeper(pollInterval, clock);
+        final AdaptivePollInterval adaptivePollInterval =
+                minPollInterval == null
+                        ? null
+                        : new AdaptivePollInterval(minPollInterval, pollInterval);
 
         LOGGER.info("Starting streaming");
 
-        while (context.isRunning()) {
-            boolean streamedEvents = executeIteration(context, partition, offsetContext);
+        try {
+            while (context.isRunning()) {
+                boolean streamedEvents = executeIteration(context, partition, offsetContext);
 
-            if (!streamedEvents) {
-                metronome.pause();
+                if (adaptivePollInterval != null) {
+                    adaptivePollInterval.update(streamedEvents);
+                    if (!streamedEvents) {
+                        adaptivePollInterval.pause();
+                    }
+                } else if (!streamedEvents) {
+                    metronome.pause();
+                }
+            }
+        } finally {
+            if (concurrentChangeTableQuery != null) {
+                concurrentChangeTableQuery.close();
+                concurrentChangeTableQuery = null;
             }
         }
 
@@ -247,7 +311,7 @@ public class SqlServerStreamingChangeEventSource
                     tablesSlot.set(getChangeTablesToQuery(partition, offsetContext, toLsn));
                 }
                 try {
-                    dataConnection.getChangesForTables(
+                    getChangesForTables(
                             databaseName,
                             tablesSlot.get(),
                             fromLsn,
@@ -267,19 +331,12 @@ public class SqlServerStreamingChangeEventSource
                                                     connectorConfig.getSourceTimestampMode());
                                     changeTables[i].next();
                                 }
+                                final ChangeTableMerger<SqlServerChangeTablePointer> merger =
+                                        new ChangeTableMerger<>(changeTables);
 
                                 for (; ; ) {
-                                    SqlServerChangeTablePointer tableWithSmallestLsn = null;
-                                    for (SqlServerChangeTablePointer changeTable : changeTables) {
-                                        if (changeTable.isCompleted()) {
-                                            continue;
-                                        }
-                                        if (tableWithSmallestLsn == null
-                                                || changeTable.compareTo(tableWithSmallestLsn)
-                                                        < 0) {
-                                            tableWithSmallestLsn = changeTable;
-                                        }
-                                    }
+                                    final SqlServerChangeTablePointer tableWithSmallestLsn =
+                                            merger.next();
                                     if (tableWithSmallestLsn == null) {
                                         // No more LSNs available
                                         break;
@@ -462,6 +519,47 @@ public class SqlServerStreamingChangeEventSource
         return true;
     }
 
+    /**
+     * Queries changes of given change tables with the data connection, or concurrently over a pool
+     * of connections if {@link #FETCH_PARALLELISM} is greater than one.
+     */
+    private void getChangesForTables(
+            String databaseName,
+            SqlServerChangeTable[] changeTables,
+            Lsn fromLsn,
+            Lsn toLsn,
+            BlockingMultiResultSetConsumer consumer)
+            throws SQLException, InterruptedException {
+        if (fetchParallelism <= 1 || changeTables.length <= 1) {
+            dataConnection.getChangesForTables(
+                    databaseName, changeTables, fromLsn, toLsn, consumer);
+            return;
+        }
+        if (concurrentChangeTableQuery == null) {
+            LOGGER.info(
+                    "Querying change tables concurrently with {} connections", fetchParallelism);
+            concurrentChangeTableQuery =
+                    new ConcurrentChangeTableQuery<>(fetchParallelism, this::createFetchConnection);
+        }
+        concurrentChangeTableQuery.query(
+                changeTables,
+                (connection, tables, resultSetConsumer) ->
+                        connection.getChangesForTables(
+                                databaseName, tables, fromLsn, toLsn, resultSetConsumer),
+                consumer);
+    }
+
+    private SqlServerConnection createFetchConnection() {
+        final SqlServerConnection connection =
+                SqlServerConnectionUtils.createSqlServerConnection(connectorConfig);
+        try {
+            connection.setAutoCommit(false);
+        } catch (SQLException e) {
+            throw new DebeziumException("Failed to create connection to query change tables", e);
+        }
+        return connection;
+    }
+
     private void commitTransaction() throws SQLException {
         // When reading from read-only Always On replica the default and only transaction isolation
         // is snapshot. This means that CDC metadata are not visible for long-running transactions.
@@ -17,6 +17,7 @@
 
 package org.apache.flink.cdc.connectors.sqlserver.source;
 
+import org.apache.flink.cdc.common.source.SnapshotPushDown;
 import org.apache.flink.cdc.connectors.base.options.StartupOptions;
 import org.apache.flink.cdc.connectors.base.source.jdbc.JdbcIncrementalSource;
 import org.apache.flink.cdc.connectors.sqlserver.source.config.SqlServerSourceConfigFactory;
@@ -25,6 +26,7 @@ import org.apache.flink.cdc.connectors.sqlserver.source.offset.LsnFactory;
 import org.apache.flink.cdc.debezium.DebeziumDeserializationSchema;
 
 import java.time.Duration;
+import java.util.List;
 import java.util.Properties;
 
 import static org.apache.flink.util.Preconditions.checkNotNull;
@@ -238,6 +240,34 @@ public class SqlServerSourceBuilder<T> {
         return this;
     }
 
+    /**
+     * The number of snapshot splits a source reader requests ahead of the split it reads, so that
+     * the next snapshot query starts without waiting for the enumerator. Defaults to 0.
+     */
+    public SqlServerSourceBuilder<T> snapshotPrefetchSplits(int snapshotPrefetchSplits) {
+        this.configFactory.snapshotPrefetchSplits(snapshotPrefetchSplits);
+        return this;
+    }
+
+    /**
+     * Times one of every N records emitted by a source reader for the stream phase metrics, which
+     * tell where a lagging reader spends its time. Defaults to 0, which disables these metrics.
+     */
+    public SqlServerSourceBuilder<T> streamPhaseMetricsSampleInterval(
+            int streamPhaseMetricsSampleInterval) {
+        this.configFactory.streamPhaseMetricsSampleInterval(streamPhaseMetricsSampleInterval);
+        return this;
+    }
+
+    /**
+     * The columns and rows required while reading snapshot splits, which are pushed down to the
+     * snapshot queries. All columns and rows are read by default.
+     */
+    public SqlServerSourceBuilder<T> snapshotPushDowns(List<SnapshotPushDown> snapshotPushDowns) {
+        this.configFactory.snapshotPushDowns(snapshotPushDowns);
+        return this;
+    }
+
     /**
      * Build the {@link SqlServerIncrementalSource}.
      *
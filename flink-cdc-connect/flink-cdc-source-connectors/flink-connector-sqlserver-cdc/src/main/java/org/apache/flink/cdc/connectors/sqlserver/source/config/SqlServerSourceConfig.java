@@ -17,6 +17,7 @@
 
 package org.apache.flink.cdc.connectors.sqlserver.source.config;
 
+import org.apache.flink.cdc.common.source.SnapshotPushDown;
 import org.apache.flink.cdc.connectors.base.config.JdbcSourceConfig;
 import org.apache.flink.cdc.connectors.base.options.StartupOptions;
 
@@ -33,6 +34,8 @@ import java.util.Properties;
  */
 public class SqlServerSourceConfig extends JdbcSourceConfig {
 
+    private final List<SnapshotPushDown> snapshotPushDowns;
+
     public SqlServerSourceConfig(
             StartupOptions startupOptions,
             List<String> databaseList,
@@ -57,7 +60,10 @@ public class SqlServerSourceConfig extends JdbcSourceConfig {
             int connectionPoolSize,
             String chunkKeyColumn,
             boolean skipSnapshotBackfill,
-            boolean assignUnboundedChunkFirst) {
+            boolean assignUnboundedChunkFirst,
+            int snapshotPrefetchSplits,
+            int streamPhaseMetricsSampleInterval,
+            List<SnapshotPushDown> snapshotPushDowns) {
         super(
                 startupOptions,
                 databaseList,
@@ -84,11 +90,18 @@ public class SqlServerSourceConfig extends JdbcSourceConfig {
                 chunkKeyColumn,
                 skipSnapshotBackfill,
                 false,
-                assignUnboundedChunkFirst);
+                assignUnboundedChunkFirst,
+                snapshotPrefetchSplits,
+                streamPhaseMetricsSampleInterval);
+        this.snapshotPushDowns = snapshotPushDowns;
     }
 
     @Override
     public SqlServerConnectorConfig getDbzConnectorConfig() {
         return new SqlServerConnectorConfig(getDbzConfiguration());
     }
+
+    public List<SnapshotPushDown> getSnapshotPushDowns() {
+        return snapshotPushDowns;
+    }
 }
@@ -17,12 +17,15 @@
 
 package org.apache.flink.cdc.connectors.sqlserver.source.config;
 
+import org.apache.flink.cdc.common.source.SnapshotPushDown;
 import org.apache.flink.cdc.connectors.base.config.JdbcSourceConfigFactory;
 import org.apache.flink.cdc.connectors.base.source.EmbeddedFlinkDatabaseHistory;
 
 import io.debezium.config.Configuration;
 import io.debezium.connector.sqlserver.SqlServerConnector;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Properties;
 import java.util.UUID;
 
@@ -35,6 +38,14 @@ public class SqlServerSourceConfigFactory extends JdbcSourceConfigFactory {
     private static final String DATABASE_SERVER_NAME = "sqlserver_transaction_log_source";
     private static final String DRIVER_ClASS_NAME = "com.microsoft.sqlserver.jdbc.SQLServerDriver";
 
+    private List<SnapshotPushDown> snapshotPushDowns = new ArrayList<>();
+
+    /** The columns and rows required while reading snapshot splits. */
+    public JdbcSourceConfigFactory snapshotPushDowns(List<SnapshotPushDown> snapshotPushDowns) {
+        this.snapshotPushDowns = snapshotPushDowns;
+        return this;
+    }
+
     @Override
     public SqlServerSourceConfig create(int subtask) {
         checkSupportCheckpointsAfterTasksFinished(closeIdleReaders);
@@ -104,6 +115,9 @@ public class SqlServerSourceConfigFactory extends JdbcSourceConfigFactory {
                 connectionPoolSize,
                 chunkKeyColumn,
                 skipSnapshotBackfill,
-                assignUnboundedChunkFirst);
+                assignUnboundedChunkFirst,
+                snapshotPrefetchSplits,
+                streamPhaseMetricsSampleInterval,
+                snapshotPushDowns);
     }
 }
@@ -17,9 +17,12 @@
 
 package org.apache.flink.cdc.connectors.sqlserver.source.reader.fetch;
 
+import org.apache.flink.cdc.common.source.SnapshotPushDown;
 import org.apache.flink.cdc.connectors.base.source.meta.split.SnapshotSplit;
 import org.apache.flink.cdc.connectors.base.source.meta.split.StreamSplit;
 import org.apache.flink.cdc.connectors.base.source.reader.external.AbstractScanFetchTask;
+import org.apache.flink.cdc.connectors.sqlserver.source.utils.SqlServerUtils;
+import org.apache.flink.cdc.debezium.utils.SnapshotPushDownUtils;
 
 import io.debezium.DebeziumException;
 import io.debezium.config.Configuration;
@@ -51,6 +54,7 @@ import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.time.Duration;
+import java.util.List;
 
 import static org.apache.flink.cdc.connectors.sqlserver.source.utils.SqlServerUtils.buildSplitScanQuery;
 import static org.apache.flink.cdc.connectors.sqlserver.source.utils.SqlServerUtils.readTableSplitDataStatement;
@@ -76,7 +80,8 @@ public class SqlServerScanFetchTask extends AbstractScanFetchTask {
                         sourceFetchContext.getConnection(),
                         sourceFetchContext.getEventDispatcher(),
                         sourceFetchContext.getSnapshotReceiver(),
-                        snapshotSplit);
+                        snapshotSplit,
+                        sourceFetchContext.getSourceConfig().getSnapshotPushDowns());
         SqlServerSnapshotSplitChangeEventSourceContext changeEventSourceContext =
                 new SqlServerSnapshotSplitChangeEventSourceContext();
         SnapshotResult<SqlServerOffsetContext> snapshotResult =
@@ -159,6 +164,7 @@ public class SqlServerScanFetchTask extends AbstractScanFetchTask {
         private final SqlServerOffsetContext offsetContext;
         private final SnapshotProgressListener<SqlServerPartition> snapshotProgressListener;
         private final EventDispatcher.SnapshotReceiver<SqlServerPartition> snapshotReceiver;
+        private final List<SnapshotPushDown> snapshotPushDowns;
 
         public SqlServerSnapshotSplitReadTask(
                 SqlServerConnectorConfig connectorConfig,
@@ -168,7 +174,8 @@ public class SqlServerScanFetchTask extends AbstractScanFetchTask {
                 SqlServerConnection jdbcConnection,
                 EventDispatcher<SqlServerPartition, TableId> eventDispatcher,
                 EventDispatcher.SnapshotReceiver<SqlServerPartition> snapshotReceiver,
-                SnapshotSplit snapshotSplit) {
+                SnapshotSplit snapshotSplit,
+                List<SnapshotPushDown> snapshotPushDowns) {
             super(connectorConfig, snapshotProgressListener);
             this.offsetContext = previousOffset;
             this.connectorConfig = connectorConfig;
@@ -179,6 +186,7 @@ public class SqlServerScanFetchTask extends AbstractScanFetchTask {
             this.snapshotSplit = snapshotSplit;
             this.snapshotProgressListener = snapshotProgressListener;
             this.snapshotReceiver = snapshotReceiver;
+            this.snapshotPushDowns = snapshotPushDowns;
         }
 
         @Override
@@ -253,12 +261,30 @@ public class SqlServerScanFetchTask extends AbstractScanFetchTask {
                     snapshotSplit.splitId(),
                     table.id());
 
+            org.apache.flink.cdc.common.event.TableId cdcTableId =
+                    org.apache.flink.cdc.common.event.TableId.tableId(
+                            table.id().schema(), table.id().table());
+            String projection =
+                    SnapshotPushDownUtils.buildProjection(
+                                    table,
+                                    SnapshotPushDown.resolveRequiredColumns(
+                                            snapshotPushDowns, cdcTableId),
+                                    snapshotSplit.getSplitKeyType().getFieldNames(),
+                                    SqlServerUtils::quote)
+                            .map(columns -> String.join(", ", columns))
+                            .orElse("*");
             final String selectSql =
                     buildSplitScanQuery(
                             snapshotSplit.getTableId(),
                             snapshotSplit.getSplitKeyType(),
                             snapshotSplit.getSplitStart() == null,
-                            snapshotSplit.getSplitEnd() == null);
+                            snapshotSplit.getSplitEnd() == null,
+                            projection,
+                            SnapshotPushDownUtils.buildCondition(
+                                    table,
+                                    SnapshotPushDown.resolvePredicates(
+                                            snapshotPushDowns, cdcTableId),
+                                    SqlServerUtils::quote));
             LOG.info(
                     "For split '{}' of table {} using select statement: '{}'",
                     snapshotSplit.splitId(),
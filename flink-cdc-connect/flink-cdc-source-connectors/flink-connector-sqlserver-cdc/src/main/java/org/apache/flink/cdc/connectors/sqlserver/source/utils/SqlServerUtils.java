@@ -187,7 +187,23 @@ public class SqlServerUtils {
     /** Get split scan query for the given table. */
     public static String buildSplitScanQuery(
             TableId tableId, RowType pkRowType, boolean isFirstSplit, boolean isLastSplit) {
-        return buildSplitQuery(tableId, pkRowType, isFirstSplit, isLastSplit, -1, true);
+        return buildSplitScanQuery(
+                tableId, pkRowType, isFirstSplit, isLastSplit, "*", Optional.empty());
+    }
+
+    /**
+     * Get split scan query for the given table with given select list, only reading rows satisfying
+     * given filter in addition to the split boundaries.
+     */
+    public static String buildSplitScanQuery(
+            TableId tableId,
+            RowType pkRowType,
+            boolean isFirstSplit,
+            boolean isLastSplit,
+            String projection,
+            Optional<String> filter) {
+        return buildSplitQuery(
+                tableId, pkRowType, isFirstSplit, isLastSplit, -1, true, projection, filter);
     }
 
     /** Get table split data PreparedStatement. */
@@ -266,8 +282,10 @@ public class SqlServerUtils {
             boolean isFirstSplit,
             boolean isLastSplit,
             int limitSize,
-            boolean isScanningData) {
-        final String condition;
+            boolean isScanningData,
+            String projection,
+            Optional<String> filter) {
+        String condition;
 
         if (isFirstSplit && isLastSplit) {
             condition = null;
@@ -297,9 +315,20 @@ public class SqlServerUtils {
             condition = sql.toString();
         }
 
+        if (filter.isPresent()) {
+            condition =
+                    condition == null
+                            ? "(" + filter.get() + ")"
+                            : condition + " AND (" + filter.get() + ")";
+        }
+
         if (isScanningData) {
             return buildSelectWithRowLimits(
-                    tableId, limitSize, "*", Optional.ofNullable(condition), Optional.empty());
+                    tableId,
+                    limitSize,
+                    projection,
+                    Optional.ofNullable(condition),
+                    Optional.empty());
         } else {
             final String orderBy = String.join(", ", pkRowType.getFieldNames());
             return buildSelectWithBoundaryRowLimits(
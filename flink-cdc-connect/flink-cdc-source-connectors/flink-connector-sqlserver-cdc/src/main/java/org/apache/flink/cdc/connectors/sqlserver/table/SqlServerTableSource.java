@@ -26,12 +26,15 @@ import org.apache.flink.cdc.debezium.DebeziumDeserializationSchema;
 import org.apache.flink.cdc.debezium.DebeziumSourceFunction;
 import org.apache.flink.cdc.debezium.table.MetadataConverter;
 import org.apache.flink.cdc.debezium.table.RowDataDebeziumDeserializeSchema;
+import org.apache.flink.cdc.debezium.utils.SnapshotPushDownUtils;
 import org.apache.flink.table.catalog.ResolvedSchema;
 import org.apache.flink.table.connector.ChangelogMode;
+import org.apache.flink.table.connector.Projection;
 import org.apache.flink.table.connector.source.DynamicTableSource;
 import org.apache.flink.table.connector.source.ScanTableSource;
 import org.apache.flink.table.connector.source.SourceFunctionProvider;
 import org.apache.flink.table.connector.source.SourceProvider;
+import org.apache.flink.table.connector.source.abilities.SupportsProjectionPushDown;
 import org.apache.flink.table.connector.source.abilities.SupportsReadingMetadata;
 import org.apache.flink.table.data.RowData;
 import org.apache.flink.table.types.DataType;
@@ -55,7 +58,8 @@ import static org.apache.flink.util.Preconditions.checkNotNull;
  * A {@link DynamicTableSource} that describes how to create a SqlServer source from a logical
  * description.
  */
-public class SqlServerTableSource implements ScanTableSource, SupportsReadingMetadata {
+public class SqlServerTableSource
+        implements ScanTableSource, SupportsReadingMetadata, SupportsProjectionPushDown {
 
     private final ResolvedSchema physicalSchema;
     private final int port;
@@ -80,6 +84,8 @@ public class SqlServerTableSource implements ScanTableSource, SupportsReadingMet
     private final boolean closeIdleReaders;
     private final boolean skipSnapshotBackfill;
     private final boolean assignUnboundedChunkFirst;
+    private final int streamPhaseMetricsSampleInterval;
+    private final int snapshotPrefetchSplits;
 
     // --------------------------------------------------------------------------------------------
     // Mutable attributes
@@ -88,6 +94,9 @@ public class SqlServerTableSource implements ScanTableSource, SupportsReadingMet
     /** Data type that describes the final output of the source. */
     protected DataType producedDataType;
 
+    /** Data type that describes the physical columns read by the source. */
+    protected DataType physicalDataType;
+
     /** Metadata that is appended at the end of a physical source row. */
     protected List<String> metadataKeys;
 
@@ -114,7 +123,9 @@ public class SqlServerTableSource implements ScanTableSource, SupportsReadingMet
             @Nullable String chunkKeyColumn,
             boolean closeIdleReaders,
             boolean skipSnapshotBackfill,
-            boolean assignUnboundedChunkFirst) {
+            boolean assignUnboundedChunkFirst,
+            int streamPhaseMetricsSampleInterval,
+            int snapshotPrefetchSplits) {
         this.physicalSchema = physicalSchema;
         this.port = port;
         this.hostname = checkNotNull(hostname);
@@ -125,6 +136,7 @@ public class SqlServerTableSource implements ScanTableSource, SupportsReadingMet
         this.password = checkNotNull(password);
         this.dbzProperties = dbzProperties;
         this.startupOptions = startupOptions;
+        this.physicalDataType = physicalSchema.toPhysicalRowDataType();
         this.producedDataType = physicalSchema.toPhysicalRowDataType();
         this.metadataKeys = Collections.emptyList();
         this.enableParallelRead = enableParallelRead;
@@ -140,6 +152,8 @@ public class SqlServerTableSource implements ScanTableSource, SupportsReadingMet
         this.closeIdleReaders = closeIdleReaders;
         this.skipSnapshotBackfill = skipSnapshotBackfill;
         this.assignUnboundedChunkFirst = assignUnboundedChunkFirst;
+        this.streamPhaseMetricsSampleInterval = streamPhaseMetricsSampleInterval;
+        this.snapshotPrefetchSplits = snapshotPrefetchSplits;
     }
 
     @Override
@@ -149,14 +163,13 @@ public class SqlServerTableSource implements ScanTableSource, SupportsReadingMet
 
     @Override
     public ScanRuntimeProvider getScanRuntimeProvider(ScanContext scanContext) {
-        RowType physicalDataType =
-                (RowType) physicalSchema.toPhysicalRowDataType().getLogicalType();
+        RowType physicalRowType = (RowType) physicalDataType.getLogicalType();
         MetadataConverter[] metadataConverters = getMetadataConverters();
         TypeInformation<RowData> typeInfo = scanContext.createTypeInformation(producedDataType);
 
         DebeziumDeserializationSchema<RowData> deserializer =
                 RowDataDebeziumDeserializeSchema.newBuilder()
-                        .setPhysicalRowType(physicalDataType)
+                        .setPhysicalRowType(physicalRowType)
                         .setMetadataConverters(metadataConverters)
                         .setResultTypeInfo(typeInfo)
                         .setServerTimeZone(serverTimeZone)
@@ -188,7 +201,13 @@ public class SqlServerTableSource implements ScanTableSource, SupportsReadingMet
                             .chunkKeyColumn(chunkKeyColumn)
                             .closeIdleReaders(closeIdleReaders)
                             .skipSnapshotBackfill(skipSnapshotBackfill)
+                            .snapshotPrefetchSplits(snapshotPrefetchSplits)
+                            .streamPhaseMetricsSampleInterval(streamPhaseMetricsSampleInterval)
                             .assignUnboundedChunkFirst(assignUnboundedChunkFirst)
+                            .snapshotPushDowns(
+                                    Collections.singletonList(
+                                            SnapshotPushDownUtils.projectionPushDown(
+                                                    physicalRowType.getFieldNames())))
                             .build();
             return SourceProvider.of(sqlServerChangeEventSource);
         } else {
@@ -224,6 +243,17 @@ public class SqlServerTableSource implements ScanTableSource, SupportsReadingMet
                 .toArray(MetadataConverter[]::new);
     }
 
+    @Override
+    public boolean supportsNestedProjection() {
+        return false;
+    }
+
+    @Override
+    public void applyProjection(int[][] projectedFields, DataType producedDataType) {
+        this.physicalDataType = Projection.of(projectedFields).project(physicalDataType);
+        this.producedDataType = producedDataType;
+    }
+
     @Override
     public DynamicTableSource copy() {
         SqlServerTableSource source =
@@ -250,8 +280,11 @@ public class SqlServerTableSource implements ScanTableSource, SupportsReadingMet
                         chunkKeyColumn,
                         closeIdleReaders,
                         skipSnapshotBackfill,
-                        assignUnboundedChunkFirst);
+                        assignUnboundedChunkFirst,
+                        streamPhaseMetricsSampleInterval,
+                        snapshotPrefetchSplits);
         source.metadataKeys = metadataKeys;
+        source.physicalDataType = physicalDataType;
         source.producedDataType = producedDataType;
         return source;
     }
@@ -275,6 +308,7 @@ public class SqlServerTableSource implements ScanTableSource, SupportsReadingMet
                 && Objects.equals(password, that.password)
                 && Objects.equals(dbzProperties, that.dbzProperties)
                 && Objects.equals(startupOptions, that.startupOptions)
+                && Objects.equals(physicalDataType, that.physicalDataType)
                 && Objects.equals(producedDataType, that.producedDataType)
                 && Objects.equals(metadataKeys, that.metadataKeys)
                 && Objects.equals(enableParallelRead, that.enableParallelRead)
@@ -289,7 +323,10 @@ public class SqlServerTableSource implements ScanTableSource, SupportsReadingMet
                 && Objects.equals(chunkKeyColumn, that.chunkKeyColumn)
                 && Objects.equals(closeIdleReaders, that.closeIdleReaders)
                 && Objects.equals(skipSnapshotBackfill, that.skipSnapshotBackfill)
-                && Objects.equals(assignUnboundedChunkFirst, that.assignUnboundedChunkFirst);
+                && Objects.equals(assignUnboundedChunkFirst, that.assignUnboundedChunkFirst)
+                && Objects.equals(
+                        streamPhaseMetricsSampleInterval, that.streamPhaseMetricsSampleInterval)
+                && Objects.equals(snapshotPrefetchSplits, that.snapshotPrefetchSplits);
     }
 
     @Override
@@ -305,6 +342,7 @@ public class SqlServerTableSource implements ScanTableSource, SupportsReadingMet
                 password,
                 dbzProperties,
                 startupOptions,
+                physicalDataType,
                 producedDataType,
                 metadataKeys,
                 enableParallelRead,
@@ -319,7 +357,9 @@ public class SqlServerTableSource implements ScanTableSource, SupportsReadingMet
                 chunkKeyColumn,
                 closeIdleReaders,
                 skipSnapshotBackfill,
-                assignUnboundedChunkFirst);
+                assignUnboundedChunkFirst,
+                streamPhaseMetricsSampleInterval,
+                snapshotPrefetchSplits);
     }
 
     @Override
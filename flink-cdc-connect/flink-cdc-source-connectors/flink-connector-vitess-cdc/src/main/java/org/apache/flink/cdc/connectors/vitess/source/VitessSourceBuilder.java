@@ -0,0 +1,285 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.connectors.vitess.source;
+
+import org.apache.flink.cdc.common.annotation.Experimental;
+import org.apache.flink.cdc.connectors.base.config.SourceConfig;
+import org.apache.flink.cdc.connectors.base.options.StartupOptions;
+import org.apache.flink.cdc.connectors.base.source.jdbc.JdbcIncrementalSource;
+import org.apache.flink.cdc.connectors.base.source.meta.split.SourceRecords;
+import org.apache.flink.cdc.connectors.base.source.meta.split.SourceSplitState;
+import org.apache.flink.cdc.connectors.base.source.metrics.SourceReaderMetrics;
+import org.apache.flink.cdc.connectors.vitess.config.TabletType;
+import org.apache.flink.cdc.connectors.vitess.source.config.VitessSourceConfigFactory;
+import org.apache.flink.cdc.connectors.vitess.source.dialect.VitessDialect;
+import org.apache.flink.cdc.connectors.vitess.source.offset.VitessOffsetFactory;
+import org.apache.flink.cdc.connectors.vitess.source.reader.VitessRecordEmitter;
+import org.apache.flink.cdc.debezium.DebeziumDeserializationSchema;
+import org.apache.flink.connector.base.source.reader.RecordEmitter;
+
+import java.time.Duration;
+import java.util.Properties;
+
+import static org.apache.flink.util.Preconditions.checkNotNull;
+
+/**
+ * The builder class for {@link VitessIncrementalSource} to make it easier for the users to
+ * construct a {@link VitessIncrementalSource}.
+ *
+ * <p>The {@link VitessIncrementalSource} reads the snapshot of the keyspace in parallel by chunks
+ * of every shard through the MySQL protocol of VTGate, and then reads the VStreams of all shards
+ * through the gRPC port of VTGate.
+ *
+ * <p>Check the Java docs of each individual method to learn more about the settings to build a
+ * {@link VitessIncrementalSource}.
+ */
+@Experimental
+public class VitessSourceBuilder<T> {
+
+    private final VitessSourceConfigFactory configFactory = new VitessSourceConfigFactory();
+
+    private VitessOffsetFactory offsetFactory;
+
+    private VitessDialect dialect;
+
+    private DebeziumDeserializationSchema<T> deserializer;
+
+    /** Hostname of the VTGate server. */
+    public VitessSourceBuilder<T> hostname(String hostname) {
+        this.configFactory.hostname(hostname);
+        return this;
+    }
+
+    /** Integer port number of the MySQL protocol of VTGate, which serves the snapshot queries. */
+    public VitessSourceBuilder<T> port(int port) {
+        this.configFactory.port(port);
+        return this;
+    }
+
+    /** Integer port number of the VTGate gRPC server, which serves the VStreams. */
+    public VitessSourceBuilder<T> grpcPort(int grpcPort) {
+        this.configFactory.grpcPort(grpcPort);
+        return this;
+    }
+
+    /** The name of the keyspace to monitor. */
+    public VitessSourceBuilder<T> keyspace(String keyspace) {
+        this.configFactory.databaseList(keyspace);
+        return this;
+    }
+
+    /**
+     * An optional list of regular expressions that match fully-qualified table identifiers for
+     * tables to be monitored; any table not included in the list will be excluded from monitoring.
+     * Each identifier is of the form {@code <keyspace>.<tableName>}.
+     */
+    public VitessSourceBuilder<T> tableList(String... tableList) {
+        this.configFactory.tableList(tableList);
+        return this;
+    }
+
+    /** Name of the user to use when connecting to VTGate. */
+    public VitessSourceBuilder<T> username(String username) {
+        this.configFactory.username(username);
+        return this;
+    }
+
+    /** Password to use when connecting to VTGate. */
+    public VitessSourceBuilder<T> password(String password) {
+        this.configFactory.password(password);
+        return this;
+    }
+
+    /** The type of tablets to stream changes from. */
+    public VitessSourceBuilder<T> tabletType(TabletType tabletType) {
+        this.configFactory.tabletType(tabletType);
+        return this;
+    }
+
+    /**
+     * The session time zone in database server, e.g. "America/Los_Angeles". It controls how the
+     * TIMESTAMP type in Vitess converted to STRING.
+     */
+    public VitessSourceBuilder<T> serverTimeZone(String timeZone) {
+        this.configFactory.serverTimeZone(timeZone);
+        return this;
+    }
+
+    /**
+     * The split size (number of rows) of table snapshot, the table of each shard is split into
+     * multiple splits when read the snapshot of table.
+     */
+    public VitessSourceBuilder<T> splitSize(int splitSize) {
+        this.configFactory.splitSize(splitSize);
+        return this;
+    }
+
+    /**
+     * The group size of split meta, if the meta size exceeds the group size, the meta will be will
+     * be divided into multiple groups.
+     */
+    public VitessSourceBuilder<T> splitMetaGroupSize(int splitMetaGroupSize) {
+        this.configFactory.splitMetaGroupSize(splitMetaGroupSize);
+        return this;
+    }
+
+    /** The maximum fetch size for per poll when read table snapshot. */
+    public VitessSourceBuilder<T> fetchSize(int fetchSize) {
+        this.configFactory.fetchSize(fetchSize);
+        return this;
+    }
+
+    /**
+     * The maximum time that the connector should wait after trying to connect to VTGate before
+     * timing out.
+     */
+    public VitessSourceBuilder<T> connectTimeout(Duration connectTimeout) {
+        this.configFactory.connectTimeout(connectTimeout);
+        return this;
+    }
+
+    /** The max retry times to get connection. */
+    public VitessSourceBuilder<T> connectMaxRetries(int connectMaxRetries) {
+        this.configFactory.connectMaxRetries(connectMaxRetries);
+        return this;
+    }
+
+    /** The connection pool size. */
+    public VitessSourceBuilder<T> connectionPoolSize(int connectionPoolSize) {
+        this.configFactory.connectionPoolSize(connectionPoolSize);
+        return this;
+    }
+
+    /** Whether the {@link VitessIncrementalSource} should output the schema changes or not. */
+    public VitessSourceBuilder<T> includeSchemaChanges(boolean includeSchemaChanges) {
+        this.configFactory.includeSchemaChanges(includeSchemaChanges);
+        return this;
+    }
+
+    /**
+     * Specifies the startup options, only {@link StartupOptions#initial()} and {@link
+     * StartupOptions#latest()} are supported.
+     */
+    public VitessSourceBuilder<T> startupOptions(StartupOptions startupOptions) {
+        this.configFactory.startupOptions(startupOptions);
+        return this;
+    }
+
+    /**
+     * The chunk key of table snapshot, the table of each shard is split into multiple chunks by the
+     * chunk key column when read the snapshot of table.
+     */
+    public VitessSourceBuilder<T> chunkKeyColumn(String chunkKeyColumn) {
+        this.configFactory.chunkKeyColumn(chunkKeyColumn);
+        return this;
+    }
+
+    /** The Debezium Vitess connector properties. */
+    public VitessSourceBuilder<T> debeziumProperties(Properties properties) {
+        this.configFactory.debeziumProperties(properties);
+        return this;
+    }
+
+    /**
+     * The deserializer used to convert from consumed {@link
+     * org.apache.kafka.connect.source.SourceRecord}.
+     */
+    public VitessSourceBuilder<T> deserializer(DebeziumDeserializationSchema<T> deserializer) {
+        this.deserializer = deserializer;
+        return this;
+    }
+
+    /**
+     * Whether to close idle readers at the end of the snapshot phase. This feature depends on
+     * FLIP-147: Support Checkpoints After Tasks Finished. The flink version is required to be
+     * greater than or equal to 1.14, and the configuration <code>
+     * 'execution.checkpointing.checkpoints-after-tasks-finish.enabled'</code> needs to be set to
+     * true.
+     */
+    public VitessSourceBuilder<T> closeIdleReaders(boolean closeIdleReaders) {
+        this.configFactory.closeIdleReaders(closeIdleReaders);
+        return this;
+    }
+
+    /**
+     * Whether the {@link VitessSourceBuilder} should assign the unbounded chunks first or not
+     * during snapshot reading phase.
+     */
+    public VitessSourceBuilder<T> assignUnboundedChunkFirst(boolean assignUnboundedChunkFirst) {
+        this.configFactory.assignUnboundedChunkFirst(assignUnboundedChunkFirst);
+        return this;
+    }
+
+    /**
+     * The number of snapshot splits a source reader requests ahead of the split it reads, so that
+     * the next snapshot query starts without waiting for the enumerator. Defaults to 0.
+     */
+    public VitessSourceBuilder<T> snapshotPrefetchSplits(int snapshotPrefetchSplits) {
+        this.configFactory.snapshotPrefetchSplits(snapshotPrefetchSplits);
+        return this;
+    }
+
+    /**
+     * Times one of every N records emitted by a source reader for the stream phase metrics, which
+     * tell where a lagging reader spends its time. Defaults to 0, which disables these metrics.
+     */
+    public VitessSourceBuilder<T> streamPhaseMetricsSampleInterval(
+            int streamPhaseMetricsSampleInterval) {
+        this.configFactory.streamPhaseMetricsSampleInterval(streamPhaseMetricsSampleInterval);
+        return this;
+    }
+
+    /**
+     * Build the {@link VitessIncrementalSource}.
+     *
+     * @return a VitessIncrementalSource with the settings made for this builder.
+     */
+    public VitessIncrementalSource<T> build() {
+        this.offsetFactory = new VitessOffsetFactory();
+        this.dialect = new VitessDialect(configFactory.create(0));
+        return new VitessIncrementalSource<>(
+                configFactory, checkNotNull(deserializer), offsetFactory, dialect);
+    }
+
+    /** The {@link JdbcIncrementalSource} implementation for Vitess. */
+    @Experimental
+    public static class VitessIncrementalSource<T> extends JdbcIncrementalSource<T> {
+
+        public VitessIncrementalSource(
+                VitessSourceConfigFactory configFactory,
+                DebeziumDeserializationSchema<T> deserializationSchema,
+                VitessOffsetFactory offsetFactory,
+                VitessDialect dataSourceDialect) {
+            super(configFactory, deserializationSchema, offsetFactory, dataSourceDialect);
+        }
+
+        @Override
+        protected RecordEmitter<SourceRecords, T, SourceSplitState> createRecordEmitter(
+                SourceConfig sourceConfig, SourceReaderMetrics sourceReaderMetrics) {
+            return new VitessRecordEmitter<>(
+                    deserializationSchema,
+                    sourceReaderMetrics,
+                    sourceConfig.isIncludeSchemaChanges(),
+                    offsetFactory);
+        }
+
+        public static <T> VitessSourceBuilder<T> builder() {
+            return new VitessSourceBuilder<>();
+        }
+    }
+}
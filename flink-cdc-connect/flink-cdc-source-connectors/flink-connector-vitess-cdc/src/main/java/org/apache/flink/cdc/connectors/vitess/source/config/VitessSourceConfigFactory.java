@@ -0,0 +1,126 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.connectors.vitess.source.config;
+
+import org.apache.flink.cdc.connectors.base.config.JdbcSourceConfigFactory;
+import org.apache.flink.cdc.connectors.vitess.config.TabletType;
+
+import io.debezium.config.Configuration;
+import io.debezium.connector.vitess.VitessConnector;
+
+import java.util.Properties;
+
+import static org.apache.flink.cdc.connectors.base.utils.EnvironmentUtils.checkSupportCheckpointsAfterTasksFinished;
+import static org.apache.flink.util.Preconditions.checkNotNull;
+
+/** Factory for creating {@link VitessSourceConfig}. */
+public class VitessSourceConfigFactory extends JdbcSourceConfigFactory {
+
+    private static final String DATABASE_SERVER_NAME = "vitess_cdc_source";
+    private static final String DRIVER_ClASS_NAME = "com.mysql.cj.jdbc.Driver";
+
+    private int grpcPort = 15991;
+    private TabletType tabletType = TabletType.RDONLY;
+
+    public VitessSourceConfigFactory() {
+        // the default port of the MySQL protocol of VTGate
+        this.port = 15306;
+    }
+
+    /** Integer port number of the VTGate gRPC server, which serves the VStreams. */
+    public VitessSourceConfigFactory grpcPort(int grpcPort) {
+        this.grpcPort = grpcPort;
+        return this;
+    }
+
+    /** The type of tablets which snapshot splits are read from and changes are streamed from. */
+    public VitessSourceConfigFactory tabletType(TabletType tabletType) {
+        this.tabletType = tabletType;
+        return this;
+    }
+
+    @Override
+    public VitessSourceConfig create(int subtask) {
+        checkSupportCheckpointsAfterTasksFinished(closeIdleReaders);
+        Properties props = new Properties();
+        props.setProperty("connector.class", VitessConnector.class.getCanonicalName());
+        props.setProperty("plugin.name", "decoderbufs");
+
+        // hard code server name, because we don't need to distinguish it, docs:
+        // Logical name that identifies and provides a namespace for the particular Vitess
+        // Vtgate server/cluster being monitored. The logical name should be unique across
+        // all other connectors, since it is used as a prefix for all Kafka topic names coming
+        // from this connector. Only alphanumeric characters and underscores should be used.
+        props.setProperty("database.server.name", DATABASE_SERVER_NAME);
+        props.setProperty("database.hostname", checkNotNull(hostname));
+        props.setProperty("database.port", String.valueOf(grpcPort));
+        props.setProperty("database.user", checkNotNull(username));
+        props.setProperty("database.password", checkNotNull(password));
+        props.setProperty("vitess.database.user", username);
+        props.setProperty("vitess.database.password", password);
+        props.setProperty("vitess.keyspace", checkNotNull(databaseList.get(0)));
+        props.setProperty("vitess.tablet.type", tabletType.name());
+
+        if (tableList != null) {
+            props.setProperty("table.include.list", String.join(",", tableList));
+        }
+
+        switch (startupOptions.startupMode) {
+            case INITIAL:
+            case LATEST_OFFSET:
+                break;
+            default:
+                throw new UnsupportedOperationException(
+                        "Unsupported startup mode "
+                                + startupOptions.startupMode
+                                + ", only initial and latest-offset are supported.");
+        }
+
+        if (dbzProperties != null) {
+            props.putAll(dbzProperties);
+        }
+
+        Configuration dbzConfiguration = Configuration.from(props);
+        return new VitessSourceConfig(
+                startupOptions,
+                databaseList,
+                tableList,
+                splitSize,
+                splitMetaGroupSize,
+                distributionFactorUpper,
+                distributionFactorLower,
+                includeSchemaChanges,
+                closeIdleReaders,
+                props,
+                dbzConfiguration,
+                DRIVER_ClASS_NAME,
+                hostname,
+                port,
+                username,
+                password,
+                fetchSize,
+                serverTimeZone,
+                connectTimeout,
+                connectMaxRetries,
+                connectionPoolSize,
+                chunkKeyColumn,
+                assignUnboundedChunkFirst,
+                snapshotPrefetchSplits,
+                streamPhaseMetricsSampleInterval);
+    }
+}
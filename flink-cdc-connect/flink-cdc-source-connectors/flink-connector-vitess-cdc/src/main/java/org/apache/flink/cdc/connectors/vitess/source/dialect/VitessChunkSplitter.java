@@ -0,0 +1,166 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.connectors.vitess.source.dialect;
+
+import org.apache.flink.cdc.connectors.base.source.assigner.splitter.ChunkRange;
+import org.apache.flink.cdc.connectors.base.source.assigner.splitter.ChunkSplitter;
+import org.apache.flink.cdc.connectors.base.source.assigner.state.ChunkSplitterState;
+import org.apache.flink.cdc.connectors.base.source.meta.split.SnapshotSplit;
+import org.apache.flink.cdc.connectors.vitess.source.config.VitessSourceConfig;
+import org.apache.flink.cdc.connectors.vitess.source.utils.VitessUtils;
+import org.apache.flink.table.types.logical.RowType;
+
+import io.debezium.jdbc.JdbcConnection;
+import io.debezium.relational.Column;
+import io.debezium.relational.TableId;
+import io.debezium.relational.history.TableChanges.TableChange;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import static org.apache.flink.cdc.connectors.vitess.source.utils.VitessUtils.queryMinAfter;
+import static org.apache.flink.cdc.connectors.vitess.source.utils.VitessUtils.queryNextChunkMax;
+import static org.apache.flink.cdc.connectors.vitess.source.utils.VitessUtils.useKeyspace;
+import static org.apache.flink.cdc.connectors.vitess.source.utils.VitessUtils.useShard;
+
+/**
+ * The {@link ChunkSplitter} implementation for Vitess, which splits each shard of a table into
+ * chunks of the split column, so that snapshot splits of different shards are read in parallel.
+ *
+ * <p>The split keys of a chunk are the shard and the bound of the split column, see {@link
+ * VitessUtils#getSplitType}. All chunks of a table are generated at once.
+ */
+public class VitessChunkSplitter implements ChunkSplitter {
+
+    private static final Logger LOG = LoggerFactory.getLogger(VitessChunkSplitter.class);
+
+    private final VitessSourceConfig sourceConfig;
+    private final VitessDialect dialect;
+
+    private JdbcConnection jdbcConnection;
+
+    public VitessChunkSplitter(VitessSourceConfig sourceConfig, VitessDialect dialect) {
+        this.sourceConfig = sourceConfig;
+        this.dialect = dialect;
+    }
+
+    @Override
+    public void open() {
+        this.jdbcConnection = dialect.openJdbcConnection(sourceConfig);
+    }
+
+    @Override
+    public Collection<SnapshotSplit> generateSplits(TableId tableId) throws Exception {
+        long start = System.currentTimeMillis();
+        TableChange tableChange = dialect.queryTableSchema(jdbcConnection, tableId);
+        Column splitColumn =
+                VitessUtils.getSplitColumn(
+                        tableChange.getTable(), sourceConfig.getChunkKeyColumn());
+        RowType splitType = VitessUtils.getSplitType(splitColumn);
+        Map<TableId, TableChange> schema = new HashMap<>();
+        schema.put(tableId, tableChange);
+
+        String keyspace = tableId.catalog();
+        List<SnapshotSplit> snapshotSplits = new ArrayList<>();
+        try {
+            for (String shard : VitessUtils.listShards(jdbcConnection, keyspace)) {
+                useShard(jdbcConnection, keyspace, shard);
+                for (ChunkRange chunk : splitChunks(tableId, splitColumn)) {
+                    snapshotSplits.add(
+                            new SnapshotSplit(
+                                    tableId,
+                                    snapshotSplits.size(),
+                                    splitType,
+                                    new Object[] {shard, chunk.getChunkStart()},
+                                    new Object[] {shard, chunk.getChunkEnd()},
+                                    null,
+                                    schema));
+                }
+            }
+        } finally {
+            useKeyspace(jdbcConnection, keyspace);
+        }
+        LOG.info(
+                "Split table {} into {} chunks, time cost: {}ms.",
+                tableId,
+                snapshotSplits.size(),
+                System.currentTimeMillis() - start);
+        return snapshotSplits;
+    }
+
+    /**
+     * Splits the table of the targeted shard into chunks [null, max_1), [max_1, max_2), ... [max_n,
+     * null), each of which has about {@code splitSize} rows.
+     */
+    private List<ChunkRange> splitChunks(TableId tableId, Column splitColumn) throws SQLException {
+        final int chunkSize = sourceConfig.getSplitSize();
+        final List<ChunkRange> chunks = new ArrayList<>();
+        Object chunkStart = null;
+        Object chunkEnd = nextChunkEnd(tableId, splitColumn, null, chunkSize);
+        while (chunkEnd != null) {
+            chunks.add(ChunkRange.of(chunkStart, chunkEnd));
+            chunkStart = chunkEnd;
+            chunkEnd = nextChunkEnd(tableId, splitColumn, chunkEnd, chunkSize);
+        }
+        chunks.add(ChunkRange.of(chunkStart, null));
+        return chunks;
+    }
+
+    private Object nextChunkEnd(
+            TableId tableId, Column splitColumn, Object previousChunkEnd, int chunkSize)
+            throws SQLException {
+        Object chunkEnd =
+                queryNextChunkMax(
+                        jdbcConnection, tableId, splitColumn.name(), chunkSize, previousChunkEnd);
+        if (chunkEnd != null && Objects.equals(previousChunkEnd, chunkEnd)) {
+            // we don't allow equal chunk start and end,
+            // should query the next one larger than chunkEnd
+            chunkEnd = queryMinAfter(jdbcConnection, tableId, splitColumn.name(), chunkEnd);
+        }
+        return chunkEnd;
+    }
+
+    @Override
+    public boolean hasNextChunk() {
+        return false;
+    }
+
+    @Override
+    public ChunkSplitterState snapshotState(long checkpointId) {
+        return ChunkSplitterState.NO_SPLITTING_TABLE_STATE;
+    }
+
+    @Override
+    public TableId getCurrentSplittingTableId() {
+        return null;
+    }
+
+    @Override
+    public void close() throws Exception {
+        if (jdbcConnection != null) {
+            jdbcConnection.close();
+        }
+    }
+}
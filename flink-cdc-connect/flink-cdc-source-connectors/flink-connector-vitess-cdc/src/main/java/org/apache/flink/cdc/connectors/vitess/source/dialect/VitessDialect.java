@@ -0,0 +1,191 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.connectors.vitess.source.dialect;
+
+import org.apache.flink.cdc.common.annotation.Experimental;
+import org.apache.flink.cdc.connectors.base.config.JdbcSourceConfig;
+import org.apache.flink.cdc.connectors.base.dialect.JdbcDataSourceDialect;
+import org.apache.flink.cdc.connectors.base.relational.connection.JdbcConnectionFactory;
+import org.apache.flink.cdc.connectors.base.relational.connection.JdbcConnectionPoolFactory;
+import org.apache.flink.cdc.connectors.base.source.assigner.splitter.ChunkSplitter;
+import org.apache.flink.cdc.connectors.base.source.assigner.state.ChunkSplitterState;
+import org.apache.flink.cdc.connectors.base.source.meta.offset.Offset;
+import org.apache.flink.cdc.connectors.base.source.meta.split.SourceSplitBase;
+import org.apache.flink.cdc.connectors.base.source.reader.external.FetchTask;
+import org.apache.flink.cdc.connectors.vitess.source.config.VitessSourceConfig;
+import org.apache.flink.cdc.connectors.vitess.source.reader.fetch.VitessScanFetchTask;
+import org.apache.flink.cdc.connectors.vitess.source.reader.fetch.VitessSourceFetchTaskContext;
+import org.apache.flink.cdc.connectors.vitess.source.reader.fetch.VitessStreamFetchTask;
+import org.apache.flink.cdc.connectors.vitess.source.utils.VitessUtils;
+import org.apache.flink.util.FlinkRuntimeException;
+
+import io.debezium.jdbc.JdbcConnection;
+import io.debezium.relational.Table;
+import io.debezium.relational.TableId;
+import io.debezium.relational.Tables;
+import io.debezium.relational.history.TableChanges;
+import io.debezium.relational.history.TableChanges.TableChange;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/** The {@link JdbcDataSourceDialect} implementation for Vitess datasource. */
+@Experimental
+public class VitessDialect implements JdbcDataSourceDialect {
+
+    private static final long serialVersionUID = 1L;
+    private static final String QUOTED_CHARACTER = "`";
+
+    private final VitessSourceConfig sourceConfig;
+    private transient Tables.TableFilter filters;
+
+    public VitessDialect(VitessSourceConfig sourceConfig) {
+        this.sourceConfig = sourceConfig;
+    }
+
+    @Override
+    public String getName() {
+        return "Vitess";
+    }
+
+    @Override
+    public Offset displayCurrentOffset(JdbcSourceConfig sourceConfig) {
+        try (JdbcConnection jdbcConnection = openJdbcConnection(sourceConfig)) {
+            return VitessUtils.currentOffset(
+                    jdbcConnection, ((VitessSourceConfig) sourceConfig).getKeyspace());
+        } catch (Exception e) {
+            throw new FlinkRuntimeException("Read the vgtid offset error", e);
+        }
+    }
+
+    @Override
+    public boolean isDataCollectionIdCaseSensitive(JdbcSourceConfig sourceConfig) {
+        return true;
+    }
+
+    @Override
+    public JdbcConnection openJdbcConnection(JdbcSourceConfig sourceConfig) {
+        JdbcConnection jdbc =
+                new JdbcConnection(
+                        sourceConfig.getDbzConnectorConfig().getJdbcConfig(),
+                        new JdbcConnectionFactory(sourceConfig, getPooledDataSourceFactory()),
+                        QUOTED_CHARACTER,
+                        QUOTED_CHARACTER);
+        try {
+            jdbc.connect();
+        } catch (Exception e) {
+            throw new FlinkRuntimeException(e);
+        }
+        return jdbc;
+    }
+
+    @Override
+    public ChunkSplitter createChunkSplitter(JdbcSourceConfig sourceConfig) {
+        return new VitessChunkSplitter((VitessSourceConfig) sourceConfig, this);
+    }
+
+    @Override
+    public ChunkSplitter createChunkSplitter(
+            JdbcSourceConfig sourceConfig, ChunkSplitterState chunkSplitterState) {
+        // tables are split at once, so there's never a table being split in the state
+        return createChunkSplitter(sourceConfig);
+    }
+
+    @Override
+    public JdbcConnectionPoolFactory getPooledDataSourceFactory() {
+        return new VitessPooledDataSourceFactory();
+    }
+
+    @Override
+    public List<TableId> discoverDataCollections(JdbcSourceConfig sourceConfig) {
+        String keyspace = ((VitessSourceConfig) sourceConfig).getKeyspace();
+        try (JdbcConnection jdbcConnection = openJdbcConnection(sourceConfig)) {
+            List<TableId> capturedTableIds = new ArrayList<>();
+            for (TableId tableId :
+                    jdbcConnection.readTableNames(keyspace, null, null, new String[] {"TABLE"})) {
+                if (sourceConfig.getTableFilters().dataCollectionFilter().isIncluded(tableId)) {
+                    capturedTableIds.add(tableId);
+                }
+            }
+            return capturedTableIds;
+        } catch (SQLException e) {
+            throw new FlinkRuntimeException("Error to discover tables: " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public Map<TableId, TableChange> discoverDataCollectionSchemas(JdbcSourceConfig sourceConfig) {
+        final List<TableId> capturedTableIds = discoverDataCollections(sourceConfig);
+
+        try (JdbcConnection jdbc = openJdbcConnection(sourceConfig)) {
+            // fetch table schemas
+            Map<TableId, TableChange> tableSchemas = new HashMap<>();
+            for (TableId tableId : capturedTableIds) {
+                TableChange tableSchema = queryTableSchema(jdbc, tableId);
+                tableSchemas.put(tableId, tableSchema);
+            }
+            return tableSchemas;
+        } catch (Exception e) {
+            throw new FlinkRuntimeException(
+                    "Error to discover table schemas: " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public TableChange queryTableSchema(JdbcConnection jdbc, TableId tableId) {
+        try {
+            Tables tables = new Tables();
+            jdbc.readSchema(tables, tableId.catalog(), null, tableId::equals, null, false);
+            Table table = tables.forTable(tableId);
+            if (table == null) {
+                throw new FlinkRuntimeException("Cannot find the schema of table " + tableId);
+            }
+            return new TableChange(TableChanges.TableChangeType.CREATE, table);
+        } catch (SQLException e) {
+            throw new FlinkRuntimeException(
+                    String.format("Failed to read schema for table %s", tableId), e);
+        }
+    }
+
+    @Override
+    public VitessSourceFetchTaskContext createFetchTaskContext(JdbcSourceConfig taskSourceConfig) {
+        final JdbcConnection jdbcConnection = openJdbcConnection(sourceConfig);
+        return new VitessSourceFetchTaskContext(taskSourceConfig, this, jdbcConnection);
+    }
+
+    @Override
+    public FetchTask<SourceSplitBase> createFetchTask(SourceSplitBase sourceSplitBase) {
+        if (sourceSplitBase.isSnapshotSplit()) {
+            return new VitessScanFetchTask(sourceSplitBase.asSnapshotSplit());
+        } else {
+            return new VitessStreamFetchTask(sourceSplitBase.asStreamSplit());
+        }
+    }
+
+    @Override
+    public boolean isIncludeDataCollection(JdbcSourceConfig sourceConfig, TableId tableId) {
+        if (filters == null) {
+            this.filters = sourceConfig.getTableFilters().dataCollectionFilter();
+        }
+
+        return filters.isIncluded(tableId);
+    }
+}
@@ -0,0 +1,199 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.connectors.vitess.source.offset;
+
+import org.apache.flink.cdc.connectors.base.source.meta.offset.Offset;
+
+import io.debezium.connector.vitess.SourceInfo;
+import io.debezium.connector.vitess.Vgtid;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A structure describes an offset in the VStreams of a keyspace. It holds the VGTID of all shards,
+ * which is the GTID set executed by each shard.
+ *
+ * <p>Offsets are ordered by the shards they have in common, so the offset of a record read from a
+ * single shard can be compared with the offset of the whole keyspace. An offset is before another
+ * one if it is at or before it on every shard. If the shards disagree, the offset which has
+ * executed more transactions on the common shards is the later one.
+ */
+public class VitessOffset extends Offset {
+
+    private static final long serialVersionUID = 1L;
+
+    public static final String NO_STOPPING_KEY = "no_stopping";
+
+    public static final VitessOffset INITIAL_OFFSET =
+            new VitessOffset(Vgtid.of(Collections.emptyList()));
+    public static final VitessOffset NO_STOPPING_OFFSET = createNoStoppingOffset();
+
+    private transient Map<String, Map<String, Long>> transactionCounts;
+
+    public VitessOffset(Map<String, String> offset) {
+        this.offset = offset;
+    }
+
+    public VitessOffset(Vgtid vgtid) {
+        Map<String, String> offsetMap = new HashMap<>();
+        offsetMap.put(SourceInfo.VGTID_KEY, vgtid.toString());
+        this.offset = offsetMap;
+    }
+
+    public static VitessOffset of(List<Vgtid.ShardGtid> shardGtids) {
+        return new VitessOffset(Vgtid.of(shardGtids));
+    }
+
+    public Vgtid getVgtid() {
+        return Vgtid.of(offset.get(SourceInfo.VGTID_KEY));
+    }
+
+    public List<Vgtid.ShardGtid> getShardGtids() {
+        return getVgtid().getShardGtids();
+    }
+
+    /**
+     * Returns the offset with the positions of shards in given offset replacing the ones of this
+     * offset.
+     */
+    public VitessOffset merge(VitessOffset that) {
+        Map<String, Vgtid.ShardGtid> shardGtids = new LinkedHashMap<>();
+        for (Vgtid.ShardGtid shardGtid : getShardGtids()) {
+            shardGtids.put(shardKey(shardGtid), shardGtid);
+        }
+        for (Vgtid.ShardGtid shardGtid : that.getShardGtids()) {
+            shardGtids.put(shardKey(shardGtid), shardGtid);
+        }
+        return of(new ArrayList<>(shardGtids.values()));
+    }
+
+    @Override
+    public int compareTo(Offset offset) {
+        VitessOffset that = (VitessOffset) offset;
+        // the NO_STOPPING_OFFSET is the max offset
+        if (NO_STOPPING_OFFSET.equals(that) && NO_STOPPING_OFFSET.equals(this)) {
+            return 0;
+        }
+        if (NO_STOPPING_OFFSET.equals(this)) {
+            return 1;
+        }
+        if (NO_STOPPING_OFFSET.equals(that)) {
+            return -1;
+        }
+
+        Map<String, Map<String, Long>> thisCounts = getTransactionCounts();
+        Map<String, Map<String, Long>> thatCounts = that.getTransactionCounts();
+        boolean after = false;
+        boolean before = false;
+        long difference = 0L;
+        for (Map.Entry<String, Map<String, Long>> shard : thisCounts.entrySet()) {
+            Map<String, Long> thatShardCounts = thatCounts.get(shard.getKey());
+            if (shard.getValue() == null || thatShardCounts == null) {
+                // not comparable if the shard is absent or its position is unknown
+                continue;
+            }
+            Map<String, Long> sources = new HashMap<>(shard.getValue());
+            thatShardCounts.forEach((source, count) -> sources.putIfAbsent(source, 0L));
+            for (Map.Entry<String, Long> source : sources.entrySet()) {
+                long delta = source.getValue() - thatShardCounts.getOrDefault(source.getKey(), 0L);
+                after |= delta > 0;
+                before |= delta < 0;
+                difference += delta;
+            }
+        }
+        if (after != before) {
+            return after ? 1 : -1;
+        }
+        return Long.signum(difference);
+    }
+
+    private Map<String, Map<String, Long>> getTransactionCounts() {
+        if (transactionCounts == null) {
+            Map<String, Map<String, Long>> counts = new HashMap<>();
+            for (Vgtid.ShardGtid shardGtid : getShardGtids()) {
+                counts.put(shardKey(shardGtid), parseTransactionCounts(shardGtid.getGtid()));
+            }
+            transactionCounts = counts;
+        }
+        return transactionCounts;
+    }
+
+    /**
+     * Parses a GTID set like {@code MySQL56/uuid1:1-100:105,uuid2:1-5} to the number of executed
+     * transactions of each source server, or returns null if the GTID set is not a position like
+     * {@code current}.
+     */
+    static Map<String, Long> parseTransactionCounts(String gtid) {
+        if (gtid == null || gtid.isEmpty() || Vgtid.CURRENT_GTID.equals(gtid)) {
+            return null;
+        }
+        String gtidSet = gtid.substring(gtid.indexOf('/') + 1);
+        Map<String, Long> counts = new HashMap<>();
+        try {
+            for (String sourceSet : gtidSet.split(",")) {
+                String[] parts = sourceSet.trim().split(":");
+                if (parts[0].isEmpty()) {
+                    continue;
+                }
+                long count = 0L;
+                for (int i = 1; i < parts.length; i++) {
+                    int separator = parts[i].indexOf('-');
+                    if (separator < 0) {
+                        count += 1;
+                    } else {
+                        count +=
+                                Long.parseLong(parts[i].substring(separator + 1))
+                                        - Long.parseLong(parts[i].substring(0, separator))
+                                        + 1;
+                    }
+                }
+                counts.merge(parts[0].toLowerCase(), count, Long::sum);
+            }
+        } catch (NumberFormatException e) {
+            return null;
+        }
+        return counts;
+    }
+
+    private static String shardKey(Vgtid.ShardGtid shardGtid) {
+        return shardGtid.getKeyspace() + "/" + shardGtid.getShard();
+    }
+
+    private static VitessOffset createNoStoppingOffset() {
+        Map<String, String> offsetMap = new HashMap<>(INITIAL_OFFSET.getOffset());
+        offsetMap.put(NO_STOPPING_KEY, Boolean.TRUE.toString());
+        return new VitessOffset(offsetMap);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof VitessOffset)) {
+            return false;
+        }
+        VitessOffset that = (VitessOffset) o;
+        return offset.equals(that.offset);
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.connectors.vitess.source.reader;
+
+import org.apache.flink.api.connector.source.SourceOutput;
+import org.apache.flink.cdc.connectors.base.source.meta.offset.Offset;
+import org.apache.flink.cdc.connectors.base.source.meta.offset.OffsetFactory;
+import org.apache.flink.cdc.connectors.base.source.meta.split.SourceSplitState;
+import org.apache.flink.cdc.connectors.base.source.meta.split.StreamSplitState;
+import org.apache.flink.cdc.connectors.base.source.metrics.SourceReaderMetrics;
+import org.apache.flink.cdc.connectors.base.source.reader.IncrementalSourceRecordEmitter;
+import org.apache.flink.cdc.connectors.vitess.source.offset.VitessOffset;
+import org.apache.flink.cdc.debezium.DebeziumDeserializationSchema;
+
+import org.apache.kafka.connect.source.SourceRecord;
+
+/**
+ * The {@link IncrementalSourceRecordEmitter} implementation for Vitess.
+ *
+ * <p>The records of the stream split are read from the VStreams of all shards, and the offset of
+ * each record only has the VGTID of its own shard. The emitter merges it into the offset of the
+ * stream split, so that the split is restored from the position of every shard.
+ */
+public class VitessRecordEmitter<T> extends IncrementalSourceRecordEmitter<T> {
+
+    public VitessRecordEmitter(
+            DebeziumDeserializationSchema<T> debeziumDeserializationSchema,
+            SourceReaderMetrics sourceReaderMetrics,
+            boolean includeSchemaChanges,
+            OffsetFactory offsetFactory) {
+        super(
+                debeziumDeserializationSchema,
+                sourceReaderMetrics,
+                includeSchemaChanges,
+                offsetFactory);
+    }
+
+    @Override
+    protected void processElement(
+            SourceRecord element, SourceOutput<T> output, SourceSplitState splitState)
+            throws Exception {
+        if (!splitState.isStreamSplitState()) {
+            super.processElement(element, output, splitState);
+            return;
+        }
+        StreamSplitState streamSplitState = splitState.asStreamSplitState();
+        Offset previousOffset = streamSplitState.getStartingOffset();
+        super.processElement(element, output, splitState);
+        Offset currentOffset = streamSplitState.getStartingOffset();
+        if (previousOffset != null && currentOffset != previousOffset) {
+            streamSplitState.setStartingOffset(
+                    ((VitessOffset) previousOffset).merge((VitessOffset) currentOffset));
+        }
+    }
+}
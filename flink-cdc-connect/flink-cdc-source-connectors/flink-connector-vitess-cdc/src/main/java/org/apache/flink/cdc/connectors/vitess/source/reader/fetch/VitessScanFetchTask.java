@@ -0,0 +1,323 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.connectors.vitess.source.reader.fetch;
+
+import org.apache.flink.cdc.connectors.base.source.meta.split.SnapshotSplit;
+import org.apache.flink.cdc.connectors.base.source.meta.split.StreamSplit;
+import org.apache.flink.cdc.connectors.base.source.reader.external.AbstractScanFetchTask;
+
+import io.debezium.DebeziumException;
+import io.debezium.connector.vitess.VitessConnectorConfig;
+import io.debezium.connector.vitess.VitessDatabaseSchema;
+import io.debezium.connector.vitess.VitessOffsetContext;
+import io.debezium.connector.vitess.VitessPartition;
+import io.debezium.jdbc.JdbcConnection;
+import io.debezium.pipeline.EventDispatcher;
+import io.debezium.pipeline.source.AbstractSnapshotChangeEventSource;
+import io.debezium.pipeline.source.spi.ChangeEventSource;
+import io.debezium.pipeline.source.spi.SnapshotProgressListener;
+import io.debezium.pipeline.spi.ChangeRecordEmitter;
+import io.debezium.pipeline.spi.SnapshotResult;
+import io.debezium.relational.RelationalSnapshotChangeEventSource;
+import io.debezium.relational.SnapshotChangeRecordEmitter;
+import io.debezium.relational.Table;
+import io.debezium.relational.TableId;
+import io.debezium.util.Clock;
+import io.debezium.util.ColumnUtils;
+import io.debezium.util.Strings;
+import io.debezium.util.Threads;
+import org.apache.kafka.connect.errors.ConnectException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+
+import static org.apache.flink.cdc.connectors.vitess.source.utils.VitessUtils.buildSplitScanQuery;
+import static org.apache.flink.cdc.connectors.vitess.source.utils.VitessUtils.readTableSplitDataStatement;
+import static org.apache.flink.cdc.connectors.vitess.source.utils.VitessUtils.useKeyspace;
+import static org.apache.flink.cdc.connectors.vitess.source.utils.VitessUtils.useShard;
+
+/**
+ * The task to work for fetching data of Vitess table snapshot split, which is read from the primary
+ * tablet of its shard.
+ *
+ * <p>Snapshot splits are never backfilled, their high watermarks are their low watermarks. The
+ * changes made while reading a split are read again by the stream split, which only promises
+ * at-least-once semantic.
+ */
+public class VitessScanFetchTask extends AbstractScanFetchTask {
+
+    public VitessScanFetchTask(SnapshotSplit split) {
+        super(split);
+    }
+
+    @Override
+    protected void executeDataSnapshot(Context context) throws Exception {
+        VitessSourceFetchTaskContext sourceFetchContext = (VitessSourceFetchTaskContext) context;
+        taskRunning = true;
+        VitessSnapshotSplitReadTask snapshotSplitReadTask =
+                new VitessSnapshotSplitReadTask(
+                        sourceFetchContext.getDbzConnectorConfig(),
+                        sourceFetchContext.getOffsetContext(),
+                        sourceFetchContext.getSnapshotChangeEventSourceMetrics(),
+                        sourceFetchContext.getDatabaseSchema(),
+                        sourceFetchContext.getConnection(),
+                        sourceFetchContext.getEventDispatcher(),
+                        sourceFetchContext.getSnapshotReceiver(),
+                        snapshotSplit);
+        VitessSnapshotSplitChangeEventSourceContext changeEventSourceContext =
+                new VitessSnapshotSplitChangeEventSourceContext();
+        SnapshotResult<VitessOffsetContext> snapshotResult =
+                snapshotSplitReadTask.execute(
+                        changeEventSourceContext,
+                        sourceFetchContext.getPartition(),
+                        sourceFetchContext.getOffsetContext());
+        if (!snapshotResult.isCompletedOrSkipped()) {
+            taskRunning = false;
+            throw new IllegalStateException(
+                    String.format("Read snapshot for Vitess split %s fail", snapshotSplit));
+        }
+    }
+
+    @Override
+    protected void executeBackfillTask(Context context, StreamSplit backfillStreamSplit) {
+        throw new UnsupportedOperationException(
+                "Vitess snapshot splits are not backfilled, but the high watermark "
+                        + backfillStreamSplit.getEndingOffset()
+                        + " of split "
+                        + snapshotSplit.splitId()
+                        + " is after its low watermark.");
+    }
+
+    /** A wrapped task to fetch snapshot split of table. */
+    public static class VitessSnapshotSplitReadTask
+            extends AbstractSnapshotChangeEventSource<VitessPartition, VitessOffsetContext> {
+
+        private static final Logger LOG =
+                LoggerFactory.getLogger(VitessSnapshotSplitReadTask.class);
+
+        /** Interval for showing a log statement with the progress while scanning a single table. */
+        private static final Duration LOG_INTERVAL = Duration.ofMillis(10_000);
+
+        private final VitessConnectorConfig connectorConfig;
+        private final VitessDatabaseSchema databaseSchema;
+        private final JdbcConnection jdbcConnection;
+        private final EventDispatcher<VitessPartition, TableId> eventDispatcher;
+        private final Clock clock;
+        private final SnapshotSplit snapshotSplit;
+        private final VitessOffsetContext offsetContext;
+        private final SnapshotProgressListener<VitessPartition> snapshotProgressListener;
+        private final EventDispatcher.SnapshotReceiver<VitessPartition> snapshotReceiver;
+
+        public VitessSnapshotSplitReadTask(
+                VitessConnectorConfig connectorConfig,
+                VitessOffsetContext previousOffset,
+                SnapshotProgressListener<VitessPartition> snapshotProgressListener,
+                VitessDatabaseSchema databaseSchema,
+                JdbcConnection jdbcConnection,
+                EventDispatcher<VitessPartition, TableId> eventDispatcher,
+                EventDispatcher.SnapshotReceiver<VitessPartition> snapshotReceiver,
+                SnapshotSplit snapshotSplit) {
+            super(connectorConfig, snapshotProgressListener);
+            this.offsetContext = previousOffset;
+            this.connectorConfig = connectorConfig;
+            this.databaseSchema = databaseSchema;
+            this.jdbcConnection = jdbcConnection;
+            this.eventDispatcher = eventDispatcher;
+            this.clock = Clock.SYSTEM;
+            this.snapshotSplit = snapshotSplit;
+            this.snapshotProgressListener = snapshotProgressListener;
+            this.snapshotReceiver = snapshotReceiver;
+        }
+
+        @Override
+        public SnapshotResult<VitessOffsetContext> execute(
+                ChangeEventSourceContext context,
+                VitessPartition partition,
+                VitessOffsetContext previousOffset)
+                throws InterruptedException {
+            SnapshottingTask snapshottingTask = getSnapshottingTask(partition, previousOffset);
+            final VitessSnapshotContext ctx;
+            try {
+                ctx = prepare(partition);
+            } catch (Exception e) {
+                LOG.error("Failed to initialize snapshot context.", e);
+                throw new RuntimeException(e);
+            }
+            try {
+                return doExecute(context, previousOffset, ctx, snapshottingTask);
+            } catch (InterruptedException e) {
+                LOG.warn("Snapshot was interrupted before completion");
+                throw e;
+            } catch (Exception t) {
+                throw new DebeziumException(t);
+            }
+        }
+
+        @Override
+        protected SnapshotResult<VitessOffsetContext> doExecute(
+                ChangeEventSourceContext context,
+                VitessOffsetContext previousOffset,
+                SnapshotContext<VitessPartition, VitessOffsetContext> snapshotContext,
+                SnapshottingTask snapshottingTask)
+                throws Exception {
+            final VitessSnapshotContext ctx = (VitessSnapshotContext) snapshotContext;
+            ctx.offset = offsetContext;
+
+            createDataEvents(ctx, snapshotSplit.getTableId());
+
+            return SnapshotResult.completed(ctx.offset);
+        }
+
+        @Override
+        protected SnapshottingTask getSnapshottingTask(
+                VitessPartition partition, VitessOffsetContext previousOffset) {
+            return new SnapshottingTask(false, true);
+        }
+
+        @Override
+        protected VitessSnapshotContext prepare(VitessPartition partition) throws Exception {
+            return new VitessSnapshotContext(partition);
+        }
+
+        private void createDataEvents(VitessSnapshotContext snapshotContext, TableId tableId)
+                throws Exception {
+            LOG.debug("Snapshotting table {}", tableId);
+            createDataEventsForTable(
+                    snapshotContext, snapshotReceiver, databaseSchema.tableFor(tableId));
+            snapshotReceiver.completeSnapshot();
+        }
+
+        /** Dispatches the data change events for the records of a single table. */
+        private void createDataEventsForTable(
+                VitessSnapshotContext snapshotContext,
+                EventDispatcher.SnapshotReceiver<VitessPartition> snapshotReceiver,
+                Table table)
+                throws InterruptedException {
+
+            long exportStart = clock.currentTimeInMillis();
+            // split keys are the shard and the bound of the split column
+            final String shard = (String) snapshotSplit.getSplitStart()[0];
+            final Object splitStart = snapshotSplit.getSplitStart()[1];
+            final Object splitEnd = snapshotSplit.getSplitEnd()[1];
+            final String keyspace = table.id().catalog();
+            LOG.info(
+                    "Exporting data from split '{}' of table {} in shard {}",
+                    snapshotSplit.splitId(),
+                    table.id(),
+                    shard);
+
+            final String selectSql =
+                    buildSplitScanQuery(
+                            snapshotSplit.getTableId(),
+                            snapshotSplit.getSplitKeyType().getFieldNames().get(1),
+                            splitStart == null,
+                            splitEnd == null,
+                            "*");
+            LOG.info(
+                    "For split '{}' of table {} using select statement: '{}'",
+                    snapshotSplit.splitId(),
+                    table.id(),
+                    selectSql);
+
+            try {
+                useShard(jdbcConnection, keyspace, shard);
+                try (PreparedStatement selectStatement =
+                                readTableSplitDataStatement(
+                                        jdbcConnection,
+                                        selectSql,
+                                        splitStart,
+                                        splitEnd,
+                                        connectorConfig.getQueryFetchSize());
+                        ResultSet rs = selectStatement.executeQuery()) {
+
+                    ColumnUtils.ColumnArray columnArray = ColumnUtils.toArray(rs, table);
+                    long rows = 0;
+                    Threads.Timer logTimer = getTableScanLogTimer();
+
+                    while (rs.next()) {
+                        rows++;
+                        final Object[] row =
+                                jdbcConnection.rowToArray(table, databaseSchema, rs, columnArray);
+                        if (logTimer.expired()) {
+                            long stop = clock.currentTimeInMillis();
+                            LOG.info(
+                                    "Exported {} records for split '{}' after {}",
+                                    rows,
+                                    snapshotSplit.splitId(),
+                                    Strings.duration(stop - exportStart));
+                            snapshotProgressListener.rowsScanned(
+                                    snapshotContext.partition, table.id(), rows);
+                            logTimer = getTableScanLogTimer();
+                        }
+                        eventDispatcher.dispatchSnapshotEvent(
+                                snapshotContext.partition,
+                                table.id(),
+                                getChangeRecordEmitter(snapshotContext, table.id(), row),
+                                snapshotReceiver);
+                    }
+                    LOG.info(
+                            "Finished exporting {} records for split '{}', total duration '{}'",
+                            rows,
+                            snapshotSplit.splitId(),
+                            Strings.duration(clock.currentTimeInMillis() - exportStart));
+                } finally {
+                    useKeyspace(jdbcConnection, keyspace);
+                }
+            } catch (SQLException e) {
+                throw new ConnectException("Snapshotting of table " + table.id() + " failed", e);
+            }
+        }
+
+        protected ChangeRecordEmitter<VitessPartition> getChangeRecordEmitter(
+                VitessSnapshotContext snapshotContext, TableId tableId, Object[] row) {
+            snapshotContext.offset.event(tableId, clock.currentTime());
+            return new SnapshotChangeRecordEmitter<>(
+                    snapshotContext.partition, snapshotContext.offset, row, clock);
+        }
+
+        private Threads.Timer getTableScanLogTimer() {
+            return Threads.timer(clock, LOG_INTERVAL);
+        }
+
+        private static class VitessSnapshotContext
+                extends RelationalSnapshotChangeEventSource.RelationalSnapshotContext<
+                        VitessPartition, VitessOffsetContext> {
+
+            public VitessSnapshotContext(VitessPartition partition) throws SQLException {
+                super(partition, "");
+            }
+        }
+    }
+
+    /**
+     * The {@link ChangeEventSource.ChangeEventSourceContext} implementation for the snapshot split
+     * task.
+     */
+    public class VitessSnapshotSplitChangeEventSourceContext
+            implements ChangeEventSource.ChangeEventSourceContext {
+
+        @Override
+        public boolean isRunning() {
+            return taskRunning;
+        }
+    }
+}
@@ -0,0 +1,242 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.connectors.vitess.source.reader.fetch;
+
+import org.apache.flink.cdc.connectors.base.WatermarkDispatcher;
+import org.apache.flink.cdc.connectors.base.config.JdbcSourceConfig;
+import org.apache.flink.cdc.connectors.base.relational.JdbcSourceEventDispatcher;
+import org.apache.flink.cdc.connectors.base.source.meta.offset.Offset;
+import org.apache.flink.cdc.connectors.base.source.meta.split.SourceSplitBase;
+import org.apache.flink.cdc.connectors.base.source.reader.external.JdbcSourceFetchTaskContext;
+import org.apache.flink.cdc.connectors.vitess.source.config.VitessSourceConfig;
+import org.apache.flink.cdc.connectors.vitess.source.dialect.VitessDialect;
+import org.apache.flink.cdc.connectors.vitess.source.handler.VitessSchemaChangeEventHandler;
+import org.apache.flink.cdc.connectors.vitess.source.offset.VitessOffset;
+import org.apache.flink.cdc.connectors.vitess.source.utils.VitessUtils;
+import org.apache.flink.table.types.logical.RowType;
+
+import io.debezium.connector.base.ChangeEventQueue;
+import io.debezium.connector.base.ChangeEventQueue.Builder;
+import io.debezium.connector.vitess.VitessConnectorConfig;
+import io.debezium.connector.vitess.VitessDatabaseSchema;
+import io.debezium.connector.vitess.VitessErrorHandler;
+import io.debezium.connector.vitess.VitessEventMetadataProvider;
+import io.debezium.connector.vitess.VitessOffsetContext;
+import io.debezium.connector.vitess.VitessPartition;
+import io.debezium.connector.vitess.VitessTaskContext;
+import io.debezium.connector.vitess.VitessTopicSelector;
+import io.debezium.jdbc.JdbcConnection;
+import io.debezium.pipeline.DataChangeEvent;
+import io.debezium.pipeline.ErrorHandler;
+import io.debezium.pipeline.EventDispatcher;
+import io.debezium.pipeline.metrics.DefaultChangeEventSourceMetricsFactory;
+import io.debezium.pipeline.metrics.SnapshotChangeEventSourceMetrics;
+import io.debezium.pipeline.txmetadata.TransactionContext;
+import io.debezium.relational.Column;
+import io.debezium.relational.Table;
+import io.debezium.relational.Tables.TableFilter;
+import io.debezium.relational.history.TableChanges.TableChange;
+import org.apache.kafka.connect.source.SourceRecord;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+
+/** The context for fetch task that fetching data of snapshot split from Vitess data source. */
+public class VitessSourceFetchTaskContext extends JdbcSourceFetchTaskContext {
+
+    /** Connection to the MySQL protocol of VTGate, used for reading snapshot splits. */
+    private final JdbcConnection connection;
+
+    private final VitessEventMetadataProvider metadataProvider;
+    private Collection<TableChange> tableSchemas;
+    private VitessOffsetContext offsetContext;
+    private VitessPartition partition;
+    private VitessDatabaseSchema databaseSchema;
+    private JdbcSourceEventDispatcher<VitessPartition> dispatcher;
+    private VitessErrorHandler errorHandler;
+    private ChangeEventQueue<DataChangeEvent> queue;
+    private VitessTaskContext taskContext;
+    private EventDispatcher.SnapshotReceiver<VitessPartition> snapshotReceiver;
+    private SnapshotChangeEventSourceMetrics<VitessPartition> snapshotChangeEventSourceMetrics;
+
+    public VitessSourceFetchTaskContext(
+            JdbcSourceConfig sourceConfig,
+            VitessDialect dataSourceDialect,
+            JdbcConnection connection) {
+        super(sourceConfig, dataSourceDialect);
+        this.connection = connection;
+        this.metadataProvider = new VitessEventMetadataProvider();
+    }
+
+    @Override
+    public void configure(SourceSplitBase sourceSplitBase) {
+        // initial stateful objects
+        final VitessConnectorConfig connectorConfig = getDbzConnectorConfig();
+        this.tableSchemas = new ArrayList<>(sourceSplitBase.getTableSchemas().values());
+        this.databaseSchema = createDatabaseSchema(connectorConfig);
+        // the offset of snapshot records, stream splits are read from the offsets of their shards
+        this.offsetContext =
+                new VitessOffsetContext(
+                        connectorConfig,
+                        VitessOffset.INITIAL_OFFSET.getVgtid(),
+                        Instant.now(),
+                        new TransactionContext());
+        this.partition = new VitessPartition(connectorConfig.getLogicalName());
+        this.taskContext = new VitessTaskContext(connectorConfig, databaseSchema);
+
+        final int queueSize = getSourceConfig().getDbzConnectorConfig().getMaxQueueSize();
+        this.queue =
+                new Builder<DataChangeEvent>()
+                        .pollInterval(connectorConfig.getPollInterval())
+                        .maxBatchSize(connectorConfig.getMaxBatchSize())
+                        .maxQueueSize(queueSize)
+                        .maxQueueSizeInBytes(connectorConfig.getMaxQueueSizeInBytes())
+                        .loggingContextSupplier(
+                                () ->
+                                        taskContext.configureLoggingContext(
+                                                "vitess-cdc-connector-task"))
+                        // do not buffer any element, we use signal event
+                        //                         .buffering()
+                        .build();
+        this.dispatcher = createEventDispatcher(connectorConfig, databaseSchema);
+        this.snapshotReceiver = dispatcher.getSnapshotChangeEventReceiver();
+
+        final DefaultChangeEventSourceMetricsFactory<VitessPartition>
+                changeEventSourceMetricsFactory = new DefaultChangeEventSourceMetricsFactory<>();
+        this.snapshotChangeEventSourceMetrics =
+                changeEventSourceMetricsFactory.getSnapshotMetrics(
+                        taskContext, queue, metadataProvider);
+        this.errorHandler = new VitessErrorHandler(connectorConfig, queue);
+    }
+
+    /**
+     * Creates a schema with the tables of the split. The VStream of each shard maintains a schema
+     * of its own, which is updated by the field events of the shard.
+     */
+    public VitessDatabaseSchema createDatabaseSchema(VitessConnectorConfig connectorConfig) {
+        VitessDatabaseSchema schema =
+                new VitessDatabaseSchema(
+                        connectorConfig,
+                        schemaNameAdjuster,
+                        VitessTopicSelector.defaultSelector(connectorConfig));
+        for (TableChange tableChange : tableSchemas) {
+            schema.applySchemaChangesForTable(tableChange.getTable());
+        }
+        return schema;
+    }
+
+    /** Creates a dispatcher which enqueues the events of given schema to the shared queue. */
+    public JdbcSourceEventDispatcher<VitessPartition> createEventDispatcher(
+            VitessConnectorConfig connectorConfig, VitessDatabaseSchema schema) {
+        return new JdbcSourceEventDispatcher<>(
+                connectorConfig,
+                VitessTopicSelector.defaultSelector(connectorConfig),
+                schema,
+                queue,
+                connectorConfig.getTableFilters().dataCollectionFilter(),
+                DataChangeEvent::new,
+                metadataProvider,
+                schemaNameAdjuster,
+                new VitessSchemaChangeEventHandler());
+    }
+
+    @Override
+    public ChangeEventQueue<DataChangeEvent> getQueue() {
+        return queue;
+    }
+
+    @Override
+    public TableFilter getTableFilter() {
+        return getDbzConnectorConfig().getTableFilters().dataCollectionFilter();
+    }
+
+    @Override
+    public Offset getStreamOffset(SourceRecord record) {
+        return VitessUtils.getVitessOffset(record);
+    }
+
+    @Override
+    public boolean supportsSplitKeyOptimization() {
+        // split keys start with the shard, which isn't a field of records
+        return false;
+    }
+
+    @Override
+    public VitessDatabaseSchema getDatabaseSchema() {
+        return databaseSchema;
+    }
+
+    @Override
+    public RowType getSplitType(Table table) {
+        Column splitColumn = VitessUtils.getSplitColumn(table, sourceConfig.getChunkKeyColumn());
+        return VitessUtils.getSplitType(splitColumn);
+    }
+
+    @Override
+    public ErrorHandler getErrorHandler() {
+        return errorHandler;
+    }
+
+    @Override
+    public VitessConnectorConfig getDbzConnectorConfig() {
+        return (VitessConnectorConfig) super.getDbzConnectorConfig();
+    }
+
+    @Override
+    public VitessSourceConfig getSourceConfig() {
+        return (VitessSourceConfig) sourceConfig;
+    }
+
+    @Override
+    public JdbcSourceEventDispatcher<VitessPartition> getEventDispatcher() {
+        return dispatcher;
+    }
+
+    @Override
+    public WatermarkDispatcher getWaterMarkDispatcher() {
+        return dispatcher;
+    }
+
+    public EventDispatcher.SnapshotReceiver<VitessPartition> getSnapshotReceiver() {
+        return snapshotReceiver;
+    }
+
+    @Override
+    public VitessOffsetContext getOffsetContext() {
+        return offsetContext;
+    }
+
+    @Override
+    public VitessPartition getPartition() {
+        return partition;
+    }
+
+    public JdbcConnection getConnection() {
+        return connection;
+    }
+
+    public SnapshotChangeEventSourceMetrics<VitessPartition> getSnapshotChangeEventSourceMetrics() {
+        return snapshotChangeEventSourceMetrics;
+    }
+
+    @Override
+    public void close() throws Exception {
+        connection.close();
+    }
+}
@@ -0,0 +1,162 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.connectors.vitess.source.reader.fetch;
+
+import org.apache.flink.cdc.connectors.base.source.meta.split.SourceSplitBase;
+import org.apache.flink.cdc.connectors.base.source.meta.split.StreamSplit;
+import org.apache.flink.cdc.connectors.base.source.reader.external.FetchTask;
+import org.apache.flink.cdc.connectors.vitess.source.offset.VitessOffset;
+import org.apache.flink.cdc.connectors.vitess.source.utils.VitessUtils;
+
+import org.apache.flink.shaded.guava31.com.google.common.util.concurrent.ThreadFactoryBuilder;
+
+import io.debezium.connector.vitess.Vgtid;
+import io.debezium.connector.vitess.VitessConnectorConfig;
+import io.debezium.connector.vitess.VitessDatabaseSchema;
+import io.debezium.connector.vitess.VitessOffsetContext;
+import io.debezium.connector.vitess.VitessStreamingChangeEventSource;
+import io.debezium.connector.vitess.connection.VitessReplicationConnection;
+import io.debezium.pipeline.source.spi.ChangeEventSource;
+import io.debezium.pipeline.txmetadata.TransactionContext;
+import io.debezium.util.Clock;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * The task to work for fetching data of Vitess stream split.
+ *
+ * <p>The VStream of each shard is read by a thread of its own, all of them enqueue their change
+ * events to the queue of the fetch task context. The offset of each record only has the VGTID of
+ * its shard, which is merged into the offset of the split by the {@code VitessRecordEmitter}.
+ */
+public class VitessStreamFetchTask implements FetchTask<SourceSplitBase> {
+
+    private static final Logger LOG = LoggerFactory.getLogger(VitessStreamFetchTask.class);
+
+    private final StreamSplit split;
+    private volatile boolean taskRunning = false;
+
+    public VitessStreamFetchTask(StreamSplit split) {
+        this.split = split;
+    }
+
+    @Override
+    public void execute(Context context) throws Exception {
+        VitessSourceFetchTaskContext sourceFetchContext = (VitessSourceFetchTaskContext) context;
+        taskRunning = true;
+
+        List<Vgtid.ShardGtid> shardGtids =
+                ((VitessOffset) split.getStartingOffset()).getShardGtids();
+        if (shardGtids.isEmpty()) {
+            // the initial offset, streams all shards from their current positions
+            String keyspace = sourceFetchContext.getSourceConfig().getKeyspace();
+            shardGtids = new ArrayList<>();
+            for (String shard :
+                    VitessUtils.listShards(sourceFetchContext.getConnection(), keyspace)) {
+                shardGtids.add(new Vgtid.ShardGtid(keyspace, shard, Vgtid.CURRENT_GTID));
+            }
+        }
+
+        List<Callable<Void>> shardStreams = new ArrayList<>();
+        for (Vgtid.ShardGtid shardGtid : shardGtids) {
+            shardStreams.add(() -> streamShard(sourceFetchContext, shardGtid));
+        }
+        LOG.info("Start streaming {} shards of split {}", shardStreams.size(), split.splitId());
+        ExecutorService executorService =
+                Executors.newFixedThreadPool(
+                        shardStreams.size(),
+                        new ThreadFactoryBuilder().setNameFormat("vitess-shard-stream-%d").build());
+        try {
+            for (Future<Void> future : executorService.invokeAll(shardStreams)) {
+                future.get();
+            }
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    private Void streamShard(
+            VitessSourceFetchTaskContext sourceFetchContext, Vgtid.ShardGtid shardGtid)
+            throws InterruptedException {
+        VitessConnectorConfig shardConfig =
+                new VitessConnectorConfig(
+                        sourceFetchContext
+                                .getDbzConnectorConfig()
+                                .getConfig()
+                                .edit()
+                                .with(VitessConnectorConfig.SHARD, shardGtid.getShard())
+                                .build());
+        VitessDatabaseSchema schema = sourceFetchContext.createDatabaseSchema(shardConfig);
+        VitessOffsetContext offsetContext =
+                new VitessOffsetContext(
+                        shardConfig,
+                        Vgtid.of(Collections.singletonList(shardGtid)),
+                        Instant.now(),
+                        new TransactionContext());
+        VitessStreamingChangeEventSource streamingChangeEventSource =
+                new VitessStreamingChangeEventSource(
+                        sourceFetchContext.createEventDispatcher(shardConfig, schema),
+                        sourceFetchContext.getErrorHandler(),
+                        Clock.system(),
+                        schema,
+                        shardConfig,
+                        new VitessReplicationConnection(shardConfig, schema));
+        streamingChangeEventSource.execute(
+                new VStreamChangeEventSourceContext(),
+                sourceFetchContext.getPartition(),
+                offsetContext);
+        return null;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return taskRunning;
+    }
+
+    @Override
+    public StreamSplit getSplit() {
+        return split;
+    }
+
+    @Override
+    public void close() {
+        taskRunning = false;
+    }
+
+    /**
+     * The {@link ChangeEventSource.ChangeEventSourceContext} implementation for the VStreams of the
+     * stream split.
+     */
+    private class VStreamChangeEventSourceContext
+            implements ChangeEventSource.ChangeEventSourceContext {
+
+        @Override
+        public boolean isRunning() {
+            return taskRunning;
+        }
+    }
+}
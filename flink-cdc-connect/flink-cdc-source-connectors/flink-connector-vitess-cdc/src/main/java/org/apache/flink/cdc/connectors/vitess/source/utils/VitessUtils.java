@@ -0,0 +1,275 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.connectors.vitess.source.utils;
+
+import org.apache.flink.cdc.connectors.vitess.source.offset.VitessOffset;
+import org.apache.flink.table.api.ValidationException;
+import org.apache.flink.table.types.logical.RowType;
+
+import io.debezium.connector.vitess.Vgtid;
+import io.debezium.jdbc.JdbcConnection;
+import io.debezium.relational.Column;
+import io.debezium.relational.Table;
+import io.debezium.relational.TableId;
+import org.apache.kafka.connect.source.SourceRecord;
+
+import javax.annotation.Nullable;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import static org.apache.flink.table.api.DataTypes.FIELD;
+import static org.apache.flink.table.api.DataTypes.ROW;
+import static org.apache.flink.table.api.DataTypes.STRING;
+
+/**
+ * Utils to prepare Vitess SQL statement.
+ *
+ * <p>Statements of snapshot splits target a single shard by {@code USE `keyspace:shard`}, which
+ * makes VTGate pass them to the primary tablet of the shard. Snapshot splits are read from primary
+ * tablets, whose GTID positions are the low watermarks of the splits, because the replicas of a
+ * shard may be at different positions.
+ */
+public class VitessUtils {
+
+    /** The name of the first field of split keys, which is the shard the split belongs to. */
+    public static final String SHARD_FIELD = "__shard";
+
+    private static final String GTID_FLAVOR = "MySQL56/";
+
+    private VitessUtils() {}
+
+    /** Lists the shards of given keyspace, like {@code -80} and {@code 80-}. */
+    public static List<String> listShards(JdbcConnection jdbc, String keyspace)
+            throws SQLException {
+        String prefix = keyspace + "/";
+        return jdbc.queryAndMap(
+                "SHOW VITESS_SHARDS",
+                rs -> {
+                    List<String> shards = new ArrayList<>();
+                    while (rs.next()) {
+                        String shard = rs.getString(1);
+                        if (shard.startsWith(prefix)) {
+                            shards.add(shard.substring(prefix.length()));
+                        }
+                    }
+                    return shards;
+                });
+    }
+
+    /** Targets the following statements of the connection to the primary tablet of a shard. */
+    public static void useShard(JdbcConnection jdbc, String keyspace, String shard)
+            throws SQLException {
+        jdbc.execute("USE " + quote(keyspace + ":" + shard));
+    }
+
+    /** Routes the following statements of the connection by VTGate again. */
+    public static void useKeyspace(JdbcConnection jdbc, String keyspace) throws SQLException {
+        jdbc.execute("USE " + quote(keyspace));
+    }
+
+    /** Fetch the current GTID positions of all shards of given keyspace. */
+    public static VitessOffset currentOffset(JdbcConnection jdbc, String keyspace)
+            throws SQLException {
+        List<Vgtid.ShardGtid> shardGtids = new ArrayList<>();
+        try {
+            for (String shard : listShards(jdbc, keyspace)) {
+                useShard(jdbc, keyspace, shard);
+                String gtidSet =
+                        jdbc.queryAndMap(
+                                "SELECT @@global.gtid_executed",
+                                rs -> rs.next() ? rs.getString(1) : "");
+                shardGtids.add(
+                        new Vgtid.ShardGtid(
+                                keyspace, shard, GTID_FLAVOR + gtidSet.replaceAll("\\s", "")));
+            }
+        } finally {
+            useKeyspace(jdbc, keyspace);
+        }
+        return VitessOffset.of(shardGtids);
+    }
+
+    public static VitessOffset getVitessOffset(SourceRecord record) {
+        return getVitessOffset(record.sourceOffset());
+    }
+
+    public static VitessOffset getVitessOffset(Map<String, ?> offset) {
+        Map<String, String> offsetStrMap = new HashMap<>();
+        for (Map.Entry<String, ?> entry : offset.entrySet()) {
+            offsetStrMap.put(
+                    entry.getKey(), entry.getValue() == null ? null : entry.getValue().toString());
+        }
+        return new VitessOffset(offsetStrMap);
+    }
+
+    public static Column getSplitColumn(Table table, @Nullable String chunkKeyColumn) {
+        List<Column> primaryKeys = table.primaryKeyColumns();
+        if (primaryKeys.isEmpty()) {
+            throw new ValidationException(
+                    String.format(
+                            "Incremental snapshot for tables requires primary key,"
+                                    + " but table %s doesn't have primary key.",
+                            table.id()));
+        }
+
+        if (chunkKeyColumn != null) {
+            Optional<Column> targetPkColumn =
+                    primaryKeys.stream()
+                            .filter(col -> chunkKeyColumn.equals(col.name()))
+                            .findFirst();
+            if (targetPkColumn.isPresent()) {
+                return targetPkColumn.get();
+            }
+            throw new ValidationException(
+                    String.format(
+                            "Chunk key column '%s' doesn't exist in the primary key [%s] of the table %s.",
+                            chunkKeyColumn,
+                            primaryKeys.stream().map(Column::name).collect(Collectors.joining(",")),
+                            table.id()));
+        }
+
+        // use first field in primary key as the split key
+        return primaryKeys.get(0);
+    }
+
+    /**
+     * Returns the type of split keys, which are the shard and the value of the split column. A
+     * snapshot split covers a range of the split column in a single shard.
+     */
+    public static RowType getSplitType(Column splitColumn) {
+        return (RowType)
+                ROW(
+                                FIELD(SHARD_FIELD, STRING().notNull()),
+                                FIELD(
+                                        splitColumn.name(),
+                                        VitessTypeUtils.fromDbzColumn(splitColumn)))
+                        .getLogicalType();
+    }
+
+    /**
+     * Query the maximum value of the next chunk of a shard targeted by {@link #useShard}, the next
+     * chunk starts from the given value and includes {@code chunkSize} rows.
+     */
+    public static Object queryNextChunkMax(
+            JdbcConnection jdbc,
+            TableId tableId,
+            String splitColumnName,
+            int chunkSize,
+            @Nullable Object includedLowerBound)
+            throws SQLException {
+        String quotedColumn = quote(splitColumnName);
+        String query =
+                String.format(
+                        "SELECT MAX(%s) FROM (SELECT %s FROM %s%s ORDER BY %s ASC LIMIT %s) AS T",
+                        quotedColumn,
+                        quotedColumn,
+                        quote(tableId.table()),
+                        includedLowerBound == null ? "" : " WHERE " + quotedColumn + " >= ?",
+                        quotedColumn,
+                        chunkSize);
+        return jdbc.prepareQueryAndMap(
+                query,
+                ps -> {
+                    if (includedLowerBound != null) {
+                        ps.setObject(1, includedLowerBound);
+                    }
+                },
+                rs -> rs.next() ? rs.getObject(1) : null);
+    }
+
+    /**
+     * Query the minimum value of the split column of a shard targeted by {@link #useShard} which is
+     * greater than the given value.
+     */
+    public static Object queryMinAfter(
+            JdbcConnection jdbc, TableId tableId, String splitColumnName, Object excludedLowerBound)
+            throws SQLException {
+        String quotedColumn = quote(splitColumnName);
+        String query =
+                String.format(
+                        "SELECT MIN(%s) FROM %s WHERE %s > ?",
+                        quotedColumn, quote(tableId.table()), quotedColumn);
+        return jdbc.prepareQueryAndMap(
+                query,
+                ps -> ps.setObject(1, excludedLowerBound),
+                rs -> rs.next() ? rs.getObject(1) : null);
+    }
+
+    /**
+     * Returns the query of a snapshot split, which reads the table of a shard targeted by {@link
+     * #useShard}.
+     */
+    public static String buildSplitScanQuery(
+            TableId tableId,
+            String splitColumnName,
+            boolean isFirstSplit,
+            boolean isLastSplit,
+            String projection) {
+        StringBuilder sql = new StringBuilder();
+        sql.append("SELECT ").append(projection).append(" FROM ").append(quote(tableId.table()));
+        String quotedColumn = quote(splitColumnName);
+        if (!isFirstSplit && !isLastSplit) {
+            sql.append(" WHERE ")
+                    .append(quotedColumn)
+                    .append(" >= ? AND ")
+                    .append(quotedColumn)
+                    .append(" < ?");
+        } else if (!isFirstSplit) {
+            sql.append(" WHERE ").append(quotedColumn).append(" >= ?");
+        } else if (!isLastSplit) {
+            sql.append(" WHERE ").append(quotedColumn).append(" < ?");
+        }
+        return sql.toString();
+    }
+
+    public static PreparedStatement readTableSplitDataStatement(
+            JdbcConnection jdbc,
+            String sql,
+            @Nullable Object splitStart,
+            @Nullable Object splitEnd,
+            int fetchSize) {
+        try {
+            final PreparedStatement statement =
+                    jdbc.connection()
+                            .prepareStatement(
+                                    sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            statement.setFetchSize(fetchSize);
+            int parameterIndex = 1;
+            if (splitStart != null) {
+                statement.setObject(parameterIndex++, splitStart);
+            }
+            if (splitEnd != null) {
+                statement.setObject(parameterIndex, splitEnd);
+            }
+            return statement;
+        } catch (SQLException e) {
+            throw new RuntimeException("Failed to build the split data read statement.", e);
+        }
+    }
+
+    public static String quote(String dbOrTableName) {
+        return "`" + dbOrTableName.replace("`", "``") + "`";
+    }
+}
@@ -0,0 +1,276 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.connectors.vitess.source.dialect;
+
+import org.apache.flink.cdc.connectors.base.config.JdbcSourceConfig;
+import org.apache.flink.cdc.connectors.base.options.StartupOptions;
+import org.apache.flink.cdc.connectors.base.source.meta.split.SnapshotSplit;
+import org.apache.flink.cdc.connectors.base.source.meta.split.SourceSplitBase;
+import org.apache.flink.cdc.connectors.vitess.source.config.VitessSourceConfig;
+import org.apache.flink.cdc.connectors.vitess.source.config.VitessSourceConfigFactory;
+import org.apache.flink.cdc.connectors.vitess.source.utils.VitessUtils;
+
+import io.debezium.jdbc.JdbcConfiguration;
+import io.debezium.jdbc.JdbcConnection;
+import io.debezium.relational.Column;
+import io.debezium.relational.Table;
+import io.debezium.relational.TableId;
+import io.debezium.relational.Tables;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Proxy;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/** Tests for {@link VitessChunkSplitter}. */
+class VitessChunkSplitterTest {
+
+    private static final TableId TABLE_ID = new TableId("ks", null, "products");
+
+    @Test
+    void testSplitEachShardIntoChunks() throws Exception {
+        Map<String, List<Long>> shards = new HashMap<>();
+        shards.put("-80", Arrays.asList(1L, 2L, 3L, 4L, 5L));
+        shards.put("80-", Arrays.asList(10L, 11L));
+        FakeVtGateConnection connection = new FakeVtGateConnection(shards);
+
+        Collection<SnapshotSplit> splits = generateSplits(connection, 2);
+
+        assertThat(splits)
+                .extracting(split -> Arrays.asList(split.getSplitStart()))
+                .containsExactly(
+                        Arrays.asList("-80", null),
+                        Arrays.asList("-80", 2L),
+                        Arrays.asList("-80", 3L),
+                        Arrays.asList("-80", 4L),
+                        Arrays.asList("-80", 5L),
+                        Arrays.asList("80-", null),
+                        Arrays.asList("80-", 11L));
+        assertThat(splits)
+                .extracting(split -> Arrays.asList(split.getSplitEnd()))
+                .containsExactly(
+                        Arrays.asList("-80", 2L),
+                        Arrays.asList("-80", 3L),
+                        Arrays.asList("-80", 4L),
+                        Arrays.asList("-80", 5L),
+                        Arrays.asList("-80", null),
+                        Arrays.asList("80-", 11L),
+                        Arrays.asList("80-", null));
+        assertThat(splits).extracting(SourceSplitBase::splitId).doesNotHaveDuplicates().hasSize(7);
+        assertThat(splits.iterator().next().getSplitKeyType().getFieldNames())
+                .containsExactly(VitessUtils.SHARD_FIELD, "id");
+
+        // every shard is chunked on its own, the connection is routed by VTGate afterwards
+        assertThat(connection.statements)
+                .containsExactly("USE `ks:-80`", "USE `ks:80-`", "USE `ks`");
+    }
+
+    @Test
+    void testSplitEmptyShardIntoSingleChunk() throws Exception {
+        Map<String, List<Long>> shards = new HashMap<>();
+        shards.put("-80", Collections.emptyList());
+        shards.put("80-", Arrays.asList(10L, 11L, 12L));
+        FakeVtGateConnection connection = new FakeVtGateConnection(shards);
+
+        Collection<SnapshotSplit> splits = generateSplits(connection, 10);
+
+        assertThat(splits)
+                .extracting(
+                        split ->
+                                Arrays.asList(
+                                        split.getSplitStart()[0],
+                                        split.getSplitStart()[1],
+                                        split.getSplitEnd()[1]))
+                .containsExactly(
+                        Arrays.asList("-80", null, null),
+                        Arrays.asList("80-", null, 12L),
+                        Arrays.asList("80-", 12L, null));
+    }
+
+    private static Collection<SnapshotSplit> generateSplits(
+            FakeVtGateConnection connection, int splitSize) throws Exception {
+        VitessSourceConfigFactory configFactory = new VitessSourceConfigFactory();
+        configFactory
+                .hostname("localhost")
+                .username("user")
+                .password("password")
+                .databaseList(TABLE_ID.catalog())
+                .tableList(TABLE_ID.identifier())
+                .splitSize(splitSize)
+                .startupOptions(StartupOptions.initial());
+        VitessSourceConfig sourceConfig = configFactory.create(0);
+        VitessDialect dialect =
+                new VitessDialect(sourceConfig) {
+                    @Override
+                    public JdbcConnection openJdbcConnection(JdbcSourceConfig sourceConfig) {
+                        return connection;
+                    }
+                };
+        VitessChunkSplitter splitter = new VitessChunkSplitter(sourceConfig, dialect);
+        splitter.open();
+        try {
+            return splitter.generateSplits(TABLE_ID);
+        } finally {
+            splitter.close();
+        }
+    }
+
+    /**
+     * A {@link JdbcConnection} to VTGate which answers the queries of the splitter from the rows of
+     * the shard targeted by {@code USE `keyspace:shard`}.
+     */
+    private static class FakeVtGateConnection extends JdbcConnection {
+
+        private static final Pattern USE_PATTERN = Pattern.compile("USE `([^:`]+)(?::([^`]+))?`");
+        private static final Pattern LIMIT_PATTERN = Pattern.compile("LIMIT (\\d+)");
+
+        private final Map<String, List<Long>> shards;
+        private final List<String> statements = new ArrayList<>();
+
+        private String currentShard;
+
+        FakeVtGateConnection(Map<String, List<Long>> shards) {
+            super(
+                    JdbcConfiguration.create().build(),
+                    config -> {
+                        throw new SQLException("Not connected to VTGate");
+                    },
+                    "`",
+                    "`");
+            this.shards = shards;
+        }
+
+        @Override
+        public JdbcConnection execute(String... statements) {
+            for (String statement : statements) {
+                Matcher matcher = USE_PATTERN.matcher(statement);
+                assertThat(matcher.matches()).isTrue();
+                currentShard = matcher.group(2);
+                this.statements.add(statement);
+            }
+            return this;
+        }
+
+        @Override
+        public void readSchema(
+                Tables tables,
+                String databaseCatalog,
+                String schemaNamePattern,
+                Tables.TableFilter tableFilter,
+                Tables.ColumnNameFilter columnFilter,
+                boolean removeTablesNotFoundInJdbc) {
+            tables.overwriteTable(
+                    Table.editor()
+                            .tableId(TABLE_ID)
+                            .addColumn(
+                                    Column.editor()
+                                            .name("id")
+                                            .jdbcType(Types.BIGINT)
+                                            .type("BIGINT")
+                                            .optional(false)
+                                            .create())
+                            .setPrimaryKeyNames("id")
+                            .create());
+        }
+
+        @Override
+        public <T> T queryAndMap(String query, ResultSetMapper<T> mapper) throws SQLException {
+            assertThat(query).isEqualTo("SHOW VITESS_SHARDS");
+            List<Object> rows = new ArrayList<>();
+            shards.keySet().stream().sorted().forEach(shard -> rows.add("ks/" + shard));
+            rows.add("other_ks/0");
+            return mapper.apply(resultSet(rows));
+        }
+
+        @Override
+        public <T> T prepareQueryAndMap(
+                String query, StatementPreparer preparer, ResultSetMapper<T> mapper)
+                throws SQLException {
+            Object[] parameter = new Object[1];
+            preparer.accept(
+                    (PreparedStatement)
+                            Proxy.newProxyInstance(
+                                    getClass().getClassLoader(),
+                                    new Class<?>[] {PreparedStatement.class},
+                                    (proxy, method, args) -> {
+                                        if (method.getName().equals("setObject")) {
+                                            parameter[0] = args[1];
+                                        }
+                                        return null;
+                                    }));
+            List<Long> rows = shards.get(currentShard);
+            Object result;
+            if (query.startsWith("SELECT MAX(")) {
+                Matcher limit = LIMIT_PATTERN.matcher(query);
+                assertThat(limit.find()).isTrue();
+                result =
+                        rows.stream()
+                                .filter(id -> parameter[0] == null || id >= (Long) parameter[0])
+                                .sorted()
+                                .limit(Long.parseLong(limit.group(1)))
+                                .max(Long::compare)
+                                .orElse(null);
+            } else {
+                assertThat(query).startsWith("SELECT MIN(");
+                result =
+                        rows.stream()
+                                .filter(id -> id > (Long) parameter[0])
+                                .min(Long::compare)
+                                .orElse(null);
+            }
+            return mapper.apply(resultSet(Collections.singletonList(result)));
+        }
+
+        @Override
+        public synchronized void close() {}
+
+        /** Returns a result set with a single column of given rows. */
+        private static ResultSet resultSet(List<Object> rows) {
+            int[] cursor = {-1};
+            return (ResultSet)
+                    Proxy.newProxyInstance(
+                            FakeVtGateConnection.class.getClassLoader(),
+                            new Class<?>[] {ResultSet.class},
+                            (proxy, method, args) -> {
+                                switch (method.getName()) {
+                                    case "next":
+                                        return ++cursor[0] < rows.size();
+                                    case "getString":
+                                        return String.valueOf(rows.get(cursor[0]));
+                                    case "getObject":
+                                        return rows.get(cursor[0]);
+                                    default:
+                                        throw new UnsupportedOperationException(method.getName());
+                                }
+                            });
+        }
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.connectors.vitess.source.offset;
+
+import io.debezium.connector.vitess.Vgtid;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/** Tests for {@link VitessOffset}. */
+class VitessOffsetTest {
+
+    private static final String UUID_1 = "a6b7c2e8-3d1f-11ee-be56-0242ac120002";
+    private static final String UUID_2 = "b1c8d7f0-3d1f-11ee-be56-0242ac120002";
+
+    @Test
+    void testCompareOffsetsOfAllShards() {
+        VitessOffset offset = offset(gtid(UUID_1, 1, 100), gtid(UUID_2, 1, 50));
+        VitessOffset sameOffset = offset(gtid(UUID_1, 1, 100), gtid(UUID_2, 1, 50));
+        VitessOffset laterOffset = offset(gtid(UUID_1, 1, 100), gtid(UUID_2, 1, 51));
+        VitessOffset mixedOffset = offset(gtid(UUID_1, 1, 90), gtid(UUID_2, 1, 70));
+
+        assertThat(offset.compareTo(sameOffset)).isZero();
+        assertThat(offset.compareTo(laterOffset)).isNegative();
+        assertThat(laterOffset.compareTo(offset)).isPositive();
+        // the shards disagree, the offset with more transactions is later
+        assertThat(offset.compareTo(mixedOffset)).isNegative();
+        assertThat(mixedOffset.compareTo(offset)).isPositive();
+    }
+
+    @Test
+    void testCompareOffsetOfSingleShard() {
+        VitessOffset keyspaceOffset = offset(gtid(UUID_1, 1, 100), gtid(UUID_2, 1, 50));
+        VitessOffset shardOffset =
+                VitessOffset.of(
+                        Collections.singletonList(
+                                new Vgtid.ShardGtid("ks", "80-", gtid(UUID_2, 1, 60))));
+
+        assertThat(shardOffset.compareTo(keyspaceOffset)).isPositive();
+        assertThat(keyspaceOffset.compareTo(shardOffset)).isNegative();
+        assertThat(shardOffset.isAfter(keyspaceOffset)).isTrue();
+    }
+
+    @Test
+    void testCompareWithNoStoppingOffset() {
+        VitessOffset offset = offset(gtid(UUID_1, 1, 100), gtid(UUID_2, 1, 50));
+
+        assertThat(offset.compareTo(VitessOffset.NO_STOPPING_OFFSET)).isNegative();
+        assertThat(VitessOffset.NO_STOPPING_OFFSET.compareTo(offset)).isPositive();
+        assertThat(VitessOffset.NO_STOPPING_OFFSET.compareTo(VitessOffset.NO_STOPPING_OFFSET))
+                .isZero();
+        assertThat(offset.compareTo(VitessOffset.INITIAL_OFFSET)).isZero();
+    }
+
+    @Test
+    void testMerge() {
+        VitessOffset offset = offset(gtid(UUID_1, 1, 100), gtid(UUID_2, 1, 50));
+        VitessOffset shardOffset =
+                VitessOffset.of(
+                        Collections.singletonList(
+                                new Vgtid.ShardGtid("ks", "80-", gtid(UUID_2, 1, 60))));
+
+        VitessOffset merged = offset.merge(shardOffset);
+
+        assertThat(merged.getShardGtids())
+                .containsExactly(
+                        new Vgtid.ShardGtid("ks", "-80", gtid(UUID_1, 1, 100)),
+                        new Vgtid.ShardGtid("ks", "80-", gtid(UUID_2, 1, 60)));
+        assertThat(VitessOffset.INITIAL_OFFSET.merge(shardOffset)).isEqualTo(shardOffset);
+    }
+
+    @Test
+    void testParseTransactionCounts() {
+        Map<String, Long> expected = new HashMap<>();
+        expected.put(UUID_1, 103L);
+        expected.put(UUID_2, 5L);
+        assertThat(
+                        VitessOffset.parseTransactionCounts(
+                                "MySQL56/" + UUID_1 + ":1-100:105-107," + UUID_2 + ":1-5"))
+                .isEqualTo(expected);
+        assertThat(VitessOffset.parseTransactionCounts(UUID_1.toUpperCase() + ":7"))
+                .isEqualTo(Collections.singletonMap(UUID_1, 1L));
+        assertThat(VitessOffset.parseTransactionCounts(Vgtid.CURRENT_GTID)).isNull();
+        assertThat(VitessOffset.parseTransactionCounts("")).isNull();
+    }
+
+    private static VitessOffset offset(String firstShardGtid, String secondShardGtid) {
+        return VitessOffset.of(
+                Arrays.asList(
+                        new Vgtid.ShardGtid("ks", "-80", firstShardGtid),
+                        new Vgtid.ShardGtid("ks", "80-", secondShardGtid)));
+    }
+
+    private static String gtid(String uuid, long start, long end) {
+        return "MySQL56/" + uuid + ":" + start + "-" + end;
+    }
+}
@@ -0,0 +1,231 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.connectors.vitess.source.reader;
+
+import org.apache.flink.api.common.eventtime.Watermark;
+import org.apache.flink.api.common.typeinfo.TypeInformation;
+import org.apache.flink.api.connector.source.SourceOutput;
+import org.apache.flink.cdc.connectors.base.source.meta.split.SourceRecords;
+import org.apache.flink.cdc.connectors.base.source.meta.split.StreamSplit;
+import org.apache.flink.cdc.connectors.base.source.meta.split.StreamSplitState;
+import org.apache.flink.cdc.connectors.base.source.metrics.SourceReaderMetrics;
+import org.apache.flink.cdc.connectors.vitess.source.offset.VitessOffset;
+import org.apache.flink.cdc.connectors.vitess.source.offset.VitessOffsetFactory;
+import org.apache.flink.cdc.debezium.DebeziumDeserializationSchema;
+import org.apache.flink.metrics.groups.UnregisteredMetricsGroup;
+import org.apache.flink.util.Collector;
+
+import io.debezium.connector.vitess.SourceInfo;
+import io.debezium.connector.vitess.Vgtid;
+import io.debezium.data.Envelope;
+import org.apache.kafka.connect.data.Schema;
+import org.apache.kafka.connect.data.SchemaBuilder;
+import org.apache.kafka.connect.data.Struct;
+import org.apache.kafka.connect.source.SourceRecord;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/** Tests for {@link VitessRecordEmitter}. */
+class VitessRecordEmitterTest {
+
+    private static final String UUID_1 = "a6b7c2e8-3d1f-11ee-be56-0242ac120002";
+    private static final String UUID_2 = "b1c8d7f0-3d1f-11ee-be56-0242ac120002";
+
+    private static final Schema SOURCE_SCHEMA =
+            SchemaBuilder.struct()
+                    .field("keyspace", Schema.STRING_SCHEMA)
+                    .field("table", Schema.STRING_SCHEMA)
+                    .field(Envelope.FieldName.TIMESTAMP, Schema.INT64_SCHEMA)
+                    .build();
+
+    private static final Schema DATA_CHANGE_SCHEMA =
+            SchemaBuilder.struct()
+                    .field(Envelope.FieldName.OPERATION, Schema.STRING_SCHEMA)
+                    .field(Envelope.FieldName.SOURCE, SOURCE_SCHEMA)
+                    .build();
+
+    @Test
+    void testMergeShardOffsetsIntoStreamSplit() throws Exception {
+        VitessRecordEmitter<String> recordEmitter = createRecordEmitter();
+        StreamSplitState splitState =
+                createStreamSplitState(keyspaceOffset(gtid(UUID_1, 1, 100), gtid(UUID_2, 1, 50)));
+        CollectingOutput output = new CollectingOutput();
+
+        // a record of a shard only moves the position of its own shard
+        emit(
+                recordEmitter,
+                dataChange(shardOffset("80-", gtid(UUID_2, 1, 60))),
+                output,
+                splitState);
+        assertThat(splitState.getStartingOffset())
+                .isEqualTo(keyspaceOffset(gtid(UUID_1, 1, 100), gtid(UUID_2, 1, 60)));
+
+        emit(
+                recordEmitter,
+                dataChange(shardOffset("-80", gtid(UUID_1, 1, 110))),
+                output,
+                splitState);
+        emit(
+                recordEmitter,
+                dataChange(shardOffset("80-", gtid(UUID_2, 1, 61))),
+                output,
+                splitState);
+        assertThat(splitState.getStartingOffset())
+                .isEqualTo(keyspaceOffset(gtid(UUID_1, 1, 110), gtid(UUID_2, 1, 61)));
+        assertThat(output.records).containsExactly("c", "c", "c");
+    }
+
+    @Test
+    void testRestoreStreamSplitFromPositionOfEveryShard() throws Exception {
+        VitessRecordEmitter<String> recordEmitter = createRecordEmitter();
+        StreamSplitState splitState =
+                createStreamSplitState(keyspaceOffset(gtid(UUID_1, 1, 100), gtid(UUID_2, 1, 50)));
+        CollectingOutput output = new CollectingOutput();
+        emit(
+                recordEmitter,
+                dataChange(shardOffset("-80", gtid(UUID_1, 1, 120))),
+                output,
+                splitState);
+
+        // the checkpointed split is restored from the offset of all shards
+        StreamSplit checkpointedSplit = splitState.toSourceSplit();
+        VitessOffset restoredOffset =
+                (VitessOffset)
+                        new VitessOffsetFactory()
+                                .newOffset(checkpointedSplit.getStartingOffset().getOffset());
+        assertThat(restoredOffset.getShardGtids())
+                .containsExactly(
+                        new Vgtid.ShardGtid("ks", "-80", gtid(UUID_1, 1, 120)),
+                        new Vgtid.ShardGtid("ks", "80-", gtid(UUID_2, 1, 50)));
+
+        // the restored split keeps merging the records of each shard
+        StreamSplitState restoredState = createStreamSplitState(restoredOffset);
+        emit(
+                createRecordEmitter(),
+                dataChange(shardOffset("80-", gtid(UUID_2, 1, 55))),
+                output,
+                restoredState);
+        assertThat(restoredState.getStartingOffset())
+                .isEqualTo(keyspaceOffset(gtid(UUID_1, 1, 120), gtid(UUID_2, 1, 55)));
+    }
+
+    private static void emit(
+            VitessRecordEmitter<String> recordEmitter,
+            SourceRecord record,
+            CollectingOutput output,
+            StreamSplitState splitState)
+            throws Exception {
+        recordEmitter.emitRecord(SourceRecords.fromSingleRecord(record), output, splitState);
+    }
+
+    private static VitessRecordEmitter<String> createRecordEmitter() {
+        return new VitessRecordEmitter<>(
+                new DebeziumDeserializationSchema<String>() {
+                    @Override
+                    public void deserialize(SourceRecord record, Collector<String> out) {
+                        out.collect(((Struct) record.value()).getString("op"));
+                    }
+
+                    @Override
+                    public TypeInformation<String> getProducedType() {
+                        return TypeInformation.of(String.class);
+                    }
+                },
+                new SourceReaderMetrics(UnregisteredMetricsGroup.createSourceReaderMetricGroup()),
+                false,
+                new VitessOffsetFactory());
+    }
+
+    private static StreamSplitState createStreamSplitState(VitessOffset startingOffset) {
+        return new StreamSplitState(
+                new StreamSplit(
+                        "stream-split",
+                        startingOffset,
+                        VitessOffset.NO_STOPPING_OFFSET,
+                        new ArrayList<>(),
+                        Collections.emptyMap(),
+                        0));
+    }
+
+    private static SourceRecord dataChange(VitessOffset offset) {
+        Struct source =
+                new Struct(SOURCE_SCHEMA)
+                        .put("keyspace", "ks")
+                        .put("table", "products")
+                        .put(Envelope.FieldName.TIMESTAMP, System.currentTimeMillis());
+        Struct value =
+                new Struct(DATA_CHANGE_SCHEMA)
+                        .put(Envelope.FieldName.OPERATION, "c")
+                        .put(Envelope.FieldName.SOURCE, source);
+        return new SourceRecord(
+                Collections.singletonMap("server", "vitess_cdc_source"),
+                Collections.singletonMap(
+                        SourceInfo.VGTID_KEY, offset.getOffset().get(SourceInfo.VGTID_KEY)),
+                "vitess_cdc_source.ks.products",
+                null,
+                null,
+                DATA_CHANGE_SCHEMA,
+                value);
+    }
+
+    private static VitessOffset keyspaceOffset(String firstShardGtid, String secondShardGtid) {
+        return VitessOffset.of(
+                Arrays.asList(
+                        new Vgtid.ShardGtid("ks", "-80", firstShardGtid),
+                        new Vgtid.ShardGtid("ks", "80-", secondShardGtid)));
+    }
+
+    private static VitessOffset shardOffset(String shard, String gtid) {
+        return VitessOffset.of(Collections.singletonList(new Vgtid.ShardGtid("ks", shard, gtid)));
+    }
+
+    private static String gtid(String uuid, long start, long end) {
+        return "MySQL56/" + uuid + ":" + start + "-" + end;
+    }
+
+    /** A {@link SourceOutput} collecting the emitted records. */
+    private static class CollectingOutput implements SourceOutput<String> {
+
+        private final List<String> records = new ArrayList<>();
+
+        @Override
+        public void collect(String record) {
+            records.add(record);
+        }
+
+        @Override
+        public void collect(String record, long timestamp) {
+            records.add(record);
+        }
+
+        @Override
+        public void emitWatermark(Watermark watermark) {}
+
+        @Override
+        public void markIdle() {}
+
+        @Override
+        public void markActive() {}
+    }
+}
@@ -20,6 +20,8 @@ package org.apache.flink.cdc.runtime.model;
 import org.apache.flink.cdc.common.configuration.ConfigOption;
 import org.apache.flink.cdc.common.configuration.ConfigOptions;
 
+import java.time.Duration;
+
 /** Options of built-in model. */
 public class ModelOptions {
 
@@ -47,4 +49,31 @@ public class ModelOptions {
                     .stringType()
                     .noDefaultValue()
                     .withDescription("Prompt for chat using OpenAI.");
+
+    public static final ConfigOption<Integer> OPENAI_BATCH_SIZE =
+            ConfigOptions.key("openai.batch.size")
+                    .intType()
+                    .defaultValue(16)
+                    .withDescription(
+                            "Maximum number of rows evaluated by one batch of model calls. A micro-batch collects up to this number times the maximum in-flight requests rows.");
+
+    public static final ConfigOption<Duration> OPENAI_BATCH_TIMEOUT =
+            ConfigOptions.key("openai.batch.timeout")
+                    .durationType()
+                    .defaultValue(Duration.ofMillis(100))
+                    .withDescription(
+                            "Maximum time that a row waits for its micro-batch to call the model.");
+
+    public static final ConfigOption<Integer> OPENAI_MAX_IN_FLIGHT_REQUESTS =
+            ConfigOptions.key("openai.max-in-flight-requests")
+                    .intType()
+                    .defaultValue(4)
+                    .withDescription("Maximum number of concurrent requests to the Model server.");
+
+    public static final ConfigOption<Duration> OPENAI_TIMEOUT =
+            ConfigOptions.key("openai.timeout")
+                    .durationType()
+                    .defaultValue(Duration.ofMinutes(3))
+                    .withDescription(
+                            "Maximum time to wait for the model results of a micro-batch, after which the transform fails.");
 }
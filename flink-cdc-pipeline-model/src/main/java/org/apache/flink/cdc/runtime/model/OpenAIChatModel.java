@@ -20,6 +20,8 @@ package org.apache.flink.cdc.runtime.model;
 import org.apache.flink.cdc.common.configuration.Configuration;
 import org.apache.flink.cdc.common.types.DataType;
 import org.apache.flink.cdc.common.types.DataTypes;
+import org.apache.flink.cdc.common.udf.AsyncEvaluation;
+import org.apache.flink.cdc.common.udf.AsyncUserDefinedFunction;
 import org.apache.flink.cdc.common.udf.UserDefinedFunction;
 import org.apache.flink.cdc.common.udf.UserDefinedFunctionContext;
 import org.apache.flink.cdc.common.utils.Preconditions;
@@ -29,18 +31,30 @@ import dev.langchain4j.model.openai.OpenAiChatModel;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
 
 import static org.apache.flink.cdc.runtime.model.ModelOptions.OPENAI_API_KEY;
+import static org.apache.flink.cdc.runtime.model.ModelOptions.OPENAI_BATCH_SIZE;
+import static org.apache.flink.cdc.runtime.model.ModelOptions.OPENAI_BATCH_TIMEOUT;
 import static org.apache.flink.cdc.runtime.model.ModelOptions.OPENAI_CHAT_PROMPT;
 import static org.apache.flink.cdc.runtime.model.ModelOptions.OPENAI_HOST;
+import static org.apache.flink.cdc.runtime.model.ModelOptions.OPENAI_MAX_IN_FLIGHT_REQUESTS;
 import static org.apache.flink.cdc.runtime.model.ModelOptions.OPENAI_MODEL_NAME;
+import static org.apache.flink.cdc.runtime.model.ModelOptions.OPENAI_TIMEOUT;
 
 /**
  * A {@link UserDefinedFunction} that use Model defined by OpenAI to generate text, refer to <a
- * href="https://docs.langchain4j.dev/integrations/language-models/open-ai/">docs</a>}.
+ * href="https://docs.langchain4j.dev/integrations/language-models/open-ai/">docs</a>}. Rows of a
+ * micro-batch are sent as concurrent requests.
  */
-public class OpenAIChatModel implements UserDefinedFunction {
+public class OpenAIChatModel implements AsyncUserDefinedFunction<String> {
 
     private static final Logger LOG = LoggerFactory.getLogger(OpenAIChatModel.class);
 
@@ -52,8 +66,32 @@ public class OpenAIChatModel implements UserDefinedFunction {
 
     private String prompt;
 
+    private int batchSize = OPENAI_BATCH_SIZE.defaultValue();
+
+    private Duration batchTimeout = OPENAI_BATCH_TIMEOUT.defaultValue();
+
+    private int maxInFlightRequests = OPENAI_MAX_IN_FLIGHT_REQUESTS.defaultValue();
+
+    private Duration timeout = OPENAI_TIMEOUT.defaultValue();
+
+    private ExecutorService executor;
+
     public String eval(String input) {
-        return chat(input);
+        return AsyncEvaluation.evaluate(this, () -> chat(input), input);
+    }
+
+    @Override
+    public CompletableFuture<List<String>> evalBatch(List<Object[]> arguments) {
+        List<CompletableFuture<String>> results = new ArrayList<>(arguments.size());
+        for (Object[] argument : arguments) {
+            results.add(CompletableFuture.supplyAsync(() -> chat((String) argument[0]), executor));
+        }
+        return CompletableFuture.allOf(results.toArray(new CompletableFuture[0]))
+                .thenApply(
+                        v ->
+                                results.stream()
+                                        .map(CompletableFuture::join)
+                                        .collect(Collectors.toList()));
     }
 
     private String chat(String input) {
@@ -75,6 +113,26 @@ public class OpenAIChatModel implements UserDefinedFunction {
         return DataTypes.STRING();
     }
 
+    @Override
+    public int getMaxBatchSize() {
+        return batchSize;
+    }
+
+    @Override
+    public Duration getMaxBatchDelay() {
+        return batchTimeout;
+    }
+
+    @Override
+    public int getMaxInFlightBatches() {
+        return maxInFlightRequests;
+    }
+
+    @Override
+    public Duration getTimeout() {
+        return timeout;
+    }
+
     @Override
     public void open(UserDefinedFunctionContext userDefinedFunctionContext) {
         Configuration modelOptions = userDefinedFunctionContext.configuration();
@@ -85,6 +143,22 @@ public class OpenAIChatModel implements UserDefinedFunction {
         String apiKey = modelOptions.get(OPENAI_API_KEY);
         Preconditions.checkNotNull(apiKey, OPENAI_API_KEY.key() + " should not be empty.");
         this.prompt = modelOptions.get(OPENAI_CHAT_PROMPT);
+        this.batchSize = modelOptions.get(OPENAI_BATCH_SIZE);
+        Preconditions.checkArgument(
+                batchSize > 0, OPENAI_BATCH_SIZE.key() + " should be positive.");
+        this.batchTimeout = modelOptions.get(OPENAI_BATCH_TIMEOUT);
+        Preconditions.checkArgument(
+                !batchTimeout.isNegative(),
+                OPENAI_BATCH_TIMEOUT.key() + " should not be negative.");
+        this.maxInFlightRequests = modelOptions.get(OPENAI_MAX_IN_FLIGHT_REQUESTS);
+        Preconditions.checkArgument(
+                maxInFlightRequests > 0,
+                OPENAI_MAX_IN_FLIGHT_REQUESTS.key() + " should be positive.");
+        this.timeout = modelOptions.get(OPENAI_TIMEOUT);
+        Preconditions.checkArgument(
+                !timeout.isNegative() && !timeout.isZero(),
+                OPENAI_TIMEOUT.key() + " should be positive.");
+        this.executor = Executors.newFixedThreadPool(maxInFlightRequests);
         LOG.info("Opening OpenAIChatModel " + modelName + " " + host);
         this.chatModel =
                 OpenAiChatModel.builder().apiKey(apiKey).baseUrl(host).modelName(modelName).build();
@@ -92,6 +166,9 @@ public class OpenAIChatModel implements UserDefinedFunction {
 
     @Override
     public void close() {
+        if (executor != null) {
+            executor.shutdownNow();
+        }
         LOG.info("Closed OpenAIChatModel " + modelName + " " + host);
     }
 }
@@ -22,6 +22,8 @@ import org.apache.flink.cdc.common.data.ArrayData;
 import org.apache.flink.cdc.common.data.GenericArrayData;
 import org.apache.flink.cdc.common.types.DataType;
 import org.apache.flink.cdc.common.types.DataTypes;
+import org.apache.flink.cdc.common.udf.AsyncEvaluation;
+import org.apache.flink.cdc.common.udf.AsyncUserDefinedFunction;
 import org.apache.flink.cdc.common.udf.UserDefinedFunction;
 import org.apache.flink.cdc.common.udf.UserDefinedFunctionContext;
 import org.apache.flink.cdc.common.utils.Preconditions;
@@ -33,18 +35,28 @@ import dev.langchain4j.model.openai.OpenAiEmbeddingModel;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import static org.apache.flink.cdc.runtime.model.ModelOptions.OPENAI_API_KEY;
+import static org.apache.flink.cdc.runtime.model.ModelOptions.OPENAI_BATCH_SIZE;
+import static org.apache.flink.cdc.runtime.model.ModelOptions.OPENAI_BATCH_TIMEOUT;
 import static org.apache.flink.cdc.runtime.model.ModelOptions.OPENAI_HOST;
+import static org.apache.flink.cdc.runtime.model.ModelOptions.OPENAI_MAX_IN_FLIGHT_REQUESTS;
 import static org.apache.flink.cdc.runtime.model.ModelOptions.OPENAI_MODEL_NAME;
+import static org.apache.flink.cdc.runtime.model.ModelOptions.OPENAI_TIMEOUT;
 
 /**
  * A {@link UserDefinedFunction} that use Model defined by OpenAI to generate vector data, refer to
- * <a href="https://docs.langchain4j.dev/integrations/language-models/open-ai/">docs</a>}.
+ * <a href="https://docs.langchain4j.dev/integrations/language-models/open-ai/">docs</a>}. Rows of a
+ * micro-batch are embedded by one request.
  */
-public class OpenAIEmbeddingModel implements UserDefinedFunction {
+public class OpenAIEmbeddingModel implements AsyncUserDefinedFunction<ArrayData> {
 
     private static final Logger LOG = LoggerFactory.getLogger(OpenAIEmbeddingModel.class);
 
@@ -54,29 +66,85 @@ public class OpenAIEmbeddingModel implements UserDefinedFunction {
 
     private OpenAiEmbeddingModel embeddingModel;
 
+    private int batchSize = OPENAI_BATCH_SIZE.defaultValue();
+
+    private Duration batchTimeout = OPENAI_BATCH_TIMEOUT.defaultValue();
+
+    private int maxInFlightRequests = OPENAI_MAX_IN_FLIGHT_REQUESTS.defaultValue();
+
+    private Duration timeout = OPENAI_TIMEOUT.defaultValue();
+
+    private ExecutorService executor;
+
     public ArrayData eval(String input) {
-        return getEmbedding(input);
+        return AsyncEvaluation.evaluate(
+                this, () -> getEmbeddings(Collections.singletonList(input)).get(0), input);
     }
 
-    private ArrayData getEmbedding(String input) {
-        if (input == null || input.trim().isEmpty()) {
-            LOG.debug("Empty or null input provided for embedding.");
-            return new GenericArrayData(new Float[0]);
+    @Override
+    public CompletableFuture<List<ArrayData>> evalBatch(List<Object[]> arguments) {
+        List<String> inputs = new ArrayList<>(arguments.size());
+        for (Object[] argument : arguments) {
+            inputs.add((String) argument[0]);
         }
+        return CompletableFuture.supplyAsync(() -> getEmbeddings(inputs), executor);
+    }
 
-        TextSegment textSegment = new TextSegment(input, new Metadata());
+    private List<ArrayData> getEmbeddings(List<String> inputs) {
+        List<ArrayData> results = new ArrayList<>(inputs.size());
+        List<TextSegment> textSegments = new ArrayList<>(inputs.size());
+        List<Integer> positions = new ArrayList<>(inputs.size());
+        for (int i = 0; i < inputs.size(); i++) {
+            String input = inputs.get(i);
+            results.add(new GenericArrayData(new Float[0]));
+            if (input == null || input.trim().isEmpty()) {
+                LOG.debug("Empty or null input provided for embedding.");
+            } else {
+                textSegments.add(new TextSegment(input, new Metadata()));
+                positions.add(i);
+            }
+        }
+        if (textSegments.isEmpty()) {
+            return results;
+        }
 
-        List<Embedding> embeddings =
-                embeddingModel.embedAll(Collections.singletonList(textSegment)).content();
+        List<Embedding> embeddings = embeddingModel.embedAll(textSegments).content();
 
-        if (embeddings != null && !embeddings.isEmpty()) {
-            List<Float> embeddingList = embeddings.get(0).vectorAsList();
-            Float[] embeddingArray = embeddingList.toArray(new Float[0]);
-            return new GenericArrayData(embeddingArray);
+        if (embeddings != null && embeddings.size() == textSegments.size()) {
+            for (int i = 0; i < embeddings.size(); i++) {
+                List<Float> embeddingList = embeddings.get(i).vectorAsList();
+                Float[] embeddingArray = embeddingList.toArray(new Float[0]);
+                results.set(positions.get(i), new GenericArrayData(embeddingArray));
+            }
         } else {
-            LOG.warn("No embedding results returned for input: {}", input);
-            return new GenericArrayData(new Float[0]);
+            LOG.warn("No embedding results returned for inputs: {}", inputs);
         }
+        return results;
+    }
+
+    @Override
+    public int getMaxBatchSize() {
+        return batchSize;
+    }
+
+    @Override
+    public Duration getMaxBatchDelay() {
+        return batchTimeout;
+    }
+
+    @Override
+    public int getMaxInFlightBatches() {
+        return maxInFlightRequests;
+    }
+
+    @Override
+    public Duration getTimeout() {
+        return timeout;
+    }
+
+    @Override
+    public boolean isDeterministic() {
+        return true;
     }
 
     @Override
@@ -93,6 +161,22 @@ public class OpenAIEmbeddingModel implements UserDefinedFunction {
         Preconditions.checkNotNull(host, OPENAI_HOST.key() + " should not be empty.");
         String apiKey = modelOptions.get(OPENAI_API_KEY);
         Preconditions.checkNotNull(apiKey, OPENAI_API_KEY.key() + " should not be empty.");
+        this.batchSize = modelOptions.get(OPENAI_BATCH_SIZE);
+        Preconditions.checkArgument(
+                batchSize > 0, OPENAI_BATCH_SIZE.key() + " should be positive.");
+        this.batchTimeout = modelOptions.get(OPENAI_BATCH_TIMEOUT);
+        Preconditions.checkArgument(
+                !batchTimeout.isNegative(),
+                OPENAI_BATCH_TIMEOUT.key() + " should not be negative.");
+        this.maxInFlightRequests = modelOptions.get(OPENAI_MAX_IN_FLIGHT_REQUESTS);
+        Preconditions.checkArgument(
+                maxInFlightRequests > 0,
+                OPENAI_MAX_IN_FLIGHT_REQUESTS.key() + " should be positive.");
+        this.timeout = modelOptions.get(OPENAI_TIMEOUT);
+        Preconditions.checkArgument(
+                !timeout.isNegative() && !timeout.isZero(),
+                OPENAI_TIMEOUT.key() + " should be positive.");
+        this.executor = Executors.newFixedThreadPool(maxInFlightRequests);
         LOG.info("Opening OpenAIEmbeddingModel " + modelName + " " + host);
         this.embeddingModel =
                 OpenAiEmbeddingModel.builder()
@@ -104,6 +188,9 @@ public class OpenAIEmbeddingModel implements UserDefinedFunction {
 
     @Override
     public void close() {
+        if (executor != null) {
+            executor.shutdownNow();
+        }
         LOG.info("Closed OpenAIEmbeddingModel " + modelName + " " + host);
     }
 }
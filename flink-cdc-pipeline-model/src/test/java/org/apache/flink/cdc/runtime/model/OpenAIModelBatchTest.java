@@ -0,0 +1,91 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.runtime.model;
+
+import org.apache.flink.cdc.common.configuration.Configuration;
+import org.apache.flink.cdc.common.data.ArrayData;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+/** Tests for batched evaluation of OpenAI models against an {@link OpenAIStubServer}. */
+class OpenAIModelBatchTest {
+
+    @Test
+    void testEvalBatchConcurrently() throws Exception {
+        try (OpenAIStubServer server = new OpenAIStubServer(200)) {
+            OpenAIChatModel openAIChatModel = new OpenAIChatModel();
+            Configuration configuration = new Configuration();
+            configuration.set(ModelOptions.OPENAI_HOST, server.getHost());
+            configuration.set(ModelOptions.OPENAI_API_KEY, "test-key");
+            configuration.set(ModelOptions.OPENAI_MODEL_NAME, "gpt-4o-mini");
+            configuration.set(ModelOptions.OPENAI_MAX_IN_FLIGHT_REQUESTS, 2);
+            openAIChatModel.open(() -> configuration);
+            try {
+                Assertions.assertThat(openAIChatModel.getMaxInFlightBatches()).isEqualTo(2);
+                List<String> responses =
+                        openAIChatModel
+                                .evalBatch(
+                                        Arrays.asList(
+                                                new Object[] {"a"},
+                                                new Object[] {"b"},
+                                                new Object[] {"c"},
+                                                new Object[] {""}))
+                                .get();
+                Assertions.assertThat(responses).containsExactly("A", "B", "C", "");
+                Assertions.assertThat(server.getRequests()).isEqualTo(3);
+                Assertions.assertThat(server.getMaxInFlightRequests()).isEqualTo(2);
+                Assertions.assertThat(openAIChatModel.eval("d")).isEqualTo("D");
+            } finally {
+                openAIChatModel.close();
+            }
+        }
+    }
+
+    @Test
+    void testEvalBatchInOneRequest() throws Exception {
+        try (OpenAIStubServer server = new OpenAIStubServer(0)) {
+            OpenAIEmbeddingModel openAIEmbeddingModel = new OpenAIEmbeddingModel();
+            Configuration configuration = new Configuration();
+            configuration.set(ModelOptions.OPENAI_HOST, server.getHost());
+            configuration.set(ModelOptions.OPENAI_API_KEY, "test-key");
+            configuration.set(ModelOptions.OPENAI_MODEL_NAME, "text-embedding-3-small");
+            openAIEmbeddingModel.open(() -> configuration);
+            try {
+                List<ArrayData> embeddings =
+                        openAIEmbeddingModel
+                                .evalBatch(
+                                        Arrays.asList(
+                                                new Object[] {"ab"},
+                                                new Object[] {" "},
+                                                new Object[] {"cde"}))
+                                .get();
+                Assertions.assertThat(embeddings).hasSize(3);
+                Assertions.assertThat(embeddings.get(0).toFloatArray()).containsExactly(2.0f, 0.0f);
+                Assertions.assertThat(embeddings.get(1).size()).isZero();
+                Assertions.assertThat(embeddings.get(2).toFloatArray()).containsExactly(3.0f, 1.0f);
+                Assertions.assertThat(server.getRequests()).isEqualTo(1);
+            } finally {
+                openAIEmbeddingModel.close();
+            }
+        }
+    }
+}
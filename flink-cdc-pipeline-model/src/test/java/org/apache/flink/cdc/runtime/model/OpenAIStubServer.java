@@ -0,0 +1,160 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.runtime.model;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * An in-process HTTP server serving the chat completion and embedding APIs of OpenAI. Chat
+ * completions reply the upper-cased user message, and the embedding of an input is its length
+ * followed by its index in the request. Every request takes at least the given latency.
+ */
+public class OpenAIStubServer implements AutoCloseable {
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final long latencyMillis;
+
+    private final AtomicInteger requests = new AtomicInteger();
+    private final AtomicInteger inFlightRequests = new AtomicInteger();
+    private final AtomicInteger maxInFlightRequests = new AtomicInteger();
+
+    public OpenAIStubServer(long latencyMillis) throws IOException {
+        this.latencyMillis = latencyMillis;
+        this.server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        this.executor = Executors.newCachedThreadPool();
+        server.setExecutor(executor);
+        server.createContext("/v1/chat/completions", exchange -> handle(exchange, true));
+        server.createContext("/v1/embeddings", exchange -> handle(exchange, false));
+        server.start();
+    }
+
+    /** The base URL to be set as {@link ModelOptions#OPENAI_HOST}. */
+    public String getHost() {
+        return "http://localhost:" + server.getAddress().getPort() + "/v1/";
+    }
+
+    public int getRequests() {
+        return requests.get();
+    }
+
+    public int getMaxInFlightRequests() {
+        return maxInFlightRequests.get();
+    }
+
+    private void handle(HttpExchange exchange, boolean chat) throws IOException {
+        requests.incrementAndGet();
+        maxInFlightRequests.accumulateAndGet(inFlightRequests.incrementAndGet(), Math::max);
+        try (InputStream input = exchange.getRequestBody()) {
+            JsonObject request =
+                    JsonParser.parseString(new String(input.readAllBytes(), StandardCharsets.UTF_8))
+                            .getAsJsonObject();
+            Thread.sleep(latencyMillis);
+            JsonObject response = chat ? chatResponse(request) : embeddingResponse(request);
+            byte[] body = response.toString().getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream output = exchange.getResponseBody()) {
+                output.write(body);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            exchange.sendResponseHeaders(500, -1);
+        } finally {
+            inFlightRequests.decrementAndGet();
+            exchange.close();
+        }
+    }
+
+    private static JsonObject chatResponse(JsonObject request) {
+        JsonArray messages = request.getAsJsonArray("messages");
+        String content =
+                messages.get(messages.size() - 1).getAsJsonObject().get("content").getAsString();
+
+        JsonObject message = new JsonObject();
+        message.addProperty("role", "assistant");
+        message.addProperty("content", content.toUpperCase(Locale.ROOT));
+        JsonObject choice = new JsonObject();
+        choice.addProperty("index", 0);
+        choice.add("message", message);
+        choice.addProperty("finish_reason", "stop");
+        JsonArray choices = new JsonArray();
+        choices.add(choice);
+
+        JsonObject response = new JsonObject();
+        response.addProperty("id", "chatcmpl-stub");
+        response.addProperty("object", "chat.completion");
+        response.addProperty("created", 0);
+        response.addProperty("model", request.get("model").getAsString());
+        response.add("choices", choices);
+        response.add("usage", usage());
+        return response;
+    }
+
+    private static JsonObject embeddingResponse(JsonObject request) {
+        JsonArray inputs = request.getAsJsonArray("input");
+        JsonArray data = new JsonArray();
+        for (int i = 0; i < inputs.size(); i++) {
+            JsonElement input = inputs.get(i);
+            JsonArray vector = new JsonArray();
+            vector.add((float) input.getAsString().length());
+            vector.add((float) i);
+            JsonObject embedding = new JsonObject();
+            embedding.addProperty("object", "embedding");
+            embedding.addProperty("index", i);
+            embedding.add("embedding", vector);
+            data.add(embedding);
+        }
+
+        JsonObject response = new JsonObject();
+        response.addProperty("object", "list");
+        response.add("data", data);
+        response.addProperty("model", request.get("model").getAsString());
+        response.add("usage", usage());
+        return response;
+    }
+
+    private static JsonObject usage() {
+        JsonObject usage = new JsonObject();
+        usage.addProperty("prompt_tokens", 1);
+        usage.addProperty("completion_tokens", 1);
+        usage.addProperty("total_tokens", 2);
+        return usage;
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+}
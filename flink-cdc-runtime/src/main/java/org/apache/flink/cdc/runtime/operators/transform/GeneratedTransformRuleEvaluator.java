@@ -0,0 +1,92 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.runtime.operators.transform;
+
+import javax.annotation.Nullable;
+
+import java.util.List;
+
+/**
+ * Base class of the {@link TransformRuleEvaluator}s generated by {@link TransformRuleCompiler}. It
+ * holds the per-instance states that generated code refers to, and builds the same error messages
+ * as {@link ProjectionColumnProcessor} and {@link TransformFilterProcessor}.
+ */
+public abstract class GeneratedTransformRuleEvaluator implements TransformRuleEvaluator {
+
+    protected String timezone;
+
+    /** Accessors of referenced identifiers that are not read from pre-transformed row directly. */
+    protected TransformContext.FieldAccessor[] accessors;
+
+    protected Object[] udfFunctionInstances;
+
+    private String tableName;
+    private List<ProjectionColumn> projectionColumns;
+    @Nullable private TransformFilter filter;
+    @Nullable private String filterScriptExpression;
+
+    void initialize(
+            String tableName,
+            List<ProjectionColumn> projectionColumns,
+            @Nullable TransformFilter filter,
+            @Nullable String filterScriptExpression,
+            String timezone,
+            TransformContext.FieldAccessor[] accessors,
+            Object[] udfFunctionInstances) {
+        this.tableName = tableName;
+        this.projectionColumns = projectionColumns;
+        this.filter = filter;
+        this.filterScriptExpression = filterScriptExpression;
+        this.timezone = timezone;
+        this.accessors = accessors;
+        this.udfFunctionInstances = udfFunctionInstances;
+        bindUdfFunctionInstances();
+    }
+
+    /** Assigns {@link #udfFunctionInstances} to typed fields. */
+    protected abstract void bindUdfFunctionInstances();
+
+    protected RuntimeException projectionFailure(int columnIndex, Exception cause) {
+        ProjectionColumn projectionColumn = projectionColumns.get(columnIndex);
+        return new RuntimeException(
+                String.format(
+                        "Failed to evaluate projection expression `%s` for column `%s` in table `%s`.\n"
+                                + "\tCompiled expression: %s\n"
+                                + "\tColumn name map: {%s}",
+                        projectionColumn.getExpression(),
+                        projectionColumn.getColumnName(),
+                        tableName,
+                        projectionColumn.getScriptExpression(),
+                        projectionColumn.getColumnNameMapAsString()),
+                cause);
+    }
+
+    protected RuntimeException filterFailure(Exception cause) {
+        return new RuntimeException(
+                String.format(
+                        "Failed to evaluate filtering expression for table `%s`.\n"
+                                + "\tOriginal expression: %s\n"
+                                + "\tCompiled expression: %s\n"
+                                + "\tColumn name map: {%s}",
+                        tableName,
+                        filter != null ? filter.getExpression() : "<no op>",
+                        filterScriptExpression != null ? filterScriptExpression : "<no op>",
+                        filter != null ? filter.getColumnNameMapAsString() : ""),
+                cause);
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.runtime.operators.transform;
+
+import javax.annotation.Nullable;
+
+/**
+ * A {@link TransformRuleEvaluator} that evaluates every projection column and the filter with its
+ * own compiled expression. It's used if a transform rule could not be compiled by {@link
+ * TransformRuleCompiler} as a whole.
+ */
+public class PerExpressionTransformRuleEvaluator implements TransformRuleEvaluator {
+
+    private final TransformProjectionProcessor projectionProcessor;
+    private final TransformFilterProcessor filterProcessor;
+
+    public PerExpressionTransformRuleEvaluator(
+            TransformProjectionProcessor projectionProcessor,
+            TransformFilterProcessor filterProcessor) {
+        this.projectionProcessor = projectionProcessor;
+        this.filterProcessor = filterProcessor;
+    }
+
+    @Override
+    public Object[] project(Object[] preRow, TransformContext context) {
+        return projectionProcessor.project(preRow, context);
+    }
+
+    @Nullable
+    @Override
+    public Object[] filterAndProject(Object[] preRow, TransformContext context) {
+        // Filter predicate might refer to calculated columns, so projection goes first.
+        Object[] postRow = projectionProcessor.project(preRow, context);
+        return filterProcessor.test(preRow, postRow, context) ? postRow : null;
+    }
+
+    @Override
+    public boolean test(Object[] preRow, TransformContext context) {
+        return filterProcessor.test(preRow, context);
+    }
+}
@@ -19,6 +19,7 @@ package org.apache.flink.cdc.runtime.operators.transform;
 
 import org.apache.flink.cdc.common.data.RecordData;
 import org.apache.flink.cdc.common.event.TableId;
+import org.apache.flink.cdc.common.schema.Column;
 import org.apache.flink.cdc.common.schema.Schema;
 import org.apache.flink.cdc.common.types.RowType;
 import org.apache.flink.cdc.common.utils.SchemaUtils;
@@ -26,6 +27,7 @@ import org.apache.flink.cdc.runtime.typeutils.BinaryRecordDataGenerator;
 
 import javax.annotation.Nullable;
 
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -133,6 +135,20 @@ public class PostTransformChangeInfo {
         return postTransformedSchemaFieldNameToIndexMap.get(fieldName);
     }
 
+    /**
+     * Returns columns that filters could refer to. Post-transformed columns take priority over
+     * pre-transformed columns with the same name.
+     */
+    public List<Column> getFilterVisibleColumns() {
+        List<Column> columns = new ArrayList<>(postTransformedSchema.getColumns());
+        for (Column column : preTransformedSchema.getColumns()) {
+            if (!postTransformedSchemaFieldNameToIndexMap.containsKey(column.getName())) {
+                columns.add(column);
+            }
+        }
+        return columns;
+    }
+
     public RecordData.FieldGetter[] getPreTransformedFieldGetters() {
         return preTransformedFieldGetters;
     }
@@ -17,12 +17,9 @@
 
 package org.apache.flink.cdc.runtime.operators.transform;
 
-import org.apache.flink.api.java.tuple.Tuple2;
 import org.apache.flink.api.java.tuple.Tuple3;
 import org.apache.flink.cdc.common.configuration.Configuration;
-import org.apache.flink.cdc.common.converter.JavaObjectConverter;
 import org.apache.flink.cdc.common.data.RecordData;
-import org.apache.flink.cdc.common.data.binary.BinaryRecordData;
 import org.apache.flink.cdc.common.event.ChangeEvent;
 import org.apache.flink.cdc.common.event.CreateTableEvent;
 import org.apache.flink.cdc.common.event.DataChangeEvent;
@@ -31,38 +28,48 @@ import org.apache.flink.cdc.common.event.SchemaChangeEvent;
 import org.apache.flink.cdc.common.event.TableId;
 import org.apache.flink.cdc.common.schema.Schema;
 import org.apache.flink.cdc.common.schema.Selectors;
+import org.apache.flink.cdc.common.udf.AsyncEvaluation;
+import org.apache.flink.cdc.common.udf.AsyncUserDefinedFunction;
 import org.apache.flink.cdc.common.udf.UserDefinedFunctionContext;
 import org.apache.flink.cdc.common.utils.SchemaMergingUtils;
 import org.apache.flink.cdc.common.utils.SchemaUtils;
 import org.apache.flink.cdc.runtime.operators.transform.converter.PostTransformConverters;
 import org.apache.flink.cdc.runtime.operators.transform.exceptions.TransformException;
 import org.apache.flink.cdc.runtime.parser.TransformParser;
-import org.apache.flink.cdc.runtime.typeutils.BinaryInternalObjectConverter;
-import org.apache.flink.cdc.runtime.typeutils.BinaryRecordDataGenerator;
 import org.apache.flink.streaming.api.operators.AbstractStreamOperator;
 import org.apache.flink.streaming.api.operators.OneInputStreamOperator;
 import org.apache.flink.streaming.runtime.streamrecord.StreamRecord;
 
 import org.apache.flink.shaded.guava31.com.google.common.collect.HashBasedTable;
 import org.apache.flink.shaded.guava31.com.google.common.collect.Table;
+import org.apache.flink.shaded.guava31.com.google.common.math.LongMath;
 
 import javax.annotation.Nullable;
 
 import java.io.Serializable;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledFuture;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+import static org.apache.flink.cdc.common.utils.Preconditions.checkArgument;
 import static org.apache.flink.cdc.common.utils.Preconditions.checkNotNull;
 
 /**
  * A data process function that performs column filtering, calculated column evaluation & final
  * projection.
+ *
+ * <p>If any {@link AsyncUserDefinedFunction} is registered, {@link DataChangeEvent}s are collected
+ * into micro-batches bounded by the smallest batch size and delay of those functions. Each
+ * micro-batch is evaluated twice: calls of asynchronous functions are collected in the first pass
+ * and dispatched concurrently, then events are transformed and emitted in order with the results.
+ * Other events, checkpoints and the end of input flush the ongoing micro-batch first.
  */
 public class PostTransformOperator extends AbstractStreamOperator<Event>
         implements OneInputStreamOperator<Event, Event>, Serializable {
@@ -82,11 +89,17 @@ public class PostTransformOperator extends AbstractStreamOperator<Event>
     private transient List<UserDefinedFunctionDescriptor> udfDescriptors;
     private transient List<Object> udfFunctionInstances;
 
-    // Querying a TransformProjectionProcessor with an upstream TableId and effective
-    // post-transformer.
-    private transient Table<TableId, PostTransformer, TransformProjectionProcessor>
-            projectionProcessors;
-    private transient Table<TableId, PostTransformer, TransformFilterProcessor> filterProcessors;
+    // Micro-batching of data change events, only enabled if there are asynchronous UDFs.
+    private transient List<AsyncUserDefinedFunction<?>> asyncUdfFunctionInstances;
+    private transient List<ReplayedCallResults> replayedCallResults;
+    private transient List<StreamRecord<Event>> bufferedRecords;
+    private transient int maxBatchSize;
+    private transient long maxBatchDelayMillis;
+    private transient ScheduledFuture<?> flushTimer;
+    private transient boolean compileFallbackLogged;
+
+    // Querying a TransformRecordProjector with an upstream TableId and effective post-transformer.
+    private transient Table<TableId, PostTransformer, TransformRecordProjector> recordProjectors;
 
     public static PostTransformOperatorBuilder newBuilder() {
         return new PostTransformOperatorBuilder();
@@ -109,44 +122,169 @@ public class PostTransformOperator extends AbstractStreamOperator<Event>
         super.open();
 
         // Initialize multi-key lookup tables
-        this.projectionProcessors = HashBasedTable.create();
-        this.filterProcessors = HashBasedTable.create();
+        this.recordProjectors = HashBasedTable.create();
 
         // Be sure to initialize UDF related fields before creating transformers
         initializeUdf();
 
         this.transformers = createTransformers();
+        this.bufferedRecords = new ArrayList<>();
+    }
+
+    @Override
+    public void prepareSnapshotPreBarrier(long checkpointId) throws Exception {
+        super.prepareSnapshotPreBarrier(checkpointId);
+        flushBufferedRecords();
+    }
+
+    @Override
+    public void finish() throws Exception {
+        flushBufferedRecords();
+        super.finish();
     }
 
     @Override
     public void close() throws Exception {
         super.close();
+        cancelFlushTimer();
         TransformExpressionCompiler.cleanUp();
+        TransformRuleCompiler.cleanUp();
         destroyUdf();
     }
 
     @Override
     public void processElement(StreamRecord<Event> element) throws Exception {
+        if (asyncUdfFunctionInstances.isEmpty()) {
+            processElementWithContext(element);
+        } else if (element.getValue() instanceof DataChangeEvent) {
+            bufferedRecords.add(element);
+            if (bufferedRecords.size() >= maxBatchSize) {
+                flushBufferedRecords();
+            } else if (flushTimer == null) {
+                flushTimer =
+                        getProcessingTimeService()
+                                .registerTimer(
+                                        LongMath.saturatedAdd(
+                                                getProcessingTimeService()
+                                                        .getCurrentProcessingTime(),
+                                                maxBatchDelayMillis),
+                                        timestamp -> {
+                                            flushTimer = null;
+                                            flushBufferedRecords();
+                                        });
+            }
+        } else {
+            flushBufferedRecords();
+            processElementWithContext(element);
+        }
+    }
+
+    /**
+     * Transforms and emits buffered {@link DataChangeEvent}s in order, after dispatching calls of
+     * asynchronous UDFs that they make.
+     *
+     * <p>Events making no asynchronous call are transformed once in the first pass. Others are
+     * transformed again in the second pass, in which results of synchronous UDF calls made in the
+     * first pass are replayed.
+     */
+    private void flushBufferedRecords() throws InterruptedException {
+        cancelFlushTimer();
+        if (bufferedRecords.isEmpty()) {
+            return;
+        }
+        List<StreamRecord<Event>> records = new ArrayList<>(bufferedRecords);
+        bufferedRecords.clear();
+
+        // Transformed events of the first pass, or null if they're transformed in the second pass
+        List<Optional<Event>> transformedEvents = new ArrayList<>(records.size());
+        AsyncEvaluation evaluation = new AsyncEvaluation();
+        try {
+            evaluation.collect(
+                    () -> {
+                        for (StreamRecord<Event> record : records) {
+                            replayedCallResults.forEach(ReplayedCallResults::recordNextRow);
+                            transformedEvents.add(collectAsyncCalls(evaluation, record));
+                        }
+                    });
+            if (evaluation.hasCalls()) {
+                evaluation.dispatch();
+            }
+            evaluation.apply(
+                    () -> {
+                        for (int i = 0; i < records.size(); i++) {
+                            Optional<Event> transformedEvent = transformedEvents.get(i);
+                            if (transformedEvent != null) {
+                                transformedEvent.map(StreamRecord::new).ifPresent(output::collect);
+                                continue;
+                            }
+                            int row = i;
+                            replayedCallResults.forEach(results -> results.replayRow(row));
+                            processElementWithContext(records.get(i));
+                        }
+                    });
+        } finally {
+            replayedCallResults.forEach(ReplayedCallResults::finishMicroBatch);
+        }
+    }
+
+    /**
+     * Transforms given {@link DataChangeEvent} while collecting calls of asynchronous UDFs. Returns
+     * null if it should be transformed again with results of the calls.
+     */
+    @Nullable
+    @SuppressWarnings("OptionalAssignedToNull")
+    private Optional<Event> collectAsyncCalls(
+            AsyncEvaluation evaluation, StreamRecord<Event> record) {
+        DataChangeEvent event = (DataChangeEvent) record.getValue();
+        List<PostTransformer> effectiveTransformers = getEffectiveTransformers(event.tableId());
+        if (effectiveTransformers.isEmpty()) {
+            return null;
+        }
+        long numCollectedCalls = evaluation.getNumCollectedCalls();
+        try {
+            Optional<Event> transformedEvent = processDataChangeEvent(event, effectiveTransformers);
+            return evaluation.getNumCollectedCalls() == numCollectedCalls ? transformedEvent : null;
+        } catch (RuntimeException e) {
+            if (evaluation.getNumCollectedCalls() == numCollectedCalls) {
+                throw createTransformException(event, e);
+            }
+            // Results of asynchronous calls are absent in this pass, which may be invalid inputs
+            // of other expressions. Errors are thrown again if they're not caused by this.
+            return null;
+        }
+    }
+
+    private void cancelFlushTimer() {
+        if (flushTimer != null) {
+            flushTimer.cancel(false);
+            flushTimer = null;
+        }
+    }
+
+    private void processElementWithContext(StreamRecord<Event> element) {
         try {
             processElementInternal(element);
         } catch (Exception e) {
-            Event event = element.getValue();
-            TableId tableId = null;
-            Schema schemaBefore = null;
-            Schema schemaAfter = null;
-
-            if (event instanceof ChangeEvent) {
-                tableId = ((ChangeEvent) event).tableId();
-                PostTransformChangeInfo info = postTransformInfoMap.get(tableId);
-                if (info != null) {
-                    schemaBefore = info.getPreTransformedSchema();
-                    schemaAfter = info.getPostTransformedSchema();
-                }
-            }
+            throw createTransformException(element.getValue(), e);
+        }
+    }
 
-            throw new TransformException(
-                    "post-transform", event, tableId, schemaBefore, schemaAfter, e);
+    private TransformException createTransformException(Event event, Exception e) {
+        TableId tableId = null;
+        Schema schemaBefore = null;
+        Schema schemaAfter = null;
+
+        if (event instanceof ChangeEvent) {
+            tableId = ((ChangeEvent) event).tableId();
+            PostTransformChangeInfo info = postTransformInfoMap.get(tableId);
+            if (info != null) {
+                schemaBefore = info.getPreTransformedSchema();
+                schemaAfter = info.getPostTransformedSchema();
+            }
         }
+
+        return new TransformException(
+                "post-transform", event, tableId, schemaBefore, schemaAfter, e);
     }
 
     private void processElementInternal(StreamRecord<Event> element) {
@@ -276,7 +414,7 @@ public class PostTransformOperator extends AbstractStreamOperator<Event>
     private Optional<Event> processDataChangeEvent(
             DataChangeEvent event, List<PostTransformer> effectiveTransformers) {
         TableId tableId = event.tableId();
-        PostTransformChangeInfo info = checkNotNull(postTransformInfoMap.get(tableId));
+        checkNotNull(postTransformInfoMap.get(tableId));
 
         // Prepare transform context
         TransformContext context = new TransformContext();
@@ -287,34 +425,25 @@ public class PostTransformOperator extends AbstractStreamOperator<Event>
         String afterOp = event.opTypeString(true);
 
         for (PostTransformer transformer : effectiveTransformers) {
-            TransformProjectionProcessor projectionProcessor =
-                    getProjectionProcessor(tableId, transformer);
-            TransformFilterProcessor filterProcessor = getFilterProcessor(tableId, transformer);
+            TransformRecordProjector recordProjector = getRecordProjector(tableId, transformer);
 
             RecordData beforeRow = null;
             RecordData afterRow = null;
             boolean filterPassed = true;
 
-            if (event.before() != null) {
-                context.opType = beforeOp;
-                Tuple2<BinaryRecordData, Boolean> result =
-                        transformRecord(
-                                event.before(),
-                                info,
-                                projectionProcessor,
-                                filterProcessor,
-                                context);
-                beforeRow = result.f0;
-                filterPassed = result.f1;
-            }
-
+            // The filter result of after-row (if exists) decides whether the event passes, so it
+            // goes first and before-row will not be projected if it has been filtered out.
             if (event.after() != null) {
                 context.opType = afterOp;
-                Tuple2<BinaryRecordData, Boolean> result =
-                        transformRecord(
-                                event.after(), info, projectionProcessor, filterProcessor, context);
-                afterRow = result.f0;
-                filterPassed = result.f1;
+                afterRow = recordProjector.transform(event.after(), context, true);
+                filterPassed = afterRow != null;
+            }
+
+            if (event.before() != null && filterPassed) {
+                context.opType = beforeOp;
+                beforeRow =
+                        recordProjector.transform(event.before(), context, event.after() == null);
+                filterPassed = beforeRow != null;
             }
 
             if (filterPassed) {
@@ -355,44 +484,6 @@ public class PostTransformOperator extends AbstractStreamOperator<Event>
                         .collect(Collectors.toList()));
     }
 
-    /** Projects given {@link RecordData} based on given processor. */
-    private Tuple2<BinaryRecordData, Boolean> transformRecord(
-            RecordData recordData,
-            PostTransformChangeInfo info,
-            @Nullable TransformProjectionProcessor projectionProcessor,
-            @Nullable TransformFilterProcessor filterProcessor,
-            TransformContext context) {
-        RecordData.FieldGetter[] preFieldGetters = info.getPreTransformedFieldGetters();
-        Schema preSchema = info.getPreTransformedSchema();
-        Schema postSchema = info.getPostTransformedSchema();
-        BinaryRecordDataGenerator postGenerator = info.getPostTransformedRecordDataGenerator();
-
-        Object[] preRow = new Object[preFieldGetters.length];
-        for (int i = 0; i < preFieldGetters.length; i++) {
-            preRow[i] =
-                    JavaObjectConverter.convertToJava(
-                            preFieldGetters[i].getFieldOrNull(recordData),
-                            preSchema.getColumnDataTypes().get(i));
-        }
-
-        Object[] postRow =
-                projectionProcessor != null ? projectionProcessor.project(preRow, context) : preRow;
-
-        // Filter predicate test might refer to both PreTransformed only columns (that have been
-        // eliminated from transform result) and PostTransformed only columns (that do not exist
-        // until expression evaluation finishes). So we need pass both rows to FilterProcessor.
-        boolean filterPassed =
-                filterProcessor == null || filterProcessor.test(preRow, postRow, context);
-
-        Object[] postRowBinary = new Object[postSchema.getColumnCount()];
-        for (int i = 0; i < postRow.length; i++) {
-            postRowBinary[i] =
-                    BinaryInternalObjectConverter.convertToInternal(
-                            postRow[i], postSchema.getColumnDataTypes().get(i));
-        }
-        return Tuple2.of(postGenerator.generate(postRowBinary), filterPassed);
-    }
-
     // -------------------
     // Convenience methods for coping with transient fields.
     // -------------------
@@ -416,54 +507,77 @@ public class PostTransformOperator extends AbstractStreamOperator<Event>
     }
 
     /**
-     * Get the unique {@link TransformProjectionProcessor} based on provided {@link TableId} and
-     * {@link PostTransformer}.
+     * Get the unique {@link TransformRecordProjector} based on provided {@link TableId} and {@link
+     * PostTransformer}. The whole rule is compiled into one class if possible, otherwise every
+     * expression is compiled and evaluated separately.
      */
-    private TransformProjectionProcessor getProjectionProcessor(
+    private TransformRecordProjector getRecordProjector(
             TableId tableId, PostTransformer postTransformer) {
-        if (!projectionProcessors.contains(tableId, postTransformer)) {
+        if (!recordProjectors.contains(tableId, postTransformer)) {
             PostTransformChangeInfo changeInfo = postTransformInfoMap.get(tableId);
-            projectionProcessors.put(
-                    tableId,
-                    postTransformer,
-                    new TransformProjectionProcessor(
-                            changeInfo,
-                            postTransformer
-                                    .getProjection()
-                                    .map(TransformProjection::getProjection)
-                                    .orElse(null),
-                            timezone,
+            String projection =
+                    postTransformer
+                            .getProjection()
+                            .map(TransformProjection::getProjection)
+                            .orElse(null);
+            TransformFilter filter = postTransformer.getFilter().orElse(null);
+            List<ProjectionColumn> projectionColumns =
+                    TransformParser.generateProjectionColumns(
+                            projection,
+                            changeInfo.getPreTransformedSchema().getColumns(),
                             udfDescriptors,
-                            udfFunctionInstances,
-                            postTransformer.getSupportedMetadataColumns()));
-        }
-        return projectionProcessors.get(tableId, postTransformer);
-    }
+                            postTransformer.getSupportedMetadataColumns());
 
-    /**
-     * Get the unique {@link TransformFilterProcessor} based on provided {@link TableId} and {@link
-     * PostTransformer}.
-     */
-    private TransformFilterProcessor getFilterProcessor(
-            TableId tableId, PostTransformer postTransformer) {
-        if (!filterProcessors.contains(tableId, postTransformer)) {
-            if (!postTransformer.getFilter().isPresent()) {
-                filterProcessors.put(tableId, postTransformer, TransformFilterProcessor.ofNoOp());
-            } else {
-                PostTransformChangeInfo changeInfo = postTransformInfoMap.get(tableId);
-                filterProcessors.put(
-                        tableId,
-                        postTransformer,
-                        TransformFilterProcessor.of(
+            TransformRuleEvaluator ruleEvaluator;
+            try {
+                ruleEvaluator =
+                        TransformRuleCompiler.compile(
                                 changeInfo,
-                                postTransformer.getFilter().orElse(null),
+                                projectionColumns,
+                                filter,
                                 timezone,
                                 udfDescriptors,
                                 udfFunctionInstances,
-                                postTransformer.getSupportedMetadataColumns()));
+                                postTransformer.getSupportedMetadataColumns());
+            } catch (Exception e) {
+                if (!compileFallbackLogged) {
+                    compileFallbackLogged = true;
+                    LOG.info(
+                            "Failed to compile transform rule for table {} as a whole, falling back to evaluate expressions separately: {}",
+                            tableId,
+                            e.getMessage());
+                }
+                LOG.debug("Failed to compile transform rule for table {} as a whole.", tableId, e);
+                ruleEvaluator =
+                        new PerExpressionTransformRuleEvaluator(
+                                new TransformProjectionProcessor(
+                                        changeInfo,
+                                        projection,
+                                        timezone,
+                                        udfDescriptors,
+                                        udfFunctionInstances,
+                                        postTransformer.getSupportedMetadataColumns()),
+                                filter == null
+                                        ? TransformFilterProcessor.ofNoOp()
+                                        : TransformFilterProcessor.of(
+                                                changeInfo,
+                                                filter,
+                                                timezone,
+                                                udfDescriptors,
+                                                udfFunctionInstances,
+                                                postTransformer.getSupportedMetadataColumns()));
             }
+            recordProjectors.put(
+                    tableId,
+                    postTransformer,
+                    new TransformRecordProjector(
+                            changeInfo,
+                            projectionColumns,
+                            filter,
+                            postTransformer.getSupportedMetadataColumns(),
+                            ruleEvaluator));
         }
-        return filterProcessors.get(tableId, postTransformer);
+        return recordProjectors.get(tableId, postTransformer);
     }
 
     /**
@@ -471,8 +585,7 @@ public class PostTransformOperator extends AbstractStreamOperator<Event>
      * has been changed!
      */
     private void invalidateCache(TableId tableId) {
-        projectionProcessors.row(tableId).clear();
-        filterProcessors.row(tableId).clear();
+        recordProjectors.row(tableId).clear();
     }
 
     private List<PostTransformer> createTransformers() {
@@ -502,11 +615,28 @@ public class PostTransformOperator extends AbstractStreamOperator<Event>
                         .map(UserDefinedFunctionDescriptor::new)
                         .collect(Collectors.toList());
         this.udfFunctionInstances = new ArrayList<>();
+        this.asyncUdfFunctionInstances = new ArrayList<>();
+        this.replayedCallResults = new ArrayList<>();
+        this.maxBatchSize = Integer.MAX_VALUE;
+        this.maxBatchDelayMillis = Long.MAX_VALUE;
 
+        List<Class<?>> udfClasses = new ArrayList<>();
         for (UserDefinedFunctionDescriptor udf : udfDescriptors) {
             try {
-                Class<?> clazz = Class.forName(udf.getClasspath());
+                udfClasses.add(Class.forName(udf.getClasspath()));
+            } catch (ClassNotFoundException e) {
+                throw new RuntimeException("Failed to instantiate UDF function " + udf, e);
+            }
+        }
+        boolean hasAsyncUdf =
+                udfClasses.stream().anyMatch(AsyncUserDefinedFunction.class::isAssignableFrom);
+
+        for (int i = 0; i < udfDescriptors.size(); i++) {
+            UserDefinedFunctionDescriptor udf = udfDescriptors.get(i);
+            try {
+                Class<?> clazz = udfClasses.get(i);
                 Object udfInstance = clazz.getDeclaredConstructor().newInstance();
+                udfInstance = interceptCallsIfNeeded(udf, clazz, udfInstance, hasAsyncUdf);
                 udfFunctionInstances.add(udfInstance);
 
                 if (udf.isCdcPipelineUdf()) {
@@ -521,12 +651,128 @@ public class PostTransformOperator extends AbstractStreamOperator<Event>
                             .invoke(udfInstance, userDefinedFunctionContext);
                 }
                 // Do nothing for Flink-style UDF since their lifecycle hooks are not supported
+
+                // Settings of asynchronous UDFs may be configured when they're opened.
+                if (udfInstance instanceof AsyncUserDefinedFunction) {
+                    AsyncUserDefinedFunction<?> asyncUdf =
+                            (AsyncUserDefinedFunction<?>) udfInstance;
+                    int udfMaxBatchSize = asyncUdf.getMaxBatchSize();
+                    int udfMaxInFlightBatches = asyncUdf.getMaxInFlightBatches();
+                    Duration udfMaxBatchDelay = asyncUdf.getMaxBatchDelay();
+                    Duration udfTimeout = asyncUdf.getTimeout();
+                    checkArgument(
+                            udfMaxBatchSize > 0,
+                            "Max batch size of UDF %s should be positive, but is %s.",
+                            udf.getName(),
+                            udfMaxBatchSize);
+                    checkArgument(
+                            udfMaxInFlightBatches > 0,
+                            "Max in-flight batches of UDF %s should be positive, but is %s.",
+                            udf.getName(),
+                            udfMaxInFlightBatches);
+                    checkArgument(
+                            udfMaxBatchDelay != null && !udfMaxBatchDelay.isNegative(),
+                            "Max batch delay of UDF %s should be non-negative, but is %s.",
+                            udf.getName(),
+                            udfMaxBatchDelay);
+                    checkArgument(
+                            udfTimeout != null && !udfTimeout.isNegative() && !udfTimeout.isZero(),
+                            "Timeout of UDF %s should be positive, but is %s.",
+                            udf.getName(),
+                            udfTimeout);
+                    asyncUdfFunctionInstances.add(asyncUdf);
+                    // A micro-batch holds enough calls to keep all batches in flight.
+                    maxBatchSize =
+                            (int)
+                                    Math.min(
+                                            maxBatchSize,
+                                            (long) udfMaxBatchSize * udfMaxInFlightBatches);
+                    maxBatchDelayMillis = Math.min(maxBatchDelayMillis, toMillis(udfMaxBatchDelay));
+                }
             } catch (ReflectiveOperationException e) {
                 throw new RuntimeException("Failed to instantiate UDF function " + udf, e);
             }
         }
     }
 
+    private static long toMillis(Duration duration) {
+        try {
+            return duration.toMillis();
+        } catch (ArithmeticException e) {
+            return Long.MAX_VALUE;
+        }
+    }
+
+    /**
+     * Returns an instance of given UDF whose calls are intercepted, if their results should be
+     * cached or replayed, or given instance otherwise.
+     *
+     * <p>Results are cached if {@link UserDefinedFunctionCache#CACHE_MAX_SIZE} is set and the UDF
+     * is deterministic. Results of a synchronous UDF are replayed if there are asynchronous UDFs,
+     * whose micro-batches are evaluated twice.
+     */
+    private Object interceptCallsIfNeeded(
+            UserDefinedFunctionDescriptor udf,
+            Class<?> clazz,
+            Object udfInstance,
+            boolean hasAsyncUdf)
+            throws ReflectiveOperationException {
+        boolean asynchronous = udfInstance instanceof AsyncUserDefinedFunction;
+        UserDefinedFunctionCache cache = null;
+        if (udf.isCdcPipelineUdf()) {
+            cache = createCacheIfEnabled(udf, clazz, udfInstance, asynchronous);
+        }
+        ReplayedCallResults replayed = null;
+        if (hasAsyncUdf && !asynchronous) {
+            replayed = new ReplayedCallResults(cache);
+        }
+        if (cache == null && replayed == null) {
+            return udfInstance;
+        }
+        try {
+            Object interceptedInstance =
+                    UserDefinedFunctionCache.createCachedInstance(
+                            clazz, replayed != null ? replayed : cache);
+            if (replayed != null) {
+                replayedCallResults.add(replayed);
+            }
+            return interceptedInstance;
+        } catch (Exception e) {
+            LOG.warn("Failed to intercept calls of UDF {}, evaluating every call instead.", udf, e);
+            return udfInstance;
+        }
+    }
+
+    /**
+     * Returns the cache of given UDF, if {@link UserDefinedFunctionCache#CACHE_MAX_SIZE} is set and
+     * the UDF is deterministic.
+     */
+    @Nullable
+    private UserDefinedFunctionCache createCacheIfEnabled(
+            UserDefinedFunctionDescriptor udf,
+            Class<?> clazz,
+            Object udfInstance,
+            boolean asynchronous)
+            throws ReflectiveOperationException {
+        Configuration parameters = Configuration.fromMap(udf.getParameters());
+        int cacheMaxSize = parameters.get(UserDefinedFunctionCache.CACHE_MAX_SIZE);
+        if (cacheMaxSize <= 0) {
+            return null;
+        }
+        // See comments in #initializeUdf for why reflection is used here.
+        if (!(Boolean) clazz.getMethod("isDeterministic").invoke(udfInstance)) {
+            LOG.warn(
+                    "Results of UDF {} will not be cached since it is not deterministic.",
+                    udf.getName());
+            return null;
+        }
+        return new UserDefinedFunctionCache(
+                cacheMaxSize,
+                parameters.getOptional(UserDefinedFunctionCache.CACHE_TTL).orElse(null),
+                getMetricGroup().addGroup("udf", udf.getName()),
+                asynchronous);
+    }
+
     private void destroyUdf() {
         if (udfDescriptors == null || udfFunctionInstances == null) {
             return;
@@ -545,6 +791,8 @@ public class PostTransformOperator extends AbstractStreamOperator<Event>
         }
         udfDescriptors.clear();
         udfFunctionInstances.clear();
+        asyncUdfFunctionInstances.clear();
+        replayedCallResults.clear();
     }
 
     /** Backport of {@code Optional#stream} before Java 11. */
@@ -23,7 +23,6 @@ import org.apache.flink.cdc.common.event.CreateTableEvent;
 import org.apache.flink.cdc.common.schema.Column;
 import org.apache.flink.cdc.common.schema.Schema;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 
@@ -41,8 +40,22 @@ import java.util.Map;
 public class PreTransformProcessor {
     private final PreTransformChangeInfo tableChangeInfo;
 
+    /** Getters of source columns retained in the pre-transformed schema, in its order. */
+    private final RecordData.FieldGetter[] retainedFieldGetters;
+
+    /** Whether all source columns are retained in their original order. */
+    private final boolean retainsAllColumns;
+
     public PreTransformProcessor(PreTransformChangeInfo tableChangeInfo) {
         this.tableChangeInfo = tableChangeInfo;
+        List<Column> columns = tableChangeInfo.getPreTransformedSchema().getColumns();
+        Map<String, RecordData.FieldGetter> sourceFieldGettersMap =
+                tableChangeInfo.getSourceFieldGettersMap();
+        this.retainedFieldGetters = new RecordData.FieldGetter[columns.size()];
+        for (int i = 0; i < columns.size(); i++) {
+            retainedFieldGetters[i] = sourceFieldGettersMap.get(columns.get(i).getName());
+        }
+        this.retainsAllColumns = columns.equals(tableChangeInfo.getSourceSchema().getColumns());
     }
 
     /**
@@ -59,17 +72,17 @@ public class PreTransformProcessor {
         return new CreateTableEvent(createTableEvent.tableId(), schema);
     }
 
+    /**
+     * Omits unreferenced columns of given row. The row is returned as is if no column is omitted.
+     */
     public BinaryRecordData processFillDataField(BinaryRecordData data) {
-        List<Object> valueList = new ArrayList<>();
-        List<Column> columns = tableChangeInfo.getPreTransformedSchema().getColumns();
-        Map<String, RecordData.FieldGetter> sourceFieldGettersMap =
-                tableChangeInfo.getSourceFieldGettersMap();
-        for (Column column : columns) {
-            RecordData.FieldGetter fieldGetter = sourceFieldGettersMap.get(column.getName());
-            valueList.add(fieldGetter.getFieldOrNull(data));
+        if (retainsAllColumns) {
+            return data;
+        }
+        Object[] values = new Object[retainedFieldGetters.length];
+        for (int i = 0; i < retainedFieldGetters.length; i++) {
+            values[i] = retainedFieldGetters[i].getFieldOrNull(data);
         }
-        return tableChangeInfo
-                .getPreTransformedRecordDataGenerator()
-                .generate(valueList.toArray(new Object[0]));
+        return tableChangeInfo.getPreTransformedRecordDataGenerator().generate(values);
     }
 }
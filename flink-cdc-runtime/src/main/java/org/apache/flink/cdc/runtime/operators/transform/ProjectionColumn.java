@@ -52,6 +52,7 @@ public class ProjectionColumn implements Serializable {
     private final String scriptExpression;
     private final List<String> originalColumnNames;
     private final Map<String, String> columnNameMap;
+    private final boolean deterministic;
 
     public ProjectionColumn(
             Column column,
@@ -59,11 +60,22 @@ public class ProjectionColumn implements Serializable {
             String scriptExpression,
             List<String> originalColumnNames,
             Map<String, String> columnNameMap) {
+        this(column, expression, scriptExpression, originalColumnNames, columnNameMap, true);
+    }
+
+    public ProjectionColumn(
+            Column column,
+            String expression,
+            String scriptExpression,
+            List<String> originalColumnNames,
+            Map<String, String> columnNameMap,
+            boolean deterministic) {
         this.column = column;
         this.expression = expression;
         this.scriptExpression = scriptExpression;
         this.originalColumnNames = originalColumnNames;
         this.columnNameMap = columnNameMap;
+        this.deterministic = deterministic;
     }
 
     public ProjectionColumn copy() {
@@ -72,7 +84,8 @@ public class ProjectionColumn implements Serializable {
                 expression,
                 scriptExpression,
                 new ArrayList<>(originalColumnNames),
-                new HashMap<>(columnNameMap));
+                new HashMap<>(columnNameMap),
+                deterministic);
     }
 
     public Column getColumn() {
@@ -103,6 +116,14 @@ public class ProjectionColumn implements Serializable {
         return columnNameMap;
     }
 
+    /**
+     * Whether the column expression always yields the same result for the same input, that is it
+     * calls no non-deterministic function nor user-defined function.
+     */
+    public boolean isDeterministic() {
+        return deterministic;
+    }
+
     public String getColumnNameMapAsString() {
         return TransformException.prettyPrintColumnNameMap(getColumnNameMap());
     }
@@ -153,12 +174,35 @@ public class ProjectionColumn implements Serializable {
             String scriptExpression,
             List<String> originalColumnNames,
             Map<String, String> columnNameMap) {
+        return ofCalculated(
+                columnName,
+                dataType,
+                expression,
+                scriptExpression,
+                originalColumnNames,
+                columnNameMap,
+                true);
+    }
+
+    /**
+     * Same as {@link #ofCalculated(String, DataType, String, String, List, Map)}, with whether the
+     * calculation expression is deterministic.
+     */
+    public static ProjectionColumn ofCalculated(
+            String columnName,
+            DataType dataType,
+            String expression,
+            String scriptExpression,
+            List<String> originalColumnNames,
+            Map<String, String> columnNameMap,
+            boolean deterministic) {
         return new ProjectionColumn(
                 Column.physicalColumn(columnName, dataType),
                 expression,
                 scriptExpression,
                 originalColumnNames,
-                columnNameMap);
+                columnNameMap,
+                deterministic);
     }
 
     @Override
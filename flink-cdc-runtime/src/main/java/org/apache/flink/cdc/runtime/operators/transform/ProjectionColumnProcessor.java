@@ -30,7 +30,7 @@ import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 
-import static org.apache.flink.cdc.runtime.operators.transform.TransformContext.lookupObjectByName;
+import static org.apache.flink.cdc.runtime.operators.transform.TransformContext.resolveAccessor;
 import static org.apache.flink.cdc.runtime.parser.metadata.MetadataColumns.METADATA_COLUMNS;
 
 /**
@@ -47,6 +47,12 @@ public class ProjectionColumnProcessor {
     private final List<Object> udfFunctionInstances;
     private final ExpressionEvaluator expressionEvaluator;
 
+    /** Accessors of referenced columns, resolved once in the order of expression arguments. */
+    private final TransformContext.FieldAccessor[] fieldAccessors;
+
+    /** Argument array reused across rows, only the columns and epoch time change per row. */
+    private final Object[] params;
+
     public ProjectionColumnProcessor(
             PostTransformChangeInfo tableInfo,
             ProjectionColumn projectionColumn,
@@ -63,6 +69,8 @@ public class ProjectionColumnProcessor {
                 TransformExpressionCompiler.compileExpression(
                         transformExpressionKey, udfDescriptors);
         this.udfFunctionInstances = udfFunctionInstances;
+        this.fieldAccessors = resolveFieldAccessors();
+        this.params = initParams();
     }
 
     public static ProjectionColumnProcessor of(
@@ -100,30 +108,36 @@ public class ProjectionColumnProcessor {
         }
     }
 
-    private Object[] generateParams(Object[] rowData, TransformContext context) {
-        List<Object> params = new ArrayList<>();
-
-        // 1 - Add referenced columns
+    private TransformContext.FieldAccessor[] resolveFieldAccessors() {
         LinkedHashSet<String> originalColumnNames =
                 new LinkedHashSet<>(projectionColumn.getOriginalColumnNames());
-        for (String columnName : originalColumnNames) {
-            params.add(
-                    lookupObjectByName(
-                            columnName,
-                            tableInfo,
-                            supportedMetadataColumns,
-                            rowData,
-                            null,
-                            context));
+        return originalColumnNames.stream()
+                .map(
+                        columnName ->
+                                resolveAccessor(
+                                        columnName, tableInfo, supportedMetadataColumns, false))
+                .toArray(TransformContext.FieldAccessor[]::new);
+    }
+
+    private Object[] initParams() {
+        // Referenced columns, time-sensitive function arguments and UDF function instances
+        Object[] params = new Object[fieldAccessors.length + 2 + udfFunctionInstances.size()];
+        params[fieldAccessors.length] = timezone;
+        for (int i = 0; i < udfFunctionInstances.size(); i++) {
+            params[fieldAccessors.length + 2 + i] = udfFunctionInstances.get(i);
         }
+        return params;
+    }
 
-        // 2 - Add time-sensitive function arguments
-        params.add(timezone);
-        params.add(context.epochTime);
+    private Object[] generateParams(Object[] rowData, TransformContext context) {
+        // 1 - Fill referenced columns
+        for (int i = 0; i < fieldAccessors.length; i++) {
+            params[i] = fieldAccessors[i].read(rowData, null, context);
+        }
 
-        // 3 - Add UDF function instances
-        params.addAll(udfFunctionInstances);
-        return params.toArray();
+        // 2 - Fill epoch time, timezone and UDF function instances are fixed
+        params[fieldAccessors.length + 1] = context.epochTime;
+        return params;
     }
 
     private TransformExpressionKey generateTransformExpressionKey() {
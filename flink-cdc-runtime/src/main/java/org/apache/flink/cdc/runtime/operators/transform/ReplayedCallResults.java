@@ -0,0 +1,98 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.runtime.operators.transform;
+
+import org.apache.flink.cdc.common.udf.AsyncEvaluation;
+
+import javax.annotation.Nullable;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Results of calls of a synchronous UDF made by each row of a micro-batch, while calls of
+ * asynchronous UDFs are collected by {@link AsyncEvaluation}. They are replayed when the row is
+ * evaluated again with results of the asynchronous calls, so that synchronous UDFs are evaluated
+ * once per row. Other calls are delegated to the cache of the UDF if there is one.
+ */
+class ReplayedCallResults implements UserDefinedFunctionCallResults {
+
+    private static final Object NULL = new Object();
+
+    @Nullable private final UserDefinedFunctionCache cache;
+
+    private final List<Map<UserDefinedFunctionCache.Arguments, Object>> rows = new ArrayList<>();
+
+    @Nullable private Map<UserDefinedFunctionCache.Arguments, Object> currentRow;
+
+    ReplayedCallResults(@Nullable UserDefinedFunctionCache cache) {
+        this.cache = cache;
+    }
+
+    /** Records results of calls made by the next row of current micro-batch. */
+    void recordNextRow() {
+        currentRow = new HashMap<>();
+        rows.add(currentRow);
+    }
+
+    /** Replays results of calls made by given row of current micro-batch. */
+    void replayRow(int row) {
+        currentRow = rows.get(row);
+    }
+
+    /** Discards results of calls made by rows of current micro-batch. */
+    void finishMicroBatch() {
+        rows.clear();
+        currentRow = null;
+    }
+
+    @Override
+    public Object get(String overload, Object[] arguments) {
+        if (currentRow != null) {
+            Object result =
+                    currentRow.get(new UserDefinedFunctionCache.Arguments(overload, arguments));
+            if (result != null) {
+                return result == NULL ? null : result;
+            }
+        }
+        if (cache == null) {
+            return UserDefinedFunctionCache.MISSING;
+        }
+        Object result = cache.get(overload, arguments);
+        if (result != UserDefinedFunctionCache.MISSING) {
+            record(overload, arguments, result);
+        }
+        return result;
+    }
+
+    @Override
+    public Object put(String overload, Object[] arguments, @Nullable Object result) {
+        record(overload, arguments, result);
+        return cache == null ? result : cache.put(overload, arguments, result);
+    }
+
+    private void record(String overload, Object[] arguments, @Nullable Object result) {
+        if (currentRow != null) {
+            currentRow.put(
+                    new UserDefinedFunctionCache.Arguments(overload, arguments),
+                    result == null ? NULL : result);
+        }
+    }
+}
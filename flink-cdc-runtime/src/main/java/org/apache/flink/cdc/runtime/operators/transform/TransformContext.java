@@ -34,53 +34,66 @@ public class TransformContext {
     public Map<String, String> meta;
 
     /**
-     * Retrieve a corresponding object based on identifier name. The lookup order would be: <br>
+     * Resolve an identifier name to a {@link FieldAccessor} that retrieves the corresponding
+     * object, so that evaluating a row only reads a value at a precomputed index. The lookup order
+     * would be: <br>
      * 1. Built-in metadata column names; <br>
      * 2. Source-provided metadata column names; <br>
-     * 3. Calculated column names (which may shade original columns); <br>
+     * 3. Calculated column names (which may shade original columns), if a post-transformed row is
+     * provided; <br>
      * 4. Existing upstream column names. <br>
-     * If given name is nowhere to be found, an exception will be thrown.
+     * If given name is nowhere to be found, the accessor throws an exception once evaluated.
      */
-    public static Object lookupObjectByName(
+    public static FieldAccessor resolveAccessor(
             String name,
             PostTransformChangeInfo tableInfo,
             Map<String, SupportedMetadataColumn> supportedMetadataColumns,
-            Object[] preRow,
-            @Nullable Object[] postRow,
-            TransformContext context) {
+            boolean withPostRow) {
         switch (name) {
             case MetadataColumns.DEFAULT_NAMESPACE_NAME:
-                return tableInfo.getNamespace();
+                return constant(tableInfo.getNamespace());
             case MetadataColumns.DEFAULT_SCHEMA_NAME:
-                return tableInfo.getSchemaName();
+                return constant(tableInfo.getSchemaName());
             case MetadataColumns.DEFAULT_TABLE_NAME:
-                return tableInfo.getTableName();
+                return constant(tableInfo.getTableName());
             case MetadataColumns.DEFAULT_DATA_EVENT_TYPE:
-                return context.opType;
+                return (preRow, postRow, context) -> context.opType;
         }
 
-        // or source-provided metadata column
-        if (supportedMetadataColumns.containsKey(name)) {
-            return supportedMetadataColumns.get(name).read(context.meta);
+        SupportedMetadataColumn metadataColumn = supportedMetadataColumns.get(name);
+        if (metadataColumn != null) {
+            return (preRow, postRow, context) -> metadataColumn.read(context.meta);
         }
 
-        if (postRow != null) {
-            // or a column that is presented in post-transform schema
+        if (withPostRow) {
             @Nullable
             Integer indexInPostTransformedSchema =
                     tableInfo.getPostTransformedSchemaFieldIndex(name);
             if (indexInPostTransformedSchema != null) {
-                return postRow[indexInPostTransformedSchema];
+                int index = indexInPostTransformedSchema;
+                return (preRow, postRow, context) -> postRow[index];
             }
         }
 
-        // or a pre-transformed column that has been projected out
         @Nullable
         Integer indexInPreTransformedSchema = tableInfo.getPreTransformedSchemaFieldIndex(name);
         if (indexInPreTransformedSchema != null) {
-            return preRow[indexInPreTransformedSchema];
+            int index = indexInPreTransformedSchema;
+            return (preRow, postRow, context) -> preRow[index];
         }
 
-        throw new RuntimeException("Failed to lookup column name: " + name);
+        return (preRow, postRow, context) -> {
+            throw new RuntimeException("Failed to lookup column name: " + name);
+        };
+    }
+
+    private static FieldAccessor constant(@Nullable Object value) {
+        return (preRow, postRow, context) -> value;
+    }
+
+    /** Reads the value of a resolved identifier from the row being evaluated. */
+    @FunctionalInterface
+    public interface FieldAccessor {
+        Object read(Object[] preRow, @Nullable Object[] postRow, TransformContext context);
     }
 }
@@ -29,13 +29,11 @@ import org.codehaus.janino.ExpressionEvaluator;
 import java.lang.reflect.InvocationTargetException;
 import java.util.ArrayList;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
 
-import static org.apache.flink.cdc.runtime.operators.transform.TransformContext.lookupObjectByName;
+import static org.apache.flink.cdc.runtime.operators.transform.TransformContext.resolveAccessor;
 import static org.apache.flink.cdc.runtime.parser.metadata.MetadataColumns.METADATA_COLUMNS;
 
 /** The processor of the transform filter. It processes the data change event of matched table. */
@@ -51,6 +49,15 @@ public class TransformFilterProcessor {
     private final TransformExpressionKey transformExpressionKey;
     private final ExpressionEvaluator expressionEvaluator;
 
+    /** Accessors of referenced columns, resolved once in the order of expression arguments. */
+    private final TransformContext.FieldAccessor[] fieldAccessors;
+
+    /** Same as {@link #fieldAccessors}, but reading columns from pre-transformed rows only. */
+    private final TransformContext.FieldAccessor[] preFieldAccessors;
+
+    /** Argument array reused across rows, only the columns and epoch time change per row. */
+    private final Object[] params;
+
     protected TransformFilterProcessor(
             boolean isNoOp,
             PostTransformChangeInfo tableInfo,
@@ -69,10 +76,13 @@ public class TransformFilterProcessor {
         if (isNoOp) {
             this.transformExpressionKey = null;
             this.expressionEvaluator = null;
+            this.fieldAccessors = null;
+            this.preFieldAccessors = null;
+            this.params = null;
         } else {
             this.transformExpressionKey =
                     generateTransformExpressionKey(
-                            tableInfo.getPreTransformedSchema().getColumns(),
+                            tableInfo.getFilterVisibleColumns(),
                             udfDescriptors,
                             supportedMetadataColumns
                                     .values()
@@ -80,6 +90,9 @@ public class TransformFilterProcessor {
             this.expressionEvaluator =
                     TransformExpressionCompiler.compileExpression(
                             transformExpressionKey, udfDescriptors);
+            this.fieldAccessors = resolveFieldAccessors(true);
+            this.preFieldAccessors = resolveFieldAccessors(false);
+            this.params = initParams();
         }
     }
 
@@ -110,12 +123,30 @@ public class TransformFilterProcessor {
     }
 
     public boolean test(Object[] preRow, Object[] postRow, TransformContext context) {
+        return test(fieldAccessors, preRow, postRow, context);
+    }
+
+    /**
+     * Tests given pre-transformed row before it's projected. Only applicable if the filter doesn't
+     * refer to any calculated column.
+     */
+    public boolean test(Object[] preRow, TransformContext context) {
+        return test(preFieldAccessors, preRow, null, context);
+    }
+
+    private boolean test(
+            TransformContext.FieldAccessor[] accessors,
+            Object[] preRow,
+            Object[] postRow,
+            TransformContext context) {
         if (isNoOp) {
             return true;
         }
 
         try {
-            return (Boolean) expressionEvaluator.evaluate(generateParams(preRow, postRow, context));
+            return (Boolean)
+                    expressionEvaluator.evaluate(
+                            generateParams(accessors, preRow, postRow, context));
         } catch (InvocationTargetException e) {
             throw new RuntimeException(
                     String.format(
@@ -142,14 +173,7 @@ public class TransformFilterProcessor {
         String expression = transformFilter.getExpression();
 
         // Post-transformed columns comes in priority
-        List<Column> columns = new ArrayList<>(tableInfo.getPostTransformedSchema().getColumns());
-        {
-            Set<String> existingColumnNames =
-                    new HashSet<>(tableInfo.getPostTransformedSchema().getColumnNames());
-            tableInfo.getPreTransformedSchema().getColumns().stream()
-                    .filter(col -> !existingColumnNames.contains(col.getName()))
-                    .forEach(columns::add);
-        }
+        List<Column> columns = tableInfo.getFilterVisibleColumns();
 
         Map<String, String> columnNameMap = transformFilter.getColumnNameMap();
         LinkedHashSet<String> columnNames = new LinkedHashSet<>(transformFilter.getColumnNames());
@@ -186,29 +210,41 @@ public class TransformFilterProcessor {
         return Tuple2.of(argNames, argTypes);
     }
 
-    private Object[] generateParams(Object[] preRow, Object[] postRow, TransformContext context) {
-        List<Object> params = new ArrayList<>();
-
-        // 1 - Add referenced columns
-        Tuple2<List<String>, List<Class<?>>> args = generateArguments(false);
-        for (String columnName : args.f0) {
-            params.add(
-                    lookupObjectByName(
-                            columnName,
-                            tableInfo,
-                            supportedMetadataColumns,
-                            preRow,
-                            postRow,
-                            context));
+    private TransformContext.FieldAccessor[] resolveFieldAccessors(boolean withPostRow) {
+        return generateArguments(false).f0.stream()
+                .map(
+                        columnName ->
+                                resolveAccessor(
+                                        columnName,
+                                        tableInfo,
+                                        supportedMetadataColumns,
+                                        withPostRow))
+                .toArray(TransformContext.FieldAccessor[]::new);
+    }
+
+    private Object[] initParams() {
+        // Referenced columns, time-sensitive function arguments and UDF function instances
+        Object[] params = new Object[fieldAccessors.length + 2 + udfFunctionInstances.size()];
+        params[fieldAccessors.length] = timezone;
+        for (int i = 0; i < udfFunctionInstances.size(); i++) {
+            params[fieldAccessors.length + 2 + i] = udfFunctionInstances.get(i);
         }
+        return params;
+    }
 
-        // 2 - Add time-sensitive function arguments
-        params.add(timezone);
-        params.add(context.epochTime);
+    private Object[] generateParams(
+            TransformContext.FieldAccessor[] accessors,
+            Object[] preRow,
+            Object[] postRow,
+            TransformContext context) {
+        // 1 - Fill referenced columns
+        for (int i = 0; i < accessors.length; i++) {
+            params[i] = accessors[i].read(preRow, postRow, context);
+        }
 
-        // 3 - Add UDF function instances
-        params.addAll(udfFunctionInstances);
-        return params.toArray();
+        // 2 - Fill epoch time, timezone and UDF function instances are fixed
+        params[fieldAccessors.length + 1] = context.epochTime;
+        return params;
     }
 
     private TransformExpressionKey generateTransformExpressionKey(
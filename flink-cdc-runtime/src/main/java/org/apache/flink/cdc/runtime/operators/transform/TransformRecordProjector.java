@@ -0,0 +1,279 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.runtime.operators.transform;
+
+import org.apache.flink.cdc.common.converter.JavaObjectConverter;
+import org.apache.flink.cdc.common.data.RecordData;
+import org.apache.flink.cdc.common.data.binary.BinaryRecordData;
+import org.apache.flink.cdc.common.schema.Schema;
+import org.apache.flink.cdc.common.source.SupportedMetadataColumn;
+import org.apache.flink.cdc.common.types.DataType;
+import org.apache.flink.cdc.runtime.parser.metadata.MetadataColumns;
+import org.apache.flink.cdc.runtime.typeutils.BinaryInternalObjectConverter;
+import org.apache.flink.cdc.runtime.typeutils.BinaryRecordDataGenerator;
+
+import javax.annotation.Nullable;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * Transforms {@link RecordData} of a table with a {@link TransformRuleEvaluator}, without
+ * converting columns that are not referenced by any expression.
+ *
+ * <p>Only columns referenced by calculated columns or by the filter are converted to Java objects
+ * before evaluation. Columns that are forwarded unchanged are copied from the upstream record in
+ * their internal representation, and if the post-transformed schema is identical to the
+ * pre-transformed one, the upstream {@link BinaryRecordData} is emitted as is.
+ *
+ * <p>If the filter refers to no calculated column, it's tested right after converting the columns
+ * it refers to, and rejected records are not projected at all.
+ */
+public class TransformRecordProjector {
+
+    private final PostTransformChangeInfo tableInfo;
+    private final TransformRuleEvaluator ruleEvaluator;
+
+    /** Indexes of pre-transformed columns that have to be converted to Java objects. */
+    private final int[] materializedColumns;
+
+    /** Index of the forwarded pre-transformed column of each projection column, or -1. */
+    private final int[] forwardedColumns;
+
+    /**
+     * Indexes of pre-transformed columns referenced by the filter, or null if the filter refers to
+     * calculated columns and has to be tested after projection.
+     */
+    @Nullable private final int[] filterColumns;
+
+    /** Indexes of materialized columns that are not referenced by the filter. */
+    @Nullable private final int[] projectionOnlyColumns;
+
+    /** Whether every column is forwarded to the same position with the same type. */
+    private final boolean identity;
+
+    public TransformRecordProjector(
+            PostTransformChangeInfo tableInfo,
+            List<ProjectionColumn> projectionColumns,
+            @Nullable TransformFilter filter,
+            SupportedMetadataColumn[] supportedMetadataColumns,
+            TransformRuleEvaluator ruleEvaluator) {
+        this.tableInfo = tableInfo;
+        this.ruleEvaluator = ruleEvaluator;
+
+        Map<String, SupportedMetadataColumn> supportedMetadataColumnsMap = new HashMap<>();
+        for (SupportedMetadataColumn supportedMetadataColumn : supportedMetadataColumns) {
+            supportedMetadataColumnsMap.put(
+                    supportedMetadataColumn.getName(), supportedMetadataColumn);
+        }
+
+        Schema preSchema = tableInfo.getPreTransformedSchema();
+        TreeSet<Integer> materialized = new TreeSet<>();
+        Map<String, Integer> forwardedColumnsByName = new HashMap<>();
+        this.forwardedColumns = new int[projectionColumns.size()];
+        for (int i = 0; i < projectionColumns.size(); i++) {
+            ProjectionColumn projectionColumn = projectionColumns.get(i);
+            forwardedColumns[i] = getForwardedColumn(projectionColumn, supportedMetadataColumnsMap);
+            if (forwardedColumns[i] >= 0) {
+                forwardedColumnsByName.put(projectionColumn.getColumnName(), forwardedColumns[i]);
+            } else {
+                for (String name : projectionColumn.getOriginalColumnNames()) {
+                    addPreTransformedColumn(name, supportedMetadataColumnsMap, materialized);
+                }
+            }
+        }
+        TreeSet<Integer> filterColumns = filter != null ? new TreeSet<>() : null;
+        if (filter != null) {
+            for (String name : filter.getColumnNames()) {
+                if (filterColumns != null && !isMetadataColumn(name, supportedMetadataColumnsMap)) {
+                    Integer postIndex = tableInfo.getPostTransformedSchemaFieldIndex(name);
+                    Integer preIndex = tableInfo.getPreTransformedSchemaFieldIndex(name);
+                    if (postIndex != null
+                            && (preIndex == null
+                                    || !preIndex.equals(forwardedColumnsByName.get(name)))) {
+                        // refers to a calculated or renamed column
+                        filterColumns = null;
+                    } else if (preIndex != null) {
+                        filterColumns.add(preIndex);
+                    }
+                }
+                if (forwardedColumnsByName.containsKey(name)
+                        && !isMetadataColumn(name, supportedMetadataColumnsMap)) {
+                    materialized.add(forwardedColumnsByName.get(name));
+                } else {
+                    // Calculated columns' references have been added above
+                    addPreTransformedColumn(name, supportedMetadataColumnsMap, materialized);
+                }
+            }
+        }
+        this.materializedColumns = materialized.stream().mapToInt(Integer::intValue).toArray();
+        if (filterColumns != null) {
+            this.filterColumns = filterColumns.stream().mapToInt(Integer::intValue).toArray();
+            materialized.removeAll(filterColumns);
+            this.projectionOnlyColumns =
+                    materialized.stream().mapToInt(Integer::intValue).toArray();
+        } else {
+            this.filterColumns = null;
+            this.projectionOnlyColumns = null;
+        }
+
+        boolean identity =
+                projectionColumns.size() == preSchema.getColumnCount()
+                        && tableInfo.getPostTransformedSchema().getColumnCount()
+                                == preSchema.getColumnCount();
+        for (int i = 0; identity && i < forwardedColumns.length; i++) {
+            identity =
+                    forwardedColumns[i] == i
+                            && isSameType(
+                                    preSchema.getColumnDataTypes().get(i),
+                                    tableInfo
+                                            .getPostTransformedSchema()
+                                            .getColumnDataTypes()
+                                            .get(i));
+        }
+        this.identity = identity;
+    }
+
+    /**
+     * Transforms given record. Returns null if the filter is tested and the record doesn't pass it.
+     */
+    @Nullable
+    public BinaryRecordData transform(
+            RecordData recordData, TransformContext context, boolean testFilter) {
+        RecordData.FieldGetter[] preFieldGetters = tableInfo.getPreTransformedFieldGetters();
+        Object[] preRow = new Object[preFieldGetters.length];
+
+        Object[] postRow;
+        if (testFilter && filterColumns != null) {
+            materialize(recordData, preRow, filterColumns);
+            if (!ruleEvaluator.test(preRow, context)) {
+                return null;
+            }
+            if (identity && recordData instanceof BinaryRecordData) {
+                return (BinaryRecordData) recordData;
+            }
+            materialize(recordData, preRow, projectionOnlyColumns);
+            postRow = ruleEvaluator.project(preRow, context);
+        } else {
+            materialize(recordData, preRow, materializedColumns);
+            postRow =
+                    testFilter
+                            ? ruleEvaluator.filterAndProject(preRow, context)
+                            : ruleEvaluator.project(preRow, context);
+            if (postRow == null) {
+                return null;
+            }
+            if (identity && recordData instanceof BinaryRecordData) {
+                return (BinaryRecordData) recordData;
+            }
+        }
+
+        Schema postSchema = tableInfo.getPostTransformedSchema();
+        BinaryRecordDataGenerator postGenerator = tableInfo.getPostTransformedRecordDataGenerator();
+        Object[] postRowBinary = new Object[postSchema.getColumnCount()];
+        for (int i = 0; i < postRow.length; i++) {
+            if (forwardedColumns[i] >= 0) {
+                postRowBinary[i] = preFieldGetters[forwardedColumns[i]].getFieldOrNull(recordData);
+            } else {
+                postRowBinary[i] =
+                        BinaryInternalObjectConverter.convertToInternal(
+                                postRow[i], postSchema.getColumnDataTypes().get(i));
+            }
+        }
+        return postGenerator.generate(postRowBinary);
+    }
+
+    private void materialize(RecordData recordData, Object[] preRow, int[] columns) {
+        RecordData.FieldGetter[] preFieldGetters = tableInfo.getPreTransformedFieldGetters();
+        List<DataType> preDataTypes = tableInfo.getPreTransformedSchema().getColumnDataTypes();
+        for (int i : columns) {
+            preRow[i] =
+                    JavaObjectConverter.convertToJava(
+                            preFieldGetters[i].getFieldOrNull(recordData), preDataTypes.get(i));
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "TransformRecordProjector{"
+                + "materializedColumns="
+                + Arrays.toString(materializedColumns)
+                + ", filterColumns="
+                + Arrays.toString(filterColumns)
+                + ", forwardedColumns="
+                + Arrays.toString(forwardedColumns)
+                + ", identity="
+                + identity
+                + '}';
+    }
+
+    /**
+     * Returns the index of the pre-transformed column if given projection column simply forwards it
+     * without changing its type, otherwise -1.
+     */
+    private int getForwardedColumn(
+            ProjectionColumn projectionColumn,
+            Map<String, SupportedMetadataColumn> supportedMetadataColumns) {
+        List<String> originalColumnNames = projectionColumn.getOriginalColumnNames();
+        if (originalColumnNames.size() != 1) {
+            return -1;
+        }
+        String name = originalColumnNames.get(0);
+        if (isMetadataColumn(name, supportedMetadataColumns)
+                || !projectionColumn
+                        .getScriptExpression()
+                        .equals(projectionColumn.getColumnNameMap().get(name))) {
+            return -1;
+        }
+        Integer index = tableInfo.getPreTransformedSchemaFieldIndex(name);
+        if (index == null
+                || !isSameType(
+                        tableInfo.getPreTransformedSchema().getColumnDataTypes().get(index),
+                        projectionColumn.getDataType())) {
+            return -1;
+        }
+        return index;
+    }
+
+    private void addPreTransformedColumn(
+            String name,
+            Map<String, SupportedMetadataColumn> supportedMetadataColumns,
+            TreeSet<Integer> materialized) {
+        if (isMetadataColumn(name, supportedMetadataColumns)) {
+            return;
+        }
+        Integer index = tableInfo.getPreTransformedSchemaFieldIndex(name);
+        if (index != null) {
+            materialized.add(index);
+        }
+    }
+
+    private static boolean isMetadataColumn(
+            String name, Map<String, SupportedMetadataColumn> supportedMetadataColumns) {
+        return MetadataColumns.METADATA_COLUMNS.stream().anyMatch(col -> col.f0.equals(name))
+                || supportedMetadataColumns.containsKey(name);
+    }
+
+    /** Nullability doesn't affect the binary representation. */
+    private static boolean isSameType(DataType left, DataType right) {
+        return left.nullable().equals(right.nullable());
+    }
+}
@@ -0,0 +1,626 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.runtime.operators.transform;
+
+import org.apache.flink.api.java.tuple.Tuple3;
+import org.apache.flink.cdc.common.annotation.VisibleForTesting;
+import org.apache.flink.cdc.common.converter.JavaClassConverter;
+import org.apache.flink.cdc.common.source.SupportedMetadataColumn;
+import org.apache.flink.cdc.common.types.DataType;
+import org.apache.flink.cdc.runtime.parser.JaninoCompiler;
+import org.apache.flink.cdc.runtime.parser.TransformParser;
+import org.apache.flink.util.FlinkRuntimeException;
+
+import org.apache.flink.shaded.guava31.com.google.common.cache.Cache;
+import org.apache.flink.shaded.guava31.com.google.common.cache.CacheBuilder;
+
+import org.codehaus.janino.ClassBodyEvaluator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.Nullable;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+
+import static org.apache.flink.cdc.runtime.parser.metadata.MetadataColumns.METADATA_COLUMNS;
+
+/**
+ * Compiles a whole transform rule into one {@link TransformRuleEvaluator} class, instead of
+ * compiling every projection column and the filter into its own {@link
+ * org.codehaus.janino.ExpressionEvaluator} that has to be invoked reflectively.
+ *
+ * <p>The generated class reads referenced columns into typed local variables once per row,
+ * evaluates the filter before any projection column it doesn't depend on, and calls all expressions
+ * directly. A calculated column that appears as a sub-expression of a later column or of the filter
+ * is evaluated only once and then referred to by its local variable.
+ */
+public class TransformRuleCompiler {
+
+    private static final Logger LOG = LoggerFactory.getLogger(TransformRuleCompiler.class);
+
+    private static final String GENERATED_CLASS_NAME = "GeneratedTransformRule";
+    private static final String INPUT_PREFIX = "__in";
+    private static final String COLUMN_PREFIX = "__col";
+    private static final String UDF_INSTANCE_PREFIX = "__instanceOf";
+
+    private static final Pattern INVOCATION_PREFIX = Pattern.compile("^[A-Za-z_][\\w$]*\\(");
+
+    static final Cache<String, Class<?>> COMPILED_RULE_CACHE =
+            CacheBuilder.newBuilder().softValues().build();
+
+    /** Triggers internal garbage collection of expired cache entries. */
+    public static void cleanUp() {
+        // See TransformExpressionCompiler#cleanUp for why #invalidateAll is used here.
+        COMPILED_RULE_CACHE.invalidateAll();
+    }
+
+    /** Compiles projection columns and filter of a transform rule applied to given table. */
+    public static TransformRuleEvaluator compile(
+            PostTransformChangeInfo tableInfo,
+            List<ProjectionColumn> projectionColumns,
+            @Nullable TransformFilter filter,
+            String timezone,
+            List<UserDefinedFunctionDescriptor> udfDescriptors,
+            List<Object> udfFunctionInstances,
+            SupportedMetadataColumn[] supportedMetadataColumns) {
+        try {
+            CodeGenerator generator =
+                    new CodeGenerator(
+                            tableInfo,
+                            projectionColumns,
+                            filter,
+                            udfDescriptors,
+                            supportedMetadataColumns);
+            String code = generator.generate();
+            Class<?> clazz = COMPILED_RULE_CACHE.get(code, () -> cook(code));
+            GeneratedTransformRuleEvaluator evaluator =
+                    (GeneratedTransformRuleEvaluator) clazz.getDeclaredConstructor().newInstance();
+            evaluator.initialize(
+                    tableInfo.getName(),
+                    projectionColumns,
+                    filter,
+                    generator.filterScriptExpression,
+                    timezone,
+                    generator.accessors.toArray(new TransformContext.FieldAccessor[0]),
+                    udfFunctionInstances.toArray());
+            return evaluator;
+        } catch (Exception e) {
+            throw new FlinkRuntimeException(
+                    "Failed to compile transform rule for table " + tableInfo.getName(), e);
+        }
+    }
+
+    private static Class<?> cook(String code) throws Exception {
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Going to compile transform rule:\n{}", code);
+        }
+        ClassBodyEvaluator classBodyEvaluator = new ClassBodyEvaluator();
+        classBodyEvaluator.setClassName(GENERATED_CLASS_NAME);
+        classBodyEvaluator.setExtendedClass(GeneratedTransformRuleEvaluator.class);
+        classBodyEvaluator.cook(code);
+        return classBodyEvaluator.getClazz();
+    }
+
+    /** Generates the class body of a transform rule. */
+    private static class CodeGenerator {
+
+        private final PostTransformChangeInfo tableInfo;
+        private final List<ProjectionColumn> projectionColumns;
+        @Nullable private final TransformFilter filter;
+        private final List<UserDefinedFunctionDescriptor> udfDescriptors;
+        private final SupportedMetadataColumn[] supportedMetadataColumns;
+        private final Map<String, SupportedMetadataColumn> supportedMetadataColumnsMap;
+
+        private final Map<String, String> inputVariables = new HashMap<>();
+        private final List<String> inputDeclarations = new ArrayList<>();
+        private final List<TransformContext.FieldAccessor> accessors = new ArrayList<>();
+
+        private final String[] columnExpressions;
+        private final List<Set<Integer>> columnDependencies;
+        @Nullable private String filterScriptExpression;
+        @Nullable private String filterExpression;
+        private final Set<Integer> filterDependencies = new TreeSet<>();
+
+        private CodeGenerator(
+                PostTransformChangeInfo tableInfo,
+                List<ProjectionColumn> projectionColumns,
+                @Nullable TransformFilter filter,
+                List<UserDefinedFunctionDescriptor> udfDescriptors,
+                SupportedMetadataColumn[] supportedMetadataColumns) {
+            this.tableInfo = tableInfo;
+            this.projectionColumns = projectionColumns;
+            this.filter = filter;
+            this.udfDescriptors = udfDescriptors;
+            this.supportedMetadataColumns = supportedMetadataColumns;
+            this.supportedMetadataColumnsMap = new HashMap<>();
+            for (SupportedMetadataColumn supportedMetadataColumn : supportedMetadataColumns) {
+                supportedMetadataColumnsMap.put(
+                        supportedMetadataColumn.getName(), supportedMetadataColumn);
+            }
+            this.columnExpressions = new String[projectionColumns.size()];
+            this.columnDependencies = new ArrayList<>();
+        }
+
+        private String generate() throws ClassNotFoundException {
+            bindProjectionColumns();
+            bindFilter();
+            eliminateCommonSubexpressions();
+
+            StringBuilder code = new StringBuilder(JaninoCompiler.LOAD_MODULES_EXPRESSION);
+            code.append('\n');
+            generateUdfFunctionInstances(code);
+            generateProject(code);
+            generateFilterAndProject(code);
+            generateTest(code);
+            return code.toString();
+        }
+
+        // -------------------
+        // Binding identifiers to local variables.
+        // -------------------
+
+        private void bindProjectionColumns() {
+            for (ProjectionColumn projectionColumn : projectionColumns) {
+                Map<String, String> mappedToOriginal = invert(projectionColumn.getColumnNameMap());
+                columnExpressions[columnDependencies.size()] =
+                        renameMappedColumnNames(
+                                projectionColumn.getScriptExpression(),
+                                mapped -> bindInput(mappedToOriginal.get(mapped)));
+                columnDependencies.add(new TreeSet<>());
+            }
+        }
+
+        private void bindFilter() {
+            if (filter == null) {
+                return;
+            }
+            filterScriptExpression =
+                    TransformParser.translateFilterExpressionToJaninoExpression(
+                            filter.getExpression(),
+                            tableInfo.getFilterVisibleColumns(),
+                            udfDescriptors,
+                            supportedMetadataColumns,
+                            filter.getColumnNameMap());
+            Map<String, Integer> columnIndexes = new HashMap<>();
+            for (int i = 0; i < projectionColumns.size(); i++) {
+                columnIndexes.put(projectionColumns.get(i).getColumnName(), i);
+            }
+
+            // Same lookup order as TransformContext#resolveAccessor, except that calculated
+            // columns are referred to by their local variables.
+            Map<String, String> mappedToOriginal = invert(filter.getColumnNameMap());
+            filterExpression =
+                    renameMappedColumnNames(
+                            filterScriptExpression,
+                            mapped -> {
+                                String name = mappedToOriginal.get(mapped);
+                                if (!isMetadataColumn(name) && columnIndexes.containsKey(name)) {
+                                    int index = columnIndexes.get(name);
+                                    filterDependencies.add(index);
+                                    return COLUMN_PREFIX + index;
+                                }
+                                return bindInput(name);
+                            });
+        }
+
+        private String bindInput(@Nullable String name) {
+            if (name == null) {
+                throw new IllegalArgumentException("Failed to lookup mapped column name.");
+            }
+            String variable = inputVariables.get(name);
+            if (variable != null) {
+                return variable;
+            }
+            int index = accessors.size();
+            variable = INPUT_PREFIX + index;
+
+            Class<?> type = null;
+            for (Tuple3<String, DataType, Class<?>> metadataColumn : METADATA_COLUMNS) {
+                if (metadataColumn.f0.equals(name)) {
+                    type = metadataColumn.f2;
+                }
+            }
+            if (type == null && supportedMetadataColumnsMap.containsKey(name)) {
+                type = supportedMetadataColumnsMap.get(name).getJavaClass();
+            }
+
+            String value;
+            if (type != null) {
+                accessors.add(
+                        TransformContext.resolveAccessor(
+                                name, tableInfo, supportedMetadataColumnsMap, false));
+                value = "accessors[" + index + "].read(preRow, null, context)";
+            } else {
+                Integer preIndex = tableInfo.getPreTransformedSchemaFieldIndex(name);
+                if (preIndex == null) {
+                    throw new IllegalArgumentException("Failed to lookup column name: " + name);
+                }
+                type =
+                        JavaClassConverter.toJavaClass(
+                                tableInfo
+                                        .getPreTransformedSchema()
+                                        .getColumnDataTypes()
+                                        .get(preIndex));
+                accessors.add(null);
+                value = "preRow[" + preIndex + "]";
+            }
+
+            String typeName = typeName(type);
+            inputDeclarations.add(
+                    String.format("final %s %s = (%s) %s;", typeName, variable, typeName, value));
+            inputVariables.put(name, variable);
+            return variable;
+        }
+
+        private boolean isMetadataColumn(String name) {
+            return METADATA_COLUMNS.stream().anyMatch(col -> col.f0.equals(name))
+                    || supportedMetadataColumnsMap.containsKey(name);
+        }
+
+        // -------------------
+        // Common sub-expression elimination.
+        // -------------------
+
+        /**
+         * Replaces occurrences of a calculated column's expression in later columns and in the
+         * filter with the column's local variable. Only earlier columns are substituted, so that
+         * columns are still evaluated in their declared order and no cyclic dependency arises.
+         */
+        private void eliminateCommonSubexpressions() {
+            String[] originalExpressions = columnExpressions.clone();
+            List<Integer> candidates = new ArrayList<>();
+            for (int i = 0; i < originalExpressions.length; i++) {
+                if (projectionColumns.get(i).isDeterministic()
+                        && isShareable(originalExpressions[i])) {
+                    candidates.add(i);
+                }
+            }
+            // Longer expressions first, so that nested candidates are not substituted partially.
+            candidates.sort(
+                    Comparator.comparingInt((Integer i) -> originalExpressions[i].length())
+                            .reversed()
+                            .thenComparing(Comparator.naturalOrder()));
+
+            for (int j = 0; j < columnExpressions.length; j++) {
+                for (int i : candidates) {
+                    if (i >= j) {
+                        continue;
+                    }
+                    String replaced =
+                            replaceSubexpression(
+                                    columnExpressions[j],
+                                    originalExpressions[i],
+                                    COLUMN_PREFIX + i);
+                    if (!replaced.equals(columnExpressions[j])) {
+                        columnExpressions[j] = replaced;
+                        columnDependencies.get(j).add(i);
+                    }
+                }
+            }
+
+            if (filterExpression != null) {
+                for (int i : candidates) {
+                    String replaced =
+                            replaceSubexpression(
+                                    filterExpression, originalExpressions[i], COLUMN_PREFIX + i);
+                    if (!replaced.equals(filterExpression)) {
+                        filterExpression = replaced;
+                        filterDependencies.add(i);
+                    }
+                }
+            }
+        }
+
+        // -------------------
+        // Code generation.
+        // -------------------
+
+        private void generateUdfFunctionInstances(StringBuilder code)
+                throws ClassNotFoundException {
+            StringBuilder binding = new StringBuilder();
+            for (int i = 0; i < udfDescriptors.size(); i++) {
+                UserDefinedFunctionDescriptor udf = udfDescriptors.get(i);
+                String typeName = typeName(Class.forName(udf.getClasspath()));
+                String field = UDF_INSTANCE_PREFIX + udf.getClassName();
+                code.append(String.format("private %s %s;\n", typeName, field));
+                binding.append(
+                        String.format(
+                                "    %s = (%s) udfFunctionInstances[%d];\n", field, typeName, i));
+            }
+            code.append("protected void bindUdfFunctionInstances() {\n")
+                    .append(binding)
+                    .append("}\n");
+        }
+
+        private void generateProject(StringBuilder code) {
+            code.append(
+                    "public Object[] project(Object[] preRow, "
+                            + TransformContext.class.getCanonicalName()
+                            + " context) {\n");
+            generatePrologue(code);
+            for (int i = 0; i < columnExpressions.length; i++) {
+                generateColumn(code, i);
+            }
+            generateResult(code);
+            code.append("}\n");
+        }
+
+        private void generateFilterAndProject(StringBuilder code) {
+            code.append(
+                    "public Object[] filterAndProject(Object[] preRow, "
+                            + TransformContext.class.getCanonicalName()
+                            + " context) {\n");
+            if (filterExpression == null) {
+                code.append("    return project(preRow, context);\n}\n");
+                return;
+            }
+            generatePrologue(code);
+
+            // Only calculate columns that the filter depends on before testing it
+            Set<Integer> evaluated = new TreeSet<>();
+            for (int i : filterDependencies) {
+                collectDependencies(i, evaluated);
+            }
+            for (int i : evaluated) {
+                generateColumn(code, i);
+            }
+            code.append("    Boolean __passed = null;\n")
+                    .append("    try {\n")
+                    .append("        __passed = ")
+                    .append(filterExpression)
+                    .append(";\n")
+                    .append("    } catch (Exception e) {\n")
+                    .append("        throw filterFailure(e);\n")
+                    .append("    }\n")
+                    .append("    if (!__passed) {\n")
+                    .append("        return null;\n")
+                    .append("    }\n");
+            for (int i = 0; i < columnExpressions.length; i++) {
+                if (!evaluated.contains(i)) {
+                    generateColumn(code, i);
+                }
+            }
+            generateResult(code);
+            code.append("}\n");
+        }
+
+        private void generateTest(StringBuilder code) {
+            code.append(
+                    "public boolean test(Object[] preRow, "
+                            + TransformContext.class.getCanonicalName()
+                            + " context) {\n");
+            if (filterExpression == null) {
+                code.append("    return true;\n}\n");
+                return;
+            }
+            generatePrologue(code);
+            Set<Integer> evaluated = new TreeSet<>();
+            for (int i : filterDependencies) {
+                collectDependencies(i, evaluated);
+            }
+            for (int i : evaluated) {
+                generateColumn(code, i);
+            }
+            code.append("    try {\n")
+                    .append("        return ")
+                    .append(filterExpression)
+                    .append(";\n")
+                    .append("    } catch (Exception e) {\n")
+                    .append("        throw filterFailure(e);\n")
+                    .append("    }\n")
+                    .append("}\n");
+        }
+
+        private void collectDependencies(int column, Set<Integer> collected) {
+            if (collected.add(column)) {
+                for (int dependency : columnDependencies.get(column)) {
+                    collectDependencies(dependency, collected);
+                }
+            }
+        }
+
+        private void generatePrologue(StringBuilder code) {
+            for (String inputDeclaration : inputDeclarations) {
+                code.append("    ").append(inputDeclaration).append('\n');
+            }
+            code.append("    final String ")
+                    .append(JaninoCompiler.DEFAULT_TIME_ZONE)
+                    .append(" = timezone;\n");
+            code.append("    final Long ")
+                    .append(JaninoCompiler.DEFAULT_EPOCH_TIME)
+                    .append(" = context.epochTime;\n");
+            for (int i = 0; i < projectionColumns.size(); i++) {
+                code.append("    ")
+                        .append(typeName(projectionColumns.get(i).getDataType()))
+                        .append(' ')
+                        .append(COLUMN_PREFIX)
+                        .append(i)
+                        .append(" = null;\n");
+            }
+        }
+
+        private void generateColumn(StringBuilder code, int i) {
+            String assignment = COLUMN_PREFIX + i + " = " + columnExpressions[i] + ";\n";
+            if (inputVariables.containsValue(columnExpressions[i])) {
+                // Forwarded columns can't fail
+                code.append("    ").append(assignment);
+                return;
+            }
+            code.append("    try {\n")
+                    .append("        ")
+                    .append(assignment)
+                    .append("    } catch (Exception e) {\n")
+                    .append("        throw projectionFailure(")
+                    .append(i)
+                    .append(", e);\n")
+                    .append("    }\n");
+        }
+
+        private void generateResult(StringBuilder code) {
+            code.append("    return new Object[] {");
+            for (int i = 0; i < projectionColumns.size(); i++) {
+                code.append(i == 0 ? "" : ", ").append(COLUMN_PREFIX).append(i);
+            }
+            code.append("};\n");
+        }
+
+        private static String typeName(DataType dataType) {
+            return typeName(JavaClassConverter.toJavaClass(dataType));
+        }
+
+        private static String typeName(Class<?> clazz) {
+            String canonicalName = clazz.getCanonicalName();
+            if (canonicalName == null) {
+                throw new IllegalArgumentException(
+                        "Class " + clazz.getName() + " can't be referred to in generated code.");
+            }
+            return canonicalName;
+        }
+
+        private static Map<String, String> invert(Map<String, String> map) {
+            Map<String, String> inverted = new HashMap<>();
+            map.forEach((key, value) -> inverted.put(value, key));
+            return inverted;
+        }
+    }
+
+    // -------------------
+    // Utilities for manipulating compiled Janino expressions.
+    // -------------------
+
+    /**
+     * Replaces mapped column names like {@code $0} that {@link TransformParser} assigns to
+     * referenced columns of each expression. String literals are left untouched.
+     */
+    @VisibleForTesting
+    static String renameMappedColumnNames(String expression, Function<String, String> renamer) {
+        StringBuilder renamed = new StringBuilder(expression.length());
+        int length = expression.length();
+        int i = 0;
+        while (i < length) {
+            char c = expression.charAt(i);
+            if (c == '"') {
+                int end = skipStringLiteral(expression, i);
+                renamed.append(expression, i, end);
+                i = end;
+            } else if (c == '$' && !isIdentifierPart(expression, i - 1)) {
+                int end = i + 1;
+                while (end < length && Character.isDigit(expression.charAt(end))) {
+                    end++;
+                }
+                if (end > i + 1 && !isIdentifierPart(expression, end)) {
+                    renamed.append(renamer.apply(expression.substring(i, end)));
+                } else {
+                    renamed.append(expression, i, end);
+                }
+                i = end;
+            } else {
+                renamed.append(c);
+                i++;
+            }
+        }
+        return renamed.toString();
+    }
+
+    /**
+     * Replaces every occurrence of given sub-expression, which has to be a method invocation, with
+     * the replacement. Occurrences inside string literals or qualified by another expression are
+     * ignored.
+     */
+    @VisibleForTesting
+    static String replaceSubexpression(
+            String expression, String subexpression, String replacement) {
+        StringBuilder replaced = new StringBuilder(expression.length());
+        int length = expression.length();
+        int i = 0;
+        while (i < length) {
+            char c = expression.charAt(i);
+            if (c == '"') {
+                int end = skipStringLiteral(expression, i);
+                replaced.append(expression, i, end);
+                i = end;
+            } else if (expression.startsWith(subexpression, i)
+                    && !isIdentifierPart(expression, i - 1)
+                    && (i == 0 || expression.charAt(i - 1) != '.')) {
+                replaced.append(replacement);
+                i += subexpression.length();
+            } else {
+                replaced.append(c);
+                i++;
+            }
+        }
+        return replaced.toString();
+    }
+
+    /**
+     * Whether given expression could be shared with other expressions syntactically, that is a
+     * method invocation whose arguments are all enclosed by its own parentheses. Whether it is
+     * deterministic is decided by {@link ProjectionColumn#isDeterministic()}.
+     */
+    @VisibleForTesting
+    static boolean isShareable(String expression) {
+        if (!INVOCATION_PREFIX.matcher(expression).find()) {
+            return false;
+        }
+        int depth = 0;
+        int i = expression.indexOf('(');
+        while (i < expression.length()) {
+            char c = expression.charAt(i);
+            if (c == '"') {
+                i = skipStringLiteral(expression, i);
+                continue;
+            }
+            if (c == '(') {
+                depth++;
+            } else if (c == ')' && --depth == 0) {
+                return i == expression.length() - 1;
+            }
+            i++;
+        }
+        return false;
+    }
+
+    private static int skipStringLiteral(String expression, int start) {
+        int i = start + 1;
+        while (i < expression.length()) {
+            char c = expression.charAt(i);
+            if (c == '\\') {
+                i += 2;
+            } else if (c == '"') {
+                return i + 1;
+            } else {
+                i++;
+            }
+        }
+        return expression.length();
+    }
+
+    private static boolean isIdentifierPart(String expression, int index) {
+        return index >= 0
+                && index < expression.length()
+                && Character.isJavaIdentifierPart(expression.charAt(index));
+    }
+}
@@ -0,0 +1,50 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.runtime.operators.transform;
+
+import javax.annotation.Nullable;
+
+/**
+ * Evaluates a whole transform rule, that is the projection columns and the filter of a {@link
+ * PostTransformer}, against the rows of a table.
+ *
+ * <p>Rows are passed in and out in their Java representation, see {@link
+ * org.apache.flink.cdc.common.converter.JavaObjectConverter}.
+ */
+public interface TransformRuleEvaluator {
+
+    /** Evaluates the projection columns of given pre-transformed row, ignoring the filter. */
+    Object[] project(Object[] preRow, TransformContext context);
+
+    /**
+     * Evaluates the filter of given pre-transformed row first, and only evaluates the projection
+     * columns if it passes.
+     *
+     * @return the projected row, or null if the row has been filtered out
+     */
+    @Nullable
+    Object[] filterAndProject(Object[] preRow, TransformContext context);
+
+    /**
+     * Evaluates the filter of given pre-transformed row without evaluating any projection column.
+     * It's only called if the filter refers to pre-transformed columns and metadata columns only,
+     * so that referred columns forwarded by the projection could be read from the pre-transformed
+     * row as well.
+     */
+    boolean test(Object[] preRow, TransformContext context);
+}
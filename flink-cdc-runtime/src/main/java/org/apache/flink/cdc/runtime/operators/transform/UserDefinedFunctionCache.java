@@ -0,0 +1,307 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.runtime.operators.transform;
+
+import org.apache.flink.cdc.common.configuration.ConfigOption;
+import org.apache.flink.cdc.common.configuration.ConfigOptions;
+import org.apache.flink.cdc.common.udf.AsyncEvaluation;
+import org.apache.flink.cdc.common.udf.UserDefinedFunction;
+import org.apache.flink.metrics.Counter;
+import org.apache.flink.metrics.MetricGroup;
+
+import org.apache.flink.shaded.guava31.com.google.common.cache.Cache;
+import org.apache.flink.shaded.guava31.com.google.common.cache.CacheBuilder;
+
+import org.codehaus.janino.ClassBodyEvaluator;
+
+import javax.annotation.Nullable;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.time.Duration;
+import java.util.Arrays;
+
+/**
+ * A bounded cache of results of a deterministic {@link UserDefinedFunction}, keyed by the called
+ * {@code eval} overload and the arguments of calls. Calls are intercepted by a generated subclass
+ * of the UDF, whose {@code eval} methods take results from the cache before evaluating them.
+ *
+ * <p>Results of an asynchronous UDF are absent while its calls are collected by {@link
+ * AsyncEvaluation}, so they are neither cached nor counted until the calls are made again with
+ * their results.
+ */
+public class UserDefinedFunctionCache implements UserDefinedFunctionCallResults {
+
+    public static final ConfigOption<Integer> CACHE_MAX_SIZE =
+            ConfigOptions.key("cache.max-size")
+                    .intType()
+                    .defaultValue(0)
+                    .withDescription(
+                            "Maximum number of cached results of a deterministic UDF. Results are not cached if it's not positive.");
+
+    public static final ConfigOption<Duration> CACHE_TTL =
+            ConfigOptions.key("cache.ttl")
+                    .durationType()
+                    .noDefaultValue()
+                    .withDescription(
+                            "Time after which cached results of a UDF expire. Results never expire if it's not set.");
+
+    /** Number of calls whose results are taken from the cache. */
+    public static final String NUM_CACHE_HITS = "numCacheHits";
+
+    /** Number of calls whose results are evaluated. */
+    public static final String NUM_CACHE_MISSES = "numCacheMisses";
+
+    /** Ratio of calls whose results are taken from the cache. */
+    public static final String CACHE_HIT_RATE = "cacheHitRate";
+
+    /** Number of cached results. */
+    public static final String CACHE_SIZE = "cacheSize";
+
+    /** Returned by {@link #get} if there's no cached result for given arguments. */
+    public static final Object MISSING = new Object();
+
+    private static final Object NULL = new Object();
+
+    private static final String GENERATED_CLASS_NAME = "CachedUserDefinedFunction";
+
+    private final Cache<Arguments, Object> cache;
+    private final Counter hits;
+    private final Counter misses;
+    private final boolean asynchronous;
+
+    public UserDefinedFunctionCache(int maxSize, @Nullable Duration ttl, MetricGroup metricGroup) {
+        this(maxSize, ttl, metricGroup, false);
+    }
+
+    public UserDefinedFunctionCache(
+            int maxSize, @Nullable Duration ttl, MetricGroup metricGroup, boolean asynchronous) {
+        CacheBuilder<Object, Object> builder = CacheBuilder.newBuilder().maximumSize(maxSize);
+        if (ttl != null) {
+            builder.expireAfterWrite(ttl);
+        }
+        this.cache = builder.build();
+        this.hits = metricGroup.counter(NUM_CACHE_HITS);
+        this.misses = metricGroup.counter(NUM_CACHE_MISSES);
+        this.asynchronous = asynchronous;
+        metricGroup.gauge(CACHE_HIT_RATE, this::getHitRate);
+        metricGroup.gauge(CACHE_SIZE, cache::size);
+    }
+
+    /**
+     * Returns the cached result of given arguments passed to given overload, or {@link #MISSING} if
+     * it's absent.
+     */
+    @Override
+    public Object get(String overload, Object[] arguments) {
+        Object result = cache.getIfPresent(new Arguments(overload, arguments));
+        // Calls collected for asynchronous evaluation will be made again with their results
+        if (!isCollectingAsynchronousCalls()) {
+            if (result == null) {
+                misses.inc();
+            } else {
+                hits.inc();
+            }
+        }
+        if (result == null) {
+            return MISSING;
+        }
+        return result == NULL ? null : result;
+    }
+
+    /** Caches the result of given arguments passed to given overload and returns it. */
+    @Override
+    public Object put(String overload, Object[] arguments, @Nullable Object result) {
+        // Results are absent while collecting calls for asynchronous evaluation
+        if (!isCollectingAsynchronousCalls()) {
+            cache.put(new Arguments(overload, arguments), result == null ? NULL : result);
+        }
+        return result;
+    }
+
+    private boolean isCollectingAsynchronousCalls() {
+        return asynchronous && AsyncEvaluation.isCollecting();
+    }
+
+    public double getHitRate() {
+        long total = hits.getCount() + misses.getCount();
+        return total == 0 ? 0.0 : (double) hits.getCount() / total;
+    }
+
+    /**
+     * Instantiates a generated subclass of given UDF class, whose {@code eval} methods take results
+     * from given cache. Final {@code eval} methods are not intercepted.
+     */
+    public static Object createCachedInstance(
+            Class<?> udfClass, UserDefinedFunctionCallResults cache) throws Exception {
+        if (!Modifier.isPublic(udfClass.getModifiers())
+                || Modifier.isFinal(udfClass.getModifiers())) {
+            throw new IllegalArgumentException(
+                    "UDF class " + udfClass.getName() + " should be public and non-final.");
+        }
+        ClassBodyEvaluator classBodyEvaluator = new ClassBodyEvaluator();
+        classBodyEvaluator.setClassName(GENERATED_CLASS_NAME);
+        classBodyEvaluator.setExtendedClass(udfClass);
+        classBodyEvaluator.setImplementedInterfaces(new Class[] {CachedFunction.class});
+        classBodyEvaluator.cook(generateCode(udfClass));
+        Object instance = classBodyEvaluator.getClazz().getDeclaredConstructor().newInstance();
+        ((CachedFunction) instance).setCallResults(cache);
+        return instance;
+    }
+
+    private static String generateCode(Class<?> udfClass) {
+        String cacheClass = UserDefinedFunctionCache.class.getCanonicalName();
+        String callResultsClass = UserDefinedFunctionCallResults.class.getCanonicalName();
+        StringBuilder code = new StringBuilder();
+        code.append(String.format("private %s __cache;\n", callResultsClass))
+                .append(String.format("public void setCallResults(%s cache) {\n", callResultsClass))
+                .append("    this.__cache = cache;\n")
+                .append("}\n");
+        for (Method method : udfClass.getMethods()) {
+            if (!"eval".equals(method.getName())
+                    || Modifier.isStatic(method.getModifiers())
+                    || Modifier.isFinal(method.getModifiers())
+                    || method.isBridge()
+                    || method.isSynthetic()
+                    || method.getReturnType() == void.class) {
+                continue;
+            }
+            generateEval(code, method, cacheClass);
+        }
+        return code.toString();
+    }
+
+    private static void generateEval(StringBuilder code, Method method, String cacheClass) {
+        Class<?>[] parameterTypes = method.getParameterTypes();
+        StringBuilder parameters = new StringBuilder();
+        StringBuilder arguments = new StringBuilder();
+        StringBuilder boxedArguments = new StringBuilder();
+        for (int i = 0; i < parameterTypes.length; i++) {
+            if (i > 0) {
+                parameters.append(", ");
+                arguments.append(", ");
+                boxedArguments.append(", ");
+            }
+            String typeName = parameterTypes[i].getCanonicalName();
+            if (method.isVarArgs() && i == parameterTypes.length - 1) {
+                typeName = parameterTypes[i].getComponentType().getCanonicalName() + "...";
+            }
+            parameters.append(typeName).append(" a").append(i);
+            arguments.append("a").append(i);
+            boxedArguments.append(box(parameterTypes[i], "a" + i));
+        }
+        StringBuilder overload = new StringBuilder("eval(");
+        for (int i = 0; i < parameterTypes.length; i++) {
+            overload.append(i > 0 ? "," : "").append(parameterTypes[i].getTypeName());
+        }
+        overload.append(")");
+        StringBuilder exceptions = new StringBuilder();
+        for (Class<?> exceptionType : method.getExceptionTypes()) {
+            exceptions.append(exceptions.length() == 0 ? " throws " : ", ");
+            exceptions.append(exceptionType.getCanonicalName());
+        }
+
+        Class<?> returnType = method.getReturnType();
+        code.append(
+                        String.format(
+                                "public %s eval(%s)%s {\n",
+                                returnType.getCanonicalName(), parameters, exceptions))
+                .append(
+                        String.format(
+                                "    Object[] __arguments = new Object[] {%s};\n", boxedArguments))
+                .append(
+                        String.format(
+                                "    Object __result = __cache.get(\"%s\", __arguments);\n",
+                                overload))
+                .append(String.format("    if (__result == %s.MISSING) {\n", cacheClass))
+                .append(
+                        String.format(
+                                "        __result = __cache.put(\"%s\", __arguments, %s);\n",
+                                overload, box(returnType, "super.eval(" + arguments + ")")))
+                .append("    }\n")
+                .append(String.format("    return %s;\n", unbox(returnType, "__result")))
+                .append("}\n");
+    }
+
+    private static String box(Class<?> type, String expression) {
+        if (!type.isPrimitive()) {
+            return expression;
+        }
+        return String.format("%s.valueOf(%s)", wrapperType(type).getCanonicalName(), expression);
+    }
+
+    private static String unbox(Class<?> type, String expression) {
+        if (!type.isPrimitive()) {
+            return String.format("(%s) %s", type.getCanonicalName(), expression);
+        }
+        return String.format(
+                "((%s) %s).%sValue()",
+                wrapperType(type).getCanonicalName(), expression, type.getName());
+    }
+
+    private static Class<?> wrapperType(Class<?> primitiveType) {
+        if (primitiveType == boolean.class) {
+            return Boolean.class;
+        } else if (primitiveType == byte.class) {
+            return Byte.class;
+        } else if (primitiveType == short.class) {
+            return Short.class;
+        } else if (primitiveType == int.class) {
+            return Integer.class;
+        } else if (primitiveType == long.class) {
+            return Long.class;
+        } else if (primitiveType == float.class) {
+            return Float.class;
+        } else if (primitiveType == double.class) {
+            return Double.class;
+        } else {
+            return Character.class;
+        }
+    }
+
+    /** Implemented by generated subclasses of UDFs to bind results of their calls. */
+    public interface CachedFunction {
+        void setCallResults(UserDefinedFunctionCallResults callResults);
+    }
+
+    /** Arguments of a call of an overload, compared by their values. */
+    static final class Arguments {
+
+        private final String overload;
+        private final Object[] values;
+
+        Arguments(String overload, Object[] values) {
+            this.overload = overload;
+            this.values = values;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Arguments)) {
+                return false;
+            }
+            Arguments that = (Arguments) o;
+            return overload.equals(that.overload) && Arrays.deepEquals(values, that.values);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * overload.hashCode() + Arrays.deepHashCode(values);
+        }
+    }
+}
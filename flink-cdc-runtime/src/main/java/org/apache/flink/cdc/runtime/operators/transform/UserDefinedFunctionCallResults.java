@@ -0,0 +1,39 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.runtime.operators.transform;
+
+import javax.annotation.Nullable;
+
+/**
+ * Results of calls of a UDF, which are taken by the {@code eval} methods of its generated subclass,
+ * see {@link UserDefinedFunctionCache#createCachedInstance}.
+ */
+public interface UserDefinedFunctionCallResults {
+
+    /**
+     * Returns the result of given arguments passed to given {@code eval} overload, or {@link
+     * UserDefinedFunctionCache#MISSING} if it's absent.
+     *
+     * @param overload signature of the called {@code eval} method, like {@code eval(int,long)}
+     * @param arguments arguments of the call
+     */
+    Object get(String overload, Object[] arguments);
+
+    /** Keeps the evaluated result of given arguments passed to given overload and returns it. */
+    Object put(String overload, Object[] arguments, @Nullable Object result);
+}
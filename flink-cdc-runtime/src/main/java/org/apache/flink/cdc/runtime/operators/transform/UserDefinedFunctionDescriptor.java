@@ -20,12 +20,14 @@ package org.apache.flink.cdc.runtime.operators.transform;
 import org.apache.flink.api.java.tuple.Tuple3;
 import org.apache.flink.cdc.common.annotation.Internal;
 import org.apache.flink.cdc.common.types.DataType;
+import org.apache.flink.cdc.common.udf.AsyncUserDefinedFunction;
 import org.apache.flink.cdc.common.udf.UserDefinedFunction;
 
 import java.io.Serializable;
 import java.lang.reflect.InvocationTargetException;
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.stream.Collectors;
@@ -84,12 +86,15 @@ public class UserDefinedFunctionDescriptor implements Serializable {
 
     private boolean isCdcPipelineUdf(Class<?> clazz) {
         Class<?> cdcPipelineUdfClazz = UserDefinedFunction.class;
+        Class<?> cdcPipelineAsyncUdfClazz = AsyncUserDefinedFunction.class;
         Class<?> flinkScalarFunctionClazz = org.apache.flink.table.functions.ScalarFunction.class;
 
-        if (Arrays.stream(clazz.getInterfaces())
-                .map(Class::getName)
-                .collect(Collectors.toList())
-                .contains(cdcPipelineUdfClazz.getName())) {
+        List<String> interfaceNames =
+                Arrays.stream(clazz.getInterfaces())
+                        .map(Class::getName)
+                        .collect(Collectors.toList());
+        if (interfaceNames.contains(cdcPipelineUdfClazz.getName())
+                || interfaceNames.contains(cdcPipelineAsyncUdfClazz.getName())) {
             return true;
         } else if (clazz.getSuperclass().getName().equals(flinkScalarFunctionClazz.getName())) {
             return false;
@@ -46,11 +46,15 @@ import org.codehaus.commons.compiler.Location;
 import org.codehaus.janino.ExpressionEvaluator;
 import org.codehaus.janino.Java;
 
+import javax.annotation.Nullable;
+
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 /**
@@ -61,6 +65,14 @@ import java.util.stream.Collectors;
  */
 public class JaninoCompiler {
 
+    private static final Set<DataTypeRoot> PRIMITIVE_INTEGRAL_TYPES =
+            EnumSet.of(
+                    DataTypeRoot.TINYINT,
+                    DataTypeRoot.SMALLINT,
+                    DataTypeRoot.INTEGER,
+                    DataTypeRoot.BIGINT);
+    private static final Set<DataTypeRoot> PRIMITIVE_FLOATING_POINT_TYPES =
+            EnumSet.of(DataTypeRoot.FLOAT, DataTypeRoot.DOUBLE);
     private static final List<SqlTypeName> SQL_TYPE_NAME_IGNORE = Arrays.asList(SqlTypeName.SYMBOL);
     private static final List<String> TIMEZONE_FREE_TEMPORAL_FUNCTIONS =
             Arrays.asList("CURRENT_TIMESTAMP", "NOW");
@@ -354,6 +366,11 @@ public class JaninoCompiler {
         if (atoms.length != 2) {
             throw new ParseException("Unrecognized expression: " + sqlBasicCall.toString());
         }
+        Java.Rvalue primitiveComparison =
+                generatePrimitiveComparison(context, sqlBasicCall, atoms, "==");
+        if (primitiveComparison != null) {
+            return primitiveComparison;
+        }
         return new Java.MethodInvocation(
                 Location.NOWHERE, null, StringUtils.convertToCamelCase("VALUE_EQUALS"), atoms);
     }
@@ -374,28 +391,145 @@ public class JaninoCompiler {
             throw new ParseException("Unrecognized expression: " + sqlBasicCall.toString());
         }
         String compareMethodName;
+        String operator;
         switch (sqlBasicCall.getKind()) {
             case LESS_THAN:
                 compareMethodName = "LESS_THAN";
+                operator = "<";
                 break;
             case GREATER_THAN:
                 compareMethodName = "GREATER_THAN";
+                operator = ">";
                 break;
             case LESS_THAN_OR_EQUAL:
                 compareMethodName = "LESS_THAN_OR_EQUAL";
+                operator = "<=";
                 break;
             case GREATER_THAN_OR_EQUAL:
                 compareMethodName = "GREATER_THAN_OR_EQUAL";
+                operator = ">=";
                 break;
             default:
                 throw new ParseException(
                         "Unsupported binary relation operator: "
                                 + sqlBasicCall.getKind().toString());
         }
+        Java.Rvalue primitiveComparison =
+                generatePrimitiveComparison(context, sqlBasicCall, atoms, operator);
+        if (primitiveComparison != null) {
+            return primitiveComparison;
+        }
         return new Java.MethodInvocation(
                 Location.NOWHERE, null, StringUtils.convertToCamelCase(compareMethodName), atoms);
     }
 
+    /**
+     * Compares numeric columns and literals whose types are known from the schema as primitive
+     * values, instead of calling comparison functions that take boxed values of any class. Returns
+     * null if operands are not both of such types.
+     *
+     * <p>The result is the same as that of the comparison functions: a null column satisfies no
+     * comparison, floating point numbers are compared like {@link Double#compare}, and values are
+     * only considered equal if they are of the same integral type. Equality of two columns is not
+     * specialized.
+     */
+    private static @Nullable Java.Rvalue generatePrimitiveComparison(
+            Context context, SqlBasicCall sqlBasicCall, Java.Rvalue[] atoms, String operator) {
+        List<SqlNode> operands = sqlBasicCall.getOperandList();
+        DataTypeRoot[] typeRoots = new DataTypeRoot[2];
+        for (int i = 0; i < 2; i++) {
+            typeRoots[i] = resolvePrimitiveTypeRoot(context, operands.get(i), atoms[i]);
+            if (typeRoots[i] == null) {
+                return null;
+            }
+        }
+        boolean integral =
+                PRIMITIVE_INTEGRAL_TYPES.contains(typeRoots[0])
+                        && PRIMITIVE_INTEGRAL_TYPES.contains(typeRoots[1]);
+        if (operator.equals("==")
+                && (!integral
+                        || typeRoots[0] != typeRoots[1]
+                        // boxed values would be compared by reference
+                        || operands.get(0) instanceof SqlIdentifier
+                                && operands.get(1) instanceof SqlIdentifier)) {
+            return null;
+        }
+
+        Java.Rvalue comparison =
+                integral
+                        ? new Java.BinaryOperation(
+                                Location.NOWHERE, copyOf(atoms[0]), operator, copyOf(atoms[1]))
+                        : new Java.BinaryOperation(
+                                Location.NOWHERE,
+                                new Java.MethodInvocation(
+                                        Location.NOWHERE,
+                                        new Java.AmbiguousName(
+                                                Location.NOWHERE, new String[] {"Double"}),
+                                        "compare",
+                                        new Java.Rvalue[] {copyOf(atoms[0]), copyOf(atoms[1])}),
+                                operator,
+                                new Java.AmbiguousName(Location.NOWHERE, new String[] {"0"}));
+        for (int i = 1; i >= 0; i--) {
+            if (operands.get(i) instanceof SqlIdentifier) {
+                comparison =
+                        new Java.BinaryOperation(
+                                Location.NOWHERE,
+                                new Java.BinaryOperation(
+                                        Location.NOWHERE,
+                                        copyOf(atoms[i]),
+                                        "!=",
+                                        new Java.NullLiteral(Location.NOWHERE)),
+                                "&&",
+                                comparison);
+            }
+        }
+        return new Java.ParenthesizedExpression(Location.NOWHERE, comparison);
+    }
+
+    /**
+     * Returns the type root of a column or literal operand that is translated to a variable or
+     * literal of a primitive numeric type or its wrapper, or null for any other operand.
+     */
+    private static @Nullable DataTypeRoot resolvePrimitiveTypeRoot(
+            Context context, SqlNode operand, Java.Rvalue atom) {
+        if (!(atom instanceof Java.AmbiguousName)) {
+            return null;
+        }
+        DataTypeRoot typeRoot = null;
+        if (operand instanceof SqlNumericLiteral) {
+            SqlNumericLiteral literal = (SqlNumericLiteral) operand;
+            if (literal.isInteger()) {
+                long value = literal.longValue(true);
+                typeRoot =
+                        value > Integer.MAX_VALUE || value < Integer.MIN_VALUE
+                                ? DataTypeRoot.BIGINT
+                                : DataTypeRoot.INTEGER;
+            } else if (literal.isExact()) {
+                // Exact decimal literals are translated to double literals
+                typeRoot = DataTypeRoot.DOUBLE;
+            }
+        } else if (operand instanceof SqlIdentifier) {
+            SqlIdentifier identifier = (SqlIdentifier) operand;
+            String columnName = identifier.names.get(identifier.names.size() - 1);
+            for (Column column : context.columns) {
+                if (column.getName().equals(columnName)) {
+                    typeRoot = column.getType().getTypeRoot();
+                    break;
+                }
+            }
+        }
+        return typeRoot != null
+                        && (PRIMITIVE_INTEGRAL_TYPES.contains(typeRoot)
+                                || PRIMITIVE_FLOATING_POINT_TYPES.contains(typeRoot))
+                ? typeRoot
+                : null;
+    }
+
+    private static Java.Rvalue copyOf(Java.Rvalue atom) {
+        return new Java.AmbiguousName(
+                Location.NOWHERE, ((Java.AmbiguousName) atom).identifiers.clone());
+    }
+
     private static Java.Rvalue generateTimestampDiffOperation(
             Context context, SqlBasicCall sqlBasicCall, Java.Rvalue[] atoms) {
         if (atoms.length != 4) {
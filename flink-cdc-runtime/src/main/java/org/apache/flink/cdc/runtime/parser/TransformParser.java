@@ -18,7 +18,10 @@
 package org.apache.flink.cdc.runtime.parser;
 
 import org.apache.flink.api.common.io.ParseException;
+import org.apache.flink.cdc.common.annotation.VisibleForTesting;
 import org.apache.flink.cdc.common.schema.Column;
+import org.apache.flink.cdc.common.source.SnapshotPredicate;
+import org.apache.flink.cdc.common.source.SnapshotPushDown;
 import org.apache.flink.cdc.common.source.SupportedMetadataColumn;
 import org.apache.flink.cdc.common.types.DataType;
 import org.apache.flink.cdc.common.utils.Preconditions;
@@ -47,14 +50,20 @@ import org.apache.calcite.schema.SchemaPlus;
 import org.apache.calcite.schema.impl.ScalarFunctionImpl;
 import org.apache.calcite.sql.SqlBasicCall;
 import org.apache.calcite.sql.SqlCall;
+import org.apache.calcite.sql.SqlCharStringLiteral;
+import org.apache.calcite.sql.SqlDataTypeSpec;
 import org.apache.calcite.sql.SqlFunction;
 import org.apache.calcite.sql.SqlFunctionCategory;
 import org.apache.calcite.sql.SqlIdentifier;
 import org.apache.calcite.sql.SqlKind;
+import org.apache.calcite.sql.SqlLiteral;
 import org.apache.calcite.sql.SqlNode;
 import org.apache.calcite.sql.SqlNodeList;
+import org.apache.calcite.sql.SqlNumericLiteral;
+import org.apache.calcite.sql.SqlOperator;
 import org.apache.calcite.sql.SqlOperatorTable;
 import org.apache.calcite.sql.SqlSelect;
+import org.apache.calcite.sql.fun.SqlCase;
 import org.apache.calcite.sql.parser.SqlParseException;
 import org.apache.calcite.sql.parser.SqlParser;
 import org.apache.calcite.sql.parser.SqlParserPos;
@@ -73,6 +82,7 @@ import org.slf4j.LoggerFactory;
 
 import javax.annotation.Nullable;
 
+import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
@@ -97,6 +107,9 @@ public class TransformParser {
     private static final String MAPPED_COLUMN_NAME_PREFIX = "$";
     private static final String MAPPED_SINGLE_COLUMN_NAME = MAPPED_COLUMN_NAME_PREFIX + "0";
 
+    /** Folded string literals are limited to the default character set of Calcite. */
+    private static final char LATIN_1_MAX_CHAR = 0xFF;
+
     private static SqlParser getCalciteParser(String sql) {
         return SqlParser.create(
                 sql,
@@ -341,6 +354,12 @@ public class TransformParser {
                 } else {
                     List<String> originalColumnNames = parseColumnNameList(exprNode);
                     Map<String, String> columnNameMap = generateColumnNameMap(originalColumnNames);
+                    JaninoCompiler.Context context =
+                            JaninoCompiler.Context.of(
+                                    columns,
+                                    columnNameMap,
+                                    udfDescriptors,
+                                    supportedMetadataColumns);
                     projectionColumn =
                             ProjectionColumn.ofCalculated(
                                     columnName,
@@ -348,14 +367,10 @@ public class TransformParser {
                                             relDataType),
                                     exprNode.toString(),
                                     JaninoCompiler.translateSqlNodeToJaninoExpression(
-                                            JaninoCompiler.Context.of(
-                                                    columns,
-                                                    columnNameMap,
-                                                    udfDescriptors,
-                                                    supportedMetadataColumns),
-                                            exprNode),
+                                            context, foldConstants(context, exprNode)),
                                     originalColumnNames,
-                                    columnNameMap);
+                                    columnNameMap,
+                                    isDeterministic(udfDescriptors, exprNode));
                 }
             }
             // ... or an existing column's name identifier.
@@ -440,10 +455,161 @@ public class TransformParser {
             return "";
         }
         SqlNode where = sqlSelect.getWhere();
-        return JaninoCompiler.translateSqlNodeToJaninoExpression(
+        JaninoCompiler.Context context =
                 JaninoCompiler.Context.of(
-                        columns, columnNameMap, udfDescriptors, supportedMetadataColumns),
-                where);
+                        columns, columnNameMap, udfDescriptors, supportedMetadataColumns);
+        return JaninoCompiler.translateSqlNodeToJaninoExpression(
+                context, foldConstants(context, where));
+    }
+
+    /**
+     * Folds sub-expressions that consist of literals only, like {@code 'prefix_' || 'x'}, into
+     * literals, so that they're evaluated once while compiling instead of for every row. A
+     * sub-expression is kept as is if it's not deterministic, fails to be evaluated, or its value
+     * can't be written as a literal that is translated to the same Java type.
+     */
+    @VisibleForTesting
+    static SqlNode foldConstants(JaninoCompiler.Context context, SqlNode sqlNode) {
+        if (sqlNode instanceof SqlBasicCall) {
+            SqlBasicCall sqlBasicCall = (SqlBasicCall) sqlNode;
+            if (isConstant(context, sqlBasicCall)) {
+                SqlLiteral folded = evaluateConstant(context, sqlBasicCall);
+                if (folded != null) {
+                    return folded;
+                }
+            }
+            List<SqlNode> operands = sqlBasicCall.getOperandList();
+            List<SqlNode> foldedOperands = new ArrayList<>(operands.size());
+            for (SqlNode operand : operands) {
+                foldedOperands.add(operand == null ? null : foldConstants(context, operand));
+            }
+            if (foldedOperands.equals(operands)) {
+                return sqlNode;
+            }
+            return new SqlBasicCall(
+                    sqlBasicCall.getOperator(),
+                    foldedOperands,
+                    sqlBasicCall.getParserPosition(),
+                    sqlBasicCall.getFunctionQuantifier());
+        } else if (sqlNode instanceof SqlCase) {
+            SqlCase sqlCase = (SqlCase) sqlNode;
+            return new SqlCase(
+                    sqlCase.getParserPosition(),
+                    sqlCase.getValueOperand() == null
+                            ? null
+                            : foldConstants(context, sqlCase.getValueOperand()),
+                    (SqlNodeList) foldConstants(context, sqlCase.getWhenOperands()),
+                    (SqlNodeList) foldConstants(context, sqlCase.getThenOperands()),
+                    sqlCase.getElseOperand() == null
+                            ? null
+                            : foldConstants(context, sqlCase.getElseOperand()));
+        } else if (sqlNode instanceof SqlNodeList) {
+            List<SqlNode> folded = new ArrayList<>();
+            for (SqlNode node : (SqlNodeList) sqlNode) {
+                folded.add(foldConstants(context, node));
+            }
+            return new SqlNodeList(folded, sqlNode.getParserPosition());
+        }
+        return sqlNode;
+    }
+
+    private static boolean isConstant(JaninoCompiler.Context context, SqlNode sqlNode) {
+        if (sqlNode == null
+                || sqlNode instanceof SqlLiteral
+                || sqlNode instanceof SqlDataTypeSpec) {
+            return true;
+        }
+        if (!(sqlNode instanceof SqlBasicCall)) {
+            return false;
+        }
+        SqlBasicCall sqlBasicCall = (SqlBasicCall) sqlNode;
+        if (!isDeterministicOperator(context.udfDescriptors, sqlBasicCall.getOperator())) {
+            return false;
+        }
+        return sqlBasicCall.getOperandList().stream()
+                .allMatch(operand -> isConstant(context, operand));
+    }
+
+    /**
+     * Whether given expression always yields the same result for the same input, that is it calls
+     * no non-deterministic or dynamic function nor user-defined function.
+     */
+    public static boolean isDeterministic(
+            List<UserDefinedFunctionDescriptor> udfDescriptors, SqlNode sqlNode) {
+        if (sqlNode instanceof SqlNodeList) {
+            for (SqlNode node : (SqlNodeList) sqlNode) {
+                if (!isDeterministic(udfDescriptors, node)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        if (!(sqlNode instanceof SqlCall)) {
+            return true;
+        }
+        SqlCall sqlCall = (SqlCall) sqlNode;
+        if (!isDeterministicOperator(udfDescriptors, sqlCall.getOperator())) {
+            return false;
+        }
+        for (SqlNode operand : sqlCall.getOperandList()) {
+            if (operand != null && !isDeterministic(udfDescriptors, operand)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isDeterministicOperator(
+            List<UserDefinedFunctionDescriptor> udfDescriptors, SqlOperator operator) {
+        String operatorName = operator.getName();
+        return operator.isDeterministic()
+                && !operator.isDynamicFunction()
+                && udfDescriptors.stream()
+                        .noneMatch(udf -> udf.getName().equalsIgnoreCase(operatorName))
+                && TransformSqlOperatorTable.instance().getOperatorList().stream()
+                        .noneMatch(
+                                op ->
+                                        op.getName().equalsIgnoreCase(operatorName)
+                                                && (!op.isDeterministic()
+                                                        || op.isDynamicFunction()));
+    }
+
+    private static @Nullable SqlLiteral evaluateConstant(
+            JaninoCompiler.Context context, SqlBasicCall sqlBasicCall) {
+        Object value;
+        try {
+            String expression =
+                    JaninoCompiler.translateSqlNodeToJaninoExpression(context, sqlBasicCall);
+            if (expression.isEmpty()
+                    || expression.contains(JaninoCompiler.DEFAULT_EPOCH_TIME)
+                    || expression.contains(JaninoCompiler.DEFAULT_TIME_ZONE)) {
+                return null;
+            }
+            value =
+                    JaninoCompiler.compileExpression(
+                                    JaninoCompiler.loadSystemFunction(expression),
+                                    Collections.emptyList(),
+                                    Collections.emptyList(),
+                                    Object.class)
+                            .evaluate(new Object[0]);
+        } catch (Exception e) {
+            LOG.debug("Failed to fold constant expression {}, leave it as is.", sqlBasicCall, e);
+            return null;
+        }
+
+        if (value instanceof Boolean) {
+            return SqlLiteral.createBoolean((Boolean) value, SqlParserPos.ZERO);
+        } else if (value instanceof Integer && (Integer) value != Integer.MIN_VALUE
+                || value instanceof Long
+                        && ((Long) value > Integer.MAX_VALUE
+                                || (Long) value < Integer.MIN_VALUE
+                                        && (Long) value != Long.MIN_VALUE)) {
+            return SqlLiteral.createExactNumeric(value.toString(), SqlParserPos.ZERO);
+        } else if (value instanceof String
+                && ((String) value).chars().allMatch(c -> c <= LATIN_1_MAX_CHAR)) {
+            return SqlLiteral.createCharString((String) value, SqlParserPos.ZERO);
+        }
+        return null;
     }
 
     public static List<String> parseComputedColumnNames(
@@ -500,6 +666,140 @@ public class TransformParser {
         return parseColumnNameList(where);
     }
 
+    // Returns columns and rows required by a transform rule while reading snapshot data.
+    // For example, given projection expression "id, upper(name) as uname", filter expression "id >
+    // 10 and uname <> 'A' and age is not null", returns required columns [id, name, uname, age]
+    // and predicates [id > 10, age IS NOT NULL]. Conjuncts that can not be translated to simple
+    // predicates on physical columns, like the ones referring to calculated or metadata columns,
+    // are skipped, so the predicates are always implied by the filter.
+    public static SnapshotPushDown generateSnapshotPushDown(
+            String tableInclusions,
+            @Nullable String projectionExpression,
+            @Nullable String filterExpression,
+            SupportedMetadataColumn[] supportedMetadataColumns) {
+        Set<String> requiredColumns = null;
+        if (!hasAsterisk(projectionExpression)) {
+            requiredColumns = new HashSet<>();
+            for (SqlNode sqlNode :
+                    parseProjectionExpression(projectionExpression).getSelectList()) {
+                if (sqlNode instanceof SqlBasicCall
+                        && SqlKind.AS.equals(((SqlBasicCall) sqlNode).getOperator().kind)) {
+                    sqlNode = ((SqlBasicCall) sqlNode).getOperandList().get(0);
+                }
+                requiredColumns.addAll(parseColumnNameList(sqlNode));
+            }
+            requiredColumns.addAll(parseFilterColumnNameList(filterExpression));
+        }
+
+        List<SnapshotPredicate> predicates = new ArrayList<>();
+        if (!isNullOrWhitespaceOnly(filterExpression)) {
+            Set<String> excludedColumnNames =
+                    new HashSet<>(
+                            parseComputedColumnNames(
+                                    projectionExpression, supportedMetadataColumns));
+            METADATA_COLUMNS.forEach(col -> excludedColumnNames.add(col.f0));
+            Stream.of(supportedMetadataColumns)
+                    .forEach(col -> excludedColumnNames.add(col.getName()));
+            List<SqlNode> conjuncts = new ArrayList<>();
+            collectConjuncts(parseFilterExpression(filterExpression).getWhere(), conjuncts);
+            for (SqlNode conjunct : conjuncts) {
+                SnapshotPredicate predicate = toSnapshotPredicate(conjunct);
+                if (predicate != null && !excludedColumnNames.contains(predicate.getColumnName())) {
+                    predicates.add(predicate);
+                }
+            }
+        }
+        return new SnapshotPushDown(tableInclusions, requiredColumns, predicates);
+    }
+
+    private static void collectConjuncts(SqlNode sqlNode, List<SqlNode> conjuncts) {
+        if (sqlNode instanceof SqlBasicCall && sqlNode.getKind() == SqlKind.AND) {
+            for (SqlNode operand : ((SqlBasicCall) sqlNode).getOperandList()) {
+                collectConjuncts(operand, conjuncts);
+            }
+        } else {
+            conjuncts.add(sqlNode);
+        }
+    }
+
+    private static @Nullable SnapshotPredicate toSnapshotPredicate(SqlNode sqlNode) {
+        if (!(sqlNode instanceof SqlBasicCall)) {
+            return null;
+        }
+        List<SqlNode> operands = ((SqlBasicCall) sqlNode).getOperandList();
+        if (sqlNode.getKind() == SqlKind.IS_NULL || sqlNode.getKind() == SqlKind.IS_NOT_NULL) {
+            String columnName = toSimpleColumnName(operands.get(0));
+            if (columnName == null) {
+                return null;
+            }
+            return sqlNode.getKind() == SqlKind.IS_NULL
+                    ? SnapshotPredicate.isNull(columnName)
+                    : SnapshotPredicate.isNotNull(columnName);
+        }
+
+        SnapshotPredicate.Operator operator;
+        SnapshotPredicate.Operator reversedOperator;
+        switch (sqlNode.getKind()) {
+            case EQUALS:
+                operator = reversedOperator = SnapshotPredicate.Operator.EQUALS;
+                break;
+            case NOT_EQUALS:
+                operator = reversedOperator = SnapshotPredicate.Operator.NOT_EQUALS;
+                break;
+            case LESS_THAN:
+                operator = SnapshotPredicate.Operator.LESS_THAN;
+                reversedOperator = SnapshotPredicate.Operator.GREATER_THAN;
+                break;
+            case LESS_THAN_OR_EQUAL:
+                operator = SnapshotPredicate.Operator.LESS_THAN_OR_EQUAL;
+                reversedOperator = SnapshotPredicate.Operator.GREATER_THAN_OR_EQUAL;
+                break;
+            case GREATER_THAN:
+                operator = SnapshotPredicate.Operator.GREATER_THAN;
+                reversedOperator = SnapshotPredicate.Operator.LESS_THAN;
+                break;
+            case GREATER_THAN_OR_EQUAL:
+                operator = SnapshotPredicate.Operator.GREATER_THAN_OR_EQUAL;
+                reversedOperator = SnapshotPredicate.Operator.LESS_THAN_OR_EQUAL;
+                break;
+            default:
+                return null;
+        }
+        String columnName = toSimpleColumnName(operands.get(0));
+        SqlNode literal = operands.get(1);
+        if (columnName == null) {
+            columnName = toSimpleColumnName(operands.get(1));
+            literal = operands.get(0);
+            operator = reversedOperator;
+        }
+        if (columnName == null) {
+            return null;
+        }
+
+        boolean negative = false;
+        if (literal.getKind() == SqlKind.MINUS_PREFIX) {
+            negative = true;
+            literal = ((SqlBasicCall) literal).getOperandList().get(0);
+        }
+        if (literal instanceof SqlNumericLiteral && ((SqlNumericLiteral) literal).isExact()) {
+            BigDecimal value = ((SqlNumericLiteral) literal).getValueAs(BigDecimal.class);
+            return SnapshotPredicate.of(columnName, operator, negative ? value.negate() : value);
+        } else if (literal instanceof SqlCharStringLiteral && !negative) {
+            return SnapshotPredicate.of(
+                    columnName,
+                    operator,
+                    ((SqlCharStringLiteral) literal).getValueAs(String.class));
+        }
+        return null;
+    }
+
+    private static @Nullable String toSimpleColumnName(SqlNode sqlNode) {
+        if (sqlNode instanceof SqlIdentifier && ((SqlIdentifier) sqlNode).isSimple()) {
+            return ((SqlIdentifier) sqlNode).getSimple();
+        }
+        return null;
+    }
+
     private static List<String> parseColumnNameList(SqlNode sqlNode) {
         List<String> columnNameList = new ArrayList<>();
         if (sqlNode instanceof SqlIdentifier) {
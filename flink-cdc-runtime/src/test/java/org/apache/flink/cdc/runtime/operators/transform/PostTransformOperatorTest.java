@@ -17,6 +17,7 @@
 
 package org.apache.flink.cdc.runtime.operators.transform;
 
+import org.apache.flink.api.java.tuple.Tuple3;
 import org.apache.flink.cdc.common.data.DateData;
 import org.apache.flink.cdc.common.data.DecimalData;
 import org.apache.flink.cdc.common.data.LocalZonedTimestampData;
@@ -29,8 +30,14 @@ import org.apache.flink.cdc.common.event.Event;
 import org.apache.flink.cdc.common.event.TableId;
 import org.apache.flink.cdc.common.schema.Schema;
 import org.apache.flink.cdc.common.source.SupportedMetadataColumn;
+import org.apache.flink.cdc.common.types.DataType;
 import org.apache.flink.cdc.common.types.DataTypes;
 import org.apache.flink.cdc.common.types.RowType;
+import org.apache.flink.cdc.common.udf.AsyncEvaluation;
+import org.apache.flink.cdc.common.udf.AsyncUserDefinedFunction;
+import org.apache.flink.cdc.common.udf.UserDefinedFunction;
+import org.apache.flink.cdc.runtime.model.ModelOptions;
+import org.apache.flink.cdc.runtime.model.OpenAIChatModel;
 import org.apache.flink.cdc.runtime.operators.transform.exceptions.TransformException;
 import org.apache.flink.cdc.runtime.testutils.operators.RegularEventOperatorTestHarness;
 import org.apache.flink.cdc.runtime.typeutils.BinaryRecordDataGenerator;
@@ -44,6 +51,19 @@ import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.Test;
 
 import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
 
 /** Unit tests for the {@link PostTransformOperator}. */
 class PostTransformOperatorTest {
@@ -3389,4 +3409,460 @@ class PostTransformOperatorTest {
                         transformFunctionEventEventOperatorTestHarness.getOutputRecords().poll())
                 .isEqualTo(new StreamRecord<>(updateEventExpect));
     }
+
+    /** An asynchronous UDF that records the sizes of dispatched batches. */
+    public static class AsyncUpper implements AsyncUserDefinedFunction<String> {
+
+        private static final List<Integer> BATCH_SIZES = new CopyOnWriteArrayList<>();
+        private static final AtomicInteger SYNC_CALLS = new AtomicInteger();
+
+        public String eval(String value) {
+            return AsyncEvaluation.evaluate(
+                    this,
+                    () -> {
+                        SYNC_CALLS.incrementAndGet();
+                        return value.toUpperCase();
+                    },
+                    value);
+        }
+
+        @Override
+        public CompletableFuture<List<String>> evalBatch(List<Object[]> arguments) {
+            BATCH_SIZES.add(arguments.size());
+            return CompletableFuture.supplyAsync(
+                    () ->
+                            arguments.stream()
+                                    .map(argument -> ((String) argument[0]).toUpperCase())
+                                    .collect(Collectors.toList()));
+        }
+
+        @Override
+        public int getMaxBatchSize() {
+            return 3;
+        }
+
+        @Override
+        public int getMaxInFlightBatches() {
+            return 1;
+        }
+
+        @Override
+        public Duration getMaxBatchDelay() {
+            return Duration.ofMillis(100);
+        }
+
+        @Override
+        public boolean isDeterministic() {
+            return true;
+        }
+
+        @Override
+        public DataType getReturnType() {
+            return DataTypes.STRING();
+        }
+    }
+
+    @Test
+    void testAsyncUdfMicroBatches() throws Exception {
+        AsyncUpper.BATCH_SIZES.clear();
+        AsyncUpper.SYNC_CALLS.set(0);
+        PostTransformOperator transform =
+                PostTransformOperator.newBuilder()
+                        .addTransform(
+                                CUSTOMERS_TABLEID.identifier(),
+                                "col1, col2, async_upper(col2) AS col12",
+                                "col1 <> '3'")
+                        .addUdfFunctions(
+                                Collections.singletonList(
+                                        Tuple3.of(
+                                                "async_upper",
+                                                AsyncUpper.class.getName(),
+                                                Collections.emptyMap())))
+                        .build();
+        RegularEventOperatorTestHarness<PostTransformOperator, Event>
+                transformFunctionEventEventOperatorTestHarness =
+                        RegularEventOperatorTestHarness.with(transform, 1);
+        transformFunctionEventEventOperatorTestHarness.open();
+        BinaryRecordDataGenerator recordDataGenerator =
+                new BinaryRecordDataGenerator(((RowType) CUSTOMERS_SCHEMA.toRowDataType()));
+
+        transform.processElement(
+                new StreamRecord<>(new CreateTableEvent(CUSTOMERS_TABLEID, CUSTOMERS_SCHEMA)));
+        Assertions.assertThat(
+                        transformFunctionEventEventOperatorTestHarness.getOutputRecords().poll())
+                .isEqualTo(
+                        new StreamRecord<>(
+                                new CreateTableEvent(CUSTOMERS_TABLEID, CUSTOMERS_SCHEMA)));
+
+        // The third event fills the micro-batch, in which the same calls are dispatched once and
+        // the filtered row makes no call.
+        insertCustomers(transform, recordDataGenerator, "1", "a", "2", "b", "3", "c");
+        Assertions.assertThat(AsyncUpper.BATCH_SIZES).containsExactly(2);
+        assertCustomers(transformFunctionEventEventOperatorTestHarness, "1:A", "2:B");
+
+        // Micro-batches are flushed after the maximum delay.
+        insertCustomers(transform, recordDataGenerator, "4", "a", "5", "d");
+        Assertions.assertThat(transformFunctionEventEventOperatorTestHarness.getOutputRecords())
+                .isEmpty();
+        transformFunctionEventEventOperatorTestHarness.setProcessingTime(100);
+        Assertions.assertThat(AsyncUpper.BATCH_SIZES).containsExactly(2, 2);
+        assertCustomers(transformFunctionEventEventOperatorTestHarness, "4:A", "5:D");
+
+        // The end of input flushes the ongoing micro-batch.
+        insertCustomers(transform, recordDataGenerator, "6", "e");
+        transform.finish();
+        Assertions.assertThat(AsyncUpper.BATCH_SIZES).containsExactly(2, 2, 1);
+        assertCustomers(transformFunctionEventEventOperatorTestHarness, "6:E");
+        Assertions.assertThat(AsyncUpper.SYNC_CALLS).hasValue(0);
+        transformFunctionEventEventOperatorTestHarness.close();
+    }
+
+    @Test
+    void testCachedAsyncUdf() throws Exception {
+        AsyncUpper.BATCH_SIZES.clear();
+        AsyncUpper.SYNC_CALLS.set(0);
+        PostTransformOperator transform =
+                PostTransformOperator.newBuilder()
+                        .addTransform(
+                                CUSTOMERS_TABLEID.identifier(),
+                                "col1, col2, async_upper(col2) AS col12",
+                                null)
+                        .addUdfFunctions(
+                                Collections.singletonList(
+                                        Tuple3.of(
+                                                "async_upper",
+                                                AsyncUpper.class.getName(),
+                                                Collections.singletonMap("cache.max-size", "10"))))
+                        .build();
+        RegularEventOperatorTestHarness<PostTransformOperator, Event>
+                transformFunctionEventEventOperatorTestHarness =
+                        RegularEventOperatorTestHarness.with(transform, 1);
+        transformFunctionEventEventOperatorTestHarness.open();
+        BinaryRecordDataGenerator recordDataGenerator =
+                new BinaryRecordDataGenerator(((RowType) CUSTOMERS_SCHEMA.toRowDataType()));
+
+        transform.processElement(
+                new StreamRecord<>(new CreateTableEvent(CUSTOMERS_TABLEID, CUSTOMERS_SCHEMA)));
+        transformFunctionEventEventOperatorTestHarness.getOutputRecords().poll();
+
+        insertCustomers(transform, recordDataGenerator, "1", "a", "2", "b", "3", "a");
+        Assertions.assertThat(AsyncUpper.BATCH_SIZES).containsExactly(2);
+        assertCustomers(transformFunctionEventEventOperatorTestHarness, "1:A", "2:B", "3:A");
+
+        // Cached results are not dispatched again.
+        insertCustomers(transform, recordDataGenerator, "4", "a", "5", "c", "6", "b");
+        Assertions.assertThat(AsyncUpper.BATCH_SIZES).containsExactly(2, 1);
+        assertCustomers(transformFunctionEventEventOperatorTestHarness, "4:A", "5:C", "6:B");
+        Assertions.assertThat(AsyncUpper.SYNC_CALLS).hasValue(0);
+        transformFunctionEventEventOperatorTestHarness.close();
+    }
+
+    /** An asynchronous UDF whose batches finish only when all batches of a micro-batch start. */
+    public static class ConcurrentUpper implements AsyncUserDefinedFunction<String> {
+
+        private static final AtomicInteger IN_FLIGHT = new AtomicInteger();
+        private static final AtomicInteger MAX_IN_FLIGHT = new AtomicInteger();
+        private static volatile CountDownLatch started = new CountDownLatch(0);
+
+        public String eval(String value) {
+            return AsyncEvaluation.evaluate(this, value::toUpperCase, value);
+        }
+
+        @Override
+        public CompletableFuture<List<String>> evalBatch(List<Object[]> arguments) {
+            MAX_IN_FLIGHT.accumulateAndGet(IN_FLIGHT.incrementAndGet(), Math::max);
+            CountDownLatch latch = started;
+            latch.countDown();
+            return CompletableFuture.supplyAsync(
+                    () -> {
+                        try {
+                            latch.await(10, TimeUnit.SECONDS);
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                        }
+                        IN_FLIGHT.decrementAndGet();
+                        return arguments.stream()
+                                .map(argument -> ((String) argument[0]).toUpperCase())
+                                .collect(Collectors.toList());
+                    });
+        }
+
+        @Override
+        public int getMaxBatchSize() {
+            return 1;
+        }
+
+        @Override
+        public int getMaxInFlightBatches() {
+            return 3;
+        }
+
+        @Override
+        public DataType getReturnType() {
+            return DataTypes.STRING();
+        }
+    }
+
+    @Test
+    void testAsyncUdfBatchesInFlight() throws Exception {
+        ConcurrentUpper.IN_FLIGHT.set(0);
+        ConcurrentUpper.MAX_IN_FLIGHT.set(0);
+        ConcurrentUpper.started = new CountDownLatch(3);
+        PostTransformOperator transform =
+                PostTransformOperator.newBuilder()
+                        .addTransform(
+                                CUSTOMERS_TABLEID.identifier(),
+                                "col1, col2, concurrent_upper(col2) AS col12",
+                                null)
+                        .addUdfFunctions(
+                                Collections.singletonList(
+                                        Tuple3.of(
+                                                "concurrent_upper",
+                                                ConcurrentUpper.class.getName(),
+                                                Collections.emptyMap())))
+                        .build();
+        RegularEventOperatorTestHarness<PostTransformOperator, Event>
+                transformFunctionEventEventOperatorTestHarness =
+                        RegularEventOperatorTestHarness.with(transform, 1);
+        transformFunctionEventEventOperatorTestHarness.open();
+        BinaryRecordDataGenerator recordDataGenerator =
+                new BinaryRecordDataGenerator(((RowType) CUSTOMERS_SCHEMA.toRowDataType()));
+
+        transform.processElement(
+                new StreamRecord<>(new CreateTableEvent(CUSTOMERS_TABLEID, CUSTOMERS_SCHEMA)));
+        transformFunctionEventEventOperatorTestHarness.clearOutputRecords();
+
+        // A micro-batch holds the calls of all batches in flight, which are dispatched at once.
+        insertCustomers(transform, recordDataGenerator, "1", "a", "2", "b", "3", "c");
+        Assertions.assertThat(ConcurrentUpper.MAX_IN_FLIGHT).hasValue(3);
+        assertCustomers(transformFunctionEventEventOperatorTestHarness, "1:A", "2:B", "3:C");
+        transformFunctionEventEventOperatorTestHarness.close();
+    }
+
+    /** An asynchronous UDF whose batches never finish. */
+    public static class HangingUpper implements AsyncUserDefinedFunction<String> {
+
+        public String eval(String value) {
+            return AsyncEvaluation.evaluate(this, value::toUpperCase, value);
+        }
+
+        @Override
+        public CompletableFuture<List<String>> evalBatch(List<Object[]> arguments) {
+            return new CompletableFuture<>();
+        }
+
+        @Override
+        public Duration getTimeout() {
+            return Duration.ofMillis(10);
+        }
+
+        @Override
+        public DataType getReturnType() {
+            return DataTypes.STRING();
+        }
+    }
+
+    @Test
+    void testAsyncUdfTimeout() throws Exception {
+        PostTransformOperator transform =
+                PostTransformOperator.newBuilder()
+                        .addTransform(
+                                CUSTOMERS_TABLEID.identifier(),
+                                "col1, col2, hanging_upper(col2) AS col12",
+                                null)
+                        .addUdfFunctions(
+                                Collections.singletonList(
+                                        Tuple3.of(
+                                                "hanging_upper",
+                                                HangingUpper.class.getName(),
+                                                Collections.emptyMap())))
+                        .build();
+        RegularEventOperatorTestHarness<PostTransformOperator, Event>
+                transformFunctionEventEventOperatorTestHarness =
+                        RegularEventOperatorTestHarness.with(transform, 1);
+        transformFunctionEventEventOperatorTestHarness.open();
+        BinaryRecordDataGenerator recordDataGenerator =
+                new BinaryRecordDataGenerator(((RowType) CUSTOMERS_SCHEMA.toRowDataType()));
+
+        transform.processElement(
+                new StreamRecord<>(new CreateTableEvent(CUSTOMERS_TABLEID, CUSTOMERS_SCHEMA)));
+
+        insertCustomers(transform, recordDataGenerator, "1", "a");
+        Assertions.assertThatThrownBy(transform::finish)
+                .rootCause()
+                .isExactlyInstanceOf(TimeoutException.class)
+                .hasMessage(
+                        HangingUpper.class.getName()
+                                + " didn't finish a batch of 1 calls within PT0.01S.");
+        transformFunctionEventEventOperatorTestHarness.close();
+    }
+
+    /** A synchronous UDF that counts its calls. */
+    public static class CountingLower implements UserDefinedFunction {
+
+        private static final AtomicInteger CALLS = new AtomicInteger();
+
+        public String eval(String value) {
+            CALLS.incrementAndGet();
+            if ("boom".equals(value)) {
+                throw new IllegalArgumentException("Unexpected value " + value);
+            }
+            return value.toLowerCase();
+        }
+
+        @Override
+        public DataType getReturnType() {
+            return DataTypes.STRING();
+        }
+    }
+
+    @Test
+    void testSyncUdfEvaluatedOnceInMicroBatches() throws Exception {
+        AsyncUpper.BATCH_SIZES.clear();
+        AsyncUpper.SYNC_CALLS.set(0);
+        CountingLower.CALLS.set(0);
+        TableId lowerTableId = TableId.tableId("my_company", "my_branch", "lower_customers");
+        PostTransformOperator transform =
+                PostTransformOperator.newBuilder()
+                        .addTransform(
+                                CUSTOMERS_TABLEID.identifier(),
+                                "col1, col2, async_upper(counting_lower(col2)) AS col12",
+                                null)
+                        .addTransform(
+                                lowerTableId.identifier(),
+                                "col1, col2, counting_lower(col2) AS col12",
+                                null)
+                        .addUdfFunctions(
+                                Arrays.asList(
+                                        Tuple3.of(
+                                                "async_upper",
+                                                AsyncUpper.class.getName(),
+                                                Collections.emptyMap()),
+                                        Tuple3.of(
+                                                "counting_lower",
+                                                CountingLower.class.getName(),
+                                                Collections.emptyMap())))
+                        .build();
+        RegularEventOperatorTestHarness<PostTransformOperator, Event>
+                transformFunctionEventEventOperatorTestHarness =
+                        RegularEventOperatorTestHarness.with(transform, 1);
+        transformFunctionEventEventOperatorTestHarness.open();
+        BinaryRecordDataGenerator recordDataGenerator =
+                new BinaryRecordDataGenerator(((RowType) CUSTOMERS_SCHEMA.toRowDataType()));
+
+        transform.processElement(
+                new StreamRecord<>(new CreateTableEvent(CUSTOMERS_TABLEID, CUSTOMERS_SCHEMA)));
+        transform.processElement(
+                new StreamRecord<>(new CreateTableEvent(lowerTableId, CUSTOMERS_SCHEMA)));
+        transformFunctionEventEventOperatorTestHarness.clearOutputRecords();
+
+        // Results of synchronous calls made while collecting asynchronous calls are replayed, and
+        // rows making no asynchronous call are transformed once.
+        insertCustomers(transform, recordDataGenerator, CUSTOMERS_TABLEID, "1", "Aa", "2", "Bb");
+        insertCustomers(transform, recordDataGenerator, lowerTableId, "3", "Cc");
+        Assertions.assertThat(AsyncUpper.BATCH_SIZES).containsExactly(2);
+        assertCustomers(transformFunctionEventEventOperatorTestHarness, "1:AA", "2:BB", "3:cc");
+        Assertions.assertThat(CountingLower.CALLS).hasValue(3);
+        Assertions.assertThat(AsyncUpper.SYNC_CALLS).hasValue(0);
+
+        // Errors of rows making no asynchronous call are thrown.
+        insertCustomers(transform, recordDataGenerator, lowerTableId, "4", "boom");
+        Assertions.assertThatThrownBy(transform::finish)
+                .isExactlyInstanceOf(TransformException.class)
+                .rootCause()
+                .isExactlyInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Unexpected value boom");
+        Assertions.assertThat(CountingLower.CALLS).hasValue(4);
+        transformFunctionEventEventOperatorTestHarness.close();
+    }
+
+    @Test
+    void testModelConfiguredWhenOpened() throws Exception {
+        Map<String, String> parameters = new HashMap<>();
+        parameters.put(ModelOptions.OPENAI_MODEL_NAME.key(), "gpt-4o-mini");
+        parameters.put(ModelOptions.OPENAI_HOST.key(), "http://localhost:1");
+        parameters.put(ModelOptions.OPENAI_API_KEY.key(), "test-key");
+        parameters.put(ModelOptions.OPENAI_BATCH_SIZE.key(), "2");
+        parameters.put(ModelOptions.OPENAI_BATCH_TIMEOUT.key(), "50ms");
+        parameters.put(ModelOptions.OPENAI_MAX_IN_FLIGHT_REQUESTS.key(), "1");
+        TableId ordersTableId = TableId.tableId("my_company", "my_branch", "orders");
+        PostTransformOperator transform =
+                PostTransformOperator.newBuilder()
+                        .addTransform(
+                                CUSTOMERS_TABLEID.identifier(),
+                                "col1, col2, my_chat(col2) AS col12",
+                                "col1 = 'none'")
+                        .addUdfFunctions(
+                                Collections.singletonList(
+                                        Tuple3.of(
+                                                "my_chat",
+                                                OpenAIChatModel.class.getName(),
+                                                parameters)))
+                        .build();
+        RegularEventOperatorTestHarness<PostTransformOperator, Event>
+                transformFunctionEventEventOperatorTestHarness =
+                        RegularEventOperatorTestHarness.with(transform, 1);
+        transformFunctionEventEventOperatorTestHarness.open();
+        BinaryRecordDataGenerator recordDataGenerator =
+                new BinaryRecordDataGenerator(((RowType) CUSTOMERS_SCHEMA.toRowDataType()));
+
+        transform.processElement(
+                new StreamRecord<>(new CreateTableEvent(CUSTOMERS_TABLEID, CUSTOMERS_SCHEMA)));
+        transformFunctionEventEventOperatorTestHarness.clearOutputRecords();
+
+        // Micro-batches are bounded by the batch size set when the model is opened, and rows
+        // filtered out make no call to the model.
+        insertCustomers(transform, recordDataGenerator, ordersTableId, "1", "a");
+        insertCustomers(transform, recordDataGenerator, CUSTOMERS_TABLEID, "2", "b");
+        assertCustomers(transformFunctionEventEventOperatorTestHarness, "1:");
+
+        // And by the batch timeout set when the model is opened.
+        transformFunctionEventEventOperatorTestHarness.setProcessingTime(0);
+        insertCustomers(transform, recordDataGenerator, ordersTableId, "3", "c");
+        transformFunctionEventEventOperatorTestHarness.setProcessingTime(49);
+        Assertions.assertThat(transformFunctionEventEventOperatorTestHarness.getOutputRecords())
+                .isEmpty();
+        transformFunctionEventEventOperatorTestHarness.setProcessingTime(50);
+        assertCustomers(transformFunctionEventEventOperatorTestHarness, "3:");
+        transformFunctionEventEventOperatorTestHarness.close();
+    }
+
+    private static void insertCustomers(
+            PostTransformOperator transform,
+            BinaryRecordDataGenerator recordDataGenerator,
+            String... values)
+            throws Exception {
+        insertCustomers(transform, recordDataGenerator, CUSTOMERS_TABLEID, values);
+    }
+
+    private static void insertCustomers(
+            PostTransformOperator transform,
+            BinaryRecordDataGenerator recordDataGenerator,
+            TableId tableId,
+            String... values)
+            throws Exception {
+        for (int i = 0; i < values.length; i += 2) {
+            transform.processElement(
+                    new StreamRecord<>(
+                            DataChangeEvent.insertEvent(
+                                    tableId,
+                                    recordDataGenerator.generate(
+                                            new Object[] {
+                                                new BinaryStringData(values[i]),
+                                                new BinaryStringData(values[i + 1]),
+                                                null
+                                            }))));
+        }
+    }
+
+    private static void assertCustomers(
+            RegularEventOperatorTestHarness<PostTransformOperator, Event> harness,
+            String... expected) {
+        Assertions.assertThat(
+                        harness.getOutputRecords().stream()
+                                .map(record -> ((DataChangeEvent) record.getValue()).after())
+                                .map(after -> after.getString(0) + ":" + after.getString(2)))
+                .containsExactly(expected);
+        harness.clearOutputRecords();
+    }
 }
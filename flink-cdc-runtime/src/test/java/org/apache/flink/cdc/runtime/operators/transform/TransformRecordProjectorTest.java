@@ -0,0 +1,198 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.runtime.operators.transform;
+
+import org.apache.flink.cdc.common.data.binary.BinaryRecordData;
+import org.apache.flink.cdc.common.data.binary.BinaryStringData;
+import org.apache.flink.cdc.common.event.TableId;
+import org.apache.flink.cdc.common.schema.Schema;
+import org.apache.flink.cdc.common.source.SupportedMetadataColumn;
+import org.apache.flink.cdc.common.types.DataTypes;
+import org.apache.flink.cdc.common.types.RowType;
+import org.apache.flink.cdc.runtime.parser.TransformParser;
+import org.apache.flink.cdc.runtime.typeutils.BinaryRecordDataGenerator;
+
+import org.junit.jupiter.api.Test;
+
+import javax.annotation.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/** Unit tests for {@link TransformRecordProjector}. */
+class TransformRecordProjectorTest {
+
+    private static final TableId TABLE_ID = TableId.tableId("my_company", "my_branch", "my_table");
+
+    private static final Schema PRE_SCHEMA =
+            Schema.newBuilder()
+                    .physicalColumn("id", DataTypes.INT().notNull())
+                    .physicalColumn("name", DataTypes.STRING())
+                    .physicalColumn("age", DataTypes.INT())
+                    .physicalColumn("address", DataTypes.STRING())
+                    .primaryKey("id")
+                    .build();
+
+    private static final BinaryRecordData RECORD =
+            new BinaryRecordDataGenerator((RowType) PRE_SCHEMA.toRowDataType())
+                    .generate(
+                            new Object[] {
+                                1,
+                                BinaryStringData.fromString("alice"),
+                                18,
+                                BinaryStringData.fromString("Hangzhou")
+                            });
+
+    @Test
+    void testIdentityPassthrough() {
+        RecordingEvaluator evaluator = new RecordingEvaluator();
+        TransformRecordProjector projector = createProjector("*", "age > 17", evaluator);
+
+        assertThat(projector.transform(RECORD, new TransformContext(), true)).isSameAs(RECORD);
+        assertThat(evaluator.preRows).containsExactly(new Object[] {null, null, 18, null});
+    }
+
+    @Test
+    void testOnlyMaterializeReferencedColumns() {
+        RecordingEvaluator evaluator = new RecordingEvaluator();
+        TransformRecordProjector projector =
+                createProjector("*, UPPER(name) AS upper_name", null, evaluator);
+
+        BinaryRecordData result = projector.transform(RECORD, new TransformContext(), true);
+        assertThat(evaluator.preRows).containsExactly(new Object[] {null, "alice", null, null});
+        assertThat(result.getInt(0)).isEqualTo(1);
+        assertThat(result.getString(1)).isEqualTo(BinaryStringData.fromString("alice"));
+        assertThat(result.getInt(2)).isEqualTo(18);
+        assertThat(result.getString(3)).isEqualTo(BinaryStringData.fromString("Hangzhou"));
+        assertThat(result.getString(4)).isEqualTo(BinaryStringData.fromString("ALICE"));
+    }
+
+    @Test
+    void testFilteredOut() {
+        RecordingEvaluator evaluator = new RecordingEvaluator();
+        evaluator.passes = false;
+        TransformRecordProjector projector =
+                createProjector("id, name AS alias", "address = 'Beijing'", evaluator);
+
+        assertThat(projector.transform(RECORD, new TransformContext(), true)).isNull();
+        assertThat(evaluator.preRows).containsExactly(new Object[] {null, null, null, "Hangzhou"});
+    }
+
+    @Test
+    void testFilterBeforeProjection() {
+        RecordingEvaluator evaluator = new RecordingEvaluator();
+        evaluator.passes = false;
+        TransformRecordProjector projector =
+                createProjector("id, UPPER(name) AS upper_name", "age > 20", evaluator);
+
+        assertThat(projector.transform(RECORD, new TransformContext(), true)).isNull();
+        assertThat(evaluator.calls).containsExactly("test");
+        assertThat(evaluator.preRows).containsExactly(new Object[] {null, null, 18, null});
+
+        evaluator.passes = true;
+        evaluator.calls.clear();
+        evaluator.preRows.clear();
+        BinaryRecordData result = projector.transform(RECORD, new TransformContext(), true);
+        assertThat(evaluator.calls).containsExactly("test", "project");
+        assertThat(evaluator.preRows)
+                .containsExactly(
+                        new Object[] {null, null, 18, null},
+                        new Object[] {null, "alice", 18, null});
+        assertThat(result.getInt(0)).isEqualTo(1);
+        assertThat(result.getString(1)).isEqualTo(BinaryStringData.fromString("ALICE"));
+    }
+
+    @Test
+    void testFilterOnCalculatedColumn() {
+        RecordingEvaluator evaluator = new RecordingEvaluator();
+        TransformRecordProjector projector =
+                createProjector("id, UPPER(name) AS upper_name", "upper_name = 'ALICE'", evaluator);
+
+        BinaryRecordData result = projector.transform(RECORD, new TransformContext(), true);
+        assertThat(evaluator.calls).containsExactly("filterAndProject");
+        assertThat(result.getString(1)).isEqualTo(BinaryStringData.fromString("ALICE"));
+    }
+
+    private static TransformRecordProjector createProjector(
+            String projection, @Nullable String filter, RecordingEvaluator evaluator) {
+        SupportedMetadataColumn[] supportedMetadataColumns = new SupportedMetadataColumn[0];
+        List<ProjectionColumn> projectionColumns =
+                TransformParser.generateProjectionColumns(
+                        projection,
+                        PRE_SCHEMA.getColumns(),
+                        Collections.emptyList(),
+                        supportedMetadataColumns);
+        Schema postSchema =
+                PRE_SCHEMA.copy(
+                        projectionColumns.stream()
+                                .map(ProjectionColumn::getColumn)
+                                .collect(Collectors.toList()));
+        PostTransformChangeInfo tableInfo =
+                PostTransformChangeInfo.of(TABLE_ID, PRE_SCHEMA, postSchema);
+        evaluator.delegate =
+                TransformRuleCompiler.compile(
+                        tableInfo,
+                        projectionColumns,
+                        null,
+                        "UTC",
+                        Collections.emptyList(),
+                        Collections.emptyList(),
+                        supportedMetadataColumns);
+        return new TransformRecordProjector(
+                tableInfo,
+                projectionColumns,
+                TransformFilter.of(filter).orElse(null),
+                supportedMetadataColumns,
+                evaluator);
+    }
+
+    /** Records the pre-transformed rows passed in and evaluates the projection only. */
+    private static class RecordingEvaluator implements TransformRuleEvaluator {
+
+        private final List<String> calls = new ArrayList<>();
+        private final List<Object[]> preRows = new ArrayList<>();
+        private TransformRuleEvaluator delegate;
+        private boolean passes = true;
+
+        @Override
+        public Object[] project(Object[] preRow, TransformContext context) {
+            calls.add("project");
+            preRows.add(preRow.clone());
+            return delegate.project(preRow, context);
+        }
+
+        @Nullable
+        @Override
+        public Object[] filterAndProject(Object[] preRow, TransformContext context) {
+            calls.add("filterAndProject");
+            preRows.add(preRow.clone());
+            return passes ? delegate.project(preRow, context) : null;
+        }
+
+        @Override
+        public boolean test(Object[] preRow, TransformContext context) {
+            calls.add("test");
+            preRows.add(preRow.clone());
+            return passes;
+        }
+    }
+}
@@ -0,0 +1,228 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.runtime.operators.transform;
+
+import org.apache.flink.cdc.common.event.TableId;
+import org.apache.flink.cdc.common.schema.Schema;
+import org.apache.flink.cdc.common.source.SupportedMetadataColumn;
+import org.apache.flink.cdc.common.types.DataTypes;
+import org.apache.flink.cdc.common.udf.UserDefinedFunction;
+import org.apache.flink.cdc.runtime.parser.TransformParser;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/** Unit tests for {@link TransformRuleCompiler}. */
+class TransformRuleCompilerTest {
+
+    private static final TableId TABLE_ID = TableId.tableId("my_company", "my_branch", "my_table");
+
+    private static final Schema PRE_SCHEMA =
+            Schema.newBuilder()
+                    .physicalColumn("id", DataTypes.INT().notNull())
+                    .physicalColumn("name", DataTypes.STRING())
+                    .physicalColumn("age", DataTypes.INT())
+                    .primaryKey("id")
+                    .build();
+
+    @Test
+    void testCompileWholeRule() {
+        TransformRuleEvaluator evaluator =
+                compile(
+                        "id, UPPER(name) AS upper_name, CONCAT(UPPER(name), '!') AS greeting,"
+                                + " __table_name__ AS tbl",
+                        "UPPER(name) <> 'BOB' AND age > 18");
+        assertThat(evaluator).isInstanceOf(GeneratedTransformRuleEvaluator.class);
+
+        TransformContext context = new TransformContext();
+        context.opType = "+I";
+        assertThat(evaluator.filterAndProject(new Object[] {1, "alice", 20}, context))
+                .containsExactly(1, "ALICE", "ALICE!", "my_table");
+        assertThat(evaluator.filterAndProject(new Object[] {2, "bob", 20}, context)).isNull();
+        assertThat(evaluator.filterAndProject(new Object[] {3, "carol", 10}, context)).isNull();
+        assertThat(evaluator.project(new Object[] {2, "bob", 20}, context))
+                .containsExactly(2, "BOB", "BOB!", "my_table");
+    }
+
+    /** A UDF that is referred to by generated code. */
+    public static class AddOne implements UserDefinedFunction {
+        public Integer eval(Integer value) {
+            return value + 1;
+        }
+    }
+
+    @Test
+    void testCompileRuleWithUdf() {
+        List<UserDefinedFunctionDescriptor> udfDescriptors =
+                Collections.singletonList(
+                        new UserDefinedFunctionDescriptor("add_one", AddOne.class.getName()));
+        TransformRuleEvaluator evaluator =
+                compile(
+                        "id, add_one(age) AS next_age",
+                        "add_one(age) > 18",
+                        udfDescriptors,
+                        Collections.singletonList(new AddOne()));
+        assertThat(evaluator).isInstanceOf(GeneratedTransformRuleEvaluator.class);
+        assertThat(evaluator.filterAndProject(new Object[] {1, "alice", 18}, context()))
+                .containsExactly(1, 19);
+        assertThat(evaluator.filterAndProject(new Object[] {1, "alice", 17}, context())).isNull();
+    }
+
+    @Test
+    void testFilterOnCalculatedColumn() {
+        TransformRuleEvaluator evaluator =
+                compile("id, age + 1 AS next_age, name", "next_age > 18 AND id > 0");
+        assertThat(evaluator).isInstanceOf(GeneratedTransformRuleEvaluator.class);
+
+        TransformContext context = new TransformContext();
+        assertThat(evaluator.filterAndProject(new Object[] {1, "alice", 18}, context))
+                .containsExactly(1, 19, "alice");
+        assertThat(evaluator.filterAndProject(new Object[] {1, "alice", 17}, context)).isNull();
+    }
+
+    @Test
+    void testFilterPreTransformedRow() {
+        TransformRuleEvaluator evaluator =
+                compile("id, UPPER(name) AS upper_name", "UPPER(name) <> 'BOB' AND age > 18");
+        assertThat(evaluator).isInstanceOf(GeneratedTransformRuleEvaluator.class);
+
+        TransformContext context = context();
+        assertThat(evaluator.test(new Object[] {null, "alice", 20}, context)).isTrue();
+        assertThat(evaluator.test(new Object[] {null, "bob", 20}, context)).isFalse();
+        assertThat(evaluator.test(new Object[] {null, "alice", 10}, context)).isFalse();
+        assertThat(compile("id, name", null).test(new Object[3], context)).isTrue();
+    }
+
+    @Test
+    void testFoldedAndSpecializedExpressions() {
+        TransformRuleEvaluator evaluator =
+                compile(
+                        "id, CONCAT('prefix' || '_', name) AS tag, age + CHAR_LENGTH('ab') AS age2",
+                        "age >= 10 + 8 AND id <> 2");
+        assertThat(evaluator).isInstanceOf(GeneratedTransformRuleEvaluator.class);
+
+        TransformContext context = context();
+        assertThat(evaluator.filterAndProject(new Object[] {1, "alice", 18}, context))
+                .containsExactly(1, "prefix_alice", 20);
+        assertThat(evaluator.filterAndProject(new Object[] {1, "alice", 17}, context)).isNull();
+        assertThat(evaluator.filterAndProject(new Object[] {2, "bob", 20}, context)).isNull();
+        assertThat(evaluator.filterAndProject(new Object[] {3, "carol", null}, context)).isNull();
+    }
+
+    @Test
+    void testEvaluationFailure() {
+        TransformRuleEvaluator evaluator =
+                compile("id, CAST(name AS INT) + 1 AS name_plus_one", null);
+        assertThatThrownBy(() -> evaluator.project(new Object[] {1, "alice", 18}, context()))
+                .isExactlyInstanceOf(RuntimeException.class)
+                .hasMessageContaining(
+                        "Failed to evaluate projection expression `CAST(`TB`.`name` AS INTEGER) + 1` for column `name_plus_one` in table `my_company.my_branch.my_table`.\n"
+                                + "\tCompiled expression: castToInteger($0) + 1\n"
+                                + "\tColumn name map: {$0 -> name}");
+    }
+
+    @Test
+    void testCompileFailure() {
+        assertThatThrownBy(() -> compile("id, name", "id1 > 0"))
+                .hasMessage(
+                        "Failed to compile transform rule for table my_company.my_branch.my_table")
+                .rootCause()
+                .hasMessage("Failed to lookup column name: id1");
+    }
+
+    @Test
+    void testRenameMappedColumnNames() {
+        assertThat(
+                        TransformRuleCompiler.renameMappedColumnNames(
+                                "concat($0, \"$1\", $10, a$1, __instanceOfFoo$Bar.eval($1))",
+                                mapped -> "__in" + mapped.substring(1)))
+                .isEqualTo("concat(__in0, \"$1\", __in10, a$1, __instanceOfFoo$Bar.eval(__in1))");
+    }
+
+    @Test
+    void testReplaceSubexpression() {
+        assertThat(
+                        TransformRuleCompiler.replaceSubexpression(
+                                "concat(upper(__in0), \"upper(__in0)\", a.upper(__in0), xupper(__in0))",
+                                "upper(__in0)",
+                                "__col1"))
+                .isEqualTo("concat(__col1, \"upper(__in0)\", a.upper(__in0), xupper(__in0))");
+    }
+
+    @Test
+    void testIsShareable() {
+        assertThat(TransformRuleCompiler.isShareable("upper(__in0)")).isTrue();
+        assertThat(TransformRuleCompiler.isShareable("concat(__in0, \")\")")).isTrue();
+        assertThat(TransformRuleCompiler.isShareable("__in0")).isFalse();
+        assertThat(TransformRuleCompiler.isShareable("upper(__in0) + upper(__in1)")).isFalse();
+    }
+
+    @Test
+    void testNonDeterministicExpressionIsNotShared() {
+        TransformRuleEvaluator evaluator =
+                compile("id, UUID() AS uuid1, CONCAT(UUID(), name) AS uuid2", null);
+        assertThat(evaluator).isInstanceOf(GeneratedTransformRuleEvaluator.class);
+
+        Object[] projected = evaluator.project(new Object[] {1, "alice", 18}, context());
+        assertThat((String) projected[2]).endsWith("alice");
+        assertThat((String) projected[2]).doesNotStartWith((String) projected[1]);
+    }
+
+    private static TransformContext context() {
+        TransformContext context = new TransformContext();
+        context.opType = "+I";
+        return context;
+    }
+
+    private static TransformRuleEvaluator compile(String projection, String filter) {
+        return compile(projection, filter, Collections.emptyList(), Collections.emptyList());
+    }
+
+    private static TransformRuleEvaluator compile(
+            String projection,
+            String filter,
+            List<UserDefinedFunctionDescriptor> udfDescriptors,
+            List<Object> udfFunctionInstances) {
+        SupportedMetadataColumn[] supportedMetadataColumns = new SupportedMetadataColumn[0];
+        List<ProjectionColumn> projectionColumns =
+                TransformParser.generateProjectionColumns(
+                        projection,
+                        PRE_SCHEMA.getColumns(),
+                        udfDescriptors,
+                        supportedMetadataColumns);
+        Schema postSchema =
+                PRE_SCHEMA.copy(
+                        projectionColumns.stream()
+                                .map(ProjectionColumn::getColumn)
+                                .collect(Collectors.toList()));
+        return TransformRuleCompiler.compile(
+                PostTransformChangeInfo.of(TABLE_ID, PRE_SCHEMA, postSchema),
+                projectionColumns,
+                TransformFilter.of(filter).orElse(null),
+                "UTC",
+                udfDescriptors,
+                udfFunctionInstances,
+                supportedMetadataColumns);
+    }
+}
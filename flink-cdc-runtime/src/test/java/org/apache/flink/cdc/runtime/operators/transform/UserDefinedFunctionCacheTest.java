@@ -0,0 +1,152 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.cdc.runtime.operators.transform;
+
+import org.apache.flink.cdc.common.udf.UserDefinedFunction;
+import org.apache.flink.metrics.groups.UnregisteredMetricsGroup;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/** Tests for {@link UserDefinedFunctionCache}. */
+class UserDefinedFunctionCacheTest {
+
+    /** A deterministic UDF that counts its evaluations. */
+    public static class CountingUdf implements UserDefinedFunction {
+
+        private static final AtomicInteger EVALUATIONS = new AtomicInteger();
+
+        public String eval(String value) {
+            EVALUATIONS.incrementAndGet();
+            return value == null || value.isEmpty() ? null : value.toUpperCase();
+        }
+
+        public int eval(int value, long delta) {
+            EVALUATIONS.incrementAndGet();
+            return (int) (value + delta);
+        }
+
+        public String eval(String... values) {
+            EVALUATIONS.incrementAndGet();
+            return String.join(",", values);
+        }
+
+        @Override
+        public boolean isDeterministic() {
+            return true;
+        }
+    }
+
+    /** A deterministic UDF whose overloads could be called with the same arguments. */
+    public static class OverloadedUdf implements UserDefinedFunction {
+
+        public String eval(String value) {
+            return value.toUpperCase();
+        }
+
+        public String eval(Object value) {
+            return "object:" + value;
+        }
+
+        @Override
+        public boolean isDeterministic() {
+            return true;
+        }
+    }
+
+    /** A UDF that could not be subclassed. */
+    public static final class FinalUdf implements UserDefinedFunction {
+        public String eval(String value) {
+            return value;
+        }
+    }
+
+    @Test
+    void testCacheResults() throws Exception {
+        CountingUdf.EVALUATIONS.set(0);
+        UserDefinedFunctionCache cache =
+                new UserDefinedFunctionCache(100, null, new UnregisteredMetricsGroup());
+        CountingUdf udf =
+                (CountingUdf)
+                        UserDefinedFunctionCache.createCachedInstance(CountingUdf.class, cache);
+
+        assertThat(udf.eval("a")).isEqualTo("A");
+        assertThat(udf.eval("a")).isEqualTo("A");
+        assertThat(udf.eval("b")).isEqualTo("B");
+        assertThat(udf.eval("")).isNull();
+        assertThat(udf.eval("")).isNull();
+        assertThat(CountingUdf.EVALUATIONS).hasValue(3);
+
+        // primitive and variable arguments
+        assertThat(udf.eval(1, 2L)).isEqualTo(3);
+        assertThat(udf.eval(1, 2L)).isEqualTo(3);
+        assertThat(udf.eval("a", "b")).isEqualTo("a,b");
+        assertThat(udf.eval("a", "b")).isEqualTo("a,b");
+        assertThat(udf.eval("a", "c")).isEqualTo("a,c");
+        assertThat(CountingUdf.EVALUATIONS).hasValue(6);
+
+        assertThat(cache.getHitRate()).isEqualTo(4.0 / 10);
+    }
+
+    @Test
+    void testCacheResultsPerOverload() throws Exception {
+        UserDefinedFunctionCache cache =
+                new UserDefinedFunctionCache(100, null, new UnregisteredMetricsGroup());
+        OverloadedUdf udf =
+                (OverloadedUdf)
+                        UserDefinedFunctionCache.createCachedInstance(OverloadedUdf.class, cache);
+
+        assertThat(udf.eval("a")).isEqualTo("A");
+        assertThat(udf.eval((Object) "a")).isEqualTo("object:a");
+        assertThat(udf.eval("a")).isEqualTo("A");
+        assertThat(udf.eval((Object) "a")).isEqualTo("object:a");
+        assertThat(cache.getHitRate()).isEqualTo(2.0 / 4);
+    }
+
+    @Test
+    void testBoundedCache() throws Exception {
+        CountingUdf.EVALUATIONS.set(0);
+        CountingUdf udf =
+                (CountingUdf)
+                        UserDefinedFunctionCache.createCachedInstance(
+                                CountingUdf.class,
+                                new UserDefinedFunctionCache(
+                                        1, Duration.ofHours(1), new UnregisteredMetricsGroup()));
+        udf.eval("a");
+        udf.eval("b");
+        udf.eval("a");
+        assertThat(CountingUdf.EVALUATIONS).hasValue(3);
+    }
+
+    @Test
+    void testUncachableUdf() {
+        assertThatThrownBy(
+                        () ->
+                                UserDefinedFunctionCache.createCachedInstance(
+                                        FinalUdf.class,
+                                        new UserDefinedFunctionCache(
+                                                1, null, new UnregisteredMetricsGroup())))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("should be public and non-final");
+    }
+}
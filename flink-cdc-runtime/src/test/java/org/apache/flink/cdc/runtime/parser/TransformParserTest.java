@@ -20,6 +20,8 @@ package org.apache.flink.cdc.runtime.parser;
 import org.apache.flink.api.common.io.ParseException;
 import org.apache.flink.cdc.common.schema.Column;
 import org.apache.flink.cdc.common.schema.Schema;
+import org.apache.flink.cdc.common.source.SnapshotPredicate;
+import org.apache.flink.cdc.common.source.SnapshotPushDown;
 import org.apache.flink.cdc.common.source.SupportedMetadataColumn;
 import org.apache.flink.cdc.common.types.DataType;
 import org.apache.flink.cdc.common.types.DataTypes;
@@ -41,6 +43,7 @@ import org.apache.calcite.sql.validate.SqlValidatorUtil;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.Test;
 
+import java.math.BigDecimal;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
@@ -170,13 +173,54 @@ class TransformParserTest {
                 .isEqualTo(new String[] {"uniq_id", "id"});
     }
 
+    @Test
+    void testGenerateSnapshotPushDown() {
+        SnapshotPushDown pushDown =
+                TransformParser.generateSnapshotPushDown(
+                        "db.tbl",
+                        "id, UPPER(name) AS uname, __table_name__",
+                        "id > 10 AND -5 <= age AND region = 'EU' AND uname <> 'A'"
+                                + " AND (age < 60 OR id = 1) AND addr IS NOT NULL"
+                                + " AND __table_name__ = 'tbl' AND CHAR_LENGTH(name) > 3"
+                                + " AND score > 1.5E2",
+                        new SupportedMetadataColumn[0]);
+        Assertions.assertThat(pushDown.getTableInclusions()).isEqualTo("db.tbl");
+        Assertions.assertThat(pushDown.getRequiredColumns())
+                .containsExactlyInAnyOrder(
+                        "id", "name", "__table_name__", "age", "region", "uname", "addr", "score");
+        Assertions.assertThat(pushDown.getPredicates())
+                .containsExactly(
+                        SnapshotPredicate.of(
+                                "id", SnapshotPredicate.Operator.GREATER_THAN, new BigDecimal(10)),
+                        SnapshotPredicate.of(
+                                "age",
+                                SnapshotPredicate.Operator.GREATER_THAN_OR_EQUAL,
+                                new BigDecimal(-5)),
+                        SnapshotPredicate.of("region", SnapshotPredicate.Operator.EQUALS, "EU"),
+                        SnapshotPredicate.isNotNull("addr"));
+
+        pushDown =
+                TransformParser.generateSnapshotPushDown(
+                        "db.tbl", "*, id + 1 AS id", "id = 1", new SupportedMetadataColumn[0]);
+        Assertions.assertThat(pushDown.getRequiredColumns()).isNull();
+        Assertions.assertThat(pushDown.getPredicates()).isEmpty();
+
+        pushDown =
+                TransformParser.generateSnapshotPushDown(
+                        "db.tbl", null, null, new SupportedMetadataColumn[0]);
+        Assertions.assertThat(pushDown.getRequiredColumns()).isNull();
+        Assertions.assertThat(pushDown.getPredicates()).isEmpty();
+    }
+
     @Test
     void testTranslateFilterToJaninoExpression() {
         testFilterExpression("id is not null", "null != id");
         testFilterExpression("id is null", "null == id");
-        testFilterExpression("id = 1 and uid = 2", "valueEquals(id, 1) && valueEquals(uid, 2)");
-        testFilterExpression("id = 1 or id = 2", "valueEquals(id, 1) || valueEquals(id, 2)");
-        testFilterExpression("not (id = 1)", "!valueEquals(id, 1)");
+        testFilterExpression(
+                "id = 1 and uid = 2", "(id != null && id == 1) && valueEquals(uid, 2)");
+        testFilterExpression(
+                "id = 1 or id = 2", "(id != null && id == 1) || (id != null && id == 2)");
+        testFilterExpression("not (id = 1)", "!(id != null && id == 1)");
         testFilterExpression("id = '1'", "valueEquals(id, \"1\")");
         testFilterExpression("id <> '1'", "!valueEquals(id, \"1\")");
         testFilterExpression("d between d1 and d2", "betweenAsymmetric(d, d1, d2)");
@@ -198,11 +242,11 @@ class TransformParserTest {
         testFilterExpression("SUBSTR(a,1)", "substr(a, 1)");
         testFilterExpression("id like '^[a-zA-Z]'", "like(id, \"^[a-zA-Z]\")");
         testFilterExpression("id not like '^[a-zA-Z]'", "notLike(id, \"^[a-zA-Z]\")");
-        testFilterExpression("abs(2)", "abs(2)");
-        testFilterExpression("ceil(2)", "ceil(2)");
-        testFilterExpression("ceiling(2)", "ceil(2)");
-        testFilterExpression("floor(2)", "floor(2)");
-        testFilterExpression("round(2,2)", "round(2, 2)");
+        testFilterExpression("abs(id)", "abs(id)");
+        testFilterExpression("ceil(id)", "ceil(id)");
+        testFilterExpression("ceiling(id)", "ceil(id)");
+        testFilterExpression("floor(id)", "floor(id)");
+        testFilterExpression("round(id,2)", "round(id, 2)");
         testFilterExpression("uuid()", "uuid()");
         testFilterExpression(
                 "id = LOCALTIME", "valueEquals(id, localtime(__epoch_time__, __time_zone__))");
@@ -351,27 +395,27 @@ class TransformParserTest {
                 "greaterThan(abs(uniq_id), 10) && null != id");
         testFilterExpression(
                 "case id when 1 then 'a' when 2 then 'b' else 'c' end",
-                "(valueEquals(id, 1) ? \"a\" : valueEquals(id, 2) ? \"b\" : \"c\")");
+                "((id != null && id == 1) ? \"a\" : (id != null && id == 2) ? \"b\" : \"c\")");
         testFilterExpression(
                 "case when id = 1 then 'a' when id = 2 then 'b' else 'c' end",
-                "(valueEquals(id, 1) ? \"a\" : valueEquals(id, 2) ? \"b\" : \"c\")");
+                "((id != null && id == 1) ? \"a\" : (id != null && id == 2) ? \"b\" : \"c\")");
         testFilterExpression(
                 "case id when 1 then 'a' when 2 then 'b' else 'c' end",
-                "(valueEquals(id, 1) ? \"a\" : valueEquals(id, 2) ? \"b\" : \"c\")");
+                "((id != null && id == 1) ? \"a\" : (id != null && id == 2) ? \"b\" : \"c\")");
         testFilterExpression(
                 "case when id = 1 then 'a' when id = 2 then 'b' else 'c' end",
-                "(valueEquals(id, 1) ? \"a\" : valueEquals(id, 2) ? \"b\" : \"c\")");
+                "((id != null && id == 1) ? \"a\" : (id != null && id == 2) ? \"b\" : \"c\")");
         testFilterExpression("cast(id||'0' as int)", "castToInteger(concat(id, \"0\"))");
-        testFilterExpression("cast(1 as string)", "castToString(1)");
-        testFilterExpression("cast(1 as boolean)", "castToBoolean(1)");
+        testFilterExpression("cast(id as string)", "castToString(id)");
+        testFilterExpression("cast(id as boolean)", "castToBoolean(id)");
         testFilterExpression("cast(1 as tinyint)", "castToByte(1)");
         testFilterExpression("cast(1 as smallint)", "castToShort(1)");
         testFilterExpression("cast(1 as bigint)", "castToLong(1)");
         testFilterExpression("cast(1 as float)", "castToFloat(1)");
         testFilterExpression("cast(1 as double)", "castToDouble(1)");
         testFilterExpression("cast(1 as decimal)", "castToBigDecimal(1, 10, 0)");
-        testFilterExpression("cast(1 as char)", "castToString(1)");
-        testFilterExpression("cast(1 as varchar)", "castToString(1)");
+        testFilterExpression("cast(id as char)", "castToString(id)");
+        testFilterExpression("cast(id as varchar)", "castToString(id)");
         testFilterExpression("cast(null as int)", "castToInteger(null)");
         testFilterExpression("cast(null as string)", "castToString(null)");
         testFilterExpression("cast(null as boolean)", "castToBoolean(null)");
@@ -658,15 +702,15 @@ class TransformParserTest {
                 "typeof(id not like '^[a-zA-Z]')",
                 "__instanceOfTypeOfFunctionClass.eval(notLike(id, \"^[a-zA-Z]\"))");
         testFilterExpressionWithUdf(
-                "typeof(abs(2))", "__instanceOfTypeOfFunctionClass.eval(abs(2))");
+                "typeof(abs(id))", "__instanceOfTypeOfFunctionClass.eval(abs(id))");
         testFilterExpressionWithUdf(
-                "typeof(ceil(2))", "__instanceOfTypeOfFunctionClass.eval(ceil(2))");
+                "typeof(ceil(id))", "__instanceOfTypeOfFunctionClass.eval(ceil(id))");
         testFilterExpressionWithUdf(
-                "typeof(ceiling(2))", "__instanceOfTypeOfFunctionClass.eval(ceil(2))");
+                "typeof(ceiling(id))", "__instanceOfTypeOfFunctionClass.eval(ceil(id))");
         testFilterExpressionWithUdf(
-                "typeof(floor(2))", "__instanceOfTypeOfFunctionClass.eval(floor(2))");
+                "typeof(floor(id))", "__instanceOfTypeOfFunctionClass.eval(floor(id))");
         testFilterExpressionWithUdf(
-                "typeof(round(2,2))", "__instanceOfTypeOfFunctionClass.eval(round(2, 2))");
+                "typeof(round(id,2))", "__instanceOfTypeOfFunctionClass.eval(round(id, 2))");
         testFilterExpressionWithUdf(
                 "typeof(id + 2)", "__instanceOfTypeOfFunctionClass.eval(id + 2)");
         testFilterExpressionWithUdf(
@@ -750,17 +794,70 @@ class TransformParserTest {
                 columnNameMap);
     }
 
+    @Test
+    void testFoldConstants() {
+        testFilterExpression("'prefix_' || 'x'", "\"prefix_x\"");
+        testFilterExpression("upper(concat('a', 'b'))", "\"AB\"");
+        testFilterExpression("abs(-2) + id", "2 + id");
+        testFilterExpression("id > 1 + 1", "(id != null && id > 2)");
+        testFilterExpression("char_length('abc') <= id", "(id != null && 3 <= id)");
+        testFilterExpression("cast('12' as int) = id", "(id != null && 12 == id)");
+        testFilterExpression(
+                "case when 1 = 1 then 'a' else 'b' || 'c' end", "(true ? \"a\" : \"bc\")");
+
+        // values that can't be written as literals of the same type
+        testFilterExpression("cast(1 as bigint)", "castToLong(1)");
+        testFilterExpression("cast(1.5 as double)", "castToDouble(1.5)");
+        testFilterExpression(
+                "cast('2024-01-01' as timestamp)",
+                "castToTimestamp(\"2024-01-01\", __time_zone__)");
+
+        // non-deterministic or failing expressions
+        testFilterExpression("uuid() = 'x'", "valueEquals(uuid(), \"x\")");
+        testFilterExpression("1 / 0 = id", "valueEquals(1 / 0, id)");
+        testFilterExpression("NOW()", "now(__epoch_time__)");
+    }
+
+    @Test
+    void testSpecializeComparisons() {
+        List<Column> columns =
+                List.of(
+                        Column.physicalColumn("id", DataTypes.INT()),
+                        Column.physicalColumn("big", DataTypes.BIGINT()),
+                        Column.physicalColumn("small", DataTypes.SMALLINT()),
+                        Column.physicalColumn("price", DataTypes.DOUBLE()),
+                        Column.physicalColumn("name", DataTypes.STRING()));
+        testFilterExpressionWithColumns("big >= 10", "(big != null && big >= 10)", columns);
+        testFilterExpressionWithColumns(
+                "id < big", "(id != null && big != null && id < big)", columns);
+        testFilterExpressionWithColumns(
+                "price < 1.5", "(price != null && Double.compare(price, 1.5) < 0)", columns);
+        testFilterExpressionWithColumns(
+                "2 > price", "(price != null && Double.compare(2, price) > 0)", columns);
+        testFilterExpressionWithColumns(
+                "big = 10000000000", "(big != null && big == 10000000000L)", columns);
+
+        // equality of different types, floating point numbers and columns stays unchanged
+        testFilterExpressionWithColumns("big = 10", "valueEquals(big, 10)", columns);
+        testFilterExpressionWithColumns("small <> 1", "!valueEquals(small, 1)", columns);
+        testFilterExpressionWithColumns("price = 1.5", "valueEquals(price, 1.5)", columns);
+        testFilterExpressionWithColumns("id = big", "valueEquals(id, big)", columns);
+        testFilterExpressionWithColumns("name > 'a'", "greaterThan(name, \"a\")", columns);
+    }
+
     @Test
     void testLargeNumericalLiterals() {
         // For literals within [-2147483648, 2147483647] range, plain Integers are OK
-        testFilterExpression("id > 2147483647", "greaterThan(id, 2147483647)");
-        testFilterExpression("id < -2147483648", "lessThan(id, -2147483648)");
+        testFilterExpression("id > 2147483647", "(id != null && id > 2147483647)");
+        testFilterExpression("id < -2147483648", "(id != null && id < -2147483648)");
 
         // For out-of-range literals, an extra `L` suffix is required
-        testFilterExpression("id > 2147483648", "greaterThan(id, 2147483648L)");
-        testFilterExpression("id > -2147483649", "greaterThan(id, -2147483649L)");
-        testFilterExpression("id < 9223372036854775807", "lessThan(id, 9223372036854775807L)");
-        testFilterExpression("id > -9223372036854775808", "greaterThan(id, -9223372036854775808L)");
+        testFilterExpression("id > 2147483648", "(id != null && id > 2147483648L)");
+        testFilterExpression("id > -2147483649", "(id != null && id > -2147483649L)");
+        testFilterExpression(
+                "id < 9223372036854775807", "(id != null && id < 9223372036854775807L)");
+        testFilterExpression(
+                "id > -9223372036854775808", "(id != null && id > -9223372036854775808L)");
 
         // But there's still a limit
         Assertions.assertThatThrownBy(
@@ -50,6 +50,7 @@ import org.apache.flink.streaming.runtime.streamrecord.LatencyMarker;
 import org.apache.flink.streaming.runtime.streamrecord.RecordAttributes;
 import org.apache.flink.streaming.runtime.streamrecord.StreamRecord;
 import org.apache.flink.streaming.runtime.tasks.StreamTask;
+import org.apache.flink.streaming.runtime.tasks.TestProcessingTimeService;
 import org.apache.flink.streaming.runtime.watermarkstatus.WatermarkStatus;
 import org.apache.flink.streaming.util.MockStreamConfig;
 import org.apache.flink.util.OutputTag;
@@ -98,6 +99,7 @@ public class RegularEventOperatorTestHarness<OP extends AbstractStreamOperator<E
     private final SchemaCoordinator schemaRegistry;
     private final TestingSchemaRegistryGateway schemaRegistryGateway;
     private final LinkedList<StreamRecord<E>> outputRecords = new LinkedList<>();
+    private final TestProcessingTimeService processingTimeService = new TestProcessingTimeService();
     private final MockedOperatorCoordinatorContext mockedContext;
 
     private RegularEventOperatorTestHarness(
@@ -221,6 +223,11 @@ public class RegularEventOperatorTestHarness<OP extends AbstractStreamOperator<E
         return operator;
     }
 
+    /** Advances the processing time of the operator, firing timers that are due. */
+    public void setProcessingTime(long time) throws Exception {
+        processingTimeService.setCurrentTime(time);
+    }
+
     public void registerTableSchema(TableId tableId, Schema schema) {
         schemaRegistry.emplaceOriginalSchema(tableId, schema);
         schemaRegistry.emplaceEvolvedSchema(tableId, schema);
@@ -290,6 +297,7 @@ public class RegularEventOperatorTestHarness<OP extends AbstractStreamOperator<E
                 new MockStreamTask(schemaRegistryGateway),
                 new MockStreamConfig(new Configuration(), numOutputs),
                 new EventCollectingOutput<>(outputRecords, schemaRegistryGateway));
+        operator.setProcessingTimeService(processingTimeService);
         schemaRegistryGateway.sendOperatorEventToCoordinator(
                 SINK_OPERATOR_ID, new SerializedValue<>(new SinkWriterRegisterEvent(0)));
     }